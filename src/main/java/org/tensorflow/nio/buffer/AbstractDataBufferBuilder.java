@@ -0,0 +1,168 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base class for builders assembling a buffer of primitive values of unknown final length.
+ * <p>
+ * Values are appended to chunks of memory of the same capacity. When the last chunk is full, a new
+ * one is allocated and appended to the others, so values already appended are never reallocated
+ * nor copied. Once built, the chunks are joined into a single buffer, as a large data buffer does
+ * with its sub buffers, without copying their values either.
+ * <p>
+ * Builders are not thread-safe.
+ *
+ * @param <T> type of values appended to the builder
+ * @param <B> the {@link DataBuffer} variant built by the builder
+ * @param <U> the builder variant extending this base class
+ */
+@SuppressWarnings("unchecked")
+abstract class AbstractDataBufferBuilder<T, B extends DataBuffer<T>,
+    U extends AbstractDataBufferBuilder<T, B, U>> {
+
+  /**
+   * Number of values stored in each chunk of a builder, by default.
+   */
+  public static final long DEFAULT_CHUNK_CAPACITY = 4096;
+
+  /**
+   * Appends a value.
+   *
+   * @param value value to append
+   * @return this builder
+   */
+  public U append(T value) {
+    nextChunk().put(value);
+    ++size;
+    return (U) this;
+  }
+
+  /**
+   * Appends the remaining values of a buffer.
+   * <p>
+   * The position of the source buffer is incremented by the number of values appended.
+   *
+   * @param src buffer of values to append
+   * @return this builder
+   */
+  public U append(DataBuffer<T> src) {
+    long srcLimit = src.limit();
+    while (src.hasRemaining()) {
+      B chunk = nextChunk();
+      long length = Math.min(src.remaining(), chunk.remaining());
+      chunk.put(src.limit(src.position() + length));
+      src.limit(srcLimit);
+      size += length;
+    }
+    return (U) this;
+  }
+
+  /**
+   * @return the number of values appended to this builder since it was created or last built
+   */
+  public long size() {
+    return size;
+  }
+
+  /**
+   * @return the number of values stored in each chunk of this builder
+   */
+  public long chunkCapacity() {
+    return chunkCapacity;
+  }
+
+  /**
+   * Builds a buffer of all the values appended to this builder.
+   * <p>
+   * The capacity of the buffer is the number of values appended, its position is zero and its
+   * limit is its capacity. Building a buffer takes a time proportional to its number of chunks, as
+   * their values are not copied. The builder is then reset, so it can be reused to build another
+   * buffer without affecting this one.
+   *
+   * @return a buffer of the appended values
+   */
+  public B build() {
+    if (chunks.isEmpty()) {
+      return allocateChunk(0);
+    }
+    B last = chunks.get(chunks.size() - 1);
+    long lastSize = last.position();
+    if (lastSize == 0 && chunks.size() > 1) {
+      chunks.remove(chunks.size() - 1);
+    } else {
+      chunks.set(chunks.size() - 1, (B) last.limit(lastSize).rewind().slice());
+    }
+    B buffer;
+    if (chunks.size() == 1) {
+      buffer = chunks.get(0);
+    } else {
+      for (B chunk : chunks) {
+        chunk.rewind();
+      }
+      buffer = join(chunks);
+    }
+    chunks = new ArrayList<>();
+    size = 0;
+    return buffer;
+  }
+
+  AbstractDataBufferBuilder(long chunkCapacity, AllocationMode mode) {
+    if (chunkCapacity <= 0) {
+      throw new IllegalArgumentException("Chunk capacity must be positive");
+    }
+    if (mode == null) {
+      throw new IllegalArgumentException("Allocation mode cannot be null");
+    }
+    this.chunkCapacity = chunkCapacity;
+    this.mode = mode;
+  }
+
+  /**
+   * Returns the chunk receiving the next value, appending a new one if the last chunk is full.
+   * <p>
+   * The position of a chunk is the number of values appended to it.
+   */
+  B nextChunk() {
+    if (chunks.isEmpty() || !chunks.get(chunks.size() - 1).hasRemaining()) {
+      chunks.add(allocateChunk(chunkCapacity));
+    }
+    return chunks.get(chunks.size() - 1);
+  }
+
+  /**
+   * Increments the number of values appended to this builder.
+   */
+  void grow(long length) {
+    size += length;
+  }
+
+  AllocationMode mode() {
+    return mode;
+  }
+
+  abstract B allocateChunk(long capacity);
+
+  abstract B join(List<B> chunks);
+
+  private final long chunkCapacity;
+  private final AllocationMode mode;
+  private List<B> chunks = new ArrayList<>();
+  private long size = 0;
+}
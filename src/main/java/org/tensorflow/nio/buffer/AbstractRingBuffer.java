@@ -0,0 +1,287 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer;
+
+import java.nio.BufferUnderflowException;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Base class for fixed-capacity circular buffers streaming values from producers to a consumer.
+ * <p>
+ * Values are stored in a single data buffer, indexed by sequences that only grow: the values
+ * between the tail and the head sequences have been published by producers and not yet consumed.
+ * Producers and the consumer never lock each other, they only read and advance these cursors.
+ * A ring buffer is created for a single producer or for multiple producers, which claim ranges of
+ * sequences concurrently and then publish them in order. In both cases, a single thread at a time
+ * can consume the values.
+ * <p>
+ * Values are published and consumed in batches, with at most two bulk copies for batches wrapping
+ * around the end of the storage.
+ *
+ * @param <T> type of values stored in the ring buffer
+ * @param <B> the {@link DataBuffer} variant storing the values
+ */
+@SuppressWarnings("unchecked")
+abstract class AbstractRingBuffer<T, B extends DataBuffer<T>> {
+
+  /**
+   * @return the maximum number of values this ring buffer can hold
+   */
+  public long capacity() {
+    return capacity;
+  }
+
+  /**
+   * @return the number of values published and not yet consumed
+   */
+  public long size() {
+    return head.get() - tail.get();
+  }
+
+  /**
+   * @return the number of values that can be published before the ring buffer is full
+   */
+  public long remainingCapacity() {
+    return capacity - (head.get() - tail.get());
+  }
+
+  /**
+   * @return true if multiple threads can publish values concurrently to this ring buffer
+   */
+  public boolean isMultiProducer() {
+    return multiProducer;
+  }
+
+  /**
+   * Publishes the remaining values of a buffer, as many as there is room for.
+   * <p>
+   * The position of the source buffer is incremented by the number of values published.
+   *
+   * @param src buffer of values to publish
+   * @return the number of values published, 0 if the ring buffer is full
+   */
+  public long put(DataBuffer<T> src) {
+    long position = src.position();
+    long length = produce(src.remaining(), (view, index, offset, segmentLength) -> {
+      DataBuffer<T> segment = src.duplicate();
+      segment.position(position + offset).limit(position + offset + segmentLength);
+      window(view, index, segmentLength).put(segment);
+    });
+    src.position(position + length);
+    return length;
+  }
+
+  /**
+   * Consumes published values into a buffer, as many as there is space remaining in it.
+   * <p>
+   * The position of the destination buffer is incremented by the number of values consumed.
+   *
+   * @param dst buffer receiving the values
+   * @return the number of values consumed, 0 if the ring buffer is empty
+   */
+  public long drainTo(DataBuffer<T> dst) {
+    return consume(dst.remaining(), (view, index, offset, length) ->
+        dst.put(window(view, index, length)));
+  }
+
+  /**
+   * Returns the latest published values not yet consumed.
+   * <p>
+   * If these values are contiguous in the storage of this ring buffer, the returned buffer shares
+   * them without copying them, and remains valid until they are consumed. Otherwise, they are
+   * copied into a new buffer. This method must be called by the consumer thread.
+   *
+   * @param length number of values to return
+   * @return a buffer of the {@code length} latest values
+   * @throws BufferUnderflowException if fewer values are available
+   */
+  public B latest(long length) {
+    long end = head.get();
+    if (length < 0 || length > end - tail.get()) {
+      throw new BufferUnderflowException();
+    }
+    long index = (end - length) % capacity;
+    if (index + length <= capacity) {
+      return (B) window((B) storage.duplicate(), index, length).slice();
+    }
+    B copy = allocate(length);
+    B view = (B) storage.duplicate();
+    long first = capacity - index;
+    copy.put(window(view, index, first));
+    copy.put(window(view, 0, length - first));
+    return (B) copy.rewind();
+  }
+
+  AbstractRingBuffer(long capacity, boolean multiProducer, AllocationMode mode) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive");
+    }
+    if (mode == null) {
+      throw new IllegalArgumentException("Allocation mode cannot be null");
+    }
+    this.capacity = capacity;
+    this.multiProducer = multiProducer;
+    this.mode = mode;
+    storage = allocate(capacity);
+    producerView = (B) storage.duplicate();
+    consumerView = (B) storage.duplicate();
+  }
+
+  /**
+   * Copies a segment of values between the storage of a ring buffer and another location.
+   */
+  interface SegmentCopy<B> {
+
+    /**
+     * @param view a view of the storage, which position and limit can be modified
+     * @param index index of the segment in the storage
+     * @param offset number of values of the batch copied before this segment
+     * @param length number of values in the segment
+     */
+    void copy(B view, long index, long offset, long length);
+  }
+
+  /**
+   * Claims up to {@code maxLength} sequences, copies values to their storage and publishes them.
+   *
+   * @return the number of values published
+   */
+  long produce(long maxLength, SegmentCopy<B> copy) {
+    long start;
+    long length;
+    if (multiProducer) {
+      do {
+        start = claimed.get();
+        length = Math.min(maxLength, capacity - (start - tail.get()));
+        if (length <= 0) {
+          return 0;
+        }
+      } while (!claimed.compareAndSet(start, start + length));
+    } else {
+      start = head.get();
+      length = Math.min(maxLength, capacity - (start - tail.get()));
+      if (length <= 0) {
+        return 0;
+      }
+    }
+    transfer(multiProducer ? (B) storage.duplicate() : producerView, start, length, copy);
+    if (multiProducer) {
+      while (head.get() != start) {
+        Thread.yield(); // wait for producers of previous sequences to publish them first
+      }
+    }
+    head.lazySet(start + length);
+    return length;
+  }
+
+  /**
+   * Copies up to {@code maxLength} published values from their storage and releases them.
+   *
+   * @return the number of values consumed
+   */
+  long consume(long maxLength, SegmentCopy<B> copy) {
+    long start = tail.get();
+    long length = Math.min(maxLength, head.get() - start);
+    if (length <= 0) {
+      return 0;
+    }
+    transfer(consumerView, start, length, copy);
+    tail.lazySet(start + length);
+    return length;
+  }
+
+  /**
+   * Restricts a view of the storage to a segment of values.
+   */
+  B window(B view, long index, long length) {
+    view.limit(capacity);
+    view.position(index);
+    return (B) view.limit(index + length);
+  }
+
+  AllocationMode mode() {
+    return mode;
+  }
+
+  abstract B allocate(long capacity);
+
+  /**
+   * Padding laid out before the value of a sequence.
+   */
+  @SuppressWarnings("unused")
+  private abstract static class SequenceLeftPadding {
+    private long p1, p2, p3, p4, p5, p6, p7;
+  }
+
+  /**
+   * Value of a sequence, between its paddings.
+   */
+  private abstract static class SequenceValue extends SequenceLeftPadding {
+    volatile long value;
+  }
+
+  /**
+   * A cursor padded on both sides to fill a cache line, so that the cursors of producers and of the
+   * consumer are not falsely shared by their threads, nor with the fields of other objects.
+   * <p>
+   * Fields of a superclass are laid out before those of its subclasses, which is why the padding
+   * and the value are declared in a hierarchy of classes.
+   */
+  @SuppressWarnings("unused")
+  private static final class Sequence extends SequenceValue {
+
+    long get() {
+      return value;
+    }
+
+    void lazySet(long newValue) {
+      VALUE.lazySet(this, newValue);
+    }
+
+    boolean compareAndSet(long expectedValue, long newValue) {
+      return VALUE.compareAndSet(this, expectedValue, newValue);
+    }
+
+    private static final AtomicLongFieldUpdater<SequenceValue> VALUE =
+        AtomicLongFieldUpdater.newUpdater(SequenceValue.class, "value");
+
+    private long p9, p10, p11, p12, p13, p14, p15;
+  }
+
+  private final long capacity;
+  private final boolean multiProducer;
+  private final AllocationMode mode;
+  private final B storage;
+  private final B producerView;
+  private final B consumerView;
+  private final Sequence head = new Sequence();
+  private final Sequence tail = new Sequence();
+  private final Sequence claimed = new Sequence();
+
+  /**
+   * Splits the transfer of a range of sequences in at most two segments, wrapping around the end of
+   * the storage.
+   */
+  private void transfer(B view, long sequence, long length, SegmentCopy<B> copy) {
+    long index = sequence % capacity;
+    long first = Math.min(length, capacity - index);
+    copy.copy(view, index, 0, first);
+    if (first < length) {
+      copy.copy(view, 0, first, length - first);
+    }
+  }
+}
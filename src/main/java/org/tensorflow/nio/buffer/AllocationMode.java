@@ -0,0 +1,48 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer;
+
+/**
+ * Defines where the memory of newly allocated buffers resides.
+ *
+ * @see DataBuffers#defaultAllocationMode()
+ */
+public enum AllocationMode {
+
+  /**
+   * Values are stored in arrays allocated on the Java heap.
+   */
+  HEAP,
+
+  /**
+   * Values are stored in direct memory, outside of the Java heap, using the native byte order.
+   * <p>
+   * Direct buffers are not scanned by the garbage collector and their memory can be shared with
+   * native code without any copy.
+   */
+  DIRECT,
+
+  /**
+   * Values are stored in direct memory like {@link #DIRECT}, starting at an address aligned on the
+   * {@link DataBuffers#defaultAlignment() default alignment}.
+   * <p>
+   * Buffers of types that cannot be allocated with a given alignment are allocated in direct memory
+   * without guarantee on their alignment. Allocating aligned buffers requires access to native
+   * addresses, and throws an {@link UnsupportedOperationException} on JVMs that do not grant it.
+   */
+  ALIGNED
+}
@@ -0,0 +1,327 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+import org.tensorflow.nio.buffer.impl.AsyncFileTransfer;
+import org.tensorflow.nio.buffer.impl.ChannelTransfer;
+import org.tensorflow.nio.buffer.impl.FloatConversions;
+import org.tensorflow.nio.buffer.impl.Validator;
+import org.tensorflow.nio.buffer.impl.single.BFloat16JdkDataBuffer;
+import org.tensorflow.nio.buffer.impl.stream.IndexedDoubleSpliterator;
+import org.tensorflow.nio.buffer.impl.view.BFloat16DataBufferView;
+
+/**
+ * A {@link DataBuffer} of brain floating-point values (bfloat16).
+ * <p>
+ * Bfloat16 values have the same range as floats but only 8 bits of precision, so they are stored
+ * as the 16 upper bits of a float. They are read and written as floats: they are widened without
+ * loss of precision when read and rounded to the nearest bfloat16 value when written. Values can
+ * also be accessed in their bfloat16 format, without conversion, using {@link
+ * #getBFloat16(long)} and {@link #setBFloat16(long, short)}.
+ * <p>
+ * Values are converted in bulk when transferred from or to a float array or a {@link
+ * FloatDataBuffer}, by calling {@link #put(DataBuffer)} on either buffer in the latter case.
+ */
+public interface BFloat16DataBuffer extends DataBuffer<Float> {
+
+  /**
+   * Retrieve values of this buffer as a stream of doubles.
+   * <p>
+   * The stream covers the values between the current position and the limit of this buffer, as
+   * they are when this method is called. It can be split evenly in parallel streams.
+   * <p>
+   * Values are widened from bfloat16 values to doubles, without loss of precision.
+   *
+   * @return values, as a stream
+   */
+  default DoubleStream doubleStream() {
+    return StreamSupport
+        .doubleStream(new IndexedDoubleSpliterator(this::getFloat, position(), limit()), false);
+  }
+
+  /**
+   * Relative bulk <i>get</i> method, using float arrays.
+   * <p>
+   * This method transfers values from this buffer into the given destination array. If there are
+   * fewer values remaining in the buffer than are required to satisfy the request, that is, if
+   * {@code dst.length > remaining()}, then no values are transferred and a BufferUnderflowException
+   * is thrown.
+   * <p>
+   * Otherwise, this method copies {@code n = dst.length} values from this buffer into the given
+   * array, starting at the current position of this buffer. The position of this buffer is then
+   * incremented by {@code n}.
+   *
+   * @param dst the array into which values are to be written
+   * @return this buffer
+   * @throws BufferUnderflowException if there are fewer than length values remaining in this
+   * buffer
+   */
+  default BFloat16DataBuffer get(float[] dst) {
+    return get(dst, 0, dst.length);
+  }
+
+  /**
+   * Relative bulk <i>get</i> method, using float arrays.
+   * <p>
+   * This method transfers values from this buffer into the given destination array. If there are
+   * fewer values remaining in the buffer than are required to satisfy the request, that is, if
+   * {@code length > remaining()}, then no values are transferred and a BufferUnderflowException is
+   * thrown.
+   * <p>
+   * Otherwise, this method copies {@code n = length} values from this buffer into the given array,
+   * starting at the current position of this buffer and at the given offset in the array. The
+   * position of this buffer is then incremented by {@code n}.
+   *
+   * @param dst the array into which values are to be written
+   * @param offset the offset within the array of the first value to be written; must be
+   * non-negative and no larger than {@code dst.length}
+   * @param length the maximum number of values to be written to the given array; must be
+   * non-negative and no larger than {@code dst.length - offset}
+   * @return this buffer
+   * @throws BufferUnderflowException if there are fewer than length values remaining in this
+   * buffer
+   * @throws IndexOutOfBoundsException if the preconditions on the offset and length parameters do
+   * not hold
+   */
+  BFloat16DataBuffer get(float[] dst, int offset, int length);
+
+  /**
+   * Relative bulk <i>put</i> method, using float arrays.
+   * <p>
+   * This method transfers the values in the given source array into this buffer. If there are more
+   * values in the source array than in this buffer, that is, if {@code src.length > remaining()},
+   * then no values are transferred and a BufferOverflowException is thrown.
+   * <p>
+   * Otherwise, this method copies {@code n = src.length} values from the given array into this
+   * buffer, starting at this buffer current position. The position of this buffer is then
+   * incremented by {@code n}.
+   *
+   * @param src the source array from which values are to be read
+   * @return this buffer
+   * @throws BufferOverflowException if there is insufficient space in this buffer for the remaining
+   * values in the source array
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default BFloat16DataBuffer put(float[] src) {
+    return put(src, 0, src.length);
+  }
+
+  /**
+   * Relative bulk <i>put</i> method, using float arrays.
+   * <p>
+   * This method transfers the values in the given source array into this buffer. If there are more
+   * values in the source array than in this buffer, that is, if {@code length > remaining()}, then
+   * no values are transferred and a BufferOverflowException is thrown.
+   * <p>
+   * Otherwise, this method copies {@code n = length} values from the given array into this buffer,
+   * starting at the given offset in the array and at this buffer current position. The position of
+   * this buffer is then incremented by {@code n}.
+   *
+   * @param src the source array from which values are to be read
+   * @param offset the offset within the array of the first value to be read; must be non-negative
+   * and no larger than {@code src.length}
+   * @param length the number of values to be read from the given array; must be non-negative and no
+   * larger than {@code src.length - offset}
+   * @return this buffer
+   * @throws BufferOverflowException if there is insufficient space in this buffer for the remaining
+   * values in the source array
+   * @throws IllegalArgumentException if the preconditions on the offset and length parameters do
+   * not hold
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  BFloat16DataBuffer put(float[] src, int offset, int length);
+
+  /**
+   * Absolute <i>get</i> method for floats.
+   * <p>
+   * Reads the float at the given index, without boxing it like {@link #get(long)} does.
+   *
+   * @param index the index from which the float will be read
+   * @return the float at the given index
+   * @throws IndexOutOfBoundsException if index is negative or not smaller than the buffer's limit
+   */
+  float getFloat(long index);
+
+  /**
+   * Absolute <i>get</i> method for bfloat16 values.
+   * <p>
+   * Reads the value at the given index in its bfloat16 format, without converting it to a float.
+   *
+   * @param index the index from which the value will be read
+   * @return the value at the given index, in bfloat16 format
+   * @throws IndexOutOfBoundsException if index is negative or not smaller than the buffer's limit
+   */
+  short getBFloat16(long index);
+
+  /**
+   * Absolute <i>put</i> method for floats.
+   * <p>
+   * Writes the given float into this buffer at the given index, rounded to the nearest bfloat16
+   * value, without boxing it like {@link #put(long, Object)} does.
+   *
+   * @param index the index at which the float will be written
+   * @param value the float to be written
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if index is negative or not smaller than the buffer's limit
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  BFloat16DataBuffer setFloat(long index, float value);
+
+  /**
+   * Absolute <i>put</i> method for bfloat16 values.
+   * <p>
+   * Writes the given value in bfloat16 format into this buffer at the given index, without
+   * converting it from a float.
+   *
+   * @param index the index at which the value will be written
+   * @param value the value to be written, in bfloat16 format
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if index is negative or not smaller than the buffer's limit
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  BFloat16DataBuffer setBFloat16(long index, short value);
+
+  /**
+   * Bulk <i>fill</i> method for floats.
+   * <p>
+   * Writes the given float at all indices of this buffer, from 0 up to its limit, without boxing
+   * it like {@link #fill(Object)} does. The position of this buffer is not modified.
+   *
+   * @param value the float to be written
+   * @return this buffer
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default BFloat16DataBuffer fill(float value) {
+    return fill(0, limit(), value);
+  }
+
+  /**
+   * Bulk absolute <i>fill</i> method for floats.
+   * <p>
+   * Writes the given float at all indices of this buffer from {@code fromIndex}, inclusive, to
+   * {@code toIndex}, exclusive, without boxing it like {@link #fill(long, long, Object)} does. The
+   * position of this buffer is not modified.
+   *
+   * @param fromIndex index of the first float to be written
+   * @param toIndex index following the last float to be written; must be no larger than the buffer
+   * limit
+   * @param value the float to be written
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if fromIndex is negative or toIndex is larger than the buffer
+   * limit
+   * @throws IllegalArgumentException if fromIndex is larger than toIndex
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default BFloat16DataBuffer fill(long fromIndex, long toIndex, float value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    short bfloat16 = FloatConversions.floatToBFloat16(value);
+    for (long index = fromIndex; index < toIndex; ++index) {
+      setBFloat16(index, bfloat16);
+    }
+    return this;
+  }
+
+  @Override
+  default long writeTo(WritableByteChannel channel, ByteOrder order) throws IOException {
+    return ChannelTransfer.write(this, channel, order, Short.BYTES,
+        bytes -> BFloat16JdkDataBuffer.wrap(bytes.asShortBuffer()));
+  }
+
+  @Override
+  default long readFrom(ReadableByteChannel channel, ByteOrder order) throws IOException {
+    return ChannelTransfer.read(this, channel, order, Short.BYTES,
+        bytes -> BFloat16JdkDataBuffer.wrap(bytes.asShortBuffer()));
+  }
+
+  @Override
+  default CompletableFuture<Long> writeToAsync(AsynchronousFileChannel channel, long position,
+      ByteOrder order) {
+    return AsyncFileTransfer.write(this, channel, position, order, Short.BYTES,
+        bytes -> BFloat16JdkDataBuffer.wrap(bytes.asShortBuffer()));
+  }
+
+  @Override
+  default CompletableFuture<Long> readFromAsync(AsynchronousFileChannel channel, long position,
+      ByteOrder order) {
+    return AsyncFileTransfer.read(this, channel, position, order, Short.BYTES,
+        bytes -> BFloat16JdkDataBuffer.wrap(bytes.asShortBuffer()));
+  }
+
+  @Override
+  BFloat16DataBuffer limit(long newLimit);
+
+  @Override
+  default BFloat16DataBuffer withLimit(long limit) {
+    return duplicate().limit(limit);
+  }
+
+  @Override
+  BFloat16DataBuffer position(long newPosition);
+
+  @Override
+  default BFloat16DataBuffer withPosition(long position) {
+    return duplicate().position(position);
+  }
+
+  @Override
+  BFloat16DataBuffer rewind();
+
+  @Override
+  BFloat16DataBuffer put(Float value);
+
+  @Override
+  BFloat16DataBuffer put(long index, Float value);
+
+  @Override
+  BFloat16DataBuffer put(DataBuffer<Float> src);
+
+  @Override
+  default BFloat16DataBuffer fill(Float value) {
+    return fill(value.floatValue());
+  }
+
+  @Override
+  default BFloat16DataBuffer fill(long fromIndex, long toIndex, Float value) {
+    return fill(fromIndex, toIndex, value.floatValue());
+  }
+
+  @Override
+  default BFloat16DataBuffer fill(DataBuffer<Float> pattern) {
+    DataBuffer.super.fill(pattern);
+    return this;
+  }
+
+  @Override
+  BFloat16DataBuffer duplicate();
+
+  @Override
+  default BFloat16DataBuffer slice() {
+    return new BFloat16DataBufferView(duplicate(), position(), limit());
+  }
+}
@@ -0,0 +1,412 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.CompletableFuture;
+
+import org.tensorflow.nio.buffer.impl.AsyncFileTransfer;
+import org.tensorflow.nio.buffer.impl.BitOperations;
+import org.tensorflow.nio.buffer.impl.ChannelTransfer;
+import org.tensorflow.nio.buffer.impl.Validator;
+import org.tensorflow.nio.buffer.impl.adapter.BooleanDataBufferAdapter;
+import org.tensorflow.nio.buffer.impl.single.ByteJdkDataBuffer;
+import org.tensorflow.nio.buffer.impl.view.BooleanDataBufferView;
+
+/**
+ * A {@link DataBuffer} of booleans.
+ * <p>
+ * In addition to the accessors common to all buffers, boolean buffers can read and write up to 64
+ * values at once as the bits of a {@code long} (see {@link #getBits(long, int)}), which is used by
+ * their bulk logical operations. Implementations packing their values in bits can execute them
+ * one word at a time.
+ * <p>
+ * When transferred to or from a channel, each boolean is encoded as a single byte, 1 if true or 0
+ * if false, like the booleans of a TensorFlow tensor, whatever the requested byte order is. Any
+ * byte that is not 0 is read as true.
+ */
+public interface BooleanDataBuffer extends DataBuffer<Boolean> {
+
+  /**
+   * Relative bulk <i>get</i> method, using boolean arrays.
+   * <p>
+   * This method transfers values from this buffer into the given destination array. If there are
+   * fewer values remaining in the buffer than are required to satisfy the request, that is, if
+   * {@code dst.length > remaining()}, then no values are transferred and a BufferUnderflowException
+   * is thrown.
+   * <p>
+   * Otherwise, this method copies {@code n = dst.length} values from this buffer into the given
+   * array, starting at the current position of this buffer. The position of this buffer is then
+   * incremented by {@code n}.
+   *
+   * @param dst the array into which values are to be written
+   * @return this buffer
+   * @throws BufferUnderflowException if there are fewer than length values remaining in this
+   * buffer
+   */
+  default BooleanDataBuffer get(boolean[] dst) {
+    return get(dst, 0, dst.length);
+  }
+
+  /**
+   * Relative bulk <i>get</i> method, using boolean arrays.
+   * <p>
+   * This method transfers values from this buffer into the given destination array. If there are
+   * fewer values remaining in the buffer than are required to satisfy the request, that is, if
+   * {@code length > remaining()}, then no values are transferred and a BufferUnderflowException is
+   * thrown.
+   * <p>
+   * Otherwise, this method copies {@code n = length} values from this buffer into the given array,
+   * starting at the current position of this buffer and at the given offset in the array. The
+   * position of this buffer is then incremented by {@code n}.
+   *
+   * @param dst the array into which values are to be written
+   * @param offset the offset within the array of the first value to be written; must be
+   * non-negative and no larger than {@code dst.length}
+   * @param length the maximum number of values to be written to the given array; must be
+   * non-negative and no larger than {@code dst.length - offset}
+   * @return this buffer
+   * @throws BufferUnderflowException if there are fewer than length values remaining in this
+   * buffer
+   * @throws IndexOutOfBoundsException if the preconditions on the offset and length parameters do
+   * not hold
+   */
+  BooleanDataBuffer get(boolean[] dst, int offset, int length);
+
+  /**
+   * Relative bulk <i>put</i> method, using boolean arrays.
+   * <p>
+   * This method transfers the values in the given source array into this buffer. If there are more
+   * values in the source array than in this buffer, that is, if {@code src.length > remaining()},
+   * then no values are transferred and a BufferOverflowException is thrown.
+   * <p>
+   * Otherwise, this method copies {@code n = src.length} values from the given array into this
+   * buffer, starting at this buffer current position. The position of this buffer is then
+   * incremented by {@code n}.
+   *
+   * @param src the source array from which values are to be read
+   * @return this buffer
+   * @throws BufferOverflowException if there is insufficient space in this buffer for the remaining
+   * values in the source array
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default BooleanDataBuffer put(boolean[] src) {
+    return put(src, 0, src.length);
+  }
+
+  /**
+   * Relative bulk <i>put</i> method, using boolean arrays.
+   * <p>
+   * This method transfers the values in the given source array into this buffer. If there are more
+   * values in the source array than in this buffer, that is, if {@code length > remaining()}, then
+   * no values are transferred and a BufferOverflowException is thrown.
+   * <p>
+   * Otherwise, this method copies {@code n = length} values from the given array into this buffer,
+   * starting at the given offset in the array and at this buffer current position. The position of
+   * this buffer is then incremented by {@code n}.
+   *
+   * @param src the source array from which values are to be read
+   * @param offset the offset within the array of the first value to be read; must be non-negative
+   * and no larger than {@code src.length}
+   * @param length the number of values to be read from the given array; must be non-negative and no
+   * larger than {@code src.length - offset}
+   * @return this buffer
+   * @throws BufferOverflowException if there is insufficient space in this buffer for the remaining
+   * values in the source array
+   * @throws IllegalArgumentException if the preconditions on the offset and length parameters do
+   * not hold
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  BooleanDataBuffer put(boolean[] src, int offset, int length);
+
+  /**
+   * Absolute <i>get</i> method for booleans.
+   * <p>
+   * Reads the boolean at the given index, without boxing it like {@link #get(long)} does.
+   *
+   * @param index the index from which the boolean will be read
+   * @return the boolean at the given index
+   * @throws IndexOutOfBoundsException if index is negative or not smaller than the buffer's limit
+   */
+  boolean getBoolean(long index);
+
+  /**
+   * Absolute <i>put</i> method for booleans.
+   * <p>
+   * Writes the given boolean into this buffer at the given index, without boxing it like {@link
+   * #put(long, Object)} does.
+   *
+   * @param index the index at which the boolean will be written
+   * @param value the boolean to be written
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if index is negative or not smaller than the buffer's limit
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  BooleanDataBuffer setBoolean(long index, boolean value);
+
+  /**
+   * Bulk <i>fill</i> method for booleans.
+   * <p>
+   * Writes the given boolean at all indices of this buffer, from 0 up to its limit, without boxing
+   * it like {@link #fill(Object)} does. The position of this buffer is not modified.
+   *
+   * @param value the boolean to be written
+   * @return this buffer
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default BooleanDataBuffer fill(boolean value) {
+    return fill(0, limit(), value);
+  }
+
+  /**
+   * Bulk absolute <i>fill</i> method for booleans.
+   * <p>
+   * Writes the given boolean at all indices of this buffer from {@code fromIndex}, inclusive, to
+   * {@code toIndex}, exclusive, without boxing it like {@link #fill(long, long, Object)} does. The
+   * position of this buffer is not modified.
+   *
+   * @param fromIndex index of the first boolean to be written
+   * @param toIndex index following the last boolean to be written; must be no larger than the
+   * buffer limit
+   * @param value the boolean to be written
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if fromIndex is negative or toIndex is larger than the buffer
+   * limit
+   * @throws IllegalArgumentException if fromIndex is larger than toIndex
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default BooleanDataBuffer fill(long fromIndex, long toIndex, boolean value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    for (long index = fromIndex; index < toIndex; ++index) {
+      setBoolean(index, value);
+    }
+    return this;
+  }
+
+  /**
+   * Absolute bulk <i>get</i> method for bits.
+   * <p>
+   * Reads up to 64 booleans starting at the given index and returns them as the bits of a long,
+   * where the value at {@code index + i} is the bit {@code i} (i.e. {@code (bits >>> i) & 1}) and
+   * unused high bits are cleared.
+   *
+   * @param index the index of the first boolean to read
+   * @param count the number of booleans to read, between 0 and 64
+   * @return booleans read, as bits
+   * @throws IndexOutOfBoundsException if index is negative or if {@code index + count} is larger
+   * than the buffer's limit
+   * @throws IllegalArgumentException if count is not between 0 and 64
+   */
+  default long getBits(long index, int count) {
+    Validator.getBitsArgs(this, index, count);
+    long bits = 0L;
+    for (int i = count - 1; i >= 0; --i) {
+      bits = (bits << 1) | (getBoolean(index + i) ? 1L : 0L);
+    }
+    return bits;
+  }
+
+  /**
+   * Absolute bulk <i>set</i> method for bits.
+   * <p>
+   * Writes up to 64 booleans starting at the given index from the bits of a long, where the bit
+   * {@code i} (i.e. {@code (bits >>> i) & 1}) is written at {@code index + i}. Unused high bits are
+   * ignored.
+   *
+   * @param index the index of the first boolean to write
+   * @param count the number of booleans to write, between 0 and 64
+   * @param bits booleans to write, as bits
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if index is negative or if {@code index + count} is larger
+   * than the buffer's limit
+   * @throws IllegalArgumentException if count is not between 0 and 64
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default BooleanDataBuffer setBits(long index, int count, long bits) {
+    Validator.setBitsArgs(this, index, count);
+    for (int i = 0; i < count; ++i) {
+      setBoolean(index + i, ((bits >>> i) & 1L) != 0L);
+    }
+    return this;
+  }
+
+  /**
+   * Bulk logical <i>and</i> method.
+   * <p>
+   * Replaces each value between the position and the limit of this buffer by the logical
+   * conjunction of itself and of the value at the same distance from the position of the operand
+   * buffer. The position of both buffers are not modified.
+   *
+   * @param operand the buffer holding the second operand of each conjunction
+   * @return this buffer
+   * @throws BufferUnderflowException if the operand has fewer values remaining than this buffer
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default BooleanDataBuffer and(BooleanDataBuffer operand) {
+    Validator.operandArgs(this, operand);
+    BitOperations.apply(this, operand, (a, b) -> a & b);
+    return this;
+  }
+
+  /**
+   * Bulk logical <i>or</i> method.
+   * <p>
+   * Replaces each value between the position and the limit of this buffer by the logical
+   * disjunction of itself and of the value at the same distance from the position of the operand
+   * buffer. The position of both buffers are not modified.
+   *
+   * @param operand the buffer holding the second operand of each disjunction
+   * @return this buffer
+   * @throws BufferUnderflowException if the operand has fewer values remaining than this buffer
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default BooleanDataBuffer or(BooleanDataBuffer operand) {
+    Validator.operandArgs(this, operand);
+    BitOperations.apply(this, operand, (a, b) -> a | b);
+    return this;
+  }
+
+  /**
+   * Bulk logical <i>exclusive or</i> method.
+   * <p>
+   * Replaces each value between the position and the limit of this buffer by the exclusive
+   * disjunction of itself and of the value at the same distance from the position of the operand
+   * buffer. The position of both buffers are not modified.
+   *
+   * @param operand the buffer holding the second operand of each exclusive disjunction
+   * @return this buffer
+   * @throws BufferUnderflowException if the operand has fewer values remaining than this buffer
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default BooleanDataBuffer xor(BooleanDataBuffer operand) {
+    Validator.operandArgs(this, operand);
+    BitOperations.apply(this, operand, (a, b) -> a ^ b);
+    return this;
+  }
+
+  /**
+   * Bulk logical <i>not</i> method.
+   * <p>
+   * Negates each value between the position and the limit of this buffer. The position of this
+   * buffer is not modified.
+   *
+   * @return this buffer
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default BooleanDataBuffer not() {
+    if (isReadOnly()) {
+      throw new ReadOnlyBufferException();
+    }
+    BitOperations.apply(this, a -> ~a);
+    return this;
+  }
+
+  /**
+   * Counts the values set to true between the position and the limit of this buffer, like a
+   * population count of their bits.
+   *
+   * @return the number of true values remaining in this buffer
+   */
+  default long bitCount() {
+    return BitOperations.count(this);
+  }
+
+  @Override
+  default long writeTo(WritableByteChannel channel, ByteOrder order) throws IOException {
+    return ChannelTransfer.write(this, channel, order, Byte.BYTES,
+        bytes -> new BooleanDataBufferAdapter(ByteJdkDataBuffer.wrap(bytes)));
+  }
+
+  @Override
+  default long readFrom(ReadableByteChannel channel, ByteOrder order) throws IOException {
+    return ChannelTransfer.read(this, channel, order, Byte.BYTES,
+        bytes -> new BooleanDataBufferAdapter(ByteJdkDataBuffer.wrap(bytes)));
+  }
+
+  @Override
+  default CompletableFuture<Long> writeToAsync(AsynchronousFileChannel channel, long position,
+      ByteOrder order) {
+    return AsyncFileTransfer.write(this, channel, position, order, Byte.BYTES,
+        bytes -> new BooleanDataBufferAdapter(ByteJdkDataBuffer.wrap(bytes)));
+  }
+
+  @Override
+  default CompletableFuture<Long> readFromAsync(AsynchronousFileChannel channel, long position,
+      ByteOrder order) {
+    return AsyncFileTransfer.read(this, channel, position, order, Byte.BYTES,
+        bytes -> new BooleanDataBufferAdapter(ByteJdkDataBuffer.wrap(bytes)));
+  }
+
+  @Override
+  BooleanDataBuffer limit(long newLimit);
+
+  @Override
+  default BooleanDataBuffer withLimit(long limit) {
+    return duplicate().limit(limit);
+  }
+
+  @Override
+  BooleanDataBuffer position(long newPosition);
+
+  @Override
+  default BooleanDataBuffer withPosition(long position) {
+    return duplicate().position(position);
+  }
+
+  @Override
+  BooleanDataBuffer rewind();
+
+  @Override
+  BooleanDataBuffer put(Boolean value);
+
+  @Override
+  BooleanDataBuffer put(long index, Boolean value);
+
+  @Override
+  BooleanDataBuffer put(DataBuffer<Boolean> src);
+
+  @Override
+  default BooleanDataBuffer fill(Boolean value) {
+    return fill(value.booleanValue());
+  }
+
+  @Override
+  default BooleanDataBuffer fill(long fromIndex, long toIndex, Boolean value) {
+    return fill(fromIndex, toIndex, value.booleanValue());
+  }
+
+  @Override
+  default BooleanDataBuffer fill(DataBuffer<Boolean> pattern) {
+    DataBuffer.super.fill(pattern);
+    return this;
+  }
+
+  @Override
+  BooleanDataBuffer duplicate();
+
+  @Override
+  default BooleanDataBuffer slice() {
+    return new BooleanDataBufferView(duplicate(), position(), limit());
+  }
+}
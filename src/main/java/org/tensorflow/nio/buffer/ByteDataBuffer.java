@@ -16,17 +16,55 @@
  */
 package org.tensorflow.nio.buffer;
 
+import java.io.IOException;
 import java.nio.BufferOverflowException;
 import java.nio.BufferUnderflowException;
+import java.nio.ByteOrder;
 import java.nio.ReadOnlyBufferException;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
+import org.tensorflow.nio.buffer.impl.AsyncFileTransfer;
+import org.tensorflow.nio.buffer.impl.ChannelTransfer;
+import org.tensorflow.nio.buffer.impl.ParallelIndexedTask;
+import org.tensorflow.nio.buffer.impl.UncheckedAccess;
+import org.tensorflow.nio.buffer.impl.Validator;
+import org.tensorflow.nio.buffer.impl.adapter.DoubleDataBufferAdapter;
+import org.tensorflow.nio.buffer.impl.adapter.FloatDataBufferAdapter;
+import org.tensorflow.nio.buffer.impl.adapter.IntDataBufferAdapter;
+import org.tensorflow.nio.buffer.impl.adapter.LongDataBufferAdapter;
+import org.tensorflow.nio.buffer.impl.adapter.ShortDataBufferAdapter;
+import org.tensorflow.nio.buffer.impl.adapter.UnsignedByteDataBufferAdapter;
+import org.tensorflow.nio.buffer.impl.single.ByteJdkDataBuffer;
+import org.tensorflow.nio.buffer.impl.stream.IndexedIntSpliterator;
 import org.tensorflow.nio.buffer.impl.view.ByteDataBufferView;
+import org.tensorflow.nio.buffer.impl.view.ByteStridedDataBufferView;
 
 /**
  * A {@link DataBuffer} of bytes.
  */
 public interface ByteDataBuffer extends DataBuffer<Byte> {
 
+  /**
+   * Retrieve values of this buffer as a stream of integers.
+   * <p>
+   * The stream covers the values between the current position and the limit of this buffer, as
+   * they are when this method is called. It can be split evenly in parallel streams.
+   * <p>
+   * Values are widened from bytes to integers, keeping their sign.
+   *
+   * @return values, as a stream
+   */
+  default IntStream intStream() {
+    return StreamSupport
+        .intStream(new IndexedIntSpliterator(this::getByte, position(), limit()), false);
+  }
+
   /**
    * Relative bulk <i>get</i> method, using byte arrays.
    * <p>
@@ -119,6 +157,447 @@ public interface ByteDataBuffer extends DataBuffer<Byte> {
    */
   ByteDataBuffer put(byte[] src, int offset, int length);
 
+  /**
+   * Absolute <i>get</i> method for bytes.
+   * <p>
+   * Reads the byte at the given index, without boxing it like {@link #get(long)} does.
+   *
+   * @param index the index from which the byte will be read
+   * @return the byte at the given index
+   * @throws IndexOutOfBoundsException if index is negative or not smaller than the buffer's limit
+   */
+  byte getByte(long index);
+
+  /**
+   * Absolute <i>put</i> method for bytes.
+   * <p>
+   * Writes the given byte into this buffer at the given index, without boxing it like {@link
+   * #put(long, Object)} does.
+   *
+   * @param index the index at which the byte will be written
+   * @param value the byte to be written
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if index is negative or not smaller than the buffer's limit
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  ByteDataBuffer setByte(long index, byte value);
+
+  /**
+   * Bulk <i>fill</i> method for bytes.
+   * <p>
+   * Writes the given byte at all indices of this buffer, from 0 up to its limit, without boxing
+   * it like {@link #fill(Object)} does. The position of this buffer is not modified.
+   *
+   * @param value the byte to be written
+   * @return this buffer
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default ByteDataBuffer fill(byte value) {
+    return fill(0, limit(), value);
+  }
+
+  /**
+   * Bulk absolute <i>fill</i> method for bytes.
+   * <p>
+   * Writes the given byte at all indices of this buffer from {@code fromIndex}, inclusive, to
+   * {@code toIndex}, exclusive, without boxing it like {@link #fill(long, long, Object)} does. The
+   * position of this buffer is not modified.
+   *
+   * @param fromIndex index of the first byte to be written
+   * @param toIndex index following the last byte to be written; must be no larger than the buffer
+   * limit
+   * @param value the byte to be written
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if fromIndex is negative or toIndex is larger than the buffer
+   * limit
+   * @throws IllegalArgumentException if fromIndex is larger than toIndex
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default ByteDataBuffer fill(long fromIndex, long toIndex, byte value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    for (long index = fromIndex; index < toIndex; ++index) {
+      setByte(index, value);
+    }
+    return this;
+  }
+
+  /**
+   * Returns a view of this buffer as a buffer of integers.
+   * <p>
+   * The new buffer shares the bytes remaining in this buffer, i.e. from its position to its limit,
+   * so changes to one buffer are visible in the other. Its capacity is the number of bytes
+   * remaining divided by the size of an integer, rounded down. Its position is zero and its limit
+   * is its capacity. The position and limit of this buffer are not modified.
+   * <p>
+   * Implementations sharing their storage with a JDK buffer or native memory return a view of the
+   * same memory, without copying or decoding it.
+   *
+   * @param order order in which the bytes of each value are stored
+   * @return a buffer of integers sharing the bytes of this buffer
+   */
+  default IntDataBuffer asInts(ByteOrder order) {
+    return new IntDataBufferAdapter(this, order);
+  }
+
+  /**
+   * Returns a view of this buffer as a buffer of shorts.
+   * <p>
+   * See {@link #asInts(ByteOrder)} for the sharing semantics of the new buffer.
+   *
+   * @param order order in which the bytes of each value are stored
+   * @return a buffer of shorts sharing the bytes of this buffer
+   */
+  default ShortDataBuffer asShorts(ByteOrder order) {
+    return new ShortDataBufferAdapter(this, order);
+  }
+
+  /**
+   * Returns a view of this buffer as a buffer of longs.
+   * <p>
+   * See {@link #asInts(ByteOrder)} for the sharing semantics of the new buffer.
+   *
+   * @param order order in which the bytes of each value are stored
+   * @return a buffer of longs sharing the bytes of this buffer
+   */
+  default LongDataBuffer asLongs(ByteOrder order) {
+    return new LongDataBufferAdapter(this, order);
+  }
+
+  /**
+   * Returns a view of this buffer as a buffer of floats.
+   * <p>
+   * See {@link #asInts(ByteOrder)} for the sharing semantics of the new buffer.
+   *
+   * @param order order in which the bytes of each value are stored
+   * @return a buffer of floats sharing the bytes of this buffer
+   */
+  default FloatDataBuffer asFloats(ByteOrder order) {
+    return new FloatDataBufferAdapter(this, order);
+  }
+
+  /**
+   * Returns a view of this buffer as a buffer of doubles.
+   * <p>
+   * See {@link #asInts(ByteOrder)} for the sharing semantics of the new buffer.
+   *
+   * @param order order in which the bytes of each value are stored
+   * @return a buffer of doubles sharing the bytes of this buffer
+   */
+  default DoubleDataBuffer asDoubles(ByteOrder order) {
+    return new DoubleDataBufferAdapter(this, order);
+  }
+
+  /**
+   * Returns a view of this buffer as a buffer of unsigned 8-bits integers.
+   * <p>
+   * The new buffer shares the bytes remaining in this buffer, i.e. from its position to its limit,
+   * so changes to one buffer are visible in the other. Its capacity is the number of bytes
+   * remaining, its position is zero and its limit is its capacity. The position and limit of this
+   * buffer are not modified.
+   * <p>
+   * Values are widened to integers without their sign when read, in the range [0, 255], and only
+   * their lower 8 bits are kept when written, like a cast to {@code byte} does. No values are
+   * copied or converted in advance.
+   *
+   * @return a buffer of integers sharing the bytes of this buffer
+   */
+  default IntDataBuffer asUnsigned() {
+    return new UnsignedByteDataBufferAdapter(this);
+  }
+
+  /**
+   * Gathers the bytes of this buffer at the given indices into another buffer.
+   * <p>
+   * For each index remaining in {@code indices}, the byte at that index in this buffer is
+   * written to {@code dst}, i.e. {@code dst[i] = this[indices[i]]}. All indices are validated
+   * before any value is transferred. The position of both {@code indices} and {@code dst} is then
+   * incremented by the number of indices, while the position of this buffer is not modified.
+   *
+   * @param indices indices of the bytes to gather, from its position to its limit
+   * @param dst the destination buffer
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if an index is negative or not smaller than the limit of this
+   * buffer
+   * @throws BufferOverflowException if there are fewer values remaining in {@code dst} than in
+   * {@code indices}
+   * @throws IllegalArgumentException if {@code dst} is this buffer
+   * @throws ReadOnlyBufferException if {@code dst} is read-only
+   */
+  default ByteDataBuffer gather(LongDataBuffer indices, ByteDataBuffer dst) {
+    Validator.gatherArgs(this, indices, dst);
+    Validator.indicesArgs(this, indices);
+    long indicesPosition = indices.position();
+    long dstPosition = dst.position();
+    long length = indices.remaining();
+    for (long i = 0; i < length; ++i) {
+      long index = UncheckedAccess.getLong(indices, indicesPosition + i);
+      UncheckedAccess.setByte(dst, dstPosition + i, UncheckedAccess.getByte(this, index));
+    }
+    indices.position(indicesPosition + length);
+    dst.position(dstPosition + length);
+    return this;
+  }
+
+  /**
+   * Gathers the bytes of this buffer at the given 32-bits indices into another buffer.
+   *
+   * @see #gather(LongDataBuffer, ByteDataBuffer)
+   */
+  default ByteDataBuffer gather(IntDataBuffer indices, ByteDataBuffer dst) {
+    Validator.gatherArgs(this, indices, dst);
+    Validator.indicesArgs(this, indices);
+    long indicesPosition = indices.position();
+    long dstPosition = dst.position();
+    long length = indices.remaining();
+    for (long i = 0; i < length; ++i) {
+      int index = UncheckedAccess.getInt(indices, indicesPosition + i);
+      UncheckedAccess.setByte(dst, dstPosition + i, UncheckedAccess.getByte(this, index));
+    }
+    indices.position(indicesPosition + length);
+    dst.position(dstPosition + length);
+    return this;
+  }
+
+  /**
+   * Gathers the bytes of this buffer at the given indices into another buffer, using the threads
+   * of the given pool.
+   * <p>
+   * This method has the same effect as {@link #gather(LongDataBuffer, ByteDataBuffer)},
+   * but splits the indices in ranges that are gathered concurrently, one per thread of the pool.
+   * Indices are validated per range, so if one of them is out of bounds, values of other ranges
+   * may have been transferred and the positions of the buffers are left unchanged.
+   *
+   * @param indices indices of the bytes to gather, from its position to its limit
+   * @param dst the destination buffer
+   * @param pool the pool of threads gathering the values
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if an index is negative or not smaller than the limit of this
+   * buffer
+   * @throws BufferOverflowException if there are fewer values remaining in {@code dst} than in
+   * {@code indices}
+   * @throws IllegalArgumentException if {@code dst} is this buffer
+   * @throws ReadOnlyBufferException if {@code dst} is read-only
+   */
+  default ByteDataBuffer gather(LongDataBuffer indices, ByteDataBuffer dst,
+      ForkJoinPool pool) {
+    Validator.gatherArgs(this, indices, dst);
+    long length = indices.remaining();
+    if (length <= ParallelIndexedTask.MIN_RANGE_SIZE) {
+      return gather(indices, dst);
+    }
+    pool.invoke(new ParallelIndexedTask<>(indices, dst, pool.getParallelism(), this::gather));
+    indices.position(indices.position() + length);
+    dst.position(dst.position() + length);
+    return this;
+  }
+
+  /**
+   * Gathers the bytes of this buffer at the given 32-bits indices into another buffer, using the
+   * threads of the given pool.
+   *
+   * @see #gather(LongDataBuffer, ByteDataBuffer, ForkJoinPool)
+   */
+  default ByteDataBuffer gather(IntDataBuffer indices, ByteDataBuffer dst,
+      ForkJoinPool pool) {
+    Validator.gatherArgs(this, indices, dst);
+    long length = indices.remaining();
+    if (length <= ParallelIndexedTask.MIN_RANGE_SIZE) {
+      return gather(indices, dst);
+    }
+    pool.invoke(new ParallelIndexedTask<>(indices, dst, pool.getParallelism(), this::gather));
+    indices.position(indices.position() + length);
+    dst.position(dst.position() + length);
+    return this;
+  }
+
+  /**
+   * Scatters the bytes of another buffer to the given indices of this buffer.
+   * <p>
+   * For each index remaining in {@code indices}, the next byte of {@code src} is written at that
+   * index in this buffer, i.e. {@code this[indices[i]] = src[i]}. If an index is repeated, the
+   * last byte written at that index is kept. All indices are validated before any value is
+   * transferred. The position of both {@code indices} and {@code src} is then incremented by the
+   * number of indices, while the position of this buffer is not modified.
+   *
+   * @param indices indices of the bytes to write, from its position to its limit
+   * @param src the source buffer
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if an index is negative or not smaller than the limit of this
+   * buffer
+   * @throws BufferUnderflowException if there are fewer values remaining in {@code src} than in
+   * {@code indices}
+   * @throws IllegalArgumentException if {@code src} is this buffer
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default ByteDataBuffer scatter(LongDataBuffer indices, ByteDataBuffer src) {
+    Validator.scatterArgs(this, indices, src);
+    Validator.indicesArgs(this, indices);
+    long indicesPosition = indices.position();
+    long srcPosition = src.position();
+    long length = indices.remaining();
+    for (long i = 0; i < length; ++i) {
+      long index = UncheckedAccess.getLong(indices, indicesPosition + i);
+      UncheckedAccess.setByte(this, index, UncheckedAccess.getByte(src, srcPosition + i));
+    }
+    indices.position(indicesPosition + length);
+    src.position(srcPosition + length);
+    return this;
+  }
+
+  /**
+   * Scatters the bytes of another buffer to the given 32-bits indices of this buffer.
+   *
+   * @see #scatter(LongDataBuffer, ByteDataBuffer)
+   */
+  default ByteDataBuffer scatter(IntDataBuffer indices, ByteDataBuffer src) {
+    Validator.scatterArgs(this, indices, src);
+    Validator.indicesArgs(this, indices);
+    long indicesPosition = indices.position();
+    long srcPosition = src.position();
+    long length = indices.remaining();
+    for (long i = 0; i < length; ++i) {
+      int index = UncheckedAccess.getInt(indices, indicesPosition + i);
+      UncheckedAccess.setByte(this, index, UncheckedAccess.getByte(src, srcPosition + i));
+    }
+    indices.position(indicesPosition + length);
+    src.position(srcPosition + length);
+    return this;
+  }
+
+  /**
+   * Scatters the bytes of another buffer to the given indices of this buffer, using the threads
+   * of the given pool.
+   * <p>
+   * This method has the same effect as {@link #scatter(LongDataBuffer, ByteDataBuffer)},
+   * but splits the indices in ranges that are scattered concurrently, one per thread of the pool.
+   * If an index is repeated, which of its bytes is kept is unspecified. Indices are validated
+   * per range, so if one of them is out of bounds, values of other ranges may have been
+   * transferred and the positions of the buffers are left unchanged.
+   *
+   * @param indices indices of the bytes to write, from its position to its limit
+   * @param src the source buffer
+   * @param pool the pool of threads scattering the values
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if an index is negative or not smaller than the limit of this
+   * buffer
+   * @throws BufferUnderflowException if there are fewer values remaining in {@code src} than in
+   * {@code indices}
+   * @throws IllegalArgumentException if {@code src} is this buffer
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default ByteDataBuffer scatter(LongDataBuffer indices, ByteDataBuffer src,
+      ForkJoinPool pool) {
+    Validator.scatterArgs(this, indices, src);
+    long length = indices.remaining();
+    if (length <= ParallelIndexedTask.MIN_RANGE_SIZE) {
+      return scatter(indices, src);
+    }
+    pool.invoke(new ParallelIndexedTask<>(indices, src, pool.getParallelism(), this::scatter));
+    indices.position(indices.position() + length);
+    src.position(src.position() + length);
+    return this;
+  }
+
+  /**
+   * Scatters the bytes of another buffer to the given 32-bits indices of this buffer, using the
+   * threads of the given pool.
+   *
+   * @see #scatter(LongDataBuffer, ByteDataBuffer, ForkJoinPool)
+   */
+  default ByteDataBuffer scatter(IntDataBuffer indices, ByteDataBuffer src,
+      ForkJoinPool pool) {
+    Validator.scatterArgs(this, indices, src);
+    long length = indices.remaining();
+    if (length <= ParallelIndexedTask.MIN_RANGE_SIZE) {
+      return scatter(indices, src);
+    }
+    pool.invoke(new ParallelIndexedTask<>(indices, src, pool.getParallelism(), this::scatter));
+    indices.position(indices.position() + length);
+    src.position(src.position() + length);
+    return this;
+  }
+
+  /**
+   * Adds the bytes of another buffer to the bytes at the given indices of this buffer.
+   * <p>
+   * For each index remaining in {@code indices}, the next byte of {@code src} is added to the
+   * byte at that index in this buffer, i.e. {@code this[indices[i]] += src[i]}. If an index is
+   * repeated, all of its bytes are accumulated. All indices are validated before any value is
+   * transferred. The position of both {@code indices} and {@code src} is then incremented by the
+   * number of indices, while the position of this buffer is not modified.
+   *
+   * @param indices indices of the bytes to update, from its position to its limit
+   * @param src the source buffer
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if an index is negative or not smaller than the limit of this
+   * buffer
+   * @throws BufferUnderflowException if there are fewer values remaining in {@code src} than in
+   * {@code indices}
+   * @throws IllegalArgumentException if {@code src} is this buffer
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default ByteDataBuffer scatterAdd(LongDataBuffer indices, ByteDataBuffer src) {
+    Validator.scatterArgs(this, indices, src);
+    Validator.indicesArgs(this, indices);
+    long indicesPosition = indices.position();
+    long srcPosition = src.position();
+    long length = indices.remaining();
+    for (long i = 0; i < length; ++i) {
+      long index = UncheckedAccess.getLong(indices, indicesPosition + i);
+      byte value = UncheckedAccess.getByte(src, srcPosition + i);
+      UncheckedAccess.setByte(this, index, (byte) (UncheckedAccess.getByte(this, index) + value));
+    }
+    indices.position(indicesPosition + length);
+    src.position(srcPosition + length);
+    return this;
+  }
+
+  /**
+   * Adds the bytes of another buffer to the bytes at the given 32-bits indices of this
+   * buffer.
+   *
+   * @see #scatterAdd(LongDataBuffer, ByteDataBuffer)
+   */
+  default ByteDataBuffer scatterAdd(IntDataBuffer indices, ByteDataBuffer src) {
+    Validator.scatterArgs(this, indices, src);
+    Validator.indicesArgs(this, indices);
+    long indicesPosition = indices.position();
+    long srcPosition = src.position();
+    long length = indices.remaining();
+    for (long i = 0; i < length; ++i) {
+      int index = UncheckedAccess.getInt(indices, indicesPosition + i);
+      byte value = UncheckedAccess.getByte(src, srcPosition + i);
+      UncheckedAccess.setByte(this, index, (byte) (UncheckedAccess.getByte(this, index) + value));
+    }
+    indices.position(indicesPosition + length);
+    src.position(srcPosition + length);
+    return this;
+  }
+
+  @Override
+  default long writeTo(WritableByteChannel channel, ByteOrder order) throws IOException {
+    return ChannelTransfer.write(this, channel, order, Byte.BYTES, ByteJdkDataBuffer::wrap);
+  }
+
+  @Override
+  default long readFrom(ReadableByteChannel channel, ByteOrder order) throws IOException {
+    return ChannelTransfer.read(this, channel, order, Byte.BYTES, ByteJdkDataBuffer::wrap);
+  }
+
+  @Override
+  default CompletableFuture<Long> writeToAsync(AsynchronousFileChannel channel, long position,
+      ByteOrder order) {
+    return AsyncFileTransfer.write(this, channel, position, order, Byte.BYTES,
+        ByteJdkDataBuffer::wrap);
+  }
+
+  @Override
+  default CompletableFuture<Long> readFromAsync(AsynchronousFileChannel channel, long position,
+      ByteOrder order) {
+    return AsyncFileTransfer.read(this, channel, position, order, Byte.BYTES,
+        ByteJdkDataBuffer::wrap);
+  }
+
   @Override
   ByteDataBuffer limit(long newLimit);
 
@@ -147,6 +626,22 @@ public interface ByteDataBuffer extends DataBuffer<Byte> {
   @Override
   ByteDataBuffer put(DataBuffer<Byte> src);
 
+  @Override
+  default ByteDataBuffer fill(Byte value) {
+    return fill(value.byteValue());
+  }
+
+  @Override
+  default ByteDataBuffer fill(long fromIndex, long toIndex, Byte value) {
+    return fill(fromIndex, toIndex, value.byteValue());
+  }
+
+  @Override
+  default ByteDataBuffer fill(DataBuffer<Byte> pattern) {
+    DataBuffer.super.fill(pattern);
+    return this;
+  }
+
   @Override
   ByteDataBuffer duplicate();
 
@@ -154,4 +649,10 @@ public interface ByteDataBuffer extends DataBuffer<Byte> {
   default ByteDataBuffer slice() {
     return new ByteDataBufferView(duplicate(), position(), limit());
   }
+
+  @Override
+  default ByteDataBuffer strided(long offset, long stride, long count) {
+    return new ByteStridedDataBufferView(duplicate().limit(capacity()), offset,
+        stride, count);
+  }
 }
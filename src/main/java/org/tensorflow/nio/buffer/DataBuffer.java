@@ -17,12 +17,22 @@
 
 package org.tensorflow.nio.buffer;
 
+import java.io.IOException;
 import java.nio.BufferOverflowException;
 import java.nio.BufferUnderflowException;
+import java.nio.ByteOrder;
 import java.nio.ReadOnlyBufferException;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import org.tensorflow.nio.buffer.impl.Validator;
+import org.tensorflow.nio.buffer.impl.stream.IndexedSpliterator;
 import org.tensorflow.nio.buffer.impl.view.DataBufferView;
+import org.tensorflow.nio.buffer.impl.view.StridedDataBufferView;
 
 /**
  * A container of data of a specific type.
@@ -172,12 +182,16 @@ public interface DataBuffer<T> {
   T get(long index);
 
   /**
-   * Retrieve values of this buffer as a Java stream <i>(optional operation)</i>.
+   * Retrieve values of this buffer as a Java stream.
+   * <p>
+   * The stream covers the values between the current position and the limit of this buffer, as
+   * they are when this method is called. It can be split evenly in parallel streams.
    *
    * @return values, as a stream
-   * @throws UnsupportedOperationException if streaming is not supported by this buffer
    */
-  Stream<T> stream();
+  default Stream<T> stream() {
+    return StreamSupport.stream(new IndexedSpliterator<>(this::get, position(), limit()), false);
+  }
 
   /**
    * Relative <i>put</i> method.
@@ -227,6 +241,190 @@ public interface DataBuffer<T> {
    */
   DataBuffer<T> put(DataBuffer<T> src);
 
+  /**
+   * Bulk <i>fill</i> method.
+   * <p>
+   * Writes the given value at all indices of this buffer, from 0 up to its limit. The position of
+   * this buffer is not modified.
+   *
+   * @param value the value to be written
+   * @return this buffer
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default DataBuffer<T> fill(T value) {
+    return fill(0, limit(), value);
+  }
+
+  /**
+   * Bulk absolute <i>fill</i> method.
+   * <p>
+   * Writes the given value at all indices of this buffer from {@code fromIndex}, inclusive, to
+   * {@code toIndex}, exclusive. The position of this buffer is not modified.
+   *
+   * @param fromIndex index of the first value to be written
+   * @param toIndex index following the last value to be written; must be no larger than the buffer
+   * limit
+   * @param value the value to be written
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if fromIndex is negative or toIndex is larger than the buffer
+   * limit
+   * @throws IllegalArgumentException if fromIndex is larger than toIndex
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default DataBuffer<T> fill(long fromIndex, long toIndex, T value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    for (long index = fromIndex; index < toIndex; ++index) {
+      put(index, value);
+    }
+    return this;
+  }
+
+  /**
+   * Bulk <i>fill</i> method, using a pattern of values.
+   * <p>
+   * Writes repeatedly the values remaining in the pattern buffer at all indices of this buffer,
+   * from 0 up to its limit. If the limit is not a multiple of the pattern length, the last
+   * repetition of the pattern is truncated. The position of both buffers are not modified.
+   * <p>
+   * Only the first repetition is read from the pattern, the others are bulk copies of the values
+   * already written to this buffer, doubling the number of values filled at each step.
+   *
+   * @param pattern the buffer holding the values to repeat, from its position to its limit
+   * @return this buffer
+   * @throws IllegalArgumentException if the pattern has no values remaining or is this buffer
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default DataBuffer<T> fill(DataBuffer<T> pattern) {
+    Validator.fillArgs(this, pattern);
+    long limit = limit();
+    long filled = Math.min(pattern.remaining(), limit);
+    duplicate().rewind().put(pattern.withLimit(pattern.position() + filled));
+    while (filled < limit) {
+      long length = Math.min(filled, limit - filled);
+      duplicate().position(filled).put(withLimit(length).rewind());
+      filled += length;
+    }
+    return this;
+  }
+
+  /**
+   * Relative bulk <i>write</i> method, to a channel.
+   * <p>
+   * This method writes all values remaining in this buffer to the given channel, each in its
+   * binary representation with bytes in the given order, starting at the current position of this
+   * buffer. The position of this buffer is then incremented by the number of values written, i.e.
+   * up to its limit.
+   * <p>
+   * When the values are already stored as bytes in the requested order, like in a direct or mapped
+   * buffer in the native byte order, they are handed to the channel directly, without being copied.
+   * If they are split in multiple chunks and the channel is a {@link
+   * java.nio.channels.GatheringByteChannel}, all chunks are written at once. Otherwise, values are
+   * encoded to bytes by blocks before being written.
+   * <p>
+   * The channel must be in blocking mode.
+   *
+   * @param channel the channel to write to
+   * @param order order in which the bytes of each value are written
+   * @return the number of values written
+   * @throws IOException if the values could not be written to the channel
+   * @throws UnsupportedOperationException if values of this buffer have no fixed-size binary
+   * representation
+   */
+  default long writeTo(WritableByteChannel channel, ByteOrder order) throws IOException {
+    throw new UnsupportedOperationException(
+        "Values of this buffer cannot be written to a channel");
+  }
+
+  /**
+   * Relative bulk <i>read</i> method, from a channel.
+   * <p>
+   * This method reads values from the given channel into this buffer, each in its binary
+   * representation with bytes in the given order, starting at the current position of this buffer
+   * and until its limit is reached or the channel has no more bytes to read. The position of this
+   * buffer is then incremented by the number of values read.
+   * <p>
+   * When the values are stored as bytes in the requested order, like in a direct or mapped buffer
+   * in the native byte order, they are read from the channel directly in the storage of this
+   * buffer. If they are split in multiple chunks and the channel is a {@link
+   * java.nio.channels.ScatteringByteChannel}, all chunks are read at once. Otherwise, values are
+   * read by blocks and then decoded from their bytes.
+   * <p>
+   * The channel must be in blocking mode.
+   *
+   * @param channel the channel to read from
+   * @param order order in which the bytes of each value are read
+   * @return the number of values read, possibly zero, or -1 if the channel has reached
+   * end-of-stream before any value could be read
+   * @throws IOException if the values could not be read from the channel
+   * @throws java.io.EOFException if the channel reaches end-of-stream in the middle of a value
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   * @throws UnsupportedOperationException if values of this buffer have no fixed-size binary
+   * representation
+   */
+  default long readFrom(ReadableByteChannel channel, ByteOrder order) throws IOException {
+    throw new UnsupportedOperationException(
+        "Values of this buffer cannot be read from a channel");
+  }
+
+  /**
+   * Asynchronous bulk <i>write</i> method, to a file.
+   * <p>
+   * This method writes all values remaining in this buffer to the file of the given channel, each
+   * in its binary representation with bytes in the given order, starting at the given position in
+   * the file. Unlike {@link #writeTo(WritableByteChannel, ByteOrder)}, the position of this buffer
+   * is left unchanged and this method returns immediately, while values are written in parts by
+   * concurrent positional writes.
+   * <p>
+   * When the values are already stored as bytes in the requested order, like in a direct or mapped
+   * buffer in the native byte order, each part is handed to the channel directly, without being
+   * copied. Otherwise, values are encoded to bytes by blocks before being written.
+   * <p>
+   * Values of this buffer should not be modified until the returned future is completed.
+   *
+   * @param channel channel of the file to write to
+   * @param position position in the file at which the first value is written, in bytes
+   * @param order order in which the bytes of each value are written
+   * @return a future completed with the number of values written, or completed exceptionally if
+   * the values could not be written to the file
+   * @throws UnsupportedOperationException if values of this buffer have no fixed-size binary
+   * representation
+   */
+  default CompletableFuture<Long> writeToAsync(AsynchronousFileChannel channel, long position,
+      ByteOrder order) {
+    throw new UnsupportedOperationException(
+        "Values of this buffer cannot be written to a channel");
+  }
+
+  /**
+   * Asynchronous bulk <i>read</i> method, from a file.
+   * <p>
+   * This method reads values from the file of the given channel into the space remaining in this
+   * buffer, each in its binary representation with bytes in the given order, starting at the given
+   * position in the file. Unlike {@link #readFrom(ReadableByteChannel, ByteOrder)}, the position of
+   * this buffer is left unchanged and this method returns immediately, while values are read in
+   * parts by concurrent positional reads.
+   * <p>
+   * When the values are stored as bytes in the requested order, like in a direct or mapped buffer
+   * in the native byte order, each part is read from the channel directly in the storage of this
+   * buffer, so the chunks of a large buffer are filled concurrently. Otherwise, values are read by
+   * blocks and then decoded from their bytes.
+   *
+   * @param channel channel of the file to read from
+   * @param position position in the file at which the first value is read, in bytes
+   * @param order order in which the bytes of each value are read
+   * @return a future completed with the number of values read, or completed exceptionally if the
+   * values could not be read from the file, including with a {@link java.io.EOFException} if the
+   * file ends before the remaining space of this buffer is filled
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   * @throws UnsupportedOperationException if values of this buffer have no fixed-size binary
+   * representation
+   */
+  default CompletableFuture<Long> readFromAsync(AsynchronousFileChannel channel, long position,
+      ByteOrder order) {
+    throw new UnsupportedOperationException(
+        "Values of this buffer cannot be read from a channel");
+  }
+
   /**
    * Creates a new buffer that shares this buffer's content.
    * <p>
@@ -257,4 +455,30 @@ public interface DataBuffer<T> {
   default DataBuffer<T> slice() {
     return new DataBufferView<>(duplicate(), position(), limit());
   }
+
+  /**
+   * Creates a new buffer whose content is a shared subsequence of this buffer's values, taken at
+   * regular intervals.
+   * <p>
+   * The value at index {@code i} of the new buffer is the value at index
+   * {@code offset + i * stride} of this buffer, e.g. a column of a matrix stored in row-major
+   * order or a channel of interleaved data. Changes to this buffer's content will be visible in the
+   * new buffer, and vice versa. Bulk transfers to and from the new buffer gather or scatter its
+   * values without copying the rest of this buffer.
+   * <p>
+   * The new buffer's position will be zero, its capacity and its limit will be {@code count}. The
+   * new buffer will be read-only if, and only if, this buffer is read-only.
+   *
+   * @param offset index of the first value of the new buffer in this buffer
+   * @param stride distance between two consecutive values of the new buffer in this buffer
+   * @param count number of values of the new buffer
+   * @return the new buffer
+   * @throws IndexOutOfBoundsException if {@code offset} is negative or if any of the values is out
+   * of the capacity of this buffer
+   * @throws IllegalArgumentException if {@code stride} is not positive or {@code count} is negative
+   */
+  default DataBuffer<T> strided(long offset, long stride, long count) {
+    return new StridedDataBufferView<>(duplicate().limit(capacity()), offset,
+        stride, count);
+  }
 }
@@ -0,0 +1,493 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A pool of data buffers, recycling buffers of primitive types so that allocating and discarding
+ * buffers of similar sizes does not create new ones in steady state.
+ * <p>
+ * Buffers are pooled by type and by size class, each class grouping buffers of the same size in
+ * bytes, a power of two between {@link #MIN_POOLED_SIZE} and {@link #MAX_POOLED_SIZE}. A buffer
+ * acquired from the pool is a buffer of the smallest class that can hold the requested number of
+ * values, with its limit set to that number. Its values are not cleared when it is recycled.
+ * Larger buffers are allocated and released like any other buffer, without being pooled.
+ * <p>
+ * Released buffers are first cached by the releasing thread, up to {@link #THREAD_CACHE_SIZE}
+ * buffers of each class not larger than {@link #MAX_THREAD_CACHED_SIZE}, and then in lock-free
+ * free lists shared by all threads. The total size of the buffers retained by the pool, in the
+ * thread caches and the shared lists, is limited: a buffer is cached by a thread only if it fits
+ * under this limit, and the buffers of the largest classes are evicted first when it is exceeded.
+ * Evicted buffers are released with {@link DataBuffers#release(DataBuffer)}.
+ * <p>
+ * The thread caches are only reachable from the threads through this pool, so the buffers they
+ * hold can be garbage-collected with it. Closing the pool releases all of its buffers at once.
+ * <p>
+ * A buffer must be released at most once, and only the buffer returned by the pool, not one of its
+ * duplicates, slices or views. It must not be accessed anymore once released.
+ */
+public final class DataBufferPool implements AutoCloseable {
+
+  /**
+   * Size in bytes of the smallest class of pooled buffers.
+   */
+  public static final int MIN_POOLED_SIZE = 1 << 6;
+
+  /**
+   * Size in bytes of the largest class of pooled buffers.
+   */
+  public static final long MAX_POOLED_SIZE = 1L << 30;
+
+  /**
+   * Size in bytes of the largest class of buffers cached by each thread.
+   */
+  public static final int MAX_THREAD_CACHED_SIZE = 1 << 18;
+
+  /**
+   * Maximum number of buffers of each class cached by each thread.
+   */
+  public static final int THREAD_CACHE_SIZE = 2;
+
+  /**
+   * Creates a pool of buffers allocated using the {@link DataBuffers#defaultAllocationMode()
+   * default allocation mode}.
+   *
+   * @param maxRetainedBytes maximum size in bytes of the buffers retained by the pool
+   * @return a new pool
+   */
+  public static DataBufferPool create(long maxRetainedBytes) {
+    return create(maxRetainedBytes, DataBuffers.defaultAllocationMode());
+  }
+
+  /**
+   * Creates a pool of buffers allocated using the given mode.
+   *
+   * @param maxRetainedBytes maximum size in bytes of the buffers retained by the pool
+   * @param mode where the values of the pooled buffers should be stored
+   * @return a new pool
+   */
+  public static DataBufferPool create(long maxRetainedBytes, AllocationMode mode) {
+    if (maxRetainedBytes < 0) {
+      throw new IllegalArgumentException("Maximum retained bytes must be non-negative");
+    }
+    if (mode == null) {
+      throw new IllegalArgumentException("Allocation mode cannot be null");
+    }
+    return new DataBufferPool(maxRetainedBytes, mode);
+  }
+
+  /**
+   * Acquires a buffer of bytes that can store up to `capacity` values.
+   *
+   * @param capacity number of values to store, which becomes the limit of the buffer
+   * @return a buffer from this pool, or a new one if none is available
+   */
+  public ByteDataBuffer ofBytes(long capacity) {
+    return (ByteDataBuffer) acquire(ValueType.BYTE, capacity);
+  }
+
+  /**
+   * Acquires a buffer of shorts that can store up to `capacity` values.
+   *
+   * @param capacity number of values to store, which becomes the limit of the buffer
+   * @return a buffer from this pool, or a new one if none is available
+   */
+  public ShortDataBuffer ofShorts(long capacity) {
+    return (ShortDataBuffer) acquire(ValueType.SHORT, capacity);
+  }
+
+  /**
+   * Acquires a buffer of integers that can store up to `capacity` values.
+   *
+   * @param capacity number of values to store, which becomes the limit of the buffer
+   * @return a buffer from this pool, or a new one if none is available
+   */
+  public IntDataBuffer ofIntegers(long capacity) {
+    return (IntDataBuffer) acquire(ValueType.INT, capacity);
+  }
+
+  /**
+   * Acquires a buffer of longs that can store up to `capacity` values.
+   *
+   * @param capacity number of values to store, which becomes the limit of the buffer
+   * @return a buffer from this pool, or a new one if none is available
+   */
+  public LongDataBuffer ofLongs(long capacity) {
+    return (LongDataBuffer) acquire(ValueType.LONG, capacity);
+  }
+
+  /**
+   * Acquires a buffer of floats that can store up to `capacity` values.
+   *
+   * @param capacity number of values to store, which becomes the limit of the buffer
+   * @return a buffer from this pool, or a new one if none is available
+   */
+  public FloatDataBuffer ofFloats(long capacity) {
+    return (FloatDataBuffer) acquire(ValueType.FLOAT, capacity);
+  }
+
+  /**
+   * Acquires a buffer of doubles that can store up to `capacity` values.
+   *
+   * @param capacity number of values to store, which becomes the limit of the buffer
+   * @return a buffer from this pool, or a new one if none is available
+   */
+  public DoubleDataBuffer ofDoubles(long capacity) {
+    return (DoubleDataBuffer) acquire(ValueType.DOUBLE, capacity);
+  }
+
+  /**
+   * Releases a buffer acquired from this pool, so it can be recycled.
+   * <p>
+   * Buffers that do not belong to a size class of this pool are simply dropped.
+   *
+   * @param buffer buffer to release
+   * @throws IllegalArgumentException if values of this buffer are not of a primitive type pooled
+   * by this pool
+   */
+  public void release(DataBuffer<?> buffer) {
+    ValueType type = ValueType.of(buffer);
+    if (type == null) {
+      throw new IllegalArgumentException("Buffers of this type are not pooled");
+    }
+    long byteSize = buffer.capacity() * type.size;
+    int sizeClass = sizeClass(byteSize);
+    if (sizeClass < 0 || classSize(sizeClass) != byteSize) {
+      return;
+    }
+    if (closed) {
+      DataBuffers.release(buffer);
+      return;
+    }
+    int bucket = bucket(type, sizeClass);
+    long retained = retainedBytes.addAndGet(byteSize);
+    if (byteSize <= MAX_THREAD_CACHED_SIZE && retained <= maxRetainedBytes
+        && threadCache().offer(bucket, buffer)) {
+      return;
+    }
+    freeLists[bucket].offerFirst(buffer);
+    evictExcess();
+    if (closed) {
+      close();
+    }
+  }
+
+  /**
+   * Closes this pool, releasing all the buffers it retains, including those cached by other
+   * threads.
+   * <p>
+   * Buffers can still be acquired from a closed pool, but they are allocated on each call, and
+   * buffers released to it are released immediately.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    for (int sizeClass = 0; sizeClass < CLASS_COUNT; ++sizeClass) {
+      long byteSize = classSize(sizeClass);
+      for (ValueType type : ValueType.values()) {
+        int bucket = bucket(type, sizeClass);
+        for (DataBuffer<?> buffer; (buffer = freeLists[bucket].pollFirst()) != null; ) {
+          drop(buffer, byteSize);
+        }
+        if (byteSize <= MAX_THREAD_CACHED_SIZE) {
+          for (ThreadCache threadCache : allThreadCaches) {
+            for (DataBuffer<?> buffer; (buffer = threadCache.poll(bucket)) != null; ) {
+              drop(buffer, byteSize);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * @return the maximum size in bytes of the buffers retained by the pool
+   */
+  public long maxRetainedBytes() {
+    return maxRetainedBytes;
+  }
+
+  /**
+   * @return the size in bytes of the buffers currently retained by the pool, in the thread caches
+   * and the shared free lists
+   */
+  public long retainedBytes() {
+    return retainedBytes.get();
+  }
+
+  /**
+   * @return the number of buffers acquired by recycling a released buffer
+   */
+  public long hits() {
+    return hits.sum();
+  }
+
+  /**
+   * @return the number of buffers acquired by allocating a new buffer
+   */
+  public long misses() {
+    return misses.sum();
+  }
+
+  /**
+   * @return the number of released buffers dropped to keep the size of the retained buffers under
+   * its maximum
+   */
+  public long evictions() {
+    return evictions.sum();
+  }
+
+  private enum ValueType {
+    BYTE(Byte.BYTES) {
+      @Override
+      DataBuffer<?> allocate(long capacity, AllocationMode mode) {
+        return DataBuffers.ofBytes(capacity, mode);
+      }
+    },
+    SHORT(Short.BYTES) {
+      @Override
+      DataBuffer<?> allocate(long capacity, AllocationMode mode) {
+        return DataBuffers.ofShorts(capacity, mode);
+      }
+    },
+    INT(Integer.BYTES) {
+      @Override
+      DataBuffer<?> allocate(long capacity, AllocationMode mode) {
+        return DataBuffers.ofIntegers(capacity, mode);
+      }
+    },
+    LONG(Long.BYTES) {
+      @Override
+      DataBuffer<?> allocate(long capacity, AllocationMode mode) {
+        return DataBuffers.ofLongs(capacity, mode);
+      }
+    },
+    FLOAT(Float.BYTES) {
+      @Override
+      DataBuffer<?> allocate(long capacity, AllocationMode mode) {
+        return DataBuffers.ofFloats(capacity, mode);
+      }
+    },
+    DOUBLE(Double.BYTES) {
+      @Override
+      DataBuffer<?> allocate(long capacity, AllocationMode mode) {
+        return DataBuffers.ofDoubles(capacity, mode);
+      }
+    };
+
+    static ValueType of(DataBuffer<?> buffer) {
+      if (buffer instanceof ByteDataBuffer) {
+        return BYTE;
+      }
+      if (buffer instanceof ShortDataBuffer) {
+        return SHORT;
+      }
+      if (buffer instanceof IntDataBuffer) {
+        return INT;
+      }
+      if (buffer instanceof LongDataBuffer) {
+        return LONG;
+      }
+      if (buffer instanceof FloatDataBuffer) {
+        return FLOAT;
+      }
+      if (buffer instanceof DoubleDataBuffer) {
+        return DOUBLE;
+      }
+      return null;
+    }
+
+    final int size;
+
+    abstract DataBuffer<?> allocate(long capacity, AllocationMode mode);
+
+    ValueType(int size) {
+      this.size = size;
+    }
+  }
+
+  /**
+   * Buffers cached by a thread, by bucket.
+   * <p>
+   * A cache is only accessed by its thread, except when evicting buffers or closing the pool, so
+   * its lock is rarely contended.
+   */
+  private static final class ThreadCache {
+
+    synchronized DataBuffer<?> poll(int bucket) {
+      int count = counts[bucket];
+      if (count == 0) {
+        return null;
+      }
+      DataBuffer<?> buffer = buffers[bucket][--count];
+      buffers[bucket][count] = null;
+      counts[bucket] = count;
+      return buffer;
+    }
+
+    synchronized boolean offer(int bucket, DataBuffer<?> buffer) {
+      int count = counts[bucket];
+      if (count == THREAD_CACHE_SIZE) {
+        return false;
+      }
+      if (buffers[bucket] == null) {
+        buffers[bucket] = new DataBuffer<?>[THREAD_CACHE_SIZE];
+      }
+      buffers[bucket][count] = buffer;
+      counts[bucket] = count + 1;
+      return true;
+    }
+
+    private final DataBuffer<?>[][] buffers = new DataBuffer<?>[BUCKET_COUNT][];
+    private final int[] counts = new int[BUCKET_COUNT];
+  }
+
+  private static final int MIN_CLASS_SHIFT = Integer.numberOfTrailingZeros(MIN_POOLED_SIZE);
+  private static final int CLASS_COUNT =
+      Long.numberOfTrailingZeros(MAX_POOLED_SIZE) - MIN_CLASS_SHIFT + 1;
+  private static final int BUCKET_COUNT = ValueType.values().length * CLASS_COUNT;
+
+  private final long maxRetainedBytes;
+  private final AllocationMode mode;
+  private final ConcurrentLinkedDeque<DataBuffer<?>>[] freeLists;
+  private final ThreadLocal<WeakReference<ThreadCache>> threadCaches = new ThreadLocal<>();
+  private final ConcurrentLinkedQueue<ThreadCache> allThreadCaches =
+      new ConcurrentLinkedQueue<>();
+  private final AtomicLong retainedBytes = new AtomicLong();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private volatile boolean closed = false;
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private DataBufferPool(long maxRetainedBytes, AllocationMode mode) {
+    this.maxRetainedBytes = maxRetainedBytes;
+    this.mode = mode;
+    freeLists = new ConcurrentLinkedDeque[BUCKET_COUNT];
+    for (int i = 0; i < BUCKET_COUNT; ++i) {
+      freeLists[i] = new ConcurrentLinkedDeque<>();
+    }
+  }
+
+  private DataBuffer<?> acquire(ValueType type, long capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("Capacity must be non-negative");
+    }
+    int sizeClass = capacity > MAX_POOLED_SIZE / type.size ? -1 : sizeClass(capacity * type.size);
+    if (sizeClass < 0) {
+      misses.increment();
+      return type.allocate(capacity, mode);
+    }
+    int bucket = bucket(type, sizeClass);
+    long byteSize = classSize(sizeClass);
+    DataBuffer<?> buffer = null;
+    if (byteSize <= MAX_THREAD_CACHED_SIZE && !closed) {
+      buffer = threadCache().poll(bucket);
+    }
+    if (buffer == null) {
+      buffer = freeLists[bucket].pollFirst();
+    }
+    if (buffer != null) {
+      retainedBytes.addAndGet(-byteSize);
+    }
+    if (buffer == null) {
+      misses.increment();
+      buffer = type.allocate(byteSize / type.size, mode);
+    } else {
+      hits.increment();
+    }
+    return buffer.limit(capacity).rewind();
+  }
+
+  /**
+   * Returns the cache of the current thread, creating it on first use.
+   * <p>
+   * The thread only holds a weak reference to its cache, strongly referenced by this pool, so that
+   * the cached buffers do not outlive the pool.
+   */
+  private ThreadCache threadCache() {
+    WeakReference<ThreadCache> threadCacheRef = threadCaches.get();
+    ThreadCache threadCache = threadCacheRef != null ? threadCacheRef.get() : null;
+    if (threadCache == null) {
+      threadCache = new ThreadCache();
+      allThreadCaches.add(threadCache);
+      threadCaches.set(new WeakReference<>(threadCache));
+    }
+    return threadCache;
+  }
+
+  /**
+   * Evicts buffers from the shared free lists, and then from the thread caches, starting with
+   * those of the largest classes, until the size of the retained buffers is back under its
+   * maximum.
+   */
+  private void evictExcess() {
+    for (int sizeClass = CLASS_COUNT - 1;
+        sizeClass >= 0 && retainedBytes.get() > maxRetainedBytes; --sizeClass) {
+      long byteSize = classSize(sizeClass);
+      for (ValueType type : ValueType.values()) {
+        int bucket = bucket(type, sizeClass);
+        evictExcess(() -> freeLists[bucket].pollLast(), byteSize);
+        if (byteSize <= MAX_THREAD_CACHED_SIZE) {
+          for (ThreadCache threadCache : allThreadCaches) {
+            evictExcess(() -> threadCache.poll(bucket), byteSize);
+          }
+        }
+      }
+    }
+  }
+
+  private void evictExcess(Supplier<DataBuffer<?>> source, long byteSize) {
+    DataBuffer<?> buffer;
+    while (retainedBytes.get() > maxRetainedBytes && (buffer = source.get()) != null) {
+      drop(buffer, byteSize);
+      evictions.increment();
+    }
+  }
+
+  private void drop(DataBuffer<?> buffer, long byteSize) {
+    retainedBytes.addAndGet(-byteSize);
+    DataBuffers.release(buffer);
+  }
+
+  /**
+   * Returns the index of the smallest size class holding the given number of bytes, or -1 if it
+   * exceeds the largest class.
+   */
+  private static int sizeClass(long byteSize) {
+    if (byteSize > MAX_POOLED_SIZE) {
+      return -1;
+    }
+    int shift = byteSize <= MIN_POOLED_SIZE ? MIN_CLASS_SHIFT
+        : Long.SIZE - Long.numberOfLeadingZeros(byteSize - 1);
+    return shift - MIN_CLASS_SHIFT;
+  }
+
+  private static long classSize(int sizeClass) {
+    return 1L << (sizeClass + MIN_CLASS_SHIFT);
+  }
+
+  private static int bucket(ValueType type, int sizeClass) {
+    return type.ordinal() * CLASS_COUNT + sizeClass;
+  }
+}
@@ -16,24 +16,55 @@
  */
 package org.tensorflow.nio.buffer;
 
+import java.io.IOException;
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.nio.DoubleBuffer;
 import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
 import java.nio.LongBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
 
-import org.tensorflow.nio.buffer.impl.single.ArrayDataBuffer;
-import org.tensorflow.nio.buffer.impl.single.ByteJdkDataBuffer;
-import org.tensorflow.nio.buffer.impl.single.DoubleJdkDataBuffer;
-import org.tensorflow.nio.buffer.impl.single.FloatJdkDataBuffer;
-import org.tensorflow.nio.buffer.impl.single.IntJdkDataBuffer;
-import org.tensorflow.nio.buffer.impl.single.LongJdkDataBuffer;
+import org.tensorflow.nio.buffer.impl.Alignment;
+import org.tensorflow.nio.buffer.impl.BufferComparison;
+import org.tensorflow.nio.buffer.impl.ParallelCopyTask;
+import org.tensorflow.nio.buffer.impl.Validator;
+import org.tensorflow.nio.buffer.impl.large.BFloat16LargeDataBuffer;
+import org.tensorflow.nio.buffer.impl.large.BooleanLargeDataBuffer;
 import org.tensorflow.nio.buffer.impl.large.ByteLargeDataBuffer;
 import org.tensorflow.nio.buffer.impl.large.DoubleLargeDataBuffer;
 import org.tensorflow.nio.buffer.impl.large.FloatLargeDataBuffer;
+import org.tensorflow.nio.buffer.impl.large.HalfLargeDataBuffer;
 import org.tensorflow.nio.buffer.impl.large.IntLargeDataBuffer;
 import org.tensorflow.nio.buffer.impl.large.LargeDataBuffer;
 import org.tensorflow.nio.buffer.impl.large.LongLargeDataBuffer;
+import org.tensorflow.nio.buffer.impl.large.ShortLargeDataBuffer;
+import org.tensorflow.nio.buffer.impl.raw.ByteRawDataBuffer;
+import org.tensorflow.nio.buffer.impl.raw.DoubleRawDataBuffer;
+import org.tensorflow.nio.buffer.impl.raw.FloatRawDataBuffer;
+import org.tensorflow.nio.buffer.impl.raw.IntRawDataBuffer;
+import org.tensorflow.nio.buffer.impl.raw.LongRawDataBuffer;
+import org.tensorflow.nio.buffer.impl.raw.ShortRawDataBuffer;
+import org.tensorflow.nio.buffer.impl.raw.UnsafeReference;
+import org.tensorflow.nio.buffer.impl.single.ArrayDataBuffer;
+import org.tensorflow.nio.buffer.impl.single.BFloat16JdkDataBuffer;
+import org.tensorflow.nio.buffer.impl.single.BooleanPackedDataBuffer;
+import org.tensorflow.nio.buffer.impl.single.ByteJdkDataBuffer;
+import org.tensorflow.nio.buffer.impl.single.DoubleJdkDataBuffer;
+import org.tensorflow.nio.buffer.impl.single.FloatJdkDataBuffer;
+import org.tensorflow.nio.buffer.impl.single.HalfJdkDataBuffer;
+import org.tensorflow.nio.buffer.impl.single.IntJdkDataBuffer;
+import org.tensorflow.nio.buffer.impl.single.LongJdkDataBuffer;
+import org.tensorflow.nio.buffer.impl.single.ShortJdkDataBuffer;
+import org.tensorflow.nio.buffer.impl.single.StringUtf8DataBuffer;
 
 /**
  * Helper class for creating {@link DataBuffer} instances.
@@ -41,18 +72,205 @@ import org.tensorflow.nio.buffer.impl.large.LongLargeDataBuffer;
 public final class DataBuffers {
 
   /**
-   * Creates a buffer of bytes that can store up to `capacity` values
+   * Returns the allocation mode used by default when creating new buffers of primitive types.
+   * <p>
+   * Unless changed by {@link #defaultAllocationMode(AllocationMode)}, the default mode is {@link
+   * AllocationMode#HEAP}, or the one set by the {@code tensorflow.nio.allocationMode} system
+   * property. The name of the mode in this property is case-insensitive and unrecognized names are
+   * ignored.
+   *
+   * @return the default allocation mode
+   */
+  public static AllocationMode defaultAllocationMode() {
+    return defaultAllocationMode;
+  }
+
+  /**
+   * Sets the allocation mode used by default when creating new buffers of primitive types, for the
+   * whole process.
+   *
+   * @param mode the new default allocation mode
+   */
+  public static void defaultAllocationMode(AllocationMode mode) {
+    if (mode == null) {
+      throw new IllegalArgumentException("Allocation mode cannot be null");
+    }
+    defaultAllocationMode = mode;
+  }
+
+  /**
+   * Returns the alignment used by default when creating aligned buffers of primitive types.
+   * <p>
+   * Unless changed by {@link #defaultAlignment(int)}, the default alignment is 64 bytes, the size
+   * of a cache line and of the widest SIMD registers on most platforms, or the one set by the
+   * {@code tensorflow.nio.alignment} system property, ignored if it is not a positive power of
+   * two. It is used when allocating buffers in the {@link AllocationMode#ALIGNED} mode.
+   *
+   * @return the default alignment, in bytes
+   */
+  public static int defaultAlignment() {
+    return defaultAlignment;
+  }
+
+  /**
+   * Sets the alignment used by default when creating aligned buffers of primitive types, for the
+   * whole process.
+   *
+   * @param alignment the new default alignment, a power of two in bytes
+   */
+  public static void defaultAlignment(int alignment) {
+    Alignment.validate(alignment);
+    defaultAlignment = alignment;
+  }
+
+  /**
+   * Returns the alignment of the values of a buffer in native memory.
+   * <p>
+   * The alignment of a buffer is the largest power of two dividing the address of its first value,
+   * or the smallest of these powers if its values are split in multiple chunks of memory.
+   *
+   * @param buffer a buffer
+   * @return the alignment of the buffer, in bytes, or 0 if its values are not stored in native
+   * memory or if their address is unknown
+   */
+  public static long alignment(DataBuffer<?> buffer) {
+    return Alignment.of(buffer);
+  }
+
+  /**
+   * Releases the native memory held by a buffer, without waiting for it to be garbage-collected.
+   * <p>
+   * Buffers allocated in a single block of native memory, like those created for capacities too
+   * large to be indexed by a JDK buffer, hold a reference to this memory, as do each of their
+   * duplicates and slices. This method releases the reference of the given buffer, which cannot be
+   * accessed anymore, and the memory is freed once all the buffers sharing it are released or no
+   * longer reachable. Other buffers are left untouched.
+   *
+   * @param buffer buffer to release
+   */
+  public static void release(DataBuffer<?> buffer) {
+    if (buffer instanceof AutoCloseable) {
+      try {
+        ((AutoCloseable) buffer).close();
+      } catch (Exception e) {
+        throw new IllegalStateException("Failed to release buffer", e);
+      }
+    }
+  }
+
+  /**
+   * Creates a buffer of bytes that can store up to `capacity` values, using the {@link
+   * #defaultAllocationMode() default allocation mode}
    *
    * @param capacity capacity of the buffer to allocate
    * @return a new buffer
    */
   public static ByteDataBuffer ofBytes(long capacity) {
+    return ofBytes(capacity, defaultAllocationMode);
+  }
+
+  /**
+   * Creates a buffer of bytes that can store up to `capacity` values, using the given allocation
+   * mode
+   * <p>
+   * Buffers too large to be indexed by a single JDK buffer are allocated in a single block of
+   * native memory when the platform supports it, regardless of the allocation mode, so that all
+   * their values can be accessed at the same cost. Otherwise, multiple JDK buffers are joined
+   * together.
+   *
+   * @param capacity capacity of the buffer to allocate
+   * @param mode where the values of the buffer should be stored
+   * @return a new buffer
+   */
+  public static ByteDataBuffer ofBytes(long capacity, AllocationMode mode) {
+    if (mode == AllocationMode.ALIGNED) {
+      return ofBytes(capacity, defaultAlignment);
+    }
+    if (mode == AllocationMode.DIRECT) {
+      if (capacity > ByteJdkDataBuffer.MAX_DIRECT_CAPACITY) {
+        if (UnsafeReference.isAvailable()) {
+          return ByteRawDataBuffer.allocate(capacity);
+        }
+        return ByteLargeDataBuffer.allocateDirect(capacity);
+      }
+      return ByteJdkDataBuffer.allocateDirect(capacity);
+    }
     if (capacity > ByteJdkDataBuffer.MAX_CAPACITY) {
+      if (UnsafeReference.isAvailable()) {
+        return ByteRawDataBuffer.allocate(capacity);
+      }
       return ByteLargeDataBuffer.allocate(capacity);
     }
     return ByteJdkDataBuffer.allocate(capacity);
   }
 
+  /**
+   * Creates a buffer of bytes that can store up to `capacity` values, in native memory starting at
+   * an address aligned on the given boundary
+   * <p>
+   * Buffers too large to be indexed by a single JDK buffer are allocated in a single aligned block
+   * of native memory when the platform supports it. Otherwise, multiple aligned JDK buffers are
+   * joined together, each of them storing a multiple of {@code alignment} bytes.
+   *
+   * @param capacity capacity of the buffer to allocate
+   * @param alignment alignment of the values of the buffer, a power of two in bytes
+   * @return a new buffer
+   * @throws IllegalArgumentException if the alignment is not a positive power of two
+   * @throws UnsupportedOperationException if native addresses are not accessible on this JVM
+   * @see #defaultAlignment()
+   */
+  public static ByteDataBuffer ofBytes(long capacity, int alignment) {
+    Alignment.validate(alignment);
+    if (capacity > Alignment.chunkCapacity(ByteJdkDataBuffer.MAX_DIRECT_CAPACITY, Byte.BYTES,
+        alignment)) {
+      if (UnsafeReference.isAvailable()) {
+        return ByteRawDataBuffer.allocate(capacity, alignment);
+      }
+      return ByteLargeDataBuffer.allocateDirect(capacity, alignment);
+    }
+    return ByteJdkDataBuffer.allocateDirect(capacity, alignment);
+  }
+
+  /**
+   * Maps a region of a file channel into a buffer of bytes that can store up to `capacity`
+   * values.
+   * <p>
+   * Values are read and written in the native byte order of the platform. Regions larger than what
+   * a single JDK buffer can map are split in multiple mappings joined together.
+   *
+   * @param channel channel of the file to map
+   * @param mode mapping mode
+   * @param position position in the file, in bytes, where the mapped region starts
+   * @param capacity number of values to map
+   * @return a new buffer
+   * @throws IOException if the file could not be mapped
+   */
+  public static ByteDataBuffer mapBytes(FileChannel channel, MapMode mode, long position,
+      long capacity) throws IOException {
+    if (capacity > ByteJdkDataBuffer.MAX_DIRECT_CAPACITY) {
+      return ByteLargeDataBuffer.map(channel, mode, position, capacity);
+    }
+    return ByteJdkDataBuffer.map(channel, mode, position, capacity);
+  }
+
+  /**
+   * Maps a region of a file into a buffer of bytes that can store up to `capacity` values.
+   *
+   * @param path path of the file to map
+   * @param mode mapping mode, {@link MapMode#READ_WRITE} creates the file if it does not exist
+   * @param position position in the file, in bytes, where the mapped region starts
+   * @param capacity number of values to map
+   * @return a new buffer
+   * @throws IOException if the file could not be opened or mapped
+   * @see #mapBytes(FileChannel, MapMode, long, long)
+   */
+  public static ByteDataBuffer mapBytes(Path path, MapMode mode, long position, long capacity)
+      throws IOException {
+    try (FileChannel channel = openChannel(path, mode)) {
+      return mapBytes(channel, mode, position, capacity);
+    }
+  }
+
   /**
    * Wraps an array of bytes into a data buffer.
    *
@@ -76,18 +294,118 @@ public final class DataBuffers {
   }
 
   /**
-   * Creates a buffer of longs that can store up to `capacity` values
+   * Creates a buffer of longs that can store up to `capacity` values, using the {@link
+   * #defaultAllocationMode() default allocation mode}
    *
    * @param capacity capacity of the buffer to allocate
    * @return a new buffer
    */
   public static LongDataBuffer ofLongs(long capacity) {
+    return ofLongs(capacity, defaultAllocationMode);
+  }
+
+  /**
+   * Creates a buffer of longs that can store up to `capacity` values, using the given allocation
+   * mode
+   * <p>
+   * Buffers too large to be indexed by a single JDK buffer are allocated in a single block of
+   * native memory when the platform supports it, regardless of the allocation mode, so that all
+   * their values can be accessed at the same cost. Otherwise, multiple JDK buffers are joined
+   * together.
+   *
+   * @param capacity capacity of the buffer to allocate
+   * @param mode where the values of the buffer should be stored
+   * @return a new buffer
+   */
+  public static LongDataBuffer ofLongs(long capacity, AllocationMode mode) {
+    if (mode == AllocationMode.ALIGNED) {
+      return ofLongs(capacity, defaultAlignment);
+    }
+    if (mode == AllocationMode.DIRECT) {
+      if (capacity > LongJdkDataBuffer.MAX_DIRECT_CAPACITY) {
+        if (UnsafeReference.isAvailable()) {
+          return LongRawDataBuffer.allocate(capacity);
+        }
+        return LongLargeDataBuffer.allocateDirect(capacity);
+      }
+      return LongJdkDataBuffer.allocateDirect(capacity);
+    }
     if (capacity > LongJdkDataBuffer.MAX_CAPACITY) {
+      if (UnsafeReference.isAvailable()) {
+        return LongRawDataBuffer.allocate(capacity);
+      }
       return LongLargeDataBuffer.allocate(capacity);
     }
     return LongJdkDataBuffer.allocate(capacity);
   }
 
+  /**
+   * Creates a buffer of longs that can store up to `capacity` values, in native memory starting at
+   * an address aligned on the given boundary
+   * <p>
+   * Buffers too large to be indexed by a single JDK buffer are allocated in a single aligned block
+   * of native memory when the platform supports it. Otherwise, multiple aligned JDK buffers are
+   * joined together, each of them storing a multiple of {@code alignment} bytes.
+   *
+   * @param capacity capacity of the buffer to allocate
+   * @param alignment alignment of the values of the buffer, a power of two in bytes
+   * @return a new buffer
+   * @throws IllegalArgumentException if the alignment is not a positive power of two
+   * @throws UnsupportedOperationException if native addresses are not accessible on this JVM
+   * @see #defaultAlignment()
+   */
+  public static LongDataBuffer ofLongs(long capacity, int alignment) {
+    Alignment.validate(alignment);
+    if (capacity > Alignment.chunkCapacity(LongJdkDataBuffer.MAX_DIRECT_CAPACITY, Long.BYTES,
+        alignment)) {
+      if (UnsafeReference.isAvailable()) {
+        return LongRawDataBuffer.allocate(capacity, alignment);
+      }
+      return LongLargeDataBuffer.allocateDirect(capacity, alignment);
+    }
+    return LongJdkDataBuffer.allocateDirect(capacity, alignment);
+  }
+
+  /**
+   * Maps a region of a file channel into a buffer of longs that can store up to `capacity`
+   * values.
+   * <p>
+   * Values are read and written in the native byte order of the platform. Regions larger than what
+   * a single JDK buffer can map are split in multiple mappings joined together.
+   *
+   * @param channel channel of the file to map
+   * @param mode mapping mode
+   * @param position position in the file, in bytes, where the mapped region starts
+   * @param capacity number of values to map
+   * @return a new buffer
+   * @throws IOException if the file could not be mapped
+   */
+  public static LongDataBuffer mapLongs(FileChannel channel, MapMode mode, long position,
+      long capacity) throws IOException {
+    if (capacity > LongJdkDataBuffer.MAX_DIRECT_CAPACITY) {
+      return LongLargeDataBuffer.map(channel, mode, position, capacity);
+    }
+    return LongJdkDataBuffer.map(channel, mode, position, capacity);
+  }
+
+  /**
+   * Maps a region of a file into a buffer of longs that can store up to `capacity` values.
+   *
+   * @param path path of the file to map
+   * @param mode mapping mode, {@link MapMode#READ_WRITE} creates the file if it does not exist
+   * @param position position in the file, in bytes, where the mapped region starts
+   * @param capacity number of values to map
+   * @return a new buffer
+   * @throws IOException if the file could not be opened or mapped
+   * @see #mapLongs(FileChannel, MapMode, long, long)
+   */
+  public static LongDataBuffer mapLongs(Path path, MapMode mode, long position, long capacity)
+      throws IOException {
+    try (FileChannel channel = openChannel(path, mode)) {
+      return mapLongs(channel, mode, position, capacity);
+    }
+  }
+
   /**
    * Wraps an array of longs into a data buffer.
    *
@@ -111,18 +429,118 @@ public final class DataBuffers {
   }
 
   /**
-   * Creates a buffer of integers that can store up to `capacity` values
+   * Creates a buffer of integers that can store up to `capacity` values, using the {@link
+   * #defaultAllocationMode() default allocation mode}
    *
    * @param capacity capacity of the buffer to allocate
    * @return a new buffer
    */
   public static IntDataBuffer ofIntegers(long capacity) {
+    return ofIntegers(capacity, defaultAllocationMode);
+  }
+
+  /**
+   * Creates a buffer of integers that can store up to `capacity` values, using the given allocation
+   * mode
+   * <p>
+   * Buffers too large to be indexed by a single JDK buffer are allocated in a single block of
+   * native memory when the platform supports it, regardless of the allocation mode, so that all
+   * their values can be accessed at the same cost. Otherwise, multiple JDK buffers are joined
+   * together.
+   *
+   * @param capacity capacity of the buffer to allocate
+   * @param mode where the values of the buffer should be stored
+   * @return a new buffer
+   */
+  public static IntDataBuffer ofIntegers(long capacity, AllocationMode mode) {
+    if (mode == AllocationMode.ALIGNED) {
+      return ofIntegers(capacity, defaultAlignment);
+    }
+    if (mode == AllocationMode.DIRECT) {
+      if (capacity > IntJdkDataBuffer.MAX_DIRECT_CAPACITY) {
+        if (UnsafeReference.isAvailable()) {
+          return IntRawDataBuffer.allocate(capacity);
+        }
+        return IntLargeDataBuffer.allocateDirect(capacity);
+      }
+      return IntJdkDataBuffer.allocateDirect(capacity);
+    }
     if (capacity > IntJdkDataBuffer.MAX_CAPACITY) {
+      if (UnsafeReference.isAvailable()) {
+        return IntRawDataBuffer.allocate(capacity);
+      }
       return IntLargeDataBuffer.allocate(capacity);
     }
     return IntJdkDataBuffer.allocate(capacity);
   }
 
+  /**
+   * Creates a buffer of integers that can store up to `capacity` values, in native memory starting
+   * at an address aligned on the given boundary
+   * <p>
+   * Buffers too large to be indexed by a single JDK buffer are allocated in a single aligned block
+   * of native memory when the platform supports it. Otherwise, multiple aligned JDK buffers are
+   * joined together, each of them storing a multiple of {@code alignment} bytes.
+   *
+   * @param capacity capacity of the buffer to allocate
+   * @param alignment alignment of the values of the buffer, a power of two in bytes
+   * @return a new buffer
+   * @throws IllegalArgumentException if the alignment is not a positive power of two
+   * @throws UnsupportedOperationException if native addresses are not accessible on this JVM
+   * @see #defaultAlignment()
+   */
+  public static IntDataBuffer ofIntegers(long capacity, int alignment) {
+    Alignment.validate(alignment);
+    if (capacity > Alignment.chunkCapacity(IntJdkDataBuffer.MAX_DIRECT_CAPACITY, Integer.BYTES,
+        alignment)) {
+      if (UnsafeReference.isAvailable()) {
+        return IntRawDataBuffer.allocate(capacity, alignment);
+      }
+      return IntLargeDataBuffer.allocateDirect(capacity, alignment);
+    }
+    return IntJdkDataBuffer.allocateDirect(capacity, alignment);
+  }
+
+  /**
+   * Maps a region of a file channel into a buffer of integers that can store up to `capacity`
+   * values.
+   * <p>
+   * Values are read and written in the native byte order of the platform. Regions larger than what
+   * a single JDK buffer can map are split in multiple mappings joined together.
+   *
+   * @param channel channel of the file to map
+   * @param mode mapping mode
+   * @param position position in the file, in bytes, where the mapped region starts
+   * @param capacity number of values to map
+   * @return a new buffer
+   * @throws IOException if the file could not be mapped
+   */
+  public static IntDataBuffer mapIntegers(FileChannel channel, MapMode mode, long position,
+      long capacity) throws IOException {
+    if (capacity > IntJdkDataBuffer.MAX_DIRECT_CAPACITY) {
+      return IntLargeDataBuffer.map(channel, mode, position, capacity);
+    }
+    return IntJdkDataBuffer.map(channel, mode, position, capacity);
+  }
+
+  /**
+   * Maps a region of a file into a buffer of integers that can store up to `capacity` values.
+   *
+   * @param path path of the file to map
+   * @param mode mapping mode, {@link MapMode#READ_WRITE} creates the file if it does not exist
+   * @param position position in the file, in bytes, where the mapped region starts
+   * @param capacity number of values to map
+   * @return a new buffer
+   * @throws IOException if the file could not be opened or mapped
+   * @see #mapIntegers(FileChannel, MapMode, long, long)
+   */
+  public static IntDataBuffer mapIntegers(Path path, MapMode mode, long position, long capacity)
+      throws IOException {
+    try (FileChannel channel = openChannel(path, mode)) {
+      return mapIntegers(channel, mode, position, capacity);
+    }
+  }
+
   /**
    * Wraps an array of integers into a data buffer.
    *
@@ -146,18 +564,253 @@ public final class DataBuffers {
   }
 
   /**
-   * Creates a buffer of doubles that can store up to `capacity` values
+   * Creates a buffer of shorts that can store up to `capacity` values, using the {@link
+   * #defaultAllocationMode() default allocation mode}
+   *
+   * @param capacity capacity of the buffer to allocate
+   * @return a new buffer
+   */
+  public static ShortDataBuffer ofShorts(long capacity) {
+    return ofShorts(capacity, defaultAllocationMode);
+  }
+
+  /**
+   * Creates a buffer of shorts that can store up to `capacity` values, using the given allocation
+   * mode
+   * <p>
+   * Buffers too large to be indexed by a single JDK buffer are allocated in a single block of
+   * native memory when the platform supports it, regardless of the allocation mode, so that all
+   * their values can be accessed at the same cost. Otherwise, multiple JDK buffers are joined
+   * together.
+   *
+   * @param capacity capacity of the buffer to allocate
+   * @param mode where the values of the buffer should be stored
+   * @return a new buffer
+   */
+  public static ShortDataBuffer ofShorts(long capacity, AllocationMode mode) {
+    if (mode == AllocationMode.ALIGNED) {
+      return ofShorts(capacity, defaultAlignment);
+    }
+    if (mode == AllocationMode.DIRECT) {
+      if (capacity > ShortJdkDataBuffer.MAX_DIRECT_CAPACITY) {
+        if (UnsafeReference.isAvailable()) {
+          return ShortRawDataBuffer.allocate(capacity);
+        }
+        return ShortLargeDataBuffer.allocateDirect(capacity);
+      }
+      return ShortJdkDataBuffer.allocateDirect(capacity);
+    }
+    if (capacity > ShortJdkDataBuffer.MAX_CAPACITY) {
+      if (UnsafeReference.isAvailable()) {
+        return ShortRawDataBuffer.allocate(capacity);
+      }
+      return ShortLargeDataBuffer.allocate(capacity);
+    }
+    return ShortJdkDataBuffer.allocate(capacity);
+  }
+
+  /**
+   * Creates a buffer of shorts that can store up to `capacity` values, in native memory starting at
+   * an address aligned on the given boundary
+   * <p>
+   * Buffers too large to be indexed by a single JDK buffer are allocated in a single aligned block
+   * of native memory when the platform supports it. Otherwise, multiple aligned JDK buffers are
+   * joined together, each of them storing a multiple of {@code alignment} bytes.
+   *
+   * @param capacity capacity of the buffer to allocate
+   * @param alignment alignment of the values of the buffer, a power of two in bytes
+   * @return a new buffer
+   * @throws IllegalArgumentException if the alignment is not a positive power of two
+   * @throws UnsupportedOperationException if native addresses are not accessible on this JVM
+   * @see #defaultAlignment()
+   */
+  public static ShortDataBuffer ofShorts(long capacity, int alignment) {
+    Alignment.validate(alignment);
+    if (capacity > Alignment.chunkCapacity(ShortJdkDataBuffer.MAX_DIRECT_CAPACITY, Short.BYTES,
+        alignment)) {
+      if (UnsafeReference.isAvailable()) {
+        return ShortRawDataBuffer.allocate(capacity, alignment);
+      }
+      return ShortLargeDataBuffer.allocateDirect(capacity, alignment);
+    }
+    return ShortJdkDataBuffer.allocateDirect(capacity, alignment);
+  }
+
+  /**
+   * Maps a region of a file channel into a buffer of shorts that can store up to `capacity`
+   * values.
+   * <p>
+   * Values are read and written in the native byte order of the platform. Regions larger than what
+   * a single JDK buffer can map are split in multiple mappings joined together.
+   *
+   * @param channel channel of the file to map
+   * @param mode mapping mode
+   * @param position position in the file, in bytes, where the mapped region starts
+   * @param capacity number of values to map
+   * @return a new buffer
+   * @throws IOException if the file could not be mapped
+   */
+  public static ShortDataBuffer mapShorts(FileChannel channel, MapMode mode, long position,
+      long capacity) throws IOException {
+    if (capacity > ShortJdkDataBuffer.MAX_DIRECT_CAPACITY) {
+      return ShortLargeDataBuffer.map(channel, mode, position, capacity);
+    }
+    return ShortJdkDataBuffer.map(channel, mode, position, capacity);
+  }
+
+  /**
+   * Maps a region of a file into a buffer of shorts that can store up to `capacity` values.
+   *
+   * @param path path of the file to map
+   * @param mode mapping mode, {@link MapMode#READ_WRITE} creates the file if it does not exist
+   * @param position position in the file, in bytes, where the mapped region starts
+   * @param capacity number of values to map
+   * @return a new buffer
+   * @throws IOException if the file could not be opened or mapped
+   * @see #mapShorts(FileChannel, MapMode, long, long)
+   */
+  public static ShortDataBuffer mapShorts(Path path, MapMode mode, long position, long capacity)
+      throws IOException {
+    try (FileChannel channel = openChannel(path, mode)) {
+      return mapShorts(channel, mode, position, capacity);
+    }
+  }
+
+  /**
+   * Wraps an array of shorts into a data buffer.
+   *
+   * @param array array to wrap
+   * @param readOnly true if the buffer created must be read-only
+   * @return a new buffer
+   */
+  public static ShortDataBuffer wrap(short[] array, boolean readOnly) {
+    ShortBuffer buf = ShortBuffer.wrap(array);
+    return ShortJdkDataBuffer.wrap(readOnly ? buf.asReadOnlyBuffer() : buf);
+  }
+
+  /**
+   * Wraps a JDK short buffer into a data buffer.
+   *
+   * @param buf buffer to wrap
+   * @return a new buffer
+   */
+  public static ShortDataBuffer wrap(ShortBuffer buf) {
+    return ShortJdkDataBuffer.wrap(buf);
+  }
+
+  /**
+   * Creates a buffer of doubles that can store up to `capacity` values, using the {@link
+   * #defaultAllocationMode() default allocation mode}
    *
    * @param capacity capacity of the buffer to allocate
    * @return a new buffer
    */
   public static DoubleDataBuffer ofDoubles(long capacity) {
+    return ofDoubles(capacity, defaultAllocationMode);
+  }
+
+  /**
+   * Creates a buffer of doubles that can store up to `capacity` values, using the given allocation
+   * mode
+   * <p>
+   * Buffers too large to be indexed by a single JDK buffer are allocated in a single block of
+   * native memory when the platform supports it, regardless of the allocation mode, so that all
+   * their values can be accessed at the same cost. Otherwise, multiple JDK buffers are joined
+   * together.
+   *
+   * @param capacity capacity of the buffer to allocate
+   * @param mode where the values of the buffer should be stored
+   * @return a new buffer
+   */
+  public static DoubleDataBuffer ofDoubles(long capacity, AllocationMode mode) {
+    if (mode == AllocationMode.ALIGNED) {
+      return ofDoubles(capacity, defaultAlignment);
+    }
+    if (mode == AllocationMode.DIRECT) {
+      if (capacity > DoubleJdkDataBuffer.MAX_DIRECT_CAPACITY) {
+        if (UnsafeReference.isAvailable()) {
+          return DoubleRawDataBuffer.allocate(capacity);
+        }
+        return DoubleLargeDataBuffer.allocateDirect(capacity);
+      }
+      return DoubleJdkDataBuffer.allocateDirect(capacity);
+    }
     if (capacity > DoubleJdkDataBuffer.MAX_CAPACITY) {
+      if (UnsafeReference.isAvailable()) {
+        return DoubleRawDataBuffer.allocate(capacity);
+      }
       return DoubleLargeDataBuffer.allocate(capacity);
     }
     return DoubleJdkDataBuffer.allocate(capacity);
   }
 
+  /**
+   * Creates a buffer of doubles that can store up to `capacity` values, in native memory starting
+   * at an address aligned on the given boundary
+   * <p>
+   * Buffers too large to be indexed by a single JDK buffer are allocated in a single aligned block
+   * of native memory when the platform supports it. Otherwise, multiple aligned JDK buffers are
+   * joined together, each of them storing a multiple of {@code alignment} bytes.
+   *
+   * @param capacity capacity of the buffer to allocate
+   * @param alignment alignment of the values of the buffer, a power of two in bytes
+   * @return a new buffer
+   * @throws IllegalArgumentException if the alignment is not a positive power of two
+   * @throws UnsupportedOperationException if native addresses are not accessible on this JVM
+   * @see #defaultAlignment()
+   */
+  public static DoubleDataBuffer ofDoubles(long capacity, int alignment) {
+    Alignment.validate(alignment);
+    if (capacity > Alignment.chunkCapacity(DoubleJdkDataBuffer.MAX_DIRECT_CAPACITY, Double.BYTES,
+        alignment)) {
+      if (UnsafeReference.isAvailable()) {
+        return DoubleRawDataBuffer.allocate(capacity, alignment);
+      }
+      return DoubleLargeDataBuffer.allocateDirect(capacity, alignment);
+    }
+    return DoubleJdkDataBuffer.allocateDirect(capacity, alignment);
+  }
+
+  /**
+   * Maps a region of a file channel into a buffer of doubles that can store up to `capacity`
+   * values.
+   * <p>
+   * Values are read and written in the native byte order of the platform. Regions larger than what
+   * a single JDK buffer can map are split in multiple mappings joined together.
+   *
+   * @param channel channel of the file to map
+   * @param mode mapping mode
+   * @param position position in the file, in bytes, where the mapped region starts
+   * @param capacity number of values to map
+   * @return a new buffer
+   * @throws IOException if the file could not be mapped
+   */
+  public static DoubleDataBuffer mapDoubles(FileChannel channel, MapMode mode, long position,
+      long capacity) throws IOException {
+    if (capacity > DoubleJdkDataBuffer.MAX_DIRECT_CAPACITY) {
+      return DoubleLargeDataBuffer.map(channel, mode, position, capacity);
+    }
+    return DoubleJdkDataBuffer.map(channel, mode, position, capacity);
+  }
+
+  /**
+   * Maps a region of a file into a buffer of doubles that can store up to `capacity` values.
+   *
+   * @param path path of the file to map
+   * @param mode mapping mode, {@link MapMode#READ_WRITE} creates the file if it does not exist
+   * @param position position in the file, in bytes, where the mapped region starts
+   * @param capacity number of values to map
+   * @return a new buffer
+   * @throws IOException if the file could not be opened or mapped
+   * @see #mapDoubles(FileChannel, MapMode, long, long)
+   */
+  public static DoubleDataBuffer mapDoubles(Path path, MapMode mode, long position, long capacity)
+      throws IOException {
+    try (FileChannel channel = openChannel(path, mode)) {
+      return mapDoubles(channel, mode, position, capacity);
+    }
+  }
+
   /**
    * Wraps an array of doubles into a data buffer.
    *
@@ -181,18 +834,118 @@ public final class DataBuffers {
   }
 
   /**
-   * Creates a buffer of floats that can store up to `capacity` values
+   * Creates a buffer of floats that can store up to `capacity` values, using the {@link
+   * #defaultAllocationMode() default allocation mode}
    *
    * @param capacity capacity of the buffer to allocate
    * @return a new buffer
    */
   public static FloatDataBuffer ofFloats(long capacity) {
+    return ofFloats(capacity, defaultAllocationMode);
+  }
+
+  /**
+   * Creates a buffer of floats that can store up to `capacity` values, using the given allocation
+   * mode
+   * <p>
+   * Buffers too large to be indexed by a single JDK buffer are allocated in a single block of
+   * native memory when the platform supports it, regardless of the allocation mode, so that all
+   * their values can be accessed at the same cost. Otherwise, multiple JDK buffers are joined
+   * together.
+   *
+   * @param capacity capacity of the buffer to allocate
+   * @param mode where the values of the buffer should be stored
+   * @return a new buffer
+   */
+  public static FloatDataBuffer ofFloats(long capacity, AllocationMode mode) {
+    if (mode == AllocationMode.ALIGNED) {
+      return ofFloats(capacity, defaultAlignment);
+    }
+    if (mode == AllocationMode.DIRECT) {
+      if (capacity > FloatJdkDataBuffer.MAX_DIRECT_CAPACITY) {
+        if (UnsafeReference.isAvailable()) {
+          return FloatRawDataBuffer.allocate(capacity);
+        }
+        return FloatLargeDataBuffer.allocateDirect(capacity);
+      }
+      return FloatJdkDataBuffer.allocateDirect(capacity);
+    }
     if (capacity > FloatJdkDataBuffer.MAX_CAPACITY) {
+      if (UnsafeReference.isAvailable()) {
+        return FloatRawDataBuffer.allocate(capacity);
+      }
       return FloatLargeDataBuffer.allocate(capacity);
     }
     return FloatJdkDataBuffer.allocate(capacity);
   }
 
+  /**
+   * Creates a buffer of floats that can store up to `capacity` values, in native memory starting at
+   * an address aligned on the given boundary
+   * <p>
+   * Buffers too large to be indexed by a single JDK buffer are allocated in a single aligned block
+   * of native memory when the platform supports it. Otherwise, multiple aligned JDK buffers are
+   * joined together, each of them storing a multiple of {@code alignment} bytes.
+   *
+   * @param capacity capacity of the buffer to allocate
+   * @param alignment alignment of the values of the buffer, a power of two in bytes
+   * @return a new buffer
+   * @throws IllegalArgumentException if the alignment is not a positive power of two
+   * @throws UnsupportedOperationException if native addresses are not accessible on this JVM
+   * @see #defaultAlignment()
+   */
+  public static FloatDataBuffer ofFloats(long capacity, int alignment) {
+    Alignment.validate(alignment);
+    if (capacity > Alignment.chunkCapacity(FloatJdkDataBuffer.MAX_DIRECT_CAPACITY, Float.BYTES,
+        alignment)) {
+      if (UnsafeReference.isAvailable()) {
+        return FloatRawDataBuffer.allocate(capacity, alignment);
+      }
+      return FloatLargeDataBuffer.allocateDirect(capacity, alignment);
+    }
+    return FloatJdkDataBuffer.allocateDirect(capacity, alignment);
+  }
+
+  /**
+   * Maps a region of a file channel into a buffer of floats that can store up to `capacity`
+   * values.
+   * <p>
+   * Values are read and written in the native byte order of the platform. Regions larger than what
+   * a single JDK buffer can map are split in multiple mappings joined together.
+   *
+   * @param channel channel of the file to map
+   * @param mode mapping mode
+   * @param position position in the file, in bytes, where the mapped region starts
+   * @param capacity number of values to map
+   * @return a new buffer
+   * @throws IOException if the file could not be mapped
+   */
+  public static FloatDataBuffer mapFloats(FileChannel channel, MapMode mode, long position,
+      long capacity) throws IOException {
+    if (capacity > FloatJdkDataBuffer.MAX_DIRECT_CAPACITY) {
+      return FloatLargeDataBuffer.map(channel, mode, position, capacity);
+    }
+    return FloatJdkDataBuffer.map(channel, mode, position, capacity);
+  }
+
+  /**
+   * Maps a region of a file into a buffer of floats that can store up to `capacity` values.
+   *
+   * @param path path of the file to map
+   * @param mode mapping mode, {@link MapMode#READ_WRITE} creates the file if it does not exist
+   * @param position position in the file, in bytes, where the mapped region starts
+   * @param capacity number of values to map
+   * @return a new buffer
+   * @throws IOException if the file could not be opened or mapped
+   * @see #mapFloats(FileChannel, MapMode, long, long)
+   */
+  public static FloatDataBuffer mapFloats(Path path, MapMode mode, long position, long capacity)
+      throws IOException {
+    try (FileChannel channel = openChannel(path, mode)) {
+      return mapFloats(channel, mode, position, capacity);
+    }
+  }
+
   /**
    * Wraps an array of floats into a data buffer.
    *
@@ -215,6 +968,192 @@ public final class DataBuffers {
     return FloatJdkDataBuffer.wrap(buf);
   }
 
+  /**
+   * Creates a buffer of half-precision floats that can store up to `capacity` values, using the
+   * {@link #defaultAllocationMode() default allocation mode}
+   *
+   * @param capacity capacity of the buffer to allocate
+   * @return a new buffer
+   */
+  public static HalfDataBuffer ofHalfs(long capacity) {
+    return ofHalfs(capacity, defaultAllocationMode);
+  }
+
+  /**
+   * Creates a buffer of half-precision floats that can store up to `capacity` values, using the
+   * given allocation mode
+   * <p>
+   * Values are stored on 16 bits. Buffers too large to be indexed by a single JDK buffer are split
+   * in multiple ones joined together.
+   *
+   * @param capacity capacity of the buffer to allocate
+   * @param mode where the values of the buffer should be stored
+   * @return a new buffer
+   */
+  public static HalfDataBuffer ofHalfs(long capacity, AllocationMode mode) {
+    if (mode != AllocationMode.HEAP) {
+      if (capacity > HalfJdkDataBuffer.MAX_DIRECT_CAPACITY) {
+        return HalfLargeDataBuffer.allocateDirect(capacity);
+      }
+      return HalfJdkDataBuffer.allocateDirect(capacity);
+    }
+    if (capacity > HalfJdkDataBuffer.MAX_CAPACITY) {
+      return HalfLargeDataBuffer.allocate(capacity);
+    }
+    return HalfJdkDataBuffer.allocate(capacity);
+  }
+
+  /**
+   * Maps a region of a file channel into a buffer of half-precision floats that can store up to
+   * `capacity` values.
+   * <p>
+   * Values are read and written in binary16 format, in the native byte order of the platform.
+   * Regions larger than what a single JDK buffer can map are split in multiple mappings joined
+   * together.
+   *
+   * @param channel channel of the file to map
+   * @param mode mapping mode
+   * @param position position in the file, in bytes, where the mapped region starts
+   * @param capacity number of values to map
+   * @return a new buffer
+   * @throws IOException if the file could not be mapped
+   */
+  public static HalfDataBuffer mapHalfs(FileChannel channel, MapMode mode, long position,
+      long capacity) throws IOException {
+    if (capacity > HalfJdkDataBuffer.MAX_DIRECT_CAPACITY) {
+      return HalfLargeDataBuffer.map(channel, mode, position, capacity);
+    }
+    return HalfJdkDataBuffer.map(channel, mode, position, capacity);
+  }
+
+  /**
+   * Maps a region of a file into a buffer of half-precision floats that can store up to `capacity`
+   * values.
+   *
+   * @param path path of the file to map
+   * @param mode mapping mode, {@link MapMode#READ_WRITE} creates the file if it does not exist
+   * @param position position in the file, in bytes, where the mapped region starts
+   * @param capacity number of values to map
+   * @return a new buffer
+   * @throws IOException if the file could not be opened or mapped
+   * @see #mapHalfs(FileChannel, MapMode, long, long)
+   */
+  public static HalfDataBuffer mapHalfs(Path path, MapMode mode, long position, long capacity)
+      throws IOException {
+    try (FileChannel channel = openChannel(path, mode)) {
+      return mapHalfs(channel, mode, position, capacity);
+    }
+  }
+
+  /**
+   * Creates a buffer of bfloat16 values that can store up to `capacity` values, using the {@link
+   * #defaultAllocationMode() default allocation mode}
+   *
+   * @param capacity capacity of the buffer to allocate
+   * @return a new buffer
+   */
+  public static BFloat16DataBuffer ofBFloat16s(long capacity) {
+    return ofBFloat16s(capacity, defaultAllocationMode);
+  }
+
+  /**
+   * Creates a buffer of bfloat16 values that can store up to `capacity` values, using the given
+   * allocation mode
+   * <p>
+   * Values are stored on 16 bits. Buffers too large to be indexed by a single JDK buffer are split
+   * in multiple ones joined together.
+   *
+   * @param capacity capacity of the buffer to allocate
+   * @param mode where the values of the buffer should be stored
+   * @return a new buffer
+   */
+  public static BFloat16DataBuffer ofBFloat16s(long capacity, AllocationMode mode) {
+    if (mode != AllocationMode.HEAP) {
+      if (capacity > BFloat16JdkDataBuffer.MAX_DIRECT_CAPACITY) {
+        return BFloat16LargeDataBuffer.allocateDirect(capacity);
+      }
+      return BFloat16JdkDataBuffer.allocateDirect(capacity);
+    }
+    if (capacity > BFloat16JdkDataBuffer.MAX_CAPACITY) {
+      return BFloat16LargeDataBuffer.allocate(capacity);
+    }
+    return BFloat16JdkDataBuffer.allocate(capacity);
+  }
+
+  /**
+   * Maps a region of a file channel into a buffer of bfloat16 values that can store up to
+   * `capacity` values.
+   * <p>
+   * Values are read and written in bfloat16 format, in the native byte order of the platform.
+   * Regions larger than what a single JDK buffer can map are split in multiple mappings joined
+   * together.
+   *
+   * @param channel channel of the file to map
+   * @param mode mapping mode
+   * @param position position in the file, in bytes, where the mapped region starts
+   * @param capacity number of values to map
+   * @return a new buffer
+   * @throws IOException if the file could not be mapped
+   */
+  public static BFloat16DataBuffer mapBFloat16s(FileChannel channel, MapMode mode, long position,
+      long capacity) throws IOException {
+    if (capacity > BFloat16JdkDataBuffer.MAX_DIRECT_CAPACITY) {
+      return BFloat16LargeDataBuffer.map(channel, mode, position, capacity);
+    }
+    return BFloat16JdkDataBuffer.map(channel, mode, position, capacity);
+  }
+
+  /**
+   * Maps a region of a file into a buffer of bfloat16 values that can store up to `capacity`
+   * values.
+   *
+   * @param path path of the file to map
+   * @param mode mapping mode, {@link MapMode#READ_WRITE} creates the file if it does not exist
+   * @param position position in the file, in bytes, where the mapped region starts
+   * @param capacity number of values to map
+   * @return a new buffer
+   * @throws IOException if the file could not be opened or mapped
+   * @see #mapBFloat16s(FileChannel, MapMode, long, long)
+   */
+  public static BFloat16DataBuffer mapBFloat16s(Path path, MapMode mode, long position,
+      long capacity) throws IOException {
+    try (FileChannel channel = openChannel(path, mode)) {
+      return mapBFloat16s(channel, mode, position, capacity);
+    }
+  }
+
+  /**
+   * Creates a buffer of booleans that can store up to `capacity` values
+   * <p>
+   * Booleans are packed as bits in the heap memory. Buffers too large to be indexed by a single
+   * array of bits are split in multiple ones joined together.
+   *
+   * @param capacity capacity of the buffer to allocate
+   * @return a new buffer
+   */
+  public static BooleanDataBuffer ofBooleans(long capacity) {
+    if (capacity > BooleanPackedDataBuffer.MAX_CAPACITY) {
+      return BooleanLargeDataBuffer.allocate(capacity);
+    }
+    return BooleanPackedDataBuffer.allocate(capacity);
+  }
+
+  /**
+   * Creates a buffer of strings that can store up to `capacity` values
+   * <p>
+   * Strings are encoded in UTF-8 and their bytes are stored contiguously in a single buffer, which
+   * grows as values are written and is compacted when overwritten values take more space than the
+   * live ones. Null values are supported.
+   *
+   * @param capacity capacity of the buffer to allocate
+   * @return a new buffer
+   * @throws IllegalArgumentException if the capacity exceeds {@link
+   * StringUtf8DataBuffer#MAX_CAPACITY}
+   */
+  public static StringDataBuffer ofStrings(long capacity) {
+    return StringUtf8DataBuffer.allocate(capacity);
+  }
+
   /**
    * Creates a buffer of objects of type `clazz` that can store up to `capacity` values
    *
@@ -239,4 +1178,185 @@ public final class DataBuffers {
   public static <T> DataBuffer<T> wrap(T[] array, boolean readOnly) {
     return ArrayDataBuffer.wrap(array, readOnly);
   }
+
+  /**
+   * Copies the values remaining in a buffer to another buffer, using up to {@code parallelism}
+   * threads.
+   * <p>
+   * This method has the same effect as {@code dst.put(src)}, but splits the transfer in ranges that
+   * are copied concurrently by the threads of a new {@link ForkJoinPool}, which is shut down before
+   * this method returns. Small transfers, or transfers with a parallelism of 1, are done by the
+   * current thread only.
+   * <p>
+   * Buffers must not be modified by other threads while values are being copied.
+   *
+   * @param src the source buffer from which values are to be read; must not be {@code dst}
+   * @param dst the destination buffer into which values are to be written
+   * @param parallelism maximum number of threads to use for the copy
+   * @param <T> type of values to copy
+   * @param <B> type of the destination buffer
+   * @return the destination buffer
+   * @throws IllegalArgumentException if parallelism is not positive, or if the source buffer is the
+   * destination buffer
+   * @throws BufferOverflowException if there is insufficient space in the destination buffer for
+   * the remaining values in the source buffer
+   * @throws ReadOnlyBufferException if the destination buffer is read-only
+   */
+  public static <T, B extends DataBuffer<T>> B copy(DataBuffer<T> src, B dst, int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be positive");
+    }
+    if (parallelism == 1 || src.remaining() <= ParallelCopyTask.RANGE_ALIGNMENT) {
+      dst.put(src);
+      return dst;
+    }
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      return copy(src, dst, pool);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Copies the values remaining in a buffer to another buffer, using the threads of the given
+   * pool.
+   * <p>
+   * This method has the same effect as {@code dst.put(src)}, but splits the transfer in ranges that
+   * are copied concurrently, one per thread of the pool.
+   * <p>
+   * Buffers must not be modified by other threads while values are being copied.
+   *
+   * @param src the source buffer from which values are to be read; must not be {@code dst}
+   * @param dst the destination buffer into which values are to be written
+   * @param pool the pool of threads copying the values
+   * @param <T> type of values to copy
+   * @param <B> type of the destination buffer
+   * @return the destination buffer
+   * @throws IllegalArgumentException if the source buffer is the destination buffer
+   * @throws BufferOverflowException if there is insufficient space in the destination buffer for
+   * the remaining values in the source buffer
+   * @throws ReadOnlyBufferException if the destination buffer is read-only
+   */
+  public static <T, B extends DataBuffer<T>> B copy(DataBuffer<T> src, B dst, ForkJoinPool pool) {
+    Validator.putArgs(dst, src);
+    long length = src.remaining();
+    pool.invoke(new ParallelCopyTask<>(src, dst, pool.getParallelism()));
+    src.position(src.position() + length);
+    dst.position(dst.position() + length);
+    return dst;
+  }
+
+  /**
+   * Finds the first value that differs between the remaining values of two buffers.
+   * <p>
+   * Buffers can be of any implementation (e.g. a JDK-backed buffer, a large buffer or a view on
+   * another buffer). When both buffers store values of the same type in heap arrays, in native
+   * memory or as bytes in native order, values are compared 64 bits at a time rather than one by
+   * one. Like {@link Float#equals(Object)}, NaN is equal to itself and 0.0 is not equal to -0.0,
+   * unlike the JDK buffers which consider 0.0 and -0.0 equal. The positions of the buffers are not
+   * modified.
+   *
+   * @param a the first buffer
+   * @param b the second buffer
+   * @param <T> type of values to compare
+   * @return the index of the first mismatch, relative to the position of each buffer, the smaller
+   * number of remaining values if one buffer is a prefix of the other, or -1 if the remaining
+   * values of both buffers are equal
+   */
+  public static <T> long mismatch(DataBuffer<T> a, DataBuffer<T> b) {
+    return BufferComparison.mismatch(a, b);
+  }
+
+  /**
+   * Checks if the remaining values of two buffers are equal.
+   * <p>
+   * Buffers are equal if they have the same number of remaining values and if these values are
+   * equal pair by pair, as compared by {@link #mismatch(DataBuffer, DataBuffer)}. The positions of
+   * the buffers are not modified.
+   *
+   * @param a the first buffer
+   * @param b the second buffer
+   * @param <T> type of values to compare
+   * @return true if the remaining values of both buffers are equal
+   */
+  public static <T> boolean equals(DataBuffer<T> a, DataBuffer<T> b) {
+    return a.remaining() == b.remaining() && BufferComparison.mismatch(a, b) < 0;
+  }
+
+  /**
+   * Returns a hash code for the remaining values of a buffer.
+   * <p>
+   * The hash code is computed from the values between the position and the limit of the buffer,
+   * like {@link java.util.List#hashCode()}, so that buffers that are equal as checked by
+   * {@link #equals(DataBuffer, DataBuffer)} have the same hash code. The position of the buffer is
+   * not modified.
+   *
+   * @param buffer the buffer
+   * @param <T> type of values to hash
+   * @return the hash code of the remaining values of the buffer
+   */
+  public static <T> int hashCode(DataBuffer<T> buffer) {
+    return BufferComparison.hashCode(buffer);
+  }
+
+  /**
+   * Compares lexicographically the remaining values of two buffers.
+   * <p>
+   * Buffers are compared by the natural order of the first values that differ, as found by
+   * {@link #mismatch(DataBuffer, DataBuffer)}, or by their number of remaining values if one is a
+   * prefix of the other. The positions of the buffers are not modified.
+   *
+   * @param a the first buffer
+   * @param b the second buffer
+   * @param <T> type of values to compare
+   * @return a negative integer, zero, or a positive integer as the remaining values of {@code a}
+   * are less than, equal to, or greater than those of {@code b}
+   */
+  public static <T extends Comparable<? super T>> int compare(DataBuffer<T> a, DataBuffer<T> b) {
+    return BufferComparison.compare(a, b);
+  }
+
+  private static FileChannel openChannel(Path path, MapMode mode) throws IOException {
+    OpenOption[] options;
+    if (mode == MapMode.READ_ONLY) {
+      options = new OpenOption[] { StandardOpenOption.READ };
+    } else if (mode == MapMode.READ_WRITE) {
+      options = new OpenOption[] {
+          StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE
+      };
+    } else {
+      options = new OpenOption[] { StandardOpenOption.READ, StandardOpenOption.WRITE };
+    }
+    return FileChannel.open(path, options);
+  }
+
+  private static AllocationMode allocationModeProperty() {
+    String name = System.getProperty("tensorflow.nio.allocationMode");
+    if (name != null) {
+      try {
+        return AllocationMode.valueOf(name.trim().toUpperCase(Locale.ROOT));
+      } catch (IllegalArgumentException e) {
+        // unrecognized mode, fall back to the default one
+      }
+    }
+    return AllocationMode.HEAP;
+  }
+
+  private static volatile AllocationMode defaultAllocationMode = allocationModeProperty();
+
+  private static int alignmentProperty() {
+    Integer alignment = Integer.getInteger("tensorflow.nio.alignment");
+    if (alignment != null) {
+      try {
+        Alignment.validate(alignment);
+        return alignment;
+      } catch (IllegalArgumentException e) {
+        // invalid alignment, fall back to the default one
+      }
+    }
+    return 64;
+  }
+
+  private static volatile int defaultAlignment = alignmentProperty();
 }
@@ -16,17 +16,49 @@
  */
 package org.tensorflow.nio.buffer;
 
+import java.io.IOException;
 import java.nio.BufferOverflowException;
 import java.nio.BufferUnderflowException;
+import java.nio.ByteOrder;
 import java.nio.ReadOnlyBufferException;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
 
+import org.tensorflow.nio.buffer.impl.AsyncFileTransfer;
+import org.tensorflow.nio.buffer.impl.ChannelTransfer;
+import org.tensorflow.nio.buffer.impl.ParallelIndexedTask;
+import org.tensorflow.nio.buffer.impl.UncheckedAccess;
+import org.tensorflow.nio.buffer.impl.Validator;
+import org.tensorflow.nio.buffer.impl.single.FloatJdkDataBuffer;
+import org.tensorflow.nio.buffer.impl.stream.IndexedDoubleSpliterator;
 import org.tensorflow.nio.buffer.impl.view.FloatDataBufferView;
+import org.tensorflow.nio.buffer.impl.view.FloatStridedDataBufferView;
 
 /**
  * A {@link DataBuffer} of floats.
  */
 public interface FloatDataBuffer extends DataBuffer<Float> {
 
+  /**
+   * Retrieve values of this buffer as a stream of doubles.
+   * <p>
+   * The stream covers the values between the current position and the limit of this buffer, as
+   * they are when this method is called. It can be split evenly in parallel streams.
+   * <p>
+   * Values are widened from floats to doubles, without loss of precision.
+   *
+   * @return values, as a stream
+   */
+  default DoubleStream doubleStream() {
+    return StreamSupport
+        .doubleStream(new IndexedDoubleSpliterator(this::getFloat, position(), limit()), false);
+  }
+
   /**
    * Relative bulk <i>get</i> method, using float arrays.
    * <p>
@@ -119,6 +151,365 @@ public interface FloatDataBuffer extends DataBuffer<Float> {
    */
   FloatDataBuffer put(float[] src, int offset, int length);
 
+  /**
+   * Absolute <i>get</i> method for floats.
+   * <p>
+   * Reads the float at the given index, without boxing it like {@link #get(long)} does.
+   *
+   * @param index the index from which the float will be read
+   * @return the float at the given index
+   * @throws IndexOutOfBoundsException if index is negative or not smaller than the buffer's limit
+   */
+  float getFloat(long index);
+
+  /**
+   * Absolute <i>put</i> method for floats.
+   * <p>
+   * Writes the given float into this buffer at the given index, without boxing it like {@link
+   * #put(long, Object)} does.
+   *
+   * @param index the index at which the float will be written
+   * @param value the float to be written
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if index is negative or not smaller than the buffer's limit
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  FloatDataBuffer setFloat(long index, float value);
+
+  /**
+   * Bulk <i>fill</i> method for floats.
+   * <p>
+   * Writes the given float at all indices of this buffer, from 0 up to its limit, without boxing
+   * it like {@link #fill(Object)} does. The position of this buffer is not modified.
+   *
+   * @param value the float to be written
+   * @return this buffer
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default FloatDataBuffer fill(float value) {
+    return fill(0, limit(), value);
+  }
+
+  /**
+   * Bulk absolute <i>fill</i> method for floats.
+   * <p>
+   * Writes the given float at all indices of this buffer from {@code fromIndex}, inclusive, to
+   * {@code toIndex}, exclusive, without boxing it like {@link #fill(long, long, Object)} does. The
+   * position of this buffer is not modified.
+   *
+   * @param fromIndex index of the first float to be written
+   * @param toIndex index following the last float to be written; must be no larger than the buffer
+   * limit
+   * @param value the float to be written
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if fromIndex is negative or toIndex is larger than the buffer
+   * limit
+   * @throws IllegalArgumentException if fromIndex is larger than toIndex
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default FloatDataBuffer fill(long fromIndex, long toIndex, float value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    for (long index = fromIndex; index < toIndex; ++index) {
+      setFloat(index, value);
+    }
+    return this;
+  }
+
+  /**
+   * Gathers the floats of this buffer at the given indices into another buffer.
+   * <p>
+   * For each index remaining in {@code indices}, the float at that index in this buffer is
+   * written to {@code dst}, i.e. {@code dst[i] = this[indices[i]]}. All indices are validated
+   * before any value is transferred. The position of both {@code indices} and {@code dst} is then
+   * incremented by the number of indices, while the position of this buffer is not modified.
+   *
+   * @param indices indices of the floats to gather, from its position to its limit
+   * @param dst the destination buffer
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if an index is negative or not smaller than the limit of this
+   * buffer
+   * @throws BufferOverflowException if there are fewer values remaining in {@code dst} than in
+   * {@code indices}
+   * @throws IllegalArgumentException if {@code dst} is this buffer
+   * @throws ReadOnlyBufferException if {@code dst} is read-only
+   */
+  default FloatDataBuffer gather(LongDataBuffer indices, FloatDataBuffer dst) {
+    Validator.gatherArgs(this, indices, dst);
+    Validator.indicesArgs(this, indices);
+    long indicesPosition = indices.position();
+    long dstPosition = dst.position();
+    long length = indices.remaining();
+    for (long i = 0; i < length; ++i) {
+      long index = UncheckedAccess.getLong(indices, indicesPosition + i);
+      UncheckedAccess.setFloat(dst, dstPosition + i, UncheckedAccess.getFloat(this, index));
+    }
+    indices.position(indicesPosition + length);
+    dst.position(dstPosition + length);
+    return this;
+  }
+
+  /**
+   * Gathers the floats of this buffer at the given 32-bits indices into another buffer.
+   *
+   * @see #gather(LongDataBuffer, FloatDataBuffer)
+   */
+  default FloatDataBuffer gather(IntDataBuffer indices, FloatDataBuffer dst) {
+    Validator.gatherArgs(this, indices, dst);
+    Validator.indicesArgs(this, indices);
+    long indicesPosition = indices.position();
+    long dstPosition = dst.position();
+    long length = indices.remaining();
+    for (long i = 0; i < length; ++i) {
+      int index = UncheckedAccess.getInt(indices, indicesPosition + i);
+      UncheckedAccess.setFloat(dst, dstPosition + i, UncheckedAccess.getFloat(this, index));
+    }
+    indices.position(indicesPosition + length);
+    dst.position(dstPosition + length);
+    return this;
+  }
+
+  /**
+   * Gathers the floats of this buffer at the given indices into another buffer, using the threads
+   * of the given pool.
+   * <p>
+   * This method has the same effect as {@link #gather(LongDataBuffer, FloatDataBuffer)},
+   * but splits the indices in ranges that are gathered concurrently, one per thread of the pool.
+   * Indices are validated per range, so if one of them is out of bounds, values of other ranges
+   * may have been transferred and the positions of the buffers are left unchanged.
+   *
+   * @param indices indices of the floats to gather, from its position to its limit
+   * @param dst the destination buffer
+   * @param pool the pool of threads gathering the values
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if an index is negative or not smaller than the limit of this
+   * buffer
+   * @throws BufferOverflowException if there are fewer values remaining in {@code dst} than in
+   * {@code indices}
+   * @throws IllegalArgumentException if {@code dst} is this buffer
+   * @throws ReadOnlyBufferException if {@code dst} is read-only
+   */
+  default FloatDataBuffer gather(LongDataBuffer indices, FloatDataBuffer dst,
+      ForkJoinPool pool) {
+    Validator.gatherArgs(this, indices, dst);
+    long length = indices.remaining();
+    if (length <= ParallelIndexedTask.MIN_RANGE_SIZE) {
+      return gather(indices, dst);
+    }
+    pool.invoke(new ParallelIndexedTask<>(indices, dst, pool.getParallelism(), this::gather));
+    indices.position(indices.position() + length);
+    dst.position(dst.position() + length);
+    return this;
+  }
+
+  /**
+   * Gathers the floats of this buffer at the given 32-bits indices into another buffer, using the
+   * threads of the given pool.
+   *
+   * @see #gather(LongDataBuffer, FloatDataBuffer, ForkJoinPool)
+   */
+  default FloatDataBuffer gather(IntDataBuffer indices, FloatDataBuffer dst,
+      ForkJoinPool pool) {
+    Validator.gatherArgs(this, indices, dst);
+    long length = indices.remaining();
+    if (length <= ParallelIndexedTask.MIN_RANGE_SIZE) {
+      return gather(indices, dst);
+    }
+    pool.invoke(new ParallelIndexedTask<>(indices, dst, pool.getParallelism(), this::gather));
+    indices.position(indices.position() + length);
+    dst.position(dst.position() + length);
+    return this;
+  }
+
+  /**
+   * Scatters the floats of another buffer to the given indices of this buffer.
+   * <p>
+   * For each index remaining in {@code indices}, the next float of {@code src} is written at that
+   * index in this buffer, i.e. {@code this[indices[i]] = src[i]}. If an index is repeated, the
+   * last float written at that index is kept. All indices are validated before any value is
+   * transferred. The position of both {@code indices} and {@code src} is then incremented by the
+   * number of indices, while the position of this buffer is not modified.
+   *
+   * @param indices indices of the floats to write, from its position to its limit
+   * @param src the source buffer
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if an index is negative or not smaller than the limit of this
+   * buffer
+   * @throws BufferUnderflowException if there are fewer values remaining in {@code src} than in
+   * {@code indices}
+   * @throws IllegalArgumentException if {@code src} is this buffer
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default FloatDataBuffer scatter(LongDataBuffer indices, FloatDataBuffer src) {
+    Validator.scatterArgs(this, indices, src);
+    Validator.indicesArgs(this, indices);
+    long indicesPosition = indices.position();
+    long srcPosition = src.position();
+    long length = indices.remaining();
+    for (long i = 0; i < length; ++i) {
+      long index = UncheckedAccess.getLong(indices, indicesPosition + i);
+      UncheckedAccess.setFloat(this, index, UncheckedAccess.getFloat(src, srcPosition + i));
+    }
+    indices.position(indicesPosition + length);
+    src.position(srcPosition + length);
+    return this;
+  }
+
+  /**
+   * Scatters the floats of another buffer to the given 32-bits indices of this buffer.
+   *
+   * @see #scatter(LongDataBuffer, FloatDataBuffer)
+   */
+  default FloatDataBuffer scatter(IntDataBuffer indices, FloatDataBuffer src) {
+    Validator.scatterArgs(this, indices, src);
+    Validator.indicesArgs(this, indices);
+    long indicesPosition = indices.position();
+    long srcPosition = src.position();
+    long length = indices.remaining();
+    for (long i = 0; i < length; ++i) {
+      int index = UncheckedAccess.getInt(indices, indicesPosition + i);
+      UncheckedAccess.setFloat(this, index, UncheckedAccess.getFloat(src, srcPosition + i));
+    }
+    indices.position(indicesPosition + length);
+    src.position(srcPosition + length);
+    return this;
+  }
+
+  /**
+   * Scatters the floats of another buffer to the given indices of this buffer, using the threads
+   * of the given pool.
+   * <p>
+   * This method has the same effect as {@link #scatter(LongDataBuffer, FloatDataBuffer)},
+   * but splits the indices in ranges that are scattered concurrently, one per thread of the pool.
+   * If an index is repeated, which of its floats is kept is unspecified. Indices are validated
+   * per range, so if one of them is out of bounds, values of other ranges may have been
+   * transferred and the positions of the buffers are left unchanged.
+   *
+   * @param indices indices of the floats to write, from its position to its limit
+   * @param src the source buffer
+   * @param pool the pool of threads scattering the values
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if an index is negative or not smaller than the limit of this
+   * buffer
+   * @throws BufferUnderflowException if there are fewer values remaining in {@code src} than in
+   * {@code indices}
+   * @throws IllegalArgumentException if {@code src} is this buffer
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default FloatDataBuffer scatter(LongDataBuffer indices, FloatDataBuffer src,
+      ForkJoinPool pool) {
+    Validator.scatterArgs(this, indices, src);
+    long length = indices.remaining();
+    if (length <= ParallelIndexedTask.MIN_RANGE_SIZE) {
+      return scatter(indices, src);
+    }
+    pool.invoke(new ParallelIndexedTask<>(indices, src, pool.getParallelism(), this::scatter));
+    indices.position(indices.position() + length);
+    src.position(src.position() + length);
+    return this;
+  }
+
+  /**
+   * Scatters the floats of another buffer to the given 32-bits indices of this buffer, using the
+   * threads of the given pool.
+   *
+   * @see #scatter(LongDataBuffer, FloatDataBuffer, ForkJoinPool)
+   */
+  default FloatDataBuffer scatter(IntDataBuffer indices, FloatDataBuffer src,
+      ForkJoinPool pool) {
+    Validator.scatterArgs(this, indices, src);
+    long length = indices.remaining();
+    if (length <= ParallelIndexedTask.MIN_RANGE_SIZE) {
+      return scatter(indices, src);
+    }
+    pool.invoke(new ParallelIndexedTask<>(indices, src, pool.getParallelism(), this::scatter));
+    indices.position(indices.position() + length);
+    src.position(src.position() + length);
+    return this;
+  }
+
+  /**
+   * Adds the floats of another buffer to the floats at the given indices of this buffer.
+   * <p>
+   * For each index remaining in {@code indices}, the next float of {@code src} is added to the
+   * float at that index in this buffer, i.e. {@code this[indices[i]] += src[i]}. If an index is
+   * repeated, all of its floats are accumulated. All indices are validated before any value is
+   * transferred. The position of both {@code indices} and {@code src} is then incremented by the
+   * number of indices, while the position of this buffer is not modified.
+   *
+   * @param indices indices of the floats to update, from its position to its limit
+   * @param src the source buffer
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if an index is negative or not smaller than the limit of this
+   * buffer
+   * @throws BufferUnderflowException if there are fewer values remaining in {@code src} than in
+   * {@code indices}
+   * @throws IllegalArgumentException if {@code src} is this buffer
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default FloatDataBuffer scatterAdd(LongDataBuffer indices, FloatDataBuffer src) {
+    Validator.scatterArgs(this, indices, src);
+    Validator.indicesArgs(this, indices);
+    long indicesPosition = indices.position();
+    long srcPosition = src.position();
+    long length = indices.remaining();
+    for (long i = 0; i < length; ++i) {
+      long index = UncheckedAccess.getLong(indices, indicesPosition + i);
+      float value = UncheckedAccess.getFloat(src, srcPosition + i);
+      UncheckedAccess.setFloat(this, index, UncheckedAccess.getFloat(this, index) + value);
+    }
+    indices.position(indicesPosition + length);
+    src.position(srcPosition + length);
+    return this;
+  }
+
+  /**
+   * Adds the floats of another buffer to the floats at the given 32-bits indices of this
+   * buffer.
+   *
+   * @see #scatterAdd(LongDataBuffer, FloatDataBuffer)
+   */
+  default FloatDataBuffer scatterAdd(IntDataBuffer indices, FloatDataBuffer src) {
+    Validator.scatterArgs(this, indices, src);
+    Validator.indicesArgs(this, indices);
+    long indicesPosition = indices.position();
+    long srcPosition = src.position();
+    long length = indices.remaining();
+    for (long i = 0; i < length; ++i) {
+      int index = UncheckedAccess.getInt(indices, indicesPosition + i);
+      float value = UncheckedAccess.getFloat(src, srcPosition + i);
+      UncheckedAccess.setFloat(this, index, UncheckedAccess.getFloat(this, index) + value);
+    }
+    indices.position(indicesPosition + length);
+    src.position(srcPosition + length);
+    return this;
+  }
+
+  @Override
+  default long writeTo(WritableByteChannel channel, ByteOrder order) throws IOException {
+    return ChannelTransfer.write(this, channel, order, Float.BYTES,
+        bytes -> FloatJdkDataBuffer.wrap(bytes.asFloatBuffer()));
+  }
+
+  @Override
+  default long readFrom(ReadableByteChannel channel, ByteOrder order) throws IOException {
+    return ChannelTransfer.read(this, channel, order, Float.BYTES,
+        bytes -> FloatJdkDataBuffer.wrap(bytes.asFloatBuffer()));
+  }
+
+  @Override
+  default CompletableFuture<Long> writeToAsync(AsynchronousFileChannel channel, long position,
+      ByteOrder order) {
+    return AsyncFileTransfer.write(this, channel, position, order, Float.BYTES,
+        bytes -> FloatJdkDataBuffer.wrap(bytes.asFloatBuffer()));
+  }
+
+  @Override
+  default CompletableFuture<Long> readFromAsync(AsynchronousFileChannel channel, long position,
+      ByteOrder order) {
+    return AsyncFileTransfer.read(this, channel, position, order, Float.BYTES,
+        bytes -> FloatJdkDataBuffer.wrap(bytes.asFloatBuffer()));
+  }
+
   @Override
   FloatDataBuffer limit(long newLimit);
 
@@ -147,6 +538,22 @@ public interface FloatDataBuffer extends DataBuffer<Float> {
   @Override
   FloatDataBuffer put(DataBuffer<Float> src);
 
+  @Override
+  default FloatDataBuffer fill(Float value) {
+    return fill(value.floatValue());
+  }
+
+  @Override
+  default FloatDataBuffer fill(long fromIndex, long toIndex, Float value) {
+    return fill(fromIndex, toIndex, value.floatValue());
+  }
+
+  @Override
+  default FloatDataBuffer fill(DataBuffer<Float> pattern) {
+    DataBuffer.super.fill(pattern);
+    return this;
+  }
+
   @Override
   FloatDataBuffer duplicate();
 
@@ -154,4 +561,10 @@ public interface FloatDataBuffer extends DataBuffer<Float> {
   default FloatDataBuffer slice() {
     return new FloatDataBufferView(duplicate(), position(), limit());
   }
+
+  @Override
+  default FloatDataBuffer strided(long offset, long stride, long count) {
+    return new FloatStridedDataBufferView(duplicate().limit(capacity()), offset,
+        stride, count);
+  }
 }
@@ -0,0 +1,116 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer;
+
+import java.util.List;
+
+import org.tensorflow.nio.buffer.impl.large.FloatLargeDataBuffer;
+
+/**
+ * A builder assembling a buffer of floats of unknown final length, without copying its values.
+ *
+ * @see AbstractDataBufferBuilder
+ */
+public final class FloatDataBufferBuilder
+    extends AbstractDataBufferBuilder<Float, FloatDataBuffer, FloatDataBufferBuilder> {
+
+  /**
+   * Creates a builder storing values in chunks of {@link #DEFAULT_CHUNK_CAPACITY} floats,
+   * allocated using the {@link DataBuffers#defaultAllocationMode() default allocation mode}.
+   *
+   * @return a new builder
+   */
+  public static FloatDataBufferBuilder create() {
+    return create(DEFAULT_CHUNK_CAPACITY, DataBuffers.defaultAllocationMode());
+  }
+
+  /**
+   * Creates a builder storing values in chunks of the given capacity, allocated using the given
+   * mode.
+   *
+   * @param chunkCapacity number of floats stored in each chunk
+   * @param mode where the values of the chunks should be stored
+   * @return a new builder
+   * @throws IllegalArgumentException if the chunk capacity is not positive
+   */
+  public static FloatDataBufferBuilder create(long chunkCapacity, AllocationMode mode) {
+    return new FloatDataBufferBuilder(chunkCapacity, mode);
+  }
+
+  /**
+   * Appends a float.
+   *
+   * @param value value to append
+   * @return this builder
+   */
+  public FloatDataBufferBuilder append(float value) {
+    FloatDataBuffer chunk = nextChunk();
+    long position = chunk.position();
+    chunk.setFloat(position, value).position(position + 1);
+    grow(1);
+    return this;
+  }
+
+  /**
+   * Appends all floats of an array.
+   *
+   * @param values values to append
+   * @return this builder
+   */
+  public FloatDataBufferBuilder append(float[] values) {
+    return append(values, 0, values.length);
+  }
+
+  /**
+   * Appends a sequence of floats of an array.
+   *
+   * @param values array of values to append
+   * @param offset index of the first value to append in {@code values}
+   * @param length number of values to append
+   * @return this builder
+   * @throws IndexOutOfBoundsException if the offset or the length are out of the bounds of the
+   * array
+   */
+  public FloatDataBufferBuilder append(float[] values, int offset, int length) {
+    if (offset < 0 || length < 0 || offset > values.length - length) {
+      throw new IndexOutOfBoundsException();
+    }
+    while (length > 0) {
+      FloatDataBuffer chunk = nextChunk();
+      int chunkLength = (int) Math.min(length, chunk.remaining());
+      chunk.put(values, offset, chunkLength);
+      grow(chunkLength);
+      offset += chunkLength;
+      length -= chunkLength;
+    }
+    return this;
+  }
+
+  @Override
+  FloatDataBuffer allocateChunk(long capacity) {
+    return DataBuffers.ofFloats(capacity, mode());
+  }
+
+  @Override
+  FloatDataBuffer join(List<FloatDataBuffer> chunks) {
+    return FloatLargeDataBuffer.join(chunks.toArray(new FloatDataBuffer[0]));
+  }
+
+  private FloatDataBufferBuilder(long chunkCapacity, AllocationMode mode) {
+    super(chunkCapacity, mode);
+  }
+}
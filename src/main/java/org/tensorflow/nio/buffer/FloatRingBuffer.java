@@ -0,0 +1,126 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer;
+
+/**
+ * A fixed-capacity circular buffer streaming floats from producers to a consumer, without locks.
+ *
+ * @see AbstractRingBuffer
+ */
+public final class FloatRingBuffer extends AbstractRingBuffer<Float, FloatDataBuffer> {
+
+  /**
+   * Creates a ring buffer of floats for a single producer, allocated using the {@link
+   * DataBuffers#defaultAllocationMode() default allocation mode}.
+   *
+   * @param capacity maximum number of floats the ring buffer can hold
+   * @return a new ring buffer
+   */
+  public static FloatRingBuffer singleProducer(long capacity) {
+    return new FloatRingBuffer(capacity, false, DataBuffers.defaultAllocationMode());
+  }
+
+  /**
+   * Creates a ring buffer of floats for a single producer.
+   *
+   * @param capacity maximum number of floats the ring buffer can hold
+   * @param mode where the values of the ring buffer should be stored
+   * @return a new ring buffer
+   */
+  public static FloatRingBuffer singleProducer(long capacity, AllocationMode mode) {
+    return new FloatRingBuffer(capacity, false, mode);
+  }
+
+  /**
+   * Creates a ring buffer of floats for multiple producers, allocated using the {@link
+   * DataBuffers#defaultAllocationMode() default allocation mode}.
+   *
+   * @param capacity maximum number of floats the ring buffer can hold
+   * @return a new ring buffer
+   */
+  public static FloatRingBuffer multiProducer(long capacity) {
+    return new FloatRingBuffer(capacity, true, DataBuffers.defaultAllocationMode());
+  }
+
+  /**
+   * Creates a ring buffer of floats for multiple producers.
+   *
+   * @param capacity maximum number of floats the ring buffer can hold
+   * @param mode where the values of the ring buffer should be stored
+   * @return a new ring buffer
+   */
+  public static FloatRingBuffer multiProducer(long capacity, AllocationMode mode) {
+    return new FloatRingBuffer(capacity, true, mode);
+  }
+
+  /**
+   * Publishes all floats of an array, as many as there is room for.
+   *
+   * @param src values to publish
+   * @return the number of values published, 0 if the ring buffer is full
+   */
+  public int put(float[] src) {
+    return put(src, 0, src.length);
+  }
+
+  /**
+   * Publishes a sequence of floats of an array, as many as there is room for.
+   *
+   * @param src array of values to publish
+   * @param offset index of the first value to publish in {@code src}
+   * @param length number of values to publish
+   * @return the number of values published, 0 if the ring buffer is full
+   * @throws IndexOutOfBoundsException if the offset or the length are out of the bounds of the
+   * array
+   */
+  public int put(float[] src, int offset, int length) {
+    if (offset < 0 || length < 0 || offset > src.length - length) {
+      throw new IndexOutOfBoundsException();
+    }
+    return (int) produce(length, (view, index, segmentOffset, segmentLength) ->
+        window(view, index, segmentLength).put(src, offset + (int) segmentOffset,
+            (int) segmentLength));
+  }
+
+  /**
+   * Consumes published floats into an array, as many as there is space for.
+   *
+   * @param dst array receiving the values
+   * @param offset index of the first value to write in {@code dst}
+   * @param length maximum number of values to consume
+   * @return the number of values consumed, 0 if the ring buffer is empty
+   * @throws IndexOutOfBoundsException if the offset or the length are out of the bounds of the
+   * array
+   */
+  public int drainTo(float[] dst, int offset, int length) {
+    if (offset < 0 || length < 0 || offset > dst.length - length) {
+      throw new IndexOutOfBoundsException();
+    }
+    return (int) consume(length, (view, index, segmentOffset, segmentLength) ->
+        window(view, index, segmentLength).get(dst, offset + (int) segmentOffset,
+            (int) segmentLength));
+  }
+
+  @Override
+  FloatDataBuffer allocate(long capacity) {
+    return DataBuffers.ofFloats(capacity, mode());
+  }
+
+  private FloatRingBuffer(long capacity, boolean multiProducer, AllocationMode mode) {
+    super(capacity, multiProducer, mode);
+  }
+}
@@ -16,12 +16,29 @@
  */
 package org.tensorflow.nio.buffer;
 
+import java.io.IOException;
 import java.nio.BufferOverflowException;
 import java.nio.BufferUnderflowException;
+import java.nio.ByteOrder;
 import java.nio.ReadOnlyBufferException;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import org.tensorflow.nio.buffer.impl.AsyncFileTransfer;
+import org.tensorflow.nio.buffer.impl.ChannelTransfer;
+import org.tensorflow.nio.buffer.impl.ParallelIndexedTask;
+import org.tensorflow.nio.buffer.impl.UncheckedAccess;
+import org.tensorflow.nio.buffer.impl.Validator;
+import org.tensorflow.nio.buffer.impl.single.IntJdkDataBuffer;
+import org.tensorflow.nio.buffer.impl.stream.IndexedIntSpliterator;
 import org.tensorflow.nio.buffer.impl.view.IntDataBufferView;
+import org.tensorflow.nio.buffer.impl.view.IntStridedDataBufferView;
 
 /**
  * A {@link DataBuffer} of integers.
@@ -29,12 +46,17 @@ import org.tensorflow.nio.buffer.impl.view.IntDataBufferView;
 public interface IntDataBuffer extends DataBuffer<Integer> {
 
   /**
-   * Retrieve values of this buffer as a stream of integers <i>(optional operation)</i>.
+   * Retrieve values of this buffer as a stream of integers.
+   * <p>
+   * The stream covers the values between the current position and the limit of this buffer, as
+   * they are when this method is called. It can be split evenly in parallel streams.
    *
    * @return values, as a stream
-   * @throws UnsupportedOperationException if streaming is not supported by this buffer
    */
-  IntStream intStream();
+  default IntStream intStream() {
+    return StreamSupport
+        .intStream(new IndexedIntSpliterator(this::getInt, position(), limit()), false);
+  }
 
   /**
    * Relative bulk <i>get</i> method, using int arrays.
@@ -128,6 +150,370 @@ public interface IntDataBuffer extends DataBuffer<Integer> {
    */
   IntDataBuffer put(int[] src, int offset, int length);
 
+  /**
+   * Absolute <i>get</i> method for integers.
+   * <p>
+   * Reads the integer at the given index, without boxing it like {@link #get(long)} does.
+   *
+   * @param index the index from which the integer will be read
+   * @return the integer at the given index
+   * @throws IndexOutOfBoundsException if index is negative or not smaller than the buffer's limit
+   */
+  int getInt(long index);
+
+  /**
+   * Absolute <i>put</i> method for integers.
+   * <p>
+   * Writes the given integer into this buffer at the given index, without boxing it like {@link
+   * #put(long, Object)} does.
+   *
+   * @param index the index at which the integer will be written
+   * @param value the integer to be written
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if index is negative or not smaller than the buffer's limit
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  IntDataBuffer setInt(long index, int value);
+
+  /**
+   * Bulk <i>fill</i> method for integers.
+   * <p>
+   * Writes the given integer at all indices of this buffer, from 0 up to its limit, without boxing
+   * it like {@link #fill(Object)} does. The position of this buffer is not modified.
+   *
+   * @param value the integer to be written
+   * @return this buffer
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default IntDataBuffer fill(int value) {
+    return fill(0, limit(), value);
+  }
+
+  /**
+   * Bulk absolute <i>fill</i> method for integers.
+   * <p>
+   * Writes the given integer at all indices of this buffer from {@code fromIndex}, inclusive, to
+   * {@code toIndex}, exclusive, without boxing it like {@link #fill(long, long, Object)} does. The
+   * position of this buffer is not modified.
+   *
+   * @param fromIndex index of the first integer to be written
+   * @param toIndex index following the last integer to be written; must be no larger than the
+   * buffer limit
+   * @param value the integer to be written
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if fromIndex is negative or toIndex is larger than the buffer
+   * limit
+   * @throws IllegalArgumentException if fromIndex is larger than toIndex
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default IntDataBuffer fill(long fromIndex, long toIndex, int value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    for (long index = fromIndex; index < toIndex; ++index) {
+      setInt(index, value);
+    }
+    return this;
+  }
+
+  @Override
+  default Stream<Integer> stream() {
+    return intStream().boxed();
+  }
+
+  /**
+   * Gathers the integers of this buffer at the given indices into another buffer.
+   * <p>
+   * For each index remaining in {@code indices}, the integer at that index in this buffer is
+   * written to {@code dst}, i.e. {@code dst[i] = this[indices[i]]}. All indices are validated
+   * before any value is transferred. The position of both {@code indices} and {@code dst} is then
+   * incremented by the number of indices, while the position of this buffer is not modified.
+   *
+   * @param indices indices of the integers to gather, from its position to its limit
+   * @param dst the destination buffer
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if an index is negative or not smaller than the limit of this
+   * buffer
+   * @throws BufferOverflowException if there are fewer values remaining in {@code dst} than in
+   * {@code indices}
+   * @throws IllegalArgumentException if {@code dst} is this buffer
+   * @throws ReadOnlyBufferException if {@code dst} is read-only
+   */
+  default IntDataBuffer gather(LongDataBuffer indices, IntDataBuffer dst) {
+    Validator.gatherArgs(this, indices, dst);
+    Validator.indicesArgs(this, indices);
+    long indicesPosition = indices.position();
+    long dstPosition = dst.position();
+    long length = indices.remaining();
+    for (long i = 0; i < length; ++i) {
+      long index = UncheckedAccess.getLong(indices, indicesPosition + i);
+      UncheckedAccess.setInt(dst, dstPosition + i, UncheckedAccess.getInt(this, index));
+    }
+    indices.position(indicesPosition + length);
+    dst.position(dstPosition + length);
+    return this;
+  }
+
+  /**
+   * Gathers the integers of this buffer at the given 32-bits indices into another buffer.
+   *
+   * @see #gather(LongDataBuffer, IntDataBuffer)
+   */
+  default IntDataBuffer gather(IntDataBuffer indices, IntDataBuffer dst) {
+    Validator.gatherArgs(this, indices, dst);
+    Validator.indicesArgs(this, indices);
+    long indicesPosition = indices.position();
+    long dstPosition = dst.position();
+    long length = indices.remaining();
+    for (long i = 0; i < length; ++i) {
+      int index = UncheckedAccess.getInt(indices, indicesPosition + i);
+      UncheckedAccess.setInt(dst, dstPosition + i, UncheckedAccess.getInt(this, index));
+    }
+    indices.position(indicesPosition + length);
+    dst.position(dstPosition + length);
+    return this;
+  }
+
+  /**
+   * Gathers the integers of this buffer at the given indices into another buffer, using the threads
+   * of the given pool.
+   * <p>
+   * This method has the same effect as {@link #gather(LongDataBuffer, IntDataBuffer)},
+   * but splits the indices in ranges that are gathered concurrently, one per thread of the pool.
+   * Indices are validated per range, so if one of them is out of bounds, values of other ranges
+   * may have been transferred and the positions of the buffers are left unchanged.
+   *
+   * @param indices indices of the integers to gather, from its position to its limit
+   * @param dst the destination buffer
+   * @param pool the pool of threads gathering the values
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if an index is negative or not smaller than the limit of this
+   * buffer
+   * @throws BufferOverflowException if there are fewer values remaining in {@code dst} than in
+   * {@code indices}
+   * @throws IllegalArgumentException if {@code dst} is this buffer
+   * @throws ReadOnlyBufferException if {@code dst} is read-only
+   */
+  default IntDataBuffer gather(LongDataBuffer indices, IntDataBuffer dst,
+      ForkJoinPool pool) {
+    Validator.gatherArgs(this, indices, dst);
+    long length = indices.remaining();
+    if (length <= ParallelIndexedTask.MIN_RANGE_SIZE) {
+      return gather(indices, dst);
+    }
+    pool.invoke(new ParallelIndexedTask<>(indices, dst, pool.getParallelism(), this::gather));
+    indices.position(indices.position() + length);
+    dst.position(dst.position() + length);
+    return this;
+  }
+
+  /**
+   * Gathers the integers of this buffer at the given 32-bits indices into another buffer, using the
+   * threads of the given pool.
+   *
+   * @see #gather(LongDataBuffer, IntDataBuffer, ForkJoinPool)
+   */
+  default IntDataBuffer gather(IntDataBuffer indices, IntDataBuffer dst,
+      ForkJoinPool pool) {
+    Validator.gatherArgs(this, indices, dst);
+    long length = indices.remaining();
+    if (length <= ParallelIndexedTask.MIN_RANGE_SIZE) {
+      return gather(indices, dst);
+    }
+    pool.invoke(new ParallelIndexedTask<>(indices, dst, pool.getParallelism(), this::gather));
+    indices.position(indices.position() + length);
+    dst.position(dst.position() + length);
+    return this;
+  }
+
+  /**
+   * Scatters the integers of another buffer to the given indices of this buffer.
+   * <p>
+   * For each index remaining in {@code indices}, the next integer of {@code src} is written at that
+   * index in this buffer, i.e. {@code this[indices[i]] = src[i]}. If an index is repeated, the
+   * last integer written at that index is kept. All indices are validated before any value is
+   * transferred. The position of both {@code indices} and {@code src} is then incremented by the
+   * number of indices, while the position of this buffer is not modified.
+   *
+   * @param indices indices of the integers to write, from its position to its limit
+   * @param src the source buffer
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if an index is negative or not smaller than the limit of this
+   * buffer
+   * @throws BufferUnderflowException if there are fewer values remaining in {@code src} than in
+   * {@code indices}
+   * @throws IllegalArgumentException if {@code src} is this buffer
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default IntDataBuffer scatter(LongDataBuffer indices, IntDataBuffer src) {
+    Validator.scatterArgs(this, indices, src);
+    Validator.indicesArgs(this, indices);
+    long indicesPosition = indices.position();
+    long srcPosition = src.position();
+    long length = indices.remaining();
+    for (long i = 0; i < length; ++i) {
+      long index = UncheckedAccess.getLong(indices, indicesPosition + i);
+      UncheckedAccess.setInt(this, index, UncheckedAccess.getInt(src, srcPosition + i));
+    }
+    indices.position(indicesPosition + length);
+    src.position(srcPosition + length);
+    return this;
+  }
+
+  /**
+   * Scatters the integers of another buffer to the given 32-bits indices of this buffer.
+   *
+   * @see #scatter(LongDataBuffer, IntDataBuffer)
+   */
+  default IntDataBuffer scatter(IntDataBuffer indices, IntDataBuffer src) {
+    Validator.scatterArgs(this, indices, src);
+    Validator.indicesArgs(this, indices);
+    long indicesPosition = indices.position();
+    long srcPosition = src.position();
+    long length = indices.remaining();
+    for (long i = 0; i < length; ++i) {
+      int index = UncheckedAccess.getInt(indices, indicesPosition + i);
+      UncheckedAccess.setInt(this, index, UncheckedAccess.getInt(src, srcPosition + i));
+    }
+    indices.position(indicesPosition + length);
+    src.position(srcPosition + length);
+    return this;
+  }
+
+  /**
+   * Scatters the integers of another buffer to the given indices of this buffer, using the threads
+   * of the given pool.
+   * <p>
+   * This method has the same effect as {@link #scatter(LongDataBuffer, IntDataBuffer)},
+   * but splits the indices in ranges that are scattered concurrently, one per thread of the pool.
+   * If an index is repeated, which of its integers is kept is unspecified. Indices are validated
+   * per range, so if one of them is out of bounds, values of other ranges may have been
+   * transferred and the positions of the buffers are left unchanged.
+   *
+   * @param indices indices of the integers to write, from its position to its limit
+   * @param src the source buffer
+   * @param pool the pool of threads scattering the values
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if an index is negative or not smaller than the limit of this
+   * buffer
+   * @throws BufferUnderflowException if there are fewer values remaining in {@code src} than in
+   * {@code indices}
+   * @throws IllegalArgumentException if {@code src} is this buffer
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default IntDataBuffer scatter(LongDataBuffer indices, IntDataBuffer src,
+      ForkJoinPool pool) {
+    Validator.scatterArgs(this, indices, src);
+    long length = indices.remaining();
+    if (length <= ParallelIndexedTask.MIN_RANGE_SIZE) {
+      return scatter(indices, src);
+    }
+    pool.invoke(new ParallelIndexedTask<>(indices, src, pool.getParallelism(), this::scatter));
+    indices.position(indices.position() + length);
+    src.position(src.position() + length);
+    return this;
+  }
+
+  /**
+   * Scatters the integers of another buffer to the given 32-bits indices of this buffer, using the
+   * threads of the given pool.
+   *
+   * @see #scatter(LongDataBuffer, IntDataBuffer, ForkJoinPool)
+   */
+  default IntDataBuffer scatter(IntDataBuffer indices, IntDataBuffer src,
+      ForkJoinPool pool) {
+    Validator.scatterArgs(this, indices, src);
+    long length = indices.remaining();
+    if (length <= ParallelIndexedTask.MIN_RANGE_SIZE) {
+      return scatter(indices, src);
+    }
+    pool.invoke(new ParallelIndexedTask<>(indices, src, pool.getParallelism(), this::scatter));
+    indices.position(indices.position() + length);
+    src.position(src.position() + length);
+    return this;
+  }
+
+  /**
+   * Adds the integers of another buffer to the integers at the given indices of this buffer.
+   * <p>
+   * For each index remaining in {@code indices}, the next integer of {@code src} is added to the
+   * integer at that index in this buffer, i.e. {@code this[indices[i]] += src[i]}. If an index is
+   * repeated, all of its integers are accumulated. All indices are validated before any value is
+   * transferred. The position of both {@code indices} and {@code src} is then incremented by the
+   * number of indices, while the position of this buffer is not modified.
+   *
+   * @param indices indices of the integers to update, from its position to its limit
+   * @param src the source buffer
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if an index is negative or not smaller than the limit of this
+   * buffer
+   * @throws BufferUnderflowException if there are fewer values remaining in {@code src} than in
+   * {@code indices}
+   * @throws IllegalArgumentException if {@code src} is this buffer
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default IntDataBuffer scatterAdd(LongDataBuffer indices, IntDataBuffer src) {
+    Validator.scatterArgs(this, indices, src);
+    Validator.indicesArgs(this, indices);
+    long indicesPosition = indices.position();
+    long srcPosition = src.position();
+    long length = indices.remaining();
+    for (long i = 0; i < length; ++i) {
+      long index = UncheckedAccess.getLong(indices, indicesPosition + i);
+      int value = UncheckedAccess.getInt(src, srcPosition + i);
+      UncheckedAccess.setInt(this, index, UncheckedAccess.getInt(this, index) + value);
+    }
+    indices.position(indicesPosition + length);
+    src.position(srcPosition + length);
+    return this;
+  }
+
+  /**
+   * Adds the integers of another buffer to the integers at the given 32-bits indices of this
+   * buffer.
+   *
+   * @see #scatterAdd(LongDataBuffer, IntDataBuffer)
+   */
+  default IntDataBuffer scatterAdd(IntDataBuffer indices, IntDataBuffer src) {
+    Validator.scatterArgs(this, indices, src);
+    Validator.indicesArgs(this, indices);
+    long indicesPosition = indices.position();
+    long srcPosition = src.position();
+    long length = indices.remaining();
+    for (long i = 0; i < length; ++i) {
+      int index = UncheckedAccess.getInt(indices, indicesPosition + i);
+      int value = UncheckedAccess.getInt(src, srcPosition + i);
+      UncheckedAccess.setInt(this, index, UncheckedAccess.getInt(this, index) + value);
+    }
+    indices.position(indicesPosition + length);
+    src.position(srcPosition + length);
+    return this;
+  }
+
+  @Override
+  default long writeTo(WritableByteChannel channel, ByteOrder order) throws IOException {
+    return ChannelTransfer.write(this, channel, order, Integer.BYTES,
+        bytes -> IntJdkDataBuffer.wrap(bytes.asIntBuffer()));
+  }
+
+  @Override
+  default long readFrom(ReadableByteChannel channel, ByteOrder order) throws IOException {
+    return ChannelTransfer.read(this, channel, order, Integer.BYTES,
+        bytes -> IntJdkDataBuffer.wrap(bytes.asIntBuffer()));
+  }
+
+  @Override
+  default CompletableFuture<Long> writeToAsync(AsynchronousFileChannel channel, long position,
+      ByteOrder order) {
+    return AsyncFileTransfer.write(this, channel, position, order, Integer.BYTES,
+        bytes -> IntJdkDataBuffer.wrap(bytes.asIntBuffer()));
+  }
+
+  @Override
+  default CompletableFuture<Long> readFromAsync(AsynchronousFileChannel channel, long position,
+      ByteOrder order) {
+    return AsyncFileTransfer.read(this, channel, position, order, Integer.BYTES,
+        bytes -> IntJdkDataBuffer.wrap(bytes.asIntBuffer()));
+  }
+
   @Override
   IntDataBuffer limit(long newLimit);
 
@@ -156,6 +542,22 @@ public interface IntDataBuffer extends DataBuffer<Integer> {
   @Override
   IntDataBuffer put(DataBuffer<Integer> src);
 
+  @Override
+  default IntDataBuffer fill(Integer value) {
+    return fill(value.intValue());
+  }
+
+  @Override
+  default IntDataBuffer fill(long fromIndex, long toIndex, Integer value) {
+    return fill(fromIndex, toIndex, value.intValue());
+  }
+
+  @Override
+  default IntDataBuffer fill(DataBuffer<Integer> pattern) {
+    DataBuffer.super.fill(pattern);
+    return this;
+  }
+
   @Override
   IntDataBuffer duplicate();
 
@@ -163,4 +565,10 @@ public interface IntDataBuffer extends DataBuffer<Integer> {
   default IntDataBuffer slice() {
     return new IntDataBufferView(duplicate(), position(), limit());
   }
+
+  @Override
+  default IntDataBuffer strided(long offset, long stride, long count) {
+    return new IntStridedDataBufferView(duplicate().limit(capacity()), offset,
+        stride, count);
+  }
 }
@@ -16,12 +16,29 @@
  */
 package org.tensorflow.nio.buffer;
 
+import java.io.IOException;
 import java.nio.BufferOverflowException;
 import java.nio.BufferUnderflowException;
+import java.nio.ByteOrder;
 import java.nio.ReadOnlyBufferException;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import org.tensorflow.nio.buffer.impl.AsyncFileTransfer;
+import org.tensorflow.nio.buffer.impl.ChannelTransfer;
+import org.tensorflow.nio.buffer.impl.ParallelIndexedTask;
+import org.tensorflow.nio.buffer.impl.UncheckedAccess;
+import org.tensorflow.nio.buffer.impl.Validator;
+import org.tensorflow.nio.buffer.impl.single.LongJdkDataBuffer;
+import org.tensorflow.nio.buffer.impl.stream.IndexedLongSpliterator;
 import org.tensorflow.nio.buffer.impl.view.LongDataBufferView;
+import org.tensorflow.nio.buffer.impl.view.LongStridedDataBufferView;
 
 /**
  * A {@link DataBuffer} of longs.
@@ -29,12 +46,17 @@ import org.tensorflow.nio.buffer.impl.view.LongDataBufferView;
 public interface LongDataBuffer extends DataBuffer<Long> {
 
   /**
-   * Retrieve values of this buffer as a stream of longs <i>(optional operation)</i>.
+   * Retrieve values of this buffer as a stream of longs.
+   * <p>
+   * The stream covers the values between the current position and the limit of this buffer, as
+   * they are when this method is called. It can be split evenly in parallel streams.
    *
    * @return values, as a stream
-   * @throws UnsupportedOperationException if streaming is not supported by this buffer
    */
-  LongStream longStream();
+  default LongStream longStream() {
+    return StreamSupport
+        .longStream(new IndexedLongSpliterator(this::getLong, position(), limit()), false);
+  }
 
   /**
    * Relative bulk <i>get</i> method, using long arrays.
@@ -128,6 +150,370 @@ public interface LongDataBuffer extends DataBuffer<Long> {
    */
   LongDataBuffer put(long[] src, int offset, int length);
 
+  /**
+   * Absolute <i>get</i> method for longs.
+   * <p>
+   * Reads the long at the given index, without boxing it like {@link #get(long)} does.
+   *
+   * @param index the index from which the long will be read
+   * @return the long at the given index
+   * @throws IndexOutOfBoundsException if index is negative or not smaller than the buffer's limit
+   */
+  long getLong(long index);
+
+  /**
+   * Absolute <i>put</i> method for longs.
+   * <p>
+   * Writes the given long into this buffer at the given index, without boxing it like {@link
+   * #put(long, Object)} does.
+   *
+   * @param index the index at which the long will be written
+   * @param value the long to be written
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if index is negative or not smaller than the buffer's limit
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  LongDataBuffer setLong(long index, long value);
+
+  /**
+   * Bulk <i>fill</i> method for longs.
+   * <p>
+   * Writes the given long at all indices of this buffer, from 0 up to its limit, without boxing
+   * it like {@link #fill(Object)} does. The position of this buffer is not modified.
+   *
+   * @param value the long to be written
+   * @return this buffer
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default LongDataBuffer fill(long value) {
+    return fill(0, limit(), value);
+  }
+
+  /**
+   * Bulk absolute <i>fill</i> method for longs.
+   * <p>
+   * Writes the given long at all indices of this buffer from {@code fromIndex}, inclusive, to
+   * {@code toIndex}, exclusive, without boxing it like {@link #fill(long, long, Object)} does. The
+   * position of this buffer is not modified.
+   *
+   * @param fromIndex index of the first long to be written
+   * @param toIndex index following the last long to be written; must be no larger than the buffer
+   * limit
+   * @param value the long to be written
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if fromIndex is negative or toIndex is larger than the buffer
+   * limit
+   * @throws IllegalArgumentException if fromIndex is larger than toIndex
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default LongDataBuffer fill(long fromIndex, long toIndex, long value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    for (long index = fromIndex; index < toIndex; ++index) {
+      setLong(index, value);
+    }
+    return this;
+  }
+
+  @Override
+  default Stream<Long> stream() {
+    return longStream().boxed();
+  }
+
+  /**
+   * Gathers the longs of this buffer at the given indices into another buffer.
+   * <p>
+   * For each index remaining in {@code indices}, the long at that index in this buffer is
+   * written to {@code dst}, i.e. {@code dst[i] = this[indices[i]]}. All indices are validated
+   * before any value is transferred. The position of both {@code indices} and {@code dst} is then
+   * incremented by the number of indices, while the position of this buffer is not modified.
+   *
+   * @param indices indices of the longs to gather, from its position to its limit
+   * @param dst the destination buffer
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if an index is negative or not smaller than the limit of this
+   * buffer
+   * @throws BufferOverflowException if there are fewer values remaining in {@code dst} than in
+   * {@code indices}
+   * @throws IllegalArgumentException if {@code dst} is this buffer
+   * @throws ReadOnlyBufferException if {@code dst} is read-only
+   */
+  default LongDataBuffer gather(LongDataBuffer indices, LongDataBuffer dst) {
+    Validator.gatherArgs(this, indices, dst);
+    Validator.indicesArgs(this, indices);
+    long indicesPosition = indices.position();
+    long dstPosition = dst.position();
+    long length = indices.remaining();
+    for (long i = 0; i < length; ++i) {
+      long index = UncheckedAccess.getLong(indices, indicesPosition + i);
+      UncheckedAccess.setLong(dst, dstPosition + i, UncheckedAccess.getLong(this, index));
+    }
+    indices.position(indicesPosition + length);
+    dst.position(dstPosition + length);
+    return this;
+  }
+
+  /**
+   * Gathers the longs of this buffer at the given 32-bits indices into another buffer.
+   *
+   * @see #gather(LongDataBuffer, LongDataBuffer)
+   */
+  default LongDataBuffer gather(IntDataBuffer indices, LongDataBuffer dst) {
+    Validator.gatherArgs(this, indices, dst);
+    Validator.indicesArgs(this, indices);
+    long indicesPosition = indices.position();
+    long dstPosition = dst.position();
+    long length = indices.remaining();
+    for (long i = 0; i < length; ++i) {
+      int index = UncheckedAccess.getInt(indices, indicesPosition + i);
+      UncheckedAccess.setLong(dst, dstPosition + i, UncheckedAccess.getLong(this, index));
+    }
+    indices.position(indicesPosition + length);
+    dst.position(dstPosition + length);
+    return this;
+  }
+
+  /**
+   * Gathers the longs of this buffer at the given indices into another buffer, using the threads
+   * of the given pool.
+   * <p>
+   * This method has the same effect as {@link #gather(LongDataBuffer, LongDataBuffer)},
+   * but splits the indices in ranges that are gathered concurrently, one per thread of the pool.
+   * Indices are validated per range, so if one of them is out of bounds, values of other ranges
+   * may have been transferred and the positions of the buffers are left unchanged.
+   *
+   * @param indices indices of the longs to gather, from its position to its limit
+   * @param dst the destination buffer
+   * @param pool the pool of threads gathering the values
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if an index is negative or not smaller than the limit of this
+   * buffer
+   * @throws BufferOverflowException if there are fewer values remaining in {@code dst} than in
+   * {@code indices}
+   * @throws IllegalArgumentException if {@code dst} is this buffer
+   * @throws ReadOnlyBufferException if {@code dst} is read-only
+   */
+  default LongDataBuffer gather(LongDataBuffer indices, LongDataBuffer dst,
+      ForkJoinPool pool) {
+    Validator.gatherArgs(this, indices, dst);
+    long length = indices.remaining();
+    if (length <= ParallelIndexedTask.MIN_RANGE_SIZE) {
+      return gather(indices, dst);
+    }
+    pool.invoke(new ParallelIndexedTask<>(indices, dst, pool.getParallelism(), this::gather));
+    indices.position(indices.position() + length);
+    dst.position(dst.position() + length);
+    return this;
+  }
+
+  /**
+   * Gathers the longs of this buffer at the given 32-bits indices into another buffer, using the
+   * threads of the given pool.
+   *
+   * @see #gather(LongDataBuffer, LongDataBuffer, ForkJoinPool)
+   */
+  default LongDataBuffer gather(IntDataBuffer indices, LongDataBuffer dst,
+      ForkJoinPool pool) {
+    Validator.gatherArgs(this, indices, dst);
+    long length = indices.remaining();
+    if (length <= ParallelIndexedTask.MIN_RANGE_SIZE) {
+      return gather(indices, dst);
+    }
+    pool.invoke(new ParallelIndexedTask<>(indices, dst, pool.getParallelism(), this::gather));
+    indices.position(indices.position() + length);
+    dst.position(dst.position() + length);
+    return this;
+  }
+
+  /**
+   * Scatters the longs of another buffer to the given indices of this buffer.
+   * <p>
+   * For each index remaining in {@code indices}, the next long of {@code src} is written at that
+   * index in this buffer, i.e. {@code this[indices[i]] = src[i]}. If an index is repeated, the
+   * last long written at that index is kept. All indices are validated before any value is
+   * transferred. The position of both {@code indices} and {@code src} is then incremented by the
+   * number of indices, while the position of this buffer is not modified.
+   *
+   * @param indices indices of the longs to write, from its position to its limit
+   * @param src the source buffer
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if an index is negative or not smaller than the limit of this
+   * buffer
+   * @throws BufferUnderflowException if there are fewer values remaining in {@code src} than in
+   * {@code indices}
+   * @throws IllegalArgumentException if {@code src} is this buffer
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default LongDataBuffer scatter(LongDataBuffer indices, LongDataBuffer src) {
+    Validator.scatterArgs(this, indices, src);
+    Validator.indicesArgs(this, indices);
+    long indicesPosition = indices.position();
+    long srcPosition = src.position();
+    long length = indices.remaining();
+    for (long i = 0; i < length; ++i) {
+      long index = UncheckedAccess.getLong(indices, indicesPosition + i);
+      UncheckedAccess.setLong(this, index, UncheckedAccess.getLong(src, srcPosition + i));
+    }
+    indices.position(indicesPosition + length);
+    src.position(srcPosition + length);
+    return this;
+  }
+
+  /**
+   * Scatters the longs of another buffer to the given 32-bits indices of this buffer.
+   *
+   * @see #scatter(LongDataBuffer, LongDataBuffer)
+   */
+  default LongDataBuffer scatter(IntDataBuffer indices, LongDataBuffer src) {
+    Validator.scatterArgs(this, indices, src);
+    Validator.indicesArgs(this, indices);
+    long indicesPosition = indices.position();
+    long srcPosition = src.position();
+    long length = indices.remaining();
+    for (long i = 0; i < length; ++i) {
+      int index = UncheckedAccess.getInt(indices, indicesPosition + i);
+      UncheckedAccess.setLong(this, index, UncheckedAccess.getLong(src, srcPosition + i));
+    }
+    indices.position(indicesPosition + length);
+    src.position(srcPosition + length);
+    return this;
+  }
+
+  /**
+   * Scatters the longs of another buffer to the given indices of this buffer, using the threads
+   * of the given pool.
+   * <p>
+   * This method has the same effect as {@link #scatter(LongDataBuffer, LongDataBuffer)},
+   * but splits the indices in ranges that are scattered concurrently, one per thread of the pool.
+   * If an index is repeated, which of its longs is kept is unspecified. Indices are validated
+   * per range, so if one of them is out of bounds, values of other ranges may have been
+   * transferred and the positions of the buffers are left unchanged.
+   *
+   * @param indices indices of the longs to write, from its position to its limit
+   * @param src the source buffer
+   * @param pool the pool of threads scattering the values
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if an index is negative or not smaller than the limit of this
+   * buffer
+   * @throws BufferUnderflowException if there are fewer values remaining in {@code src} than in
+   * {@code indices}
+   * @throws IllegalArgumentException if {@code src} is this buffer
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default LongDataBuffer scatter(LongDataBuffer indices, LongDataBuffer src,
+      ForkJoinPool pool) {
+    Validator.scatterArgs(this, indices, src);
+    long length = indices.remaining();
+    if (length <= ParallelIndexedTask.MIN_RANGE_SIZE) {
+      return scatter(indices, src);
+    }
+    pool.invoke(new ParallelIndexedTask<>(indices, src, pool.getParallelism(), this::scatter));
+    indices.position(indices.position() + length);
+    src.position(src.position() + length);
+    return this;
+  }
+
+  /**
+   * Scatters the longs of another buffer to the given 32-bits indices of this buffer, using the
+   * threads of the given pool.
+   *
+   * @see #scatter(LongDataBuffer, LongDataBuffer, ForkJoinPool)
+   */
+  default LongDataBuffer scatter(IntDataBuffer indices, LongDataBuffer src,
+      ForkJoinPool pool) {
+    Validator.scatterArgs(this, indices, src);
+    long length = indices.remaining();
+    if (length <= ParallelIndexedTask.MIN_RANGE_SIZE) {
+      return scatter(indices, src);
+    }
+    pool.invoke(new ParallelIndexedTask<>(indices, src, pool.getParallelism(), this::scatter));
+    indices.position(indices.position() + length);
+    src.position(src.position() + length);
+    return this;
+  }
+
+  /**
+   * Adds the longs of another buffer to the longs at the given indices of this buffer.
+   * <p>
+   * For each index remaining in {@code indices}, the next long of {@code src} is added to the
+   * long at that index in this buffer, i.e. {@code this[indices[i]] += src[i]}. If an index is
+   * repeated, all of its longs are accumulated. All indices are validated before any value is
+   * transferred. The position of both {@code indices} and {@code src} is then incremented by the
+   * number of indices, while the position of this buffer is not modified.
+   *
+   * @param indices indices of the longs to update, from its position to its limit
+   * @param src the source buffer
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if an index is negative or not smaller than the limit of this
+   * buffer
+   * @throws BufferUnderflowException if there are fewer values remaining in {@code src} than in
+   * {@code indices}
+   * @throws IllegalArgumentException if {@code src} is this buffer
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default LongDataBuffer scatterAdd(LongDataBuffer indices, LongDataBuffer src) {
+    Validator.scatterArgs(this, indices, src);
+    Validator.indicesArgs(this, indices);
+    long indicesPosition = indices.position();
+    long srcPosition = src.position();
+    long length = indices.remaining();
+    for (long i = 0; i < length; ++i) {
+      long index = UncheckedAccess.getLong(indices, indicesPosition + i);
+      long value = UncheckedAccess.getLong(src, srcPosition + i);
+      UncheckedAccess.setLong(this, index, UncheckedAccess.getLong(this, index) + value);
+    }
+    indices.position(indicesPosition + length);
+    src.position(srcPosition + length);
+    return this;
+  }
+
+  /**
+   * Adds the longs of another buffer to the longs at the given 32-bits indices of this
+   * buffer.
+   *
+   * @see #scatterAdd(LongDataBuffer, LongDataBuffer)
+   */
+  default LongDataBuffer scatterAdd(IntDataBuffer indices, LongDataBuffer src) {
+    Validator.scatterArgs(this, indices, src);
+    Validator.indicesArgs(this, indices);
+    long indicesPosition = indices.position();
+    long srcPosition = src.position();
+    long length = indices.remaining();
+    for (long i = 0; i < length; ++i) {
+      int index = UncheckedAccess.getInt(indices, indicesPosition + i);
+      long value = UncheckedAccess.getLong(src, srcPosition + i);
+      UncheckedAccess.setLong(this, index, UncheckedAccess.getLong(this, index) + value);
+    }
+    indices.position(indicesPosition + length);
+    src.position(srcPosition + length);
+    return this;
+  }
+
+  @Override
+  default long writeTo(WritableByteChannel channel, ByteOrder order) throws IOException {
+    return ChannelTransfer.write(this, channel, order, Long.BYTES,
+        bytes -> LongJdkDataBuffer.wrap(bytes.asLongBuffer()));
+  }
+
+  @Override
+  default long readFrom(ReadableByteChannel channel, ByteOrder order) throws IOException {
+    return ChannelTransfer.read(this, channel, order, Long.BYTES,
+        bytes -> LongJdkDataBuffer.wrap(bytes.asLongBuffer()));
+  }
+
+  @Override
+  default CompletableFuture<Long> writeToAsync(AsynchronousFileChannel channel, long position,
+      ByteOrder order) {
+    return AsyncFileTransfer.write(this, channel, position, order, Long.BYTES,
+        bytes -> LongJdkDataBuffer.wrap(bytes.asLongBuffer()));
+  }
+
+  @Override
+  default CompletableFuture<Long> readFromAsync(AsynchronousFileChannel channel, long position,
+      ByteOrder order) {
+    return AsyncFileTransfer.read(this, channel, position, order, Long.BYTES,
+        bytes -> LongJdkDataBuffer.wrap(bytes.asLongBuffer()));
+  }
+
   @Override
   LongDataBuffer limit(long newLimit);
 
@@ -156,6 +542,22 @@ public interface LongDataBuffer extends DataBuffer<Long> {
   @Override
   LongDataBuffer put(DataBuffer<Long> src);
 
+  @Override
+  default LongDataBuffer fill(Long value) {
+    return fill(value.longValue());
+  }
+
+  @Override
+  default LongDataBuffer fill(long fromIndex, long toIndex, Long value) {
+    return fill(fromIndex, toIndex, value.longValue());
+  }
+
+  @Override
+  default LongDataBuffer fill(DataBuffer<Long> pattern) {
+    DataBuffer.super.fill(pattern);
+    return this;
+  }
+
   @Override
   LongDataBuffer duplicate();
 
@@ -163,4 +565,10 @@ public interface LongDataBuffer extends DataBuffer<Long> {
   default LongDataBuffer slice() {
     return new LongDataBufferView(duplicate(), position(), limit());
   }
+
+  @Override
+  default LongDataBuffer strided(long offset, long stride, long count) {
+    return new LongStridedDataBufferView(duplicate().limit(capacity()), offset,
+        stride, count);
+  }
 }
@@ -0,0 +1,116 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer;
+
+import java.util.List;
+
+import org.tensorflow.nio.buffer.impl.large.LongLargeDataBuffer;
+
+/**
+ * A builder assembling a buffer of longs of unknown final length, without copying its values.
+ *
+ * @see AbstractDataBufferBuilder
+ */
+public final class LongDataBufferBuilder
+    extends AbstractDataBufferBuilder<Long, LongDataBuffer, LongDataBufferBuilder> {
+
+  /**
+   * Creates a builder storing values in chunks of {@link #DEFAULT_CHUNK_CAPACITY} longs,
+   * allocated using the {@link DataBuffers#defaultAllocationMode() default allocation mode}.
+   *
+   * @return a new builder
+   */
+  public static LongDataBufferBuilder create() {
+    return create(DEFAULT_CHUNK_CAPACITY, DataBuffers.defaultAllocationMode());
+  }
+
+  /**
+   * Creates a builder storing values in chunks of the given capacity, allocated using the given
+   * mode.
+   *
+   * @param chunkCapacity number of longs stored in each chunk
+   * @param mode where the values of the chunks should be stored
+   * @return a new builder
+   * @throws IllegalArgumentException if the chunk capacity is not positive
+   */
+  public static LongDataBufferBuilder create(long chunkCapacity, AllocationMode mode) {
+    return new LongDataBufferBuilder(chunkCapacity, mode);
+  }
+
+  /**
+   * Appends a long.
+   *
+   * @param value value to append
+   * @return this builder
+   */
+  public LongDataBufferBuilder append(long value) {
+    LongDataBuffer chunk = nextChunk();
+    long position = chunk.position();
+    chunk.setLong(position, value).position(position + 1);
+    grow(1);
+    return this;
+  }
+
+  /**
+   * Appends all longs of an array.
+   *
+   * @param values values to append
+   * @return this builder
+   */
+  public LongDataBufferBuilder append(long[] values) {
+    return append(values, 0, values.length);
+  }
+
+  /**
+   * Appends a sequence of longs of an array.
+   *
+   * @param values array of values to append
+   * @param offset index of the first value to append in {@code values}
+   * @param length number of values to append
+   * @return this builder
+   * @throws IndexOutOfBoundsException if the offset or the length are out of the bounds of the
+   * array
+   */
+  public LongDataBufferBuilder append(long[] values, int offset, int length) {
+    if (offset < 0 || length < 0 || offset > values.length - length) {
+      throw new IndexOutOfBoundsException();
+    }
+    while (length > 0) {
+      LongDataBuffer chunk = nextChunk();
+      int chunkLength = (int) Math.min(length, chunk.remaining());
+      chunk.put(values, offset, chunkLength);
+      grow(chunkLength);
+      offset += chunkLength;
+      length -= chunkLength;
+    }
+    return this;
+  }
+
+  @Override
+  LongDataBuffer allocateChunk(long capacity) {
+    return DataBuffers.ofLongs(capacity, mode());
+  }
+
+  @Override
+  LongDataBuffer join(List<LongDataBuffer> chunks) {
+    return LongLargeDataBuffer.join(chunks.toArray(new LongDataBuffer[0]));
+  }
+
+  private LongDataBufferBuilder(long chunkCapacity, AllocationMode mode) {
+    super(chunkCapacity, mode);
+  }
+}
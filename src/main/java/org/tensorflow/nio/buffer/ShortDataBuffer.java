@@ -0,0 +1,591 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import org.tensorflow.nio.buffer.impl.AsyncFileTransfer;
+import org.tensorflow.nio.buffer.impl.ChannelTransfer;
+import org.tensorflow.nio.buffer.impl.ParallelIndexedTask;
+import org.tensorflow.nio.buffer.impl.UncheckedAccess;
+import org.tensorflow.nio.buffer.impl.Validator;
+import org.tensorflow.nio.buffer.impl.adapter.UnsignedShortDataBufferAdapter;
+import org.tensorflow.nio.buffer.impl.single.ShortJdkDataBuffer;
+import org.tensorflow.nio.buffer.impl.stream.IndexedIntSpliterator;
+import org.tensorflow.nio.buffer.impl.view.ShortDataBufferView;
+import org.tensorflow.nio.buffer.impl.view.ShortStridedDataBufferView;
+
+/**
+ * A {@link DataBuffer} of shorts.
+ */
+public interface ShortDataBuffer extends DataBuffer<Short> {
+
+  /**
+   * Retrieve values of this buffer as a stream of integers.
+   * <p>
+   * The stream covers the values between the current position and the limit of this buffer, as
+   * they are when this method is called. It can be split evenly in parallel streams.
+   * <p>
+   * Values are widened from shorts to integers, keeping their sign.
+   *
+   * @return values, as a stream
+   */
+  default IntStream intStream() {
+    return StreamSupport
+        .intStream(new IndexedIntSpliterator(this::getShort, position(), limit()), false);
+  }
+
+  /**
+   * Relative bulk <i>get</i> method, using short arrays.
+   * <p>
+   * This method transfers values from this buffer into the given destination array. If there are
+   * fewer values remaining in the buffer than are required to satisfy the request, that is, if
+   * {@code dst.length > remaining()}, then no values are transferred and a BufferUnderflowException
+   * is thrown.
+   * <p>
+   * Otherwise, this method copies {@code n = dst.length} values from this buffer into the given
+   * array, starting at the current position of this buffer. The position of this buffer is then
+   * incremented by {@code n}.
+   *
+   * @param dst the array into which values are to be written
+   * @return this buffer
+   * @throws BufferUnderflowException if there are fewer than length values remaining in this
+   * buffer
+   */
+  default ShortDataBuffer get(short[] dst) {
+    return get(dst, 0, dst.length);
+  }
+
+  /**
+   * Relative bulk <i>get</i> method, using short arrays.
+   * <p>
+   * This method transfers values from this buffer into the given destination array. If there are
+   * fewer values remaining in the buffer than are required to satisfy the request, that is, if
+   * {@code length > remaining()}, then no values are transferred and a BufferUnderflowException is
+   * thrown.
+   * <p>
+   * Otherwise, this method copies {@code n = length} values from this buffer into the given array,
+   * starting at the current position of this buffer and at the given offset in the array. The
+   * position of this buffer is then incremented by {@code n}.
+   *
+   * @param dst the array into which values are to be written
+   * @param offset the offset within the array of the first value to be written; must be
+   * non-negative and no larger than {@code dst.length}
+   * @param length the maximum number of values to be written to the given array; must be
+   * non-negative and no larger than {@code dst.length - offset}
+   * @return this buffer
+   * @throws BufferUnderflowException if there are fewer than length values remaining in this
+   * buffer
+   * @throws IndexOutOfBoundsException if the preconditions on the offset and length parameters do
+   * not hold
+   */
+  ShortDataBuffer get(short[] dst, int offset, int length);
+
+  /**
+   * Relative bulk <i>put</i> method, using short arrays.
+   * <p>
+   * This method transfers the values in the given source array into this buffer. If there are more
+   * values in the source array than in this buffer, that is, if {@code src.length > remaining()},
+   * then no values are transferred and a BufferOverflowException is thrown.
+   * <p>
+   * Otherwise, this method copies {@code n = src.length} values from the given array into this
+   * buffer, starting at this buffer current position. The position of this buffer is then
+   * incremented by {@code n}.
+   *
+   * @param src the source array from which values are to be read
+   * @return this buffer
+   * @throws BufferOverflowException if there is insufficient space in this buffer for the remaining
+   * values in the source array
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default ShortDataBuffer put(short[] src) {
+    return put(src, 0, src.length);
+  }
+
+  /**
+   * Relative bulk <i>put</i> method, using short arrays.
+   * <p>
+   * This method transfers the values in the given source array into this buffer. If there are more
+   * values in the source array than in this buffer, that is, if {@code length > remaining()}, then
+   * no values are transferred and a BufferOverflowException is thrown.
+   * <p>
+   * Otherwise, this method copies {@code n = length} values from the given array into this buffer,
+   * starting at the given offset in the array and at this buffer current position. The position of
+   * this buffer is then incremented by {@code n}.
+   *
+   * @param src the source array from which values are to be read
+   * @param offset the offset within the array of the first value to be read; must be non-negative
+   * and no larger than {@code src.length}
+   * @param length the number of values to be read from the given array; must be non-negative and no
+   * larger than {@code src.length - offset}
+   * @return this buffer
+   * @throws BufferOverflowException if there is insufficient space in this buffer for the remaining
+   * values in the source array
+   * @throws IllegalArgumentException if the preconditions on the offset and length parameters do
+   * not hold
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  ShortDataBuffer put(short[] src, int offset, int length);
+
+  /**
+   * Absolute <i>get</i> method for shorts.
+   * <p>
+   * Reads the short at the given index, without boxing it like {@link #get(long)} does.
+   *
+   * @param index the index from which the short will be read
+   * @return the short at the given index
+   * @throws IndexOutOfBoundsException if index is negative or not smaller than the buffer's limit
+   */
+  short getShort(long index);
+
+  /**
+   * Absolute <i>put</i> method for shorts.
+   * <p>
+   * Writes the given short into this buffer at the given index, without boxing it like {@link
+   * #put(long, Object)} does.
+   *
+   * @param index the index at which the short will be written
+   * @param value the short to be written
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if index is negative or not smaller than the buffer's limit
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  ShortDataBuffer setShort(long index, short value);
+
+  /**
+   * Bulk <i>fill</i> method for shorts.
+   * <p>
+   * Writes the given short at all indices of this buffer, from 0 up to its limit, without boxing
+   * it like {@link #fill(Object)} does. The position of this buffer is not modified.
+   *
+   * @param value the short to be written
+   * @return this buffer
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default ShortDataBuffer fill(short value) {
+    return fill(0, limit(), value);
+  }
+
+  /**
+   * Bulk absolute <i>fill</i> method for shorts.
+   * <p>
+   * Writes the given short at all indices of this buffer from {@code fromIndex}, inclusive, to
+   * {@code toIndex}, exclusive, without boxing it like {@link #fill(long, long, Object)} does. The
+   * position of this buffer is not modified.
+   *
+   * @param fromIndex index of the first short to be written
+   * @param toIndex index following the last short to be written; must be no larger than the
+   * buffer limit
+   * @param value the short to be written
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if fromIndex is negative or toIndex is larger than the buffer
+   * limit
+   * @throws IllegalArgumentException if fromIndex is larger than toIndex
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default ShortDataBuffer fill(long fromIndex, long toIndex, short value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    for (long index = fromIndex; index < toIndex; ++index) {
+      setShort(index, value);
+    }
+    return this;
+  }
+
+  /**
+   * Returns a view of this buffer as a buffer of unsigned 16-bits integers.
+   * <p>
+   * The new buffer shares the shorts remaining in this buffer, i.e. from its position to its limit,
+   * so changes to one buffer are visible in the other. Its capacity is the number of shorts
+   * remaining, its position is zero and its limit is its capacity. The position and limit of this
+   * buffer are not modified.
+   * <p>
+   * Values are widened to integers without their sign when read, in the range [0, 65535], and only
+   * their lower 16 bits are kept when written, like a cast to {@code short} does. No values are
+   * copied or converted in advance.
+   *
+   * @return a buffer of integers sharing the shorts of this buffer
+   */
+  default IntDataBuffer asUnsigned() {
+    return new UnsignedShortDataBufferAdapter(this);
+  }
+
+  /**
+   * Gathers the shorts of this buffer at the given indices into another buffer.
+   * <p>
+   * For each index remaining in {@code indices}, the short at that index in this buffer is
+   * written to {@code dst}, i.e. {@code dst[i] = this[indices[i]]}. All indices are validated
+   * before any value is transferred. The position of both {@code indices} and {@code dst} is then
+   * incremented by the number of indices, while the position of this buffer is not modified.
+   *
+   * @param indices indices of the shorts to gather, from its position to its limit
+   * @param dst the destination buffer
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if an index is negative or not smaller than the limit of this
+   * buffer
+   * @throws BufferOverflowException if there are fewer values remaining in {@code dst} than in
+   * {@code indices}
+   * @throws IllegalArgumentException if {@code dst} is this buffer
+   * @throws ReadOnlyBufferException if {@code dst} is read-only
+   */
+  default ShortDataBuffer gather(LongDataBuffer indices, ShortDataBuffer dst) {
+    Validator.gatherArgs(this, indices, dst);
+    Validator.indicesArgs(this, indices);
+    long indicesPosition = indices.position();
+    long dstPosition = dst.position();
+    long length = indices.remaining();
+    for (long i = 0; i < length; ++i) {
+      long index = UncheckedAccess.getLong(indices, indicesPosition + i);
+      UncheckedAccess.setShort(dst, dstPosition + i, UncheckedAccess.getShort(this, index));
+    }
+    indices.position(indicesPosition + length);
+    dst.position(dstPosition + length);
+    return this;
+  }
+
+  /**
+   * Gathers the shorts of this buffer at the given 32-bits indices into another buffer.
+   *
+   * @see #gather(LongDataBuffer, ShortDataBuffer)
+   */
+  default ShortDataBuffer gather(IntDataBuffer indices, ShortDataBuffer dst) {
+    Validator.gatherArgs(this, indices, dst);
+    Validator.indicesArgs(this, indices);
+    long indicesPosition = indices.position();
+    long dstPosition = dst.position();
+    long length = indices.remaining();
+    for (long i = 0; i < length; ++i) {
+      int index = UncheckedAccess.getInt(indices, indicesPosition + i);
+      UncheckedAccess.setShort(dst, dstPosition + i, UncheckedAccess.getShort(this, index));
+    }
+    indices.position(indicesPosition + length);
+    dst.position(dstPosition + length);
+    return this;
+  }
+
+  /**
+   * Gathers the shorts of this buffer at the given indices into another buffer, using the threads
+   * of the given pool.
+   * <p>
+   * This method has the same effect as {@link #gather(LongDataBuffer, ShortDataBuffer)},
+   * but splits the indices in ranges that are gathered concurrently, one per thread of the pool.
+   * Indices are validated per range, so if one of them is out of bounds, values of other ranges
+   * may have been transferred and the positions of the buffers are left unchanged.
+   *
+   * @param indices indices of the shorts to gather, from its position to its limit
+   * @param dst the destination buffer
+   * @param pool the pool of threads gathering the values
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if an index is negative or not smaller than the limit of this
+   * buffer
+   * @throws BufferOverflowException if there are fewer values remaining in {@code dst} than in
+   * {@code indices}
+   * @throws IllegalArgumentException if {@code dst} is this buffer
+   * @throws ReadOnlyBufferException if {@code dst} is read-only
+   */
+  default ShortDataBuffer gather(LongDataBuffer indices, ShortDataBuffer dst,
+      ForkJoinPool pool) {
+    Validator.gatherArgs(this, indices, dst);
+    long length = indices.remaining();
+    if (length <= ParallelIndexedTask.MIN_RANGE_SIZE) {
+      return gather(indices, dst);
+    }
+    pool.invoke(new ParallelIndexedTask<>(indices, dst, pool.getParallelism(), this::gather));
+    indices.position(indices.position() + length);
+    dst.position(dst.position() + length);
+    return this;
+  }
+
+  /**
+   * Gathers the shorts of this buffer at the given 32-bits indices into another buffer, using the
+   * threads of the given pool.
+   *
+   * @see #gather(LongDataBuffer, ShortDataBuffer, ForkJoinPool)
+   */
+  default ShortDataBuffer gather(IntDataBuffer indices, ShortDataBuffer dst,
+      ForkJoinPool pool) {
+    Validator.gatherArgs(this, indices, dst);
+    long length = indices.remaining();
+    if (length <= ParallelIndexedTask.MIN_RANGE_SIZE) {
+      return gather(indices, dst);
+    }
+    pool.invoke(new ParallelIndexedTask<>(indices, dst, pool.getParallelism(), this::gather));
+    indices.position(indices.position() + length);
+    dst.position(dst.position() + length);
+    return this;
+  }
+
+  /**
+   * Scatters the shorts of another buffer to the given indices of this buffer.
+   * <p>
+   * For each index remaining in {@code indices}, the next short of {@code src} is written at that
+   * index in this buffer, i.e. {@code this[indices[i]] = src[i]}. If an index is repeated, the
+   * last short written at that index is kept. All indices are validated before any value is
+   * transferred. The position of both {@code indices} and {@code src} is then incremented by the
+   * number of indices, while the position of this buffer is not modified.
+   *
+   * @param indices indices of the shorts to write, from its position to its limit
+   * @param src the source buffer
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if an index is negative or not smaller than the limit of this
+   * buffer
+   * @throws BufferUnderflowException if there are fewer values remaining in {@code src} than in
+   * {@code indices}
+   * @throws IllegalArgumentException if {@code src} is this buffer
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default ShortDataBuffer scatter(LongDataBuffer indices, ShortDataBuffer src) {
+    Validator.scatterArgs(this, indices, src);
+    Validator.indicesArgs(this, indices);
+    long indicesPosition = indices.position();
+    long srcPosition = src.position();
+    long length = indices.remaining();
+    for (long i = 0; i < length; ++i) {
+      long index = UncheckedAccess.getLong(indices, indicesPosition + i);
+      UncheckedAccess.setShort(this, index, UncheckedAccess.getShort(src, srcPosition + i));
+    }
+    indices.position(indicesPosition + length);
+    src.position(srcPosition + length);
+    return this;
+  }
+
+  /**
+   * Scatters the shorts of another buffer to the given 32-bits indices of this buffer.
+   *
+   * @see #scatter(LongDataBuffer, ShortDataBuffer)
+   */
+  default ShortDataBuffer scatter(IntDataBuffer indices, ShortDataBuffer src) {
+    Validator.scatterArgs(this, indices, src);
+    Validator.indicesArgs(this, indices);
+    long indicesPosition = indices.position();
+    long srcPosition = src.position();
+    long length = indices.remaining();
+    for (long i = 0; i < length; ++i) {
+      int index = UncheckedAccess.getInt(indices, indicesPosition + i);
+      UncheckedAccess.setShort(this, index, UncheckedAccess.getShort(src, srcPosition + i));
+    }
+    indices.position(indicesPosition + length);
+    src.position(srcPosition + length);
+    return this;
+  }
+
+  /**
+   * Scatters the shorts of another buffer to the given indices of this buffer, using the threads
+   * of the given pool.
+   * <p>
+   * This method has the same effect as {@link #scatter(LongDataBuffer, ShortDataBuffer)},
+   * but splits the indices in ranges that are scattered concurrently, one per thread of the pool.
+   * If an index is repeated, which of its shorts is kept is unspecified. Indices are validated
+   * per range, so if one of them is out of bounds, values of other ranges may have been
+   * transferred and the positions of the buffers are left unchanged.
+   *
+   * @param indices indices of the shorts to write, from its position to its limit
+   * @param src the source buffer
+   * @param pool the pool of threads scattering the values
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if an index is negative or not smaller than the limit of this
+   * buffer
+   * @throws BufferUnderflowException if there are fewer values remaining in {@code src} than in
+   * {@code indices}
+   * @throws IllegalArgumentException if {@code src} is this buffer
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default ShortDataBuffer scatter(LongDataBuffer indices, ShortDataBuffer src,
+      ForkJoinPool pool) {
+    Validator.scatterArgs(this, indices, src);
+    long length = indices.remaining();
+    if (length <= ParallelIndexedTask.MIN_RANGE_SIZE) {
+      return scatter(indices, src);
+    }
+    pool.invoke(new ParallelIndexedTask<>(indices, src, pool.getParallelism(), this::scatter));
+    indices.position(indices.position() + length);
+    src.position(src.position() + length);
+    return this;
+  }
+
+  /**
+   * Scatters the shorts of another buffer to the given 32-bits indices of this buffer, using the
+   * threads of the given pool.
+   *
+   * @see #scatter(LongDataBuffer, ShortDataBuffer, ForkJoinPool)
+   */
+  default ShortDataBuffer scatter(IntDataBuffer indices, ShortDataBuffer src,
+      ForkJoinPool pool) {
+    Validator.scatterArgs(this, indices, src);
+    long length = indices.remaining();
+    if (length <= ParallelIndexedTask.MIN_RANGE_SIZE) {
+      return scatter(indices, src);
+    }
+    pool.invoke(new ParallelIndexedTask<>(indices, src, pool.getParallelism(), this::scatter));
+    indices.position(indices.position() + length);
+    src.position(src.position() + length);
+    return this;
+  }
+
+  /**
+   * Adds the shorts of another buffer to the shorts at the given indices of this buffer.
+   * <p>
+   * For each index remaining in {@code indices}, the next short of {@code src} is added to the
+   * short at that index in this buffer, i.e. {@code this[indices[i]] += src[i]}. If an index is
+   * repeated, all of its shorts are accumulated. All indices are validated before any value is
+   * transferred. The position of both {@code indices} and {@code src} is then incremented by the
+   * number of indices, while the position of this buffer is not modified.
+   *
+   * @param indices indices of the shorts to update, from its position to its limit
+   * @param src the source buffer
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if an index is negative or not smaller than the limit of this
+   * buffer
+   * @throws BufferUnderflowException if there are fewer values remaining in {@code src} than in
+   * {@code indices}
+   * @throws IllegalArgumentException if {@code src} is this buffer
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default ShortDataBuffer scatterAdd(LongDataBuffer indices, ShortDataBuffer src) {
+    Validator.scatterArgs(this, indices, src);
+    Validator.indicesArgs(this, indices);
+    long indicesPosition = indices.position();
+    long srcPosition = src.position();
+    long length = indices.remaining();
+    for (long i = 0; i < length; ++i) {
+      long index = UncheckedAccess.getLong(indices, indicesPosition + i);
+      short value = UncheckedAccess.getShort(src, srcPosition + i);
+      short sum = (short) (UncheckedAccess.getShort(this, index) + value);
+      UncheckedAccess.setShort(this, index, sum);
+    }
+    indices.position(indicesPosition + length);
+    src.position(srcPosition + length);
+    return this;
+  }
+
+  /**
+   * Adds the shorts of another buffer to the shorts at the given 32-bits indices of this
+   * buffer.
+   *
+   * @see #scatterAdd(LongDataBuffer, ShortDataBuffer)
+   */
+  default ShortDataBuffer scatterAdd(IntDataBuffer indices, ShortDataBuffer src) {
+    Validator.scatterArgs(this, indices, src);
+    Validator.indicesArgs(this, indices);
+    long indicesPosition = indices.position();
+    long srcPosition = src.position();
+    long length = indices.remaining();
+    for (long i = 0; i < length; ++i) {
+      int index = UncheckedAccess.getInt(indices, indicesPosition + i);
+      short value = UncheckedAccess.getShort(src, srcPosition + i);
+      short sum = (short) (UncheckedAccess.getShort(this, index) + value);
+      UncheckedAccess.setShort(this, index, sum);
+    }
+    indices.position(indicesPosition + length);
+    src.position(srcPosition + length);
+    return this;
+  }
+
+  @Override
+  default long writeTo(WritableByteChannel channel, ByteOrder order) throws IOException {
+    return ChannelTransfer.write(this, channel, order, Short.BYTES,
+        bytes -> ShortJdkDataBuffer.wrap(bytes.asShortBuffer()));
+  }
+
+  @Override
+  default long readFrom(ReadableByteChannel channel, ByteOrder order) throws IOException {
+    return ChannelTransfer.read(this, channel, order, Short.BYTES,
+        bytes -> ShortJdkDataBuffer.wrap(bytes.asShortBuffer()));
+  }
+
+  @Override
+  default CompletableFuture<Long> writeToAsync(AsynchronousFileChannel channel, long position,
+      ByteOrder order) {
+    return AsyncFileTransfer.write(this, channel, position, order, Short.BYTES,
+        bytes -> ShortJdkDataBuffer.wrap(bytes.asShortBuffer()));
+  }
+
+  @Override
+  default CompletableFuture<Long> readFromAsync(AsynchronousFileChannel channel, long position,
+      ByteOrder order) {
+    return AsyncFileTransfer.read(this, channel, position, order, Short.BYTES,
+        bytes -> ShortJdkDataBuffer.wrap(bytes.asShortBuffer()));
+  }
+
+  @Override
+  ShortDataBuffer limit(long newLimit);
+
+  @Override
+  default ShortDataBuffer withLimit(long limit) {
+    return duplicate().limit(limit);
+  }
+
+  @Override
+  ShortDataBuffer position(long newPosition);
+
+  @Override
+  default ShortDataBuffer withPosition(long position) {
+    return duplicate().position(position);
+  }
+
+  @Override
+  ShortDataBuffer rewind();
+
+  @Override
+  ShortDataBuffer put(Short value);
+
+  @Override
+  ShortDataBuffer put(long index, Short value);
+
+  @Override
+  ShortDataBuffer put(DataBuffer<Short> src);
+
+  @Override
+  default ShortDataBuffer fill(Short value) {
+    return fill(value.shortValue());
+  }
+
+  @Override
+  default ShortDataBuffer fill(long fromIndex, long toIndex, Short value) {
+    return fill(fromIndex, toIndex, value.shortValue());
+  }
+
+  @Override
+  default ShortDataBuffer fill(DataBuffer<Short> pattern) {
+    DataBuffer.super.fill(pattern);
+    return this;
+  }
+
+  @Override
+  ShortDataBuffer duplicate();
+
+  @Override
+  default ShortDataBuffer slice() {
+    return new ShortDataBufferView(duplicate(), position(), limit());
+  }
+
+  @Override
+  default ShortDataBuffer strided(long offset, long stride, long count) {
+    return new ShortStridedDataBufferView(duplicate().limit(capacity()), offset,
+        stride, count);
+  }
+}
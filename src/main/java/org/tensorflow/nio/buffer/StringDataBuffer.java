@@ -0,0 +1,210 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ReadOnlyBufferException;
+
+import org.tensorflow.nio.buffer.impl.view.StringDataBufferView;
+
+/**
+ * A {@link DataBuffer} of strings.
+ * <p>
+ * String buffers store their values as UTF-8 encoded bytes rather than as {@link String} objects.
+ * A string is only decoded when it is read, while its bytes can be accessed without copy using
+ * {@link #getBytes(long)}.
+ */
+public interface StringDataBuffer extends DataBuffer<String> {
+
+  /**
+   * Relative bulk <i>get</i> method, using string arrays.
+   * <p>
+   * This method transfers values from this buffer into the given destination array. If there are
+   * fewer values remaining in the buffer than are required to satisfy the request, that is, if
+   * {@code dst.length > remaining()}, then no values are transferred and a BufferUnderflowException
+   * is thrown.
+   * <p>
+   * Otherwise, this method copies {@code n = dst.length} values from this buffer into the given
+   * array, starting at the current position of this buffer. The position of this buffer is then
+   * incremented by {@code n}.
+   *
+   * @param dst the array into which values are to be written
+   * @return this buffer
+   * @throws BufferUnderflowException if there are fewer than length values remaining in this
+   * buffer
+   */
+  default StringDataBuffer get(String[] dst) {
+    return get(dst, 0, dst.length);
+  }
+
+  /**
+   * Relative bulk <i>get</i> method, using string arrays.
+   * <p>
+   * This method transfers values from this buffer into the given destination array. If there are
+   * fewer values remaining in the buffer than are required to satisfy the request, that is, if
+   * {@code length > remaining()}, then no values are transferred and a BufferUnderflowException is
+   * thrown.
+   * <p>
+   * Otherwise, this method copies {@code n = length} values from this buffer into the given array,
+   * starting at the current position of this buffer and at the given offset in the array. The
+   * position of this buffer is then incremented by {@code n}.
+   *
+   * @param dst the array into which values are to be written
+   * @param offset the offset within the array of the first value to be written; must be
+   * non-negative and no larger than {@code dst.length}
+   * @param length the maximum number of values to be written to the given array; must be
+   * non-negative and no larger than {@code dst.length - offset}
+   * @return this buffer
+   * @throws BufferUnderflowException if there are fewer than length values remaining in this
+   * buffer
+   * @throws IndexOutOfBoundsException if the preconditions on the offset and length parameters do
+   * not hold
+   */
+  StringDataBuffer get(String[] dst, int offset, int length);
+
+  /**
+   * Relative bulk <i>put</i> method, using string arrays.
+   * <p>
+   * This method transfers the values in the given source array into this buffer. If there are more
+   * values in the source array than in this buffer, that is, if {@code src.length > remaining()},
+   * then no values are transferred and a BufferOverflowException is thrown.
+   * <p>
+   * Otherwise, this method copies {@code n = src.length} values from the given array into this
+   * buffer, starting at this buffer current position. The position of this buffer is then
+   * incremented by {@code n}.
+   *
+   * @param src the source array from which values are to be read
+   * @return this buffer
+   * @throws BufferOverflowException if there is insufficient space in this buffer for the remaining
+   * values in the source array
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  default StringDataBuffer put(String[] src) {
+    return put(src, 0, src.length);
+  }
+
+  /**
+   * Relative bulk <i>put</i> method, using string arrays.
+   * <p>
+   * This method transfers the values in the given source array into this buffer. If there are more
+   * values in the source array than in this buffer, that is, if {@code length > remaining()}, then
+   * no values are transferred and a BufferOverflowException is thrown.
+   * <p>
+   * Otherwise, this method copies {@code n = length} values from the given array into this buffer,
+   * starting at the given offset in the array and at this buffer current position. The position of
+   * this buffer is then incremented by {@code n}.
+   * <p>
+   * The bytes of all strings are appended at once to the storage of this buffer, which is grown at
+   * most one time.
+   *
+   * @param src the source array from which values are to be read
+   * @param offset the offset within the array of the first value to be read; must be non-negative
+   * and no larger than {@code src.length}
+   * @param length the number of values to be read from the given array; must be non-negative and no
+   * larger than {@code src.length - offset}
+   * @return this buffer
+   * @throws BufferOverflowException if there is insufficient space in this buffer for the remaining
+   * values in the source array
+   * @throws IllegalArgumentException if the preconditions on the offset and length parameters do
+   * not hold
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  StringDataBuffer put(String[] src, int offset, int length);
+
+  /**
+   * Absolute <i>get</i> method for the bytes of a string.
+   * <p>
+   * Returns a read-only buffer of the UTF-8 encoded bytes of the string at the given index,
+   * without decoding them and, when possible, without copying them. The returned buffer keeps the
+   * bytes of the string even if a new value is written at this index afterwards.
+   *
+   * @param index the index from which the bytes will be read
+   * @return the bytes of the string at the given index, or null if this string is null
+   * @throws IndexOutOfBoundsException if index is negative or not smaller than the buffer's limit
+   */
+  ByteDataBuffer getBytes(long index);
+
+  /**
+   * Absolute <i>put</i> method for the bytes of a string.
+   * <p>
+   * Writes the given UTF-8 encoded bytes as the string at the given index, from the position up to
+   * the limit of the source buffer, without decoding them. The position of the source buffer is
+   * not modified.
+   *
+   * @param index the index at which the bytes will be written
+   * @param bytes the bytes of the string to be written, or null to write a null string
+   * @return this buffer
+   * @throws IndexOutOfBoundsException if index is negative or not smaller than the buffer's limit
+   * @throws ReadOnlyBufferException if this buffer is read-only
+   */
+  StringDataBuffer setBytes(long index, ByteDataBuffer bytes);
+
+  @Override
+  StringDataBuffer limit(long newLimit);
+
+  @Override
+  default StringDataBuffer withLimit(long limit) {
+    return duplicate().limit(limit);
+  }
+
+  @Override
+  StringDataBuffer position(long newPosition);
+
+  @Override
+  default StringDataBuffer withPosition(long position) {
+    return duplicate().position(position);
+  }
+
+  @Override
+  StringDataBuffer rewind();
+
+  @Override
+  StringDataBuffer put(String value);
+
+  @Override
+  StringDataBuffer put(long index, String value);
+
+  @Override
+  StringDataBuffer put(DataBuffer<String> src);
+
+  @Override
+  default StringDataBuffer fill(String value) {
+    DataBuffer.super.fill(value);
+    return this;
+  }
+
+  @Override
+  default StringDataBuffer fill(long fromIndex, long toIndex, String value) {
+    DataBuffer.super.fill(fromIndex, toIndex, value);
+    return this;
+  }
+
+  @Override
+  default StringDataBuffer fill(DataBuffer<String> pattern) {
+    DataBuffer.super.fill(pattern);
+    return this;
+  }
+
+  @Override
+  StringDataBuffer duplicate();
+
+  @Override
+  default StringDataBuffer slice() {
+    return new StringDataBufferView(duplicate(), position(), limit());
+  }
+}
@@ -16,8 +16,8 @@
  */
 package org.tensorflow.nio.buffer.impl;
 
-import java.nio.BufferOverflowException;
-import java.nio.ReadOnlyBufferException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 import org.tensorflow.nio.buffer.DataBuffer;
 
@@ -26,12 +26,116 @@ public abstract class AbstractDataBuffer<T, B extends DataBuffer<T>> implements
 
   @Override
   public B put(DataBuffer<T> src) {
-    if (src.remaining() > remaining()) {
-      throw new BufferOverflowException();
+    Validator.putArgs(this, src);
+    if (src instanceof AbstractDataBuffer && ((AbstractDataBuffer<T, ?>) src).copyTo(this)) {
+      return (B) this;
     }
     while (src.hasRemaining()) {
       put(src.get());
     }
     return (B) this;
   }
+
+  /**
+   * Copies all remaining values of this buffer to the given destination buffer, using a bulk
+   * operation supported by the storage of this buffer, if any.
+   * <p>
+   * This method is called when the destination does not know how to copy values efficiently from
+   * this buffer, so implementations should not call back {@code dst.put(this)}. On success, the
+   * position of both buffers are incremented by the number of values copied.
+   *
+   * @param dst the destination buffer, with enough space remaining for all values to copy
+   * @return true if values have been copied, false if the caller must copy them individually
+   */
+  protected boolean copyTo(DataBuffer<T> dst) {
+    return false;
+  }
+
+  /**
+   * Returns the remaining values of this buffer as a sequence of JDK byte buffers sharing its
+   * storage, if its values are stored as bytes in the given order.
+   * <p>
+   * This method is called to transfer values between this buffer and a channel without copying
+   * them. The returned byte buffers cover the values from the position to the limit of this buffer,
+   * in order, and their own position, limit and order are independent from those of the storage.
+   * The position of this buffer is not modified.
+   *
+   * @param order order in which the bytes of each value must be stored
+   * @return byte buffers sharing the remaining values of this buffer, or null if these values are
+   * not stored as bytes in that order
+   * @see ChannelTransfer
+   */
+  protected ByteBuffer[] byteBuffers(ByteOrder order) {
+    return null;
+  }
+
+  /**
+   * Returns the alignment of the values of this buffer in native memory.
+   * <p>
+   * By default, the alignment is computed from the byte buffers sharing all the values of this
+   * buffer, as returned by {@link #byteBuffers(ByteOrder)} in the native byte order.
+   *
+   * @return alignment of this buffer, in bytes, or 0 if its values are not stored in native memory
+   * or if their address is unknown
+   * @see Alignment#of(DataBuffer)
+   */
+  protected long alignment() {
+    DataBuffer<T> all = duplicate().limit(capacity()).rewind();
+    return Alignment.ofBytes(((AbstractDataBuffer<T, B>) all).byteBuffers(ByteOrder.nativeOrder()));
+  }
+
+  /**
+   * Returns the number of values stored in each chunk of this buffer, if its values are split in
+   * multiple chunks of storage, like the sub buffers of a large buffer.
+   * <p>
+   * Bulk operations splitting their work in ranges, like parallel copies, align these ranges on
+   * chunk boundaries so that each range is transferred from or to a single chunk.
+   *
+   * @return capacity of each chunk of this buffer, or 0 if its values are not split in chunks
+   * @see #chunkOffset(long)
+   */
+  protected long chunkCapacity() {
+    return 0;
+  }
+
+  /**
+   * Returns the index of a value in its chunk of storage.
+   *
+   * @param index index of the value in this buffer
+   * @return index of the value in its chunk, or 0 if values are not split in chunks
+   * @see #chunkCapacity()
+   */
+  protected long chunkOffset(long index) {
+    return 0;
+  }
+
+  /**
+   * Returns the object storing the remaining values of this buffer, if they can be read directly
+   * from memory at the offset returned by {@link #memoryOffset()}.
+   *
+   * @return the Java array storing the values of this buffer, or null if they are stored in native
+   * memory or cannot be read directly
+   * @see #memoryOffset()
+   */
+  protected Object memoryBase() {
+    return null;
+  }
+
+  /**
+   * Returns where the remaining values of this buffer start in memory, if they are stored
+   * contiguously in the native byte order.
+   * <p>
+   * This method is called by bulk operations reading the values of a buffer directly from memory
+   * with {@code Unsafe}, like comparisons. The offset is relative to the start of the object
+   * returned by {@link #memoryBase()}, or it is the native address of the values if that object is
+   * null.
+   *
+   * @return offset of the value at the position of this buffer, or -1 if the values of this buffer
+   * cannot be read directly from memory
+   * @see org.tensorflow.nio.buffer.impl.raw.UnsafeReference#mismatch(Object, long, Object, long,
+   * long)
+   */
+  protected long memoryOffset() {
+    return -1;
+  }
 }
@@ -0,0 +1,129 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl;
+
+import java.nio.ByteBuffer;
+
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.impl.raw.UnsafeReference;
+
+/**
+ * Utilities for allocating buffers whose values start at aligned native addresses.
+ * <p>
+ * An alignment is a power of two, in bytes. Aligning buffers on the size of a cache line or of a
+ * SIMD register lets vectorized code and native libraries load their values without crossing
+ * boundaries, and prevents threads writing to adjacent buffers from sharing cache lines.
+ */
+public final class Alignment {
+
+  /**
+   * Checks that an alignment is a positive power of two.
+   *
+   * @param alignment alignment to check, in bytes
+   * @throws IllegalArgumentException if the alignment is not a positive power of two
+   */
+  public static void validate(int alignment) {
+    if (alignment <= 0 || (alignment & (alignment - 1)) != 0) {
+      throw new IllegalArgumentException("Alignment must be a positive power of two");
+    }
+  }
+
+  /**
+   * Rounds up a value to the next multiple of an alignment.
+   *
+   * @param value value to round up
+   * @param alignment a power of two
+   * @return the smallest multiple of {@code alignment} that is greater or equal to {@code value}
+   */
+  public static long alignUp(long value, long alignment) {
+    return (value + alignment - 1) & -alignment;
+  }
+
+  /**
+   * Returns the capacity of each chunk of a buffer split in multiple aligned chunks.
+   * <p>
+   * The returned capacity leaves room for padding the start of a chunk within the maximum capacity
+   * allowed, and its size in bytes is a multiple of the alignment, so values of one aligned block
+   * never span two chunks.
+   *
+   * @param maxCapacity maximum capacity of a chunk, padding included, in values
+   * @param valueSize size of a value, in bytes
+   * @param alignment alignment of each chunk, in bytes
+   * @return capacity of a chunk, in values
+   */
+  public static long chunkCapacity(long maxCapacity, int valueSize, int alignment) {
+    long step = Math.max(1, alignment / valueSize);
+    long capacity = maxCapacity - (alignment + valueSize - 2) / valueSize;
+    return (capacity / step) * step;
+  }
+
+  /**
+   * Returns the alignment of the values of a buffer in native memory.
+   * <p>
+   * The alignment of a buffer is the largest power of two dividing the address of its first
+   * value. For a buffer split in multiple chunks, it is the smallest alignment of these chunks.
+   *
+   * @param buffer a buffer
+   * @return alignment of the buffer, in bytes, or 0 if its values are not stored in native memory
+   * or if their address is unknown
+   */
+  public static long of(DataBuffer<?> buffer) {
+    if (buffer instanceof AbstractDataBuffer) {
+      return ((AbstractDataBuffer<?, ?>) buffer).alignment();
+    }
+    return 0;
+  }
+
+  /**
+   * Returns the alignment of a native address.
+   *
+   * @param address a native address
+   * @return the largest power of two dividing this address
+   */
+  public static long ofAddress(long address) {
+    return Long.lowestOneBit(address);
+  }
+
+  /**
+   * Returns the smallest alignment of a sequence of direct byte buffers.
+   *
+   * @param buffers byte buffers, or null
+   * @return the alignment of the buffers, or 0 if any of them is not direct or if their address is
+   * unknown
+   */
+  static long ofBytes(ByteBuffer[] buffers) {
+    if (buffers == null || buffers.length == 0 || !UnsafeReference.isAvailable()) {
+      return 0;
+    }
+    long alignment = 0;
+    for (ByteBuffer buffer : buffers) {
+      if (!buffer.isDirect()) {
+        return 0;
+      }
+      long bufferAlignment;
+      try {
+        bufferAlignment = ofAddress(UnsafeReference.address(buffer) + buffer.position());
+      } catch (UnsupportedOperationException e) {
+        return 0;
+      }
+      alignment = alignment == 0 ? bufferAlignment : Math.min(alignment, bufferAlignment);
+    }
+    return alignment;
+  }
+
+  private Alignment() {}
+}
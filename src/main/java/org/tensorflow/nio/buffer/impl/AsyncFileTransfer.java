@@ -0,0 +1,272 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl;
+
+import java.io.EOFException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.tensorflow.nio.buffer.DataBuffer;
+
+/**
+ * Asynchronous transfers of values between data buffers and files.
+ * <p>
+ * The values of a buffer are split in parts of at most {@link #PART_SIZE} bytes, each transferred
+ * by positional reads or writes on an {@link AsynchronousFileChannel}, so that multiple parts are
+ * pending at the same time. Parts are distributed to at most {@link #MAX_PENDING_PARTS} lanes,
+ * transferring their parts one after the other. Like {@link ChannelTransfer}, values stored as
+ * bytes in the requested order are transferred directly from or to the storage of the buffer,
+ * while values of other buffers are encoded or decoded through a staging byte buffer owned by each
+ * lane, in the thread completing the transfer of its bytes.
+ */
+public final class AsyncFileTransfer {
+
+  /**
+   * Maximum size in bytes of a part transferred by a single positional operation.
+   */
+  public static final int PART_SIZE = 1 << 22;
+
+  /**
+   * Maximum number of parts being transferred at the same time.
+   */
+  public static final int MAX_PENDING_PARTS = 8;
+
+  /**
+   * Writes asynchronously the values remaining in a buffer to a file.
+   *
+   * @param src buffer to write, from its position to its limit
+   * @param channel channel of the file to write to
+   * @param position position in the file at which the first value is written, in bytes
+   * @param order order in which the bytes of each value are written
+   * @param valueSize size of a value, in bytes
+   * @param staging creates a buffer of the type of {@code src} viewing the given byte buffer
+   * @param <T> type of values to write
+   * @return a future completed with the number of values written
+   * @see DataBuffer#writeToAsync(AsynchronousFileChannel, long, ByteOrder)
+   */
+  public static <T> CompletableFuture<Long> write(DataBuffer<T> src,
+      AsynchronousFileChannel channel, long position, ByteOrder order, int valueSize,
+      Function<ByteBuffer, DataBuffer<T>> staging) {
+    return new Transfer<>(src.duplicate(), channel, position, order, valueSize, staging, true)
+        .execute();
+  }
+
+  /**
+   * Reads asynchronously values from a file into the space remaining in a buffer.
+   * <p>
+   * The returned future completes exceptionally with an {@link EOFException} if the file ends
+   * before this space is filled.
+   *
+   * @param dst buffer to read into, from its position to its limit
+   * @param channel channel of the file to read from
+   * @param position position in the file at which the first value is read, in bytes
+   * @param order order in which the bytes of each value are read
+   * @param valueSize size of a value, in bytes
+   * @param staging creates a buffer of the type of {@code dst} viewing the given byte buffer
+   * @param <T> type of values to read
+   * @return a future completed with the number of values read
+   * @throws ReadOnlyBufferException if {@code dst} is read-only
+   * @see DataBuffer#readFromAsync(AsynchronousFileChannel, long, ByteOrder)
+   */
+  public static <T> CompletableFuture<Long> read(DataBuffer<T> dst,
+      AsynchronousFileChannel channel, long position, ByteOrder order, int valueSize,
+      Function<ByteBuffer, DataBuffer<T>> staging) {
+    if (dst.isReadOnly()) {
+      throw new ReadOnlyBufferException();
+    }
+    return new Transfer<>(dst.duplicate(), channel, position, order, valueSize, staging, false)
+        .execute();
+  }
+
+  private static final class Transfer<T> {
+
+    CompletableFuture<Long> execute() {
+      List<Part<T>> parts = split();
+      int laneCount = Math.min(parts.size(), MAX_PENDING_PARTS);
+      CompletableFuture<?>[] lanes = new CompletableFuture<?>[laneCount];
+      for (int i = 0; i < laneCount; ++i) {
+        ByteBuffer block = null;
+        if (parts.get(i).bytes == null) {
+          int blockSize = (int) Math.min(PART_SIZE / valueSize, values.remaining()) * valueSize;
+          block = ByteBuffer.allocate(blockSize).order(order);
+        }
+        CompletableFuture<Void> lane = CompletableFuture.completedFuture(null);
+        for (int j = i; j < parts.size(); j += laneCount) {
+          Part<T> part = parts.get(j);
+          ByteBuffer laneBlock = block;
+          lane = lane.thenCompose(v -> transfer(part, laneBlock));
+        }
+        lanes[i] = lane;
+      }
+      long length = values.remaining();
+      return CompletableFuture.allOf(lanes).thenApply(v -> length);
+    }
+
+    Transfer(DataBuffer<T> values, AsynchronousFileChannel channel, long position,
+        ByteOrder order, int valueSize, Function<ByteBuffer, DataBuffer<T>> staging,
+        boolean write) {
+      this.values = values;
+      this.channel = channel;
+      this.position = position;
+      this.order = order;
+      this.valueSize = valueSize;
+      this.staging = staging;
+      this.write = write;
+    }
+
+    private final DataBuffer<T> values;
+    private final AsynchronousFileChannel channel;
+    private final long position;
+    private final ByteOrder order;
+    private final int valueSize;
+    private final Function<ByteBuffer, DataBuffer<T>> staging;
+    private final boolean write;
+
+    private List<Part<T>> split() {
+      List<Part<T>> parts = new ArrayList<>();
+      ByteBuffer[] buffers = ChannelTransfer.byteBuffers(values, order);
+      if (buffers != null) {
+        long partPosition = position;
+        for (ByteBuffer buffer : buffers) {
+          for (int offset = buffer.position(); offset < buffer.limit(); offset += PART_SIZE) {
+            ByteBuffer bytes = buffer.duplicate();
+            bytes.position(offset);
+            bytes.limit((int) Math.min((long) offset + PART_SIZE, buffer.limit()));
+            parts.add(new Part<>(bytes.slice(), null, partPosition));
+            partPosition += bytes.remaining();
+          }
+        }
+      } else {
+        long partLength = PART_SIZE / valueSize;
+        for (long index = values.position(); index < values.limit(); index += partLength) {
+          DataBuffer<T> partValues = values.duplicate()
+              .limit(Math.min(index + partLength, values.limit()))
+              .position(index);
+          long partPosition = position + (index - values.position()) * valueSize;
+          parts.add(new Part<>(null, partValues, partPosition));
+        }
+      }
+      return parts;
+    }
+
+    private CompletableFuture<Void> transfer(Part<T> part, ByteBuffer block) {
+      if (part.bytes != null) {
+        return new PositionalTransfer(channel, part.bytes, part.position, write).start();
+      }
+      block.clear();
+      block.limit((int) part.values.remaining() * valueSize);
+      if (write) {
+        staging.apply(block).put(part.values);
+        return new PositionalTransfer(channel, block, part.position, true).start();
+      }
+      return new PositionalTransfer(channel, block, part.position, false).start()
+          .thenRun(() -> {
+            block.rewind();
+            part.values.put(staging.apply(block));
+          });
+    }
+  }
+
+  private static final class Part<T> {
+
+    /**
+     * Bytes of the values to transfer directly, or null if they are staged.
+     */
+    final ByteBuffer bytes;
+
+    /**
+     * Values to transfer through a staging buffer, or null if their bytes are transferred directly.
+     */
+    final DataBuffer<T> values;
+
+    /**
+     * Position of the part in the file, in bytes.
+     */
+    final long position;
+
+    Part(ByteBuffer bytes, DataBuffer<T> values, long position) {
+      this.bytes = bytes;
+      this.values = values;
+      this.position = position;
+    }
+  }
+
+  /**
+   * Reads or writes all remaining bytes of a buffer, starting at its position zero, by repeating
+   * positional operations until the buffer is filled or emptied.
+   */
+  private static final class PositionalTransfer implements CompletionHandler<Integer, Void> {
+
+    @Override
+    public void completed(Integer count, Void attachment) {
+      if (count < 0) {
+        future.completeExceptionally(
+            new EOFException("File has ended before all values could be read"));
+      } else if (bytes.hasRemaining()) {
+        next();
+      } else {
+        future.complete(null);
+      }
+    }
+
+    @Override
+    public void failed(Throwable error, Void attachment) {
+      future.completeExceptionally(error);
+    }
+
+    PositionalTransfer(AsynchronousFileChannel channel, ByteBuffer bytes, long position,
+        boolean write) {
+      this.channel = channel;
+      this.bytes = bytes;
+      this.position = position;
+      this.write = write;
+    }
+
+    CompletableFuture<Void> start() {
+      next();
+      return future;
+    }
+
+    private final AsynchronousFileChannel channel;
+    private final ByteBuffer bytes;
+    private final long position;
+    private final boolean write;
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+    private void next() {
+      try {
+        if (write) {
+          channel.write(bytes, position + bytes.position(), null, this);
+        } else {
+          channel.read(bytes, position + bytes.position(), null, this);
+        }
+      } catch (RuntimeException e) {
+        future.completeExceptionally(e);
+      }
+    }
+  }
+
+  private AsyncFileTransfer() {
+  }
+}
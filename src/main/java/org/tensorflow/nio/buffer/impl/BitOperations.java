@@ -0,0 +1,99 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl;
+
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongUnaryOperator;
+
+import org.tensorflow.nio.buffer.BooleanDataBuffer;
+
+/**
+ * Bulk operations on boolean buffers, processing their values by blocks of up to 64 bits.
+ * <p>
+ * All operations cover the values between the position and the limit of the buffers, which are
+ * left untouched. The cost of reading or writing a block depends on how values are stored in each
+ * buffer, see {@link BooleanDataBuffer#getBits(long, int)}.
+ */
+public final class BitOperations {
+
+  /**
+   * Replaces each block of bits of a buffer by the result of an operation on itself.
+   *
+   * @param buffer buffer to update
+   * @param op operation to apply on each block of bits
+   */
+  public static void apply(BooleanDataBuffer buffer, LongUnaryOperator op) {
+    long limit = buffer.limit();
+    for (long index = buffer.position(); index < limit; index += Long.SIZE) {
+      int count = (int) Math.min(Long.SIZE, limit - index);
+      buffer.setBits(index, count, op.applyAsLong(buffer.getBits(index, count)));
+    }
+  }
+
+  /**
+   * Replaces each block of bits of a buffer by the result of an operation on itself and on the
+   * block of bits at the same distance from the position of another buffer.
+   *
+   * @param buffer buffer to update
+   * @param operand buffer to read the second operand from
+   * @param op operation to apply on each pair of blocks of bits
+   */
+  public static void apply(BooleanDataBuffer buffer, BooleanDataBuffer operand,
+      LongBinaryOperator op) {
+    long limit = buffer.limit();
+    long operandOffset = operand.position() - buffer.position();
+    for (long index = buffer.position(); index < limit; index += Long.SIZE) {
+      int count = (int) Math.min(Long.SIZE, limit - index);
+      long bits = op.applyAsLong(buffer.getBits(index, count),
+          operand.getBits(index + operandOffset, count));
+      buffer.setBits(index, count, bits);
+    }
+  }
+
+  /**
+   * Copies the values remaining in a source buffer to a destination buffer.
+   *
+   * @param src buffer to read from
+   * @param dst buffer to write to, with at least as many values remaining than {@code src}
+   */
+  public static void copy(BooleanDataBuffer src, BooleanDataBuffer dst) {
+    long limit = src.limit();
+    long dstOffset = dst.position() - src.position();
+    for (long index = src.position(); index < limit; index += Long.SIZE) {
+      int count = (int) Math.min(Long.SIZE, limit - index);
+      dst.setBits(index + dstOffset, count, src.getBits(index, count));
+    }
+  }
+
+  /**
+   * Counts the number of values set to true in a buffer.
+   *
+   * @param buffer buffer to read from
+   * @return the number of true values
+   */
+  public static long count(BooleanDataBuffer buffer) {
+    long limit = buffer.limit();
+    long count = 0L;
+    for (long index = buffer.position(); index < limit; index += Long.SIZE) {
+      count += Long.bitCount(buffer.getBits(index, (int) Math.min(Long.SIZE, limit - index)));
+    }
+    return count;
+  }
+
+  private BitOperations() {
+  }
+}
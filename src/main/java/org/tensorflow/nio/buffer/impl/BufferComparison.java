@@ -0,0 +1,390 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+import org.tensorflow.nio.buffer.BFloat16DataBuffer;
+import org.tensorflow.nio.buffer.ByteDataBuffer;
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.DoubleDataBuffer;
+import org.tensorflow.nio.buffer.FloatDataBuffer;
+import org.tensorflow.nio.buffer.HalfDataBuffer;
+import org.tensorflow.nio.buffer.IntDataBuffer;
+import org.tensorflow.nio.buffer.LongDataBuffer;
+import org.tensorflow.nio.buffer.ShortDataBuffer;
+import org.tensorflow.nio.buffer.impl.raw.UnsafeReference;
+
+/**
+ * Comparisons of the values remaining in two data buffers.
+ * <p>
+ * Values of two buffers of the same type are compared one word of 64 bits at a time when they can
+ * be read directly from memory, like the values of heap and raw buffers as returned by
+ * {@link AbstractDataBuffer#memoryOffset()}, or when they are stored as bytes in the native order,
+ * as returned by {@link AbstractDataBuffer#byteBuffers(ByteOrder)}, whatever the boundaries of the
+ * chunks of each buffer are. Values are only compared one by one where their bytes differ, since
+ * different bits may still encode equal values (e.g. NaN). Values of other buffers are compared one
+ * by one, with the primitive accessors of their type when both buffers have the same.
+ * <p>
+ * Values are compared like {@link Float#equals(Object)} and {@link Double#equals(Object)}, so that
+ * equality is consistent with the natural order of their boxed type and with
+ * {@link #hashCode(DataBuffer)}: NaN is equal to itself and 0.0 is not equal to -0.0. This differs
+ * from the JDK buffers, like {@link java.nio.FloatBuffer#equals(Object)}, which consider 0.0 and
+ * -0.0 equal.
+ */
+public final class BufferComparison {
+
+  /**
+   * Returns the relative index of the first value that differs between the remaining values of two
+   * buffers.
+   *
+   * @param a the first buffer
+   * @param b the second buffer
+   * @param <T> type of values to compare
+   * @return the index of the first mismatch, relative to the position of each buffer, the smaller
+   * number of remaining values if one buffer is a prefix of the other, or -1 if the remaining
+   * values of both buffers are equal
+   */
+  public static <T> long mismatch(DataBuffer<T> a, DataBuffer<T> b) {
+    long length = Math.min(a.remaining(), b.remaining());
+    long index = -1;
+    if (length > 0) {
+      int valueType = valueType(a);
+      if (valueType < 0 || valueType != valueType(b)) {
+        index = valuesMismatch(a, b, length);
+      } else {
+        index = wordsMismatch(a, b, length, VALUE_SIZES[valueType]);
+      }
+    }
+    if (index < 0 && a.remaining() != b.remaining()) {
+      return length;
+    }
+    return index;
+  }
+
+  /**
+   * Compares lexicographically the remaining values of two buffers.
+   *
+   * @param a the first buffer
+   * @param b the second buffer
+   * @param <T> type of values to compare
+   * @return the comparison of the first values that differ, or of the number of remaining values if
+   * one buffer is a prefix of the other
+   */
+  public static <T extends Comparable<? super T>> int compare(DataBuffer<T> a, DataBuffer<T> b) {
+    long index = mismatch(a, b);
+    if (index < 0) {
+      return 0;
+    }
+    if (index == Math.min(a.remaining(), b.remaining())) {
+      return Long.compare(a.remaining(), b.remaining());
+    }
+    return a.get(a.position() + index).compareTo(b.get(b.position() + index));
+  }
+
+  /**
+   * Returns a hash code for the remaining values of a buffer.
+   * <p>
+   * The hash code is computed like {@link java.util.List#hashCode()}, from the hash codes of the
+   * boxed values, so that buffers that are equal have the same hash code whatever their type of
+   * storage.
+   *
+   * @param buffer the buffer
+   * @param <T> type of values to hash
+   * @return the hash code of the remaining values of the buffer
+   */
+  public static <T> int hashCode(DataBuffer<T> buffer) {
+    long position = buffer.position();
+    long limit = buffer.limit();
+    int hash = 1;
+    if (buffer instanceof FloatDataBuffer) {
+      FloatDataBuffer floats = (FloatDataBuffer) buffer;
+      for (long i = position; i < limit; ++i) {
+        hash = 31 * hash + Float.hashCode(floats.getFloat(i));
+      }
+    } else if (buffer instanceof DoubleDataBuffer) {
+      DoubleDataBuffer doubles = (DoubleDataBuffer) buffer;
+      for (long i = position; i < limit; ++i) {
+        hash = 31 * hash + Double.hashCode(doubles.getDouble(i));
+      }
+    } else if (buffer instanceof IntDataBuffer) {
+      IntDataBuffer ints = (IntDataBuffer) buffer;
+      for (long i = position; i < limit; ++i) {
+        hash = 31 * hash + ints.getInt(i);
+      }
+    } else if (buffer instanceof LongDataBuffer) {
+      LongDataBuffer longs = (LongDataBuffer) buffer;
+      for (long i = position; i < limit; ++i) {
+        hash = 31 * hash + Long.hashCode(longs.getLong(i));
+      }
+    } else if (buffer instanceof ShortDataBuffer) {
+      ShortDataBuffer shorts = (ShortDataBuffer) buffer;
+      for (long i = position; i < limit; ++i) {
+        hash = 31 * hash + shorts.getShort(i);
+      }
+    } else if (buffer instanceof ByteDataBuffer) {
+      ByteDataBuffer bytes = (ByteDataBuffer) buffer;
+      for (long i = position; i < limit; ++i) {
+        hash = 31 * hash + bytes.getByte(i);
+      }
+    } else {
+      for (long i = position; i < limit; ++i) {
+        hash = 31 * hash + Objects.hashCode(buffer.get(i));
+      }
+    }
+    return hash;
+  }
+
+  /**
+   * Returns the index in {@link #BYTE_COMPARABLE_TYPES} of the typed interface of a buffer whose
+   * values are equal only if their bytes are equal, except for a few encodings like NaN, or -1 if
+   * there is none.
+   */
+  private static int valueType(DataBuffer<?> buffer) {
+    for (int i = 0; i < BYTE_COMPARABLE_TYPES.length; ++i) {
+      if (BYTE_COMPARABLE_TYPES[i].isInstance(buffer)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Compares the remaining values of two buffers of the same type one word at a time, reading them
+   * directly from memory or from their byte buffers, or one by one if they are stored otherwise.
+   */
+  private static <T> long wordsMismatch(DataBuffer<T> a, DataBuffer<T> b, long length,
+      int valueSize) {
+    long aOffset = memoryOffset(a);
+    long bOffset = memoryOffset(b);
+    if (aOffset >= 0 && bOffset >= 0) {
+      Object aBase = ((AbstractDataBuffer<?, ?>) a).memoryBase();
+      Object bBase = ((AbstractDataBuffer<?, ?>) b).memoryBase();
+      long byteLength = length * valueSize;
+      return bytesMismatch(a, b, valueSize, offset -> {
+        long mismatch = UnsafeReference.mismatch(aBase, aOffset + offset, bBase, bOffset + offset,
+            byteLength - offset);
+        return mismatch < 0 ? -1 : offset + mismatch;
+      });
+    }
+    ByteBuffer[] aBytes = byteBuffers(a, length);
+    ByteBuffer[] bBytes = byteBuffers(b, length);
+    if (aBytes != null && bBytes != null && byteLength(aBytes) == length * valueSize
+        && byteLength(bBytes) == length * valueSize) {
+      return bytesMismatch(a, b, valueSize, offset -> bytesMismatch(aBytes, bBytes, offset));
+    }
+    return valuesMismatch(a, b, length);
+  }
+
+  private static long memoryOffset(DataBuffer<?> buffer) {
+    if (buffer instanceof AbstractDataBuffer) {
+      return ((AbstractDataBuffer<?, ?>) buffer).memoryOffset();
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the next {@code length} values of a buffer as bytes in the native order, read in
+   * little-endian words, or null if they are not stored as bytes in that order.
+   */
+  private static ByteBuffer[] byteBuffers(DataBuffer<?> buffer, long length) {
+    ByteBuffer[] bytes = ChannelTransfer
+        .byteBuffers(buffer.withLimit(buffer.position() + length), ByteOrder.nativeOrder());
+    if (bytes != null) {
+      for (ByteBuffer chunk : bytes) {
+        chunk.order(ByteOrder.LITTLE_ENDIAN);
+      }
+    }
+    return bytes;
+  }
+
+  private static long byteLength(ByteBuffer[] bytes) {
+    long byteLength = 0;
+    for (ByteBuffer chunk : bytes) {
+      byteLength += chunk.remaining();
+    }
+    return byteLength;
+  }
+
+  /**
+   * Finds the offset of the first byte that differs between two sequences of bytes, starting at a
+   * given offset.
+   */
+  @FunctionalInterface
+  private interface ByteMismatch {
+    long from(long offset);
+  }
+
+  /**
+   * Returns the index of the first value that differs between two buffers, checking only the values
+   * whose bytes differ.
+   */
+  private static <T> long bytesMismatch(DataBuffer<T> a, DataBuffer<T> b, long valueSize,
+      ByteMismatch bytes) {
+    long offset = 0;
+    while ((offset = bytes.from(offset)) >= 0) {
+      long index = offset / valueSize;
+      if (!Objects.equals(a.get(a.position() + index), b.get(b.position() + index))) {
+        return index;
+      }
+      offset = (index + 1) * valueSize;
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the offset of the first byte that differs between two sequences of bytes of the same
+   * length, starting at the given offset, or -1 if there is none.
+   */
+  private static long bytesMismatch(ByteBuffer[] a, ByteBuffer[] b, long fromOffset) {
+    int aChunk = 0;
+    int bChunk = 0;
+    long aChunkOffset = 0;
+    long bChunkOffset = 0;
+    long offset = fromOffset;
+    while (true) {
+      while (aChunk < a.length && aChunkOffset + a[aChunk].remaining() <= offset) {
+        aChunkOffset += a[aChunk++].remaining();
+      }
+      while (bChunk < b.length && bChunkOffset + b[bChunk].remaining() <= offset) {
+        bChunkOffset += b[bChunk++].remaining();
+      }
+      if (aChunk == a.length || bChunk == b.length) {
+        return -1;
+      }
+      ByteBuffer aBytes = a[aChunk];
+      ByteBuffer bBytes = b[bChunk];
+      int aIndex = aBytes.position() + (int) (offset - aChunkOffset);
+      int bIndex = bBytes.position() + (int) (offset - bChunkOffset);
+      int length = (int) Math.min(aChunkOffset + aBytes.remaining() - offset,
+          bChunkOffset + bBytes.remaining() - offset);
+      int mismatch = bytesMismatch(aBytes, aIndex, bBytes, bIndex, length);
+      if (mismatch >= 0) {
+        return offset + mismatch;
+      }
+      offset += length;
+    }
+  }
+
+  private static int bytesMismatch(ByteBuffer a, int aIndex, ByteBuffer b, int bIndex,
+      int length) {
+    int i = 0;
+    for (; i + Long.BYTES <= length; i += Long.BYTES) {
+      long diff = a.getLong(aIndex + i) ^ b.getLong(bIndex + i);
+      if (diff != 0) {
+        return i + Long.numberOfTrailingZeros(diff) / Byte.SIZE;
+      }
+    }
+    for (; i < length; ++i) {
+      if (a.get(aIndex + i) != b.get(bIndex + i)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static <T> long valuesMismatch(DataBuffer<T> a, DataBuffer<T> b, long length) {
+    long aPosition = a.position();
+    long bPosition = b.position();
+    if (a instanceof FloatDataBuffer && b instanceof FloatDataBuffer) {
+      FloatDataBuffer aFloats = (FloatDataBuffer) a;
+      FloatDataBuffer bFloats = (FloatDataBuffer) b;
+      for (long i = 0; i < length; ++i) {
+        if (Float.floatToIntBits(aFloats.getFloat(aPosition + i))
+            != Float.floatToIntBits(bFloats.getFloat(bPosition + i))) {
+          return i;
+        }
+      }
+      return -1;
+    }
+    if (a instanceof DoubleDataBuffer && b instanceof DoubleDataBuffer) {
+      DoubleDataBuffer aDoubles = (DoubleDataBuffer) a;
+      DoubleDataBuffer bDoubles = (DoubleDataBuffer) b;
+      for (long i = 0; i < length; ++i) {
+        if (Double.doubleToLongBits(aDoubles.getDouble(aPosition + i))
+            != Double.doubleToLongBits(bDoubles.getDouble(bPosition + i))) {
+          return i;
+        }
+      }
+      return -1;
+    }
+    if (a instanceof IntDataBuffer && b instanceof IntDataBuffer) {
+      IntDataBuffer aInts = (IntDataBuffer) a;
+      IntDataBuffer bInts = (IntDataBuffer) b;
+      for (long i = 0; i < length; ++i) {
+        if (aInts.getInt(aPosition + i) != bInts.getInt(bPosition + i)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+    if (a instanceof LongDataBuffer && b instanceof LongDataBuffer) {
+      LongDataBuffer aLongs = (LongDataBuffer) a;
+      LongDataBuffer bLongs = (LongDataBuffer) b;
+      for (long i = 0; i < length; ++i) {
+        if (aLongs.getLong(aPosition + i) != bLongs.getLong(bPosition + i)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+    if (a instanceof ShortDataBuffer && b instanceof ShortDataBuffer) {
+      ShortDataBuffer aShorts = (ShortDataBuffer) a;
+      ShortDataBuffer bShorts = (ShortDataBuffer) b;
+      for (long i = 0; i < length; ++i) {
+        if (aShorts.getShort(aPosition + i) != bShorts.getShort(bPosition + i)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+    if (a instanceof ByteDataBuffer && b instanceof ByteDataBuffer) {
+      ByteDataBuffer aBytes = (ByteDataBuffer) a;
+      ByteDataBuffer bBytes = (ByteDataBuffer) b;
+      for (long i = 0; i < length; ++i) {
+        if (aBytes.getByte(aPosition + i) != bBytes.getByte(bPosition + i)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+    for (long i = 0; i < length; ++i) {
+      if (!Objects.equals(a.get(aPosition + i), b.get(bPosition + i))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static final Class<?>[] BYTE_COMPARABLE_TYPES = {
+      ByteDataBuffer.class, ShortDataBuffer.class, IntDataBuffer.class, LongDataBuffer.class,
+      FloatDataBuffer.class, DoubleDataBuffer.class, HalfDataBuffer.class, BFloat16DataBuffer.class
+  };
+
+  /**
+   * Size in bytes of the values of each type of {@link #BYTE_COMPARABLE_TYPES}.
+   */
+  private static final int[] VALUE_SIZES = {
+      Byte.BYTES, Short.BYTES, Integer.BYTES, Long.BYTES, Float.BYTES, Double.BYTES, Short.BYTES,
+      Short.BYTES
+  };
+
+  private BufferComparison() {
+  }
+}
@@ -0,0 +1,220 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.ScatteringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.function.Function;
+
+import org.tensorflow.nio.buffer.DataBuffer;
+
+/**
+ * Transfers of values between data buffers and byte channels.
+ * <p>
+ * Values stored as bytes in the requested order are transferred directly from or to the storage
+ * of the buffer, as returned by {@link AbstractDataBuffer#byteBuffers(ByteOrder)}, using a single
+ * gathering or scattering operation when the channel supports it. Values of other buffers are
+ * copied by blocks to or from a staging byte buffer, through a buffer of the same type viewing its
+ * bytes, so that they are encoded and decoded by the bulk operations of the JDK buffers.
+ */
+public final class ChannelTransfer {
+
+  /**
+   * Size in bytes of the staging buffer used to transfer values that are not stored as bytes.
+   */
+  public static final int BLOCK_SIZE = 1 << 16;
+
+  /**
+   * Writes the values remaining in a buffer to a channel.
+   *
+   * @param src buffer to write, from its position to its limit
+   * @param channel channel to write to, in blocking mode
+   * @param order order in which the bytes of each value are written
+   * @param valueSize size of a value, in bytes
+   * @param staging creates a buffer of the type of {@code src} viewing the given byte buffer
+   * @param <T> type of values to write
+   * @return the number of values written
+   * @throws IOException if the values could not be written to the channel
+   * @see DataBuffer#writeTo(WritableByteChannel, ByteOrder)
+   */
+  public static <T> long write(DataBuffer<T> src, WritableByteChannel channel, ByteOrder order,
+      int valueSize, Function<ByteBuffer, DataBuffer<T>> staging) throws IOException {
+    long length = src.remaining();
+    ByteBuffer[] buffers = byteBuffers(src, order);
+    if (buffers != null) {
+      writeFully(channel, buffers);
+      src.position(src.limit());
+      return length;
+    }
+    ByteBuffer block = allocateBlock(length, valueSize, order);
+    DataBuffer<T> blockValues = staging.apply(block);
+    while (src.hasRemaining()) {
+      long blockLength = Math.min(src.remaining(), blockValues.capacity());
+      blockValues.rewind();
+      blockValues.put(src.withLimit(src.position() + blockLength));
+      src.position(src.position() + blockLength);
+      block.clear();
+      block.limit((int) blockLength * valueSize);
+      writeFully(channel, block);
+    }
+    return length;
+  }
+
+  /**
+   * Reads values from a channel into the space remaining in a buffer.
+   *
+   * @param dst buffer to read into, from its position to its limit
+   * @param channel channel to read from, in blocking mode
+   * @param order order in which the bytes of each value are read
+   * @param valueSize size of a value, in bytes
+   * @param staging creates a buffer of the type of {@code dst} viewing the given byte buffer
+   * @param <T> type of values to read
+   * @return the number of values read, or -1 if the channel has reached end-of-stream before any
+   * value could be read
+   * @throws IOException if the values could not be read from the channel
+   * @throws EOFException if the channel reaches end-of-stream in the middle of a value
+   * @see DataBuffer#readFrom(ReadableByteChannel, ByteOrder)
+   */
+  public static <T> long read(DataBuffer<T> dst, ReadableByteChannel channel, ByteOrder order,
+      int valueSize, Function<ByteBuffer, DataBuffer<T>> staging) throws IOException {
+    if (dst.isReadOnly()) {
+      throw new ReadOnlyBufferException();
+    }
+    if (!dst.hasRemaining()) {
+      return 0;
+    }
+    ByteBuffer[] buffers = byteBuffers(dst, order);
+    if (buffers != null) {
+      long byteCount = readFully(channel, buffers);
+      return advance(dst, byteCount, valueSize);
+    }
+    ByteBuffer block = allocateBlock(dst.remaining(), valueSize, order);
+    DataBuffer<T> blockValues = staging.apply(block);
+    long count = 0;
+    while (dst.hasRemaining()) {
+      long blockLength = Math.min(dst.remaining(), blockValues.capacity());
+      block.clear();
+      block.limit((int) blockLength * valueSize);
+      long byteCount = readFully(channel, block);
+      if (byteCount % valueSize != 0) {
+        throw new EOFException("Channel has ended in the middle of a value");
+      }
+      long valueCount = byteCount / valueSize;
+      blockValues.rewind();
+      blockValues.limit(valueCount);
+      dst.put(blockValues);
+      count += valueCount;
+      if (valueCount < blockLength) {
+        break;
+      }
+    }
+    return count > 0 ? count : -1;
+  }
+
+  /**
+   * Returns the remaining values of a buffer as a sequence of JDK byte buffers sharing its
+   * storage, if its values are stored as bytes in the given order.
+   *
+   * @param buffer buffer to access, from its position to its limit
+   * @param order order in which the bytes of each value must be stored
+   * @return byte buffers sharing the remaining values of the buffer, or null if these values are
+   * not stored as bytes in that order
+   * @see AbstractDataBuffer#byteBuffers(ByteOrder)
+   */
+  public static ByteBuffer[] byteBuffers(DataBuffer<?> buffer, ByteOrder order) {
+    if (buffer instanceof AbstractDataBuffer) {
+      return ((AbstractDataBuffer<?, ?>) buffer).byteBuffers(order);
+    }
+    return null;
+  }
+
+  private static ByteBuffer allocateBlock(long length, int valueSize, ByteOrder order) {
+    int blockLength = (int) Math.max(Math.min(length, BLOCK_SIZE / valueSize), 1);
+    return ByteBuffer.allocate(blockLength * valueSize).order(order);
+  }
+
+  private static void writeFully(WritableByteChannel channel, ByteBuffer... buffers)
+      throws IOException {
+    if (buffers.length > 1 && channel instanceof GatheringByteChannel) {
+      GatheringByteChannel gatheringChannel = (GatheringByteChannel) channel;
+      for (int offset = nextRemaining(buffers, 0); offset < buffers.length;
+          offset = nextRemaining(buffers, offset)) {
+        gatheringChannel.write(buffers, offset, buffers.length - offset);
+      }
+      return;
+    }
+    for (ByteBuffer buffer : buffers) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    }
+  }
+
+  private static long readFully(ReadableByteChannel channel, ByteBuffer... buffers)
+      throws IOException {
+    long byteCount = 0;
+    if (buffers.length > 1 && channel instanceof ScatteringByteChannel) {
+      ScatteringByteChannel scatteringChannel = (ScatteringByteChannel) channel;
+      for (int offset = nextRemaining(buffers, 0); offset < buffers.length;
+          offset = nextRemaining(buffers, offset)) {
+        long read = scatteringChannel.read(buffers, offset, buffers.length - offset);
+        if (read < 0) {
+          break;
+        }
+        byteCount += read;
+      }
+      return byteCount;
+    }
+    for (ByteBuffer buffer : buffers) {
+      while (buffer.hasRemaining()) {
+        int read = channel.read(buffer);
+        if (read < 0) {
+          return byteCount;
+        }
+        byteCount += read;
+      }
+    }
+    return byteCount;
+  }
+
+  private static int nextRemaining(ByteBuffer[] buffers, int offset) {
+    while (offset < buffers.length && !buffers[offset].hasRemaining()) {
+      ++offset;
+    }
+    return offset;
+  }
+
+  private static long advance(DataBuffer<?> buffer, long byteCount, int valueSize)
+      throws EOFException {
+    long valueCount = byteCount / valueSize;
+    buffer.position(buffer.position() + valueCount);
+    if (byteCount % valueSize != 0) {
+      throw new EOFException("Channel has ended in the middle of a value");
+    }
+    return byteCount > 0 ? valueCount : -1;
+  }
+
+  private ChannelTransfer() {
+  }
+}
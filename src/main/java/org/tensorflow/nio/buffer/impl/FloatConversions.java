@@ -0,0 +1,230 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl;
+
+/**
+ * Conversions between 32-bits floats and their 16-bits variants, half-precision (IEEE 754
+ * binary16) and brain floating-point (bfloat16).
+ * <p>
+ * Floats are rounded to the nearest 16-bits value, ties to even. Half-precision values are
+ * converted using lookup tables indexed by the sign and exponent bits of the value to convert, as
+ * described by J. van der Zijp in "Fast Half Float Conversions". Bfloat16 values are the 16 upper
+ * bits of a float, so they are converted by shifting and rounding these bits directly. In both
+ * cases, the only branch taken depends on the value being a NaN, so its payload is preserved.
+ */
+public final class FloatConversions {
+
+  /**
+   * Converts a half-precision value to a float.
+   *
+   * @param half value to convert, in binary16 format
+   * @return the same value, as a float
+   */
+  public static float halfToFloat(short half) {
+    int index = (half & 0xFFFF) >>> 10;
+    return Float.intBitsToFloat(
+        HALF_MANTISSAS[HALF_OFFSETS[index] + (half & 0x3FF)] + HALF_EXPONENTS[index]);
+  }
+
+  /**
+   * Converts a float to a half-precision value.
+   * <p>
+   * Floats too large for half-precision are converted to an infinity of the same sign, while those
+   * too small are converted to a subnormal value or to zero.
+   *
+   * @param value value to convert
+   * @return the nearest half-precision value, in binary16 format
+   */
+  public static short floatToHalf(float value) {
+    int bits = Float.floatToRawIntBits(value);
+    if ((bits & 0x7FFFFFFF) > 0x7F800000) {
+      return (short) (((bits >>> 16) & 0x8000) | 0x7E00 | ((bits >>> 13) & 0x3FF));
+    }
+    int index = bits >>> 23;
+    int shift = FLOAT_SHIFTS[index];
+    int significand = (bits & 0x7FFFFF) | 0x800000;
+    int rounding = (1 << (shift - 1)) - 1 + ((significand >>> shift) & 1);
+    return (short) (FLOAT_BASES[index] + ((significand + rounding) >>> shift));
+  }
+
+  /**
+   * Converts a bfloat16 value to a float.
+   *
+   * @param bfloat16 value to convert, in bfloat16 format
+   * @return the same value, as a float
+   */
+  public static float bfloat16ToFloat(short bfloat16) {
+    return Float.intBitsToFloat(bfloat16 << 16);
+  }
+
+  /**
+   * Converts a float to a bfloat16 value.
+   *
+   * @param value value to convert
+   * @return the nearest bfloat16 value, in bfloat16 format
+   */
+  public static short floatToBFloat16(float value) {
+    int bits = Float.floatToRawIntBits(value);
+    if ((bits & 0x7FFFFFFF) > 0x7F800000) {
+      return (short) ((bits >>> 16) | 0x40);
+    }
+    return (short) ((bits + 0x7FFF + ((bits >>> 16) & 1)) >>> 16);
+  }
+
+  /**
+   * Converts a sequence of half-precision values to floats.
+   *
+   * @param src array of values to convert, in binary16 format
+   * @param srcOffset index of the first value to convert in {@code src}
+   * @param dst array receiving the converted values
+   * @param dstOffset index of the first converted value in {@code dst}
+   * @param length number of values to convert
+   */
+  public static void halfToFloat(short[] src, int srcOffset, float[] dst, int dstOffset,
+      int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = halfToFloat(src[srcOffset + i]);
+    }
+  }
+
+  /**
+   * Converts a sequence of floats to half-precision values.
+   *
+   * @param src array of values to convert
+   * @param srcOffset index of the first value to convert in {@code src}
+   * @param dst array receiving the converted values, in binary16 format
+   * @param dstOffset index of the first converted value in {@code dst}
+   * @param length number of values to convert
+   */
+  public static void floatToHalf(float[] src, int srcOffset, short[] dst, int dstOffset,
+      int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = floatToHalf(src[srcOffset + i]);
+    }
+  }
+
+  /**
+   * Converts a sequence of bfloat16 values to floats.
+   *
+   * @param src array of values to convert, in bfloat16 format
+   * @param srcOffset index of the first value to convert in {@code src}
+   * @param dst array receiving the converted values
+   * @param dstOffset index of the first converted value in {@code dst}
+   * @param length number of values to convert
+   */
+  public static void bfloat16ToFloat(short[] src, int srcOffset, float[] dst, int dstOffset,
+      int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = bfloat16ToFloat(src[srcOffset + i]);
+    }
+  }
+
+  /**
+   * Converts a sequence of floats to bfloat16 values.
+   *
+   * @param src array of values to convert
+   * @param srcOffset index of the first value to convert in {@code src}
+   * @param dst array receiving the converted values, in bfloat16 format
+   * @param dstOffset index of the first converted value in {@code dst}
+   * @param length number of values to convert
+   */
+  public static void floatToBFloat16(float[] src, int srcOffset, short[] dst, int dstOffset,
+      int length) {
+    for (int i = 0; i < length; ++i) {
+      dst[dstOffset + i] = floatToBFloat16(src[srcOffset + i]);
+    }
+  }
+
+  /**
+   * Bits of the float matching each half-precision mantissa, indexed by the mantissa and by an
+   * offset of 1024 for normal values. Subnormal half-precision values are normalized.
+   */
+  private static final int[] HALF_MANTISSAS = new int[2048];
+
+  /**
+   * Bits of the float exponent and sign matching each half-precision exponent and sign.
+   */
+  private static final int[] HALF_EXPONENTS = new int[64];
+
+  /**
+   * Offset in {@link #HALF_MANTISSAS} matching each half-precision exponent and sign.
+   */
+  private static final int[] HALF_OFFSETS = new int[64];
+
+  /**
+   * Half-precision bits for the sign and the exponent of each float exponent and sign. For normal
+   * values, the exponent is one less than its real value, since the implicit bit of the float
+   * significand added to it increments it back.
+   */
+  private static final int[] FLOAT_BASES = new int[512];
+
+  /**
+   * Right shift of the float significand, implicit bit included, giving the half-precision
+   * mantissa for each float exponent and sign.
+   */
+  private static final int[] FLOAT_SHIFTS = new int[512];
+
+  static {
+    for (int i = 1; i < 1024; ++i) {
+      int mantissa = i << 13;
+      int exponent = 0;
+      while ((mantissa & 0x800000) == 0) {
+        exponent -= 0x800000;
+        mantissa <<= 1;
+      }
+      HALF_MANTISSAS[i] = (mantissa & ~0x800000) + exponent + 0x38800000;
+    }
+    for (int i = 1024; i < 2048; ++i) {
+      HALF_MANTISSAS[i] = 0x38000000 + ((i - 1024) << 13);
+    }
+    for (int i = 1; i < 31; ++i) {
+      HALF_EXPONENTS[i] = i << 23;
+      HALF_EXPONENTS[i + 32] = 0x80000000 + (i << 23);
+    }
+    HALF_EXPONENTS[31] = 0x47800000;
+    HALF_EXPONENTS[32] = 0x80000000;
+    HALF_EXPONENTS[63] = 0xC7800000;
+    for (int i = 0; i < 64; ++i) {
+      HALF_OFFSETS[i] = (i == 0 || i == 32) ? 0 : 1024;
+    }
+    for (int i = 0; i < 256; ++i) {
+      int exponent = i - 127;
+      int base;
+      int shift;
+      if (exponent < -25) {
+        base = 0;
+        shift = 25;
+      } else if (exponent < -14) {
+        base = 0;
+        shift = -exponent - 1;
+      } else if (exponent < 16) {
+        base = (exponent + 14) << 10;
+        shift = 13;
+      } else {
+        base = 0x7C00;
+        shift = 25;
+      }
+      FLOAT_BASES[i] = base;
+      FLOAT_BASES[i | 0x100] = base | 0x8000;
+      FLOAT_SHIFTS[i] = shift;
+      FLOAT_SHIFTS[i | 0x100] = shift;
+    }
+  }
+
+  private FloatConversions() {
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl;
+
+import java.util.concurrent.RecursiveAction;
+
+import org.tensorflow.nio.buffer.DataBuffer;
+
+/**
+ * A fork/join task copying the values remaining in a buffer to another buffer.
+ * <p>
+ * The transfer is split in ranges of similar size, about one per worker thread. When the source, or
+ * otherwise the destination, stores its values in multiple chunks, like a large buffer, ranges
+ * larger than that size are split on the boundaries of these chunks first, so that most ranges are
+ * transferred from or to a single chunk. Within a chunk, or a buffer without chunks, ranges are
+ * aligned on multiples of {@link #RANGE_ALIGNMENT} values from its start. Each range is copied
+ * using the bulk operations of duplicates of the source and destination buffers, so the positions
+ * of the buffers are left untouched by this task.
+ *
+ * @param <T> type of values to copy
+ */
+public final class ParallelCopyTask<T> extends RecursiveAction {
+
+  /**
+   * Number of values ranges are aligned on, within a chunk of storage.
+   */
+  public static final long RANGE_ALIGNMENT = 1L << 16;
+
+  /**
+   * Creates a task copying the values remaining in {@code src} to {@code dst}.
+   *
+   * @param src the source buffer
+   * @param dst the destination buffer, with enough space remaining for all values to copy
+   * @param parallelism number of ranges to split the transfer into, at most
+   */
+  public ParallelCopyTask(DataBuffer<T> src, DataBuffer<T> dst, int parallelism) {
+    this(src, src.position(), dst, dst.position(), 0, src.remaining(),
+        rangeSize(src.remaining(), parallelism), chunkCapacity(src, dst),
+        chunkPhase(src, dst));
+  }
+
+  @Override
+  protected void compute() {
+    long length = toIndex - fromIndex;
+    if (length <= rangeSize) {
+      DataBuffer<T> srcRange =
+          src.duplicate().limit(srcStart + toIndex).position(srcStart + fromIndex);
+      dst.duplicate().limit(dstStart + toIndex).position(dstStart + fromIndex).put(srcRange);
+      return;
+    }
+    long middleIndex = fromIndex + length / 2;
+    long splitIndex = chunkCapacity > 0 ? boundary(middleIndex, chunkCapacity) : fromIndex;
+    if (splitIndex <= fromIndex || splitIndex >= toIndex) {
+      splitIndex = boundary(middleIndex, RANGE_ALIGNMENT);
+      if (splitIndex <= fromIndex || splitIndex >= toIndex) {
+        splitIndex = middleIndex;
+      }
+    }
+    invokeAll(
+        new ParallelCopyTask<>(src, srcStart, dst, dstStart, fromIndex, splitIndex, rangeSize,
+            chunkCapacity, chunkPhase),
+        new ParallelCopyTask<>(src, srcStart, dst, dstStart, splitIndex, toIndex, rangeSize,
+            chunkCapacity, chunkPhase)
+    );
+  }
+
+  private ParallelCopyTask(DataBuffer<T> src, long srcStart, DataBuffer<T> dst, long dstStart,
+      long fromIndex, long toIndex, long rangeSize, long chunkCapacity, long chunkPhase) {
+    this.src = src;
+    this.srcStart = srcStart;
+    this.dst = dst;
+    this.dstStart = dstStart;
+    this.fromIndex = fromIndex;
+    this.toIndex = toIndex;
+    this.rangeSize = rangeSize;
+    this.chunkCapacity = chunkCapacity;
+    this.chunkPhase = chunkPhase;
+  }
+
+  /**
+   * Returns the index of the transfer closest to the given one that is a multiple of {@code
+   * alignment} values from the start of a chunk, or the given index if there are no chunks.
+   */
+  private long boundary(long index, long alignment) {
+    if (alignment == 0) {
+      return index;
+    }
+    long chunkIndex = index + chunkPhase;
+    if (chunkCapacity > 0) {
+      chunkIndex = Math.floorMod(chunkIndex, chunkCapacity);
+    }
+    long offset = Math.floorMod(chunkIndex, alignment);
+    return offset < alignment / 2 ? index - offset : index - offset + alignment;
+  }
+
+  private static long rangeSize(long length, int parallelism) {
+    long rangeSize = (length + parallelism - 1) / parallelism;
+    return Math.max((rangeSize + RANGE_ALIGNMENT - 1) & -RANGE_ALIGNMENT, RANGE_ALIGNMENT);
+  }
+
+  /**
+   * Returns the capacity of the chunks ranges are split on, the ones of the source if it has some
+   * or of the destination otherwise, or 0 if none of the buffers is split in chunks.
+   */
+  private static long chunkCapacity(DataBuffer<?> src, DataBuffer<?> dst) {
+    long capacity = chunkCapacity(src);
+    return capacity > 0 ? capacity : chunkCapacity(dst);
+  }
+
+  /**
+   * Returns the index in its chunk of the first value transferred from or to the buffer whose
+   * chunks ranges are split on.
+   */
+  private static long chunkPhase(DataBuffer<?> src, DataBuffer<?> dst) {
+    DataBuffer<?> buffer = chunkCapacity(src) > 0 ? src : dst;
+    if (buffer instanceof AbstractDataBuffer) {
+      return ((AbstractDataBuffer<?, ?>) buffer).chunkOffset(buffer.position());
+    }
+    return 0;
+  }
+
+  private static long chunkCapacity(DataBuffer<?> buffer) {
+    if (buffer instanceof AbstractDataBuffer) {
+      return ((AbstractDataBuffer<?, ?>) buffer).chunkCapacity();
+    }
+    return 0;
+  }
+
+  private static final long serialVersionUID = 1L;
+
+  private final DataBuffer<T> src;
+  private final long srcStart;
+  private final DataBuffer<T> dst;
+  private final long dstStart;
+  private final long fromIndex;
+  private final long toIndex;
+  private final long rangeSize;
+  private final long chunkCapacity;
+  private final long chunkPhase;
+}
@@ -0,0 +1,121 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl;
+
+import java.util.concurrent.RecursiveAction;
+
+import org.tensorflow.nio.buffer.DataBuffer;
+
+/**
+ * A fork/join task applying an indexed operation, like a gather or a scatter, to the indices
+ * remaining in a buffer.
+ * <p>
+ * The indices are split in ranges of equal size, one per worker thread. Each range of indices is
+ * passed to the operation with the matching range of values, as duplicates of the index and value
+ * buffers positioned and limited on that range, so the positions of the buffers are left untouched
+ * by this task.
+ *
+ * @param <I> type of the buffer of indices
+ * @param <B> type of the buffer of values
+ */
+@SuppressWarnings("unchecked")
+public final class ParallelIndexedTask<I extends DataBuffer<?>, B extends DataBuffer<?>>
+    extends RecursiveAction {
+
+  /**
+   * Minimum number of indices in a range, below which an operation is not worth being split.
+   */
+  public static final long MIN_RANGE_SIZE = 1L << 14;
+
+  /**
+   * An operation applied to a range of indices and values.
+   *
+   * @param <I> type of the buffer of indices
+   * @param <B> type of the buffer of values
+   */
+  @FunctionalInterface
+  public interface Operation<I, B> {
+
+    /**
+     * Applies this operation to the indices and values remaining in the given buffers.
+     *
+     * @param indices indices of the range
+     * @param values values of the range
+     */
+    void apply(I indices, B values);
+  }
+
+  /**
+   * Creates a task applying an operation to the indices remaining in {@code indices}.
+   *
+   * @param indices the buffer of indices
+   * @param values the buffer of values, with at least as many values remaining as indices
+   * @param parallelism number of ranges to split the indices into, at most
+   * @param operation the operation to apply to each range
+   */
+  public ParallelIndexedTask(I indices, B values, int parallelism, Operation<I, B> operation) {
+    this(indices, indices.position(), values, values.position(), 0, indices.remaining(),
+        rangeSize(indices.remaining(), parallelism), operation);
+  }
+
+  @Override
+  protected void compute() {
+    long length = toIndex - fromIndex;
+    if (length <= rangeSize) {
+      I indicesRange =
+          (I) indices.duplicate().limit(indicesStart + toIndex).position(indicesStart + fromIndex);
+      B valuesRange =
+          (B) values.duplicate().limit(valuesStart + toIndex).position(valuesStart + fromIndex);
+      operation.apply(indicesRange, valuesRange);
+      return;
+    }
+    long middleIndex = fromIndex + ((length + rangeSize - 1) / rangeSize / 2) * rangeSize;
+    invokeAll(
+        new ParallelIndexedTask<>(indices, indicesStart, values, valuesStart, fromIndex,
+            middleIndex, rangeSize, operation),
+        new ParallelIndexedTask<>(indices, indicesStart, values, valuesStart, middleIndex,
+            toIndex, rangeSize, operation)
+    );
+  }
+
+  private ParallelIndexedTask(I indices, long indicesStart, B values, long valuesStart,
+      long fromIndex, long toIndex, long rangeSize, Operation<I, B> operation) {
+    this.indices = indices;
+    this.indicesStart = indicesStart;
+    this.values = values;
+    this.valuesStart = valuesStart;
+    this.fromIndex = fromIndex;
+    this.toIndex = toIndex;
+    this.rangeSize = rangeSize;
+    this.operation = operation;
+  }
+
+  private static final long serialVersionUID = 1L;
+
+  private static long rangeSize(long length, int parallelism) {
+    return Math.max((length + parallelism - 1) / parallelism, MIN_RANGE_SIZE);
+  }
+
+  private final I indices;
+  private final long indicesStart;
+  private final B values;
+  private final long valuesStart;
+  private final long fromIndex;
+  private final long toIndex;
+  private final long rangeSize;
+  private final Operation<I, B> operation;
+}
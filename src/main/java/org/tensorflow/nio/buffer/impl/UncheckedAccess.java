@@ -0,0 +1,388 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl;
+
+import org.tensorflow.nio.buffer.ByteDataBuffer;
+import org.tensorflow.nio.buffer.DoubleDataBuffer;
+import org.tensorflow.nio.buffer.FloatDataBuffer;
+import org.tensorflow.nio.buffer.IntDataBuffer;
+import org.tensorflow.nio.buffer.LongDataBuffer;
+import org.tensorflow.nio.buffer.ShortDataBuffer;
+
+/**
+ * Accesses the values of buffers of primitive types without checking their indices.
+ * <p>
+ * Bulk operations validating all of their indices at once, like gathers and scatters, use these
+ * accessors in their loops instead of the checked ones of the buffers. Raw, large and view buffers
+ * implement the access interface of their type, like {@link FloatAccess}, to skip the checks of
+ * this library: raw buffers read and write native memory directly, while large buffers and views
+ * reach the unchecked accessors of their chunks or delegate. Other buffers, including JDK buffers,
+ * are accessed with their own accessors, so values of JDK buffers are still checked by the JDK.
+ */
+public final class UncheckedAccess {
+
+  /**
+   * Accessors of a buffer of bytes that do not check their indices.
+   * <p>
+   * Indices must be non-negative and smaller than the limit of the buffer. These methods are only
+   * meant to be called by {@link UncheckedAccess}.
+   */
+  public interface ByteAccess {
+
+    /**
+     * Reads the byte at the given index of this buffer, without checking the index.
+     *
+     * @param index index of the value to read
+     * @return the value at the given index
+     */
+    byte getByteUnchecked(long index);
+
+    /**
+     * Writes a byte at the given index of this buffer, without checking the index.
+     *
+     * @param index index of the value to write
+     * @param value the value to write
+     */
+    void setByteUnchecked(long index, byte value);
+  }
+
+  /**
+   * Accessors of a buffer of shorts that do not check their indices.
+   * <p>
+   * Indices must be non-negative and smaller than the limit of the buffer. These methods are only
+   * meant to be called by {@link UncheckedAccess}.
+   */
+  public interface ShortAccess {
+
+    /**
+     * Reads the short at the given index of this buffer, without checking the index.
+     *
+     * @param index index of the value to read
+     * @return the value at the given index
+     */
+    short getShortUnchecked(long index);
+
+    /**
+     * Writes a short at the given index of this buffer, without checking the index.
+     *
+     * @param index index of the value to write
+     * @param value the value to write
+     */
+    void setShortUnchecked(long index, short value);
+  }
+
+  /**
+   * Accessors of a buffer of ints that do not check their indices.
+   * <p>
+   * Indices must be non-negative and smaller than the limit of the buffer. These methods are only
+   * meant to be called by {@link UncheckedAccess}.
+   */
+  public interface IntAccess {
+
+    /**
+     * Reads the int at the given index of this buffer, without checking the index.
+     *
+     * @param index index of the value to read
+     * @return the value at the given index
+     */
+    int getIntUnchecked(long index);
+
+    /**
+     * Writes an int at the given index of this buffer, without checking the index.
+     *
+     * @param index index of the value to write
+     * @param value the value to write
+     */
+    void setIntUnchecked(long index, int value);
+  }
+
+  /**
+   * Accessors of a buffer of longs that do not check their indices.
+   * <p>
+   * Indices must be non-negative and smaller than the limit of the buffer. These methods are only
+   * meant to be called by {@link UncheckedAccess}.
+   */
+  public interface LongAccess {
+
+    /**
+     * Reads the long at the given index of this buffer, without checking the index.
+     *
+     * @param index index of the value to read
+     * @return the value at the given index
+     */
+    long getLongUnchecked(long index);
+
+    /**
+     * Writes a long at the given index of this buffer, without checking the index.
+     *
+     * @param index index of the value to write
+     * @param value the value to write
+     */
+    void setLongUnchecked(long index, long value);
+  }
+
+  /**
+   * Accessors of a buffer of floats that do not check their indices.
+   * <p>
+   * Indices must be non-negative and smaller than the limit of the buffer. These methods are only
+   * meant to be called by {@link UncheckedAccess}.
+   */
+  public interface FloatAccess {
+
+    /**
+     * Reads the float at the given index of this buffer, without checking the index.
+     *
+     * @param index index of the value to read
+     * @return the value at the given index
+     */
+    float getFloatUnchecked(long index);
+
+    /**
+     * Writes a float at the given index of this buffer, without checking the index.
+     *
+     * @param index index of the value to write
+     * @param value the value to write
+     */
+    void setFloatUnchecked(long index, float value);
+  }
+
+  /**
+   * Accessors of a buffer of doubles that do not check their indices.
+   * <p>
+   * Indices must be non-negative and smaller than the limit of the buffer. These methods are only
+   * meant to be called by {@link UncheckedAccess}.
+   */
+  public interface DoubleAccess {
+
+    /**
+     * Reads the double at the given index of this buffer, without checking the index.
+     *
+     * @param index index of the value to read
+     * @return the value at the given index
+     */
+    double getDoubleUnchecked(long index);
+
+    /**
+     * Writes a double at the given index of this buffer, without checking the index.
+     *
+     * @param index index of the value to write
+     * @param value the value to write
+     */
+    void setDoubleUnchecked(long index, double value);
+  }
+
+  /**
+   * Reads the byte at the given index of a buffer, which must be non-negative and smaller than
+   * its limit.
+   *
+   * @param buffer buffer to read
+   * @param index index of the value to read
+   * @return the value at the given index
+   * @see ByteAccess#getByteUnchecked(long)
+   */
+  public static byte getByte(ByteDataBuffer buffer, long index) {
+    if (buffer instanceof ByteAccess) {
+      return ((ByteAccess) buffer).getByteUnchecked(index);
+    }
+    return buffer.getByte(index);
+  }
+
+  /**
+   * Writes a byte at the given index of a buffer, which must be non-negative and smaller than
+   * its limit.
+   *
+   * @param buffer buffer to write
+   * @param index index of the value to write
+   * @param value the value to write
+   * @see ByteAccess#setByteUnchecked(long, byte)
+   */
+  public static void setByte(ByteDataBuffer buffer, long index, byte value) {
+    if (buffer instanceof ByteAccess) {
+      ((ByteAccess) buffer).setByteUnchecked(index, value);
+    } else {
+      buffer.setByte(index, value);
+    }
+  }
+
+  /**
+   * Reads the short at the given index of a buffer, which must be non-negative and smaller than
+   * its limit.
+   *
+   * @param buffer buffer to read
+   * @param index index of the value to read
+   * @return the value at the given index
+   * @see ShortAccess#getShortUnchecked(long)
+   */
+  public static short getShort(ShortDataBuffer buffer, long index) {
+    if (buffer instanceof ShortAccess) {
+      return ((ShortAccess) buffer).getShortUnchecked(index);
+    }
+    return buffer.getShort(index);
+  }
+
+  /**
+   * Writes a short at the given index of a buffer, which must be non-negative and smaller than
+   * its limit.
+   *
+   * @param buffer buffer to write
+   * @param index index of the value to write
+   * @param value the value to write
+   * @see ShortAccess#setShortUnchecked(long, short)
+   */
+  public static void setShort(ShortDataBuffer buffer, long index, short value) {
+    if (buffer instanceof ShortAccess) {
+      ((ShortAccess) buffer).setShortUnchecked(index, value);
+    } else {
+      buffer.setShort(index, value);
+    }
+  }
+
+  /**
+   * Reads the int at the given index of a buffer, which must be non-negative and smaller than
+   * its limit.
+   *
+   * @param buffer buffer to read
+   * @param index index of the value to read
+   * @return the value at the given index
+   * @see IntAccess#getIntUnchecked(long)
+   */
+  public static int getInt(IntDataBuffer buffer, long index) {
+    if (buffer instanceof IntAccess) {
+      return ((IntAccess) buffer).getIntUnchecked(index);
+    }
+    return buffer.getInt(index);
+  }
+
+  /**
+   * Writes a int at the given index of a buffer, which must be non-negative and smaller than
+   * its limit.
+   *
+   * @param buffer buffer to write
+   * @param index index of the value to write
+   * @param value the value to write
+   * @see IntAccess#setIntUnchecked(long, int)
+   */
+  public static void setInt(IntDataBuffer buffer, long index, int value) {
+    if (buffer instanceof IntAccess) {
+      ((IntAccess) buffer).setIntUnchecked(index, value);
+    } else {
+      buffer.setInt(index, value);
+    }
+  }
+
+  /**
+   * Reads the long at the given index of a buffer, which must be non-negative and smaller than
+   * its limit.
+   *
+   * @param buffer buffer to read
+   * @param index index of the value to read
+   * @return the value at the given index
+   * @see LongAccess#getLongUnchecked(long)
+   */
+  public static long getLong(LongDataBuffer buffer, long index) {
+    if (buffer instanceof LongAccess) {
+      return ((LongAccess) buffer).getLongUnchecked(index);
+    }
+    return buffer.getLong(index);
+  }
+
+  /**
+   * Writes a long at the given index of a buffer, which must be non-negative and smaller than
+   * its limit.
+   *
+   * @param buffer buffer to write
+   * @param index index of the value to write
+   * @param value the value to write
+   * @see LongAccess#setLongUnchecked(long, long)
+   */
+  public static void setLong(LongDataBuffer buffer, long index, long value) {
+    if (buffer instanceof LongAccess) {
+      ((LongAccess) buffer).setLongUnchecked(index, value);
+    } else {
+      buffer.setLong(index, value);
+    }
+  }
+
+  /**
+   * Reads the float at the given index of a buffer, which must be non-negative and smaller than
+   * its limit.
+   *
+   * @param buffer buffer to read
+   * @param index index of the value to read
+   * @return the value at the given index
+   * @see FloatAccess#getFloatUnchecked(long)
+   */
+  public static float getFloat(FloatDataBuffer buffer, long index) {
+    if (buffer instanceof FloatAccess) {
+      return ((FloatAccess) buffer).getFloatUnchecked(index);
+    }
+    return buffer.getFloat(index);
+  }
+
+  /**
+   * Writes a float at the given index of a buffer, which must be non-negative and smaller than
+   * its limit.
+   *
+   * @param buffer buffer to write
+   * @param index index of the value to write
+   * @param value the value to write
+   * @see FloatAccess#setFloatUnchecked(long, float)
+   */
+  public static void setFloat(FloatDataBuffer buffer, long index, float value) {
+    if (buffer instanceof FloatAccess) {
+      ((FloatAccess) buffer).setFloatUnchecked(index, value);
+    } else {
+      buffer.setFloat(index, value);
+    }
+  }
+
+  /**
+   * Reads the double at the given index of a buffer, which must be non-negative and smaller than
+   * its limit.
+   *
+   * @param buffer buffer to read
+   * @param index index of the value to read
+   * @return the value at the given index
+   * @see DoubleAccess#getDoubleUnchecked(long)
+   */
+  public static double getDouble(DoubleDataBuffer buffer, long index) {
+    if (buffer instanceof DoubleAccess) {
+      return ((DoubleAccess) buffer).getDoubleUnchecked(index);
+    }
+    return buffer.getDouble(index);
+  }
+
+  /**
+   * Writes a double at the given index of a buffer, which must be non-negative and smaller than
+   * its limit.
+   *
+   * @param buffer buffer to write
+   * @param index index of the value to write
+   * @param value the value to write
+   * @see DoubleAccess#setDoubleUnchecked(long, double)
+   */
+  public static void setDouble(DoubleDataBuffer buffer, long index, double value) {
+    if (buffer instanceof DoubleAccess) {
+      ((DoubleAccess) buffer).setDoubleUnchecked(index, value);
+    } else {
+      buffer.setDouble(index, value);
+    }
+  }
+
+  private UncheckedAccess() {
+  }
+}
@@ -17,9 +17,12 @@
 package org.tensorflow.nio.buffer.impl;
 
 import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
 import java.nio.ReadOnlyBufferException;
 
 import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.IntDataBuffer;
+import org.tensorflow.nio.buffer.LongDataBuffer;
 
 public class Validator {
 
@@ -73,4 +76,163 @@ public class Validator {
       throw new ReadOnlyBufferException();
     }
   }
+
+  public static <T> void stridedArgs(DataBuffer<T> buffer, long offset, long stride,
+      long count) {
+    if (offset < 0) {
+      throw new IndexOutOfBoundsException("Offset must be non-negative");
+    }
+    if (stride <= 0) {
+      throw new IllegalArgumentException("Stride must be positive");
+    }
+    if (count < 0) {
+      throw new IllegalArgumentException("Count must be non-negative");
+    }
+    if (count > 0 && (offset >= buffer.capacity()
+        || count - 1 > (buffer.capacity() - 1 - offset) / stride)) {
+      throw new IndexOutOfBoundsException("Strided values must be within the buffer capacity");
+    }
+  }
+
+  public static <T> void gatherArgs(DataBuffer<T> buffer, DataBuffer<?> indices,
+      DataBuffer<T> dst) {
+    if (dst == buffer) {
+      throw new IllegalArgumentException("Destination cannot be the same buffer as source");
+    }
+    if (indices.remaining() > dst.remaining()) {
+      throw new BufferOverflowException();
+    }
+    if (dst.isReadOnly()) {
+      throw new ReadOnlyBufferException();
+    }
+  }
+
+  public static <T> void scatterArgs(DataBuffer<T> buffer, DataBuffer<?> indices,
+      DataBuffer<T> src) {
+    if (src == buffer) {
+      throw new IllegalArgumentException("Source cannot be the same buffer as destination");
+    }
+    if (indices.remaining() > src.remaining()) {
+      throw new BufferUnderflowException();
+    }
+    if (buffer.isReadOnly()) {
+      throw new ReadOnlyBufferException();
+    }
+  }
+
+  public static <T> void indicesArgs(DataBuffer<T> buffer, IntDataBuffer indices) {
+    long lastIndex = buffer.limit() - 1;
+    long bits = 0;
+    for (long i = indices.position(); i < indices.limit(); ++i) {
+      int index = indices.getInt(i);
+      bits |= index | (lastIndex - index);
+    }
+    if (bits < 0) {
+      throw new IndexOutOfBoundsException(
+          "Indices must be non-negative and smaller than the buffer limit");
+    }
+  }
+
+  public static <T> void indicesArgs(DataBuffer<T> buffer, LongDataBuffer indices) {
+    long lastIndex = buffer.limit() - 1;
+    long bits = 0;
+    for (long i = indices.position(); i < indices.limit(); ++i) {
+      long index = indices.getLong(i);
+      bits |= index | (lastIndex - index);
+    }
+    if (bits < 0) {
+      throw new IndexOutOfBoundsException(
+          "Indices must be non-negative and smaller than the buffer limit");
+    }
+  }
+
+  public static <T> void getBitsArgs(DataBuffer<T> buffer, long index, int count) {
+    if (count < 0 || count > Long.SIZE) {
+      throw new IllegalArgumentException("Count must be between 0 and " + Long.SIZE);
+    }
+    if (index < 0) {
+      throw new IndexOutOfBoundsException("Index must be non-negative");
+    }
+    if (index + count > buffer.limit()) {
+      throw new IndexOutOfBoundsException("Index plus count must be no larger than buffer limit");
+    }
+  }
+
+  public static <T> void setBitsArgs(DataBuffer<T> buffer, long index, int count) {
+    getBitsArgs(buffer, index, count);
+    if (buffer.isReadOnly()) {
+      throw new ReadOnlyBufferException();
+    }
+  }
+
+  public static <T> void operandArgs(DataBuffer<T> buffer, DataBuffer<T> operand) {
+    if (operand.remaining() < buffer.remaining()) {
+      throw new BufferUnderflowException();
+    }
+    if (buffer.isReadOnly()) {
+      throw new ReadOnlyBufferException();
+    }
+  }
+
+  public static <T> void fillArgs(DataBuffer<T> buffer, long fromIndex, long toIndex) {
+    if (fromIndex < 0) {
+      throw new IndexOutOfBoundsException("Index must be non-negative");
+    }
+    if (toIndex > buffer.limit()) {
+      throw new IndexOutOfBoundsException("Index must be no larger than the buffer limit");
+    }
+    if (fromIndex > toIndex) {
+      throw new IllegalArgumentException("Start index must be no larger than end index");
+    }
+    if (buffer.isReadOnly()) {
+      throw new ReadOnlyBufferException();
+    }
+  }
+
+  public static <T> void fillArgs(DataBuffer<T> buffer, DataBuffer<T> pattern) {
+    if (pattern == buffer) {
+      throw new IllegalArgumentException("Pattern cannot be the same buffer as destination");
+    }
+    if (!pattern.hasRemaining()) {
+      throw new IllegalArgumentException("Pattern must have at least one value remaining");
+    }
+    if (buffer.isReadOnly()) {
+      throw new ReadOnlyBufferException();
+    }
+  }
+
+  public static <T> void getArrayArgs(DataBuffer<T> buffer, int arrayLength, int offset,
+      int length) {
+    if (length > buffer.remaining()) {
+      throw new BufferUnderflowException();
+    }
+    arrayCopyArgs(arrayLength, offset, length);
+  }
+
+  public static <T> void putArrayArgs(DataBuffer<T> buffer, int arrayLength, int offset,
+      int length) {
+    if (length > buffer.remaining()) {
+      throw new BufferOverflowException();
+    }
+    if (buffer.isReadOnly()) {
+      throw new ReadOnlyBufferException();
+    }
+    arrayCopyArgs(arrayLength, offset, length);
+  }
+
+  private static void arrayCopyArgs(int arrayLength, int offset, int length) {
+    if (offset < 0) {
+      throw new IndexOutOfBoundsException("Offset must be non-negative");
+    }
+    if (offset > arrayLength) {
+      throw new IndexOutOfBoundsException("Offset must be no larger than array length");
+    }
+    if (length < 0) {
+      throw new IndexOutOfBoundsException("Length must be non-negative");
+    }
+    if (length > arrayLength - offset) {
+      throw new IndexOutOfBoundsException(
+          "Length must be no larger than array length minus the offset");
+    }
+  }
 }
@@ -0,0 +1,187 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.adapter;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+
+import org.tensorflow.nio.buffer.ByteDataBuffer;
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.impl.AbstractDataBuffer;
+import org.tensorflow.nio.buffer.impl.ChannelTransfer;
+import org.tensorflow.nio.buffer.impl.Validator;
+
+/**
+ * Base class for buffers reading and writing values of a given type directly from a buffer of
+ * bytes, without copying them.
+ * <p>
+ * Adapters are used when the byte buffer cannot be reinterpreted natively, for example when its
+ * values are split across multiple chunks at positions that are not aligned to the size of the
+ * adapted type.
+ *
+ * @param <T> type of elements (or values) stored in this buffer
+ * @param <B> the {@link DataBuffer} variant implemented by the subclass extending this base class
+ */
+@SuppressWarnings("unchecked")
+abstract class AbstractDataBufferAdapter<T, B extends DataBuffer<T>> extends
+    AbstractDataBuffer<T, B> {
+
+  @Override
+  public long capacity() {
+    return capacity;
+  }
+
+  @Override
+  public long limit() {
+    return limit;
+  }
+
+  @Override
+  public B limit(long newLimit) {
+    Validator.newLimit(this, newLimit);
+    limit = newLimit;
+    if (position > limit) {
+      position = limit;
+    }
+    return (B) this;
+  }
+
+  @Override
+  public boolean hasRemaining() {
+    return position < limit;
+  }
+
+  @Override
+  public long remaining() {
+    return limit - position;
+  }
+
+  @Override
+  public long position() {
+    return position;
+  }
+
+  @Override
+  public B position(long newPosition) {
+    Validator.newPosition(this, newPosition);
+    position = newPosition;
+    return (B) this;
+  }
+
+  @Override
+  public B rewind() {
+    position = 0;
+    return (B) this;
+  }
+
+  @Override
+  public boolean isReadOnly() {
+    return bytes.isReadOnly();
+  }
+
+  @Override
+  protected ByteBuffer[] byteBuffers(ByteOrder order) {
+    if (order != this.order) {
+      return null;
+    }
+    ByteDataBuffer region = bytes.duplicate();
+    region.limit(limit * elementSize);
+    region.position(position * elementSize);
+    return ChannelTransfer.byteBuffers(region, order);
+  }
+
+  AbstractDataBufferAdapter(ByteDataBuffer bytes, ByteOrder order, int elementSize,
+      long capacity, long position, long limit) {
+    this.bytes = bytes;
+    this.order = order;
+    this.elementSize = elementSize;
+    this.capacity = capacity;
+    this.position = position;
+    this.limit = limit;
+  }
+
+  /**
+   * Returns the index of the next value to read and increments the position.
+   */
+  long nextGetIndex() {
+    if (position >= limit) {
+      throw new BufferUnderflowException();
+    }
+    return position++;
+  }
+
+  /**
+   * Returns the index of the next value to write and increments the position.
+   */
+  long nextPutIndex() {
+    if (position >= limit) {
+      throw new BufferOverflowException();
+    }
+    if (isReadOnly()) {
+      throw new ReadOnlyBufferException();
+    }
+    return position++;
+  }
+
+  /**
+   * Reads the bits of the value at the given index, assembled from its bytes in the order of this
+   * adapter.
+   */
+  long readBits(long index) {
+    long byteIndex = index * elementSize;
+    long bits = 0;
+    if (order == ByteOrder.BIG_ENDIAN) {
+      for (int i = 0; i < elementSize; ++i) {
+        bits = (bits << 8) | (bytes.getByte(byteIndex + i) & 0xFF);
+      }
+    } else {
+      for (int i = elementSize - 1; i >= 0; --i) {
+        bits = (bits << 8) | (bytes.getByte(byteIndex + i) & 0xFF);
+      }
+    }
+    return bits;
+  }
+
+  /**
+   * Writes the bits of a value at the given index, split in bytes in the order of this adapter.
+   */
+  void writeBits(long index, long bits) {
+    long byteIndex = index * elementSize;
+    if (order == ByteOrder.BIG_ENDIAN) {
+      for (int i = elementSize - 1; i >= 0; --i) {
+        bytes.setByte(byteIndex + i, (byte) bits);
+        bits >>>= 8;
+      }
+    } else {
+      for (int i = 0; i < elementSize; ++i) {
+        bytes.setByte(byteIndex + i, (byte) bits);
+        bits >>>= 8;
+      }
+    }
+  }
+
+  final ByteDataBuffer bytes;
+  final ByteOrder order;
+
+  private final int elementSize;
+  private final long capacity;
+  private long position;
+  private long limit;
+}
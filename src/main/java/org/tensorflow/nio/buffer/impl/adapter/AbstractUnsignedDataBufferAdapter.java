@@ -0,0 +1,198 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.adapter;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ReadOnlyBufferException;
+
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.IntDataBuffer;
+import org.tensorflow.nio.buffer.impl.AbstractDataBuffer;
+import org.tensorflow.nio.buffer.impl.Validator;
+
+/**
+ * Base class for buffers of integers reading and writing their values directly from a buffer of
+ * a narrower integral type, interpreting its values as unsigned.
+ * <p>
+ * Values are widened when read and narrowed when written, keeping only their lower bits, like a
+ * primitive cast does. Bulk transfers read and write the source buffer by blocks, using its own
+ * bulk operations.
+ *
+ * @param <S> the {@link DataBuffer} variant of the source buffer
+ */
+abstract class AbstractUnsignedDataBufferAdapter<S extends DataBuffer<?>> extends
+    AbstractDataBuffer<Integer, IntDataBuffer> implements IntDataBuffer {
+
+  @Override
+  public long capacity() {
+    return capacity;
+  }
+
+  @Override
+  public long limit() {
+    return limit;
+  }
+
+  @Override
+  public IntDataBuffer limit(long newLimit) {
+    Validator.newLimit(this, newLimit);
+    limit = newLimit;
+    if (position > limit) {
+      position = limit;
+    }
+    return this;
+  }
+
+  @Override
+  public boolean hasRemaining() {
+    return position < limit;
+  }
+
+  @Override
+  public long remaining() {
+    return limit - position;
+  }
+
+  @Override
+  public long position() {
+    return position;
+  }
+
+  @Override
+  public IntDataBuffer position(long newPosition) {
+    Validator.newPosition(this, newPosition);
+    position = newPosition;
+    return this;
+  }
+
+  @Override
+  public IntDataBuffer rewind() {
+    position = 0;
+    return this;
+  }
+
+  @Override
+  public boolean isReadOnly() {
+    return source.isReadOnly();
+  }
+
+  @Override
+  public Integer get() {
+    return read(nextGetIndex());
+  }
+
+  @Override
+  public Integer get(long index) {
+    return getInt(index);
+  }
+
+  @Override
+  public IntDataBuffer get(int[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    read(position, dst, offset, length);
+    position += length;
+    return this;
+  }
+
+  @Override
+  public int getInt(long index) {
+    Validator.getArgs(this, index);
+    return read(index);
+  }
+
+  @Override
+  public IntDataBuffer put(Integer value) {
+    write(nextPutIndex(), value);
+    return this;
+  }
+
+  @Override
+  public IntDataBuffer put(long index, Integer value) {
+    return setInt(index, value);
+  }
+
+  @Override
+  public IntDataBuffer put(int[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    write(position, src, offset, length);
+    position += length;
+    return this;
+  }
+
+  @Override
+  public IntDataBuffer setInt(long index, int value) {
+    Validator.putArgs(this, index);
+    write(index, value);
+    return this;
+  }
+
+  AbstractUnsignedDataBufferAdapter(S source, long capacity, long position, long limit) {
+    this.source = source;
+    this.capacity = capacity;
+    this.position = position;
+    this.limit = limit;
+  }
+
+  /**
+   * Maximum number of values read from or written to the source buffer at once by bulk transfers.
+   */
+  static final int BLOCK_SIZE = 4096;
+
+  /**
+   * Reads and widens the value of the source buffer at the given index.
+   */
+  abstract int read(long index);
+
+  /**
+   * Reads and widens {@code length} values of the source buffer, starting at the given index.
+   */
+  abstract void read(long index, int[] dst, int offset, int length);
+
+  /**
+   * Narrows and writes a value in the source buffer at the given index.
+   */
+  abstract void write(long index, int value);
+
+  /**
+   * Narrows and writes {@code length} values in the source buffer, starting at the given index.
+   */
+  abstract void write(long index, int[] src, int offset, int length);
+
+  final S source;
+
+  private final long capacity;
+  private long position;
+  private long limit;
+
+  private long nextGetIndex() {
+    if (position >= limit) {
+      throw new BufferUnderflowException();
+    }
+    return position++;
+  }
+
+  private long nextPutIndex() {
+    if (position >= limit) {
+      throw new BufferOverflowException();
+    }
+    if (isReadOnly()) {
+      throw new ReadOnlyBufferException();
+    }
+    return position++;
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.adapter;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.tensorflow.nio.buffer.BooleanDataBuffer;
+import org.tensorflow.nio.buffer.ByteDataBuffer;
+import org.tensorflow.nio.buffer.impl.Validator;
+
+/**
+ * A buffer of booleans reading and writing its values directly from a buffer of bytes, one byte
+ * per value.
+ * <p>
+ * A value is true if its byte is not zero, and is written as 1 if true or 0 if false, like the
+ * booleans of a TensorFlow tensor.
+ */
+public final class BooleanDataBufferAdapter extends
+    AbstractDataBufferAdapter<Boolean, BooleanDataBuffer> implements BooleanDataBuffer {
+
+  /**
+   * Creates a buffer of booleans sharing the remaining bytes of the given buffer.
+   *
+   * @param bytes buffer of bytes to adapt, from its position to its limit
+   */
+  public BooleanDataBufferAdapter(ByteDataBuffer bytes) {
+    this(bytes.slice(), bytes.remaining());
+  }
+
+  @Override
+  public Boolean get() {
+    return read(nextGetIndex());
+  }
+
+  @Override
+  public Boolean get(long index) {
+    return getBoolean(index);
+  }
+
+  @Override
+  public BooleanDataBuffer get(boolean[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    for (int i = 0; i < length; ++i) {
+      dst[offset + i] = read(nextGetIndex());
+    }
+    return this;
+  }
+
+  @Override
+  public boolean getBoolean(long index) {
+    Validator.getArgs(this, index);
+    return read(index);
+  }
+
+  @Override
+  public BooleanDataBuffer put(Boolean value) {
+    write(nextPutIndex(), value);
+    return this;
+  }
+
+  @Override
+  public BooleanDataBuffer put(long index, Boolean value) {
+    return setBoolean(index, value);
+  }
+
+  @Override
+  public BooleanDataBuffer put(boolean[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    for (int i = 0; i < length; ++i) {
+      write(nextPutIndex(), src[offset + i]);
+    }
+    return this;
+  }
+
+  @Override
+  public BooleanDataBuffer setBoolean(long index, boolean value) {
+    Validator.putArgs(this, index);
+    write(index, value);
+    return this;
+  }
+
+  @Override
+  public BooleanDataBuffer duplicate() {
+    return new BooleanDataBufferAdapter(bytes, capacity(), position(), limit());
+  }
+
+  @Override
+  protected ByteBuffer[] byteBuffers(ByteOrder order) {
+    // Values of a single byte are stored the same way in any byte order
+    return super.byteBuffers(this.order);
+  }
+
+  private BooleanDataBufferAdapter(ByteDataBuffer bytes, long capacity) {
+    this(bytes, capacity, 0, capacity);
+  }
+
+  private BooleanDataBufferAdapter(ByteDataBuffer bytes, long capacity, long position,
+      long limit) {
+    super(bytes, ByteOrder.nativeOrder(), Byte.BYTES, capacity, position, limit);
+  }
+
+  private boolean read(long index) {
+    return bytes.getByte(index) != 0;
+  }
+
+  private void write(long index, boolean value) {
+    bytes.setByte(index, value ? (byte) 1 : (byte) 0);
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.adapter;
+
+import java.nio.ByteOrder;
+
+import org.tensorflow.nio.buffer.ByteDataBuffer;
+import org.tensorflow.nio.buffer.DoubleDataBuffer;
+import org.tensorflow.nio.buffer.impl.Validator;
+
+/**
+ * A buffer of doubles reading and writing its values directly from a buffer of bytes.
+ */
+public final class DoubleDataBufferAdapter extends
+    AbstractDataBufferAdapter<Double, DoubleDataBuffer> implements DoubleDataBuffer {
+
+  /**
+   * Creates a buffer of doubles sharing the remaining bytes of the given buffer.
+   *
+   * @param bytes buffer of bytes to adapt, from its position to its limit
+   * @param order order in which the bytes of each value are stored
+   */
+  public DoubleDataBufferAdapter(ByteDataBuffer bytes, ByteOrder order) {
+    this(bytes.slice(), order, bytes.remaining() / Double.BYTES);
+  }
+
+  @Override
+  public Double get() {
+    return read(nextGetIndex());
+  }
+
+  @Override
+  public Double get(long index) {
+    return getDouble(index);
+  }
+
+  @Override
+  public DoubleDataBuffer get(double[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    for (int i = 0; i < length; ++i) {
+      dst[offset + i] = read(nextGetIndex());
+    }
+    return this;
+  }
+
+  @Override
+  public double getDouble(long index) {
+    Validator.getArgs(this, index);
+    return read(index);
+  }
+
+  @Override
+  public DoubleDataBuffer put(Double value) {
+    write(nextPutIndex(), value);
+    return this;
+  }
+
+  @Override
+  public DoubleDataBuffer put(long index, Double value) {
+    return setDouble(index, value);
+  }
+
+  @Override
+  public DoubleDataBuffer put(double[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    for (int i = 0; i < length; ++i) {
+      write(nextPutIndex(), src[offset + i]);
+    }
+    return this;
+  }
+
+  @Override
+  public DoubleDataBuffer setDouble(long index, double value) {
+    Validator.putArgs(this, index);
+    write(index, value);
+    return this;
+  }
+
+  @Override
+  public DoubleDataBuffer duplicate() {
+    return new DoubleDataBufferAdapter(bytes, order, capacity(), position(), limit());
+  }
+
+  private DoubleDataBufferAdapter(ByteDataBuffer bytes, ByteOrder order, long capacity) {
+    this(bytes, order, capacity, 0, capacity);
+  }
+
+  private DoubleDataBufferAdapter(ByteDataBuffer bytes, ByteOrder order, long capacity,
+      long position, long limit) {
+    super(bytes, order, Double.BYTES, capacity, position, limit);
+  }
+
+  private double read(long index) {
+    return Double.longBitsToDouble(readBits(index));
+  }
+
+  private void write(long index, double value) {
+    writeBits(index, Double.doubleToRawLongBits(value));
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.adapter;
+
+import java.nio.ByteOrder;
+
+import org.tensorflow.nio.buffer.ByteDataBuffer;
+import org.tensorflow.nio.buffer.FloatDataBuffer;
+import org.tensorflow.nio.buffer.impl.Validator;
+
+/**
+ * A buffer of floats reading and writing its values directly from a buffer of bytes.
+ */
+public final class FloatDataBufferAdapter extends
+    AbstractDataBufferAdapter<Float, FloatDataBuffer> implements FloatDataBuffer {
+
+  /**
+   * Creates a buffer of floats sharing the remaining bytes of the given buffer.
+   *
+   * @param bytes buffer of bytes to adapt, from its position to its limit
+   * @param order order in which the bytes of each value are stored
+   */
+  public FloatDataBufferAdapter(ByteDataBuffer bytes, ByteOrder order) {
+    this(bytes.slice(), order, bytes.remaining() / Float.BYTES);
+  }
+
+  @Override
+  public Float get() {
+    return read(nextGetIndex());
+  }
+
+  @Override
+  public Float get(long index) {
+    return getFloat(index);
+  }
+
+  @Override
+  public FloatDataBuffer get(float[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    for (int i = 0; i < length; ++i) {
+      dst[offset + i] = read(nextGetIndex());
+    }
+    return this;
+  }
+
+  @Override
+  public float getFloat(long index) {
+    Validator.getArgs(this, index);
+    return read(index);
+  }
+
+  @Override
+  public FloatDataBuffer put(Float value) {
+    write(nextPutIndex(), value);
+    return this;
+  }
+
+  @Override
+  public FloatDataBuffer put(long index, Float value) {
+    return setFloat(index, value);
+  }
+
+  @Override
+  public FloatDataBuffer put(float[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    for (int i = 0; i < length; ++i) {
+      write(nextPutIndex(), src[offset + i]);
+    }
+    return this;
+  }
+
+  @Override
+  public FloatDataBuffer setFloat(long index, float value) {
+    Validator.putArgs(this, index);
+    write(index, value);
+    return this;
+  }
+
+  @Override
+  public FloatDataBuffer duplicate() {
+    return new FloatDataBufferAdapter(bytes, order, capacity(), position(), limit());
+  }
+
+  private FloatDataBufferAdapter(ByteDataBuffer bytes, ByteOrder order, long capacity) {
+    this(bytes, order, capacity, 0, capacity);
+  }
+
+  private FloatDataBufferAdapter(ByteDataBuffer bytes, ByteOrder order, long capacity,
+      long position, long limit) {
+    super(bytes, order, Float.BYTES, capacity, position, limit);
+  }
+
+  private float read(long index) {
+    return Float.intBitsToFloat((int) readBits(index));
+  }
+
+  private void write(long index, float value) {
+    writeBits(index, Float.floatToRawIntBits(value));
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.adapter;
+
+import java.nio.ByteOrder;
+
+import org.tensorflow.nio.buffer.ByteDataBuffer;
+import org.tensorflow.nio.buffer.IntDataBuffer;
+import org.tensorflow.nio.buffer.impl.Validator;
+
+/**
+ * A buffer of integers reading and writing its values directly from a buffer of bytes.
+ */
+public final class IntDataBufferAdapter extends
+    AbstractDataBufferAdapter<Integer, IntDataBuffer> implements IntDataBuffer {
+
+  /**
+   * Creates a buffer of integers sharing the remaining bytes of the given buffer.
+   *
+   * @param bytes buffer of bytes to adapt, from its position to its limit
+   * @param order order in which the bytes of each value are stored
+   */
+  public IntDataBufferAdapter(ByteDataBuffer bytes, ByteOrder order) {
+    this(bytes.slice(), order, bytes.remaining() / Integer.BYTES);
+  }
+
+  @Override
+  public Integer get() {
+    return read(nextGetIndex());
+  }
+
+  @Override
+  public Integer get(long index) {
+    return getInt(index);
+  }
+
+  @Override
+  public IntDataBuffer get(int[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    for (int i = 0; i < length; ++i) {
+      dst[offset + i] = read(nextGetIndex());
+    }
+    return this;
+  }
+
+  @Override
+  public int getInt(long index) {
+    Validator.getArgs(this, index);
+    return read(index);
+  }
+
+  @Override
+  public IntDataBuffer put(Integer value) {
+    write(nextPutIndex(), value);
+    return this;
+  }
+
+  @Override
+  public IntDataBuffer put(long index, Integer value) {
+    return setInt(index, value);
+  }
+
+  @Override
+  public IntDataBuffer put(int[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    for (int i = 0; i < length; ++i) {
+      write(nextPutIndex(), src[offset + i]);
+    }
+    return this;
+  }
+
+  @Override
+  public IntDataBuffer setInt(long index, int value) {
+    Validator.putArgs(this, index);
+    write(index, value);
+    return this;
+  }
+
+  @Override
+  public IntDataBuffer duplicate() {
+    return new IntDataBufferAdapter(bytes, order, capacity(), position(), limit());
+  }
+
+  private IntDataBufferAdapter(ByteDataBuffer bytes, ByteOrder order, long capacity) {
+    this(bytes, order, capacity, 0, capacity);
+  }
+
+  private IntDataBufferAdapter(ByteDataBuffer bytes, ByteOrder order, long capacity,
+      long position, long limit) {
+    super(bytes, order, Integer.BYTES, capacity, position, limit);
+  }
+
+  private int read(long index) {
+    return (int) readBits(index);
+  }
+
+  private void write(long index, int value) {
+    writeBits(index, value);
+  }
+}
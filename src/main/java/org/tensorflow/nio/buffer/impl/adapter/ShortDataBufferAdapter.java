@@ -0,0 +1,114 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.adapter;
+
+import java.nio.ByteOrder;
+
+import org.tensorflow.nio.buffer.ByteDataBuffer;
+import org.tensorflow.nio.buffer.ShortDataBuffer;
+import org.tensorflow.nio.buffer.impl.Validator;
+
+/**
+ * A buffer of shorts reading and writing its values directly from a buffer of bytes.
+ */
+public final class ShortDataBufferAdapter extends
+    AbstractDataBufferAdapter<Short, ShortDataBuffer> implements ShortDataBuffer {
+
+  /**
+   * Creates a buffer of shorts sharing the remaining bytes of the given buffer.
+   *
+   * @param bytes buffer of bytes to adapt, from its position to its limit
+   * @param order order in which the bytes of each value are stored
+   */
+  public ShortDataBufferAdapter(ByteDataBuffer bytes, ByteOrder order) {
+    this(bytes.slice(), order, bytes.remaining() / Short.BYTES);
+  }
+
+  @Override
+  public Short get() {
+    return read(nextGetIndex());
+  }
+
+  @Override
+  public Short get(long index) {
+    return getShort(index);
+  }
+
+  @Override
+  public ShortDataBuffer get(short[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    for (int i = 0; i < length; ++i) {
+      dst[offset + i] = read(nextGetIndex());
+    }
+    return this;
+  }
+
+  @Override
+  public short getShort(long index) {
+    Validator.getArgs(this, index);
+    return read(index);
+  }
+
+  @Override
+  public ShortDataBuffer put(Short value) {
+    write(nextPutIndex(), value);
+    return this;
+  }
+
+  @Override
+  public ShortDataBuffer put(long index, Short value) {
+    return setShort(index, value);
+  }
+
+  @Override
+  public ShortDataBuffer put(short[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    for (int i = 0; i < length; ++i) {
+      write(nextPutIndex(), src[offset + i]);
+    }
+    return this;
+  }
+
+  @Override
+  public ShortDataBuffer setShort(long index, short value) {
+    Validator.putArgs(this, index);
+    write(index, value);
+    return this;
+  }
+
+  @Override
+  public ShortDataBuffer duplicate() {
+    return new ShortDataBufferAdapter(bytes, order, capacity(), position(), limit());
+  }
+
+  private ShortDataBufferAdapter(ByteDataBuffer bytes, ByteOrder order, long capacity) {
+    this(bytes, order, capacity, 0, capacity);
+  }
+
+  private ShortDataBufferAdapter(ByteDataBuffer bytes, ByteOrder order, long capacity,
+      long position, long limit) {
+    super(bytes, order, Short.BYTES, capacity, position, limit);
+  }
+
+  private short read(long index) {
+    return (short) readBits(index);
+  }
+
+  private void write(long index, short value) {
+    writeBits(index, value);
+  }
+}
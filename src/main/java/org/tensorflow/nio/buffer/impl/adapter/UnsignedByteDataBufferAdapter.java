@@ -0,0 +1,83 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.adapter;
+
+import org.tensorflow.nio.buffer.ByteDataBuffer;
+import org.tensorflow.nio.buffer.IntDataBuffer;
+
+/**
+ * A buffer of integers reading and writing its values directly from a buffer of bytes, interpreted
+ * as unsigned 8-bits values.
+ */
+public final class UnsignedByteDataBufferAdapter extends
+    AbstractUnsignedDataBufferAdapter<ByteDataBuffer> {
+
+  /**
+   * Creates a buffer of integers sharing the remaining bytes of the given buffer.
+   *
+   * @param bytes buffer of bytes to adapt, from its position to its limit
+   */
+  public UnsignedByteDataBufferAdapter(ByteDataBuffer bytes) {
+    this(bytes.slice(), bytes.remaining(), 0, bytes.remaining());
+  }
+
+  @Override
+  public IntDataBuffer duplicate() {
+    return new UnsignedByteDataBufferAdapter(source, capacity(), position(), limit());
+  }
+
+  @Override
+  int read(long index) {
+    return source.getByte(index) & 0xFF;
+  }
+
+  @Override
+  void read(long index, int[] dst, int offset, int length) {
+    ByteDataBuffer window = source.withPosition(index);
+    byte[] block = new byte[Math.min(length, BLOCK_SIZE)];
+    for (int done = 0; done < length; done += block.length) {
+      int blockLength = Math.min(length - done, block.length);
+      window.get(block, 0, blockLength);
+      for (int i = 0; i < blockLength; ++i) {
+        dst[offset + done + i] = block[i] & 0xFF;
+      }
+    }
+  }
+
+  @Override
+  void write(long index, int value) {
+    source.setByte(index, (byte) value);
+  }
+
+  @Override
+  void write(long index, int[] src, int offset, int length) {
+    ByteDataBuffer window = source.withPosition(index);
+    byte[] block = new byte[Math.min(length, BLOCK_SIZE)];
+    for (int done = 0; done < length; done += block.length) {
+      int blockLength = Math.min(length - done, block.length);
+      for (int i = 0; i < blockLength; ++i) {
+        block[i] = (byte) src[offset + done + i];
+      }
+      window.put(block, 0, blockLength);
+    }
+  }
+
+  private UnsignedByteDataBufferAdapter(ByteDataBuffer bytes, long capacity, long position,
+      long limit) {
+    super(bytes, capacity, position, limit);
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.adapter;
+
+import org.tensorflow.nio.buffer.IntDataBuffer;
+import org.tensorflow.nio.buffer.ShortDataBuffer;
+
+/**
+ * A buffer of integers reading and writing its values directly from a buffer of shorts, interpreted
+ * as unsigned 16-bits values.
+ */
+public final class UnsignedShortDataBufferAdapter extends
+    AbstractUnsignedDataBufferAdapter<ShortDataBuffer> {
+
+  /**
+   * Creates a buffer of integers sharing the remaining shorts of the given buffer.
+   *
+   * @param shorts buffer of shorts to adapt, from its position to its limit
+   */
+  public UnsignedShortDataBufferAdapter(ShortDataBuffer shorts) {
+    this(shorts.slice(), shorts.remaining(), 0, shorts.remaining());
+  }
+
+  @Override
+  public IntDataBuffer duplicate() {
+    return new UnsignedShortDataBufferAdapter(source, capacity(), position(), limit());
+  }
+
+  @Override
+  int read(long index) {
+    return source.getShort(index) & 0xFFFF;
+  }
+
+  @Override
+  void read(long index, int[] dst, int offset, int length) {
+    ShortDataBuffer window = source.withPosition(index);
+    short[] block = new short[Math.min(length, BLOCK_SIZE)];
+    for (int done = 0; done < length; done += block.length) {
+      int blockLength = Math.min(length - done, block.length);
+      window.get(block, 0, blockLength);
+      for (int i = 0; i < blockLength; ++i) {
+        dst[offset + done + i] = block[i] & 0xFFFF;
+      }
+    }
+  }
+
+  @Override
+  void write(long index, int value) {
+    source.setShort(index, (short) value);
+  }
+
+  @Override
+  void write(long index, int[] src, int offset, int length) {
+    ShortDataBuffer window = source.withPosition(index);
+    short[] block = new short[Math.min(length, BLOCK_SIZE)];
+    for (int done = 0; done < length; done += block.length) {
+      int blockLength = Math.min(length - done, block.length);
+      for (int i = 0; i < blockLength; ++i) {
+        block[i] = (short) src[offset + done + i];
+      }
+      window.put(block, 0, blockLength);
+    }
+  }
+
+  private UnsignedShortDataBufferAdapter(ShortDataBuffer shorts, long capacity, long position,
+      long limit) {
+    super(shorts, capacity, position, limit);
+  }
+}
@@ -16,15 +16,23 @@
  */
 package org.tensorflow.nio.buffer.impl.large;
 
+import java.io.IOException;
 import java.lang.reflect.Array;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.ReadOnlyBufferException;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.function.BiConsumer;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.Function;
-import java.util.stream.Stream;
+import java.util.stream.IntStream;
 
 import org.tensorflow.nio.buffer.impl.AbstractDataBuffer;
 import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.impl.ChannelTransfer;
 
 @SuppressWarnings("unchecked")
 abstract class AbstractLargeDataBuffer<T, B extends DataBuffer<T>> extends
@@ -43,43 +51,38 @@ abstract class AbstractLargeDataBuffer<T, B extends DataBuffer<T>> extends
   @Override
   public B limit(long newLimit) {
     Validator.newLimit(this, newLimit);
-    resetBuffers(newLimit, B::limit);
-    if (newLimit < position()) {
-      onPositionChange(newLimit);
-    }
     limit = newLimit;
+    if (position > limit) {
+      position = limit;
+    }
     return (B) this;
   }
 
   @Override
   public boolean hasRemaining() {
-    return currentBuffer().hasRemaining();
+    return position < limit;
   }
 
   @Override
   public long remaining() {
-    return limit - position();
+    return limit - position;
   }
 
   @Override
   public long position() {
-    return (currentBufferIndex * bufferMaxCapacity) + currentBuffer().position();
+    return position;
   }
 
   @Override
   public B position(long newPosition) {
     Validator.newPosition(this, newPosition);
-    resetBuffers(newPosition, B::position);
-    onPositionChange(newPosition);
+    position = newPosition;
     return (B) this;
   }
 
   @Override
   public B rewind() {
-    currentBufferIndex = 0;
-    for (B buffer : buffers) {
-      buffer.rewind();
-    }
+    position = 0;
     return (B) this;
   }
 
@@ -90,72 +93,114 @@ abstract class AbstractLargeDataBuffer<T, B extends DataBuffer<T>> extends
 
   @Override
   public T get() {
-    T value = currentBuffer().get();
-    onPositionChange(position());
-    return value;
+    if (!hasRemaining()) {
+      throw new BufferUnderflowException();
+    }
+    long index = position++;
+    return buffers[bufferIndex(index)].get(bufferOffset(index));
   }
 
   @Override
   public T get(long index) {
     Validator.getArgs(this, index);
-    return buffers[(int) (index / bufferMaxCapacity)].get(index % bufferMaxCapacity);
-  }
-
-  @Override
-  public Stream<T> stream() {
-    Stream<T> stream = buffers[0].stream();
-    for (int i = 1; i < buffers.length; ++i) {
-      stream = Stream.concat(stream, buffers[i].stream());
-    }
-    return stream;
+    return buffers[bufferIndex(index)].get(bufferOffset(index));
   }
 
   @Override
   public B put(T value) {
+    if (!hasRemaining()) {
+      throw new BufferOverflowException();
+    }
     if (isReadOnly()) {
       throw new ReadOnlyBufferException();
     }
-    currentBuffer().put(value);
-    onPositionChange(position());
+    long index = position++;
+    buffers[bufferIndex(index)].put(bufferOffset(index), value);
     return (B) this;
   }
 
   @Override
   public B put(long index, T value) {
     Validator.putArgs(this, index);
-    buffers[(int) (index / bufferMaxCapacity)].put(index % bufferMaxCapacity, value);
+    buffers[bufferIndex(index)].put(bufferOffset(index), value);
     return (B) this;
   }
 
   @Override
   public B put(DataBuffer<T> src) {
     Validator.putArgs(this, src);
-    long srcOriginalLimit = src.limit();
-    long srcRemaining = src.remaining();
-    while (srcRemaining > 0) {
-      B buffer = currentBuffer();
-      long length = buffer.remaining();
-      if (length < srcRemaining) {
-        buffer.put(src.limit(src.position() + length));
-        srcRemaining -= length;
-        ++currentBufferIndex;
-      } else {
-        buffer.put(src.limit(srcOriginalLimit));
-        srcRemaining = 0;
-      }
+    long srcLimit = src.limit();
+    while (src.hasRemaining()) {
+      B buffer = buffers[bufferIndex(position)];
+      long bufferPosition = bufferOffset(position);
+      long length = Math.min(src.remaining(), buffer.capacity() - bufferPosition);
+      buffer.duplicate().position(bufferPosition).put(src.limit(src.position() + length));
+      src.limit(srcLimit);
+      position += length;
     }
     return (B) this;
   }
 
+  @Override
+  public B fill(long fromIndex, long toIndex, T value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    fillBuffers(fromIndex, toIndex, (buffer, from, to) -> buffer.fill(from, to, value));
+    return (B) this;
+  }
+
+  @Override
+  protected boolean copyTo(DataBuffer<T> dst) {
+    while (hasRemaining()) {
+      B buffer = buffers[bufferIndex(position)];
+      long bufferPosition = bufferOffset(position);
+      long length = Math.min(remaining(), buffer.capacity() - bufferPosition);
+      dst.put(buffer.duplicate().limit(bufferPosition + length).position(bufferPosition));
+      position += length;
+    }
+    return true;
+  }
+
+  @Override
+  protected ByteBuffer[] byteBuffers(ByteOrder order) {
+    List<ByteBuffer> byteBuffers = new ArrayList<>();
+    for (long index = position; index < limit; ) {
+      B buffer = buffers[bufferIndex(index)];
+      long bufferPosition = bufferOffset(index);
+      long length = Math.min(limit - index, buffer.capacity() - bufferPosition);
+      ByteBuffer[] bufferBytes = ChannelTransfer.byteBuffers(
+          buffer.duplicate().limit(bufferPosition + length).position(bufferPosition), order);
+      if (bufferBytes == null) {
+        return null;
+      }
+      Collections.addAll(byteBuffers, bufferBytes);
+      index += length;
+    }
+    return byteBuffers.toArray(new ByteBuffer[0]);
+  }
+
+  @Override
+  protected long chunkCapacity() {
+    return bufferMaxCapacity;
+  }
+
+  @Override
+  protected long chunkOffset(long index) {
+    return bufferOffset(index);
+  }
+
   @Override
   public B duplicate() {
-    B[] duplicateBuffers = Arrays.stream(buffers).map(b -> (B) b.duplicate())
-        .toArray(i -> Arrays.copyOf(buffers, i));
-    return instantiate(duplicateBuffers, readOnly, capacity, limit, currentBufferIndex);
+    return instantiate(buffers, readOnly, start, capacity, position, limit);
   }
 
-  abstract B instantiate(B[] buffers, boolean readOnly, long capacity, long limit,
-      int currentBufferIndex);
+  @Override
+  public B slice() {
+    long remaining = remaining();
+    return instantiate(buffers, readOnly, start + position, remaining, 0, remaining);
+  }
+
+  abstract B instantiate(B[] buffers, boolean readOnly, long start, long capacity, long position,
+      long limit);
 
   static <B extends DataBuffer<?>> B[] allocateBuffers(Class<B> bufferClazz, long capacity,
       long bufferMaxCapacity, Function<Long, B> allocator) {
@@ -173,28 +218,51 @@ abstract class AbstractLargeDataBuffer<T, B extends DataBuffer<T>> extends
     return buffers;
   }
 
+  interface BufferMapper<B> {
+
+    B map(long offset, long capacity) throws IOException;
+  }
+
+  static <B extends DataBuffer<?>> B[] mapBuffers(Class<B> bufferClazz, long capacity,
+      long bufferMaxCapacity, BufferMapper<B> mapper) throws IOException {
+    int nbMaxedBuffers = (int) (capacity / bufferMaxCapacity);
+    long remaining = capacity % bufferMaxCapacity;
+    B[] buffers = (B[]) Array.newInstance(bufferClazz,
+        (remaining > 0 || nbMaxedBuffers == 0) ? nbMaxedBuffers + 1 : nbMaxedBuffers);
+    int bufferIdx = 0;
+    while (bufferIdx < nbMaxedBuffers) {
+      buffers[bufferIdx] = mapper.map(bufferIdx * bufferMaxCapacity, bufferMaxCapacity);
+      ++bufferIdx;
+    }
+    if (bufferIdx < buffers.length) {
+      buffers[bufferIdx] = mapper.map(bufferIdx * bufferMaxCapacity, remaining);
+    }
+    return buffers;
+  }
+
+  /**
+   * Creates a large buffer joining the given sub buffers.
+   * <p>
+   * Sub buffers are only accessed by index or through their duplicates, so their own position and
+   * limit are never modified, which allows this buffer and all of its duplicates and slices to
+   * share them.
+   */
   AbstractLargeDataBuffer(B[] buffers, boolean readOnly) {
-    this(buffers, readOnly,
-        (buffers[0].capacity() * (buffers.length - 1)) + buffers[buffers.length - 1].capacity(), 0,
-        0);
-    limit = capacity;
+    this(resetBuffers(buffers), readOnly, 0, totalCapacity(buffers), 0, totalCapacity(buffers));
   }
 
-  AbstractLargeDataBuffer(B[] buffers, boolean readOnly, long capacity, long limit,
-      int currentBufferIndex) {
+  AbstractLargeDataBuffer(B[] buffers, boolean readOnly, long start, long capacity, long position,
+      long limit) {
     if (buffers.length == 0) {
       throw new IllegalArgumentException("Buffers list cannot be empty");
     }
     this.buffers = buffers;
     this.bufferMaxCapacity = buffers[0].capacity();
     this.readOnly = readOnly;
+    this.start = start;
     this.capacity = capacity;
+    this.position = position;
     this.limit = limit;
-    this.currentBufferIndex = currentBufferIndex;
-  }
-
-  B currentBuffer() {
-    return buffers[currentBufferIndex];
   }
 
   int nbBuffers() {
@@ -205,6 +273,52 @@ abstract class AbstractLargeDataBuffer<T, B extends DataBuffer<T>> extends
     return buffers[index];
   }
 
+  long bufferMaxCapacity() {
+    return bufferMaxCapacity;
+  }
+
+  /**
+   * Returns the index of the sub buffer holding the value at the given index of this buffer.
+   */
+  int bufferIndex(long index) {
+    return (int) ((start + index) / bufferMaxCapacity);
+  }
+
+  /**
+   * Returns the index of the value at the given index of this buffer, in its sub buffer.
+   */
+  long bufferOffset(long index) {
+    return (start + index) % bufferMaxCapacity;
+  }
+
+  interface BufferFill<B> {
+
+    void accept(B buffer, long fromIndex, long toIndex);
+  }
+
+  /**
+   * Applies a fill operation on each range of sub buffer covering the given range of this buffer.
+   * <p>
+   * Sub buffers are filled in parallel if the range spans more than one of them and is at least
+   * {@link #PARALLEL_FILL_THRESHOLD} values long.
+   */
+  void fillBuffers(long fromIndex, long toIndex, BufferFill<B> fill) {
+    if (fromIndex == toIndex) {
+      return;
+    }
+    IntStream bufferIndices =
+        IntStream.rangeClosed(bufferIndex(fromIndex), bufferIndex(toIndex - 1));
+    if (toIndex - fromIndex >= PARALLEL_FILL_THRESHOLD) {
+      bufferIndices = bufferIndices.parallel();
+    }
+    bufferIndices.forEach(bufferIndex -> {
+      B buffer = buffers[bufferIndex];
+      long bufferStart = bufferIndex * bufferMaxCapacity;
+      fill.accept(buffer, Math.max(start + fromIndex - bufferStart, 0),
+          Math.min(start + toIndex - bufferStart, buffer.capacity()));
+    });
+  }
+
   interface ArrayCopy<T> {
 
     void accept(DataBuffer<T> buf, int offset, int length);
@@ -213,40 +327,44 @@ abstract class AbstractLargeDataBuffer<T, B extends DataBuffer<T>> extends
   void copyArray(int offset, int length, ArrayCopy<T> arrayCopy) {
     final int endIndex = offset + length;
     for (int index = offset; index < endIndex; ) {
-      int copyLength = endIndex - index;
-      B buffer = buffers[currentBufferIndex];
-      int bufferRemaining = (int) buffer.remaining();
-      if (bufferRemaining < copyLength) {
-        copyLength = bufferRemaining;
-        ++currentBufferIndex;
-      }
-      arrayCopy.accept(buffer, index, copyLength);
+      B buffer = buffers[bufferIndex(position)];
+      long bufferPosition = bufferOffset(position);
+      int copyLength = (int) Math.min(endIndex - index, buffer.capacity() - bufferPosition);
+      arrayCopy.accept(buffer.duplicate().position(bufferPosition), index, copyLength);
       index += copyLength;
+      position += copyLength;
     }
   }
 
+  /**
+   * Minimum number of values to fill before sub buffers are filled in parallel.
+   */
+  static final long PARALLEL_FILL_THRESHOLD = 1L << 20;
+
   private final B[] buffers;
   private final long bufferMaxCapacity;
-  private final long capacity;
   private final boolean readOnly;
+  private final long start;
+  private final long capacity;
+  private long position;
   private long limit;
-  private int currentBufferIndex;
-
-  private void resetBuffers(long start, BiConsumer<B, Long> resetAction) {
-    long remaining = start;
-    for (B buffer : buffers) {
-      long resetValue;
-      if (remaining > bufferMaxCapacity) {
-        resetValue = bufferMaxCapacity;
-      } else {
-        resetValue = remaining;
-      }
-      resetAction.accept(buffer, resetValue);
-      remaining -= resetValue;
+
+  private static <B extends DataBuffer<?>> B[] resetBuffers(B[] buffers) {
+    if (buffers.length == 0) {
+      throw new IllegalArgumentException("Buffers list cannot be empty");
+    }
+    B[] resetBuffers = Arrays.copyOf(buffers, buffers.length);
+    for (int i = 0; i < resetBuffers.length; ++i) {
+      DataBuffer<?> buffer = resetBuffers[i].duplicate();
+      resetBuffers[i] = (B) buffer.limit(buffer.capacity()).rewind();
     }
+    return resetBuffers;
   }
 
-  private void onPositionChange(long position) {
-    currentBufferIndex = Math.min((int) (position / bufferMaxCapacity), buffers.length - 1);
+  private static long totalCapacity(DataBuffer<?>[] buffers) {
+    if (buffers.length == 0) {
+      return 0;
+    }
+    return (buffers[0].capacity() * (buffers.length - 1)) + buffers[buffers.length - 1].capacity();
   }
 }
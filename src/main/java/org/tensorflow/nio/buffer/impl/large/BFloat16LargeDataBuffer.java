@@ -0,0 +1,131 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.large;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+import org.tensorflow.nio.buffer.BFloat16DataBuffer;
+import org.tensorflow.nio.buffer.impl.single.BFloat16JdkDataBuffer;
+
+public final class BFloat16LargeDataBuffer extends
+    AbstractLargeDataBuffer<Float, BFloat16DataBuffer> implements BFloat16DataBuffer {
+
+  public static long MAX_CAPACITY =
+      BFloat16JdkDataBuffer.MAX_CAPACITY * BFloat16JdkDataBuffer.MAX_CAPACITY;
+
+  public static BFloat16DataBuffer allocate(long capacity) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity for a joined data buffer cannot exceeds " + MAX_CAPACITY + " values");
+    }
+    BFloat16DataBuffer[] buffers = allocateBuffers(BFloat16DataBuffer.class, capacity,
+        BFloat16JdkDataBuffer.MAX_CAPACITY, BFloat16JdkDataBuffer::allocate);
+    return new BFloat16LargeDataBuffer(buffers, false);
+  }
+
+  public static BFloat16DataBuffer allocateDirect(long capacity) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity for a joined data buffer cannot exceeds " + MAX_CAPACITY + " values");
+    }
+    BFloat16DataBuffer[] buffers = allocateBuffers(BFloat16DataBuffer.class, capacity,
+        BFloat16JdkDataBuffer.MAX_DIRECT_CAPACITY, BFloat16JdkDataBuffer::allocateDirect);
+    return new BFloat16LargeDataBuffer(buffers, false);
+  }
+
+  public static BFloat16DataBuffer map(FileChannel channel, MapMode mode, long position,
+      long capacity) throws IOException {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity for a joined data buffer cannot exceeds " + MAX_CAPACITY + " values");
+    }
+    BFloat16DataBuffer[] buffers = mapBuffers(BFloat16DataBuffer.class, capacity,
+        BFloat16JdkDataBuffer.MAX_DIRECT_CAPACITY,
+        (offset, length) ->
+            BFloat16JdkDataBuffer.map(channel, mode, position + offset * Short.BYTES, length));
+    return join(buffers);
+  }
+
+  public static BFloat16DataBuffer join(BFloat16DataBuffer... buffers) {
+    boolean readOnly = Validator.joinBuffers(buffers);
+    return new BFloat16LargeDataBuffer(buffers, readOnly);
+  }
+
+  @Override
+  public BFloat16DataBuffer get(float[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    copyArray(offset, length, (b, o, l) -> ((BFloat16DataBuffer) b).get(dst, o, l));
+    return this;
+  }
+
+  @Override
+  public float getFloat(long index) {
+    Validator.getArgs(this, index);
+    return buffer(bufferIndex(index)).getFloat(bufferOffset(index));
+  }
+
+  @Override
+  public short getBFloat16(long index) {
+    Validator.getArgs(this, index);
+    return buffer(bufferIndex(index)).getBFloat16(bufferOffset(index));
+  }
+
+  @Override
+  public BFloat16DataBuffer setFloat(long index, float value) {
+    Validator.putArgs(this, index);
+    buffer(bufferIndex(index)).setFloat(bufferOffset(index), value);
+    return this;
+  }
+
+  @Override
+  public BFloat16DataBuffer setBFloat16(long index, short value) {
+    Validator.putArgs(this, index);
+    buffer(bufferIndex(index)).setBFloat16(bufferOffset(index), value);
+    return this;
+  }
+
+  @Override
+  public BFloat16DataBuffer fill(long fromIndex, long toIndex, float value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    fillBuffers(fromIndex, toIndex, (buffer, from, to) -> buffer.fill(from, to, value));
+    return this;
+  }
+
+  @Override
+  public BFloat16DataBuffer put(float[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    copyArray(offset, length, (b, o, l) -> ((BFloat16DataBuffer) b).put(src, o, l));
+    return this;
+  }
+
+  @Override
+  protected BFloat16LargeDataBuffer instantiate(BFloat16DataBuffer[] buffers, boolean readOnly,
+      long start, long capacity, long position, long limit) {
+    return new BFloat16LargeDataBuffer(buffers, readOnly, start, capacity, position, limit);
+  }
+
+  private BFloat16LargeDataBuffer(BFloat16DataBuffer[] buffers, boolean readOnly) {
+    super(buffers, readOnly);
+  }
+
+  private BFloat16LargeDataBuffer(BFloat16DataBuffer[] buffers, boolean readOnly, long start,
+      long capacity, long position, long limit) {
+    super(buffers, readOnly, start, capacity, position, limit);
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.large;
+
+import org.tensorflow.nio.buffer.BooleanDataBuffer;
+import org.tensorflow.nio.buffer.impl.single.BooleanPackedDataBuffer;
+
+public final class BooleanLargeDataBuffer extends
+    AbstractLargeDataBuffer<Boolean, BooleanDataBuffer> implements BooleanDataBuffer {
+
+  public static long MAX_CAPACITY = Long.MAX_VALUE;
+
+  public static BooleanDataBuffer allocate(long capacity) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity for a joined data buffer cannot exceeds " + MAX_CAPACITY + " booleans");
+    }
+    BooleanDataBuffer[] buffers = allocateBuffers(BooleanDataBuffer.class, capacity,
+        BooleanPackedDataBuffer.MAX_CAPACITY, BooleanPackedDataBuffer::allocate);
+    return new BooleanLargeDataBuffer(buffers, false);
+  }
+
+  public static BooleanDataBuffer join(BooleanDataBuffer... buffers) {
+    boolean readOnly = Validator.joinBuffers(buffers);
+    return new BooleanLargeDataBuffer(buffers, readOnly);
+  }
+
+  @Override
+  public BooleanDataBuffer get(boolean[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    copyArray(offset, length, (b, o, l) -> ((BooleanDataBuffer) b).get(dst, o, l));
+    return this;
+  }
+
+  @Override
+  public boolean getBoolean(long index) {
+    Validator.getArgs(this, index);
+    return buffer(bufferIndex(index)).getBoolean(bufferOffset(index));
+  }
+
+  @Override
+  public long getBits(long index, int count) {
+    Validator.getBitsArgs(this, index, count);
+    long bits = 0L;
+    for (int i = 0; i < count; ) {
+      BooleanDataBuffer buffer = buffer(bufferIndex(index + i));
+      long bufferOffset = bufferOffset(index + i);
+      int bufferCount = (int) Math.min(count - i, buffer.capacity() - bufferOffset);
+      bits |= buffer.getBits(bufferOffset, bufferCount) << i;
+      i += bufferCount;
+    }
+    return bits;
+  }
+
+  @Override
+  public BooleanDataBuffer setBoolean(long index, boolean value) {
+    Validator.putArgs(this, index);
+    buffer(bufferIndex(index)).setBoolean(bufferOffset(index), value);
+    return this;
+  }
+
+  @Override
+  public BooleanDataBuffer setBits(long index, int count, long bits) {
+    Validator.setBitsArgs(this, index, count);
+    for (int i = 0; i < count; ) {
+      BooleanDataBuffer buffer = buffer(bufferIndex(index + i));
+      long bufferOffset = bufferOffset(index + i);
+      int bufferCount = (int) Math.min(count - i, buffer.capacity() - bufferOffset);
+      buffer.setBits(bufferOffset, bufferCount, bits >>> i);
+      i += bufferCount;
+    }
+    return this;
+  }
+
+  @Override
+  public BooleanDataBuffer fill(long fromIndex, long toIndex, boolean value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    fillBuffers(fromIndex, toIndex, (buffer, from, to) -> buffer.fill(from, to, value));
+    return this;
+  }
+
+  @Override
+  public BooleanDataBuffer put(boolean[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    copyArray(offset, length, (b, o, l) -> ((BooleanDataBuffer) b).put(src, o, l));
+    return this;
+  }
+
+  @Override
+  protected BooleanLargeDataBuffer instantiate(BooleanDataBuffer[] buffers, boolean readOnly,
+      long start, long capacity, long position, long limit) {
+    return new BooleanLargeDataBuffer(buffers, readOnly, start, capacity, position, limit);
+  }
+
+  private BooleanLargeDataBuffer(BooleanDataBuffer[] buffers, boolean readOnly) {
+    super(buffers, readOnly);
+  }
+
+  private BooleanLargeDataBuffer(BooleanDataBuffer[] buffers, boolean readOnly, long start,
+      long capacity, long position, long limit) {
+    super(buffers, readOnly, start, capacity, position, limit);
+  }
+}
@@ -16,11 +16,27 @@
  */
 package org.tensorflow.nio.buffer.impl.large;
 
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.function.Function;
+
 import org.tensorflow.nio.buffer.ByteDataBuffer;
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.DoubleDataBuffer;
+import org.tensorflow.nio.buffer.FloatDataBuffer;
+import org.tensorflow.nio.buffer.IntDataBuffer;
+import org.tensorflow.nio.buffer.LongDataBuffer;
+import org.tensorflow.nio.buffer.ShortDataBuffer;
+import org.tensorflow.nio.buffer.impl.Alignment;
+import org.tensorflow.nio.buffer.impl.UncheckedAccess;
 import org.tensorflow.nio.buffer.impl.single.ByteJdkDataBuffer;
 
 public final class ByteLargeDataBuffer extends
-    AbstractLargeDataBuffer<Byte, ByteDataBuffer> implements ByteDataBuffer {
+    AbstractLargeDataBuffer<Byte, ByteDataBuffer> implements ByteDataBuffer,
+    UncheckedAccess.ByteAccess {
 
   public static long MAX_CAPACITY = ByteJdkDataBuffer.MAX_CAPACITY * ByteJdkDataBuffer.MAX_CAPACITY;
 
@@ -30,10 +46,45 @@ public final class ByteLargeDataBuffer extends
           "Capacity for a joined data buffer cannot exceeds " + MAX_CAPACITY + " bytes");
     }
     ByteDataBuffer[] buffers = allocateBuffers(ByteDataBuffer.class, capacity,
-        ByteJdkDataBuffer.MAX_CAPACITY, ByteJdkDataBuffer::allocate);
+        BUFFER_MAX_CAPACITY, ByteJdkDataBuffer::allocate);
+    return new ByteLargeDataBuffer(buffers, false);
+  }
+
+  public static ByteDataBuffer allocateDirect(long capacity) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity for a joined data buffer cannot exceeds " + MAX_CAPACITY + " bytes");
+    }
+    ByteDataBuffer[] buffers = allocateBuffers(ByteDataBuffer.class, capacity,
+        BUFFER_MAX_CAPACITY, ByteJdkDataBuffer::allocateDirect);
+    return new ByteLargeDataBuffer(buffers, false);
+  }
+
+  public static ByteDataBuffer allocateDirect(long capacity, int alignment) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity for a joined data buffer cannot exceeds " + MAX_CAPACITY + " bytes");
+    }
+    Alignment.validate(alignment);
+    long bufferCapacity =
+        Alignment.chunkCapacity(ByteJdkDataBuffer.MAX_CAPACITY, Byte.BYTES, alignment)
+            & ~(Long.BYTES - 1);
+    ByteDataBuffer[] buffers = allocateBuffers(ByteDataBuffer.class, capacity, bufferCapacity,
+        c -> ByteJdkDataBuffer.allocateDirect(c, alignment));
     return new ByteLargeDataBuffer(buffers, false);
   }
 
+  public static ByteDataBuffer map(FileChannel channel, MapMode mode, long position,
+      long capacity) throws IOException {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity for a joined data buffer cannot exceeds " + MAX_CAPACITY + " bytes");
+    }
+    ByteDataBuffer[] buffers = mapBuffers(ByteDataBuffer.class, capacity, BUFFER_MAX_CAPACITY,
+        (offset, length) -> ByteJdkDataBuffer.map(channel, mode, position + offset, length));
+    return join(buffers);
+  }
+
   public static ByteDataBuffer join(ByteDataBuffer... buffers) {
     boolean readOnly = Validator.joinBuffers(buffers);
     return new ByteLargeDataBuffer(buffers, readOnly);
@@ -46,6 +97,36 @@ public final class ByteLargeDataBuffer extends
     return this;
   }
 
+  @Override
+  public byte getByte(long index) {
+    Validator.getArgs(this, index);
+    return buffer(bufferIndex(index)).getByte(bufferOffset(index));
+  }
+
+  @Override
+  public ByteDataBuffer setByte(long index, byte value) {
+    Validator.putArgs(this, index);
+    buffer(bufferIndex(index)).setByte(bufferOffset(index), value);
+    return this;
+  }
+
+  @Override
+  public byte getByteUnchecked(long index) {
+    return UncheckedAccess.getByte(buffer(bufferIndex(index)), bufferOffset(index));
+  }
+
+  @Override
+  public void setByteUnchecked(long index, byte value) {
+    UncheckedAccess.setByte(buffer(bufferIndex(index)), bufferOffset(index), value);
+  }
+
+  @Override
+  public ByteDataBuffer fill(long fromIndex, long toIndex, byte value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    fillBuffers(fromIndex, toIndex, (buffer, from, to) -> buffer.fill(from, to, value));
+    return this;
+  }
+
   @Override
   public ByteDataBuffer put(byte[] src, int offset, int length) {
     Validator.putArrayArgs(this, src.length, offset, length);
@@ -53,18 +134,101 @@ public final class ByteLargeDataBuffer extends
     return this;
   }
 
+  @Override
+  public IntDataBuffer asInts(ByteOrder order) {
+    IntDataBuffer[] views =
+        reinterpretBuffers(IntDataBuffer.class, Integer.BYTES, b -> b.asInts(order));
+    if (views == null) {
+      return ByteDataBuffer.super.asInts(order);
+    }
+    return views.length == 1 ? views[0] : IntLargeDataBuffer.join(views);
+  }
+
+  @Override
+  public ShortDataBuffer asShorts(ByteOrder order) {
+    ShortDataBuffer[] views =
+        reinterpretBuffers(ShortDataBuffer.class, Short.BYTES, b -> b.asShorts(order));
+    if (views == null) {
+      return ByteDataBuffer.super.asShorts(order);
+    }
+    return views.length == 1 ? views[0] : ShortLargeDataBuffer.join(views);
+  }
+
+  @Override
+  public LongDataBuffer asLongs(ByteOrder order) {
+    LongDataBuffer[] views =
+        reinterpretBuffers(LongDataBuffer.class, Long.BYTES, b -> b.asLongs(order));
+    if (views == null) {
+      return ByteDataBuffer.super.asLongs(order);
+    }
+    return views.length == 1 ? views[0] : LongLargeDataBuffer.join(views);
+  }
+
+  @Override
+  public FloatDataBuffer asFloats(ByteOrder order) {
+    FloatDataBuffer[] views =
+        reinterpretBuffers(FloatDataBuffer.class, Float.BYTES, b -> b.asFloats(order));
+    if (views == null) {
+      return ByteDataBuffer.super.asFloats(order);
+    }
+    return views.length == 1 ? views[0] : FloatLargeDataBuffer.join(views);
+  }
+
+  @Override
+  public DoubleDataBuffer asDoubles(ByteOrder order) {
+    DoubleDataBuffer[] views =
+        reinterpretBuffers(DoubleDataBuffer.class, Double.BYTES, b -> b.asDoubles(order));
+    if (views == null) {
+      return ByteDataBuffer.super.asDoubles(order);
+    }
+    return views.length == 1 ? views[0] : DoubleLargeDataBuffer.join(views);
+  }
+
   @Override
   protected ByteLargeDataBuffer instantiate(ByteDataBuffer[] buffers, boolean readOnly,
-      long capacity, long limit, int currentBufferIndex) {
-    return new ByteLargeDataBuffer(buffers, readOnly, capacity, limit, currentBufferIndex);
+      long start, long capacity, long position, long limit) {
+    return new ByteLargeDataBuffer(buffers, readOnly, start, capacity, position, limit);
   }
 
   private ByteLargeDataBuffer(ByteDataBuffer[] buffers, boolean readOnly) {
     super(buffers, readOnly);
   }
 
-  private ByteLargeDataBuffer(ByteDataBuffer[] buffers, boolean readOnly, long capacity, long limit,
-      int currentBufferIndex) {
-    super(buffers, readOnly, capacity, limit, currentBufferIndex);
+  private ByteLargeDataBuffer(ByteDataBuffer[] buffers, boolean readOnly, long start,
+      long capacity, long position, long limit) {
+    super(buffers, readOnly, start, capacity, position, limit);
+  }
+
+  /**
+   * Size of the sub buffers allocated for a large buffer of bytes, aligned on the size of the
+   * largest primitive type so that they can be reinterpreted without splitting values.
+   */
+  private static final long BUFFER_MAX_CAPACITY =
+      ByteJdkDataBuffer.MAX_CAPACITY & ~(Long.BYTES - 1);
+
+  /**
+   * Reinterprets the remaining bytes of each sub buffer as a buffer of another type.
+   * <p>
+   * Returns null if a value of that type could be split between two sub buffers, in which case the
+   * bytes must be adapted.
+   */
+  @SuppressWarnings("unchecked")
+  private <B extends DataBuffer<?>> B[] reinterpretBuffers(Class<B> viewClazz, int elementSize,
+      Function<ByteDataBuffer, B> viewer) {
+    long chunkCapacity = bufferMaxCapacity();
+    if (chunkCapacity % elementSize != 0 || bufferOffset(position()) != 0 || remaining() == 0) {
+      return null;
+    }
+    int firstIndex = bufferIndex(position());
+    int lastIndex = bufferIndex(limit() - 1);
+    B[] views = (B[]) Array.newInstance(viewClazz, lastIndex - firstIndex + 1);
+    for (int i = firstIndex; i <= lastIndex; ++i) {
+      ByteDataBuffer chunk = buffer(i).duplicate();
+      if (i == lastIndex) {
+        chunk.limit(bufferOffset(limit() - 1) + 1);
+      }
+      views[i - firstIndex] = viewer.apply(chunk);
+    }
+    return views;
   }
 }
@@ -16,13 +16,18 @@
  */
 package org.tensorflow.nio.buffer.impl.large;
 
-import java.util.stream.DoubleStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 
 import org.tensorflow.nio.buffer.DoubleDataBuffer;
+import org.tensorflow.nio.buffer.impl.Alignment;
+import org.tensorflow.nio.buffer.impl.UncheckedAccess;
 import org.tensorflow.nio.buffer.impl.single.DoubleJdkDataBuffer;
 
 public final class DoubleLargeDataBuffer extends
-    AbstractLargeDataBuffer<Double, DoubleDataBuffer> implements DoubleDataBuffer {
+    AbstractLargeDataBuffer<Double, DoubleDataBuffer> implements DoubleDataBuffer,
+    UncheckedAccess.DoubleAccess {
 
   public static long MAX_CAPACITY =
       DoubleJdkDataBuffer.MAX_CAPACITY * DoubleJdkDataBuffer.MAX_CAPACITY;
@@ -37,18 +42,45 @@ public final class DoubleLargeDataBuffer extends
     return new DoubleLargeDataBuffer(buffers, false);
   }
 
-  public static DoubleDataBuffer join(DoubleDataBuffer... buffers) {
-    boolean readOnly = Validator.joinBuffers(buffers);
-    return new DoubleLargeDataBuffer(buffers, readOnly);
+  public static DoubleDataBuffer allocateDirect(long capacity) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity for a joined data buffer cannot exceeds " + MAX_CAPACITY + " bytes");
+    }
+    DoubleDataBuffer[] buffers = allocateBuffers(DoubleDataBuffer.class, capacity,
+        DoubleJdkDataBuffer.MAX_DIRECT_CAPACITY, DoubleJdkDataBuffer::allocateDirect);
+    return new DoubleLargeDataBuffer(buffers, false);
   }
 
-  @Override
-  public DoubleStream doubleStream() {
-    DoubleStream stream = buffer(0).doubleStream();
-    for (int i = 1; i < nbBuffers(); ++i) {
-      stream = DoubleStream.concat(stream, buffer(i).doubleStream());
+  public static DoubleDataBuffer allocateDirect(long capacity, int alignment) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity for a joined data buffer cannot exceeds " + MAX_CAPACITY + " bytes");
+    }
+    Alignment.validate(alignment);
+    long bufferCapacity = Alignment.chunkCapacity(DoubleJdkDataBuffer.MAX_DIRECT_CAPACITY,
+        Double.BYTES, alignment);
+    DoubleDataBuffer[] buffers = allocateBuffers(DoubleDataBuffer.class, capacity, bufferCapacity,
+        c -> DoubleJdkDataBuffer.allocateDirect(c, alignment));
+    return new DoubleLargeDataBuffer(buffers, false);
+  }
+
+  public static DoubleDataBuffer map(FileChannel channel, MapMode mode, long position,
+      long capacity) throws IOException {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity for a joined data buffer cannot exceeds " + MAX_CAPACITY + " bytes");
     }
-    return stream;
+    DoubleDataBuffer[] buffers = mapBuffers(DoubleDataBuffer.class, capacity,
+        DoubleJdkDataBuffer.MAX_DIRECT_CAPACITY,
+        (offset, length) ->
+            DoubleJdkDataBuffer.map(channel, mode, position + offset * Double.BYTES, length));
+    return join(buffers);
+  }
+
+  public static DoubleDataBuffer join(DoubleDataBuffer... buffers) {
+    boolean readOnly = Validator.joinBuffers(buffers);
+    return new DoubleLargeDataBuffer(buffers, readOnly);
   }
 
   @Override
@@ -58,6 +90,36 @@ public final class DoubleLargeDataBuffer extends
     return this;
   }
 
+  @Override
+  public double getDouble(long index) {
+    Validator.getArgs(this, index);
+    return buffer(bufferIndex(index)).getDouble(bufferOffset(index));
+  }
+
+  @Override
+  public DoubleDataBuffer setDouble(long index, double value) {
+    Validator.putArgs(this, index);
+    buffer(bufferIndex(index)).setDouble(bufferOffset(index), value);
+    return this;
+  }
+
+  @Override
+  public double getDoubleUnchecked(long index) {
+    return UncheckedAccess.getDouble(buffer(bufferIndex(index)), bufferOffset(index));
+  }
+
+  @Override
+  public void setDoubleUnchecked(long index, double value) {
+    UncheckedAccess.setDouble(buffer(bufferIndex(index)), bufferOffset(index), value);
+  }
+
+  @Override
+  public DoubleDataBuffer fill(long fromIndex, long toIndex, double value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    fillBuffers(fromIndex, toIndex, (buffer, from, to) -> buffer.fill(from, to, value));
+    return this;
+  }
+
   @Override
   public DoubleDataBuffer put(double[] src, int offset, int length) {
     Validator.putArrayArgs(this, src.length, offset, length);
@@ -67,16 +129,16 @@ public final class DoubleLargeDataBuffer extends
 
   @Override
   protected DoubleLargeDataBuffer instantiate(DoubleDataBuffer[] buffers, boolean readOnly,
-      long capacity, long limit, int currentBufferIndex) {
-    return new DoubleLargeDataBuffer(buffers, readOnly, capacity, limit, currentBufferIndex);
+      long start, long capacity, long position, long limit) {
+    return new DoubleLargeDataBuffer(buffers, readOnly, start, capacity, position, limit);
   }
 
   private DoubleLargeDataBuffer(DoubleDataBuffer[] buffers, boolean readOnly) {
     super(buffers, readOnly);
   }
 
-  private DoubleLargeDataBuffer(DoubleDataBuffer[] buffers, boolean readOnly, long capacity,
-      long limit, int currentBufferIndex) {
-    super(buffers, readOnly, capacity, limit, currentBufferIndex);
+  private DoubleLargeDataBuffer(DoubleDataBuffer[] buffers, boolean readOnly, long start,
+      long capacity, long position, long limit) {
+    super(buffers, readOnly, start, capacity, position, limit);
   }
 }
@@ -16,11 +16,18 @@
  */
 package org.tensorflow.nio.buffer.impl.large;
 
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
 import org.tensorflow.nio.buffer.FloatDataBuffer;
+import org.tensorflow.nio.buffer.impl.Alignment;
+import org.tensorflow.nio.buffer.impl.UncheckedAccess;
 import org.tensorflow.nio.buffer.impl.single.FloatJdkDataBuffer;
 
 public final class FloatLargeDataBuffer extends
-    AbstractLargeDataBuffer<Float, FloatDataBuffer> implements FloatDataBuffer {
+    AbstractLargeDataBuffer<Float, FloatDataBuffer> implements FloatDataBuffer,
+    UncheckedAccess.FloatAccess {
 
   public static long MAX_CAPACITY =
       FloatJdkDataBuffer.MAX_CAPACITY * FloatJdkDataBuffer.MAX_CAPACITY;
@@ -35,6 +42,42 @@ public final class FloatLargeDataBuffer extends
     return new FloatLargeDataBuffer(buffers, false);
   }
 
+  public static FloatDataBuffer allocateDirect(long capacity) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity for a joined data buffer cannot exceeds " + MAX_CAPACITY + " bytes");
+    }
+    FloatDataBuffer[] buffers = allocateBuffers(FloatDataBuffer.class, capacity,
+        FloatJdkDataBuffer.MAX_DIRECT_CAPACITY, FloatJdkDataBuffer::allocateDirect);
+    return new FloatLargeDataBuffer(buffers, false);
+  }
+
+  public static FloatDataBuffer allocateDirect(long capacity, int alignment) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity for a joined data buffer cannot exceeds " + MAX_CAPACITY + " bytes");
+    }
+    Alignment.validate(alignment);
+    long bufferCapacity = Alignment.chunkCapacity(FloatJdkDataBuffer.MAX_DIRECT_CAPACITY,
+        Float.BYTES, alignment);
+    FloatDataBuffer[] buffers = allocateBuffers(FloatDataBuffer.class, capacity, bufferCapacity,
+        c -> FloatJdkDataBuffer.allocateDirect(c, alignment));
+    return new FloatLargeDataBuffer(buffers, false);
+  }
+
+  public static FloatDataBuffer map(FileChannel channel, MapMode mode, long position,
+      long capacity) throws IOException {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity for a joined data buffer cannot exceeds " + MAX_CAPACITY + " bytes");
+    }
+    FloatDataBuffer[] buffers = mapBuffers(FloatDataBuffer.class, capacity,
+        FloatJdkDataBuffer.MAX_DIRECT_CAPACITY,
+        (offset, length) ->
+            FloatJdkDataBuffer.map(channel, mode, position + offset * Float.BYTES, length));
+    return join(buffers);
+  }
+
   public static FloatDataBuffer join(FloatDataBuffer... buffers) {
     boolean readOnly = Validator.joinBuffers(buffers);
     return new FloatLargeDataBuffer(buffers, readOnly);
@@ -47,6 +90,36 @@ public final class FloatLargeDataBuffer extends
     return this;
   }
 
+  @Override
+  public float getFloat(long index) {
+    Validator.getArgs(this, index);
+    return buffer(bufferIndex(index)).getFloat(bufferOffset(index));
+  }
+
+  @Override
+  public FloatDataBuffer setFloat(long index, float value) {
+    Validator.putArgs(this, index);
+    buffer(bufferIndex(index)).setFloat(bufferOffset(index), value);
+    return this;
+  }
+
+  @Override
+  public float getFloatUnchecked(long index) {
+    return UncheckedAccess.getFloat(buffer(bufferIndex(index)), bufferOffset(index));
+  }
+
+  @Override
+  public void setFloatUnchecked(long index, float value) {
+    UncheckedAccess.setFloat(buffer(bufferIndex(index)), bufferOffset(index), value);
+  }
+
+  @Override
+  public FloatDataBuffer fill(long fromIndex, long toIndex, float value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    fillBuffers(fromIndex, toIndex, (buffer, from, to) -> buffer.fill(from, to, value));
+    return this;
+  }
+
   @Override
   public FloatDataBuffer put(float[] src, int offset, int length) {
     Validator.putArrayArgs(this, src.length, offset, length);
@@ -56,16 +129,16 @@ public final class FloatLargeDataBuffer extends
 
   @Override
   protected FloatLargeDataBuffer instantiate(FloatDataBuffer[] buffers, boolean readOnly,
-      long capacity, long limit, int currentBufferIndex) {
-    return new FloatLargeDataBuffer(buffers, readOnly, capacity, limit, currentBufferIndex);
+      long start, long capacity, long position, long limit) {
+    return new FloatLargeDataBuffer(buffers, readOnly, start, capacity, position, limit);
   }
 
   private FloatLargeDataBuffer(FloatDataBuffer[] buffers, boolean readOnly) {
     super(buffers, readOnly);
   }
 
-  private FloatLargeDataBuffer(FloatDataBuffer[] buffers, boolean readOnly, long capacity,
-      long limit, int currentBufferIndex) {
-    super(buffers, readOnly, capacity, limit, currentBufferIndex);
+  private FloatLargeDataBuffer(FloatDataBuffer[] buffers, boolean readOnly, long start,
+      long capacity, long position, long limit) {
+    super(buffers, readOnly, start, capacity, position, limit);
   }
 }
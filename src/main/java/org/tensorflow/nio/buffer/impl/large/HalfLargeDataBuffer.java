@@ -0,0 +1,131 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.large;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+import org.tensorflow.nio.buffer.HalfDataBuffer;
+import org.tensorflow.nio.buffer.impl.single.HalfJdkDataBuffer;
+
+public final class HalfLargeDataBuffer extends
+    AbstractLargeDataBuffer<Float, HalfDataBuffer> implements HalfDataBuffer {
+
+  public static long MAX_CAPACITY =
+      HalfJdkDataBuffer.MAX_CAPACITY * HalfJdkDataBuffer.MAX_CAPACITY;
+
+  public static HalfDataBuffer allocate(long capacity) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity for a joined data buffer cannot exceeds " + MAX_CAPACITY + " halfs");
+    }
+    HalfDataBuffer[] buffers = allocateBuffers(HalfDataBuffer.class, capacity,
+        HalfJdkDataBuffer.MAX_CAPACITY, HalfJdkDataBuffer::allocate);
+    return new HalfLargeDataBuffer(buffers, false);
+  }
+
+  public static HalfDataBuffer allocateDirect(long capacity) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity for a joined data buffer cannot exceeds " + MAX_CAPACITY + " halfs");
+    }
+    HalfDataBuffer[] buffers = allocateBuffers(HalfDataBuffer.class, capacity,
+        HalfJdkDataBuffer.MAX_DIRECT_CAPACITY, HalfJdkDataBuffer::allocateDirect);
+    return new HalfLargeDataBuffer(buffers, false);
+  }
+
+  public static HalfDataBuffer map(FileChannel channel, MapMode mode, long position,
+      long capacity) throws IOException {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity for a joined data buffer cannot exceeds " + MAX_CAPACITY + " halfs");
+    }
+    HalfDataBuffer[] buffers = mapBuffers(HalfDataBuffer.class, capacity,
+        HalfJdkDataBuffer.MAX_DIRECT_CAPACITY,
+        (offset, length) ->
+            HalfJdkDataBuffer.map(channel, mode, position + offset * Short.BYTES, length));
+    return join(buffers);
+  }
+
+  public static HalfDataBuffer join(HalfDataBuffer... buffers) {
+    boolean readOnly = Validator.joinBuffers(buffers);
+    return new HalfLargeDataBuffer(buffers, readOnly);
+  }
+
+  @Override
+  public HalfDataBuffer get(float[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    copyArray(offset, length, (b, o, l) -> ((HalfDataBuffer) b).get(dst, o, l));
+    return this;
+  }
+
+  @Override
+  public float getFloat(long index) {
+    Validator.getArgs(this, index);
+    return buffer(bufferIndex(index)).getFloat(bufferOffset(index));
+  }
+
+  @Override
+  public short getHalf(long index) {
+    Validator.getArgs(this, index);
+    return buffer(bufferIndex(index)).getHalf(bufferOffset(index));
+  }
+
+  @Override
+  public HalfDataBuffer setFloat(long index, float value) {
+    Validator.putArgs(this, index);
+    buffer(bufferIndex(index)).setFloat(bufferOffset(index), value);
+    return this;
+  }
+
+  @Override
+  public HalfDataBuffer setHalf(long index, short value) {
+    Validator.putArgs(this, index);
+    buffer(bufferIndex(index)).setHalf(bufferOffset(index), value);
+    return this;
+  }
+
+  @Override
+  public HalfDataBuffer fill(long fromIndex, long toIndex, float value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    fillBuffers(fromIndex, toIndex, (buffer, from, to) -> buffer.fill(from, to, value));
+    return this;
+  }
+
+  @Override
+  public HalfDataBuffer put(float[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    copyArray(offset, length, (b, o, l) -> ((HalfDataBuffer) b).put(src, o, l));
+    return this;
+  }
+
+  @Override
+  protected HalfLargeDataBuffer instantiate(HalfDataBuffer[] buffers, boolean readOnly,
+      long start, long capacity, long position, long limit) {
+    return new HalfLargeDataBuffer(buffers, readOnly, start, capacity, position, limit);
+  }
+
+  private HalfLargeDataBuffer(HalfDataBuffer[] buffers, boolean readOnly) {
+    super(buffers, readOnly);
+  }
+
+  private HalfLargeDataBuffer(HalfDataBuffer[] buffers, boolean readOnly, long start,
+      long capacity, long position, long limit) {
+    super(buffers, readOnly, start, capacity, position, limit);
+  }
+}
@@ -16,13 +16,18 @@
  */
 package org.tensorflow.nio.buffer.impl.large;
 
-import java.util.stream.IntStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 
 import org.tensorflow.nio.buffer.IntDataBuffer;
+import org.tensorflow.nio.buffer.impl.Alignment;
+import org.tensorflow.nio.buffer.impl.UncheckedAccess;
 import org.tensorflow.nio.buffer.impl.single.IntJdkDataBuffer;
 
 public final class IntLargeDataBuffer extends
-    AbstractLargeDataBuffer<Integer, IntDataBuffer> implements IntDataBuffer {
+    AbstractLargeDataBuffer<Integer, IntDataBuffer> implements IntDataBuffer,
+    UncheckedAccess.IntAccess {
 
   public static long MAX_CAPACITY = IntJdkDataBuffer.MAX_CAPACITY << 1;
 
@@ -36,18 +41,45 @@ public final class IntLargeDataBuffer extends
     return new IntLargeDataBuffer(buffers, false);
   }
 
-  public static IntDataBuffer join(IntDataBuffer... buffers) {
-    boolean readOnly = Validator.joinBuffers(buffers);
-    return new IntLargeDataBuffer(buffers, readOnly);
+  public static IntDataBuffer allocateDirect(long capacity) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity for a joined data buffer cannot exceeds " + MAX_CAPACITY + " bytes");
+    }
+    IntDataBuffer[] buffers = allocateBuffers(IntDataBuffer.class, capacity,
+        IntJdkDataBuffer.MAX_DIRECT_CAPACITY, IntJdkDataBuffer::allocateDirect);
+    return new IntLargeDataBuffer(buffers, false);
   }
 
-  @Override
-  public IntStream intStream() {
-    IntStream stream = buffer(0).intStream();
-    for (int i = 1; i < nbBuffers(); ++i) {
-      stream = IntStream.concat(stream, buffer(i).intStream());
+  public static IntDataBuffer allocateDirect(long capacity, int alignment) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity for a joined data buffer cannot exceeds " + MAX_CAPACITY + " bytes");
+    }
+    Alignment.validate(alignment);
+    long bufferCapacity = Alignment.chunkCapacity(IntJdkDataBuffer.MAX_DIRECT_CAPACITY,
+        Integer.BYTES, alignment);
+    IntDataBuffer[] buffers = allocateBuffers(IntDataBuffer.class, capacity, bufferCapacity,
+        c -> IntJdkDataBuffer.allocateDirect(c, alignment));
+    return new IntLargeDataBuffer(buffers, false);
+  }
+
+  public static IntDataBuffer map(FileChannel channel, MapMode mode, long position,
+      long capacity) throws IOException {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity for a joined data buffer cannot exceeds " + MAX_CAPACITY + " bytes");
     }
-    return stream;
+    IntDataBuffer[] buffers = mapBuffers(IntDataBuffer.class, capacity,
+        IntJdkDataBuffer.MAX_DIRECT_CAPACITY,
+        (offset, length) ->
+            IntJdkDataBuffer.map(channel, mode, position + offset * Integer.BYTES, length));
+    return join(buffers);
+  }
+
+  public static IntDataBuffer join(IntDataBuffer... buffers) {
+    boolean readOnly = Validator.joinBuffers(buffers);
+    return new IntLargeDataBuffer(buffers, readOnly);
   }
 
   @Override
@@ -57,6 +89,36 @@ public final class IntLargeDataBuffer extends
     return this;
   }
 
+  @Override
+  public int getInt(long index) {
+    Validator.getArgs(this, index);
+    return buffer(bufferIndex(index)).getInt(bufferOffset(index));
+  }
+
+  @Override
+  public IntDataBuffer setInt(long index, int value) {
+    Validator.putArgs(this, index);
+    buffer(bufferIndex(index)).setInt(bufferOffset(index), value);
+    return this;
+  }
+
+  @Override
+  public int getIntUnchecked(long index) {
+    return UncheckedAccess.getInt(buffer(bufferIndex(index)), bufferOffset(index));
+  }
+
+  @Override
+  public void setIntUnchecked(long index, int value) {
+    UncheckedAccess.setInt(buffer(bufferIndex(index)), bufferOffset(index), value);
+  }
+
+  @Override
+  public IntDataBuffer fill(long fromIndex, long toIndex, int value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    fillBuffers(fromIndex, toIndex, (buffer, from, to) -> buffer.fill(from, to, value));
+    return this;
+  }
+
   @Override
   public IntDataBuffer put(int[] src, int offset, int length) {
     Validator.putArrayArgs(this, src.length, offset, length);
@@ -65,17 +127,17 @@ public final class IntLargeDataBuffer extends
   }
 
   @Override
-  protected IntLargeDataBuffer instantiate(IntDataBuffer[] buffers, boolean readOnly, long capacity,
-      long limit, int currentBufferIndex) {
-    return new IntLargeDataBuffer(buffers, readOnly, capacity, limit, currentBufferIndex);
+  protected IntLargeDataBuffer instantiate(IntDataBuffer[] buffers, boolean readOnly,
+      long start, long capacity, long position, long limit) {
+    return new IntLargeDataBuffer(buffers, readOnly, start, capacity, position, limit);
   }
 
   private IntLargeDataBuffer(IntDataBuffer[] buffers, boolean readOnly) {
     super(buffers, readOnly);
   }
 
-  private IntLargeDataBuffer(IntDataBuffer[] buffers, boolean readOnly, long capacity, long limit,
-      int currentBufferIndex) {
-    super(buffers, readOnly, capacity, limit, currentBufferIndex);
+  private IntLargeDataBuffer(IntDataBuffer[] buffers, boolean readOnly, long start,
+      long capacity, long position, long limit) {
+    super(buffers, readOnly, start, capacity, position, limit);
   }
 }
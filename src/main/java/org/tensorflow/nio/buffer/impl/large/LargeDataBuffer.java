@@ -40,17 +40,17 @@ public final class LargeDataBuffer<T> extends AbstractLargeDataBuffer<T, DataBuf
   }
 
   @Override
-  protected LargeDataBuffer<T> instantiate(DataBuffer<T>[] buffers, boolean readOnly, long capacity,
-      long limit, int currentBufferIndex) {
-    return new LargeDataBuffer<>(buffers, readOnly, capacity, limit, currentBufferIndex);
+  protected LargeDataBuffer<T> instantiate(DataBuffer<T>[] buffers, boolean readOnly, long start,
+      long capacity, long position, long limit) {
+    return new LargeDataBuffer<>(buffers, readOnly, start, capacity, position, limit);
   }
 
   private LargeDataBuffer(DataBuffer<T>[] buffers, boolean readOnly) {
     super(buffers, readOnly);
   }
 
-  private LargeDataBuffer(DataBuffer<T>[] buffers, boolean readOnly, long capacity, long limit,
-      int currentBufferIndex) {
-    super(buffers, readOnly, capacity, limit, currentBufferIndex);
+  private LargeDataBuffer(DataBuffer<T>[] buffers, boolean readOnly, long start, long capacity,
+      long position, long limit) {
+    super(buffers, readOnly, start, capacity, position, limit);
   }
 }
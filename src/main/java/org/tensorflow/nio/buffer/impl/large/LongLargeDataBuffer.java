@@ -16,13 +16,18 @@
  */
 package org.tensorflow.nio.buffer.impl.large;
 
-import java.util.stream.LongStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 
 import org.tensorflow.nio.buffer.LongDataBuffer;
+import org.tensorflow.nio.buffer.impl.Alignment;
+import org.tensorflow.nio.buffer.impl.UncheckedAccess;
 import org.tensorflow.nio.buffer.impl.single.LongJdkDataBuffer;
 
 public final class LongLargeDataBuffer extends
-    AbstractLargeDataBuffer<Long, LongDataBuffer> implements LongDataBuffer {
+    AbstractLargeDataBuffer<Long, LongDataBuffer> implements LongDataBuffer,
+    UncheckedAccess.LongAccess {
 
   public static long MAX_CAPACITY = LongJdkDataBuffer.MAX_CAPACITY << 1;
 
@@ -36,18 +41,45 @@ public final class LongLargeDataBuffer extends
     return new LongLargeDataBuffer(buffers, false);
   }
 
-  public static LongDataBuffer join(LongDataBuffer... buffers) {
-    boolean readOnly = Validator.joinBuffers(buffers);
-    return new LongLargeDataBuffer(buffers, readOnly);
+  public static LongDataBuffer allocateDirect(long capacity) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity for a joined data buffer cannot exceeds " + MAX_CAPACITY + " bytes");
+    }
+    LongDataBuffer[] buffers = allocateBuffers(LongDataBuffer.class, capacity,
+        LongJdkDataBuffer.MAX_DIRECT_CAPACITY, LongJdkDataBuffer::allocateDirect);
+    return new LongLargeDataBuffer(buffers, false);
   }
 
-  @Override
-  public LongStream longStream() {
-    LongStream stream = buffer(0).longStream();
-    for (int i = 1; i < nbBuffers(); ++i) {
-      stream = LongStream.concat(stream, buffer(i).longStream());
+  public static LongDataBuffer allocateDirect(long capacity, int alignment) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity for a joined data buffer cannot exceeds " + MAX_CAPACITY + " bytes");
+    }
+    Alignment.validate(alignment);
+    long bufferCapacity = Alignment.chunkCapacity(LongJdkDataBuffer.MAX_DIRECT_CAPACITY,
+        Long.BYTES, alignment);
+    LongDataBuffer[] buffers = allocateBuffers(LongDataBuffer.class, capacity, bufferCapacity,
+        c -> LongJdkDataBuffer.allocateDirect(c, alignment));
+    return new LongLargeDataBuffer(buffers, false);
+  }
+
+  public static LongDataBuffer map(FileChannel channel, MapMode mode, long position,
+      long capacity) throws IOException {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity for a joined data buffer cannot exceeds " + MAX_CAPACITY + " bytes");
     }
-    return stream;
+    LongDataBuffer[] buffers = mapBuffers(LongDataBuffer.class, capacity,
+        LongJdkDataBuffer.MAX_DIRECT_CAPACITY,
+        (offset, length) ->
+            LongJdkDataBuffer.map(channel, mode, position + offset * Long.BYTES, length));
+    return join(buffers);
+  }
+
+  public static LongDataBuffer join(LongDataBuffer... buffers) {
+    boolean readOnly = Validator.joinBuffers(buffers);
+    return new LongLargeDataBuffer(buffers, readOnly);
   }
 
   @Override
@@ -57,6 +89,36 @@ public final class LongLargeDataBuffer extends
     return this;
   }
 
+  @Override
+  public long getLong(long index) {
+    Validator.getArgs(this, index);
+    return buffer(bufferIndex(index)).getLong(bufferOffset(index));
+  }
+
+  @Override
+  public LongDataBuffer setLong(long index, long value) {
+    Validator.putArgs(this, index);
+    buffer(bufferIndex(index)).setLong(bufferOffset(index), value);
+    return this;
+  }
+
+  @Override
+  public long getLongUnchecked(long index) {
+    return UncheckedAccess.getLong(buffer(bufferIndex(index)), bufferOffset(index));
+  }
+
+  @Override
+  public void setLongUnchecked(long index, long value) {
+    UncheckedAccess.setLong(buffer(bufferIndex(index)), bufferOffset(index), value);
+  }
+
+  @Override
+  public LongDataBuffer fill(long fromIndex, long toIndex, long value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    fillBuffers(fromIndex, toIndex, (buffer, from, to) -> buffer.fill(from, to, value));
+    return this;
+  }
+
   @Override
   public LongDataBuffer put(long[] src, int offset, int length) {
     Validator.putArrayArgs(this, src.length, offset, length);
@@ -66,16 +128,16 @@ public final class LongLargeDataBuffer extends
 
   @Override
   protected LongLargeDataBuffer instantiate(LongDataBuffer[] buffers, boolean readOnly,
-      long capacity, long limit, int currentBufferIndex) {
-    return new LongLargeDataBuffer(buffers, readOnly, capacity, limit, currentBufferIndex);
+      long start, long capacity, long position, long limit) {
+    return new LongLargeDataBuffer(buffers, readOnly, start, capacity, position, limit);
   }
 
   private LongLargeDataBuffer(LongDataBuffer[] buffers, boolean readOnly) {
     super(buffers, readOnly);
   }
 
-  private LongLargeDataBuffer(LongDataBuffer[] buffers, boolean readOnly, long capacity, long limit,
-      int currentBufferIndex) {
-    super(buffers, readOnly, capacity, limit, currentBufferIndex);
+  private LongLargeDataBuffer(LongDataBuffer[] buffers, boolean readOnly, long start,
+      long capacity, long position, long limit) {
+    super(buffers, readOnly, start, capacity, position, limit);
   }
 }
@@ -0,0 +1,143 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.large;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+import org.tensorflow.nio.buffer.ShortDataBuffer;
+import org.tensorflow.nio.buffer.impl.Alignment;
+import org.tensorflow.nio.buffer.impl.UncheckedAccess;
+import org.tensorflow.nio.buffer.impl.single.ShortJdkDataBuffer;
+
+public final class ShortLargeDataBuffer extends
+    AbstractLargeDataBuffer<Short, ShortDataBuffer> implements ShortDataBuffer,
+    UncheckedAccess.ShortAccess {
+
+  public static long MAX_CAPACITY = ShortJdkDataBuffer.MAX_CAPACITY << 1;
+
+  public static ShortDataBuffer allocate(long capacity) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity for a joined data buffer cannot exceeds " + MAX_CAPACITY + " bytes");
+    }
+    ShortDataBuffer[] buffers = allocateBuffers(ShortDataBuffer.class, capacity,
+        ShortJdkDataBuffer.MAX_CAPACITY, ShortJdkDataBuffer::allocate);
+    return new ShortLargeDataBuffer(buffers, false);
+  }
+
+  public static ShortDataBuffer allocateDirect(long capacity) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity for a joined data buffer cannot exceeds " + MAX_CAPACITY + " bytes");
+    }
+    ShortDataBuffer[] buffers = allocateBuffers(ShortDataBuffer.class, capacity,
+        ShortJdkDataBuffer.MAX_DIRECT_CAPACITY, ShortJdkDataBuffer::allocateDirect);
+    return new ShortLargeDataBuffer(buffers, false);
+  }
+
+  public static ShortDataBuffer allocateDirect(long capacity, int alignment) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity for a joined data buffer cannot exceeds " + MAX_CAPACITY + " bytes");
+    }
+    Alignment.validate(alignment);
+    long bufferCapacity = Alignment.chunkCapacity(ShortJdkDataBuffer.MAX_DIRECT_CAPACITY,
+        Short.BYTES, alignment);
+    ShortDataBuffer[] buffers = allocateBuffers(ShortDataBuffer.class, capacity, bufferCapacity,
+        c -> ShortJdkDataBuffer.allocateDirect(c, alignment));
+    return new ShortLargeDataBuffer(buffers, false);
+  }
+
+  public static ShortDataBuffer map(FileChannel channel, MapMode mode, long position,
+      long capacity) throws IOException {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity for a joined data buffer cannot exceeds " + MAX_CAPACITY + " bytes");
+    }
+    ShortDataBuffer[] buffers = mapBuffers(ShortDataBuffer.class, capacity,
+        ShortJdkDataBuffer.MAX_DIRECT_CAPACITY,
+        (offset, length) ->
+            ShortJdkDataBuffer.map(channel, mode, position + offset * Short.BYTES, length));
+    return join(buffers);
+  }
+
+  public static ShortDataBuffer join(ShortDataBuffer... buffers) {
+    boolean readOnly = Validator.joinBuffers(buffers);
+    return new ShortLargeDataBuffer(buffers, readOnly);
+  }
+
+  @Override
+  public ShortDataBuffer get(short[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    copyArray(offset, length, (b, o, l) -> ((ShortDataBuffer) b).get(dst, o, l));
+    return this;
+  }
+
+  @Override
+  public short getShort(long index) {
+    Validator.getArgs(this, index);
+    return buffer(bufferIndex(index)).getShort(bufferOffset(index));
+  }
+
+  @Override
+  public ShortDataBuffer setShort(long index, short value) {
+    Validator.putArgs(this, index);
+    buffer(bufferIndex(index)).setShort(bufferOffset(index), value);
+    return this;
+  }
+
+  @Override
+  public short getShortUnchecked(long index) {
+    return UncheckedAccess.getShort(buffer(bufferIndex(index)), bufferOffset(index));
+  }
+
+  @Override
+  public void setShortUnchecked(long index, short value) {
+    UncheckedAccess.setShort(buffer(bufferIndex(index)), bufferOffset(index), value);
+  }
+
+  @Override
+  public ShortDataBuffer fill(long fromIndex, long toIndex, short value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    fillBuffers(fromIndex, toIndex, (buffer, from, to) -> buffer.fill(from, to, value));
+    return this;
+  }
+
+  @Override
+  public ShortDataBuffer put(short[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    copyArray(offset, length, (b, o, l) -> ((ShortDataBuffer) b).put(src, o, l));
+    return this;
+  }
+
+  @Override
+  protected ShortLargeDataBuffer instantiate(ShortDataBuffer[] buffers, boolean readOnly,
+      long start, long capacity, long position, long limit) {
+    return new ShortLargeDataBuffer(buffers, readOnly, start, capacity, position, limit);
+  }
+
+  private ShortLargeDataBuffer(ShortDataBuffer[] buffers, boolean readOnly) {
+    super(buffers, readOnly);
+  }
+
+  private ShortLargeDataBuffer(ShortDataBuffer[] buffers, boolean readOnly, long start,
+      long capacity, long position, long limit) {
+    super(buffers, readOnly, start, capacity, position, limit);
+  }
+}
@@ -0,0 +1,240 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.paged;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.function.ObjLongConsumer;
+
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.impl.AbstractDataBuffer;
+import org.tensorflow.nio.buffer.impl.Validator;
+
+/**
+ * Base class for all data buffers viewing a region of a file through a {@link PageCache}.
+ * <p>
+ * Values are accessed in the pages resident in memory, which are read from the file on demand.
+ * Bulk operations transfer values page by page, through a JDK buffer of the same type viewing the
+ * bytes of each page, which stays resident until the page has been transferred.
+ *
+ * @param <T> type of elements (or values) stored in this buffer
+ * @param <B> the {@link DataBuffer} variant implemented by the subclass extending this base class
+ */
+@SuppressWarnings("unchecked")
+abstract class AbstractPagedDataBuffer<T, B extends DataBuffer<T>>
+    extends AbstractDataBuffer<T, B> {
+
+  @Override
+  public long capacity() {
+    return capacity;
+  }
+
+  @Override
+  public long limit() {
+    return limit;
+  }
+
+  @Override
+  public B limit(long newLimit) {
+    Validator.newLimit(this, newLimit);
+    limit = newLimit;
+    if (position > limit) {
+      position = limit;
+    }
+    return (B) this;
+  }
+
+  @Override
+  public boolean hasRemaining() {
+    return position < limit;
+  }
+
+  @Override
+  public long remaining() {
+    return limit - position;
+  }
+
+  @Override
+  public long position() {
+    return position;
+  }
+
+  @Override
+  public B position(long newPosition) {
+    Validator.newPosition(this, newPosition);
+    position = newPosition;
+    return (B) this;
+  }
+
+  @Override
+  public B rewind() {
+    position = 0;
+    return (B) this;
+  }
+
+  @Override
+  public boolean isReadOnly() {
+    return false;
+  }
+
+  @Override
+  public B put(DataBuffer<T> src) {
+    Validator.putArgs(this, src);
+    long length = src.remaining();
+    forEachPage(position, length, true, (page, offset) -> {
+      long pageLength = page.remaining();
+      page.put(src.withLimit(src.position() + pageLength));
+      src.position(src.position() + pageLength);
+    });
+    position += length;
+    return (B) this;
+  }
+
+  @Override
+  protected boolean copyTo(DataBuffer<T> dst) {
+    forEachPage(position, remaining(), false, (page, offset) -> dst.put(page));
+    position = limit;
+    return true;
+  }
+
+  /**
+   * Validates the arguments of a new buffer viewing a region of the file of a cache, and reserves
+   * this region in the cache.
+   *
+   * @param cache cache of the pages of the file
+   * @param position position of the first value of the buffer in the file, in bytes
+   * @param capacity capacity of the buffer, in values
+   * @param maxCapacity maximum capacity of a buffer of this type
+   * @param valueSize size of a value, in bytes
+   * @throws IllegalArgumentException if the region is not valid
+   */
+  static void reserve(PageCache cache, long position, long capacity, long maxCapacity,
+      int valueSize) {
+    if (capacity < 0 || capacity > maxCapacity) {
+      throw new IllegalArgumentException(
+          "Capacity of a paged data buffer must be between 0 and " + maxCapacity);
+    }
+    if (position < 0 || position % valueSize != 0) {
+      throw new IllegalArgumentException(
+          "Position of a paged data buffer must be a positive multiple of " + valueSize);
+    }
+    if (position > Long.MAX_VALUE - capacity * valueSize) {
+      throw new IllegalArgumentException("Paged data buffer exceeds the maximum size of a file");
+    }
+    cache.reserve(position + capacity * valueSize);
+  }
+
+  AbstractPagedDataBuffer(PageCache cache, long offset, int valueSize, long capacity,
+      long position, long limit) {
+    this.cache = cache;
+    this.offset = offset;
+    this.valueSize = valueSize;
+    this.capacity = capacity;
+    this.position = position;
+    this.limit = limit;
+  }
+
+  /**
+   * Creates a JDK buffer viewing values stored in the given bytes, in their order.
+   */
+  abstract B pageValues(ByteBuffer bytes);
+
+  /**
+   * Returns the bytes of the page storing the value at the given index.
+   *
+   * @param index index of the value
+   * @param write true if the value is about to be modified
+   * @return bytes of the page, which must only be accessed before any other page is
+   */
+  ByteBuffer page(long index, boolean write) {
+    return cache.page((offset + index * valueSize) / cache.pageSize(), write).bytes;
+  }
+
+  /**
+   * Returns the offset in its page of the value at the given index, in bytes.
+   */
+  int pageOffset(long index) {
+    return (int) ((offset + index * valueSize) % cache.pageSize());
+  }
+
+  /**
+   * Invokes an operation on each page storing values in the given range, through a buffer viewing
+   * these values. Each page is pinned in the cache while it is being accessed.
+   *
+   * @param fromIndex index of the first value of the range
+   * @param length number of values in the range
+   * @param write true if values are modified by the operation
+   * @param op operation to invoke, with a buffer viewing the values of a page in the range, and the
+   * number of values of the range preceding them
+   */
+  void forEachPage(long fromIndex, long length, boolean write, ObjLongConsumer<B> op) {
+    int pageSize = cache.pageSize();
+    long done = 0;
+    while (done < length) {
+      long byteIndex = offset + (fromIndex + done) * valueSize;
+      PageCache.Page page = cache.page(byteIndex / pageSize, write);
+      int pageOffset = (int) (byteIndex % pageSize);
+      int pageLength = (int) Math.min(length - done, (pageSize - pageOffset) / valueSize);
+      ByteBuffer bytes = page.bytes.duplicate();
+      bytes.position(pageOffset);
+      bytes.limit(pageOffset + pageLength * valueSize);
+      page.pin();
+      try {
+        op.accept(pageValues(bytes.slice().order(page.bytes.order())), done);
+      } finally {
+        page.unpin();
+      }
+      done += pageLength;
+    }
+  }
+
+  /**
+   * Returns the index of the next value to read and increments the position.
+   */
+  long nextGetIndex() {
+    if (position >= limit) {
+      throw new BufferUnderflowException();
+    }
+    return position++;
+  }
+
+  /**
+   * Returns the index of the next value to write and increments the position.
+   */
+  long nextPutIndex() {
+    if (position >= limit) {
+      throw new BufferOverflowException();
+    }
+    return position++;
+  }
+
+  /**
+   * Returns the position in the file of the value at the given index, in bytes.
+   */
+  long offset(long index) {
+    return offset + index * valueSize;
+  }
+
+  final PageCache cache;
+
+  private final long offset;
+  private final int valueSize;
+  private final long capacity;
+  private long position;
+  private long limit;
+}
@@ -0,0 +1,133 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.paged;
+
+import java.nio.ByteBuffer;
+
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.ByteDataBuffer;
+import org.tensorflow.nio.buffer.impl.Validator;
+import org.tensorflow.nio.buffer.impl.single.ByteJdkDataBuffer;
+
+/**
+ * A buffer of bytes stored in a file, accessed through the pages of a {@link PageCache}.
+ */
+public final class BytePagedDataBuffer extends AbstractPagedDataBuffer<Byte, ByteDataBuffer>
+    implements ByteDataBuffer {
+
+  /**
+   * The maximum capacity for a buffer of this type, i.e. the maximum number of bytes it can
+   * store.
+   */
+  public static long MAX_CAPACITY = Long.MAX_VALUE;
+
+  /**
+   * Creates a new byte buffer viewing a region of the file of a page cache.
+   * <p>
+   * The new buffer's position will be zero and its limit will be its capacity. Values of the
+   * region that are beyond the end of the file are initialized to zero.
+   *
+   * @param cache cache of the pages of the file
+   * @param position position in the file at which the region starts, in bytes
+   * @param capacity the new buffer's capacity, in bytes
+   * @return the new byte buffer
+   * @throws IllegalArgumentException if the position is invalid, or if the capacity is a negative
+   * integer or exceeds {@link #MAX_CAPACITY}.
+   */
+  public static ByteDataBuffer map(PageCache cache, long position, long capacity) {
+    reserve(cache, position, capacity, MAX_CAPACITY, Byte.BYTES);
+    return new BytePagedDataBuffer(cache, position, capacity, 0, capacity);
+  }
+
+  @Override
+  public Byte get() {
+    return getByte(nextGetIndex());
+  }
+
+  @Override
+  public Byte get(long index) {
+    return getByte(index);
+  }
+
+  @Override
+  public ByteDataBuffer get(byte[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    forEachPage(position(), length, false,
+        (page, done) -> page.get(dst, offset + (int) done, (int) page.remaining()));
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public byte getByte(long index) {
+    Validator.getArgs(this, index);
+    return page(index, false).get(pageOffset(index));
+  }
+
+  @Override
+  public ByteDataBuffer put(Byte value) {
+    return setByte(nextPutIndex(), value);
+  }
+
+  @Override
+  public ByteDataBuffer put(long index, Byte value) {
+    return setByte(index, value);
+  }
+
+  @Override
+  public ByteDataBuffer put(byte[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    forEachPage(position(), length, true,
+        (page, done) -> page.put(src, offset + (int) done, (int) page.remaining()));
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public ByteDataBuffer setByte(long index, byte value) {
+    Validator.putArgs(this, index);
+    page(index, true).put(pageOffset(index), value);
+    return this;
+  }
+
+  @Override
+  public ByteDataBuffer fill(long fromIndex, long toIndex, byte value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    forEachPage(fromIndex, toIndex - fromIndex, true, (page, done) -> page.fill(value));
+    return this;
+  }
+
+  @Override
+  public ByteDataBuffer duplicate() {
+    return new BytePagedDataBuffer(cache, offset(0), capacity(), position(), limit());
+  }
+
+  @Override
+  public ByteDataBuffer slice() {
+    long remaining = remaining();
+    return new BytePagedDataBuffer(cache, offset(position()), remaining, 0, remaining);
+  }
+
+  @Override
+  ByteDataBuffer pageValues(ByteBuffer bytes) {
+    return ByteJdkDataBuffer.wrap(bytes);
+  }
+
+  BytePagedDataBuffer(PageCache cache, long offset, long capacity, long position, long limit) {
+    super(cache, offset, Byte.BYTES, capacity, position, limit);
+  }
+}
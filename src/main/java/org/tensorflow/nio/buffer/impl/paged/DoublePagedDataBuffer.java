@@ -0,0 +1,134 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.paged;
+
+import java.nio.ByteBuffer;
+
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.DoubleDataBuffer;
+import org.tensorflow.nio.buffer.impl.Validator;
+import org.tensorflow.nio.buffer.impl.single.DoubleJdkDataBuffer;
+
+/**
+ * A buffer of doubles stored in a file, accessed through the pages of a {@link PageCache}.
+ */
+public final class DoublePagedDataBuffer extends AbstractPagedDataBuffer<Double, DoubleDataBuffer>
+    implements DoubleDataBuffer {
+
+  /**
+   * The maximum capacity for a buffer of this type, i.e. the maximum number of doubles it can
+   * store.
+   */
+  public static long MAX_CAPACITY = Long.MAX_VALUE / Double.BYTES;
+
+  /**
+   * Creates a new double buffer viewing a region of the file of a page cache.
+   * <p>
+   * The new buffer's position will be zero and its limit will be its capacity. Values of the
+   * region that are beyond the end of the file are initialized to zero.
+   *
+   * @param cache cache of the pages of the file
+   * @param position position in the file at which the region starts, in bytes, which must be a
+   * multiple of {@link Double#BYTES}
+   * @param capacity the new buffer's capacity, in doubles
+   * @return the new double buffer
+   * @throws IllegalArgumentException if the position is invalid, or if the capacity is a negative
+   * integer or exceeds {@link #MAX_CAPACITY}.
+   */
+  public static DoubleDataBuffer map(PageCache cache, long position, long capacity) {
+    reserve(cache, position, capacity, MAX_CAPACITY, Double.BYTES);
+    return new DoublePagedDataBuffer(cache, position, capacity, 0, capacity);
+  }
+
+  @Override
+  public Double get() {
+    return getDouble(nextGetIndex());
+  }
+
+  @Override
+  public Double get(long index) {
+    return getDouble(index);
+  }
+
+  @Override
+  public DoubleDataBuffer get(double[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    forEachPage(position(), length, false,
+        (page, done) -> page.get(dst, offset + (int) done, (int) page.remaining()));
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public double getDouble(long index) {
+    Validator.getArgs(this, index);
+    return page(index, false).getDouble(pageOffset(index));
+  }
+
+  @Override
+  public DoubleDataBuffer put(Double value) {
+    return setDouble(nextPutIndex(), value);
+  }
+
+  @Override
+  public DoubleDataBuffer put(long index, Double value) {
+    return setDouble(index, value);
+  }
+
+  @Override
+  public DoubleDataBuffer put(double[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    forEachPage(position(), length, true,
+        (page, done) -> page.put(src, offset + (int) done, (int) page.remaining()));
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public DoubleDataBuffer setDouble(long index, double value) {
+    Validator.putArgs(this, index);
+    page(index, true).putDouble(pageOffset(index), value);
+    return this;
+  }
+
+  @Override
+  public DoubleDataBuffer fill(long fromIndex, long toIndex, double value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    forEachPage(fromIndex, toIndex - fromIndex, true, (page, done) -> page.fill(value));
+    return this;
+  }
+
+  @Override
+  public DoubleDataBuffer duplicate() {
+    return new DoublePagedDataBuffer(cache, offset(0), capacity(), position(), limit());
+  }
+
+  @Override
+  public DoubleDataBuffer slice() {
+    long remaining = remaining();
+    return new DoublePagedDataBuffer(cache, offset(position()), remaining, 0, remaining);
+  }
+
+  @Override
+  DoubleDataBuffer pageValues(ByteBuffer bytes) {
+    return DoubleJdkDataBuffer.wrap(bytes.asDoubleBuffer());
+  }
+
+  DoublePagedDataBuffer(PageCache cache, long offset, long capacity, long position, long limit) {
+    super(cache, offset, Double.BYTES, capacity, position, limit);
+  }
+}
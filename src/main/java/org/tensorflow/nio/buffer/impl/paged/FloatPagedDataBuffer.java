@@ -0,0 +1,134 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.paged;
+
+import java.nio.ByteBuffer;
+
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.FloatDataBuffer;
+import org.tensorflow.nio.buffer.impl.Validator;
+import org.tensorflow.nio.buffer.impl.single.FloatJdkDataBuffer;
+
+/**
+ * A buffer of floats stored in a file, accessed through the pages of a {@link PageCache}.
+ */
+public final class FloatPagedDataBuffer extends AbstractPagedDataBuffer<Float, FloatDataBuffer>
+    implements FloatDataBuffer {
+
+  /**
+   * The maximum capacity for a buffer of this type, i.e. the maximum number of floats it can
+   * store.
+   */
+  public static long MAX_CAPACITY = Long.MAX_VALUE / Float.BYTES;
+
+  /**
+   * Creates a new float buffer viewing a region of the file of a page cache.
+   * <p>
+   * The new buffer's position will be zero and its limit will be its capacity. Values of the
+   * region that are beyond the end of the file are initialized to zero.
+   *
+   * @param cache cache of the pages of the file
+   * @param position position in the file at which the region starts, in bytes, which must be a
+   * multiple of {@link Float#BYTES}
+   * @param capacity the new buffer's capacity, in floats
+   * @return the new float buffer
+   * @throws IllegalArgumentException if the position is invalid, or if the capacity is a negative
+   * integer or exceeds {@link #MAX_CAPACITY}.
+   */
+  public static FloatDataBuffer map(PageCache cache, long position, long capacity) {
+    reserve(cache, position, capacity, MAX_CAPACITY, Float.BYTES);
+    return new FloatPagedDataBuffer(cache, position, capacity, 0, capacity);
+  }
+
+  @Override
+  public Float get() {
+    return getFloat(nextGetIndex());
+  }
+
+  @Override
+  public Float get(long index) {
+    return getFloat(index);
+  }
+
+  @Override
+  public FloatDataBuffer get(float[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    forEachPage(position(), length, false,
+        (page, done) -> page.get(dst, offset + (int) done, (int) page.remaining()));
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public float getFloat(long index) {
+    Validator.getArgs(this, index);
+    return page(index, false).getFloat(pageOffset(index));
+  }
+
+  @Override
+  public FloatDataBuffer put(Float value) {
+    return setFloat(nextPutIndex(), value);
+  }
+
+  @Override
+  public FloatDataBuffer put(long index, Float value) {
+    return setFloat(index, value);
+  }
+
+  @Override
+  public FloatDataBuffer put(float[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    forEachPage(position(), length, true,
+        (page, done) -> page.put(src, offset + (int) done, (int) page.remaining()));
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public FloatDataBuffer setFloat(long index, float value) {
+    Validator.putArgs(this, index);
+    page(index, true).putFloat(pageOffset(index), value);
+    return this;
+  }
+
+  @Override
+  public FloatDataBuffer fill(long fromIndex, long toIndex, float value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    forEachPage(fromIndex, toIndex - fromIndex, true, (page, done) -> page.fill(value));
+    return this;
+  }
+
+  @Override
+  public FloatDataBuffer duplicate() {
+    return new FloatPagedDataBuffer(cache, offset(0), capacity(), position(), limit());
+  }
+
+  @Override
+  public FloatDataBuffer slice() {
+    long remaining = remaining();
+    return new FloatPagedDataBuffer(cache, offset(position()), remaining, 0, remaining);
+  }
+
+  @Override
+  FloatDataBuffer pageValues(ByteBuffer bytes) {
+    return FloatJdkDataBuffer.wrap(bytes.asFloatBuffer());
+  }
+
+  FloatPagedDataBuffer(PageCache cache, long offset, long capacity, long position, long limit) {
+    super(cache, offset, Float.BYTES, capacity, position, limit);
+  }
+}
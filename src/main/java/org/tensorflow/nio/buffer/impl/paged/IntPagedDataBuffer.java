@@ -0,0 +1,134 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.paged;
+
+import java.nio.ByteBuffer;
+
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.IntDataBuffer;
+import org.tensorflow.nio.buffer.impl.Validator;
+import org.tensorflow.nio.buffer.impl.single.IntJdkDataBuffer;
+
+/**
+ * A buffer of integers stored in a file, accessed through the pages of a {@link PageCache}.
+ */
+public final class IntPagedDataBuffer extends AbstractPagedDataBuffer<Integer, IntDataBuffer>
+    implements IntDataBuffer {
+
+  /**
+   * The maximum capacity for a buffer of this type, i.e. the maximum number of integers it can
+   * store.
+   */
+  public static long MAX_CAPACITY = Long.MAX_VALUE / Integer.BYTES;
+
+  /**
+   * Creates a new int buffer viewing a region of the file of a page cache.
+   * <p>
+   * The new buffer's position will be zero and its limit will be its capacity. Values of the
+   * region that are beyond the end of the file are initialized to zero.
+   *
+   * @param cache cache of the pages of the file
+   * @param position position in the file at which the region starts, in bytes, which must be a
+   * multiple of {@link Integer#BYTES}
+   * @param capacity the new buffer's capacity, in integers
+   * @return the new int buffer
+   * @throws IllegalArgumentException if the position is invalid, or if the capacity is a negative
+   * integer or exceeds {@link #MAX_CAPACITY}.
+   */
+  public static IntDataBuffer map(PageCache cache, long position, long capacity) {
+    reserve(cache, position, capacity, MAX_CAPACITY, Integer.BYTES);
+    return new IntPagedDataBuffer(cache, position, capacity, 0, capacity);
+  }
+
+  @Override
+  public Integer get() {
+    return getInt(nextGetIndex());
+  }
+
+  @Override
+  public Integer get(long index) {
+    return getInt(index);
+  }
+
+  @Override
+  public IntDataBuffer get(int[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    forEachPage(position(), length, false,
+        (page, done) -> page.get(dst, offset + (int) done, (int) page.remaining()));
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public int getInt(long index) {
+    Validator.getArgs(this, index);
+    return page(index, false).getInt(pageOffset(index));
+  }
+
+  @Override
+  public IntDataBuffer put(Integer value) {
+    return setInt(nextPutIndex(), value);
+  }
+
+  @Override
+  public IntDataBuffer put(long index, Integer value) {
+    return setInt(index, value);
+  }
+
+  @Override
+  public IntDataBuffer put(int[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    forEachPage(position(), length, true,
+        (page, done) -> page.put(src, offset + (int) done, (int) page.remaining()));
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public IntDataBuffer setInt(long index, int value) {
+    Validator.putArgs(this, index);
+    page(index, true).putInt(pageOffset(index), value);
+    return this;
+  }
+
+  @Override
+  public IntDataBuffer fill(long fromIndex, long toIndex, int value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    forEachPage(fromIndex, toIndex - fromIndex, true, (page, done) -> page.fill(value));
+    return this;
+  }
+
+  @Override
+  public IntDataBuffer duplicate() {
+    return new IntPagedDataBuffer(cache, offset(0), capacity(), position(), limit());
+  }
+
+  @Override
+  public IntDataBuffer slice() {
+    long remaining = remaining();
+    return new IntPagedDataBuffer(cache, offset(position()), remaining, 0, remaining);
+  }
+
+  @Override
+  IntDataBuffer pageValues(ByteBuffer bytes) {
+    return IntJdkDataBuffer.wrap(bytes.asIntBuffer());
+  }
+
+  IntPagedDataBuffer(PageCache cache, long offset, long capacity, long position, long limit) {
+    super(cache, offset, Integer.BYTES, capacity, position, limit);
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.paged;
+
+import java.nio.ByteBuffer;
+
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.LongDataBuffer;
+import org.tensorflow.nio.buffer.impl.Validator;
+import org.tensorflow.nio.buffer.impl.single.LongJdkDataBuffer;
+
+/**
+ * A buffer of longs stored in a file, accessed through the pages of a {@link PageCache}.
+ */
+public final class LongPagedDataBuffer extends AbstractPagedDataBuffer<Long, LongDataBuffer>
+    implements LongDataBuffer {
+
+  /**
+   * The maximum capacity for a buffer of this type, i.e. the maximum number of longs it can
+   * store.
+   */
+  public static long MAX_CAPACITY = Long.MAX_VALUE / Long.BYTES;
+
+  /**
+   * Creates a new long buffer viewing a region of the file of a page cache.
+   * <p>
+   * The new buffer's position will be zero and its limit will be its capacity. Values of the
+   * region that are beyond the end of the file are initialized to zero.
+   *
+   * @param cache cache of the pages of the file
+   * @param position position in the file at which the region starts, in bytes, which must be a
+   * multiple of {@link Long#BYTES}
+   * @param capacity the new buffer's capacity, in longs
+   * @return the new long buffer
+   * @throws IllegalArgumentException if the position is invalid, or if the capacity is a negative
+   * integer or exceeds {@link #MAX_CAPACITY}.
+   */
+  public static LongDataBuffer map(PageCache cache, long position, long capacity) {
+    reserve(cache, position, capacity, MAX_CAPACITY, Long.BYTES);
+    return new LongPagedDataBuffer(cache, position, capacity, 0, capacity);
+  }
+
+  @Override
+  public Long get() {
+    return getLong(nextGetIndex());
+  }
+
+  @Override
+  public Long get(long index) {
+    return getLong(index);
+  }
+
+  @Override
+  public LongDataBuffer get(long[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    forEachPage(position(), length, false,
+        (page, done) -> page.get(dst, offset + (int) done, (int) page.remaining()));
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public long getLong(long index) {
+    Validator.getArgs(this, index);
+    return page(index, false).getLong(pageOffset(index));
+  }
+
+  @Override
+  public LongDataBuffer put(Long value) {
+    return setLong(nextPutIndex(), value);
+  }
+
+  @Override
+  public LongDataBuffer put(long index, Long value) {
+    return setLong(index, value);
+  }
+
+  @Override
+  public LongDataBuffer put(long[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    forEachPage(position(), length, true,
+        (page, done) -> page.put(src, offset + (int) done, (int) page.remaining()));
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public LongDataBuffer setLong(long index, long value) {
+    Validator.putArgs(this, index);
+    page(index, true).putLong(pageOffset(index), value);
+    return this;
+  }
+
+  @Override
+  public LongDataBuffer fill(long fromIndex, long toIndex, long value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    forEachPage(fromIndex, toIndex - fromIndex, true, (page, done) -> page.fill(value));
+    return this;
+  }
+
+  @Override
+  public LongDataBuffer duplicate() {
+    return new LongPagedDataBuffer(cache, offset(0), capacity(), position(), limit());
+  }
+
+  @Override
+  public LongDataBuffer slice() {
+    long remaining = remaining();
+    return new LongPagedDataBuffer(cache, offset(position()), remaining, 0, remaining);
+  }
+
+  @Override
+  LongDataBuffer pageValues(ByteBuffer bytes) {
+    return LongJdkDataBuffer.wrap(bytes.asLongBuffer());
+  }
+
+  LongPagedDataBuffer(PageCache cache, long offset, long capacity, long position, long limit) {
+    super(cache, offset, Long.BYTES, capacity, position, limit);
+  }
+}
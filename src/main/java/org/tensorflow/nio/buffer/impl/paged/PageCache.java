@@ -0,0 +1,271 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.paged;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded set of pages of a file resident in memory, shared by the paged data buffers viewing
+ * regions of this file.
+ * <p>
+ * The file is split in pages of a fixed size. A page is read from the file the first time one of
+ * its values is accessed and then stays resident until the total size of the resident pages would
+ * exceed the maximum set for this cache, in which case the least recently used pages are evicted.
+ * Pages that have been modified are written back to the file when they are evicted, when the cache
+ * is flushed and when it is closed. Values are stored in the file in the native byte order, like in
+ * mapped buffers, so the same file can be mapped once the cache is closed.
+ * <p>
+ * The number of hits, misses and evictions of this cache are counted, so its size can be tuned for
+ * a given access pattern. Like data buffers, a page cache and the buffers sharing it are not
+ * thread-safe.
+ */
+public final class PageCache implements Closeable {
+
+  /**
+   * Opens a cache of pages of a file, creating the file if it does not exist.
+   *
+   * @param path path of the file
+   * @param pageSize size of a page, in bytes, which must be a positive multiple of {@link
+   * Long#BYTES}, so that no value is split between two pages
+   * @param maxResidentBytes maximum size of the pages resident in memory, in bytes. If smaller than
+   * a page, one page at a time remains resident.
+   * @return the new page cache
+   * @throws IllegalArgumentException if the size of a page is invalid
+   * @throws IOException if the file cannot be opened
+   */
+  public static PageCache open(Path path, int pageSize, long maxResidentBytes)
+      throws IOException {
+    if (pageSize <= 0 || pageSize % Long.BYTES != 0) {
+      throw new IllegalArgumentException(
+          "Page size must be a positive multiple of " + Long.BYTES + " bytes");
+    }
+    FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+        StandardOpenOption.READ, StandardOpenOption.WRITE);
+    return new PageCache(channel, pageSize, maxResidentBytes);
+  }
+
+  /**
+   * @return the size of a page, in bytes
+   */
+  public int pageSize() {
+    return pageSize;
+  }
+
+  /**
+   * @return the maximum size of the pages resident in memory, in bytes
+   */
+  public long maxResidentBytes() {
+    return maxResidentBytes;
+  }
+
+  /**
+   * @return the size of the pages currently resident in memory, in bytes
+   */
+  public long residentBytes() {
+    return (long) pages.size() * pageSize;
+  }
+
+  /**
+   * @return the number of accesses to a page that was already resident
+   */
+  public long hits() {
+    return hits;
+  }
+
+  /**
+   * @return the number of accesses to a page that had to be read from the file
+   */
+  public long misses() {
+    return misses;
+  }
+
+  /**
+   * @return the number of pages evicted from memory to make room for other pages
+   */
+  public long evictions() {
+    return evictions;
+  }
+
+  /**
+   * Writes back all modified pages to the file.
+   * <p>
+   * Pages remain resident after being flushed. The file is also extended, if needed, to contain all
+   * values of the buffers created on this cache.
+   *
+   * @throws IOException if pages cannot be written to the file
+   */
+  public void flush() throws IOException {
+    for (Map.Entry<Long, Page> entry : pages.entrySet()) {
+      writeBack(entry.getKey(), entry.getValue());
+    }
+    if (channel.size() < size) {
+      channel.write(ByteBuffer.allocate(1), size - 1);
+    }
+  }
+
+  /**
+   * Flushes this cache and closes its file.
+   * <p>
+   * Buffers created on this cache must not be accessed once it is closed.
+   *
+   * @throws IOException if pages cannot be written to the file or if the file cannot be closed
+   */
+  @Override
+  public void close() throws IOException {
+    try {
+      flush();
+    } finally {
+      pages.clear();
+      channel.close();
+    }
+  }
+
+  /**
+   * A page resident in memory.
+   */
+  static final class Page {
+
+    /**
+     * Bytes of the page, in the native order.
+     */
+    final ByteBuffer bytes;
+
+    /**
+     * Prevents this page from being evicted, while its bytes are accessed by a bulk operation
+     * that may access other pages.
+     */
+    void pin() {
+      ++pins;
+    }
+
+    void unpin() {
+      --pins;
+    }
+
+    private boolean dirty;
+    private int pins;
+
+    private Page(ByteBuffer bytes) {
+      this.bytes = bytes;
+    }
+  }
+
+  /**
+   * Grows the size of the file region covered by this cache, so it includes all values of a new
+   * buffer.
+   *
+   * @param end position in the file following the last byte of the buffer
+   */
+  void reserve(long end) {
+    size = Math.max(size, end);
+  }
+
+  /**
+   * Returns a page, reading it from the file if it is not resident.
+   *
+   * @param index index of the page in the file
+   * @param write true if the bytes of the page are about to be modified
+   * @return the page
+   * @throws UncheckedIOException if the page, or a page to evict, could not be read or written
+   */
+  Page page(long index, boolean write) {
+    Page page = pages.get(index);
+    if (page != null) {
+      ++hits;
+    } else {
+      ++misses;
+      try {
+        evict();
+        page = new Page(read(index));
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      pages.put(index, page);
+    }
+    if (write) {
+      page.dirty = true;
+    }
+    return page;
+  }
+
+  private final FileChannel channel;
+  private final int pageSize;
+  private final long maxResidentBytes;
+  private final LinkedHashMap<Long, Page> pages = new LinkedHashMap<>(16, 0.75f, true);
+  private long size = 0L;
+  private long hits = 0L;
+  private long misses = 0L;
+  private long evictions = 0L;
+
+  private PageCache(FileChannel channel, int pageSize, long maxResidentBytes) {
+    this.channel = channel;
+    this.pageSize = pageSize;
+    this.maxResidentBytes = maxResidentBytes;
+  }
+
+  /**
+   * Evicts the least recently used pages that are not pinned until another page can be loaded
+   * without exceeding the maximum size of the resident pages.
+   */
+  private void evict() throws IOException {
+    Iterator<Map.Entry<Long, Page>> entries = pages.entrySet().iterator();
+    while (residentBytes() + pageSize > maxResidentBytes && entries.hasNext()) {
+      Map.Entry<Long, Page> entry = entries.next();
+      if (entry.getValue().pins == 0) {
+        writeBack(entry.getKey(), entry.getValue());
+        entries.remove();
+        ++evictions;
+      }
+    }
+  }
+
+  private ByteBuffer read(long index) throws IOException {
+    ByteBuffer bytes = ByteBuffer.allocate(pageSize).order(ByteOrder.nativeOrder());
+    long position = index * pageSize;
+    while (bytes.hasRemaining()) {
+      if (channel.read(bytes, position + bytes.position()) < 0) {
+        break;  // values beyond the end of the file are all zeros
+      }
+    }
+    bytes.clear();
+    return bytes;
+  }
+
+  private void writeBack(long index, Page page) throws IOException {
+    if (!page.dirty) {
+      return;
+    }
+    long position = index * pageSize;
+    ByteBuffer bytes = page.bytes.duplicate();
+    bytes.clear();
+    bytes.limit((int) Math.min(pageSize, size - position));
+    while (bytes.hasRemaining()) {
+      channel.write(bytes, position + bytes.position());
+    }
+    page.dirty = false;
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.paged;
+
+import java.nio.ByteBuffer;
+
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.ShortDataBuffer;
+import org.tensorflow.nio.buffer.impl.Validator;
+import org.tensorflow.nio.buffer.impl.single.ShortJdkDataBuffer;
+
+/**
+ * A buffer of shorts stored in a file, accessed through the pages of a {@link PageCache}.
+ */
+public final class ShortPagedDataBuffer extends AbstractPagedDataBuffer<Short, ShortDataBuffer>
+    implements ShortDataBuffer {
+
+  /**
+   * The maximum capacity for a buffer of this type, i.e. the maximum number of shorts it can
+   * store.
+   */
+  public static long MAX_CAPACITY = Long.MAX_VALUE / Short.BYTES;
+
+  /**
+   * Creates a new short buffer viewing a region of the file of a page cache.
+   * <p>
+   * The new buffer's position will be zero and its limit will be its capacity. Values of the
+   * region that are beyond the end of the file are initialized to zero.
+   *
+   * @param cache cache of the pages of the file
+   * @param position position in the file at which the region starts, in bytes, which must be a
+   * multiple of {@link Short#BYTES}
+   * @param capacity the new buffer's capacity, in shorts
+   * @return the new short buffer
+   * @throws IllegalArgumentException if the position is invalid, or if the capacity is a negative
+   * integer or exceeds {@link #MAX_CAPACITY}.
+   */
+  public static ShortDataBuffer map(PageCache cache, long position, long capacity) {
+    reserve(cache, position, capacity, MAX_CAPACITY, Short.BYTES);
+    return new ShortPagedDataBuffer(cache, position, capacity, 0, capacity);
+  }
+
+  @Override
+  public Short get() {
+    return getShort(nextGetIndex());
+  }
+
+  @Override
+  public Short get(long index) {
+    return getShort(index);
+  }
+
+  @Override
+  public ShortDataBuffer get(short[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    forEachPage(position(), length, false,
+        (page, done) -> page.get(dst, offset + (int) done, (int) page.remaining()));
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public short getShort(long index) {
+    Validator.getArgs(this, index);
+    return page(index, false).getShort(pageOffset(index));
+  }
+
+  @Override
+  public ShortDataBuffer put(Short value) {
+    return setShort(nextPutIndex(), value);
+  }
+
+  @Override
+  public ShortDataBuffer put(long index, Short value) {
+    return setShort(index, value);
+  }
+
+  @Override
+  public ShortDataBuffer put(short[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    forEachPage(position(), length, true,
+        (page, done) -> page.put(src, offset + (int) done, (int) page.remaining()));
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public ShortDataBuffer setShort(long index, short value) {
+    Validator.putArgs(this, index);
+    page(index, true).putShort(pageOffset(index), value);
+    return this;
+  }
+
+  @Override
+  public ShortDataBuffer fill(long fromIndex, long toIndex, short value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    forEachPage(fromIndex, toIndex - fromIndex, true, (page, done) -> page.fill(value));
+    return this;
+  }
+
+  @Override
+  public ShortDataBuffer duplicate() {
+    return new ShortPagedDataBuffer(cache, offset(0), capacity(), position(), limit());
+  }
+
+  @Override
+  public ShortDataBuffer slice() {
+    long remaining = remaining();
+    return new ShortPagedDataBuffer(cache, offset(position()), remaining, 0, remaining);
+  }
+
+  @Override
+  ShortDataBuffer pageValues(ByteBuffer bytes) {
+    return ShortJdkDataBuffer.wrap(bytes.asShortBuffer());
+  }
+
+  ShortPagedDataBuffer(PageCache cache, long offset, long capacity, long position, long limit) {
+    super(cache, offset, Short.BYTES, capacity, position, limit);
+  }
+}
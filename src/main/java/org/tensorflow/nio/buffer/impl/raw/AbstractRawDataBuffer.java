@@ -0,0 +1,272 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.raw;
+
+import static org.tensorflow.nio.buffer.impl.raw.UnsafeReference.UNSAFE;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteOrder;
+
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.impl.AbstractDataBuffer;
+import org.tensorflow.nio.buffer.impl.Alignment;
+import org.tensorflow.nio.buffer.impl.Validator;
+
+/**
+ * Base class for all data buffers accessing a single block of native memory directly.
+ * <p>
+ * Unlike JDK buffers, raw data buffers are indexed with 64-bits offsets, so they do not need to be
+ * split in multiple chunks to support capacities larger than 2<sup>31</sup> - 1. Values are stored
+ * in the native byte order.
+ * <p>
+ * The native memory of a raw data buffer can be released deterministically, instead of waiting for
+ * the buffer to be garbage-collected. Each buffer, including the duplicates and slices of another
+ * one and those backing the slices of an N-dimensional array, holds its own reference to the
+ * memory, released when the buffer is closed (see {@link
+ * org.tensorflow.nio.buffer.DataBuffers#release(DataBuffer)}) or, failing that, once it is no
+ * longer reachable. The memory is freed when all of these references are released, so closing a
+ * buffer never invalidates the other buffers sharing its memory.
+ * <p>
+ * Closing a buffer more than once has no effect, and accessing the values of a closed buffer throws
+ * an {@link IllegalStateException}. Like any other buffer, a raw data buffer must not be accessed
+ * by a thread while being closed by another one: threads that outlive each other should rather
+ * work on their own duplicate or slice of the buffer.
+ *
+ * @param <T> type of elements (or values) stored in this buffer
+ * @param <B> the {@link DataBuffer} variant implemented by the subclass extending this base class
+ */
+@SuppressWarnings("unchecked")
+abstract class AbstractRawDataBuffer<T, B extends DataBuffer<T>> extends AbstractDataBuffer<T, B>
+    implements AutoCloseable {
+
+  @Override
+  public long capacity() {
+    return capacity;
+  }
+
+  @Override
+  public long limit() {
+    return limit;
+  }
+
+  @Override
+  public B limit(long newLimit) {
+    Validator.newLimit(this, newLimit);
+    limit = newLimit;
+    if (position > limit) {
+      position = limit;
+    }
+    return (B) this;
+  }
+
+  @Override
+  public boolean hasRemaining() {
+    return position < limit;
+  }
+
+  @Override
+  public long remaining() {
+    return limit - position;
+  }
+
+  @Override
+  public long position() {
+    return position;
+  }
+
+  @Override
+  public B position(long newPosition) {
+    Validator.newPosition(this, newPosition);
+    position = newPosition;
+    return (B) this;
+  }
+
+  @Override
+  public B rewind() {
+    position = 0;
+    return (B) this;
+  }
+
+  @Override
+  public boolean isReadOnly() {
+    return false;
+  }
+
+  /**
+   * Releases the reference to the native memory held by this buffer and marks this buffer as
+   * closed.
+   * <p>
+   * The memory is freed once all buffers holding a reference to it are closed or no longer
+   * reachable.
+   */
+  @Override
+  public void close() {
+    if (!closed) {
+      closed = true;
+      reference.release();
+    }
+  }
+
+  @Override
+  protected long memoryOffset() {
+    return address(position);
+  }
+
+  @Override
+  protected long alignment() {
+    return Alignment.ofAddress(address(0));
+  }
+
+  AbstractRawDataBuffer(RawMemory memory, long address, int elementSize, long capacity,
+      long position, long limit) {
+    this.memory = memory;
+    this.reference = memory.retain(this);
+    this.address = address;
+    this.elementSize = elementSize;
+    this.capacity = capacity;
+    this.position = position;
+    this.limit = limit;
+  }
+
+  /**
+   * Returns the native address of the value at the given index in this buffer.
+   *
+   * @throws IllegalStateException if this buffer is closed
+   */
+  long address(long index) {
+    if (closed) {
+      throw new IllegalStateException("Buffer has been closed");
+    }
+    return address + index * elementSize;
+  }
+
+  /**
+   * Returns the index of the next value to read and increments the position.
+   */
+  long nextGetIndex() {
+    if (position >= limit) {
+      throw new BufferUnderflowException();
+    }
+    return position++;
+  }
+
+  /**
+   * Returns the index of the next value to write and increments the position.
+   */
+  long nextPutIndex() {
+    if (position >= limit) {
+      throw new BufferOverflowException();
+    }
+    return position++;
+  }
+
+  /**
+   * Copies values between this buffer, starting at its current position, and a Java array. The
+   * position is then incremented by {@code length}.
+   */
+  void copyToArray(Object array, long arrayBaseOffset, int offset, int length) {
+    UnsafeReference.copyMemory(null, address(position), array,
+        arrayBaseOffset + (long) offset * elementSize, (long) length * elementSize);
+    position += length;
+  }
+
+  void copyFromArray(Object array, long arrayBaseOffset, int offset, int length) {
+    UnsafeReference.copyMemory(array, arrayBaseOffset + (long) offset * elementSize, null,
+        address(position), (long) length * elementSize);
+    position += length;
+  }
+
+  /**
+   * Copies all remaining values of the source buffer to this buffer, starting at its current
+   * position. The position of both buffers is then incremented by the number of values copied.
+   */
+  void copyFrom(AbstractRawDataBuffer<T, ?> src) {
+    long length = src.remaining();
+    UnsafeReference.copyMemory(null, src.address(src.position), null, address(position),
+        length * elementSize);
+    src.position += length;
+    position += length;
+  }
+
+  /**
+   * Writes repeatedly a word of 64 bits to the memory of the values in the given range.
+   * <p>
+   * The word must repeat the bits of a single value so that it can be written at any value
+   * boundary (see {@link #repeatBits(int)}). Memory is written one word at a time where it is
+   * aligned, and one byte at a time at both ends of the range.
+   *
+   * @param fromIndex index of the first value to write
+   * @param toIndex index following the last value to write
+   * @param word bits to write
+   */
+  void fillMemory(long fromIndex, long toIndex, long word) {
+    long startAddress = address(fromIndex);
+    long endAddress = address(toIndex);
+    if (word == Long.rotateLeft(word, Byte.SIZE)) {
+      UNSAFE.setMemory(startAddress, endAddress - startAddress, (byte) word);
+      return;
+    }
+    long address = startAddress;
+    for (; address < endAddress && (address & (Long.BYTES - 1)) != 0; ++address) {
+      UNSAFE.putByte(address, wordByte(word, address - startAddress));
+    }
+    long alignedWord = rotateWord(word, address - startAddress);
+    for (; address + Long.BYTES <= endAddress; address += Long.BYTES) {
+      UNSAFE.putLong(address, alignedWord);
+    }
+    for (; address < endAddress; ++address) {
+      UNSAFE.putByte(address, wordByte(word, address - startAddress));
+    }
+  }
+
+  /**
+   * Returns a word of 64 bits repeating the bits of a 32-bits value.
+   */
+  static long repeatBits(int bits) {
+    return ((long) bits << Integer.SIZE) | (bits & 0xFFFFFFFFL);
+  }
+
+  final RawMemory memory;
+
+  private final RawMemory.Reference reference;
+  private final long address;
+  private final int elementSize;
+  private final long capacity;
+  private long position;
+  private long limit;
+  private volatile boolean closed = false;
+
+  private static final boolean BIG_ENDIAN = ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN;
+
+  /**
+   * Returns the byte of a word written at the given offset in memory, in native order.
+   */
+  private static byte wordByte(long word, long offset) {
+    int shift = (int) (offset % Long.BYTES) * Byte.SIZE;
+    return (byte) (BIG_ENDIAN ? word >>> (Long.SIZE - Byte.SIZE - shift) : word >>> shift);
+  }
+
+  /**
+   * Returns the word to write at the given offset in memory so it continues the sequence of bytes
+   * of a word written at offset 0.
+   */
+  private static long rotateWord(long word, long offset) {
+    int distance = (int) (offset % Long.BYTES) * Byte.SIZE;
+    return BIG_ENDIAN ? Long.rotateLeft(word, distance) : Long.rotateRight(word, distance);
+  }
+}
@@ -0,0 +1,229 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.raw;
+
+import static org.tensorflow.nio.buffer.impl.raw.UnsafeReference.UNSAFE;
+
+import java.nio.ByteOrder;
+
+import org.tensorflow.nio.buffer.ByteDataBuffer;
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.DoubleDataBuffer;
+import org.tensorflow.nio.buffer.FloatDataBuffer;
+import org.tensorflow.nio.buffer.IntDataBuffer;
+import org.tensorflow.nio.buffer.LongDataBuffer;
+import org.tensorflow.nio.buffer.ShortDataBuffer;
+import org.tensorflow.nio.buffer.impl.UncheckedAccess;
+import org.tensorflow.nio.buffer.impl.Validator;
+import sun.misc.Unsafe;
+
+/**
+ * A buffer of bytes stored in a single block of native memory, addressed with 64-bits offsets.
+ */
+public final class ByteRawDataBuffer extends AbstractRawDataBuffer<Byte, ByteDataBuffer>
+    implements ByteDataBuffer, UncheckedAccess.ByteAccess {
+
+  /**
+   * The maximum capacity for a buffer of this type, i.e. the maximum number of bytes it can
+   * store.
+   */
+  public static long MAX_CAPACITY = Long.MAX_VALUE;
+
+  /**
+   * Allocates a new byte buffer in native memory.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and each of its
+   * elements will be initialized to zero. Its memory is freed once the buffer and all of its
+   * duplicates and slices are closed or no longer reachable.
+   *
+   * @param capacity the new buffer's capacity, in bytes
+   * @return the new byte buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
+   * #MAX_CAPACITY}.
+   * @throws UnsupportedOperationException if raw data buffers are not supported on this JVM
+   * @see UnsafeReference#isAvailable()
+   */
+  public static ByteDataBuffer allocate(long capacity) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity of a raw data buffer cannot exceeds " + MAX_CAPACITY + " bytes");
+    }
+    RawMemory memory = RawMemory.allocate(capacity);
+    return new ByteRawDataBuffer(memory, memory.address(), capacity, 0, capacity);
+  }
+
+  /**
+   * Allocates a new byte buffer in native memory, starting at an address aligned on the given
+   * boundary.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and each of its
+   * elements will be initialized to zero. Its memory is freed once the buffer and all of its
+   * duplicates and slices are closed or no longer reachable.
+   *
+   * @param capacity the new buffer's capacity, in bytes
+   * @param alignment alignment of the first value of the buffer, a power of two in bytes
+   * @return the new byte buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
+   * #MAX_CAPACITY}, or if the alignment is not a positive power of two
+   * @throws UnsupportedOperationException if raw data buffers are not supported on this JVM
+   * @see UnsafeReference#isAvailable()
+   */
+  public static ByteDataBuffer allocate(long capacity, int alignment) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity of a raw data buffer cannot exceeds " + MAX_CAPACITY + " bytes");
+    }
+    RawMemory memory = RawMemory.allocate(capacity, alignment);
+    return new ByteRawDataBuffer(memory, memory.address(), capacity, 0, capacity);
+  }
+
+  @Override
+  public Byte get() {
+    return UNSAFE.getByte(address(nextGetIndex()));
+  }
+
+  @Override
+  public Byte get(long index) {
+    return getByte(index);
+  }
+
+  @Override
+  public ByteDataBuffer get(byte[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    copyToArray(dst, Unsafe.ARRAY_BYTE_BASE_OFFSET, offset, length);
+    return this;
+  }
+
+  @Override
+  public byte getByte(long index) {
+    Validator.getArgs(this, index);
+    return UNSAFE.getByte(address(index));
+  }
+
+  @Override
+  public ByteDataBuffer put(Byte value) {
+    UNSAFE.putByte(address(nextPutIndex()), value);
+    return this;
+  }
+
+  @Override
+  public ByteDataBuffer put(long index, Byte value) {
+    return setByte(index, value);
+  }
+
+  @Override
+  public ByteDataBuffer put(byte[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    copyFromArray(src, Unsafe.ARRAY_BYTE_BASE_OFFSET, offset, length);
+    return this;
+  }
+
+  @Override
+  public ByteDataBuffer put(DataBuffer<Byte> src) {
+    if (src instanceof ByteRawDataBuffer) {
+      Validator.putArgs(this, src);
+      copyFrom((ByteRawDataBuffer) src);
+      return this;
+    }
+    return super.put(src);
+  }
+
+  @Override
+  public ByteDataBuffer setByte(long index, byte value) {
+    Validator.putArgs(this, index);
+    UNSAFE.putByte(address(index), value);
+    return this;
+  }
+
+  @Override
+  public byte getByteUnchecked(long index) {
+    return UNSAFE.getByte(address(index));
+  }
+
+  @Override
+  public void setByteUnchecked(long index, byte value) {
+    UNSAFE.putByte(address(index), value);
+  }
+
+  @Override
+  public ByteDataBuffer fill(long fromIndex, long toIndex, byte value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    UNSAFE.setMemory(address(fromIndex), toIndex - fromIndex, value);
+    return this;
+  }
+
+  @Override
+  public IntDataBuffer asInts(ByteOrder order) {
+    if (order != ByteOrder.nativeOrder()) {
+      return ByteDataBuffer.super.asInts(order);
+    }
+    long capacity = remaining() / Integer.BYTES;
+    return new IntRawDataBuffer(memory, address(position()), capacity, 0, capacity);
+  }
+
+  @Override
+  public ShortDataBuffer asShorts(ByteOrder order) {
+    if (order != ByteOrder.nativeOrder()) {
+      return ByteDataBuffer.super.asShorts(order);
+    }
+    long capacity = remaining() / Short.BYTES;
+    return new ShortRawDataBuffer(memory, address(position()), capacity, 0, capacity);
+  }
+
+  @Override
+  public LongDataBuffer asLongs(ByteOrder order) {
+    if (order != ByteOrder.nativeOrder()) {
+      return ByteDataBuffer.super.asLongs(order);
+    }
+    long capacity = remaining() / Long.BYTES;
+    return new LongRawDataBuffer(memory, address(position()), capacity, 0, capacity);
+  }
+
+  @Override
+  public FloatDataBuffer asFloats(ByteOrder order) {
+    if (order != ByteOrder.nativeOrder()) {
+      return ByteDataBuffer.super.asFloats(order);
+    }
+    long capacity = remaining() / Float.BYTES;
+    return new FloatRawDataBuffer(memory, address(position()), capacity, 0, capacity);
+  }
+
+  @Override
+  public DoubleDataBuffer asDoubles(ByteOrder order) {
+    if (order != ByteOrder.nativeOrder()) {
+      return ByteDataBuffer.super.asDoubles(order);
+    }
+    long capacity = remaining() / Double.BYTES;
+    return new DoubleRawDataBuffer(memory, address(position()), capacity, 0, capacity);
+  }
+
+  @Override
+  public ByteDataBuffer duplicate() {
+    return new ByteRawDataBuffer(memory, address(0), capacity(), position(), limit());
+  }
+
+  @Override
+  public ByteDataBuffer slice() {
+    long remaining = remaining();
+    return new ByteRawDataBuffer(memory, address(position()), remaining, 0, remaining);
+  }
+
+  ByteRawDataBuffer(RawMemory memory, long address, long capacity, long position,
+      long limit) {
+    super(memory, address, 1, capacity, position, limit);
+  }
+}
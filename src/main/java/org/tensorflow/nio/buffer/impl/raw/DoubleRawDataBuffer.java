@@ -0,0 +1,177 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.raw;
+
+import static org.tensorflow.nio.buffer.impl.raw.UnsafeReference.UNSAFE;
+
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.DoubleDataBuffer;
+import org.tensorflow.nio.buffer.impl.UncheckedAccess;
+import org.tensorflow.nio.buffer.impl.Validator;
+import sun.misc.Unsafe;
+
+/**
+ * A buffer of doubles stored in a single block of native memory, addressed with 64-bits offsets.
+ */
+public final class DoubleRawDataBuffer extends AbstractRawDataBuffer<Double, DoubleDataBuffer>
+    implements DoubleDataBuffer, UncheckedAccess.DoubleAccess {
+
+  /**
+   * The maximum capacity for a buffer of this type, i.e. the maximum number of doubles it can
+   * store.
+   */
+  public static long MAX_CAPACITY = Long.MAX_VALUE / Double.BYTES;
+
+  /**
+   * Allocates a new double buffer in native memory.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and each of its
+   * elements will be initialized to zero. Its memory is freed once the buffer and all of its
+   * duplicates and slices are closed or no longer reachable.
+   *
+   * @param capacity the new buffer's capacity, in doubles
+   * @return the new double buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
+   * #MAX_CAPACITY}.
+   * @throws UnsupportedOperationException if raw data buffers are not supported on this JVM
+   * @see UnsafeReference#isAvailable()
+   */
+  public static DoubleDataBuffer allocate(long capacity) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity of a raw data buffer cannot exceeds " + MAX_CAPACITY + " doubles");
+    }
+    RawMemory memory = RawMemory.allocate(capacity * Double.BYTES);
+    return new DoubleRawDataBuffer(memory, memory.address(), capacity, 0, capacity);
+  }
+
+  /**
+   * Allocates a new double buffer in native memory, starting at an address aligned on the given
+   * boundary.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and each of its
+   * elements will be initialized to zero. Its memory is freed once the buffer and all of its
+   * duplicates and slices are closed or no longer reachable.
+   *
+   * @param capacity the new buffer's capacity, in doubles
+   * @param alignment alignment of the first value of the buffer, a power of two in bytes
+   * @return the new double buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
+   * #MAX_CAPACITY}, or if the alignment is not a positive power of two
+   * @throws UnsupportedOperationException if raw data buffers are not supported on this JVM
+   * @see UnsafeReference#isAvailable()
+   */
+  public static DoubleDataBuffer allocate(long capacity, int alignment) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity of a raw data buffer cannot exceeds " + MAX_CAPACITY + " doubles");
+    }
+    RawMemory memory = RawMemory.allocate(capacity * Double.BYTES, alignment);
+    return new DoubleRawDataBuffer(memory, memory.address(), capacity, 0, capacity);
+  }
+
+  @Override
+  public Double get() {
+    return UNSAFE.getDouble(address(nextGetIndex()));
+  }
+
+  @Override
+  public Double get(long index) {
+    return getDouble(index);
+  }
+
+  @Override
+  public DoubleDataBuffer get(double[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    copyToArray(dst, Unsafe.ARRAY_DOUBLE_BASE_OFFSET, offset, length);
+    return this;
+  }
+
+  @Override
+  public double getDouble(long index) {
+    Validator.getArgs(this, index);
+    return UNSAFE.getDouble(address(index));
+  }
+
+  @Override
+  public DoubleDataBuffer put(Double value) {
+    UNSAFE.putDouble(address(nextPutIndex()), value);
+    return this;
+  }
+
+  @Override
+  public DoubleDataBuffer put(long index, Double value) {
+    return setDouble(index, value);
+  }
+
+  @Override
+  public DoubleDataBuffer put(double[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    copyFromArray(src, Unsafe.ARRAY_DOUBLE_BASE_OFFSET, offset, length);
+    return this;
+  }
+
+  @Override
+  public DoubleDataBuffer put(DataBuffer<Double> src) {
+    if (src instanceof DoubleRawDataBuffer) {
+      Validator.putArgs(this, src);
+      copyFrom((DoubleRawDataBuffer) src);
+      return this;
+    }
+    return super.put(src);
+  }
+
+  @Override
+  public DoubleDataBuffer setDouble(long index, double value) {
+    Validator.putArgs(this, index);
+    UNSAFE.putDouble(address(index), value);
+    return this;
+  }
+
+  @Override
+  public double getDoubleUnchecked(long index) {
+    return UNSAFE.getDouble(address(index));
+  }
+
+  @Override
+  public void setDoubleUnchecked(long index, double value) {
+    UNSAFE.putDouble(address(index), value);
+  }
+
+  @Override
+  public DoubleDataBuffer fill(long fromIndex, long toIndex, double value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    fillMemory(fromIndex, toIndex, Double.doubleToRawLongBits(value));
+    return this;
+  }
+
+  @Override
+  public DoubleDataBuffer duplicate() {
+    return new DoubleRawDataBuffer(memory, address(0), capacity(), position(), limit());
+  }
+
+  @Override
+  public DoubleDataBuffer slice() {
+    long remaining = remaining();
+    return new DoubleRawDataBuffer(memory, address(position()), remaining, 0, remaining);
+  }
+
+  DoubleRawDataBuffer(RawMemory memory, long address, long capacity, long position,
+      long limit) {
+    super(memory, address, Double.BYTES, capacity, position, limit);
+  }
+}
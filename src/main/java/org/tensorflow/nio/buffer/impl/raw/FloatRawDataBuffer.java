@@ -0,0 +1,177 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.raw;
+
+import static org.tensorflow.nio.buffer.impl.raw.UnsafeReference.UNSAFE;
+
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.FloatDataBuffer;
+import org.tensorflow.nio.buffer.impl.UncheckedAccess;
+import org.tensorflow.nio.buffer.impl.Validator;
+import sun.misc.Unsafe;
+
+/**
+ * A buffer of floats stored in a single block of native memory, addressed with 64-bits offsets.
+ */
+public final class FloatRawDataBuffer extends AbstractRawDataBuffer<Float, FloatDataBuffer>
+    implements FloatDataBuffer, UncheckedAccess.FloatAccess {
+
+  /**
+   * The maximum capacity for a buffer of this type, i.e. the maximum number of floats it can
+   * store.
+   */
+  public static long MAX_CAPACITY = Long.MAX_VALUE / Float.BYTES;
+
+  /**
+   * Allocates a new float buffer in native memory.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and each of its
+   * elements will be initialized to zero. Its memory is freed once the buffer and all of its
+   * duplicates and slices are closed or no longer reachable.
+   *
+   * @param capacity the new buffer's capacity, in floats
+   * @return the new float buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
+   * #MAX_CAPACITY}.
+   * @throws UnsupportedOperationException if raw data buffers are not supported on this JVM
+   * @see UnsafeReference#isAvailable()
+   */
+  public static FloatDataBuffer allocate(long capacity) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity of a raw data buffer cannot exceeds " + MAX_CAPACITY + " floats");
+    }
+    RawMemory memory = RawMemory.allocate(capacity * Float.BYTES);
+    return new FloatRawDataBuffer(memory, memory.address(), capacity, 0, capacity);
+  }
+
+  /**
+   * Allocates a new float buffer in native memory, starting at an address aligned on the given
+   * boundary.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and each of its
+   * elements will be initialized to zero. Its memory is freed once the buffer and all of its
+   * duplicates and slices are closed or no longer reachable.
+   *
+   * @param capacity the new buffer's capacity, in floats
+   * @param alignment alignment of the first value of the buffer, a power of two in bytes
+   * @return the new float buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
+   * #MAX_CAPACITY}, or if the alignment is not a positive power of two
+   * @throws UnsupportedOperationException if raw data buffers are not supported on this JVM
+   * @see UnsafeReference#isAvailable()
+   */
+  public static FloatDataBuffer allocate(long capacity, int alignment) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity of a raw data buffer cannot exceeds " + MAX_CAPACITY + " floats");
+    }
+    RawMemory memory = RawMemory.allocate(capacity * Float.BYTES, alignment);
+    return new FloatRawDataBuffer(memory, memory.address(), capacity, 0, capacity);
+  }
+
+  @Override
+  public Float get() {
+    return UNSAFE.getFloat(address(nextGetIndex()));
+  }
+
+  @Override
+  public Float get(long index) {
+    return getFloat(index);
+  }
+
+  @Override
+  public FloatDataBuffer get(float[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    copyToArray(dst, Unsafe.ARRAY_FLOAT_BASE_OFFSET, offset, length);
+    return this;
+  }
+
+  @Override
+  public float getFloat(long index) {
+    Validator.getArgs(this, index);
+    return UNSAFE.getFloat(address(index));
+  }
+
+  @Override
+  public FloatDataBuffer put(Float value) {
+    UNSAFE.putFloat(address(nextPutIndex()), value);
+    return this;
+  }
+
+  @Override
+  public FloatDataBuffer put(long index, Float value) {
+    return setFloat(index, value);
+  }
+
+  @Override
+  public FloatDataBuffer put(float[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    copyFromArray(src, Unsafe.ARRAY_FLOAT_BASE_OFFSET, offset, length);
+    return this;
+  }
+
+  @Override
+  public FloatDataBuffer put(DataBuffer<Float> src) {
+    if (src instanceof FloatRawDataBuffer) {
+      Validator.putArgs(this, src);
+      copyFrom((FloatRawDataBuffer) src);
+      return this;
+    }
+    return super.put(src);
+  }
+
+  @Override
+  public FloatDataBuffer setFloat(long index, float value) {
+    Validator.putArgs(this, index);
+    UNSAFE.putFloat(address(index), value);
+    return this;
+  }
+
+  @Override
+  public float getFloatUnchecked(long index) {
+    return UNSAFE.getFloat(address(index));
+  }
+
+  @Override
+  public void setFloatUnchecked(long index, float value) {
+    UNSAFE.putFloat(address(index), value);
+  }
+
+  @Override
+  public FloatDataBuffer fill(long fromIndex, long toIndex, float value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    fillMemory(fromIndex, toIndex, repeatBits(Float.floatToRawIntBits(value)));
+    return this;
+  }
+
+  @Override
+  public FloatDataBuffer duplicate() {
+    return new FloatRawDataBuffer(memory, address(0), capacity(), position(), limit());
+  }
+
+  @Override
+  public FloatDataBuffer slice() {
+    long remaining = remaining();
+    return new FloatRawDataBuffer(memory, address(position()), remaining, 0, remaining);
+  }
+
+  FloatRawDataBuffer(RawMemory memory, long address, long capacity, long position,
+      long limit) {
+    super(memory, address, Float.BYTES, capacity, position, limit);
+  }
+}
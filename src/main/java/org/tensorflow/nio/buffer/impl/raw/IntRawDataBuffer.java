@@ -0,0 +1,177 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.raw;
+
+import static org.tensorflow.nio.buffer.impl.raw.UnsafeReference.UNSAFE;
+
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.IntDataBuffer;
+import org.tensorflow.nio.buffer.impl.UncheckedAccess;
+import org.tensorflow.nio.buffer.impl.Validator;
+import sun.misc.Unsafe;
+
+/**
+ * A buffer of integers stored in a single block of native memory, addressed with 64-bits offsets.
+ */
+public final class IntRawDataBuffer extends AbstractRawDataBuffer<Integer, IntDataBuffer>
+    implements IntDataBuffer, UncheckedAccess.IntAccess {
+
+  /**
+   * The maximum capacity for a buffer of this type, i.e. the maximum number of integers it can
+   * store.
+   */
+  public static long MAX_CAPACITY = Long.MAX_VALUE / Integer.BYTES;
+
+  /**
+   * Allocates a new int buffer in native memory.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and each of its
+   * elements will be initialized to zero. Its memory is freed once the buffer and all of its
+   * duplicates and slices are closed or no longer reachable.
+   *
+   * @param capacity the new buffer's capacity, in integers
+   * @return the new int buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
+   * #MAX_CAPACITY}.
+   * @throws UnsupportedOperationException if raw data buffers are not supported on this JVM
+   * @see UnsafeReference#isAvailable()
+   */
+  public static IntDataBuffer allocate(long capacity) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity of a raw data buffer cannot exceeds " + MAX_CAPACITY + " integers");
+    }
+    RawMemory memory = RawMemory.allocate(capacity * Integer.BYTES);
+    return new IntRawDataBuffer(memory, memory.address(), capacity, 0, capacity);
+  }
+
+  /**
+   * Allocates a new int buffer in native memory, starting at an address aligned on the given
+   * boundary.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and each of its
+   * elements will be initialized to zero. Its memory is freed once the buffer and all of its
+   * duplicates and slices are closed or no longer reachable.
+   *
+   * @param capacity the new buffer's capacity, in integers
+   * @param alignment alignment of the first value of the buffer, a power of two in bytes
+   * @return the new int buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
+   * #MAX_CAPACITY}, or if the alignment is not a positive power of two
+   * @throws UnsupportedOperationException if raw data buffers are not supported on this JVM
+   * @see UnsafeReference#isAvailable()
+   */
+  public static IntDataBuffer allocate(long capacity, int alignment) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity of a raw data buffer cannot exceeds " + MAX_CAPACITY + " integers");
+    }
+    RawMemory memory = RawMemory.allocate(capacity * Integer.BYTES, alignment);
+    return new IntRawDataBuffer(memory, memory.address(), capacity, 0, capacity);
+  }
+
+  @Override
+  public Integer get() {
+    return UNSAFE.getInt(address(nextGetIndex()));
+  }
+
+  @Override
+  public Integer get(long index) {
+    return getInt(index);
+  }
+
+  @Override
+  public IntDataBuffer get(int[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    copyToArray(dst, Unsafe.ARRAY_INT_BASE_OFFSET, offset, length);
+    return this;
+  }
+
+  @Override
+  public int getInt(long index) {
+    Validator.getArgs(this, index);
+    return UNSAFE.getInt(address(index));
+  }
+
+  @Override
+  public IntDataBuffer put(Integer value) {
+    UNSAFE.putInt(address(nextPutIndex()), value);
+    return this;
+  }
+
+  @Override
+  public IntDataBuffer put(long index, Integer value) {
+    return setInt(index, value);
+  }
+
+  @Override
+  public IntDataBuffer put(int[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    copyFromArray(src, Unsafe.ARRAY_INT_BASE_OFFSET, offset, length);
+    return this;
+  }
+
+  @Override
+  public IntDataBuffer put(DataBuffer<Integer> src) {
+    if (src instanceof IntRawDataBuffer) {
+      Validator.putArgs(this, src);
+      copyFrom((IntRawDataBuffer) src);
+      return this;
+    }
+    return super.put(src);
+  }
+
+  @Override
+  public IntDataBuffer setInt(long index, int value) {
+    Validator.putArgs(this, index);
+    UNSAFE.putInt(address(index), value);
+    return this;
+  }
+
+  @Override
+  public int getIntUnchecked(long index) {
+    return UNSAFE.getInt(address(index));
+  }
+
+  @Override
+  public void setIntUnchecked(long index, int value) {
+    UNSAFE.putInt(address(index), value);
+  }
+
+  @Override
+  public IntDataBuffer fill(long fromIndex, long toIndex, int value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    fillMemory(fromIndex, toIndex, repeatBits(value));
+    return this;
+  }
+
+  @Override
+  public IntDataBuffer duplicate() {
+    return new IntRawDataBuffer(memory, address(0), capacity(), position(), limit());
+  }
+
+  @Override
+  public IntDataBuffer slice() {
+    long remaining = remaining();
+    return new IntRawDataBuffer(memory, address(position()), remaining, 0, remaining);
+  }
+
+  IntRawDataBuffer(RawMemory memory, long address, long capacity, long position,
+      long limit) {
+    super(memory, address, Integer.BYTES, capacity, position, limit);
+  }
+}
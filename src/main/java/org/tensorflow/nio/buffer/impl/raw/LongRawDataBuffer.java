@@ -0,0 +1,177 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.raw;
+
+import static org.tensorflow.nio.buffer.impl.raw.UnsafeReference.UNSAFE;
+
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.LongDataBuffer;
+import org.tensorflow.nio.buffer.impl.UncheckedAccess;
+import org.tensorflow.nio.buffer.impl.Validator;
+import sun.misc.Unsafe;
+
+/**
+ * A buffer of longs stored in a single block of native memory, addressed with 64-bits offsets.
+ */
+public final class LongRawDataBuffer extends AbstractRawDataBuffer<Long, LongDataBuffer>
+    implements LongDataBuffer, UncheckedAccess.LongAccess {
+
+  /**
+   * The maximum capacity for a buffer of this type, i.e. the maximum number of longs it can
+   * store.
+   */
+  public static long MAX_CAPACITY = Long.MAX_VALUE / Long.BYTES;
+
+  /**
+   * Allocates a new long buffer in native memory.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and each of its
+   * elements will be initialized to zero. Its memory is freed once the buffer and all of its
+   * duplicates and slices are closed or no longer reachable.
+   *
+   * @param capacity the new buffer's capacity, in longs
+   * @return the new long buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
+   * #MAX_CAPACITY}.
+   * @throws UnsupportedOperationException if raw data buffers are not supported on this JVM
+   * @see UnsafeReference#isAvailable()
+   */
+  public static LongDataBuffer allocate(long capacity) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity of a raw data buffer cannot exceeds " + MAX_CAPACITY + " longs");
+    }
+    RawMemory memory = RawMemory.allocate(capacity * Long.BYTES);
+    return new LongRawDataBuffer(memory, memory.address(), capacity, 0, capacity);
+  }
+
+  /**
+   * Allocates a new long buffer in native memory, starting at an address aligned on the given
+   * boundary.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and each of its
+   * elements will be initialized to zero. Its memory is freed once the buffer and all of its
+   * duplicates and slices are closed or no longer reachable.
+   *
+   * @param capacity the new buffer's capacity, in longs
+   * @param alignment alignment of the first value of the buffer, a power of two in bytes
+   * @return the new long buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
+   * #MAX_CAPACITY}, or if the alignment is not a positive power of two
+   * @throws UnsupportedOperationException if raw data buffers are not supported on this JVM
+   * @see UnsafeReference#isAvailable()
+   */
+  public static LongDataBuffer allocate(long capacity, int alignment) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity of a raw data buffer cannot exceeds " + MAX_CAPACITY + " longs");
+    }
+    RawMemory memory = RawMemory.allocate(capacity * Long.BYTES, alignment);
+    return new LongRawDataBuffer(memory, memory.address(), capacity, 0, capacity);
+  }
+
+  @Override
+  public Long get() {
+    return UNSAFE.getLong(address(nextGetIndex()));
+  }
+
+  @Override
+  public Long get(long index) {
+    return getLong(index);
+  }
+
+  @Override
+  public LongDataBuffer get(long[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    copyToArray(dst, Unsafe.ARRAY_LONG_BASE_OFFSET, offset, length);
+    return this;
+  }
+
+  @Override
+  public long getLong(long index) {
+    Validator.getArgs(this, index);
+    return UNSAFE.getLong(address(index));
+  }
+
+  @Override
+  public LongDataBuffer put(Long value) {
+    UNSAFE.putLong(address(nextPutIndex()), value);
+    return this;
+  }
+
+  @Override
+  public LongDataBuffer put(long index, Long value) {
+    return setLong(index, value);
+  }
+
+  @Override
+  public LongDataBuffer put(long[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    copyFromArray(src, Unsafe.ARRAY_LONG_BASE_OFFSET, offset, length);
+    return this;
+  }
+
+  @Override
+  public LongDataBuffer put(DataBuffer<Long> src) {
+    if (src instanceof LongRawDataBuffer) {
+      Validator.putArgs(this, src);
+      copyFrom((LongRawDataBuffer) src);
+      return this;
+    }
+    return super.put(src);
+  }
+
+  @Override
+  public LongDataBuffer setLong(long index, long value) {
+    Validator.putArgs(this, index);
+    UNSAFE.putLong(address(index), value);
+    return this;
+  }
+
+  @Override
+  public long getLongUnchecked(long index) {
+    return UNSAFE.getLong(address(index));
+  }
+
+  @Override
+  public void setLongUnchecked(long index, long value) {
+    UNSAFE.putLong(address(index), value);
+  }
+
+  @Override
+  public LongDataBuffer fill(long fromIndex, long toIndex, long value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    fillMemory(fromIndex, toIndex, value);
+    return this;
+  }
+
+  @Override
+  public LongDataBuffer duplicate() {
+    return new LongRawDataBuffer(memory, address(0), capacity(), position(), limit());
+  }
+
+  @Override
+  public LongDataBuffer slice() {
+    long remaining = remaining();
+    return new LongRawDataBuffer(memory, address(position()), remaining, 0, remaining);
+  }
+
+  LongRawDataBuffer(RawMemory memory, long address, long capacity, long position,
+      long limit) {
+    super(memory, address, Long.BYTES, capacity, position, limit);
+  }
+}
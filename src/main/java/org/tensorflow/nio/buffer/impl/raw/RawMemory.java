@@ -0,0 +1,157 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.raw;
+
+import static org.tensorflow.nio.buffer.impl.raw.UnsafeReference.UNSAFE;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import org.tensorflow.nio.buffer.impl.Alignment;
+
+/**
+ * A block of native memory, shared by a raw data buffer and all of its duplicates and slices.
+ * <p>
+ * The memory is reference-counted: each buffer accessing it holds its own reference, which is
+ * released when the buffer is closed. As a safety net, the reference of a buffer that has not been
+ * closed is also released once this buffer is no longer reachable, the next time a new buffer is
+ * allocated or created from another one. The memory is freed when its last reference is released.
+ */
+final class RawMemory {
+
+  static RawMemory allocate(long byteSize) {
+    return allocate(byteSize, 1);
+  }
+
+  /**
+   * Allocates a block of memory starting at an address that is a multiple of the given alignment.
+   * <p>
+   * Up to {@code alignment - 1} extra bytes are allocated to pad the start of the block. The new
+   * memory holds no reference until one is added by the buffer allocating it.
+   */
+  static RawMemory allocate(long byteSize, int alignment) {
+    if (byteSize < 0) {
+      throw new IllegalArgumentException("Capacity must be non-negative");
+    }
+    Alignment.validate(alignment);
+    if (byteSize > Long.MAX_VALUE - alignment) {
+      throw new IllegalArgumentException("Capacity is too large to be aligned");
+    }
+    if (!UnsafeReference.isAvailable()) {
+      throw new UnsupportedOperationException("Raw data buffers are not supported on this JVM");
+    }
+    releaseUnreachable();
+    long block = UNSAFE.allocateMemory(byteSize + alignment - 1);
+    long address = Alignment.alignUp(block, alignment);
+    UNSAFE.setMemory(address, byteSize, (byte) 0);
+    return new RawMemory(block, address, byteSize);
+  }
+
+  long address() {
+    return address;
+  }
+
+  long byteSize() {
+    return byteSize;
+  }
+
+  /**
+   * Adds a reference to this memory on behalf of the given buffer.
+   *
+   * @param buffer buffer accessing this memory
+   * @return the reference, released when the buffer is closed or no longer reachable
+   * @throws IllegalStateException if this memory has already been freed
+   */
+  Reference retain(Object buffer) {
+    releaseUnreachable();
+    for (;;) {
+      int count = references;
+      if (count < 0) {
+        throw new IllegalStateException("Memory of this buffer has been released");
+      }
+      if (REFERENCES.compareAndSet(this, count, count + 1)) {
+        return new Reference(buffer, this);
+      }
+    }
+  }
+
+  /**
+   * A reference to the memory held by a buffer.
+   */
+  static final class Reference extends PhantomReference<Object> {
+
+    /**
+     * Releases this reference, and frees the memory if it was the last one. Releasing a reference
+     * more than once has no effect.
+     */
+    void release() {
+      if (liveReferences.remove(this)) {
+        memory.release();
+      }
+    }
+
+    private final RawMemory memory;
+
+    private Reference(Object buffer, RawMemory memory) {
+      super(buffer, queue);
+      this.memory = memory;
+      liveReferences.add(this);
+    }
+  }
+
+  private static final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+  private static final Set<Reference> liveReferences = ConcurrentHashMap.newKeySet();
+  private static final AtomicIntegerFieldUpdater<RawMemory> REFERENCES =
+      AtomicIntegerFieldUpdater.newUpdater(RawMemory.class, "references");
+
+  private static void releaseUnreachable() {
+    Reference reference;
+    while ((reference = (Reference) queue.poll()) != null) {
+      reference.release();
+    }
+  }
+
+  private final long block;
+  private final long address;
+  private final long byteSize;
+  private volatile int references = 0;
+
+  private RawMemory(long block, long address, long byteSize) {
+    this.block = block;
+    this.address = address;
+    this.byteSize = byteSize;
+  }
+
+  private void release() {
+    for (;;) {
+      int count = references;
+      if (count <= 0) {
+        return;
+      }
+      int newCount = count > 1 ? count - 1 : -1;
+      if (REFERENCES.compareAndSet(this, count, newCount)) {
+        if (newCount < 0) {
+          UNSAFE.freeMemory(block);
+        }
+        return;
+      }
+    }
+  }
+}
@@ -0,0 +1,177 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.raw;
+
+import static org.tensorflow.nio.buffer.impl.raw.UnsafeReference.UNSAFE;
+
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.ShortDataBuffer;
+import org.tensorflow.nio.buffer.impl.UncheckedAccess;
+import org.tensorflow.nio.buffer.impl.Validator;
+import sun.misc.Unsafe;
+
+/**
+ * A buffer of shorts stored in a single block of native memory, addressed with 64-bits offsets.
+ */
+public final class ShortRawDataBuffer extends AbstractRawDataBuffer<Short, ShortDataBuffer>
+    implements ShortDataBuffer, UncheckedAccess.ShortAccess {
+
+  /**
+   * The maximum capacity for a buffer of this type, i.e. the maximum number of shorts it can
+   * store.
+   */
+  public static long MAX_CAPACITY = Long.MAX_VALUE / Short.BYTES;
+
+  /**
+   * Allocates a new short buffer in native memory.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and each of its
+   * elements will be initialized to zero. Its memory is freed once the buffer and all of its
+   * duplicates and slices are closed or no longer reachable.
+   *
+   * @param capacity the new buffer's capacity, in shorts
+   * @return the new short buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
+   * #MAX_CAPACITY}.
+   * @throws UnsupportedOperationException if raw data buffers are not supported on this JVM
+   * @see UnsafeReference#isAvailable()
+   */
+  public static ShortDataBuffer allocate(long capacity) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity of a raw data buffer cannot exceeds " + MAX_CAPACITY + " shorts");
+    }
+    RawMemory memory = RawMemory.allocate(capacity * Short.BYTES);
+    return new ShortRawDataBuffer(memory, memory.address(), capacity, 0, capacity);
+  }
+
+  /**
+   * Allocates a new short buffer in native memory, starting at an address aligned on the given
+   * boundary.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and each of its
+   * elements will be initialized to zero. Its memory is freed once the buffer and all of its
+   * duplicates and slices are closed or no longer reachable.
+   *
+   * @param capacity the new buffer's capacity, in shorts
+   * @param alignment alignment of the first value of the buffer, a power of two in bytes
+   * @return the new short buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
+   * #MAX_CAPACITY}, or if the alignment is not a positive power of two
+   * @throws UnsupportedOperationException if raw data buffers are not supported on this JVM
+   * @see UnsafeReference#isAvailable()
+   */
+  public static ShortDataBuffer allocate(long capacity, int alignment) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity of a raw data buffer cannot exceeds " + MAX_CAPACITY + " shorts");
+    }
+    RawMemory memory = RawMemory.allocate(capacity * Short.BYTES, alignment);
+    return new ShortRawDataBuffer(memory, memory.address(), capacity, 0, capacity);
+  }
+
+  @Override
+  public Short get() {
+    return UNSAFE.getShort(address(nextGetIndex()));
+  }
+
+  @Override
+  public Short get(long index) {
+    return getShort(index);
+  }
+
+  @Override
+  public ShortDataBuffer get(short[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    copyToArray(dst, Unsafe.ARRAY_SHORT_BASE_OFFSET, offset, length);
+    return this;
+  }
+
+  @Override
+  public short getShort(long index) {
+    Validator.getArgs(this, index);
+    return UNSAFE.getShort(address(index));
+  }
+
+  @Override
+  public ShortDataBuffer put(Short value) {
+    UNSAFE.putShort(address(nextPutIndex()), value);
+    return this;
+  }
+
+  @Override
+  public ShortDataBuffer put(long index, Short value) {
+    return setShort(index, value);
+  }
+
+  @Override
+  public ShortDataBuffer put(short[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    copyFromArray(src, Unsafe.ARRAY_SHORT_BASE_OFFSET, offset, length);
+    return this;
+  }
+
+  @Override
+  public ShortDataBuffer put(DataBuffer<Short> src) {
+    if (src instanceof ShortRawDataBuffer) {
+      Validator.putArgs(this, src);
+      copyFrom((ShortRawDataBuffer) src);
+      return this;
+    }
+    return super.put(src);
+  }
+
+  @Override
+  public ShortDataBuffer setShort(long index, short value) {
+    Validator.putArgs(this, index);
+    UNSAFE.putShort(address(index), value);
+    return this;
+  }
+
+  @Override
+  public short getShortUnchecked(long index) {
+    return UNSAFE.getShort(address(index));
+  }
+
+  @Override
+  public void setShortUnchecked(long index, short value) {
+    UNSAFE.putShort(address(index), value);
+  }
+
+  @Override
+  public ShortDataBuffer fill(long fromIndex, long toIndex, short value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    fillMemory(fromIndex, toIndex, repeatBits((value & 0xFFFF) | (value << Short.SIZE)));
+    return this;
+  }
+
+  @Override
+  public ShortDataBuffer duplicate() {
+    return new ShortRawDataBuffer(memory, address(0), capacity(), position(), limit());
+  }
+
+  @Override
+  public ShortDataBuffer slice() {
+    long remaining = remaining();
+    return new ShortRawDataBuffer(memory, address(position()), remaining, 0, remaining);
+  }
+
+  ShortRawDataBuffer(RawMemory memory, long address, long capacity, long position,
+      long limit) {
+    super(memory, address, Short.BYTES, capacity, position, limit);
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.raw;
+
+import java.lang.reflect.Field;
+import java.nio.Buffer;
+import java.nio.ByteOrder;
+
+import sun.misc.Unsafe;
+
+/**
+ * Provides access to the {@link Unsafe} instance of the JVM, if available.
+ */
+public final class UnsafeReference {
+
+  /**
+   * Returns true if the JVM allows this library to access memory directly, i.e. if buffers of
+   * this package can be allocated.
+   *
+   * @return true if raw data buffers are supported on this platform
+   */
+  public static boolean isAvailable() {
+    return UNSAFE != null;
+  }
+
+  /**
+   * Returns the native address of the first element of a direct JDK buffer.
+   *
+   * @param buffer a direct buffer
+   * @return address of the element at index 0 of this buffer
+   * @throws IllegalArgumentException if the buffer is not direct
+   * @throws UnsupportedOperationException if the JVM does not allow this library to access memory
+   * directly
+   */
+  public static long address(Buffer buffer) {
+    if (!buffer.isDirect()) {
+      throw new IllegalArgumentException("Buffer is not direct");
+    }
+    if (ADDRESS_OFFSET < 0) {
+      throw new UnsupportedOperationException("Native addresses are not accessible on this JVM");
+    }
+    return UNSAFE.getLong(buffer, ADDRESS_OFFSET);
+  }
+
+  /**
+   * Returns the offset of an element of a Java array of primitives, to access it in memory.
+   *
+   * @param array an array of primitives
+   * @param index index of the element in the array
+   * @return offset of the element from the start of the array
+   * @throws UnsupportedOperationException if the JVM does not allow this library to access memory
+   * directly
+   */
+  public static long arrayOffset(Object array, long index) {
+    if (UNSAFE == null) {
+      throw new UnsupportedOperationException("Memory is not accessible on this JVM");
+    }
+    Class<?> arrayClass = array.getClass();
+    return UNSAFE.arrayBaseOffset(arrayClass) + index * UNSAFE.arrayIndexScale(arrayClass);
+  }
+
+  /**
+   * Returns the offset of the first byte that differs between two blocks of memory of the same
+   * size, or -1 if there is none.
+   * <p>
+   * Bytes are compared one word of 64 bits at a time, when the platform supports unaligned accesses
+   * or when both blocks are aligned on words.
+   *
+   * @param aBase object holding the first block, or null if it is in native memory
+   * @param aOffset offset of the first block in {@code aBase}, or its address
+   * @param bBase object holding the second block, or null if it is in native memory
+   * @param bOffset offset of the second block in {@code bBase}, or its address
+   * @param byteSize size of both blocks, in bytes
+   * @return offset of the first mismatching byte, relative to the start of each block, or -1 if
+   * both blocks are equal
+   */
+  public static long mismatch(Object aBase, long aOffset, Object bBase, long bOffset,
+      long byteSize) {
+    long i = 0;
+    if (UNALIGNED || ((aOffset | bOffset) & (Long.BYTES - 1)) == 0) {
+      for (; i + Long.BYTES <= byteSize; i += Long.BYTES) {
+        long diff = UNSAFE.getLong(aBase, aOffset + i) ^ UNSAFE.getLong(bBase, bOffset + i);
+        if (diff != 0) {
+          return i + (BIG_ENDIAN ? Long.numberOfLeadingZeros(diff)
+              : Long.numberOfTrailingZeros(diff)) / Byte.SIZE;
+        }
+      }
+    }
+    for (; i < byteSize; ++i) {
+      if (UNSAFE.getByte(aBase, aOffset + i) != UNSAFE.getByte(bBase, bOffset + i)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  static final Unsafe UNSAFE;
+
+  /**
+   * Copies a block of memory, splitting large copies in chunks so the JVM can reach a safepoint
+   * between them.
+   */
+  static void copyMemory(Object srcBase, long srcOffset, Object dstBase, long dstOffset,
+      long byteSize) {
+    while (byteSize > 0) {
+      long size = Math.min(byteSize, COPY_CHUNK_SIZE);
+      UNSAFE.copyMemory(srcBase, srcOffset, dstBase, dstOffset, size);
+      byteSize -= size;
+      srcOffset += size;
+      dstOffset += size;
+    }
+  }
+
+  private static final long COPY_CHUNK_SIZE = 1024L * 1024L;
+
+  private static final boolean BIG_ENDIAN = ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN;
+
+  /**
+   * True if words can be read at any address on this platform, like on x86.
+   */
+  private static final boolean UNALIGNED =
+      System.getProperty("os.arch", "").matches("i386|x86|amd64|x86_64|aarch64|ppc64le");
+
+  /**
+   * Offset of the field holding the native address of a direct JDK buffer, or -1 if unknown.
+   */
+  private static final long ADDRESS_OFFSET;
+
+  static {
+    Unsafe unsafe = null;
+    try {
+      Field field = Unsafe.class.getDeclaredField("theUnsafe");
+      field.setAccessible(true);
+      unsafe = (Unsafe) field.get(null);
+    } catch (Exception e) {
+      // Unsafe is not available on this JVM, raw data buffers won't be supported
+    }
+    UNSAFE = unsafe;
+    long addressOffset = -1;
+    if (unsafe != null) {
+      try {
+        addressOffset = unsafe.objectFieldOffset(Buffer.class.getDeclaredField("address"));
+      } catch (Exception e) {
+        // Addresses of JDK buffers are not accessible on this JVM
+      }
+    }
+    ADDRESS_OFFSET = addressOffset;
+  }
+
+  private UnsafeReference() {}
+}
@@ -17,10 +17,17 @@
 
 package org.tensorflow.nio.buffer.impl.single;
 
+import java.io.IOException;
 import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 
-import org.tensorflow.nio.buffer.impl.AbstractDataBuffer;
 import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.impl.AbstractDataBuffer;
+import org.tensorflow.nio.buffer.impl.Alignment;
+import org.tensorflow.nio.buffer.impl.raw.UnsafeReference;
 
 /**
  * Base class for all JDK-based data buffers.
@@ -81,5 +88,130 @@ abstract class AbstractJdkDataBuffer<T, U extends DataBuffer<T>> extends Abstrac
     return buf().isReadOnly();
   }
 
+  @Override
+  protected ByteBuffer[] byteBuffers(ByteOrder order) {
+    if (bytes == null || bytes.order() != order) {
+      return null;
+    }
+    Buffer buf = buf();
+    ByteBuffer region = bytes.duplicate();
+    region.limit(buf.limit() * valueSize);
+    region.position(buf.position() * valueSize);
+    return new ByteBuffer[] { region.slice() };
+  }
+
+  @Override
+  protected Object memoryBase() {
+    Buffer buf = buf();
+    return buf.hasArray() ? buf.array() : null;
+  }
+
+  @Override
+  protected long memoryOffset() {
+    Buffer buf = buf();
+    if (!buf.hasArray() || !UnsafeReference.isAvailable()) {
+      return -1;
+    }
+    return UnsafeReference.arrayOffset(buf.array(), buf.arrayOffset() + buf.position());
+  }
+
   protected abstract Buffer buf();
+
+  AbstractJdkDataBuffer() {
+    this(null, 0);
+  }
+
+  /**
+   * Creates a buffer whose values are stored in the given bytes.
+   *
+   * @param bytes bytes storing the values of this buffer, starting at its first value, or null if
+   * they are not stored in a byte buffer
+   * @param valueSize size of a value, in bytes
+   */
+  AbstractJdkDataBuffer(ByteBuffer bytes, int valueSize) {
+    this.bytes = bytes;
+    this.valueSize = valueSize;
+  }
+
+  /**
+   * Returns the bytes storing the values of this buffer, starting at its first value, or null if
+   * they are not stored in a byte buffer.
+   */
+  ByteBuffer bytes() {
+    return bytes;
+  }
+
+  /**
+   * Returns the bytes storing the values of this buffer, starting at its position, or null if they
+   * are not stored in a byte buffer.
+   */
+  ByteBuffer sliceBytes() {
+    if (bytes == null) {
+      return null;
+    }
+    ByteBuffer region = bytes.duplicate();
+    region.position(buf().position() * valueSize);
+    return region.slice().order(bytes.order());
+  }
+
+  /**
+   * Allocates a direct JDK byte buffer, ordered in the native byte order so it can be viewed as a
+   * buffer of any other primitive type without conversion.
+   *
+   * @param byteCapacity capacity of the buffer, in bytes
+   * @return the new direct byte buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer
+   */
+  static ByteBuffer allocateDirectBytes(long byteCapacity) {
+    return ByteBuffer.allocateDirect((int) byteCapacity).order(ByteOrder.nativeOrder());
+  }
+
+  /**
+   * Allocates a direct JDK byte buffer starting at an address aligned on the given boundary,
+   * ordered in the native byte order.
+   * <p>
+   * Up to {@code alignment - 1} extra bytes are allocated to pad the start of the buffer, so the
+   * byte capacity plus this padding cannot exceed {@link #MAX_CAPACITY}.
+   *
+   * @param byteCapacity capacity of the buffer, in bytes
+   * @param alignment alignment of the first byte of the buffer, a power of two
+   * @return the new direct byte buffer
+   * @throws UnsupportedOperationException if native addresses are not accessible on this JVM
+   */
+  static ByteBuffer allocateDirectBytes(long byteCapacity, int alignment) {
+    Alignment.validate(alignment);
+    if (byteCapacity < 0) {
+      throw new IllegalArgumentException("Capacity must be non-negative");
+    }
+    if (byteCapacity > MAX_CAPACITY - alignment + 1) {
+      throw new IllegalArgumentException(
+          "Capacity of an aligned direct JDK data buffer cannot exceeds "
+              + (MAX_CAPACITY - alignment + 1) + " bytes");
+    }
+    ByteBuffer block = ByteBuffer.allocateDirect((int) byteCapacity + alignment - 1);
+    long address = UnsafeReference.address(block);
+    int padding = (int) (Alignment.alignUp(address, alignment) - address);
+    block.position(padding);
+    block.limit(padding + (int) byteCapacity);
+    return block.slice().order(ByteOrder.nativeOrder());
+  }
+
+  /**
+   * Maps a region of a file into memory, ordered in the native byte order so it can be viewed as a
+   * buffer of any other primitive type without conversion.
+   *
+   * @param channel channel of the file to map
+   * @param mode mapping mode, see {@link FileChannel#map(MapMode, long, long)}
+   * @param position position in the file at which the mapped region starts, in bytes
+   * @param byteSize size of the region to map, in bytes
+   * @return the mapped byte buffer
+   * @throws IOException if the file cannot be mapped
+   */
+  static ByteBuffer mapBytes(FileChannel channel, MapMode mode, long position, long byteSize)
+      throws IOException {
+    return channel.map(mode, position, byteSize).order(ByteOrder.nativeOrder());
+  }
+
+  private final ByteBuffer bytes;
+  private final int valueSize;
 }
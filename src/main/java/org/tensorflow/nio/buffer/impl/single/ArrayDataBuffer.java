@@ -118,7 +118,7 @@ public class ArrayDataBuffer<T> extends AbstractDataBuffer<T, DataBuffer<T>> {
 
   @Override
   public Stream<T> stream() {
-    return Arrays.stream(values);
+    return Arrays.stream(values, positionIndex, limitIndex);
   }
 
   @Override
@@ -155,6 +155,13 @@ public class ArrayDataBuffer<T> extends AbstractDataBuffer<T, DataBuffer<T>> {
     return super.put(src);
   }
 
+  @Override
+  public DataBuffer<T> fill(long fromIndex, long toIndex, T value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    Arrays.fill(values, (int) fromIndex, (int) toIndex, value);
+    return this;
+  }
+
   @Override
   public DataBuffer<T> duplicate() {
     return new ArrayDataBuffer<T>(values, readOnly, positionIndex, limitIndex);
@@ -0,0 +1,306 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.single;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ReadOnlyBufferException;
+
+import org.tensorflow.nio.buffer.BooleanDataBuffer;
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.impl.AbstractDataBuffer;
+import org.tensorflow.nio.buffer.impl.BitOperations;
+import org.tensorflow.nio.buffer.impl.Validator;
+
+/**
+ * A buffer of booleans packed as bits in an array of longs.
+ * <p>
+ * Each boolean takes a single bit of memory, the value at index {@code i} being stored in the bit
+ * {@code i % 64} of the word {@code i / 64}. Bulk operations on bits read and write memory one
+ * word at a time.
+ */
+public final class BooleanPackedDataBuffer extends
+    AbstractDataBuffer<Boolean, BooleanDataBuffer> implements BooleanDataBuffer {
+
+  /**
+   * The maximum capacity for a buffer of this type, i.e. the maximum number of booleans it can
+   * store.
+   */
+  public static long MAX_CAPACITY = AbstractJdkDataBuffer.MAX_CAPACITY * Long.SIZE;
+
+  /**
+   * Allocates a new boolean buffer.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and each of its
+   * elements will be initialized to false.
+   *
+   * @param capacity the new buffer's capacity, in booleans
+   * @return the new boolean buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
+   * MAX_CAPACITY}.
+   */
+  public static BooleanDataBuffer allocate(long capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("Capacity must be non-negative");
+    }
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity of a packed data buffer cannot exceeds " + MAX_CAPACITY +
+              " booleans, use BooleanLargeDataBuffer instead");
+    }
+    long[] words = new long[(int) ((capacity + Long.SIZE - 1) / Long.SIZE)];
+    return new BooleanPackedDataBuffer(words, false, 0, capacity, 0, capacity);
+  }
+
+  @Override
+  public long capacity() {
+    return capacity;
+  }
+
+  @Override
+  public long limit() {
+    return limit;
+  }
+
+  @Override
+  public BooleanDataBuffer limit(long newLimit) {
+    Validator.newLimit(this, newLimit);
+    limit = newLimit;
+    if (position > limit) {
+      position = limit;
+    }
+    return this;
+  }
+
+  @Override
+  public boolean hasRemaining() {
+    return position < limit;
+  }
+
+  @Override
+  public long remaining() {
+    return limit - position;
+  }
+
+  @Override
+  public long position() {
+    return position;
+  }
+
+  @Override
+  public BooleanDataBuffer position(long newPosition) {
+    Validator.newPosition(this, newPosition);
+    position = newPosition;
+    return this;
+  }
+
+  @Override
+  public BooleanDataBuffer rewind() {
+    position = 0;
+    return this;
+  }
+
+  @Override
+  public boolean isReadOnly() {
+    return readOnly;
+  }
+
+  @Override
+  public Boolean get() {
+    if (!hasRemaining()) {
+      throw new BufferUnderflowException();
+    }
+    return readBit(position++);
+  }
+
+  @Override
+  public Boolean get(long index) {
+    Validator.getArgs(this, index);
+    return readBit(index);
+  }
+
+  @Override
+  public BooleanDataBuffer get(boolean[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    for (int i = offset; i < offset + length; ++i) {
+      dst[i] = readBit(position++);
+    }
+    return this;
+  }
+
+  @Override
+  public boolean getBoolean(long index) {
+    Validator.getArgs(this, index);
+    return readBit(index);
+  }
+
+  @Override
+  public long getBits(long index, int count) {
+    Validator.getBitsArgs(this, index, count);
+    return readBits(index, count);
+  }
+
+  @Override
+  public BooleanDataBuffer put(Boolean value) {
+    if (!hasRemaining()) {
+      throw new BufferOverflowException();
+    }
+    if (readOnly) {
+      throw new ReadOnlyBufferException();
+    }
+    writeBit(position++, value);
+    return this;
+  }
+
+  @Override
+  public BooleanDataBuffer put(long index, Boolean value) {
+    Validator.putArgs(this, index);
+    writeBit(index, value);
+    return this;
+  }
+
+  @Override
+  public BooleanDataBuffer put(boolean[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    for (int i = offset; i < offset + length; ++i) {
+      writeBit(position++, src[i]);
+    }
+    return this;
+  }
+
+  @Override
+  public BooleanDataBuffer put(DataBuffer<Boolean> src) {
+    if (src instanceof BooleanDataBuffer) {
+      Validator.putArgs(this, src);
+      long length = src.remaining();
+      BitOperations.copy((BooleanDataBuffer) src, this);
+      src.position(src.position() + length);
+      position += length;
+      return this;
+    }
+    return super.put(src);
+  }
+
+  @Override
+  public BooleanDataBuffer setBoolean(long index, boolean value) {
+    Validator.putArgs(this, index);
+    writeBit(index, value);
+    return this;
+  }
+
+  @Override
+  public BooleanDataBuffer setBits(long index, int count, long bits) {
+    Validator.setBitsArgs(this, index, count);
+    writeBits(index, count, bits);
+    return this;
+  }
+
+  @Override
+  public BooleanDataBuffer fill(long fromIndex, long toIndex, boolean value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    long bits = value ? -1L : 0L;
+    for (long index = fromIndex; index < toIndex; ) {
+      int count = (int) Math.min(Long.SIZE - ((start + index) % Long.SIZE), toIndex - index);
+      writeBits(index, count, bits);
+      index += count;
+    }
+    return this;
+  }
+
+  @Override
+  public BooleanDataBuffer duplicate() {
+    return new BooleanPackedDataBuffer(words, readOnly, start, capacity, position, limit);
+  }
+
+  @Override
+  public BooleanDataBuffer slice() {
+    long remaining = remaining();
+    return new BooleanPackedDataBuffer(words, readOnly, start + position, remaining, 0, remaining);
+  }
+
+  private BooleanPackedDataBuffer(long[] words, boolean readOnly, long start, long capacity,
+      long position, long limit) {
+    this.words = words;
+    this.readOnly = readOnly;
+    this.start = start;
+    this.capacity = capacity;
+    this.position = position;
+    this.limit = limit;
+  }
+
+  private boolean readBit(long index) {
+    long bitIndex = start + index;
+    return ((words[(int) (bitIndex / Long.SIZE)] >>> bitIndex) & 1L) != 0L;
+  }
+
+  private void writeBit(long index, boolean value) {
+    long bitIndex = start + index;
+    int wordIndex = (int) (bitIndex / Long.SIZE);
+    if (value) {
+      words[wordIndex] |= 1L << bitIndex;
+    } else {
+      words[wordIndex] &= ~(1L << bitIndex);
+    }
+  }
+
+  /**
+   * Reads {@code count} bits starting at the given index, from at most two consecutive words.
+   */
+  private long readBits(long index, int count) {
+    if (count == 0) {
+      return 0L;
+    }
+    long bitIndex = start + index;
+    int wordIndex = (int) (bitIndex / Long.SIZE);
+    int shift = (int) (bitIndex % Long.SIZE);
+    long bits = words[wordIndex] >>> shift;
+    if (shift + count > Long.SIZE) {
+      bits |= words[wordIndex + 1] << (Long.SIZE - shift);
+    }
+    return bits & mask(count);
+  }
+
+  /**
+   * Writes {@code count} bits starting at the given index, to at most two consecutive words.
+   */
+  private void writeBits(long index, int count, long bits) {
+    if (count == 0) {
+      return;
+    }
+    long bitIndex = start + index;
+    int wordIndex = (int) (bitIndex / Long.SIZE);
+    int shift = (int) (bitIndex % Long.SIZE);
+    long mask = mask(count);
+    bits &= mask;
+    words[wordIndex] = (words[wordIndex] & ~(mask << shift)) | (bits << shift);
+    if (shift + count > Long.SIZE) {
+      int lowCount = Long.SIZE - shift;
+      words[wordIndex + 1] = (words[wordIndex + 1] & ~(mask >>> lowCount)) | (bits >>> lowCount);
+    }
+  }
+
+  private static long mask(int count) {
+    return count == Long.SIZE ? -1L : (1L << count) - 1L;
+  }
+
+  private final long[] words;
+  private final boolean readOnly;
+  private final long start;
+  private final long capacity;
+  private long position;
+  private long limit;
+}
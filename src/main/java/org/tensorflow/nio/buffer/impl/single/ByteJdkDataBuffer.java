@@ -17,11 +17,21 @@
 
 package org.tensorflow.nio.buffer.impl.single;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.util.stream.Stream;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.Arrays;
 
 import org.tensorflow.nio.buffer.ByteDataBuffer;
 import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.DoubleDataBuffer;
+import org.tensorflow.nio.buffer.FloatDataBuffer;
+import org.tensorflow.nio.buffer.IntDataBuffer;
+import org.tensorflow.nio.buffer.LongDataBuffer;
+import org.tensorflow.nio.buffer.ShortDataBuffer;
+import org.tensorflow.nio.buffer.impl.Validator;
 
 /**
  * A buffer of bytes using a JDK {@link ByteBuffer} for storage.
@@ -41,6 +51,12 @@ public final class ByteJdkDataBuffer extends AbstractJdkDataBuffer<Byte, ByteDat
    */
   public static long MAX_CAPACITY = AbstractJdkDataBuffer.MAX_CAPACITY;
 
+  /**
+   * The maximum capacity for a direct buffer of this type, i.e. the maximum number of bytes it can
+   * store.
+   */
+  public static long MAX_DIRECT_CAPACITY = AbstractJdkDataBuffer.MAX_CAPACITY;
+
   /**
    * Allocates a new byte buffer.
    * <p>
@@ -70,15 +86,59 @@ public final class ByteJdkDataBuffer extends AbstractJdkDataBuffer<Byte, ByteDat
    * @param capacity the new buffer's capacity, in bytes
    * @return the new byte buffer
    * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
-   * MAX_CAPACITY}.
+   * MAX_DIRECT_CAPACITY}.
    */
   public static ByteDataBuffer allocateDirect(long capacity) {
-    if (capacity > MAX_CAPACITY) {
+    if (capacity > MAX_DIRECT_CAPACITY) {
       throw new IllegalArgumentException(
-          "Capacity of a JDK data buffer cannot exceeds " + MAX_CAPACITY +
+          "Capacity of a direct JDK data buffer cannot exceeds " + MAX_DIRECT_CAPACITY +
+              " bytes, use ByteLargeDataBuffer instead");
+    }
+    return new ByteJdkDataBuffer(allocateDirectBytes(capacity));
+  }
+
+  /**
+   * Allocates a new direct byte buffer, starting at an address aligned on the given boundary.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and each of its
+   * elements will be initialized to zero. Its values are stored outside of the Java heap, in the
+   * native byte order.
+   *
+   * @param capacity the new buffer's capacity, in bytes
+   * @param alignment alignment of the first value of the buffer, a power of two in bytes
+   * @return the new byte buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
+   * MAX_DIRECT_CAPACITY} once padded for alignment, or if the alignment is not a positive power of
+   * two
+   * @throws UnsupportedOperationException if native addresses are not accessible on this JVM
+   */
+  public static ByteDataBuffer allocateDirect(long capacity, int alignment) {
+    return new ByteJdkDataBuffer(allocateDirectBytes(capacity, alignment));
+  }
+
+  /**
+   * Maps a region of a file into a new byte buffer.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and its values are
+   * read from and written to the file directly, in the native byte order.
+   *
+   * @param channel channel of the file to map
+   * @param mode mapping mode, see {@link FileChannel#map(MapMode, long, long)}
+   * @param position position in the file at which the mapped region starts, in bytes
+   * @param capacity the new buffer's capacity, in bytes
+   * @return the new byte buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
+   * MAX_DIRECT_CAPACITY}.
+   * @throws IOException if the file cannot be mapped
+   */
+  public static ByteDataBuffer map(FileChannel channel, MapMode mode, long position, long capacity)
+      throws IOException {
+    if (capacity > MAX_DIRECT_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity of a mapped JDK data buffer cannot exceeds " + MAX_DIRECT_CAPACITY +
               " bytes, use ByteLargeDataBuffer instead");
     }
-    return new ByteJdkDataBuffer(ByteBuffer.allocateDirect((int) capacity));
+    return new ByteJdkDataBuffer(mapBytes(channel, mode, position, capacity));
   }
 
   /**
@@ -110,12 +170,6 @@ public final class ByteJdkDataBuffer extends AbstractJdkDataBuffer<Byte, ByteDat
     return this;
   }
 
-  @Override
-  public Stream<Byte> stream() {
-    throw new UnsupportedOperationException(
-        "ByteDataBuffer does not support value streaming at the moment");
-  }
-
   @Override
   public ByteDataBuffer put(Byte value) {
     buf.put(value);
@@ -128,6 +182,31 @@ public final class ByteJdkDataBuffer extends AbstractJdkDataBuffer<Byte, ByteDat
     return this;
   }
 
+  @Override
+  public byte getByte(long index) {
+    return buf.get((int) index);
+  }
+
+  @Override
+  public ByteDataBuffer setByte(long index, byte value) {
+    buf.put((int) index, value);
+    return this;
+  }
+
+  @Override
+  public ByteDataBuffer fill(long fromIndex, long toIndex, byte value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    if (buf.hasArray()) {
+      int offset = buf.arrayOffset();
+      Arrays.fill(buf.array(), offset + (int) fromIndex, offset + (int) toIndex, value);
+    } else {
+      for (int index = (int) fromIndex; index < toIndex; ++index) {
+        buf.put(index, value);
+      }
+    }
+    return this;
+  }
+
   @Override
   public ByteDataBuffer put(byte[] src, int offset, int length) {
     buf.put(src, offset, length);
@@ -143,6 +222,47 @@ public final class ByteJdkDataBuffer extends AbstractJdkDataBuffer<Byte, ByteDat
     return super.put(src);
   }
 
+  @Override
+  protected boolean copyTo(DataBuffer<Byte> dst) {
+    if (buf.hasArray() && dst instanceof ByteDataBuffer) {
+      int length = buf.remaining();
+      ((ByteDataBuffer) dst).put(buf.array(), buf.arrayOffset() + buf.position(), length);
+      buf.position(buf.position() + length);
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public IntDataBuffer asInts(ByteOrder order) {
+    return IntJdkDataBuffer.wrapBytes(buf.slice().order(order));
+  }
+
+  @Override
+  public ShortDataBuffer asShorts(ByteOrder order) {
+    return ShortJdkDataBuffer.wrapBytes(buf.slice().order(order));
+  }
+
+  @Override
+  public LongDataBuffer asLongs(ByteOrder order) {
+    return LongJdkDataBuffer.wrapBytes(buf.slice().order(order));
+  }
+
+  @Override
+  public FloatDataBuffer asFloats(ByteOrder order) {
+    return FloatJdkDataBuffer.wrapBytes(buf.slice().order(order));
+  }
+
+  @Override
+  public DoubleDataBuffer asDoubles(ByteOrder order) {
+    return DoubleJdkDataBuffer.wrapBytes(buf.slice().order(order));
+  }
+
+  @Override
+  protected ByteBuffer[] byteBuffers(ByteOrder order) {
+    return new ByteBuffer[] { buf.slice() };
+  }
+
   @Override
   public ByteDataBuffer duplicate() {
     return new ByteJdkDataBuffer(buf.duplicate());
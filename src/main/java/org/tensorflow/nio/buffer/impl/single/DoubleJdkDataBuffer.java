@@ -17,13 +17,17 @@
 
 package org.tensorflow.nio.buffer.impl.single;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 import java.util.Arrays;
 import java.util.stream.DoubleStream;
-import java.util.stream.Stream;
 
 import org.tensorflow.nio.buffer.DataBuffer;
 import org.tensorflow.nio.buffer.DoubleDataBuffer;
+import org.tensorflow.nio.buffer.impl.Validator;
 
 /**
  * A buffer of bytes using a JDK {@link DoubleBuffer} for storage.
@@ -43,6 +47,15 @@ public final class DoubleJdkDataBuffer extends
    */
   public static long MAX_CAPACITY = AbstractJdkDataBuffer.MAX_CAPACITY;
 
+  /**
+   * The maximum capacity for a direct buffer of this type, i.e. the maximum number of doubles it
+   * can store.
+   * <p>
+   * Direct buffers are backed by a JDK byte buffer, which size in bytes cannot exceed {@link
+   * #MAX_CAPACITY}.
+   */
+  public static long MAX_DIRECT_CAPACITY = AbstractJdkDataBuffer.MAX_CAPACITY / Double.BYTES;
+
   /**
    * Allocates a new byte buffer.
    * <p>
@@ -63,6 +76,71 @@ public final class DoubleJdkDataBuffer extends
     return new DoubleJdkDataBuffer(DoubleBuffer.allocate((int) capacity));
   }
 
+  /**
+   * Allocates a new direct double buffer.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and each of its
+   * elements will be initialized to zero. Its values are stored outside of the Java heap, in the
+   * native byte order.
+   *
+   * @param capacity the new buffer's capacity, in doubles
+   * @return the new double buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
+   * MAX_DIRECT_CAPACITY}.
+   */
+  public static DoubleDataBuffer allocateDirect(long capacity) {
+    if (capacity > MAX_DIRECT_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity of a direct JDK data buffer cannot exceeds " + MAX_DIRECT_CAPACITY +
+              " doubles, use DoubleLargeDataBuffer instead");
+    }
+    return wrapBytes(allocateDirectBytes(capacity * Double.BYTES));
+  }
+
+  /**
+   * Allocates a new direct double buffer, starting at an address aligned on the given boundary.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and each of its
+   * elements will be initialized to zero. Its values are stored outside of the Java heap, in the
+   * native byte order.
+   *
+   * @param capacity the new buffer's capacity, in doubles
+   * @param alignment alignment of the first value of the buffer, a power of two in bytes
+   * @return the new double buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
+   * MAX_DIRECT_CAPACITY} once padded for alignment, or if the alignment is not a positive power of
+   * two
+   * @throws UnsupportedOperationException if native addresses are not accessible on this JVM
+   */
+  public static DoubleDataBuffer allocateDirect(long capacity, int alignment) {
+    return wrapBytes(allocateDirectBytes(capacity * Double.BYTES, alignment));
+  }
+
+  /**
+   * Maps a region of a file into a new double buffer.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and its values are
+   * read from and written to the file directly, in the native byte order.
+   *
+   * @param channel channel of the file to map
+   * @param mode mapping mode, see {@link FileChannel#map(MapMode, long, long)}
+   * @param position position in the file at which the mapped region starts, in bytes
+   * @param capacity the new buffer's capacity, in doubles
+   * @return the new double buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
+   * MAX_DIRECT_CAPACITY}.
+   * @throws IOException if the file cannot be mapped
+   */
+  public static DoubleDataBuffer map(FileChannel channel, MapMode mode, long position,
+      long capacity) throws IOException {
+    if (capacity > MAX_DIRECT_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity of a mapped JDK data buffer cannot exceeds " + MAX_DIRECT_CAPACITY +
+              " doubles, use DoubleLargeDataBuffer instead");
+    }
+    return wrapBytes(mapBytes(channel, mode, position, capacity * Double.BYTES));
+  }
+
   /**
    * Wraps a JDK {@link DoubleBuffer} into a {@code DoubleDataBuffer}.
    *
@@ -94,15 +172,11 @@ public final class DoubleJdkDataBuffer extends
 
   @Override
   public DoubleStream doubleStream() {
-    if (!buf.hasArray()) {
-      throw new UnsupportedOperationException("Only buffers backed by an array supports streaming");
+    if (buf.hasArray()) {
+      int offset = buf.arrayOffset();
+      return Arrays.stream(buf.array(), offset + buf.position(), offset + buf.limit());
     }
-    return Arrays.stream(buf.array());
-  }
-
-  @Override
-  public Stream<Double> stream() {
-    return doubleStream().boxed();
+    return DoubleDataBuffer.super.doubleStream();
   }
 
   @Override
@@ -117,6 +191,31 @@ public final class DoubleJdkDataBuffer extends
     return this;
   }
 
+  @Override
+  public double getDouble(long index) {
+    return buf.get((int) index);
+  }
+
+  @Override
+  public DoubleDataBuffer setDouble(long index, double value) {
+    buf.put((int) index, value);
+    return this;
+  }
+
+  @Override
+  public DoubleDataBuffer fill(long fromIndex, long toIndex, double value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    if (buf.hasArray()) {
+      int offset = buf.arrayOffset();
+      Arrays.fill(buf.array(), offset + (int) fromIndex, offset + (int) toIndex, value);
+    } else {
+      for (int index = (int) fromIndex; index < toIndex; ++index) {
+        buf.put(index, value);
+      }
+    }
+    return this;
+  }
+
   @Override
   public DoubleDataBuffer put(double[] src, int offset, int length) {
     buf.put(src, offset, length);
@@ -132,14 +231,25 @@ public final class DoubleJdkDataBuffer extends
     return super.put(src);
   }
 
+  @Override
+  protected boolean copyTo(DataBuffer<Double> dst) {
+    if (buf.hasArray() && dst instanceof DoubleDataBuffer) {
+      int length = buf.remaining();
+      ((DoubleDataBuffer) dst).put(buf.array(), buf.arrayOffset() + buf.position(), length);
+      buf.position(buf.position() + length);
+      return true;
+    }
+    return false;
+  }
+
   @Override
   public DoubleDataBuffer duplicate() {
-    return new DoubleJdkDataBuffer(buf.duplicate());
+    return new DoubleJdkDataBuffer(buf.duplicate(), bytes());
   }
 
   @Override
   public DoubleDataBuffer slice() {
-    return new DoubleJdkDataBuffer(buf.slice());
+    return new DoubleJdkDataBuffer(buf.slice(), sliceBytes());
   }
 
   @Override
@@ -147,7 +257,19 @@ public final class DoubleJdkDataBuffer extends
     return buf;
   }
 
+  /**
+   * Wraps bytes into a new buffer, which values are stored in the order of these bytes.
+   */
+  static DoubleDataBuffer wrapBytes(ByteBuffer bytes) {
+    return new DoubleJdkDataBuffer(bytes.asDoubleBuffer(), bytes);
+  }
+
   private DoubleJdkDataBuffer(DoubleBuffer buf) {
+    this(buf, null);
+  }
+
+  private DoubleJdkDataBuffer(DoubleBuffer buf, ByteBuffer bytes) {
+    super(bytes, Double.BYTES);
     this.buf = buf;
   }
 
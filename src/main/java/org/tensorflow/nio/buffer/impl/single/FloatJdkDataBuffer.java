@@ -17,11 +17,16 @@
 
 package org.tensorflow.nio.buffer.impl.single;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.FloatBuffer;
-import java.util.stream.Stream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.Arrays;
 
-import org.tensorflow.nio.buffer.FloatDataBuffer;
 import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.FloatDataBuffer;
+import org.tensorflow.nio.buffer.impl.Validator;
 
 /**
  * A buffer of bytes using a JDK {@link FloatBuffer} for storage.
@@ -41,6 +46,15 @@ public final class FloatJdkDataBuffer extends
    */
   public static long MAX_CAPACITY = AbstractJdkDataBuffer.MAX_CAPACITY;
 
+  /**
+   * The maximum capacity for a direct buffer of this type, i.e. the maximum number of floats it
+   * can store.
+   * <p>
+   * Direct buffers are backed by a JDK byte buffer, which size in bytes cannot exceed {@link
+   * #MAX_CAPACITY}.
+   */
+  public static long MAX_DIRECT_CAPACITY = AbstractJdkDataBuffer.MAX_CAPACITY / Float.BYTES;
+
   /**
    * Allocates a new byte buffer.
    * <p>
@@ -61,6 +75,71 @@ public final class FloatJdkDataBuffer extends
     return new FloatJdkDataBuffer(FloatBuffer.allocate((int) capacity));
   }
 
+  /**
+   * Allocates a new direct float buffer.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and each of its
+   * elements will be initialized to zero. Its values are stored outside of the Java heap, in the
+   * native byte order.
+   *
+   * @param capacity the new buffer's capacity, in floats
+   * @return the new float buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
+   * MAX_DIRECT_CAPACITY}.
+   */
+  public static FloatDataBuffer allocateDirect(long capacity) {
+    if (capacity > MAX_DIRECT_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity of a direct JDK data buffer cannot exceeds " + MAX_DIRECT_CAPACITY +
+              " floats, use FloatLargeDataBuffer instead");
+    }
+    return wrapBytes(allocateDirectBytes(capacity * Float.BYTES));
+  }
+
+  /**
+   * Allocates a new direct float buffer, starting at an address aligned on the given boundary.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and each of its
+   * elements will be initialized to zero. Its values are stored outside of the Java heap, in the
+   * native byte order.
+   *
+   * @param capacity the new buffer's capacity, in floats
+   * @param alignment alignment of the first value of the buffer, a power of two in bytes
+   * @return the new float buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
+   * MAX_DIRECT_CAPACITY} once padded for alignment, or if the alignment is not a positive power of
+   * two
+   * @throws UnsupportedOperationException if native addresses are not accessible on this JVM
+   */
+  public static FloatDataBuffer allocateDirect(long capacity, int alignment) {
+    return wrapBytes(allocateDirectBytes(capacity * Float.BYTES, alignment));
+  }
+
+  /**
+   * Maps a region of a file into a new float buffer.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and its values are
+   * read from and written to the file directly, in the native byte order.
+   *
+   * @param channel channel of the file to map
+   * @param mode mapping mode, see {@link FileChannel#map(MapMode, long, long)}
+   * @param position position in the file at which the mapped region starts, in bytes
+   * @param capacity the new buffer's capacity, in floats
+   * @return the new float buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
+   * MAX_DIRECT_CAPACITY}.
+   * @throws IOException if the file cannot be mapped
+   */
+  public static FloatDataBuffer map(FileChannel channel, MapMode mode, long position, long capacity)
+      throws IOException {
+    if (capacity > MAX_DIRECT_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity of a mapped JDK data buffer cannot exceeds " + MAX_DIRECT_CAPACITY +
+              " floats, use FloatLargeDataBuffer instead");
+    }
+    return wrapBytes(mapBytes(channel, mode, position, capacity * Float.BYTES));
+  }
+
   /**
    * Wraps a JDK {@link FloatBuffer} into a {@code FloatDataBuffer}.
    *
@@ -90,12 +169,6 @@ public final class FloatJdkDataBuffer extends
     return this;
   }
 
-  @Override
-  public Stream<Float> stream() {
-    throw new UnsupportedOperationException(
-        "FloatDataBuffer does not support value streaming at the moment");
-  }
-
   @Override
   public FloatDataBuffer put(Float value) {
     buf.put(value);
@@ -108,6 +181,31 @@ public final class FloatJdkDataBuffer extends
     return this;
   }
 
+  @Override
+  public float getFloat(long index) {
+    return buf.get((int) index);
+  }
+
+  @Override
+  public FloatDataBuffer setFloat(long index, float value) {
+    buf.put((int) index, value);
+    return this;
+  }
+
+  @Override
+  public FloatDataBuffer fill(long fromIndex, long toIndex, float value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    if (buf.hasArray()) {
+      int offset = buf.arrayOffset();
+      Arrays.fill(buf.array(), offset + (int) fromIndex, offset + (int) toIndex, value);
+    } else {
+      for (int index = (int) fromIndex; index < toIndex; ++index) {
+        buf.put(index, value);
+      }
+    }
+    return this;
+  }
+
   @Override
   public FloatDataBuffer put(float[] src, int offset, int length) {
     buf.put(src, offset, length);
@@ -123,14 +221,25 @@ public final class FloatJdkDataBuffer extends
     return super.put(src);
   }
 
+  @Override
+  protected boolean copyTo(DataBuffer<Float> dst) {
+    if (buf.hasArray() && dst instanceof FloatDataBuffer) {
+      int length = buf.remaining();
+      ((FloatDataBuffer) dst).put(buf.array(), buf.arrayOffset() + buf.position(), length);
+      buf.position(buf.position() + length);
+      return true;
+    }
+    return false;
+  }
+
   @Override
   public FloatDataBuffer duplicate() {
-    return new FloatJdkDataBuffer(buf.duplicate());
+    return new FloatJdkDataBuffer(buf.duplicate(), bytes());
   }
 
   @Override
   public FloatDataBuffer slice() {
-    return new FloatJdkDataBuffer(buf.slice());
+    return new FloatJdkDataBuffer(buf.slice(), sliceBytes());
   }
 
   @Override
@@ -138,7 +247,19 @@ public final class FloatJdkDataBuffer extends
     return buf;
   }
 
+  /**
+   * Wraps bytes into a new buffer, which values are stored in the order of these bytes.
+   */
+  static FloatDataBuffer wrapBytes(ByteBuffer bytes) {
+    return new FloatJdkDataBuffer(bytes.asFloatBuffer(), bytes);
+  }
+
   private FloatJdkDataBuffer(FloatBuffer buf) {
+    this(buf, null);
+  }
+
+  private FloatJdkDataBuffer(FloatBuffer buf, ByteBuffer bytes) {
+    super(bytes, Float.BYTES);
     this.buf = buf;
   }
 
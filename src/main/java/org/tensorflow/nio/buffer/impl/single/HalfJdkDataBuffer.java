@@ -0,0 +1,297 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.single;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.Arrays;
+
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.FloatDataBuffer;
+import org.tensorflow.nio.buffer.HalfDataBuffer;
+import org.tensorflow.nio.buffer.impl.FloatConversions;
+import org.tensorflow.nio.buffer.impl.Validator;
+
+/**
+ * A buffer of half-precision floats using a JDK {@link ShortBuffer} for storage.
+ * <p>
+ * Since JDK buffers supports only 32-bits indexation, the capacity of this buffer type cannot
+ * exceed 2<sup>32</sup> - 1 (see {@link HalfJdkDataBuffer.MAX_CAPACITY} for the real maximum value
+ * supported).
+ */
+public final class HalfJdkDataBuffer extends
+    AbstractJdkDataBuffer<Float, HalfDataBuffer> implements HalfDataBuffer {
+
+  /**
+   * The maximum capacity for a buffer of this type, i.e. the maximum number of halfs it can store.
+   * <p>
+   * As the maximum capacity may vary depending on the JVM implementation and on the platform, this
+   * property returns a value that is safe for most of them.
+   */
+  public static long MAX_CAPACITY = AbstractJdkDataBuffer.MAX_CAPACITY;
+
+  /**
+   * The maximum capacity for a direct buffer of this type, i.e. the maximum number of halfs it can
+   * store.
+   * <p>
+   * Direct buffers are backed by a JDK byte buffer, which size in bytes cannot exceed {@link
+   * #MAX_CAPACITY}.
+   */
+  public static long MAX_DIRECT_CAPACITY = AbstractJdkDataBuffer.MAX_CAPACITY / Short.BYTES;
+
+  /**
+   * Allocates a new half buffer.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and each of its
+   * elements will be initialized to zero.
+   *
+   * @param capacity the new buffer's capacity, in halfs
+   * @return the new half buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
+   * MAX_CAPACITY}.
+   */
+  public static HalfDataBuffer allocate(long capacity) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity of a JDK data buffer cannot exceeds " + MAX_CAPACITY +
+              " halfs, use HalfLargeDataBuffer instead");
+    }
+    return new HalfJdkDataBuffer(ShortBuffer.allocate((int) capacity));
+  }
+
+  /**
+   * Allocates a new direct half buffer.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and each of its
+   * elements will be initialized to zero. Its values are stored outside of the Java heap, in the
+   * native byte order.
+   *
+   * @param capacity the new buffer's capacity, in halfs
+   * @return the new half buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
+   * MAX_DIRECT_CAPACITY}.
+   */
+  public static HalfDataBuffer allocateDirect(long capacity) {
+    if (capacity > MAX_DIRECT_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity of a direct JDK data buffer cannot exceeds " + MAX_DIRECT_CAPACITY +
+              " halfs, use HalfLargeDataBuffer instead");
+    }
+    return wrapBytes(allocateDirectBytes(capacity * Short.BYTES));
+  }
+
+  /**
+   * Maps a region of a file into a new half buffer.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and its values are
+   * read from and written to the file directly, in the native byte order.
+   *
+   * @param channel channel of the file to map
+   * @param mode mapping mode, see {@link FileChannel#map(MapMode, long, long)}
+   * @param position position in the file at which the mapped region starts, in bytes
+   * @param capacity the new buffer's capacity, in halfs
+   * @return the new half buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
+   * MAX_DIRECT_CAPACITY}.
+   * @throws IOException if the file cannot be mapped
+   */
+  public static HalfDataBuffer map(FileChannel channel, MapMode mode, long position, long capacity)
+      throws IOException {
+    if (capacity > MAX_DIRECT_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity of a mapped JDK data buffer cannot exceeds " + MAX_DIRECT_CAPACITY +
+              " halfs, use HalfLargeDataBuffer instead");
+    }
+    return wrapBytes(mapBytes(channel, mode, position, capacity * Short.BYTES));
+  }
+
+  /**
+   * Wraps a JDK {@link ShortBuffer} of values in binary16 format into a {@code HalfDataBuffer}.
+   *
+   * The new buffer's position, limit and capacity will be the one of the buf passed in parameter,
+   * and each of its elements will preserver their values.
+   *
+   * @param buffer buffer to wrap
+   * @return the new half buffer
+   */
+  public static HalfDataBuffer wrap(ShortBuffer buffer) {
+    return new HalfJdkDataBuffer(buffer);
+  }
+
+  @Override
+  public Float get() {
+    return FloatConversions.halfToFloat(buf.get());
+  }
+
+  @Override
+  public Float get(long index) {
+    return FloatConversions.halfToFloat(buf.get((int) index));
+  }
+
+  @Override
+  public HalfDataBuffer get(float[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    if (buf.hasArray()) {
+      int position = buf.position();
+      FloatConversions.halfToFloat(buf.array(), buf.arrayOffset() + position, dst, offset, length);
+      buf.position(position + length);
+    } else {
+      for (int i = offset; i < offset + length; ++i) {
+        dst[i] = FloatConversions.halfToFloat(buf.get());
+      }
+    }
+    return this;
+  }
+
+  @Override
+  public HalfDataBuffer put(Float value) {
+    buf.put(FloatConversions.floatToHalf(value));
+    return this;
+  }
+
+  @Override
+  public HalfDataBuffer put(long index, Float value) {
+    buf.put((int) index, FloatConversions.floatToHalf(value));
+    return this;
+  }
+
+  @Override
+  public float getFloat(long index) {
+    return FloatConversions.halfToFloat(buf.get((int) index));
+  }
+
+  @Override
+  public short getHalf(long index) {
+    return buf.get((int) index);
+  }
+
+  @Override
+  public HalfDataBuffer setFloat(long index, float value) {
+    buf.put((int) index, FloatConversions.floatToHalf(value));
+    return this;
+  }
+
+  @Override
+  public HalfDataBuffer setHalf(long index, short value) {
+    buf.put((int) index, value);
+    return this;
+  }
+
+  @Override
+  public HalfDataBuffer fill(long fromIndex, long toIndex, float value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    short half = FloatConversions.floatToHalf(value);
+    if (buf.hasArray()) {
+      int offset = buf.arrayOffset();
+      Arrays.fill(buf.array(), offset + (int) fromIndex, offset + (int) toIndex, half);
+    } else {
+      for (int index = (int) fromIndex; index < toIndex; ++index) {
+        buf.put(index, half);
+      }
+    }
+    return this;
+  }
+
+  @Override
+  public HalfDataBuffer put(float[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    if (buf.hasArray()) {
+      int position = buf.position();
+      FloatConversions.floatToHalf(src, offset, buf.array(), buf.arrayOffset() + position, length);
+      buf.position(position + length);
+    } else {
+      for (int i = offset; i < offset + length; ++i) {
+        buf.put(FloatConversions.floatToHalf(src[i]));
+      }
+    }
+    return this;
+  }
+
+  @Override
+  public HalfDataBuffer put(DataBuffer<Float> src) {
+    if (src instanceof HalfJdkDataBuffer) {
+      buf.put(((HalfJdkDataBuffer) src).buf);
+      return this;
+    }
+    if (src instanceof FloatDataBuffer) {
+      Validator.putArgs(this, src);
+      float[] block = new float[(int) Math.min(src.remaining(), CONVERSION_BLOCK_SIZE)];
+      while (src.hasRemaining()) {
+        int length = (int) Math.min(src.remaining(), block.length);
+        ((FloatDataBuffer) src).get(block, 0, length);
+        put(block, 0, length);
+      }
+      return this;
+    }
+    return super.put(src);
+  }
+
+  @Override
+  protected boolean copyTo(DataBuffer<Float> dst) {
+    if (dst instanceof FloatDataBuffer) {
+      float[] block = new float[(int) Math.min(remaining(), CONVERSION_BLOCK_SIZE)];
+      while (hasRemaining()) {
+        int length = (int) Math.min(remaining(), block.length);
+        get(block, 0, length);
+        ((FloatDataBuffer) dst).put(block, 0, length);
+      }
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public HalfDataBuffer duplicate() {
+    return new HalfJdkDataBuffer(buf.duplicate(), bytes());
+  }
+
+  @Override
+  public HalfDataBuffer slice() {
+    return new HalfJdkDataBuffer(buf.slice(), sliceBytes());
+  }
+
+  @Override
+  protected ShortBuffer buf() {
+    return buf;
+  }
+
+  /**
+   * Maximum number of values converted at once when copying from or to a buffer of floats.
+   */
+  private static final int CONVERSION_BLOCK_SIZE = 4096;
+
+  /**
+   * Wraps bytes into a new buffer, which values are stored in the order of these bytes.
+   */
+  static HalfDataBuffer wrapBytes(ByteBuffer bytes) {
+    return new HalfJdkDataBuffer(bytes.asShortBuffer(), bytes);
+  }
+
+  private HalfJdkDataBuffer(ShortBuffer buf) {
+    this(buf, null);
+  }
+
+  private HalfJdkDataBuffer(ShortBuffer buf, ByteBuffer bytes) {
+    super(bytes, Short.BYTES);
+    this.buf = buf;
+  }
+
+  private ShortBuffer buf;
+}
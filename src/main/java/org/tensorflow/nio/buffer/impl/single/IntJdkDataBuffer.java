@@ -17,13 +17,17 @@
 
 package org.tensorflow.nio.buffer.impl.single;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 import java.util.Arrays;
 import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 import org.tensorflow.nio.buffer.DataBuffer;
 import org.tensorflow.nio.buffer.IntDataBuffer;
+import org.tensorflow.nio.buffer.impl.Validator;
 
 /**
  * A buffer of bytes using a JDK {@link IntBuffer} for storage.
@@ -44,6 +48,15 @@ public final class IntJdkDataBuffer extends AbstractJdkDataBuffer<Integer, IntDa
    */
   public static long MAX_CAPACITY = AbstractJdkDataBuffer.MAX_CAPACITY;
 
+  /**
+   * The maximum capacity for a direct buffer of this type, i.e. the maximum number of integers it
+   * can store.
+   * <p>
+   * Direct buffers are backed by a JDK byte buffer, which size in bytes cannot exceed {@link
+   * #MAX_CAPACITY}.
+   */
+  public static long MAX_DIRECT_CAPACITY = AbstractJdkDataBuffer.MAX_CAPACITY / Integer.BYTES;
+
   /**
    * Allocates a new integer buffer.
    * <p>
@@ -64,6 +77,71 @@ public final class IntJdkDataBuffer extends AbstractJdkDataBuffer<Integer, IntDa
     return new IntJdkDataBuffer(IntBuffer.allocate((int) capacity));
   }
 
+  /**
+   * Allocates a new direct integer buffer.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and each of its
+   * elements will be initialized to zero. Its values are stored outside of the Java heap, in the
+   * native byte order.
+   *
+   * @param capacity the new buffer's capacity, in integers
+   * @return the new integer buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
+   * MAX_DIRECT_CAPACITY}.
+   */
+  public static IntDataBuffer allocateDirect(long capacity) {
+    if (capacity > MAX_DIRECT_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity of a direct JDK data buffer cannot exceeds " + MAX_DIRECT_CAPACITY +
+              " integers, use IntLargeDataBuffer instead");
+    }
+    return wrapBytes(allocateDirectBytes(capacity * Integer.BYTES));
+  }
+
+  /**
+   * Allocates a new direct integer buffer, starting at an address aligned on the given boundary.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and each of its
+   * elements will be initialized to zero. Its values are stored outside of the Java heap, in the
+   * native byte order.
+   *
+   * @param capacity the new buffer's capacity, in integers
+   * @param alignment alignment of the first value of the buffer, a power of two in bytes
+   * @return the new integer buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
+   * MAX_DIRECT_CAPACITY} once padded for alignment, or if the alignment is not a positive power of
+   * two
+   * @throws UnsupportedOperationException if native addresses are not accessible on this JVM
+   */
+  public static IntDataBuffer allocateDirect(long capacity, int alignment) {
+    return wrapBytes(allocateDirectBytes(capacity * Integer.BYTES, alignment));
+  }
+
+  /**
+   * Maps a region of a file into a new integer buffer.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and its values are
+   * read from and written to the file directly, in the native byte order.
+   *
+   * @param channel channel of the file to map
+   * @param mode mapping mode, see {@link FileChannel#map(MapMode, long, long)}
+   * @param position position in the file at which the mapped region starts, in bytes
+   * @param capacity the new buffer's capacity, in integers
+   * @return the new integer buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
+   * MAX_DIRECT_CAPACITY}.
+   * @throws IOException if the file cannot be mapped
+   */
+  public static IntDataBuffer map(FileChannel channel, MapMode mode, long position, long capacity)
+      throws IOException {
+    if (capacity > MAX_DIRECT_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity of a mapped JDK data buffer cannot exceeds " + MAX_DIRECT_CAPACITY +
+              " integers, use IntLargeDataBuffer instead");
+    }
+    return wrapBytes(mapBytes(channel, mode, position, capacity * Integer.BYTES));
+  }
+
   /**
    * Wraps a JDK {@link IntBuffer} into a {@code IntDataBuffer}.
    *
@@ -105,6 +183,31 @@ public final class IntJdkDataBuffer extends AbstractJdkDataBuffer<Integer, IntDa
     return this;
   }
 
+  @Override
+  public int getInt(long index) {
+    return buf.get((int) index);
+  }
+
+  @Override
+  public IntDataBuffer setInt(long index, int value) {
+    buf.put((int) index, value);
+    return this;
+  }
+
+  @Override
+  public IntDataBuffer fill(long fromIndex, long toIndex, int value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    if (buf.hasArray()) {
+      int offset = buf.arrayOffset();
+      Arrays.fill(buf.array(), offset + (int) fromIndex, offset + (int) toIndex, value);
+    } else {
+      for (int index = (int) fromIndex; index < toIndex; ++index) {
+        buf.put(index, value);
+      }
+    }
+    return this;
+  }
+
   @Override
   public IntDataBuffer put(int[] src, int offset, int length) {
     buf.put(src, offset, length);
@@ -121,29 +224,33 @@ public final class IntJdkDataBuffer extends AbstractJdkDataBuffer<Integer, IntDa
   }
 
   @Override
-  public IntStream intStream() {
-    if (!buf.hasArray()) {
-      throw new UnsupportedOperationException("Only buffers backed by an array supports streaming");
+  protected boolean copyTo(DataBuffer<Integer> dst) {
+    if (buf.hasArray() && dst instanceof IntDataBuffer) {
+      int length = buf.remaining();
+      ((IntDataBuffer) dst).put(buf.array(), buf.arrayOffset() + buf.position(), length);
+      buf.position(buf.position() + length);
+      return true;
     }
-    return Arrays.stream(buf.array());
+    return false;
   }
 
   @Override
-  public Stream<Integer> stream() {
-    if (!buf.hasArray()) {
-      throw new UnsupportedOperationException("Only buffers backed by an array supports streaming");
+  public IntStream intStream() {
+    if (buf.hasArray()) {
+      int offset = buf.arrayOffset();
+      return Arrays.stream(buf.array(), offset + buf.position(), offset + buf.limit());
     }
-    return Arrays.stream(buf.array()).boxed();
+    return IntDataBuffer.super.intStream();
   }
 
   @Override
   public IntDataBuffer duplicate() {
-    return new IntJdkDataBuffer(buf.duplicate());
+    return new IntJdkDataBuffer(buf.duplicate(), bytes());
   }
 
   @Override
   public IntDataBuffer slice() {
-    return new IntJdkDataBuffer(buf.slice());
+    return new IntJdkDataBuffer(buf.slice(), sliceBytes());
   }
 
   @Override
@@ -151,7 +258,19 @@ public final class IntJdkDataBuffer extends AbstractJdkDataBuffer<Integer, IntDa
     return buf;
   }
 
+  /**
+   * Wraps bytes into a new buffer, which values are stored in the order of these bytes.
+   */
+  static IntDataBuffer wrapBytes(ByteBuffer bytes) {
+    return new IntJdkDataBuffer(bytes.asIntBuffer(), bytes);
+  }
+
   private IntJdkDataBuffer(IntBuffer buf) {
+    this(buf, null);
+  }
+
+  private IntJdkDataBuffer(IntBuffer buf, ByteBuffer bytes) {
+    super(bytes, Integer.BYTES);
     this.buf = buf;
   }
 
@@ -17,13 +17,17 @@
 
 package org.tensorflow.nio.buffer.impl.single;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 import java.util.Arrays;
 import java.util.stream.LongStream;
-import java.util.stream.Stream;
 
 import org.tensorflow.nio.buffer.DataBuffer;
 import org.tensorflow.nio.buffer.LongDataBuffer;
+import org.tensorflow.nio.buffer.impl.Validator;
 
 /**
  * A buffer of longs using a JDK {@link LongBuffer} for storage.
@@ -43,6 +47,15 @@ public final class LongJdkDataBuffer extends AbstractJdkDataBuffer<Long, LongDat
    */
   public static long MAX_CAPACITY = AbstractJdkDataBuffer.MAX_CAPACITY;
 
+  /**
+   * The maximum capacity for a direct buffer of this type, i.e. the maximum number of longs it
+   * can store.
+   * <p>
+   * Direct buffers are backed by a JDK byte buffer, which size in bytes cannot exceed {@link
+   * #MAX_CAPACITY}.
+   */
+  public static long MAX_DIRECT_CAPACITY = AbstractJdkDataBuffer.MAX_CAPACITY / Long.BYTES;
+
   /**
    * Allocates a new long buffer.
    * <p>
@@ -63,6 +76,71 @@ public final class LongJdkDataBuffer extends AbstractJdkDataBuffer<Long, LongDat
     return new LongJdkDataBuffer(LongBuffer.allocate((int) capacity));
   }
 
+  /**
+   * Allocates a new direct long buffer.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and each of its
+   * elements will be initialized to zero. Its values are stored outside of the Java heap, in the
+   * native byte order.
+   *
+   * @param capacity the new buffer's capacity, in longs
+   * @return the new long buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
+   * MAX_DIRECT_CAPACITY}.
+   */
+  public static LongDataBuffer allocateDirect(long capacity) {
+    if (capacity > MAX_DIRECT_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity of a direct JDK data buffer cannot exceeds " + MAX_DIRECT_CAPACITY +
+              " longs, use LongLargeDataBuffer instead");
+    }
+    return wrapBytes(allocateDirectBytes(capacity * Long.BYTES));
+  }
+
+  /**
+   * Allocates a new direct long buffer, starting at an address aligned on the given boundary.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and each of its
+   * elements will be initialized to zero. Its values are stored outside of the Java heap, in the
+   * native byte order.
+   *
+   * @param capacity the new buffer's capacity, in longs
+   * @param alignment alignment of the first value of the buffer, a power of two in bytes
+   * @return the new long buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
+   * MAX_DIRECT_CAPACITY} once padded for alignment, or if the alignment is not a positive power of
+   * two
+   * @throws UnsupportedOperationException if native addresses are not accessible on this JVM
+   */
+  public static LongDataBuffer allocateDirect(long capacity, int alignment) {
+    return wrapBytes(allocateDirectBytes(capacity * Long.BYTES, alignment));
+  }
+
+  /**
+   * Maps a region of a file into a new long buffer.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and its values are
+   * read from and written to the file directly, in the native byte order.
+   *
+   * @param channel channel of the file to map
+   * @param mode mapping mode, see {@link FileChannel#map(MapMode, long, long)}
+   * @param position position in the file at which the mapped region starts, in bytes
+   * @param capacity the new buffer's capacity, in longs
+   * @return the new long buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
+   * MAX_DIRECT_CAPACITY}.
+   * @throws IOException if the file cannot be mapped
+   */
+  public static LongDataBuffer map(FileChannel channel, MapMode mode, long position, long capacity)
+      throws IOException {
+    if (capacity > MAX_DIRECT_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity of a mapped JDK data buffer cannot exceeds " + MAX_DIRECT_CAPACITY +
+              " longs, use LongLargeDataBuffer instead");
+    }
+    return wrapBytes(mapBytes(channel, mode, position, capacity * Long.BYTES));
+  }
+
   /**
    * Wraps a JDK {@link LongBuffer} into a {@code LongDataBuffer}.
    *
@@ -104,6 +182,31 @@ public final class LongJdkDataBuffer extends AbstractJdkDataBuffer<Long, LongDat
     return this;
   }
 
+  @Override
+  public long getLong(long index) {
+    return buf.get((int) index);
+  }
+
+  @Override
+  public LongDataBuffer setLong(long index, long value) {
+    buf.put((int) index, value);
+    return this;
+  }
+
+  @Override
+  public LongDataBuffer fill(long fromIndex, long toIndex, long value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    if (buf.hasArray()) {
+      int offset = buf.arrayOffset();
+      Arrays.fill(buf.array(), offset + (int) fromIndex, offset + (int) toIndex, value);
+    } else {
+      for (int index = (int) fromIndex; index < toIndex; ++index) {
+        buf.put(index, value);
+      }
+    }
+    return this;
+  }
+
   @Override
   public LongDataBuffer put(long[] src, int offset, int length) {
     buf.put(src, offset, length);
@@ -120,26 +223,33 @@ public final class LongJdkDataBuffer extends AbstractJdkDataBuffer<Long, LongDat
   }
 
   @Override
-  public LongStream longStream() {
-    if (!buf.hasArray()) {
-      throw new UnsupportedOperationException("Only buffers backed by an array supports streaming");
+  protected boolean copyTo(DataBuffer<Long> dst) {
+    if (buf.hasArray() && dst instanceof LongDataBuffer) {
+      int length = buf.remaining();
+      ((LongDataBuffer) dst).put(buf.array(), buf.arrayOffset() + buf.position(), length);
+      buf.position(buf.position() + length);
+      return true;
     }
-    return Arrays.stream(buf.array());
+    return false;
   }
 
   @Override
-  public Stream<Long> stream() {
-    return longStream().boxed();
+  public LongStream longStream() {
+    if (buf.hasArray()) {
+      int offset = buf.arrayOffset();
+      return Arrays.stream(buf.array(), offset + buf.position(), offset + buf.limit());
+    }
+    return LongDataBuffer.super.longStream();
   }
 
   @Override
   public LongDataBuffer duplicate() {
-    return new LongJdkDataBuffer(buf.duplicate());
+    return new LongJdkDataBuffer(buf.duplicate(), bytes());
   }
 
   @Override
   public LongDataBuffer slice() {
-    return new LongJdkDataBuffer(buf.slice());
+    return new LongJdkDataBuffer(buf.slice(), sliceBytes());
   }
 
   @Override
@@ -147,7 +257,19 @@ public final class LongJdkDataBuffer extends AbstractJdkDataBuffer<Long, LongDat
     return buf;
   }
 
+  /**
+   * Wraps bytes into a new buffer, which values are stored in the order of these bytes.
+   */
+  static LongDataBuffer wrapBytes(ByteBuffer bytes) {
+    return new LongJdkDataBuffer(bytes.asLongBuffer(), bytes);
+  }
+
   private LongJdkDataBuffer(LongBuffer buf) {
+    this(buf, null);
+  }
+
+  private LongJdkDataBuffer(LongBuffer buf, ByteBuffer bytes) {
+    super(bytes, Long.BYTES);
     this.buf = buf;
   }
 
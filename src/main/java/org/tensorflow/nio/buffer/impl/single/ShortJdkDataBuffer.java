@@ -0,0 +1,268 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+
+package org.tensorflow.nio.buffer.impl.single;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.Arrays;
+
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.ShortDataBuffer;
+import org.tensorflow.nio.buffer.impl.Validator;
+
+/**
+ * A buffer of shorts using a JDK {@link ShortBuffer} for storage.
+ * <p>
+ * Since JDK buffers supports only 32-bits indexation, the capacity of this buffer type cannot
+ * exceed 2<sup>32</sup> - 1 (see {@link ShortJdkDataBuffer.MAX_CAPACITY} for the real maximum value
+ * supported).
+ */
+public final class ShortJdkDataBuffer extends
+    AbstractJdkDataBuffer<Short, ShortDataBuffer> implements ShortDataBuffer {
+
+  /**
+   * The maximum capacity for a buffer of this type, i.e. the maximum number of shorts it can
+   * store.
+   * <p>
+   * As the maximum capacity may vary depending on the JVM implementation and on the platform, this
+   * property returns a value that is safe for most of them.
+   */
+  public static long MAX_CAPACITY = AbstractJdkDataBuffer.MAX_CAPACITY;
+
+  /**
+   * The maximum capacity for a direct buffer of this type, i.e. the maximum number of shorts it
+   * can store.
+   * <p>
+   * Direct buffers are backed by a JDK byte buffer, which size in bytes cannot exceed {@link
+   * #MAX_CAPACITY}.
+   */
+  public static long MAX_DIRECT_CAPACITY = AbstractJdkDataBuffer.MAX_CAPACITY / Short.BYTES;
+
+  /**
+   * Allocates a new short buffer.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and each of its
+   * elements will be initialized to zero.
+   *
+   * @param capacity the new buffer's capacity, in shorts
+   * @return the new short buffer
+   * @throws IllegalArgumentException if the capacity is a negative short or exceeds {@link
+   * MAX_CAPACITY}.
+   */
+  public static ShortDataBuffer allocate(long capacity) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity of a JDK data buffer cannot exceeds " + MAX_CAPACITY +
+              " shorts, use ShortLargeDataBuffer instead");
+    }
+    return new ShortJdkDataBuffer(ShortBuffer.allocate((int) capacity));
+  }
+
+  /**
+   * Allocates a new direct short buffer.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and each of its
+   * elements will be initialized to zero. Its values are stored outside of the Java heap, in the
+   * native byte order.
+   *
+   * @param capacity the new buffer's capacity, in shorts
+   * @return the new short buffer
+   * @throws IllegalArgumentException if the capacity is a negative short or exceeds {@link
+   * MAX_DIRECT_CAPACITY}.
+   */
+  public static ShortDataBuffer allocateDirect(long capacity) {
+    if (capacity > MAX_DIRECT_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity of a direct JDK data buffer cannot exceeds " + MAX_DIRECT_CAPACITY +
+              " shorts, use ShortLargeDataBuffer instead");
+    }
+    return wrapBytes(allocateDirectBytes(capacity * Short.BYTES));
+  }
+
+  /**
+   * Allocates a new direct short buffer, starting at an address aligned on the given boundary.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and each of its
+   * elements will be initialized to zero. Its values are stored outside of the Java heap, in the
+   * native byte order.
+   *
+   * @param capacity the new buffer's capacity, in shorts
+   * @param alignment alignment of the first value of the buffer, a power of two in bytes
+   * @return the new short buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
+   * MAX_DIRECT_CAPACITY} once padded for alignment, or if the alignment is not a positive power of
+   * two
+   * @throws UnsupportedOperationException if native addresses are not accessible on this JVM
+   */
+  public static ShortDataBuffer allocateDirect(long capacity, int alignment) {
+    return wrapBytes(allocateDirectBytes(capacity * Short.BYTES, alignment));
+  }
+
+  /**
+   * Maps a region of a file into a new short buffer.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and its values are
+   * read from and written to the file directly, in the native byte order.
+   *
+   * @param channel channel of the file to map
+   * @param mode mapping mode, see {@link FileChannel#map(MapMode, long, long)}
+   * @param position position in the file at which the mapped region starts, in bytes
+   * @param capacity the new buffer's capacity, in shorts
+   * @return the new short buffer
+   * @throws IllegalArgumentException if the capacity is a negative short or exceeds {@link
+   * MAX_DIRECT_CAPACITY}.
+   * @throws IOException if the file cannot be mapped
+   */
+  public static ShortDataBuffer map(FileChannel channel, MapMode mode, long position, long capacity)
+      throws IOException {
+    if (capacity > MAX_DIRECT_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity of a mapped JDK data buffer cannot exceeds " + MAX_DIRECT_CAPACITY +
+              " shorts, use ShortLargeDataBuffer instead");
+    }
+    return wrapBytes(mapBytes(channel, mode, position, capacity * Short.BYTES));
+  }
+
+  /**
+   * Wraps a JDK {@link ShortBuffer} into a {@code ShortDataBuffer}.
+   *
+   * The new buffer's position, limit and capacity will be the one of the buf passed in parameter,
+   * and each of its elements will preserver their values.
+   *
+   * @param buffer buffer to wrap
+   * @return the new short buffer
+   */
+  public static ShortDataBuffer wrap(ShortBuffer buf) {
+    return new ShortJdkDataBuffer(buf);
+  }
+
+  @Override
+  public Short get() {
+    return buf.get();
+  }
+
+  @Override
+  public Short get(long index) {
+    return buf.get((int) index);
+  }
+
+  @Override
+  public ShortDataBuffer get(short[] dst, int offset, int length) {
+    buf.get(dst, offset, length);
+    return this;
+  }
+
+  @Override
+  public ShortDataBuffer put(Short value) {
+    buf.put(value);
+    return this;
+  }
+
+  @Override
+  public ShortDataBuffer put(long index, Short value) {
+    buf.put((int) index, value);
+    return this;
+  }
+
+  @Override
+  public short getShort(long index) {
+    return buf.get((int) index);
+  }
+
+  @Override
+  public ShortDataBuffer setShort(long index, short value) {
+    buf.put((int) index, value);
+    return this;
+  }
+
+  @Override
+  public ShortDataBuffer fill(long fromIndex, long toIndex, short value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    if (buf.hasArray()) {
+      int offset = buf.arrayOffset();
+      Arrays.fill(buf.array(), offset + (int) fromIndex, offset + (int) toIndex, value);
+    } else {
+      for (int index = (int) fromIndex; index < toIndex; ++index) {
+        buf.put(index, value);
+      }
+    }
+    return this;
+  }
+
+  @Override
+  public ShortDataBuffer put(short[] src, int offset, int length) {
+    buf.put(src, offset, length);
+    return this;
+  }
+
+  @Override
+  public ShortDataBuffer put(DataBuffer<Short> src) {
+    if (src instanceof ShortJdkDataBuffer) {
+      buf.put(((ShortJdkDataBuffer) src).buf);
+      return this;
+    }
+    return super.put(src);
+  }
+
+  @Override
+  protected boolean copyTo(DataBuffer<Short> dst) {
+    if (buf.hasArray() && dst instanceof ShortDataBuffer) {
+      int length = buf.remaining();
+      ((ShortDataBuffer) dst).put(buf.array(), buf.arrayOffset() + buf.position(), length);
+      buf.position(buf.position() + length);
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public ShortDataBuffer duplicate() {
+    return new ShortJdkDataBuffer(buf.duplicate(), bytes());
+  }
+
+  @Override
+  public ShortDataBuffer slice() {
+    return new ShortJdkDataBuffer(buf.slice(), sliceBytes());
+  }
+
+  @Override
+  protected ShortBuffer buf() {
+    return buf;
+  }
+
+  /**
+   * Wraps bytes into a new buffer, which values are stored in the order of these bytes.
+   */
+  static ShortDataBuffer wrapBytes(ByteBuffer bytes) {
+    return new ShortJdkDataBuffer(bytes.asShortBuffer(), bytes);
+  }
+
+  private ShortJdkDataBuffer(ShortBuffer buf) {
+    this(buf, null);
+  }
+
+  private ShortJdkDataBuffer(ShortBuffer buf, ByteBuffer bytes) {
+    super(bytes, Short.BYTES);
+    this.buf = buf;
+  }
+
+  private ShortBuffer buf;
+}
@@ -0,0 +1,431 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.single;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.tensorflow.nio.buffer.ByteDataBuffer;
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.DataBuffers;
+import org.tensorflow.nio.buffer.StringDataBuffer;
+import org.tensorflow.nio.buffer.impl.AbstractDataBuffer;
+import org.tensorflow.nio.buffer.impl.ChannelTransfer;
+import org.tensorflow.nio.buffer.impl.Validator;
+
+/**
+ * A buffer of strings encoded in UTF-8 and stored contiguously in a single byte buffer.
+ * <p>
+ * Like the string tensors of TensorFlow, the bytes of each value are located using a table of
+ * offsets and lengths, indexed by the position of the value in the buffer. Values are never
+ * rewritten in place: the bytes of a new value are appended at the end of the storage, and the
+ * previous bytes at this index are dropped. Therefore, the bytes of a value can be shared by many
+ * indices, like after a {@link #fill(String)}, and can be returned by {@link #getBytes(long)}
+ * without being copied.
+ * <p>
+ * When the storage is full, the bytes of the values are first compacted in a new storage if more
+ * than half of them have been dropped, and it is grown otherwise. Values sharing the same bytes at
+ * consecutive indices still share them after compaction.
+ * <p>
+ * All values are initialized to an empty string. Null values are supported.
+ */
+public final class StringUtf8DataBuffer extends AbstractDataBuffer<String, StringDataBuffer>
+    implements StringDataBuffer {
+
+  /**
+   * The maximum capacity for a buffer of this type, i.e. the maximum number of strings it can
+   * store.
+   */
+  public static long MAX_CAPACITY = AbstractJdkDataBuffer.MAX_CAPACITY;
+
+  /**
+   * Allocates a new string buffer.
+   * <p>
+   * The new buffer's position will be zero, its limit will be its capacity, and each of its
+   * elements will be initialized to an empty string.
+   *
+   * @param capacity the new buffer's capacity, in strings
+   * @return the new string buffer
+   * @throws IllegalArgumentException if the capacity is a negative integer or exceeds {@link
+   * MAX_CAPACITY}.
+   */
+  public static StringDataBuffer allocate(long capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("Capacity must be non-negative");
+    }
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Capacity of a UTF-8 data buffer cannot exceeds " + MAX_CAPACITY + " strings");
+    }
+    return new StringUtf8DataBuffer(new Storage((int) capacity), 0, capacity, 0, capacity);
+  }
+
+  @Override
+  public long capacity() {
+    return capacity;
+  }
+
+  @Override
+  public long limit() {
+    return limit;
+  }
+
+  @Override
+  public StringDataBuffer limit(long newLimit) {
+    Validator.newLimit(this, newLimit);
+    limit = newLimit;
+    if (position > limit) {
+      position = limit;
+    }
+    return this;
+  }
+
+  @Override
+  public boolean hasRemaining() {
+    return position < limit;
+  }
+
+  @Override
+  public long remaining() {
+    return limit - position;
+  }
+
+  @Override
+  public long position() {
+    return position;
+  }
+
+  @Override
+  public StringDataBuffer position(long newPosition) {
+    Validator.newPosition(this, newPosition);
+    position = newPosition;
+    return this;
+  }
+
+  @Override
+  public StringDataBuffer rewind() {
+    position = 0;
+    return this;
+  }
+
+  @Override
+  public boolean isReadOnly() {
+    return false;
+  }
+
+  @Override
+  public String get() {
+    if (!hasRemaining()) {
+      throw new BufferUnderflowException();
+    }
+    return storage.decode(start + position++);
+  }
+
+  @Override
+  public String get(long index) {
+    Validator.getArgs(this, index);
+    return storage.decode(start + index);
+  }
+
+  @Override
+  public StringDataBuffer get(String[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    for (int i = offset; i < offset + length; ++i) {
+      dst[i] = storage.decode(start + position++);
+    }
+    return this;
+  }
+
+  @Override
+  public ByteDataBuffer getBytes(long index) {
+    Validator.getArgs(this, index);
+    return storage.bytes(start + index);
+  }
+
+  @Override
+  public StringDataBuffer put(String value) {
+    if (!hasRemaining()) {
+      throw new BufferOverflowException();
+    }
+    storage.encode(start + position++, value);
+    return this;
+  }
+
+  @Override
+  public StringDataBuffer put(long index, String value) {
+    Validator.putArgs(this, index);
+    storage.encode(start + index, value);
+    return this;
+  }
+
+  @Override
+  public StringDataBuffer put(String[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    byte[][] values = new byte[length][];
+    long totalLength = 0;
+    for (int i = 0; i < length; ++i) {
+      if (src[offset + i] != null) {
+        values[i] = src[offset + i].getBytes(StandardCharsets.UTF_8);
+        totalLength += values[i].length;
+      }
+    }
+    storage.reserve(totalLength);
+    for (byte[] value : values) {
+      storage.append(start + position++, value);
+    }
+    return this;
+  }
+
+  @Override
+  public StringDataBuffer put(DataBuffer<String> src) {
+    if (src instanceof StringDataBuffer) {
+      Validator.putArgs(this, src);
+      StringDataBuffer strSrc = (StringDataBuffer) src;
+      long srcPosition = src.position();
+      long length = src.remaining();
+      for (long i = 0; i < length; ++i) {
+        storage.copy(start + position++, strSrc.getBytes(srcPosition + i));
+      }
+      src.position(srcPosition + length);
+      return this;
+    }
+    return super.put(src);
+  }
+
+  @Override
+  public StringDataBuffer setBytes(long index, ByteDataBuffer bytes) {
+    Validator.putArgs(this, index);
+    storage.copy(start + index, bytes);
+    return this;
+  }
+
+  @Override
+  public StringDataBuffer fill(long fromIndex, long toIndex, String value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    if (fromIndex < toIndex) {
+      storage.encode(start + fromIndex, value);
+      storage.share(start + fromIndex, start + fromIndex + 1, start + toIndex);
+    }
+    return this;
+  }
+
+  @Override
+  public StringDataBuffer duplicate() {
+    return new StringUtf8DataBuffer(storage, start, capacity, position, limit);
+  }
+
+  @Override
+  public StringDataBuffer slice() {
+    long remaining = remaining();
+    return new StringUtf8DataBuffer(storage, start + position, remaining, 0, remaining);
+  }
+
+  /**
+   * Returns the number of bytes used to store the values of this buffer.
+   * <p>
+   * This includes the bytes of values that have been overwritten and not yet reclaimed by a
+   * compaction of the storage, if any, and of all values of the buffer this one has been sliced
+   * from.
+   *
+   * @return number of bytes stored
+   */
+  public long byteSize() {
+    return storage.size;
+  }
+
+  /**
+   * Storage of the values, shared by a buffer and all its duplicates and slices.
+   */
+  private static final class Storage {
+
+    Storage(int capacity) {
+      offsets = new long[capacity];
+      lengths = new int[capacity];
+      data = DataBuffers.ofBytes(Math.max(capacity, MIN_DATA_CAPACITY));
+    }
+
+    String decode(long index) {
+      if (lengths[(int) index] == NULL_LENGTH) {
+        return null;
+      }
+      byte[] bytes = new byte[lengths[(int) index]];
+      data.withPosition(offsets[(int) index]).get(bytes);
+      return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the bytes of the value at the given index as a read-only buffer, sharing the data
+     * if they are stored in a single JDK byte buffer and copying them otherwise.
+     * <p>
+     * Since bytes are never rewritten in place, the returned buffer keeps the bytes of the value
+     * even after a new value is written at this index.
+     */
+    ByteDataBuffer bytes(long index) {
+      int length = lengths[(int) index];
+      if (length == NULL_LENGTH) {
+        return null;
+      }
+      long offset = offsets[(int) index];
+      ByteDataBuffer bytes = data.withPosition(offset).limit(offset + length);
+      ByteBuffer[] buffers = ChannelTransfer.byteBuffers(bytes, ByteOrder.nativeOrder());
+      if (buffers != null && buffers.length == 1) {
+        return ByteJdkDataBuffer.wrap(buffers[0].asReadOnlyBuffer());
+      }
+      byte[] copy = new byte[length];
+      bytes.get(copy);
+      return DataBuffers.wrap(copy, true);
+    }
+
+    void encode(long index, String value) {
+      if (value == null) {
+        append(index, null);
+        return;
+      }
+      byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      reserve(bytes.length);
+      append(index, bytes);
+    }
+
+    void copy(long index, ByteDataBuffer bytes) {
+      if (bytes == null) {
+        append(index, null);
+        return;
+      }
+      long length = bytes.remaining();
+      if (length > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("Strings cannot exceed " + Integer.MAX_VALUE + " bytes");
+      }
+      reserve(length);
+      offsets[(int) index] = size;
+      lengths[(int) index] = (int) length;
+      data.withPosition(size).put(bytes.duplicate());
+      size += length;
+    }
+
+    /**
+     * Appends the given bytes to the data, which must have enough space left to store them, or
+     * marks the value as null if {@code bytes} is null.
+     */
+    void append(long index, byte[] bytes) {
+      if (bytes == null) {
+        offsets[(int) index] = 0;
+        lengths[(int) index] = NULL_LENGTH;
+        return;
+      }
+      offsets[(int) index] = size;
+      lengths[(int) index] = bytes.length;
+      data.withPosition(size).put(bytes);
+      size += bytes.length;
+    }
+
+    /**
+     * Points all indices from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive, to the
+     * bytes of the value at {@code index}.
+     */
+    void share(long index, long fromIndex, long toIndex) {
+      Arrays.fill(offsets, (int) fromIndex, (int) toIndex, offsets[(int) index]);
+      Arrays.fill(lengths, (int) fromIndex, (int) toIndex, lengths[(int) index]);
+    }
+
+    /**
+     * Compacts or grows the data, if required, so it can receive {@code length} more bytes.
+     * <p>
+     * The data is compacted in a new buffer, only large enough to receive twice the bytes of the
+     * live values and the new ones, if the bytes dropped by overwritten values outnumber the live
+     * ones. This bounds the data to a few times the size of the live values while keeping the cost
+     * of a compaction amortized over the bytes appended since the previous one.
+     */
+    void reserve(long length) {
+      long requiredCapacity = size + length;
+      if (requiredCapacity <= data.capacity()) {
+        return;
+      }
+      long liveSize = compact(null);
+      if (size - liveSize > liveSize) {
+        ByteDataBuffer newData =
+            DataBuffers.ofBytes(Math.max(MIN_DATA_CAPACITY, (liveSize + length) * 2));
+        size = compact(newData);
+        data = newData;
+      } else {
+        ByteDataBuffer newData =
+            DataBuffers.ofBytes(Math.max(requiredCapacity, data.capacity() * 2));
+        newData.put(data.withLimit(size).rewind());
+        data = newData;
+      }
+    }
+
+    /**
+     * Copies the bytes of all live values to the given buffer, consecutively, and points them to
+     * their new location, or only counts these bytes if {@code newData} is null.
+     *
+     * @return the number of bytes of live values
+     */
+    private long compact(ByteDataBuffer newData) {
+      long newSize = 0;
+      long lastOffset = -1;
+      int lastLength = 0;
+      long lastNewOffset = 0;
+      for (int i = 0; i < offsets.length; ++i) {
+        int length = lengths[i];
+        if (length <= 0) {
+          continue;
+        }
+        long offset = offsets[i];
+        if (offset != lastOffset || length != lastLength) {
+          if (newData != null) {
+            newData.withPosition(newSize).put(data.withPosition(offset).limit(offset + length));
+          }
+          lastOffset = offset;
+          lastLength = length;
+          lastNewOffset = newSize;
+          newSize += length;
+        }
+        if (newData != null) {
+          offsets[i] = lastNewOffset;
+        }
+      }
+      return newSize;
+    }
+
+    private static final int MIN_DATA_CAPACITY = 64;
+    private static final int NULL_LENGTH = -1;
+
+    final long[] offsets;
+    final int[] lengths;
+    ByteDataBuffer data;
+    long size = 0;
+  }
+
+  private StringUtf8DataBuffer(Storage storage, long start, long capacity, long position,
+      long limit) {
+    this.storage = storage;
+    this.start = start;
+    this.capacity = capacity;
+    this.position = position;
+    this.limit = limit;
+  }
+
+  private final Storage storage;
+  private final long start;
+  private final long capacity;
+  private long position;
+  private long limit;
+}
@@ -0,0 +1,88 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.stream;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * A spliterator of objects reading its values by index, from a range of a data buffer.
+ * <p>
+ * The range is split in two halves of the same size, so that parallel streams are balanced no
+ * matter how the buffer stores its values.
+ *
+ * @param <T> type of the values
+ */
+public final class IndexedSpliterator<T> implements Spliterator<T> {
+
+  /**
+   * Creates a spliterator over a range of values.
+   *
+   * @param getter function returning the value at a given index
+   * @param fromIndex index of the first value, inclusive
+   * @param toIndex index of the last value, exclusive
+   */
+  public IndexedSpliterator(LongFunction<T> getter, long fromIndex, long toIndex) {
+    this.getter = getter;
+    this.index = fromIndex;
+    this.toIndex = toIndex;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super T> action) {
+    if (index < toIndex) {
+      action.accept(getter.apply(index++));
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public void forEachRemaining(Consumer<? super T> action) {
+    long i = index;
+    index = toIndex;
+    for (; i < toIndex; ++i) {
+      action.accept(getter.apply(i));
+    }
+  }
+
+  @Override
+  public IndexedSpliterator<T> trySplit() {
+    long middleIndex = index + ((toIndex - index) >>> 1);
+    if (middleIndex <= index) {
+      return null;
+    }
+    IndexedSpliterator<T> prefix = new IndexedSpliterator<>(getter, index, middleIndex);
+    index = middleIndex;
+    return prefix;
+  }
+
+  @Override
+  public long estimateSize() {
+    return toIndex - index;
+  }
+
+  @Override
+  public int characteristics() {
+    return ORDERED | SIZED | SUBSIZED;
+  }
+
+  private final LongFunction<T> getter;
+  private final long toIndex;
+  private long index;
+}
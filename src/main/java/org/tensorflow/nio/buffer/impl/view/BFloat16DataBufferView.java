@@ -0,0 +1,92 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.view;
+
+import org.tensorflow.nio.buffer.BFloat16DataBuffer;
+import org.tensorflow.nio.buffer.impl.Validator;
+
+public class BFloat16DataBufferView extends DataBufferView<Float, BFloat16DataBuffer> implements
+    BFloat16DataBuffer {
+
+  public BFloat16DataBufferView(BFloat16DataBuffer delegate, long start, long end) {
+    super(delegate, start, end);
+  }
+
+  @Override
+  public BFloat16DataBuffer get(float[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    window(length).get(dst, offset, length);
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public float getFloat(long index) {
+    Validator.getArgs(this, index);
+    return delegate.getFloat(index + start);
+  }
+
+  @Override
+  public short getBFloat16(long index) {
+    Validator.getArgs(this, index);
+    return delegate.getBFloat16(index + start);
+  }
+
+  @Override
+  public BFloat16DataBuffer setFloat(long index, float value) {
+    Validator.putArgs(this, index);
+    delegate.setFloat(index + start, value);
+    return this;
+  }
+
+  @Override
+  public BFloat16DataBuffer setBFloat16(long index, short value) {
+    Validator.putArgs(this, index);
+    delegate.setBFloat16(index + start, value);
+    return this;
+  }
+
+  @Override
+  public BFloat16DataBuffer fill(long fromIndex, long toIndex, float value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    delegate.fill(fromIndex + start, toIndex + start, value);
+    return this;
+  }
+
+  @Override
+  public BFloat16DataBuffer put(float[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    window(length).put(src, offset, length);
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public BFloat16DataBuffer duplicate() {
+    return new BFloat16DataBufferView(delegate, start, end, position(), limit());
+  }
+
+  @Override
+  public BFloat16DataBuffer slice() {
+    return new BFloat16DataBufferView(delegate, start + position(), start + limit());
+  }
+
+  private BFloat16DataBufferView(BFloat16DataBuffer delegate, long start, long end, long position,
+      long limit) {
+    super(delegate, start, end, position, limit);
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.view;
+
+import org.tensorflow.nio.buffer.BooleanDataBuffer;
+import org.tensorflow.nio.buffer.impl.Validator;
+
+public class BooleanDataBufferView extends DataBufferView<Boolean, BooleanDataBuffer> implements
+    BooleanDataBuffer {
+
+  public BooleanDataBufferView(BooleanDataBuffer delegate, long start, long end) {
+    super(delegate, start, end);
+  }
+
+  @Override
+  public BooleanDataBuffer get(boolean[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    window(length).get(dst, offset, length);
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public boolean getBoolean(long index) {
+    Validator.getArgs(this, index);
+    return delegate.getBoolean(index + start);
+  }
+
+  @Override
+  public BooleanDataBuffer setBoolean(long index, boolean value) {
+    Validator.putArgs(this, index);
+    delegate.setBoolean(index + start, value);
+    return this;
+  }
+
+  @Override
+  public BooleanDataBuffer fill(long fromIndex, long toIndex, boolean value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    delegate.fill(fromIndex + start, toIndex + start, value);
+    return this;
+  }
+
+  @Override
+  public long getBits(long index, int count) {
+    Validator.getBitsArgs(this, index, count);
+    return delegate.getBits(index + start, count);
+  }
+
+  @Override
+  public BooleanDataBuffer setBits(long index, int count, long bits) {
+    Validator.setBitsArgs(this, index, count);
+    delegate.setBits(index + start, count, bits);
+    return this;
+  }
+
+  @Override
+  public BooleanDataBuffer put(boolean[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    window(length).put(src, offset, length);
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public BooleanDataBuffer duplicate() {
+    return new BooleanDataBufferView(delegate, start, end, position(), limit());
+  }
+
+  @Override
+  public BooleanDataBuffer slice() {
+    return new BooleanDataBufferView(delegate, start + position(), start + limit());
+  }
+
+  private BooleanDataBufferView(BooleanDataBuffer delegate, long start, long end, long position,
+      long limit) {
+    super(delegate, start, end, position, limit);
+  }
+}
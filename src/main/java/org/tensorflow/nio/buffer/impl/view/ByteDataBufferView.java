@@ -16,10 +16,19 @@
  */
 package org.tensorflow.nio.buffer.impl.view;
 
+import java.nio.ByteOrder;
+
 import org.tensorflow.nio.buffer.ByteDataBuffer;
+import org.tensorflow.nio.buffer.DoubleDataBuffer;
+import org.tensorflow.nio.buffer.FloatDataBuffer;
+import org.tensorflow.nio.buffer.IntDataBuffer;
+import org.tensorflow.nio.buffer.LongDataBuffer;
+import org.tensorflow.nio.buffer.ShortDataBuffer;
+import org.tensorflow.nio.buffer.impl.UncheckedAccess;
+import org.tensorflow.nio.buffer.impl.Validator;
 
 public class ByteDataBufferView extends DataBufferView<Byte, ByteDataBuffer> implements
-    ByteDataBuffer {
+    ByteDataBuffer, UncheckedAccess.ByteAccess {
 
   public ByteDataBufferView(ByteDataBuffer delegate, long start, long end) {
     super(delegate, start, end);
@@ -27,21 +36,87 @@ public class ByteDataBufferView extends DataBufferView<Byte, ByteDataBuffer> imp
 
   @Override
   public ByteDataBuffer get(byte[] dst, int offset, int length) {
-    return delegate.get(dst, offset, length);
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    window(length).get(dst, offset, length);
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public byte getByte(long index) {
+    Validator.getArgs(this, index);
+    return delegate.getByte(index + start);
+  }
+
+  @Override
+  public ByteDataBuffer setByte(long index, byte value) {
+    Validator.putArgs(this, index);
+    delegate.setByte(index + start, value);
+    return this;
+  }
+
+  @Override
+  public byte getByteUnchecked(long index) {
+    return UncheckedAccess.getByte(delegate, index + start);
+  }
+
+  @Override
+  public void setByteUnchecked(long index, byte value) {
+    UncheckedAccess.setByte(delegate, index + start, value);
+  }
+
+  @Override
+  public ByteDataBuffer fill(long fromIndex, long toIndex, byte value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    delegate.fill(fromIndex + start, toIndex + start, value);
+    return this;
   }
 
   @Override
   public ByteDataBuffer put(byte[] src, int offset, int length) {
-    return delegate.put(src, offset, length);
+    Validator.putArrayArgs(this, src.length, offset, length);
+    window(length).put(src, offset, length);
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public IntDataBuffer asInts(ByteOrder order) {
+    return window(remaining()).asInts(order);
+  }
+
+  @Override
+  public ShortDataBuffer asShorts(ByteOrder order) {
+    return window(remaining()).asShorts(order);
+  }
+
+  @Override
+  public LongDataBuffer asLongs(ByteOrder order) {
+    return window(remaining()).asLongs(order);
+  }
+
+  @Override
+  public FloatDataBuffer asFloats(ByteOrder order) {
+    return window(remaining()).asFloats(order);
+  }
+
+  @Override
+  public DoubleDataBuffer asDoubles(ByteOrder order) {
+    return window(remaining()).asDoubles(order);
   }
 
   @Override
   public ByteDataBuffer duplicate() {
-    return new ByteDataBufferView(delegate.duplicate(), start, end);
+    return new ByteDataBufferView(delegate, start, end, position(), limit());
   }
 
   @Override
   public ByteDataBuffer slice() {
-    return new ByteDataBufferView(delegate.duplicate(), position(), limit());
+    return new ByteDataBufferView(delegate, start + position(), start + limit());
+  }
+
+  private ByteDataBufferView(ByteDataBuffer delegate, long start, long end, long position,
+      long limit) {
+    super(delegate, start, end, position, limit);
   }
 }
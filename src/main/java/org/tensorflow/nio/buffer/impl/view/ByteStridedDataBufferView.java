@@ -0,0 +1,133 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.view;
+
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.ByteDataBuffer;
+import org.tensorflow.nio.buffer.impl.Validator;
+
+public class ByteStridedDataBufferView extends StridedDataBufferView<Byte, ByteDataBuffer>
+    implements ByteDataBuffer {
+
+  public ByteStridedDataBufferView(ByteDataBuffer delegate, long offset, long stride,
+      long count) {
+    super(delegate, offset, stride, count);
+  }
+
+  @Override
+  public ByteDataBuffer get(byte[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    long index = delegateIndex(position());
+    for (int i = offset; i < offset + length; ++i, index += stride) {
+      dst[i] = delegate.getByte(index);
+    }
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public byte getByte(long index) {
+    Validator.getArgs(this, index);
+    return delegate.getByte(delegateIndex(index));
+  }
+
+  @Override
+  public ByteDataBuffer setByte(long index, byte value) {
+    Validator.putArgs(this, index);
+    delegate.setByte(delegateIndex(index), value);
+    return this;
+  }
+
+  @Override
+  public ByteDataBuffer fill(long fromIndex, long toIndex, byte value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    for (long index = delegateIndex(fromIndex); fromIndex < toIndex; ++fromIndex, index += stride) {
+      delegate.setByte(index, value);
+    }
+    return this;
+  }
+
+  @Override
+  public ByteDataBuffer put(byte[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    long index = delegateIndex(position());
+    for (int i = offset; i < offset + length; ++i, index += stride) {
+      delegate.setByte(index, src[i]);
+    }
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public ByteDataBuffer put(DataBuffer<Byte> src) {
+    if (src instanceof ByteDataBuffer) {
+      Validator.putArgs(this, src);
+      ByteDataBuffer byteSrc = (ByteDataBuffer) src;
+      long srcPosition = src.position();
+      long length = src.remaining();
+      long index = delegateIndex(position());
+      for (long i = 0; i < length; ++i, index += stride) {
+        delegate.setByte(index, byteSrc.getByte(srcPosition + i));
+      }
+      src.position(srcPosition + length);
+      position(position() + length);
+      return this;
+    }
+    return super.put(src);
+  }
+
+  @Override
+  public ByteDataBuffer duplicate() {
+    return new ByteStridedDataBufferView(delegate, offset, stride, count, position(), limit());
+  }
+
+  @Override
+  public ByteDataBuffer slice() {
+    long remaining = remaining();
+    return new ByteStridedDataBufferView(delegate, delegateIndex(position()), stride, remaining,
+        0, remaining);
+  }
+
+  @Override
+  public ByteDataBuffer strided(long offset, long stride, long count) {
+    Validator.stridedArgs(this, offset, stride, count);
+    return new ByteStridedDataBufferView(delegate, delegateIndex(offset), this.stride * stride,
+        count, 0, count);
+  }
+
+  @Override
+  protected boolean copyTo(DataBuffer<Byte> dst) {
+    if (dst instanceof ByteDataBuffer) {
+      ByteDataBuffer byteDst = (ByteDataBuffer) dst;
+      long dstPosition = dst.position();
+      long length = remaining();
+      long index = delegateIndex(position());
+      for (long i = 0; i < length; ++i, index += stride) {
+        byteDst.setByte(dstPosition + i, delegate.getByte(index));
+      }
+      dst.position(dstPosition + length);
+      position(position() + length);
+      return true;
+    }
+    return super.copyTo(dst);
+  }
+
+  private ByteStridedDataBufferView(ByteDataBuffer delegate, long offset, long stride,
+      long count, long position, long limit) {
+    super(delegate, offset, stride, count, position, limit);
+  }
+}
@@ -16,17 +16,33 @@
  */
 package org.tensorflow.nio.buffer.impl.view;
 
-import java.util.stream.Stream;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
 
 import org.tensorflow.nio.buffer.DataBuffer;
-
+import org.tensorflow.nio.buffer.impl.AbstractDataBuffer;
+import org.tensorflow.nio.buffer.impl.ChannelTransfer;
+import org.tensorflow.nio.buffer.impl.Validator;
+
+/**
+ * A view on a range of another buffer.
+ * <p>
+ * Views keep their own position and limit, and access the values of the buffer they delegate to
+ * only by index or through duplicates of it restricted to their range, so the cursors of that
+ * buffer are never modified. Bulk transfers are resolved to the bulk operations of the delegate
+ * buffer.
+ *
+ * @param <T> type of elements (or values) stored in this buffer
+ * @param <B> the {@link DataBuffer} variant implemented by the subclass extending this base class
+ */
 @SuppressWarnings("unchecked")
-public class DataBufferView<T, B extends DataBuffer<T>> implements DataBuffer<T> {
+public class DataBufferView<T, B extends DataBuffer<T>> extends AbstractDataBuffer<T, B> {
 
   public DataBufferView(B delegate, long start, long end) {
-    this.delegate = delegate;
-    this.start = start;
-    this.end = end;
+    this(delegate, start, end, 0, end - start);
   }
 
   @Override
@@ -36,47 +52,45 @@ public class DataBufferView<T, B extends DataBuffer<T>> implements DataBuffer<T>
 
   @Override
   public long limit() {
-    return delegate.limit() - start;
+    return limit;
   }
 
   @Override
   public B limit(long newLimit) {
-    return (B) delegate.limit(newLimit + start);
-  }
-
-  @Override
-  public B withLimit(long limit) {
-    return (B) duplicate().limit(limit);
+    Validator.newLimit(this, newLimit);
+    limit = newLimit;
+    if (position > limit) {
+      position = limit;
+    }
+    return (B) this;
   }
 
   @Override
   public boolean hasRemaining() {
-    return delegate.hasRemaining();
+    return position < limit;
   }
 
   @Override
   public long remaining() {
-    return delegate.remaining();
+    return limit - position;
   }
 
   @Override
   public long position() {
-    return delegate.position() - start;
+    return position;
   }
 
   @Override
   public B position(long newPosition) {
-    return (B) delegate.position(newPosition + start);
-  }
-
-  @Override
-  public B withPosition(long position) {
-    return (B) duplicate().position(position);
+    Validator.newPosition(this, newPosition);
+    position = newPosition;
+    return (B) this;
   }
 
   @Override
   public B rewind() {
-    return (B) delegate.position(start);
+    position = 0;
+    return (B) this;
   }
 
   @Override
@@ -86,46 +100,101 @@ public class DataBufferView<T, B extends DataBuffer<T>> implements DataBuffer<T>
 
   @Override
   public T get() {
-    return delegate.get();
+    if (!hasRemaining()) {
+      throw new BufferUnderflowException();
+    }
+    return delegate.get(start + position++);
   }
 
   @Override
   public T get(long index) {
-    return delegate.get(index + start);
-  }
-
-  @Override
-  public Stream<T> stream() {
-    // TODO
-    throw new UnsupportedOperationException();
+    Validator.getArgs(this, index);
+    return delegate.get(start + index);
   }
 
   @Override
   public B put(T value) {
-    return (B) delegate.put(value);
+    if (!hasRemaining()) {
+      throw new BufferOverflowException();
+    }
+    if (isReadOnly()) {
+      throw new ReadOnlyBufferException();
+    }
+    delegate.put(start + position++, value);
+    return (B) this;
   }
 
   @Override
   public B put(long index, T value) {
-    return (B) delegate.put(index + start, value);
+    Validator.putArgs(this, index);
+    delegate.put(start + index, value);
+    return (B) this;
   }
 
   @Override
   public B put(DataBuffer<T> src) {
-    return (B) delegate.put(src);
+    Validator.putArgs(this, src);
+    long length = src.remaining();
+    window(length).put(src);
+    position += length;
+    return (B) this;
+  }
+
+  @Override
+  public B fill(long fromIndex, long toIndex, T value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    delegate.fill(fromIndex + start, toIndex + start, value);
+    return (B) this;
   }
 
   @Override
   public DataBuffer<T> duplicate() {
-    return new DataBufferView(delegate.duplicate(), start, end);
+    return new DataBufferView<>(delegate, start, end, position, limit);
   }
 
   @Override
   public DataBuffer<T> slice() {
-    return new DataBufferView(delegate.duplicate(), position(), limit());
+    return new DataBufferView<>(delegate, start + position, start + limit);
+  }
+
+  protected DataBufferView(B delegate, long start, long end, long position, long limit) {
+    this.delegate = delegate;
+    this.start = start;
+    this.end = end;
+    this.position = position;
+    this.limit = limit;
+  }
+
+  @Override
+  protected boolean copyTo(DataBuffer<T> dst) {
+    long length = remaining();
+    dst.put(window(length));
+    position += length;
+    return true;
+  }
+
+  @Override
+  protected ByteBuffer[] byteBuffers(ByteOrder order) {
+    return ChannelTransfer.byteBuffers(window(remaining()), order);
+  }
+
+  /**
+   * Returns a duplicate of the delegate buffer restricted to the next {@code length} values of
+   * this view, starting at its current position.
+   * <p>
+   * The position of this view is not modified.
+   */
+  protected B window(long length) {
+    B window = (B) delegate.duplicate();
+    window.limit(start + position + length);
+    window.position(start + position);
+    return window;
   }
 
   protected final B delegate;
   protected final long start;
   protected final long end;
+
+  private long position;
+  private long limit;
 }
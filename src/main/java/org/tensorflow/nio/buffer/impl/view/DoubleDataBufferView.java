@@ -16,40 +16,75 @@
  */
 package org.tensorflow.nio.buffer.impl.view;
 
-import java.util.stream.DoubleStream;
-
 import org.tensorflow.nio.buffer.DoubleDataBuffer;
+import org.tensorflow.nio.buffer.impl.UncheckedAccess;
+import org.tensorflow.nio.buffer.impl.Validator;
 
 public class DoubleDataBufferView extends DataBufferView<Double, DoubleDataBuffer> implements
-    DoubleDataBuffer {
+    DoubleDataBuffer, UncheckedAccess.DoubleAccess {
 
   public DoubleDataBufferView(DoubleDataBuffer delegate, long start, long end) {
     super(delegate, start, end);
   }
 
   @Override
-  public DoubleStream doubleStream() {
-    // TODO
-    throw new UnsupportedOperationException();
+  public DoubleDataBuffer get(double[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    window(length).get(dst, offset, length);
+    position(position() + length);
+    return this;
   }
 
   @Override
-  public DoubleDataBuffer get(double[] dst, int offset, int length) {
-    return delegate.get(dst, offset, length);
+  public double getDouble(long index) {
+    Validator.getArgs(this, index);
+    return delegate.getDouble(index + start);
+  }
+
+  @Override
+  public DoubleDataBuffer setDouble(long index, double value) {
+    Validator.putArgs(this, index);
+    delegate.setDouble(index + start, value);
+    return this;
+  }
+
+  @Override
+  public double getDoubleUnchecked(long index) {
+    return UncheckedAccess.getDouble(delegate, index + start);
+  }
+
+  @Override
+  public void setDoubleUnchecked(long index, double value) {
+    UncheckedAccess.setDouble(delegate, index + start, value);
+  }
+
+  @Override
+  public DoubleDataBuffer fill(long fromIndex, long toIndex, double value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    delegate.fill(fromIndex + start, toIndex + start, value);
+    return this;
   }
 
   @Override
   public DoubleDataBuffer put(double[] src, int offset, int length) {
-    return delegate.put(src, offset, length);
+    Validator.putArrayArgs(this, src.length, offset, length);
+    window(length).put(src, offset, length);
+    position(position() + length);
+    return this;
   }
 
   @Override
   public DoubleDataBuffer duplicate() {
-    return new DoubleDataBufferView(delegate.duplicate(), start, end);
+    return new DoubleDataBufferView(delegate, start, end, position(), limit());
   }
 
   @Override
   public DoubleDataBuffer slice() {
-    return new DoubleDataBufferView(delegate.duplicate(), position(), limit());
+    return new DoubleDataBufferView(delegate, start + position(), start + limit());
+  }
+
+  private DoubleDataBufferView(DoubleDataBuffer delegate, long start, long end, long position,
+      long limit) {
+    super(delegate, start, end, position, limit);
   }
 }
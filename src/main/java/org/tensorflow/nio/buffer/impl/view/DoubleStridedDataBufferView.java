@@ -0,0 +1,133 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.view;
+
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.DoubleDataBuffer;
+import org.tensorflow.nio.buffer.impl.Validator;
+
+public class DoubleStridedDataBufferView extends StridedDataBufferView<Double, DoubleDataBuffer>
+    implements DoubleDataBuffer {
+
+  public DoubleStridedDataBufferView(DoubleDataBuffer delegate, long offset, long stride,
+      long count) {
+    super(delegate, offset, stride, count);
+  }
+
+  @Override
+  public DoubleDataBuffer get(double[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    long index = delegateIndex(position());
+    for (int i = offset; i < offset + length; ++i, index += stride) {
+      dst[i] = delegate.getDouble(index);
+    }
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public double getDouble(long index) {
+    Validator.getArgs(this, index);
+    return delegate.getDouble(delegateIndex(index));
+  }
+
+  @Override
+  public DoubleDataBuffer setDouble(long index, double value) {
+    Validator.putArgs(this, index);
+    delegate.setDouble(delegateIndex(index), value);
+    return this;
+  }
+
+  @Override
+  public DoubleDataBuffer fill(long fromIndex, long toIndex, double value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    for (long index = delegateIndex(fromIndex); fromIndex < toIndex; ++fromIndex, index += stride) {
+      delegate.setDouble(index, value);
+    }
+    return this;
+  }
+
+  @Override
+  public DoubleDataBuffer put(double[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    long index = delegateIndex(position());
+    for (int i = offset; i < offset + length; ++i, index += stride) {
+      delegate.setDouble(index, src[i]);
+    }
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public DoubleDataBuffer put(DataBuffer<Double> src) {
+    if (src instanceof DoubleDataBuffer) {
+      Validator.putArgs(this, src);
+      DoubleDataBuffer doubleSrc = (DoubleDataBuffer) src;
+      long srcPosition = src.position();
+      long length = src.remaining();
+      long index = delegateIndex(position());
+      for (long i = 0; i < length; ++i, index += stride) {
+        delegate.setDouble(index, doubleSrc.getDouble(srcPosition + i));
+      }
+      src.position(srcPosition + length);
+      position(position() + length);
+      return this;
+    }
+    return super.put(src);
+  }
+
+  @Override
+  public DoubleDataBuffer duplicate() {
+    return new DoubleStridedDataBufferView(delegate, offset, stride, count, position(), limit());
+  }
+
+  @Override
+  public DoubleDataBuffer slice() {
+    long remaining = remaining();
+    return new DoubleStridedDataBufferView(delegate, delegateIndex(position()), stride, remaining,
+        0, remaining);
+  }
+
+  @Override
+  public DoubleDataBuffer strided(long offset, long stride, long count) {
+    Validator.stridedArgs(this, offset, stride, count);
+    return new DoubleStridedDataBufferView(delegate, delegateIndex(offset), this.stride * stride,
+        count, 0, count);
+  }
+
+  @Override
+  protected boolean copyTo(DataBuffer<Double> dst) {
+    if (dst instanceof DoubleDataBuffer) {
+      DoubleDataBuffer doubleDst = (DoubleDataBuffer) dst;
+      long dstPosition = dst.position();
+      long length = remaining();
+      long index = delegateIndex(position());
+      for (long i = 0; i < length; ++i, index += stride) {
+        doubleDst.setDouble(dstPosition + i, delegate.getDouble(index));
+      }
+      dst.position(dstPosition + length);
+      position(position() + length);
+      return true;
+    }
+    return super.copyTo(dst);
+  }
+
+  private DoubleStridedDataBufferView(DoubleDataBuffer delegate, long offset, long stride,
+      long count, long position, long limit) {
+    super(delegate, offset, stride, count, position, limit);
+  }
+}
@@ -17,9 +17,11 @@
 package org.tensorflow.nio.buffer.impl.view;
 
 import org.tensorflow.nio.buffer.FloatDataBuffer;
+import org.tensorflow.nio.buffer.impl.UncheckedAccess;
+import org.tensorflow.nio.buffer.impl.Validator;
 
 public class FloatDataBufferView extends DataBufferView<Float, FloatDataBuffer> implements
-    FloatDataBuffer {
+    FloatDataBuffer, UncheckedAccess.FloatAccess {
 
   public FloatDataBufferView(FloatDataBuffer delegate, long start, long end) {
     super(delegate, start, end);
@@ -27,21 +29,62 @@ public class FloatDataBufferView extends DataBufferView<Float, FloatDataBuffer>
 
   @Override
   public FloatDataBuffer get(float[] dst, int offset, int length) {
-    return delegate.get(dst, offset, length);
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    window(length).get(dst, offset, length);
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public float getFloat(long index) {
+    Validator.getArgs(this, index);
+    return delegate.getFloat(index + start);
+  }
+
+  @Override
+  public FloatDataBuffer setFloat(long index, float value) {
+    Validator.putArgs(this, index);
+    delegate.setFloat(index + start, value);
+    return this;
+  }
+
+  @Override
+  public float getFloatUnchecked(long index) {
+    return UncheckedAccess.getFloat(delegate, index + start);
+  }
+
+  @Override
+  public void setFloatUnchecked(long index, float value) {
+    UncheckedAccess.setFloat(delegate, index + start, value);
+  }
+
+  @Override
+  public FloatDataBuffer fill(long fromIndex, long toIndex, float value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    delegate.fill(fromIndex + start, toIndex + start, value);
+    return this;
   }
 
   @Override
   public FloatDataBuffer put(float[] src, int offset, int length) {
-    return delegate.put(src, offset, length);
+    Validator.putArrayArgs(this, src.length, offset, length);
+    window(length).put(src, offset, length);
+    position(position() + length);
+    return this;
   }
 
   @Override
   public FloatDataBuffer duplicate() {
-    return new FloatDataBufferView(delegate.duplicate(), start, end);
+    return new FloatDataBufferView(delegate, start, end, position(), limit());
   }
 
   @Override
   public FloatDataBuffer slice() {
-    return new FloatDataBufferView(delegate.duplicate(), position(), limit());
+    return new FloatDataBufferView(delegate, start + position(), start + limit());
+  }
+
+  private FloatDataBufferView(FloatDataBuffer delegate, long start, long end, long position,
+      long limit) {
+    super(delegate, start, end, position, limit);
   }
 }
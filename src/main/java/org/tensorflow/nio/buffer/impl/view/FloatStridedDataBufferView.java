@@ -0,0 +1,133 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.view;
+
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.FloatDataBuffer;
+import org.tensorflow.nio.buffer.impl.Validator;
+
+public class FloatStridedDataBufferView extends StridedDataBufferView<Float, FloatDataBuffer>
+    implements FloatDataBuffer {
+
+  public FloatStridedDataBufferView(FloatDataBuffer delegate, long offset, long stride,
+      long count) {
+    super(delegate, offset, stride, count);
+  }
+
+  @Override
+  public FloatDataBuffer get(float[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    long index = delegateIndex(position());
+    for (int i = offset; i < offset + length; ++i, index += stride) {
+      dst[i] = delegate.getFloat(index);
+    }
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public float getFloat(long index) {
+    Validator.getArgs(this, index);
+    return delegate.getFloat(delegateIndex(index));
+  }
+
+  @Override
+  public FloatDataBuffer setFloat(long index, float value) {
+    Validator.putArgs(this, index);
+    delegate.setFloat(delegateIndex(index), value);
+    return this;
+  }
+
+  @Override
+  public FloatDataBuffer fill(long fromIndex, long toIndex, float value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    for (long index = delegateIndex(fromIndex); fromIndex < toIndex; ++fromIndex, index += stride) {
+      delegate.setFloat(index, value);
+    }
+    return this;
+  }
+
+  @Override
+  public FloatDataBuffer put(float[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    long index = delegateIndex(position());
+    for (int i = offset; i < offset + length; ++i, index += stride) {
+      delegate.setFloat(index, src[i]);
+    }
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public FloatDataBuffer put(DataBuffer<Float> src) {
+    if (src instanceof FloatDataBuffer) {
+      Validator.putArgs(this, src);
+      FloatDataBuffer floatSrc = (FloatDataBuffer) src;
+      long srcPosition = src.position();
+      long length = src.remaining();
+      long index = delegateIndex(position());
+      for (long i = 0; i < length; ++i, index += stride) {
+        delegate.setFloat(index, floatSrc.getFloat(srcPosition + i));
+      }
+      src.position(srcPosition + length);
+      position(position() + length);
+      return this;
+    }
+    return super.put(src);
+  }
+
+  @Override
+  public FloatDataBuffer duplicate() {
+    return new FloatStridedDataBufferView(delegate, offset, stride, count, position(), limit());
+  }
+
+  @Override
+  public FloatDataBuffer slice() {
+    long remaining = remaining();
+    return new FloatStridedDataBufferView(delegate, delegateIndex(position()), stride, remaining,
+        0, remaining);
+  }
+
+  @Override
+  public FloatDataBuffer strided(long offset, long stride, long count) {
+    Validator.stridedArgs(this, offset, stride, count);
+    return new FloatStridedDataBufferView(delegate, delegateIndex(offset), this.stride * stride,
+        count, 0, count);
+  }
+
+  @Override
+  protected boolean copyTo(DataBuffer<Float> dst) {
+    if (dst instanceof FloatDataBuffer) {
+      FloatDataBuffer floatDst = (FloatDataBuffer) dst;
+      long dstPosition = dst.position();
+      long length = remaining();
+      long index = delegateIndex(position());
+      for (long i = 0; i < length; ++i, index += stride) {
+        floatDst.setFloat(dstPosition + i, delegate.getFloat(index));
+      }
+      dst.position(dstPosition + length);
+      position(position() + length);
+      return true;
+    }
+    return super.copyTo(dst);
+  }
+
+  private FloatStridedDataBufferView(FloatDataBuffer delegate, long offset, long stride,
+      long count, long position, long limit) {
+    super(delegate, offset, stride, count, position, limit);
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.view;
+
+import org.tensorflow.nio.buffer.HalfDataBuffer;
+import org.tensorflow.nio.buffer.impl.Validator;
+
+public class HalfDataBufferView extends DataBufferView<Float, HalfDataBuffer> implements
+    HalfDataBuffer {
+
+  public HalfDataBufferView(HalfDataBuffer delegate, long start, long end) {
+    super(delegate, start, end);
+  }
+
+  @Override
+  public HalfDataBuffer get(float[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    window(length).get(dst, offset, length);
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public float getFloat(long index) {
+    Validator.getArgs(this, index);
+    return delegate.getFloat(index + start);
+  }
+
+  @Override
+  public short getHalf(long index) {
+    Validator.getArgs(this, index);
+    return delegate.getHalf(index + start);
+  }
+
+  @Override
+  public HalfDataBuffer setFloat(long index, float value) {
+    Validator.putArgs(this, index);
+    delegate.setFloat(index + start, value);
+    return this;
+  }
+
+  @Override
+  public HalfDataBuffer setHalf(long index, short value) {
+    Validator.putArgs(this, index);
+    delegate.setHalf(index + start, value);
+    return this;
+  }
+
+  @Override
+  public HalfDataBuffer fill(long fromIndex, long toIndex, float value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    delegate.fill(fromIndex + start, toIndex + start, value);
+    return this;
+  }
+
+  @Override
+  public HalfDataBuffer put(float[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    window(length).put(src, offset, length);
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public HalfDataBuffer duplicate() {
+    return new HalfDataBufferView(delegate, start, end, position(), limit());
+  }
+
+  @Override
+  public HalfDataBuffer slice() {
+    return new HalfDataBufferView(delegate, start + position(), start + limit());
+  }
+
+  private HalfDataBufferView(HalfDataBuffer delegate, long start, long end, long position,
+      long limit) {
+    super(delegate, start, end, position, limit);
+  }
+}
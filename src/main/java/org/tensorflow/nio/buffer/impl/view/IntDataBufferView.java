@@ -16,40 +16,75 @@
  */
 package org.tensorflow.nio.buffer.impl.view;
 
-import java.util.stream.IntStream;
-
 import org.tensorflow.nio.buffer.IntDataBuffer;
+import org.tensorflow.nio.buffer.impl.UncheckedAccess;
+import org.tensorflow.nio.buffer.impl.Validator;
 
 public class IntDataBufferView extends DataBufferView<Integer, IntDataBuffer> implements
-    IntDataBuffer {
+    IntDataBuffer, UncheckedAccess.IntAccess {
 
   public IntDataBufferView(IntDataBuffer delegate, long start, long end) {
     super(delegate, start, end);
   }
 
   @Override
-  public IntStream intStream() {
-    // TODO
-    throw new UnsupportedOperationException();
+  public IntDataBuffer get(int[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    window(length).get(dst, offset, length);
+    position(position() + length);
+    return this;
   }
 
   @Override
-  public IntDataBuffer get(int[] dst, int offset, int length) {
-    return delegate.get(dst, offset, length);
+  public int getInt(long index) {
+    Validator.getArgs(this, index);
+    return delegate.getInt(index + start);
+  }
+
+  @Override
+  public IntDataBuffer setInt(long index, int value) {
+    Validator.putArgs(this, index);
+    delegate.setInt(index + start, value);
+    return this;
+  }
+
+  @Override
+  public int getIntUnchecked(long index) {
+    return UncheckedAccess.getInt(delegate, index + start);
+  }
+
+  @Override
+  public void setIntUnchecked(long index, int value) {
+    UncheckedAccess.setInt(delegate, index + start, value);
+  }
+
+  @Override
+  public IntDataBuffer fill(long fromIndex, long toIndex, int value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    delegate.fill(fromIndex + start, toIndex + start, value);
+    return this;
   }
 
   @Override
   public IntDataBuffer put(int[] src, int offset, int length) {
-    return delegate.put(src, offset, length);
+    Validator.putArrayArgs(this, src.length, offset, length);
+    window(length).put(src, offset, length);
+    position(position() + length);
+    return this;
   }
 
   @Override
   public IntDataBuffer duplicate() {
-    return new IntDataBufferView(delegate.duplicate(), start, end);
+    return new IntDataBufferView(delegate, start, end, position(), limit());
   }
 
   @Override
   public IntDataBuffer slice() {
-    return new IntDataBufferView(delegate.duplicate(), position(), limit());
+    return new IntDataBufferView(delegate, start + position(), start + limit());
+  }
+
+  private IntDataBufferView(IntDataBuffer delegate, long start, long end, long position,
+      long limit) {
+    super(delegate, start, end, position, limit);
   }
 }
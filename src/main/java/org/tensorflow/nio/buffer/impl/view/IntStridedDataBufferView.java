@@ -0,0 +1,133 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.view;
+
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.IntDataBuffer;
+import org.tensorflow.nio.buffer.impl.Validator;
+
+public class IntStridedDataBufferView extends StridedDataBufferView<Integer, IntDataBuffer>
+    implements IntDataBuffer {
+
+  public IntStridedDataBufferView(IntDataBuffer delegate, long offset, long stride,
+      long count) {
+    super(delegate, offset, stride, count);
+  }
+
+  @Override
+  public IntDataBuffer get(int[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    long index = delegateIndex(position());
+    for (int i = offset; i < offset + length; ++i, index += stride) {
+      dst[i] = delegate.getInt(index);
+    }
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public int getInt(long index) {
+    Validator.getArgs(this, index);
+    return delegate.getInt(delegateIndex(index));
+  }
+
+  @Override
+  public IntDataBuffer setInt(long index, int value) {
+    Validator.putArgs(this, index);
+    delegate.setInt(delegateIndex(index), value);
+    return this;
+  }
+
+  @Override
+  public IntDataBuffer fill(long fromIndex, long toIndex, int value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    for (long index = delegateIndex(fromIndex); fromIndex < toIndex; ++fromIndex, index += stride) {
+      delegate.setInt(index, value);
+    }
+    return this;
+  }
+
+  @Override
+  public IntDataBuffer put(int[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    long index = delegateIndex(position());
+    for (int i = offset; i < offset + length; ++i, index += stride) {
+      delegate.setInt(index, src[i]);
+    }
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public IntDataBuffer put(DataBuffer<Integer> src) {
+    if (src instanceof IntDataBuffer) {
+      Validator.putArgs(this, src);
+      IntDataBuffer intSrc = (IntDataBuffer) src;
+      long srcPosition = src.position();
+      long length = src.remaining();
+      long index = delegateIndex(position());
+      for (long i = 0; i < length; ++i, index += stride) {
+        delegate.setInt(index, intSrc.getInt(srcPosition + i));
+      }
+      src.position(srcPosition + length);
+      position(position() + length);
+      return this;
+    }
+    return super.put(src);
+  }
+
+  @Override
+  public IntDataBuffer duplicate() {
+    return new IntStridedDataBufferView(delegate, offset, stride, count, position(), limit());
+  }
+
+  @Override
+  public IntDataBuffer slice() {
+    long remaining = remaining();
+    return new IntStridedDataBufferView(delegate, delegateIndex(position()), stride, remaining,
+        0, remaining);
+  }
+
+  @Override
+  public IntDataBuffer strided(long offset, long stride, long count) {
+    Validator.stridedArgs(this, offset, stride, count);
+    return new IntStridedDataBufferView(delegate, delegateIndex(offset), this.stride * stride,
+        count, 0, count);
+  }
+
+  @Override
+  protected boolean copyTo(DataBuffer<Integer> dst) {
+    if (dst instanceof IntDataBuffer) {
+      IntDataBuffer intDst = (IntDataBuffer) dst;
+      long dstPosition = dst.position();
+      long length = remaining();
+      long index = delegateIndex(position());
+      for (long i = 0; i < length; ++i, index += stride) {
+        intDst.setInt(dstPosition + i, delegate.getInt(index));
+      }
+      dst.position(dstPosition + length);
+      position(position() + length);
+      return true;
+    }
+    return super.copyTo(dst);
+  }
+
+  private IntStridedDataBufferView(IntDataBuffer delegate, long offset, long stride,
+      long count, long position, long limit) {
+    super(delegate, offset, stride, count, position, limit);
+  }
+}
@@ -16,40 +16,75 @@
  */
 package org.tensorflow.nio.buffer.impl.view;
 
-import java.util.stream.LongStream;
-
 import org.tensorflow.nio.buffer.LongDataBuffer;
+import org.tensorflow.nio.buffer.impl.UncheckedAccess;
+import org.tensorflow.nio.buffer.impl.Validator;
 
 public class LongDataBufferView extends DataBufferView<Long, LongDataBuffer> implements
-    LongDataBuffer {
+    LongDataBuffer, UncheckedAccess.LongAccess {
 
   public LongDataBufferView(LongDataBuffer delegate, long start, long end) {
     super(delegate, start, end);
   }
 
   @Override
-  public LongStream longStream() {
-    // TODO
-    throw new UnsupportedOperationException();
+  public LongDataBuffer get(long[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    window(length).get(dst, offset, length);
+    position(position() + length);
+    return this;
   }
 
   @Override
-  public LongDataBuffer get(long[] dst, int offset, int length) {
-    return delegate.get(dst, offset, length);
+  public long getLong(long index) {
+    Validator.getArgs(this, index);
+    return delegate.getLong(index + start);
+  }
+
+  @Override
+  public LongDataBuffer setLong(long index, long value) {
+    Validator.putArgs(this, index);
+    delegate.setLong(index + start, value);
+    return this;
+  }
+
+  @Override
+  public long getLongUnchecked(long index) {
+    return UncheckedAccess.getLong(delegate, index + start);
+  }
+
+  @Override
+  public void setLongUnchecked(long index, long value) {
+    UncheckedAccess.setLong(delegate, index + start, value);
+  }
+
+  @Override
+  public LongDataBuffer fill(long fromIndex, long toIndex, long value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    delegate.fill(fromIndex + start, toIndex + start, value);
+    return this;
   }
 
   @Override
   public LongDataBuffer put(long[] src, int offset, int length) {
-    return delegate.put(src, offset, length);
+    Validator.putArrayArgs(this, src.length, offset, length);
+    window(length).put(src, offset, length);
+    position(position() + length);
+    return this;
   }
 
   @Override
   public LongDataBuffer duplicate() {
-    return new LongDataBufferView(delegate.duplicate(), start, end);
+    return new LongDataBufferView(delegate, start, end, position(), limit());
   }
 
   @Override
   public LongDataBuffer slice() {
-    return new LongDataBufferView(delegate.duplicate(), position(), limit());
+    return new LongDataBufferView(delegate, start + position(), start + limit());
+  }
+
+  private LongDataBufferView(LongDataBuffer delegate, long start, long end, long position,
+      long limit) {
+    super(delegate, start, end, position, limit);
   }
 }
@@ -0,0 +1,133 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.view;
+
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.LongDataBuffer;
+import org.tensorflow.nio.buffer.impl.Validator;
+
+public class LongStridedDataBufferView extends StridedDataBufferView<Long, LongDataBuffer>
+    implements LongDataBuffer {
+
+  public LongStridedDataBufferView(LongDataBuffer delegate, long offset, long stride,
+      long count) {
+    super(delegate, offset, stride, count);
+  }
+
+  @Override
+  public LongDataBuffer get(long[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    long index = delegateIndex(position());
+    for (int i = offset; i < offset + length; ++i, index += stride) {
+      dst[i] = delegate.getLong(index);
+    }
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public long getLong(long index) {
+    Validator.getArgs(this, index);
+    return delegate.getLong(delegateIndex(index));
+  }
+
+  @Override
+  public LongDataBuffer setLong(long index, long value) {
+    Validator.putArgs(this, index);
+    delegate.setLong(delegateIndex(index), value);
+    return this;
+  }
+
+  @Override
+  public LongDataBuffer fill(long fromIndex, long toIndex, long value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    for (long index = delegateIndex(fromIndex); fromIndex < toIndex; ++fromIndex, index += stride) {
+      delegate.setLong(index, value);
+    }
+    return this;
+  }
+
+  @Override
+  public LongDataBuffer put(long[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    long index = delegateIndex(position());
+    for (int i = offset; i < offset + length; ++i, index += stride) {
+      delegate.setLong(index, src[i]);
+    }
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public LongDataBuffer put(DataBuffer<Long> src) {
+    if (src instanceof LongDataBuffer) {
+      Validator.putArgs(this, src);
+      LongDataBuffer longSrc = (LongDataBuffer) src;
+      long srcPosition = src.position();
+      long length = src.remaining();
+      long index = delegateIndex(position());
+      for (long i = 0; i < length; ++i, index += stride) {
+        delegate.setLong(index, longSrc.getLong(srcPosition + i));
+      }
+      src.position(srcPosition + length);
+      position(position() + length);
+      return this;
+    }
+    return super.put(src);
+  }
+
+  @Override
+  public LongDataBuffer duplicate() {
+    return new LongStridedDataBufferView(delegate, offset, stride, count, position(), limit());
+  }
+
+  @Override
+  public LongDataBuffer slice() {
+    long remaining = remaining();
+    return new LongStridedDataBufferView(delegate, delegateIndex(position()), stride, remaining,
+        0, remaining);
+  }
+
+  @Override
+  public LongDataBuffer strided(long offset, long stride, long count) {
+    Validator.stridedArgs(this, offset, stride, count);
+    return new LongStridedDataBufferView(delegate, delegateIndex(offset), this.stride * stride,
+        count, 0, count);
+  }
+
+  @Override
+  protected boolean copyTo(DataBuffer<Long> dst) {
+    if (dst instanceof LongDataBuffer) {
+      LongDataBuffer longDst = (LongDataBuffer) dst;
+      long dstPosition = dst.position();
+      long length = remaining();
+      long index = delegateIndex(position());
+      for (long i = 0; i < length; ++i, index += stride) {
+        longDst.setLong(dstPosition + i, delegate.getLong(index));
+      }
+      dst.position(dstPosition + length);
+      position(position() + length);
+      return true;
+    }
+    return super.copyTo(dst);
+  }
+
+  private LongStridedDataBufferView(LongDataBuffer delegate, long offset, long stride,
+      long count, long position, long limit) {
+    super(delegate, offset, stride, count, position, limit);
+  }
+}
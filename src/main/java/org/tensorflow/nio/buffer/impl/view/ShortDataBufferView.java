@@ -0,0 +1,90 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.view;
+
+import org.tensorflow.nio.buffer.ShortDataBuffer;
+import org.tensorflow.nio.buffer.impl.UncheckedAccess;
+import org.tensorflow.nio.buffer.impl.Validator;
+
+public class ShortDataBufferView extends DataBufferView<Short, ShortDataBuffer> implements
+    ShortDataBuffer, UncheckedAccess.ShortAccess {
+
+  public ShortDataBufferView(ShortDataBuffer delegate, long start, long end) {
+    super(delegate, start, end);
+  }
+
+  @Override
+  public ShortDataBuffer get(short[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    window(length).get(dst, offset, length);
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public short getShort(long index) {
+    Validator.getArgs(this, index);
+    return delegate.getShort(index + start);
+  }
+
+  @Override
+  public ShortDataBuffer setShort(long index, short value) {
+    Validator.putArgs(this, index);
+    delegate.setShort(index + start, value);
+    return this;
+  }
+
+  @Override
+  public short getShortUnchecked(long index) {
+    return UncheckedAccess.getShort(delegate, index + start);
+  }
+
+  @Override
+  public void setShortUnchecked(long index, short value) {
+    UncheckedAccess.setShort(delegate, index + start, value);
+  }
+
+  @Override
+  public ShortDataBuffer fill(long fromIndex, long toIndex, short value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    delegate.fill(fromIndex + start, toIndex + start, value);
+    return this;
+  }
+
+  @Override
+  public ShortDataBuffer put(short[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    window(length).put(src, offset, length);
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public ShortDataBuffer duplicate() {
+    return new ShortDataBufferView(delegate, start, end, position(), limit());
+  }
+
+  @Override
+  public ShortDataBuffer slice() {
+    return new ShortDataBufferView(delegate, start + position(), start + limit());
+  }
+
+  private ShortDataBufferView(ShortDataBuffer delegate, long start, long end, long position,
+      long limit) {
+    super(delegate, start, end, position, limit);
+  }
+}
@@ -0,0 +1,240 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.view;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ReadOnlyBufferException;
+
+import org.tensorflow.nio.buffer.BFloat16DataBuffer;
+import org.tensorflow.nio.buffer.BooleanDataBuffer;
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.HalfDataBuffer;
+import org.tensorflow.nio.buffer.impl.AbstractDataBuffer;
+import org.tensorflow.nio.buffer.impl.Validator;
+
+/**
+ * A view on values of another buffer located at regular intervals.
+ * <p>
+ * The value at index {@code i} of a strided view is the value at index {@code offset + i * stride}
+ * of the buffer it delegates to, so a column of a row-major matrix or a channel of interleaved
+ * data can be accessed without being copied. Like {@link DataBufferView}, strided views keep their
+ * own position and limit and access the values of the delegate buffer only by index. Bulk
+ * transfers gather or scatter values in a single loop over their indices, with the primitive
+ * accessors of their type when both buffers have the same.
+ *
+ * @param <T> type of elements (or values) stored in this buffer
+ * @param <B> the {@link DataBuffer} variant implemented by the subclass extending this base class
+ */
+@SuppressWarnings("unchecked")
+public class StridedDataBufferView<T, B extends DataBuffer<T>> extends AbstractDataBuffer<T, B> {
+
+  public StridedDataBufferView(B delegate, long offset, long stride, long count) {
+    this(delegate, offset, stride, count, 0, count);
+    Validator.stridedArgs(delegate, offset, stride, count);
+  }
+
+  @Override
+  public long capacity() {
+    return count;
+  }
+
+  @Override
+  public long limit() {
+    return limit;
+  }
+
+  @Override
+  public B limit(long newLimit) {
+    Validator.newLimit(this, newLimit);
+    limit = newLimit;
+    if (position > limit) {
+      position = limit;
+    }
+    return (B) this;
+  }
+
+  @Override
+  public boolean hasRemaining() {
+    return position < limit;
+  }
+
+  @Override
+  public long remaining() {
+    return limit - position;
+  }
+
+  @Override
+  public long position() {
+    return position;
+  }
+
+  @Override
+  public B position(long newPosition) {
+    Validator.newPosition(this, newPosition);
+    position = newPosition;
+    return (B) this;
+  }
+
+  @Override
+  public B rewind() {
+    position = 0;
+    return (B) this;
+  }
+
+  @Override
+  public boolean isReadOnly() {
+    return delegate.isReadOnly();
+  }
+
+  @Override
+  public T get() {
+    if (!hasRemaining()) {
+      throw new BufferUnderflowException();
+    }
+    return delegate.get(delegateIndex(position++));
+  }
+
+  @Override
+  public T get(long index) {
+    Validator.getArgs(this, index);
+    return delegate.get(delegateIndex(index));
+  }
+
+  @Override
+  public B put(T value) {
+    if (!hasRemaining()) {
+      throw new BufferOverflowException();
+    }
+    if (isReadOnly()) {
+      throw new ReadOnlyBufferException();
+    }
+    delegate.put(delegateIndex(position++), value);
+    return (B) this;
+  }
+
+  @Override
+  public B put(long index, T value) {
+    Validator.putArgs(this, index);
+    delegate.put(delegateIndex(index), value);
+    return (B) this;
+  }
+
+  @Override
+  public B put(DataBuffer<T> src) {
+    Validator.putArgs(this, src);
+    long srcPosition = src.position();
+    long length = src.remaining();
+    copyValues(src, srcPosition, 1, delegate, delegateIndex(position), stride, length);
+    src.position(srcPosition + length);
+    position += length;
+    return (B) this;
+  }
+
+  @Override
+  public B fill(long fromIndex, long toIndex, T value) {
+    Validator.fillArgs(this, fromIndex, toIndex);
+    for (long index = delegateIndex(fromIndex); fromIndex < toIndex; ++fromIndex, index += stride) {
+      delegate.put(index, value);
+    }
+    return (B) this;
+  }
+
+  @Override
+  public DataBuffer<T> duplicate() {
+    return new StridedDataBufferView<>(delegate, offset, stride, count, position, limit);
+  }
+
+  @Override
+  public DataBuffer<T> slice() {
+    return new StridedDataBufferView<>(delegate, delegateIndex(position), stride,
+        limit - position, 0, limit - position);
+  }
+
+  @Override
+  public DataBuffer<T> strided(long offset, long stride, long count) {
+    Validator.stridedArgs(this, offset, stride, count);
+    return new StridedDataBufferView<>(delegate, delegateIndex(offset), this.stride * stride,
+        count, 0, count);
+  }
+
+  protected StridedDataBufferView(B delegate, long offset, long stride, long count,
+      long position, long limit) {
+    this.delegate = delegate;
+    this.offset = offset;
+    this.stride = stride;
+    this.count = count;
+    this.position = position;
+    this.limit = limit;
+  }
+
+  @Override
+  protected boolean copyTo(DataBuffer<T> dst) {
+    long dstPosition = dst.position();
+    long length = remaining();
+    copyValues(delegate, delegateIndex(position), stride, dst, dstPosition, 1, length);
+    dst.position(dstPosition + length);
+    position += length;
+    return true;
+  }
+
+  /**
+   * Returns the index in the delegate buffer of the value at the given index of this view.
+   */
+  protected long delegateIndex(long index) {
+    return offset + index * stride;
+  }
+
+  /**
+   * Copies values at regular intervals between two buffers, with the primitive accessors of their
+   * type when both buffers have the same.
+   */
+  private static <T> void copyValues(DataBuffer<T> src, long srcIndex, long srcStride,
+      DataBuffer<T> dst, long dstIndex, long dstStride, long length) {
+    if (src instanceof BooleanDataBuffer && dst instanceof BooleanDataBuffer) {
+      BooleanDataBuffer booleanSrc = (BooleanDataBuffer) src;
+      BooleanDataBuffer booleanDst = (BooleanDataBuffer) dst;
+      for (long i = 0; i < length; ++i, srcIndex += srcStride, dstIndex += dstStride) {
+        booleanDst.setBoolean(dstIndex, booleanSrc.getBoolean(srcIndex));
+      }
+    } else if (src instanceof HalfDataBuffer && dst instanceof HalfDataBuffer) {
+      HalfDataBuffer halfSrc = (HalfDataBuffer) src;
+      HalfDataBuffer halfDst = (HalfDataBuffer) dst;
+      for (long i = 0; i < length; ++i, srcIndex += srcStride, dstIndex += dstStride) {
+        halfDst.setHalf(dstIndex, halfSrc.getHalf(srcIndex));
+      }
+    } else if (src instanceof BFloat16DataBuffer && dst instanceof BFloat16DataBuffer) {
+      BFloat16DataBuffer bfloat16Src = (BFloat16DataBuffer) src;
+      BFloat16DataBuffer bfloat16Dst = (BFloat16DataBuffer) dst;
+      for (long i = 0; i < length; ++i, srcIndex += srcStride, dstIndex += dstStride) {
+        bfloat16Dst.setBFloat16(dstIndex, bfloat16Src.getBFloat16(srcIndex));
+      }
+    } else {
+      for (long i = 0; i < length; ++i, srcIndex += srcStride, dstIndex += dstStride) {
+        dst.put(dstIndex, src.get(srcIndex));
+      }
+    }
+  }
+
+  protected final B delegate;
+  protected final long offset;
+  protected final long stride;
+  protected final long count;
+
+  private long position;
+  private long limit;
+}
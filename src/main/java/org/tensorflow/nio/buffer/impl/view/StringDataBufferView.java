@@ -0,0 +1,73 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.view;
+
+import org.tensorflow.nio.buffer.ByteDataBuffer;
+import org.tensorflow.nio.buffer.StringDataBuffer;
+import org.tensorflow.nio.buffer.impl.Validator;
+
+public class StringDataBufferView extends DataBufferView<String, StringDataBuffer> implements
+    StringDataBuffer {
+
+  public StringDataBufferView(StringDataBuffer delegate, long start, long end) {
+    super(delegate, start, end);
+  }
+
+  @Override
+  public StringDataBuffer get(String[] dst, int offset, int length) {
+    Validator.getArrayArgs(this, dst.length, offset, length);
+    window(length).get(dst, offset, length);
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public ByteDataBuffer getBytes(long index) {
+    Validator.getArgs(this, index);
+    return delegate.getBytes(index + start);
+  }
+
+  @Override
+  public StringDataBuffer put(String[] src, int offset, int length) {
+    Validator.putArrayArgs(this, src.length, offset, length);
+    window(length).put(src, offset, length);
+    position(position() + length);
+    return this;
+  }
+
+  @Override
+  public StringDataBuffer setBytes(long index, ByteDataBuffer bytes) {
+    Validator.putArgs(this, index);
+    delegate.setBytes(index + start, bytes);
+    return this;
+  }
+
+  @Override
+  public StringDataBuffer duplicate() {
+    return new StringDataBufferView(delegate, start, end, position(), limit());
+  }
+
+  @Override
+  public StringDataBuffer slice() {
+    return new StringDataBufferView(delegate, start + position(), start + limit());
+  }
+
+  private StringDataBufferView(StringDataBuffer delegate, long start, long end, long position,
+      long limit) {
+    super(delegate, start, end, position, limit);
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.nd;
+
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.DataBuffers;
+import org.tensorflow.nio.nd.index.Index;
+
+/**
+ * An {@link NdArray} of half-precision floats.
+ * <p>
+ * Values are read and written as floats, converted in bulk when transferred from or to a
+ * primitive {@code float[]}.
+ */
+public interface HalfNdArray extends NdArray<Float> {
+
+  /**
+   * Reads the content of this N-dimensional array into the destination float array.
+   *
+   * <p>The size of the destination array must be equal or greater to the {@link #size()} of this
+   * array, or an exception is thrown. After the copy, content of the both arrays can be altered
+   * independently, without affecting each other.
+   *
+   * @param dst the destination array
+   * @return this array
+   * @throws java.nio.BufferOverflowException if the destination array cannot hold the content of
+   * this array
+   */
+  default HalfNdArray read(float[] dst) {
+    return read(DataBuffers.wrap(dst, false));
+  }
+
+  /**
+   * Reads the content of this N-dimensional array into the destination float array.
+   *
+   * <p>{@code dst.length - offset} must be equal or greater to the {@link #size()} of this array,
+   * or an exception is thrown. After the copy, content of the both arrays can be altered
+   * independently, without affecting each other.
+   *
+   * @param dst the destination array
+   * @param offset the index of the first float to write in the destination array
+   * @return this array
+   * @throws java.nio.BufferOverflowException if the destination array cannot hold the content of
+   * this array
+   * @throws IllegalArgumentException if offset is greater than dst length or is negative
+   */
+  default HalfNdArray read(float[] dst, int offset) {
+    return read(DataBuffers.wrap(dst, false).position(offset));
+  }
+
+  /**
+   * Writes the content of this N-dimensional array from the source float array, rounding each
+   * value to the nearest half-precision value.
+   *
+   * <p>The size of the source array must be equal or greater to the {@link #size()} of this array,
+   * or an exception is thrown. After the copy, content of the both arrays can be altered
+   * independently, without affecting each other.
+   *
+   * @param src the source array
+   * @return this array
+   * @throws java.nio.BufferUnderflowException if the size of the source array is less than the size
+   * of this array
+   */
+  default HalfNdArray write(float[] src) {
+    return write(DataBuffers.wrap(src, false));
+  }
+
+  /**
+   * Writes the content of this N-dimensional array from the source float array, rounding each
+   * value to the nearest half-precision value.
+   *
+   * <p>{@code src.length - offset} must be equal or greater to the {@link #size()} of this array,
+   * or an exception is thrown. After the copy, content of the both arrays can be altered
+   * independently, without affecting each other.
+   *
+   * @param src the source array
+   * @param offset the index of the first float to read from the source array
+   * @return this array
+   * @throws java.nio.BufferUnderflowException if the size of the source array is less than the size
+   * of this array
+   * @throws IllegalArgumentException if offset is greater than src length or is negative
+   */
+  default HalfNdArray write(float[] src, int offset) {
+    return write(DataBuffers.wrap(src, false).position(offset));
+  }
+
+  @Override
+  HalfNdArray at(long... coordinates);
+
+  @Override
+  HalfNdArray slice(Index... indices);
+
+  @Override
+  Iterable<HalfNdArray> childElements();
+
+  @Override
+  HalfNdArray set(Float value, long... coordinates);
+
+  @Override
+  HalfNdArray copyTo(NdArray<Float> dst);
+
+  @Override
+  HalfNdArray copyFrom(NdArray<Float> src);
+
+  @Override
+  HalfNdArray read(DataBuffer<Float> dst);
+
+  @Override
+  HalfNdArray write(DataBuffer<Float> src);
+
+  @Override
+  HalfNdArray read(Float[] dst);
+
+  @Override
+  HalfNdArray read(Float[] dst, int offset);
+
+  @Override
+  HalfNdArray write(Float[] src);
+
+  @Override
+  HalfNdArray write(Float[] src, int offset);
+}
@@ -16,6 +16,10 @@
  */
 package org.tensorflow.nio.nd;
 
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
 import org.tensorflow.nio.buffer.DataBuffer;
 import org.tensorflow.nio.nd.index.Index;
 
@@ -347,4 +351,44 @@ public interface NdArray<T> {
    * @throws IllegalArgumentException if offset is greater than src length or is negative
    */
   NdArray<T> write(T[] src, int offset);
+
+  /**
+   * Loads asynchronously the content of this N-dimensional array from a file.
+   *
+   * <p>The file must contain at least {@link #size()} values, stored contiguously from its
+   * beginning in their binary representation with bytes in the native order, like the files mapped
+   * by {@link NdArrays}. Values are read by concurrent positional reads on an {@link
+   * java.nio.channels.AsynchronousFileChannel} handled by the given executor, directly in the
+   * storage of this array when possible. The content of this array should not be accessed until the
+   * returned future is completed.
+   *
+   * @param path path of the file to read from
+   * @param executor executor handling the I/O events of the file and completing the future, which
+   * is not shut down by this method
+   * @return a future completed with this array once all its values are loaded, or completed
+   * exceptionally if they could not be read, including with a {@link java.io.EOFException} if the
+   * file does not contain enough values or with an {@link UnsupportedOperationException} if values
+   * of this array have no fixed-size binary representation
+   */
+  CompletableFuture<NdArray<T>> loadAsync(Path path, ExecutorService executor);
+
+  /**
+   * Stores asynchronously the content of this N-dimensional array to a file.
+   *
+   * <p>The file is created if it does not exist or truncated otherwise, then the {@link #size()}
+   * values of this array are written contiguously from its beginning, in their binary
+   * representation with bytes in the native order, so it can be loaded back by {@link
+   * #loadAsync(Path, ExecutorService)} or mapped by {@link NdArrays}. Values are written by
+   * concurrent positional writes on an {@link java.nio.channels.AsynchronousFileChannel} handled by
+   * the given executor. The content of this array should not be modified until the returned
+   * future is completed.
+   *
+   * @param path path of the file to write to
+   * @param executor executor handling the I/O events of the file and completing the future, which
+   * is not shut down by this method
+   * @return a future completed with this array once all its values are stored, or completed
+   * exceptionally if they could not be written, including with an {@link
+   * UnsupportedOperationException} if values of this array have no fixed-size binary representation
+   */
+  CompletableFuture<NdArray<T>> storeAsync(Path path, ExecutorService executor);
 }
@@ -16,19 +16,43 @@
  */
 package org.tensorflow.nio.nd;
 
+import java.io.IOException;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import org.tensorflow.nio.buffer.AllocationMode;
+import org.tensorflow.nio.buffer.BFloat16DataBuffer;
+import org.tensorflow.nio.buffer.BooleanDataBuffer;
 import org.tensorflow.nio.buffer.ByteDataBuffer;
+import org.tensorflow.nio.buffer.ByteRingBuffer;
 import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.DataBufferPool;
 import org.tensorflow.nio.buffer.DataBuffers;
 import org.tensorflow.nio.buffer.DoubleDataBuffer;
+import org.tensorflow.nio.buffer.DoubleRingBuffer;
 import org.tensorflow.nio.buffer.FloatDataBuffer;
+import org.tensorflow.nio.buffer.FloatRingBuffer;
+import org.tensorflow.nio.buffer.HalfDataBuffer;
 import org.tensorflow.nio.buffer.IntDataBuffer;
+import org.tensorflow.nio.buffer.IntRingBuffer;
 import org.tensorflow.nio.buffer.LongDataBuffer;
+import org.tensorflow.nio.buffer.LongRingBuffer;
+import org.tensorflow.nio.buffer.ShortDataBuffer;
+import org.tensorflow.nio.buffer.ShortRingBuffer;
+import org.tensorflow.nio.buffer.StringDataBuffer;
+import org.tensorflow.nio.nd.impl.dense.AbstractDenseNdArray;
+import org.tensorflow.nio.nd.impl.dense.BFloat16DenseNdArray;
+import org.tensorflow.nio.nd.impl.dense.BooleanDenseNdArray;
 import org.tensorflow.nio.nd.impl.dense.ByteDenseNdArray;
 import org.tensorflow.nio.nd.impl.dense.DenseNdArray;
 import org.tensorflow.nio.nd.impl.dense.DoubleDenseNdArray;
 import org.tensorflow.nio.nd.impl.dense.FloatDenseNdArray;
+import org.tensorflow.nio.nd.impl.dense.HalfDenseNdArray;
 import org.tensorflow.nio.nd.impl.dense.IntDenseNdArray;
 import org.tensorflow.nio.nd.impl.dense.LongDenseNdArray;
+import org.tensorflow.nio.nd.impl.dense.ShortDenseNdArray;
 
 /**
  * Helper class for creating {@link NdArray} instances
@@ -45,6 +69,45 @@ public final class NdArrays {
     return wrap(DataBuffers.ofBytes(shape.size()), shape);
   }
 
+  /**
+   * Creates an N-dimensional array of bytes of the given shape, using the given allocation mode
+   *
+   * @param shape shape of the N-dimensional array
+   * @param mode where the values of the array should be stored
+   * @return the new N-dimensional array
+   */
+  public static ByteNdArray ofBytes(Shape shape, AllocationMode mode) {
+    return wrap(DataBuffers.ofBytes(shape.size(), mode), shape);
+  }
+
+  /**
+   * Creates an N-dimensional array of bytes of the given shape, using a buffer from a pool
+   * <p>
+   * The values of the array are not initialized. The array can be released to the pool with {@link
+   * #release(NdArray, DataBufferPool)} once it is not used anymore.
+   *
+   * @param shape shape of the N-dimensional array
+   * @param pool pool to acquire the buffer from
+   * @return the new N-dimensional array
+   */
+  public static ByteNdArray ofBytes(Shape shape, DataBufferPool pool) {
+    return wrap(pool.ofBytes(shape.size()), shape);
+  }
+
+  /**
+   * Maps a file into an N-dimensional array of bytes of the given shape
+   *
+   * @param path path of the file to map
+   * @param mode mapping mode
+   * @param shape shape of the N-dimensional array
+   * @return the new N-dimensional array
+   * @throws IOException if the file could not be opened or mapped
+   * @see DataBuffers#mapBytes(Path, MapMode, long, long)
+   */
+  public static ByteNdArray mapBytes(Path path, MapMode mode, Shape shape) throws IOException {
+    return wrap(DataBuffers.mapBytes(path, mode, 0, shape.size()), shape);
+  }
+
   /**
    * Wraps a byte array into an N-dimensional array
    *
@@ -67,6 +130,23 @@ public final class NdArrays {
     return ByteDenseNdArray.wrap(buffer, shape);
   }
 
+  /**
+   * Creates an N-dimensional array over the latest records published to a ring buffer of bytes
+   * <p>
+   * The first dimension of the array indexes the records, the others are those of a record. Values
+   * are shared with the ring buffer when they are contiguous in its storage, otherwise they are
+   * copied.
+   *
+   * @param ring ring buffer of records
+   * @param numRecords number of latest records to include in the array
+   * @param recordShape shape of a record
+   * @return the new N-dimensional array
+   * @see ByteRingBuffer#latest(long)
+   */
+  public static ByteNdArray window(ByteRingBuffer ring, long numRecords, Shape recordShape) {
+    return wrap(ring.latest(numRecords * recordShape.size()), windowShape(numRecords, recordShape));
+  }
+
   /**
    * Creates an N-dimensional array of longs of the given shape
    *
@@ -77,6 +157,45 @@ public final class NdArrays {
     return wrap(DataBuffers.ofLongs(shape.size()), shape);
   }
 
+  /**
+   * Creates an N-dimensional array of longs of the given shape, using the given allocation mode
+   *
+   * @param shape shape of the N-dimensional array
+   * @param mode where the values of the array should be stored
+   * @return the new N-dimensional array
+   */
+  public static LongNdArray ofLongs(Shape shape, AllocationMode mode) {
+    return wrap(DataBuffers.ofLongs(shape.size(), mode), shape);
+  }
+
+  /**
+   * Creates an N-dimensional array of longs of the given shape, using a buffer from a pool
+   * <p>
+   * The values of the array are not initialized. The array can be released to the pool with {@link
+   * #release(NdArray, DataBufferPool)} once it is not used anymore.
+   *
+   * @param shape shape of the N-dimensional array
+   * @param pool pool to acquire the buffer from
+   * @return the new N-dimensional array
+   */
+  public static LongNdArray ofLongs(Shape shape, DataBufferPool pool) {
+    return wrap(pool.ofLongs(shape.size()), shape);
+  }
+
+  /**
+   * Maps a file into an N-dimensional array of longs of the given shape
+   *
+   * @param path path of the file to map
+   * @param mode mapping mode
+   * @param shape shape of the N-dimensional array
+   * @return the new N-dimensional array
+   * @throws IOException if the file could not be opened or mapped
+   * @see DataBuffers#mapLongs(Path, MapMode, long, long)
+   */
+  public static LongNdArray mapLongs(Path path, MapMode mode, Shape shape) throws IOException {
+    return wrap(DataBuffers.mapLongs(path, mode, 0, shape.size()), shape);
+  }
+
   /**
    * Wraps a long array into an N-dimensional array
    *
@@ -99,6 +218,23 @@ public final class NdArrays {
     return LongDenseNdArray.wrap(buffer, shape);
   }
 
+  /**
+   * Creates an N-dimensional array over the latest records published to a ring buffer of longs
+   * <p>
+   * The first dimension of the array indexes the records, the others are those of a record. Values
+   * are shared with the ring buffer when they are contiguous in its storage, otherwise they are
+   * copied.
+   *
+   * @param ring ring buffer of records
+   * @param numRecords number of latest records to include in the array
+   * @param recordShape shape of a record
+   * @return the new N-dimensional array
+   * @see LongRingBuffer#latest(long)
+   */
+  public static LongNdArray window(LongRingBuffer ring, long numRecords, Shape recordShape) {
+    return wrap(ring.latest(numRecords * recordShape.size()), windowShape(numRecords, recordShape));
+  }
+
   /**
    * Creates an N-dimensional array of integers of the given shape
    *
@@ -109,6 +245,45 @@ public final class NdArrays {
     return wrap(DataBuffers.ofIntegers(shape.size()), shape);
   }
 
+  /**
+   * Creates an N-dimensional array of integers of the given shape, using the given allocation mode
+   *
+   * @param shape shape of the N-dimensional array
+   * @param mode where the values of the array should be stored
+   * @return the new N-dimensional array
+   */
+  public static IntNdArray ofIntegers(Shape shape, AllocationMode mode) {
+    return wrap(DataBuffers.ofIntegers(shape.size(), mode), shape);
+  }
+
+  /**
+   * Creates an N-dimensional array of integers of the given shape, using a buffer from a pool
+   * <p>
+   * The values of the array are not initialized. The array can be released to the pool with {@link
+   * #release(NdArray, DataBufferPool)} once it is not used anymore.
+   *
+   * @param shape shape of the N-dimensional array
+   * @param pool pool to acquire the buffer from
+   * @return the new N-dimensional array
+   */
+  public static IntNdArray ofIntegers(Shape shape, DataBufferPool pool) {
+    return wrap(pool.ofIntegers(shape.size()), shape);
+  }
+
+  /**
+   * Maps a file into an N-dimensional array of integers of the given shape
+   *
+   * @param path path of the file to map
+   * @param mode mapping mode
+   * @param shape shape of the N-dimensional array
+   * @return the new N-dimensional array
+   * @throws IOException if the file could not be opened or mapped
+   * @see DataBuffers#mapIntegers(Path, MapMode, long, long)
+   */
+  public static IntNdArray mapIntegers(Path path, MapMode mode, Shape shape) throws IOException {
+    return wrap(DataBuffers.mapIntegers(path, mode, 0, shape.size()), shape);
+  }
+
   /**
    * Wraps an integer array into an N-dimensional array
    *
@@ -131,6 +306,111 @@ public final class NdArrays {
     return IntDenseNdArray.wrap(buffer, shape);
   }
 
+  /**
+   * Creates an N-dimensional array over the latest records published to a ring buffer of integers
+   * <p>
+   * The first dimension of the array indexes the records, the others are those of a record. Values
+   * are shared with the ring buffer when they are contiguous in its storage, otherwise they are
+   * copied.
+   *
+   * @param ring ring buffer of records
+   * @param numRecords number of latest records to include in the array
+   * @param recordShape shape of a record
+   * @return the new N-dimensional array
+   * @see IntRingBuffer#latest(long)
+   */
+  public static IntNdArray window(IntRingBuffer ring, long numRecords, Shape recordShape) {
+    return wrap(ring.latest(numRecords * recordShape.size()), windowShape(numRecords, recordShape));
+  }
+
+  /**
+   * Creates an N-dimensional array of shorts of the given shape
+   *
+   * @param shape shape of the N-dimensional array
+   * @return the new N-dimensional array
+   */
+  public static ShortNdArray ofShorts(Shape shape) {
+    return wrap(DataBuffers.ofShorts(shape.size()), shape);
+  }
+
+  /**
+   * Creates an N-dimensional array of shorts of the given shape, using the given allocation mode
+   *
+   * @param shape shape of the N-dimensional array
+   * @param mode where the values of the array should be stored
+   * @return the new N-dimensional array
+   */
+  public static ShortNdArray ofShorts(Shape shape, AllocationMode mode) {
+    return wrap(DataBuffers.ofShorts(shape.size(), mode), shape);
+  }
+
+  /**
+   * Creates an N-dimensional array of shorts of the given shape, using a buffer from a pool
+   * <p>
+   * The values of the array are not initialized. The array can be released to the pool with {@link
+   * #release(NdArray, DataBufferPool)} once it is not used anymore.
+   *
+   * @param shape shape of the N-dimensional array
+   * @param pool pool to acquire the buffer from
+   * @return the new N-dimensional array
+   */
+  public static ShortNdArray ofShorts(Shape shape, DataBufferPool pool) {
+    return wrap(pool.ofShorts(shape.size()), shape);
+  }
+
+  /**
+   * Maps a file into an N-dimensional array of shorts of the given shape
+   *
+   * @param path path of the file to map
+   * @param mode mapping mode
+   * @param shape shape of the N-dimensional array
+   * @return the new N-dimensional array
+   * @throws IOException if the file could not be opened or mapped
+   * @see DataBuffers#mapShorts(Path, MapMode, long, long)
+   */
+  public static ShortNdArray mapShorts(Path path, MapMode mode, Shape shape) throws IOException {
+    return wrap(DataBuffers.mapShorts(path, mode, 0, shape.size()), shape);
+  }
+
+  /**
+   * Wraps a short array into an N-dimensional array
+   *
+   * @param values short array to wrap
+   * @param shape shape of the N-dimensional array
+   * @return the new N-dimensional array
+   */
+  public static ShortNdArray wrap(short[] values, Shape shape) {
+    return wrap(DataBuffers.wrap(values, false), shape);
+  }
+
+  /**
+   * Wraps a short data buffer into an N-dimensional array
+   *
+   * @param buffer buffer to wrap
+   * @param shape shape of the N-dimensional array
+   * @return the new N-dimensional array
+   */
+  public static ShortNdArray wrap(ShortDataBuffer buffer, Shape shape) {
+    return ShortDenseNdArray.wrap(buffer, shape);
+  }
+
+  /**
+   * Creates an N-dimensional array over the latest records published to a ring buffer of shorts
+   * <p>
+   * The first dimension of the array indexes the records, the others are those of a record. Values
+   * are shared with the ring buffer when they are contiguous in its storage, otherwise they are
+   * copied.
+   *
+   * @param ring ring buffer of records
+   * @param numRecords number of latest records to include in the array
+   * @param recordShape shape of a record
+   * @return the new N-dimensional array
+   * @see ShortRingBuffer#latest(long)
+   */
+  public static ShortNdArray window(ShortRingBuffer ring, long numRecords, Shape recordShape) {
+    return wrap(ring.latest(numRecords * recordShape.size()), windowShape(numRecords, recordShape));
+  }
+
   /**
    * Creates an N-dimensional array of floats of the given shape
    *
@@ -141,6 +421,45 @@ public final class NdArrays {
     return wrap(DataBuffers.ofFloats(shape.size()), shape);
   }
 
+  /**
+   * Creates an N-dimensional array of floats of the given shape, using the given allocation mode
+   *
+   * @param shape shape of the N-dimensional array
+   * @param mode where the values of the array should be stored
+   * @return the new N-dimensional array
+   */
+  public static FloatNdArray ofFloats(Shape shape, AllocationMode mode) {
+    return wrap(DataBuffers.ofFloats(shape.size(), mode), shape);
+  }
+
+  /**
+   * Creates an N-dimensional array of floats of the given shape, using a buffer from a pool
+   * <p>
+   * The values of the array are not initialized. The array can be released to the pool with {@link
+   * #release(NdArray, DataBufferPool)} once it is not used anymore.
+   *
+   * @param shape shape of the N-dimensional array
+   * @param pool pool to acquire the buffer from
+   * @return the new N-dimensional array
+   */
+  public static FloatNdArray ofFloats(Shape shape, DataBufferPool pool) {
+    return wrap(pool.ofFloats(shape.size()), shape);
+  }
+
+  /**
+   * Maps a file into an N-dimensional array of floats of the given shape
+   *
+   * @param path path of the file to map
+   * @param mode mapping mode
+   * @param shape shape of the N-dimensional array
+   * @return the new N-dimensional array
+   * @throws IOException if the file could not be opened or mapped
+   * @see DataBuffers#mapFloats(Path, MapMode, long, long)
+   */
+  public static FloatNdArray mapFloats(Path path, MapMode mode, Shape shape) throws IOException {
+    return wrap(DataBuffers.mapFloats(path, mode, 0, shape.size()), shape);
+  }
+
   /**
    * Wraps a float array into an N-dimensional array
    *
@@ -163,6 +482,118 @@ public final class NdArrays {
     return FloatDenseNdArray.wrap(buffer, shape);
   }
 
+  /**
+   * Creates an N-dimensional array over the latest records published to a ring buffer of floats
+   * <p>
+   * The first dimension of the array indexes the records, the others are those of a record. Values
+   * are shared with the ring buffer when they are contiguous in its storage, otherwise they are
+   * copied.
+   *
+   * @param ring ring buffer of records
+   * @param numRecords number of latest records to include in the array
+   * @param recordShape shape of a record
+   * @return the new N-dimensional array
+   * @see FloatRingBuffer#latest(long)
+   */
+  public static FloatNdArray window(FloatRingBuffer ring, long numRecords, Shape recordShape) {
+    return wrap(ring.latest(numRecords * recordShape.size()), windowShape(numRecords, recordShape));
+  }
+
+  /**
+   * Creates an N-dimensional array of half-precision floats of the given shape
+   *
+   * @param shape shape of the N-dimensional array
+   * @return the new N-dimensional array
+   */
+  public static HalfNdArray ofHalfs(Shape shape) {
+    return wrap(DataBuffers.ofHalfs(shape.size()), shape);
+  }
+
+  /**
+   * Creates an N-dimensional array of half-precision floats of the given shape, using the given
+   * allocation mode
+   *
+   * @param shape shape of the N-dimensional array
+   * @param mode where the values of the array should be stored
+   * @return the new N-dimensional array
+   */
+  public static HalfNdArray ofHalfs(Shape shape, AllocationMode mode) {
+    return wrap(DataBuffers.ofHalfs(shape.size(), mode), shape);
+  }
+
+  /**
+   * Maps a file into an N-dimensional array of half-precision floats of the given shape
+   *
+   * @param path path of the file to map
+   * @param mode mapping mode
+   * @param shape shape of the N-dimensional array
+   * @return the new N-dimensional array
+   * @throws IOException if the file could not be opened or mapped
+   * @see DataBuffers#mapHalfs(Path, MapMode, long, long)
+   */
+  public static HalfNdArray mapHalfs(Path path, MapMode mode, Shape shape) throws IOException {
+    return wrap(DataBuffers.mapHalfs(path, mode, 0, shape.size()), shape);
+  }
+
+  /**
+   * Wraps a half-precision data buffer into an N-dimensional array
+   *
+   * @param buffer buffer to wrap
+   * @param shape shape of the N-dimensional array
+   * @return the new N-dimensional array
+   */
+  public static HalfNdArray wrap(HalfDataBuffer buffer, Shape shape) {
+    return HalfDenseNdArray.wrap(buffer, shape);
+  }
+
+  /**
+   * Creates an N-dimensional array of bfloat16 values of the given shape
+   *
+   * @param shape shape of the N-dimensional array
+   * @return the new N-dimensional array
+   */
+  public static BFloat16NdArray ofBFloat16s(Shape shape) {
+    return wrap(DataBuffers.ofBFloat16s(shape.size()), shape);
+  }
+
+  /**
+   * Creates an N-dimensional array of bfloat16 values of the given shape, using the given
+   * allocation mode
+   *
+   * @param shape shape of the N-dimensional array
+   * @param mode where the values of the array should be stored
+   * @return the new N-dimensional array
+   */
+  public static BFloat16NdArray ofBFloat16s(Shape shape, AllocationMode mode) {
+    return wrap(DataBuffers.ofBFloat16s(shape.size(), mode), shape);
+  }
+
+  /**
+   * Maps a file into an N-dimensional array of bfloat16 values of the given shape
+   *
+   * @param path path of the file to map
+   * @param mode mapping mode
+   * @param shape shape of the N-dimensional array
+   * @return the new N-dimensional array
+   * @throws IOException if the file could not be opened or mapped
+   * @see DataBuffers#mapBFloat16s(Path, MapMode, long, long)
+   */
+  public static BFloat16NdArray mapBFloat16s(Path path, MapMode mode, Shape shape)
+      throws IOException {
+    return wrap(DataBuffers.mapBFloat16s(path, mode, 0, shape.size()), shape);
+  }
+
+  /**
+   * Wraps a bfloat16 data buffer into an N-dimensional array
+   *
+   * @param buffer buffer to wrap
+   * @param shape shape of the N-dimensional array
+   * @return the new N-dimensional array
+   */
+  public static BFloat16NdArray wrap(BFloat16DataBuffer buffer, Shape shape) {
+    return BFloat16DenseNdArray.wrap(buffer, shape);
+  }
+
   /**
    * Creates an N-dimensional array of doubles of the given shape
    *
@@ -173,6 +604,45 @@ public final class NdArrays {
     return wrap(DataBuffers.ofDoubles(shape.size()), shape);
   }
 
+  /**
+   * Creates an N-dimensional array of doubles of the given shape, using the given allocation mode
+   *
+   * @param shape shape of the N-dimensional array
+   * @param mode where the values of the array should be stored
+   * @return the new N-dimensional array
+   */
+  public static DoubleNdArray ofDoubles(Shape shape, AllocationMode mode) {
+    return wrap(DataBuffers.ofDoubles(shape.size(), mode), shape);
+  }
+
+  /**
+   * Creates an N-dimensional array of doubles of the given shape, using a buffer from a pool
+   * <p>
+   * The values of the array are not initialized. The array can be released to the pool with {@link
+   * #release(NdArray, DataBufferPool)} once it is not used anymore.
+   *
+   * @param shape shape of the N-dimensional array
+   * @param pool pool to acquire the buffer from
+   * @return the new N-dimensional array
+   */
+  public static DoubleNdArray ofDoubles(Shape shape, DataBufferPool pool) {
+    return wrap(pool.ofDoubles(shape.size()), shape);
+  }
+
+  /**
+   * Maps a file into an N-dimensional array of doubles of the given shape
+   *
+   * @param path path of the file to map
+   * @param mode mapping mode
+   * @param shape shape of the N-dimensional array
+   * @return the new N-dimensional array
+   * @throws IOException if the file could not be opened or mapped
+   * @see DataBuffers#mapDoubles(Path, MapMode, long, long)
+   */
+  public static DoubleNdArray mapDoubles(Path path, MapMode mode, Shape shape) throws IOException {
+    return wrap(DataBuffers.mapDoubles(path, mode, 0, shape.size()), shape);
+  }
+
   /**
    * Wraps a double array into an N-dimensional array
    *
@@ -195,6 +665,56 @@ public final class NdArrays {
     return DoubleDenseNdArray.wrap(buffer, shape);
   }
 
+  /**
+   * Creates an N-dimensional array over the latest records published to a ring buffer of doubles
+   * <p>
+   * The first dimension of the array indexes the records, the others are those of a record. Values
+   * are shared with the ring buffer when they are contiguous in its storage, otherwise they are
+   * copied.
+   *
+   * @param ring ring buffer of records
+   * @param numRecords number of latest records to include in the array
+   * @param recordShape shape of a record
+   * @return the new N-dimensional array
+   * @see DoubleRingBuffer#latest(long)
+   */
+  public static DoubleNdArray window(DoubleRingBuffer ring, long numRecords, Shape recordShape) {
+    return wrap(ring.latest(numRecords * recordShape.size()), windowShape(numRecords, recordShape));
+  }
+
+  /**
+   * Creates an N-dimensional array of booleans of the given shape
+   *
+   * @param shape shape of the N-dimensional array
+   * @return the new N-dimensional array
+   */
+  public static BooleanNdArray ofBooleans(Shape shape) {
+    return wrap(DataBuffers.ofBooleans(shape.size()), shape);
+  }
+
+  /**
+   * Wraps a boolean data buffer into an N-dimensional array
+   *
+   * @param buffer buffer to wrap
+   * @param shape shape of the N-dimensional array
+   * @return the new N-dimensional array
+   */
+  public static BooleanNdArray wrap(BooleanDataBuffer buffer, Shape shape) {
+    return BooleanDenseNdArray.wrap(buffer, shape);
+  }
+
+  /**
+   * Creates an N-dimensional array of strings of the given shape
+   * <p>
+   * Strings are stored in a {@link StringDataBuffer}, encoded in UTF-8.
+   *
+   * @param shape shape of the N-dimensional array
+   * @return the new N-dimensional array
+   */
+  public static NdArray<String> ofStrings(Shape shape) {
+    return wrap(DataBuffers.ofStrings(shape.size()), shape);
+  }
+
   /**
    * Creates an N-dimensional array of objects of the given shape
    *
@@ -227,5 +747,84 @@ public final class NdArrays {
   public static <T> NdArray<T> wrap(DataBuffer<T> buffer, Shape shape) {
     return DenseNdArray.wrap(buffer, shape);
   }
-}
 
+  /**
+   * Loads asynchronously a file into a new N-dimensional array of the given shape and type
+   * <p>
+   * The new array is allocated like by {@link #ofBytes(Shape)}, {@link #ofShorts(Shape)}, {@link
+   * #ofIntegers(Shape)}, {@link #ofLongs(Shape)}, {@link #ofFloats(Shape)}, {@link
+   * #ofDoubles(Shape)} or {@link #ofBooleans(Shape)}, depending on the type of its values, which
+   * are then read from the file as described by {@link NdArray#loadAsync(Path, ExecutorService)}.
+   * Values of type {@link Float} are always loaded as single-precision floats, since the type alone
+   * does not tell them apart from half-precision or bfloat16 floats. To load values of these binary
+   * representations, or in an array allocated differently, allocate the array first, e.g. with
+   * {@link #ofHalfs(Shape)} or {@link #ofBFloat16s(Shape)}, and use
+   * {@link #loadAsync(Path, NdArray, ExecutorService)} instead.
+   *
+   * @param path path of the file to load
+   * @param shape shape of the N-dimensional array
+   * @param type type of the values of the array
+   * @param executor executor handling the I/O events of the file and completing the future
+   * @return a future completed with the new N-dimensional array once its values are loaded
+   * @throws IllegalArgumentException if values of the given type cannot be loaded from a file, i.e.
+   * if the type is not a boxed primitive type other than {@link Character}
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> CompletableFuture<NdArray<T>> loadAsync(Path path, Shape shape, Class<T> type,
+      ExecutorService executor) {
+    NdArray<?> array;
+    if (type == Byte.class) {
+      array = ofBytes(shape);
+    } else if (type == Short.class) {
+      array = ofShorts(shape);
+    } else if (type == Integer.class) {
+      array = ofIntegers(shape);
+    } else if (type == Long.class) {
+      array = ofLongs(shape);
+    } else if (type == Float.class) {
+      array = ofFloats(shape);
+    } else if (type == Double.class) {
+      array = ofDoubles(shape);
+    } else if (type == Boolean.class) {
+      array = ofBooleans(shape);
+    } else {
+      throw new IllegalArgumentException("Values of type " + type.getName()
+          + " cannot be loaded from a file");
+    }
+    return loadAsync(path, (NdArray<T>) array, executor);
+  }
+
+  /**
+   * Loads asynchronously a file into an existing N-dimensional array
+   *
+   * @param path path of the file to load
+   * @param array array receiving the values of the file
+   * @param executor executor handling the I/O events of the file and completing the future
+   * @return a future completed with {@code array} once its values are loaded
+   * @see NdArray#loadAsync(Path, ExecutorService)
+   */
+  public static <T, U extends NdArray<T>> CompletableFuture<U> loadAsync(Path path, U array,
+      ExecutorService executor) {
+    return array.loadAsync(path, executor).thenApply(loaded -> array);
+  }
+
+  /**
+   * Releases an N-dimensional array created from a pool, so its buffer can be recycled
+   * <p>
+   * The array, and any of its slices, must not be accessed anymore once released.
+   *
+   * @param array array created from the pool
+   * @param pool pool to release the buffer of the array to
+   * @see DataBufferPool#release(DataBuffer)
+   */
+  public static void release(NdArray<?> array, DataBufferPool pool) {
+    AbstractDenseNdArray.release(array, pool);
+  }
+
+  private static Shape windowShape(long numRecords, Shape recordShape) {
+    long[] dimensions = new long[recordShape.numDimensions() + 1];
+    dimensions[0] = numRecords;
+    System.arraycopy(recordShape.toArray(), 0, dimensions, 1, recordShape.numDimensions());
+    return Shape.create(dimensions);
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.nd;
+
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.DataBuffers;
+import org.tensorflow.nio.nd.index.Index;
+
+/**
+ * An {@link NdArray} of shorts.
+ */
+public interface ShortNdArray extends NdArray<Short> {
+
+  /**
+   * Reads the content of this N-dimensional array into the destination short array.
+   *
+   * <p>The size of the destination array must be equal or greater to the {@link #size()} of this
+   * array, or an exception is thrown. After the copy, content of the both arrays can be altered
+   * independently, without affecting each other.
+   *
+   * @param dst the destination array
+   * @return this array
+   * @throws java.nio.BufferOverflowException if the destination array cannot hold the content of
+   * this array
+   */
+  default ShortNdArray read(short[] dst) {
+    return read(DataBuffers.wrap(dst, false));
+  }
+
+  /**
+   * Reads the content of this N-dimensional array into the destination short array.
+   *
+   * <p>{@code dst.length - offset} must be equal or greater to the {@link #size()} of this array,
+   * or an exception is thrown. After the copy, content of the both arrays can be altered
+   * independently, without affecting each other.
+   *
+   * @param dst the destination array
+   * @param offset the index of the first short to write in the destination array
+   * @return this array
+   * @throws java.nio.BufferOverflowException if the destination array cannot hold the content of
+   * this array
+   * @throws IllegalArgumentException if offset is greater than dst length or is negative
+   */
+  default ShortNdArray read(short[] dst, int offset) {
+    return read(DataBuffers.wrap(dst, false).position(offset));
+  }
+
+  /**
+   * Writes the content of this N-dimensional array from the source short array.
+   *
+   * <p>The size of the source array must be equal or greater to the {@link #size()} of this array,
+   * or an exception is thrown. After the copy, content of the both arrays can be altered
+   * independently, without affecting each other.
+   *
+   * @param src the source array
+   * @return this array
+   * @throws java.nio.BufferUnderflowException if the size of the source array is less than the size
+   * of this array
+   */
+  default ShortNdArray write(short[] src) {
+    return write(DataBuffers.wrap(src, false));
+  }
+
+  /**
+   * Writes the content of this N-dimensional array from the source short array.
+   *
+   * <p>{@code src.length - offset} must be equal or greater to the {@link #size()} of this array,
+   * or an exception is thrown. After the copy, content of the both arrays can be altered
+   * independently, without affecting each other.
+   *
+   * @param src the source array
+   * @param offset the index of the first short to read from the source array
+   * @return this array
+   * @throws java.nio.BufferUnderflowException if the size of the source array is less than the size
+   * of this array
+   * @throws IllegalArgumentException if offset is greater than src length or is negative
+   */
+  default ShortNdArray write(short[] src, int offset) {
+    return write(DataBuffers.wrap(src, false).position(offset));
+  }
+
+  @Override
+  ShortNdArray at(long... coordinates);
+
+  @Override
+  ShortNdArray slice(Index... indices);
+
+  @Override
+  Iterable<ShortNdArray> childElements();
+
+  @Override
+  ShortNdArray set(Short value, long... coordinates);
+
+  @Override
+  ShortNdArray copyTo(NdArray<Short> dst);
+
+  @Override
+  ShortNdArray copyFrom(NdArray<Short> src);
+
+  @Override
+  ShortNdArray read(DataBuffer<Short> dst);
+
+  @Override
+  ShortNdArray write(DataBuffer<Short> src);
+
+  @Override
+  ShortNdArray read(Short[] dst);
+
+  @Override
+  ShortNdArray read(Short[] dst, int offset);
+
+  @Override
+  ShortNdArray write(Short[] src);
+
+  @Override
+  ShortNdArray write(Short[] src, int offset);
+}
@@ -16,10 +16,24 @@
  */
 package org.tensorflow.nio.nd.impl.dense;
 
+import java.io.EOFException;
+import java.io.IOException;
 import java.nio.BufferOverflowException;
 import java.nio.BufferUnderflowException;
+import java.nio.ByteOrder;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.FileChannel;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 
 import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.DataBufferPool;
 import org.tensorflow.nio.nd.IllegalRankException;
 import org.tensorflow.nio.nd.NdArray;
 import org.tensorflow.nio.nd.Shape;
@@ -80,9 +94,10 @@ public abstract class AbstractDenseNdArray<T, U extends NdArray<T>> extends Abst
     if (dst.remaining() < size()) {
       throw new BufferOverflowException();
     }
+    BulkDataTransfer.BulkCopy<T> readCopy = (buffer, size) -> dst.put(buffer.limit(size));
     if (isBulkCopyAvailable()) {
-      BulkDataTransfer.execute(this, (buffer, size) -> dst.put(buffer.limit(size)));
-    } else {
+      BulkDataTransfer.execute(this, readCopy);
+    } else if (!BulkDataTransfer.executeStrided(this, readCopy)) {
       slowRead(dst);
     }
     return (U) this;
@@ -93,15 +108,41 @@ public abstract class AbstractDenseNdArray<T, U extends NdArray<T>> extends Abst
     if (src.remaining() < size()) {
       throw new BufferUnderflowException();
     }
+    BulkDataTransfer.BulkCopy<T> writeCopy =
+        (buffer, size) -> buffer.put(src.limit(src.position() + size));
     if (isBulkCopyAvailable()) {
-      BulkDataTransfer
-          .execute(this, (buffer, size) -> buffer.put(src.limit(src.position() + size)));
-    } else {
+      BulkDataTransfer.execute(this, writeCopy);
+    } else if (!BulkDataTransfer.executeStrided(this, writeCopy)) {
       slowWrite(src);
     }
     return (U) this;
   }
 
+  @Override
+  public CompletableFuture<NdArray<T>> loadAsync(Path path, ExecutorService executor) {
+    return transferAsync(path, executor, false, StandardOpenOption.READ);
+  }
+
+  @Override
+  public CompletableFuture<NdArray<T>> storeAsync(Path path, ExecutorService executor) {
+    return transferAsync(path, executor, true, StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+  }
+
+  /**
+   * Releases the buffer of a dense array to the pool it has been acquired from.
+   *
+   * @param array array allocated from the pool
+   * @param pool pool to release the buffer to
+   * @throws IllegalArgumentException if the array is not a dense array
+   */
+  public static void release(NdArray<?> array, DataBufferPool pool) {
+    if (!(array instanceof AbstractDenseNdArray)) {
+      throw new IllegalArgumentException("Only dense arrays can be released to a pool");
+    }
+    pool.release(((AbstractDenseNdArray<?, ?>) array).buffer());
+  }
+
   AbstractDenseNdArray(Shape shape) {
     super(shape);
   }
@@ -128,6 +169,104 @@ public abstract class AbstractDenseNdArray<T, U extends NdArray<T>> extends Abst
     return position;
   }
 
+  /**
+   * Transfers asynchronously the values of this array from or to a file.
+   * <p>
+   * Values of an array that are contiguous in its buffer are transferred by concurrent positional
+   * operations on an asynchronous channel. Otherwise, each contiguous segment of values is
+   * transferred in sequence by a task submitted to the executor.
+   */
+  private CompletableFuture<NdArray<T>> transferAsync(Path path, ExecutorService executor,
+      boolean store, OpenOption... options) {
+    if (!isContiguous()) {
+      return CompletableFuture.supplyAsync(() -> {
+        try (FileChannel channel = FileChannel.open(path, options)) {
+          transferSegments(this, channel, store);
+        } catch (IOException e) {
+          throw new CompletionException(e);
+        }
+        return this;
+      }, executor);
+    }
+    CompletableFuture<NdArray<T>> future = new CompletableFuture<>();
+    AsynchronousFileChannel channel;
+    try {
+      channel = AsynchronousFileChannel
+          .open(path, new HashSet<>(Arrays.asList(options)), executor);
+    } catch (IOException | RuntimeException e) {
+      future.completeExceptionally(e);
+      return future;
+    }
+    CompletableFuture<Long> transfer;
+    try {
+      DataBuffer<T> values = contiguousValues();
+      transfer = store ? values.writeToAsync(channel, 0L, ByteOrder.nativeOrder())
+          : values.readFromAsync(channel, 0L, ByteOrder.nativeOrder());
+    } catch (RuntimeException e) {
+      transfer = new CompletableFuture<>();
+      transfer.completeExceptionally(e);
+    }
+    transfer.whenComplete((count, error) -> {
+      try {
+        channel.close();
+      } catch (IOException e) {
+        if (error == null) {
+          future.completeExceptionally(e);
+          return;
+        }
+        error.addSuppressed(e);
+      }
+      if (error != null) {
+        future.completeExceptionally(error);
+      } else {
+        future.complete(this);
+      }
+    });
+    return future;
+  }
+
+  private static <T> void transferSegments(AbstractDenseNdArray<T, ?> element,
+      FileChannel channel, boolean store) throws IOException {
+    if (!element.isContiguous()) {
+      for (NdArray<T> child : element.childElements()) {
+        transferSegments((AbstractDenseNdArray<T, ?>) child, channel, store);
+      }
+      return;
+    }
+    DataBuffer<T> values = element.contiguousValues();
+    if (store) {
+      values.writeTo(channel, ByteOrder.nativeOrder());
+    } else {
+      values.readFrom(channel, ByteOrder.nativeOrder());
+      if (values.hasRemaining()) {
+        throw new EOFException("File has ended before all values could be read");
+      }
+    }
+  }
+
+  /**
+   * Returns the values of this array, when they are contiguous, as a buffer positioned at the
+   * first one and limited after the last one.
+   */
+  private DataBuffer<T> contiguousValues() {
+    return buffer().duplicate().rewind().limit(size());
+  }
+
+  /**
+   * Check if all values of this array are contiguous in its buffer, i.e. if none of its dimensions
+   * is segmented.
+   *
+   * @return true if values are contiguous
+   */
+  private boolean isContiguous() {
+    for (int i = 0; i < shape().numDimensions(); ++i) {
+      if (shape().dimension(i).isSegmented()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /**
    * Check if we copy this array data in bulk. Bulk copy is only possible for array of 1-dimension
    * or more and that the last dimension is not segmented (therefore linear in memory).
@@ -0,0 +1,47 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.nd.impl.dense;
+
+import org.tensorflow.nio.buffer.BFloat16DataBuffer;
+import org.tensorflow.nio.nd.BFloat16NdArray;
+import org.tensorflow.nio.nd.Shape;
+
+public class BFloat16DenseNdArray extends AbstractDenseNdArray<Float, BFloat16NdArray> implements
+    BFloat16NdArray {
+
+  public static BFloat16NdArray wrap(BFloat16DataBuffer buffer, Shape shape) {
+    Validator.denseShape(shape);
+    return new BFloat16DenseNdArray(buffer, shape);
+  }
+
+  @Override
+  protected BFloat16DataBuffer buffer() {
+    return buffer;
+  }
+
+  @Override
+  protected BFloat16DenseNdArray allocateSlice(long position, Shape shape) {
+    return new BFloat16DenseNdArray(buffer.withPosition(position).slice(), shape);
+  }
+
+  private BFloat16DenseNdArray(BFloat16DataBuffer buffer, Shape shape) {
+    super(shape);
+    this.buffer = buffer;
+  }
+
+  private BFloat16DataBuffer buffer;
+}
\ No newline at end of file
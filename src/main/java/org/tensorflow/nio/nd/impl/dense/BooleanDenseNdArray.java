@@ -0,0 +1,47 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.nd.impl.dense;
+
+import org.tensorflow.nio.buffer.BooleanDataBuffer;
+import org.tensorflow.nio.nd.BooleanNdArray;
+import org.tensorflow.nio.nd.Shape;
+
+public class BooleanDenseNdArray extends AbstractDenseNdArray<Boolean, BooleanNdArray> implements
+    BooleanNdArray {
+
+  public static BooleanNdArray wrap(BooleanDataBuffer buffer, Shape shape) {
+    Validator.denseShape(shape);
+    return new BooleanDenseNdArray(buffer, shape);
+  }
+
+  @Override
+  protected BooleanDataBuffer buffer() {
+    return buffer;
+  }
+
+  @Override
+  protected BooleanDenseNdArray allocateSlice(long position, Shape shape) {
+    return new BooleanDenseNdArray(buffer.withPosition(position).slice(), shape);
+  }
+
+  private BooleanDenseNdArray(BooleanDataBuffer buffer, Shape shape) {
+    super(shape);
+    this.buffer = buffer;
+  }
+
+  private BooleanDataBuffer buffer;
+}
\ No newline at end of file
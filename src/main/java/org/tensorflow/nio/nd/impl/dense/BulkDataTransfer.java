@@ -57,6 +57,31 @@ final class BulkDataTransfer {
     copyRecursively(bulkCopy, bulkCopyDimensionIdx, bulkCopySize, array, 0);
   }
 
+  /**
+   * Copy in bulk the given array when its last dimension is segmented but maps its elements at a
+   * constant stride in the buffer, by invoking recursively the {@code bulkCopy} operation on a
+   * strided view of each vector of the array.
+   *
+   * @param array array implied in the copy
+   * @param bulkCopy the copy operation that should be invoked for each strided vector of data
+   * @param <T> type of data
+   * @return true if the array has been copied, false if its last dimension has no constant stride
+   */
+  static <T> boolean executeStrided(AbstractDenseNdArray<T, ?> array, BulkCopy<T> bulkCopy) {
+    if (array.shape().numDimensions() == 0) {
+      return false;
+    }
+    int lastDimensionIdx = array.shape().numDimensions() - 1;
+    Dimension lastDim = array.shape().dimension(lastDimensionIdx);
+    long stride = constantStride(lastDim);
+    if (stride <= 0) {
+      return false;
+    }
+    copyStridedRecursively(bulkCopy, lastDimensionIdx, lastDim.position(), stride,
+        lastDim.numElements(), array, 0);
+    return true;
+  }
+
   /**
    * Recursively copy the data in bulk of the given element.
    *
@@ -86,4 +111,62 @@ final class BulkDataTransfer {
       );
     }
   }
+
+  /**
+   * Recursively copy the data of the given element through strided views of its vectors.
+   *
+   * @param bulkCopy the bulk copy operation
+   * @param lastDimensionIdx index of the last dimension of the array
+   * @param offset position of the first value of a vector in the buffer of that vector
+   * @param stride distance between two consecutive values of a vector in its buffer
+   * @param count number of values in a vector
+   * @param currentElement the current element
+   * @param currentDimensionIdx the index of the dimension of the current element
+   * @param <T> type of data
+   */
+  private static <T> void copyStridedRecursively(
+      BulkCopy<T> bulkCopy,
+      int lastDimensionIdx,
+      long offset,
+      long stride,
+      long count,
+      AbstractDenseNdArray<T, ?> currentElement,
+      int currentDimensionIdx
+  ) {
+    if (currentDimensionIdx == lastDimensionIdx) {
+      bulkCopy.invoke(currentElement.buffer().strided(offset, stride, count), count);
+    } else {
+      currentElement.childElements().forEach(e -> copyStridedRecursively(
+          bulkCopy,
+          lastDimensionIdx,
+          offset,
+          stride,
+          count,
+          (AbstractDenseNdArray<T, ?>) e,
+          currentDimensionIdx + 1)
+      );
+    }
+  }
+
+  /**
+   * Returns the distance between the positions of two consecutive elements of a dimension, if it
+   * is the same for all of its elements, or 0 otherwise (or if that distance is negative).
+   */
+  private static long constantStride(Dimension dim) {
+    long numElements = dim.numElements();
+    if (numElements < 2) {
+      return numElements == 1 ? 1 : 0;
+    }
+    long firstPosition = dim.positionOf(0);
+    long stride = dim.positionOf(1) - firstPosition;
+    if (stride <= 0) {
+      return 0;
+    }
+    for (long coord = 2; coord < numElements; ++coord) {
+      if (dim.positionOf(coord) != firstPosition + coord * stride) {
+        return 0;
+      }
+    }
+    return stride;
+  }
 }
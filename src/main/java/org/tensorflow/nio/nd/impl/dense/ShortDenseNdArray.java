@@ -0,0 +1,47 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.nd.impl.dense;
+
+import org.tensorflow.nio.buffer.ShortDataBuffer;
+import org.tensorflow.nio.nd.ShortNdArray;
+import org.tensorflow.nio.nd.Shape;
+
+public class ShortDenseNdArray extends AbstractDenseNdArray<Short, ShortNdArray> implements
+    ShortNdArray {
+
+  public static ShortNdArray wrap(ShortDataBuffer buffer, Shape shape) {
+    Validator.denseShape(shape);
+    return new ShortDenseNdArray(buffer, shape);
+  }
+
+  @Override
+  protected ShortDataBuffer buffer() {
+    return buffer;
+  }
+
+  @Override
+  protected ShortDenseNdArray allocateSlice(long position, Shape shape) {
+    return new ShortDenseNdArray(buffer.withPosition(position).slice(), shape);
+  }
+
+  private ShortDenseNdArray(ShortDataBuffer buffer, Shape shape) {
+    super(shape);
+    this.buffer = buffer;
+  }
+
+  private ShortDataBuffer buffer;
+}
\ No newline at end of file
@@ -0,0 +1,263 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.tensorflow.nio.buffer.impl.FloatConversions;
+import org.tensorflow.nio.buffer.impl.view.BFloat16DataBufferView;
+
+public abstract class BFloat16DataBufferTestBase extends DataBufferTestBase<Float> {
+
+  @Override
+  protected abstract BFloat16DataBuffer allocate(long capacity);
+
+  @Override
+  protected Float valueOf(Long val) {
+    return val.floatValue();
+  }
+
+  @Test
+  public void writeAndReadFromArray() {
+    BFloat16DataBuffer buffer = allocate(10L);
+    float[] oneToFive = new float[]{valueOf(1L), valueOf(2L), valueOf(3L), valueOf(4L),
+        valueOf(5L)};
+
+    buffer.put(oneToFive);
+    assertEquals(valueOf(2L), buffer.get(1));
+    assertEquals(5L, buffer.position());
+
+    buffer.put(oneToFive);
+    assertEquals(valueOf(2L), buffer.get(6));
+    assertEquals(10L, buffer.position());
+
+    buffer.rewind();
+    float[] read = new float[5];
+    buffer.get(read);
+    assertArrayEquals(oneToFive, read, 0.0f);
+    assertEquals(5L, buffer.position());
+
+    buffer.rewind();
+    buffer.put(oneToFive, 2, 2);
+    assertEquals(valueOf(3L), buffer.get(0));
+    assertEquals(valueOf(4L), buffer.get(1));
+    assertEquals(valueOf(3L), buffer.get(2));
+    assertEquals(2L, buffer.position());
+
+    Arrays.fill(read, valueOf(0L));
+    buffer.get(read, 1, 2);
+    assertEquals(valueOf(0L), (Float) read[0]);
+    assertEquals(valueOf(3L), (Float) read[1]);
+    assertEquals(valueOf(4L), (Float) read[2]);
+    assertEquals(valueOf(0L), (Float) read[3]);
+    assertEquals(4L, buffer.position());
+  }
+
+  @Test
+  public void writeAndReadUnboxedWithIndex() {
+    BFloat16DataBuffer buffer = allocate(10L);
+
+    buffer.setFloat(5L, valueOf(5L));
+    assertEquals(0L, buffer.position());
+    assertEquals(5.0f, buffer.getFloat(5L), 0.0f);
+    assertEquals(valueOf(5L), buffer.get(5L));
+
+    BFloat16DataBuffer slice = buffer.withPosition(4L).slice();
+    assertEquals(5.0f, slice.getFloat(1L), 0.0f);
+    slice.setFloat(2L, valueOf(6L));
+    assertEquals(6.0f, buffer.getFloat(6L), 0.0f);
+    try {
+      buffer.setFloat(10L, valueOf(10L));
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    try {
+      buffer.getFloat(10L);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    try {
+      buffer.setFloat(-1L, valueOf(-1L));
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    try {
+      buffer.getFloat(-1L);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+  }
+
+  @Test
+  public void bulkTransfersOnViews() {
+    BFloat16DataBuffer buffer = allocate(20L);
+    BFloat16DataBuffer view = new BFloat16DataBufferView(buffer, 5L, 10L);
+    float[] values = new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f};
+
+    view.put(values, 0, 5);
+    assertEquals(5L, view.position());
+    assertEquals(0L, buffer.position());
+    assertEquals(1.0f, buffer.getFloat(5L), 0.0f);
+    assertEquals(5.0f, buffer.getFloat(9L), 0.0f);
+    assertEquals(0.0f, buffer.getFloat(10L), 0.0f);
+    try {
+      view.rewind().put(values);
+      fail();
+    } catch (BufferOverflowException e) {
+      // as expected
+    }
+    float[] read = new float[3];
+    view.position(2L).get(read);
+    assertEquals(5L, view.position());
+    assertEquals(3.0f, read[0], 0.0f);
+    assertEquals(5.0f, read[2], 0.0f);
+    try {
+      view.rewind().get(new float[6]);
+      fail();
+    } catch (BufferUnderflowException e) {
+      // as expected
+    }
+    assertEquals(0L, view.position());
+  }
+
+  @Test
+  public void fillUnboxedValues() {
+    BFloat16DataBuffer buffer = allocate(40L);
+    buffer.fill(1.5f);
+    assertEquals(1.5f, buffer.getFloat(0L), 0.0f);
+    assertEquals(1.5f, buffer.getFloat(39L), 0.0f);
+
+    for (long from = 0; from < 9L; ++from) {
+      buffer.fill(0.0f).fill(from, 31L - from, -0.25f);
+      if (from > 0) {
+        assertEquals(0.0f, buffer.getFloat(from - 1), 0.0f);
+      }
+      for (long i = from; i < 31L - from; ++i) {
+        assertEquals(-0.25f, buffer.getFloat(i), 0.0f);
+      }
+      assertEquals(0.0f, buffer.getFloat(31L - from), 0.0f);
+    }
+  }
+
+  @Test
+  public void streamPrimitiveValues() {
+    BFloat16DataBuffer buffer = allocate(10L);
+    for (long i = 0; i < 10L; ++i) {
+      buffer.put(i, valueOf(i));
+    }
+    buffer.position(2L);
+    buffer.limit(8L);
+
+    assertEquals(6L, buffer.doubleStream().count());
+    assertEquals(27.0, 0.0, buffer.doubleStream().sum());
+    assertEquals(27.0, 0.0, buffer.doubleStream().parallel().sum());
+    assertEquals(27.0, 0.0, buffer.slice().doubleStream().parallel().sum());
+  }
+
+  @Test
+  public void roundValuesToNearestBFloat16() {
+    BFloat16DataBuffer buffer = allocate(10L);
+
+    buffer.setFloat(0L, 1.0f);
+    assertEquals((short) 0x3F80, buffer.getBFloat16(0L));
+    buffer.setFloat(1L, 1.0f + 0x1p-8f);
+    assertEquals(1.0f, buffer.getFloat(1L), 0.0f);
+    buffer.setFloat(2L, 1.0f + 0x3p-8f);
+    assertEquals(1.0f + 0x1p-6f, buffer.getFloat(2L), 0.0f);
+    buffer.setFloat(3L, 0x1.FEp127f);
+    assertEquals(0x1.FEp127f, buffer.getFloat(3L), 0.0f);
+    buffer.setFloat(4L, Float.MAX_VALUE);
+    assertEquals(Float.POSITIVE_INFINITY, buffer.getFloat(4L), 0.0f);
+    buffer.setFloat(5L, -Float.MIN_VALUE);
+    assertEquals(-0.0f, buffer.getFloat(5L), 0.0f);
+    buffer.setFloat(6L, Float.MIN_NORMAL);
+    assertEquals(Float.MIN_NORMAL, buffer.getFloat(6L), 0.0f);
+    buffer.setFloat(7L, Float.NaN);
+    assertTrue(Float.isNaN(buffer.getFloat(7L)));
+
+    buffer.setBFloat16(8L, (short) 0xC000);
+    assertEquals(-2.0f, buffer.getFloat(8L), 0.0f);
+    assertEquals(Float.valueOf(-2.0f), buffer.get(8L));
+  }
+
+  @Test
+  public void convertFromAndToFloatBuffers() {
+    FloatDataBuffer floats = DataBuffers.ofFloats(10000L);
+    for (long i = 0; i < floats.capacity(); ++i) {
+      floats.setFloat(i, (i % 128) * 0.5f);
+    }
+    BFloat16DataBuffer buffer = allocate(10010L).position(10L);
+    buffer.put(floats);
+    assertEquals(10010L, buffer.position());
+    assertEquals(10000L, floats.position());
+    assertEquals(0.0f, buffer.getFloat(10L), 0.0f);
+    assertEquals(63.5f, buffer.getFloat(137L), 0.0f);
+    assertEquals(7.5f, buffer.getFloat(10009L), 0.0f);
+
+    FloatDataBuffer copy = DataBuffers.ofFloats(10000L);
+    copy.put(buffer.withPosition(10L));
+    assertEquals(10000L, copy.position());
+    for (long i = 0; i < copy.capacity(); ++i) {
+      assertEquals(floats.getFloat(i), copy.getFloat(i), 0.0f);
+    }
+  }
+
+  @Test
+  public void writeAndReadWithChannels() throws IOException {
+    BFloat16DataBuffer buffer = allocate(10L);
+    for (long i = 0; i < 10L; ++i) {
+      buffer.setFloat(i, 1.5f + i);
+    }
+    for (ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      assertEquals(8L, buffer.position(2L).writeTo(Channels.newChannel(out), order));
+      assertEquals(10L, buffer.position());
+      ByteBuffer bytes = ByteBuffer.wrap(out.toByteArray()).order(order);
+      assertEquals(8 * Short.BYTES, bytes.capacity());
+      assertEquals(3.5f, FloatConversions.bfloat16ToFloat(bytes.getShort(0)), 0.0f);
+      assertEquals(10.5f, FloatConversions.bfloat16ToFloat(bytes.getShort(7 * Short.BYTES)), 0.0f);
+
+      BFloat16DataBuffer copy = allocate(10L);
+      ReadableByteChannel in = Channels.newChannel(new ByteArrayInputStream(out.toByteArray()));
+      assertEquals(8L, copy.position(1L).readFrom(in, order));
+      assertEquals(9L, copy.position());
+      assertEquals(0.0f, copy.getFloat(0), 0.0f);
+      assertEquals(3.5f, copy.getFloat(1), 0.0f);
+      assertEquals(10.5f, copy.getFloat(8), 0.0f);
+      assertEquals(-1L, copy.readFrom(in, order));
+    }
+  }
+}
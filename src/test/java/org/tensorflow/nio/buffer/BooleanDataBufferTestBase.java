@@ -0,0 +1,226 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+
+import org.junit.Test;
+import org.tensorflow.nio.buffer.impl.view.BooleanDataBufferView;
+
+public abstract class BooleanDataBufferTestBase extends DataBufferTestBase<Boolean> {
+
+  @Override
+  protected abstract BooleanDataBuffer allocate(long capacity);
+
+  @Override
+  protected Boolean valueOf(Long val) {
+    return val % 2 == 1;
+  }
+
+  @Test
+  public void writeAndReadFromArray() {
+    BooleanDataBuffer buffer = allocate(10L);
+    boolean[] values = new boolean[]{true, false, true, true, false};
+
+    buffer.put(values);
+    assertFalse(buffer.getBoolean(1));
+    assertTrue(buffer.getBoolean(3));
+    assertEquals(5L, buffer.position());
+
+    buffer.put(values);
+    assertTrue(buffer.getBoolean(7));
+    assertFalse(buffer.getBoolean(9));
+    assertEquals(10L, buffer.position());
+
+    buffer.rewind();
+    boolean[] read = new boolean[5];
+    buffer.get(read);
+    assertArrayEquals(values, read);
+    assertEquals(5L, buffer.position());
+
+    buffer.rewind();
+    buffer.put(values, 3, 2);
+    assertTrue(buffer.getBoolean(0));
+    assertFalse(buffer.getBoolean(1));
+    assertEquals(2L, buffer.position());
+
+    read = new boolean[4];
+    buffer.get(read, 1, 2);
+    assertArrayEquals(new boolean[]{false, true, true, false}, read);
+    assertEquals(4L, buffer.position());
+  }
+
+  @Test
+  public void writeAndReadUnboxedWithIndex() {
+    BooleanDataBuffer buffer = allocate(10L);
+
+    buffer.setBoolean(5L, true);
+    assertEquals(0L, buffer.position());
+    assertTrue(buffer.getBoolean(5L));
+    assertFalse(buffer.getBoolean(4L));
+    assertEquals(Boolean.TRUE, buffer.get(5L));
+    try {
+      buffer.setBoolean(10L, true);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    try {
+      buffer.getBoolean(-1L);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+  }
+
+  @Test
+  public void writeAndReadBits() {
+    BooleanDataBuffer buffer = allocate(200L);
+    long bits = 0xF0E1D2C3B4A59687L;
+
+    for (long index = 0L; index < 70L; index += 3L) {
+      for (int count = 0; count <= Long.SIZE; count += 7) {
+        buffer.fill(true).setBits(index, count, bits);
+        long expected = count == Long.SIZE ? bits : bits & ((1L << count) - 1L);
+        assertEquals(expected, buffer.getBits(index, count));
+        for (int i = 0; i < count; ++i) {
+          assertEquals(((bits >>> i) & 1L) != 0L, buffer.getBoolean(index + i));
+        }
+        if (index > 0) {
+          assertTrue(buffer.getBoolean(index - 1));
+        }
+        assertTrue(buffer.getBoolean(index + count));
+      }
+    }
+    try {
+      buffer.getBits(150L, Long.SIZE);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    try {
+      buffer.setBits(0L, Long.SIZE + 1, bits);
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+  }
+
+  @Test
+  public void bitwiseOperations() {
+    BooleanDataBuffer buffer = allocate(150L);
+    BooleanDataBuffer operand = allocate(150L);
+    boolean[] expected = new boolean[150];
+    for (int i = 0; i < 150; ++i) {
+      buffer.setBoolean(i, i % 3 == 0);
+      operand.setBoolean(i, i % 5 == 0);
+      expected[i] = i % 3 == 0;
+    }
+    buffer.position(3L).limit(140L);
+    operand.position(10L);
+    for (int i = 3; i < 140; ++i) {
+      expected[i] = expected[i] && (i + 7) % 5 == 0;
+    }
+    buffer.and(operand);
+    assertEquals(3L, buffer.position());
+    assertEquals(10L, operand.position());
+    assertBooleans(expected, buffer);
+
+    buffer.or(operand);
+    for (int i = 3; i < 140; ++i) {
+      expected[i] = expected[i] || (i + 7) % 5 == 0;
+    }
+    assertBooleans(expected, buffer);
+
+    buffer.xor(operand.withPosition(0L));
+    for (int i = 3; i < 140; ++i) {
+      expected[i] = expected[i] ^ (i - 3) % 5 == 0;
+    }
+    assertBooleans(expected, buffer);
+
+    buffer.not();
+    long count = 0L;
+    for (int i = 3; i < 140; ++i) {
+      expected[i] = !expected[i];
+      count += expected[i] ? 1 : 0;
+    }
+    assertBooleans(expected, buffer);
+    assertEquals(count, buffer.bitCount());
+    try {
+      buffer.and(operand.withPosition(20L));
+      fail();
+    } catch (BufferUnderflowException e) {
+      // as expected
+    }
+  }
+
+  @Test
+  public void fillUnboxedValues() {
+    BooleanDataBuffer buffer = allocate(200L);
+    buffer.fill(true);
+    assertTrue(buffer.getBoolean(0L));
+    assertTrue(buffer.getBoolean(199L));
+
+    for (long from = 0; from < 70L; from += 3L) {
+      buffer.fill(false).fill(from, 199L - from, true);
+      if (from > 0) {
+        assertFalse(buffer.getBoolean(from - 1));
+      }
+      assertEquals(199L - 2 * from, buffer.bitCount());
+      assertFalse(buffer.getBoolean(199L - from));
+    }
+  }
+
+  @Test
+  public void bulkTransfersOnViews() {
+    BooleanDataBuffer buffer = allocate(20L);
+    BooleanDataBuffer view = new BooleanDataBufferView(buffer, 5L, 10L);
+    boolean[] values = new boolean[]{true, false, true, false, true, true};
+
+    view.put(values, 0, 5);
+    assertEquals(5L, view.position());
+    assertEquals(0L, buffer.position());
+    assertTrue(buffer.getBoolean(5L));
+    assertTrue(buffer.getBoolean(9L));
+    assertFalse(buffer.getBoolean(10L));
+    try {
+      view.rewind().put(values);
+      fail();
+    } catch (BufferOverflowException e) {
+      // as expected
+    }
+    assertEquals(0x15L, view.getBits(0L, 5));
+    view.not();
+    assertEquals(0x0AL, buffer.getBits(5L, 5));
+    assertFalse(buffer.getBoolean(4L));
+    assertFalse(buffer.getBoolean(10L));
+  }
+
+  private static void assertBooleans(boolean[] expected, BooleanDataBuffer buffer) {
+    BooleanDataBuffer values = buffer.withLimit(buffer.capacity());
+    for (int i = 0; i < expected.length; ++i) {
+      assertEquals("at index " + i, expected[i], values.getBoolean(i));
+    }
+  }
+}
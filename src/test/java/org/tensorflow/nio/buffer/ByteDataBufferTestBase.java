@@ -18,10 +18,21 @@ package org.tensorflow.nio.buffer;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.util.Arrays;
 
 import org.junit.Test;
+import org.tensorflow.nio.buffer.impl.view.ByteDataBufferView;
 
 public abstract class ByteDataBufferTestBase extends DataBufferTestBase<Byte> {
 
@@ -67,4 +78,243 @@ public abstract class ByteDataBufferTestBase extends DataBufferTestBase<Byte> {
     assertEquals(valueOf(0L), (Byte) read[3]);
     assertEquals(4L, buffer.position());
   }
+
+  @Test
+  public void writeAndReadUnboxedWithIndex() {
+    ByteDataBuffer buffer = allocate(10L);
+
+    buffer.setByte(5L, valueOf(5L));
+    assertEquals(0L, buffer.position());
+    assertEquals(5, buffer.getByte(5L));
+    assertEquals(valueOf(5L), buffer.get(5L));
+
+    ByteDataBuffer slice = buffer.withPosition(4L).slice();
+    assertEquals(5, slice.getByte(1L));
+    slice.setByte(2L, valueOf(6L));
+    assertEquals(6, buffer.getByte(6L));
+    try {
+      buffer.setByte(10L, valueOf(10L));
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    try {
+      buffer.getByte(10L);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    try {
+      buffer.setByte(-1L, valueOf(-1L));
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    try {
+      buffer.getByte(-1L);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+  }
+
+  @Test
+  public void reinterpretAsOtherTypes() {
+    ByteDataBuffer buffer = allocate(20L);
+    buffer.put(new byte[] { 0x3F, (byte) 0x80, 0, 0, 0, 0, (byte) 0x80, 0x3F, 0, 0, 0, 1 });
+    buffer.rewind();
+
+    FloatDataBuffer floats = buffer.asFloats(ByteOrder.BIG_ENDIAN);
+    assertEquals(5L, floats.capacity());
+    assertEquals(1.0f, floats.getFloat(0), 0.0f);
+    assertEquals(0L, buffer.position());
+
+    IntDataBuffer ints = buffer.withPosition(4L).asInts(ByteOrder.LITTLE_ENDIAN);
+    assertEquals(4L, ints.capacity());
+    assertEquals(Float.floatToIntBits(1.0f), ints.getInt(0));
+    assertEquals(0x01000000, ints.getInt(1));
+
+    LongDataBuffer longs = buffer.withLimit(19L).asLongs(ByteOrder.BIG_ENDIAN);
+    assertEquals(2L, longs.capacity());
+    assertEquals(0x3F8000000000803FL, longs.getLong(0));
+
+    ShortDataBuffer shorts = buffer.withPosition(6L).asShorts(ByteOrder.BIG_ENDIAN);
+    assertEquals(7L, shorts.capacity());
+    assertEquals((short) 0x803F, shorts.getShort(0));
+    assertEquals(1, shorts.getShort(2));
+    assertEquals((short) 0x803F, buffer.asShorts(ByteOrder.LITTLE_ENDIAN).getShort(0));
+    shorts.setShort(3L, (short) 0x1234);
+    assertEquals(0x12, buffer.getByte(12L));
+    assertEquals(0x34, buffer.getByte(13L));
+
+    DoubleDataBuffer doubles = buffer.asDoubles(ByteOrder.LITTLE_ENDIAN);
+    doubles.setDouble(1L, 2.0);
+    assertEquals(0, buffer.getByte(8L));
+    assertEquals(0x40, buffer.getByte(15L));
+    assertEquals(0, ints.getInt(1));
+    assertEquals(2.0, doubles.getDouble(1L), 0.0);
+  }
+
+  @Test
+  public void readAndWriteAsUnsigned() {
+    ByteDataBuffer buffer = allocate(10L);
+    buffer.put(new byte[] { 0, 1, 127, (byte) 0x80, (byte) 0xFF, 0, 0, 0, 0, 0 });
+    buffer.position(1L);
+
+    IntDataBuffer unsigned = buffer.asUnsigned();
+    assertEquals(9L, unsigned.capacity());
+    assertEquals(0L, unsigned.position());
+    assertEquals(1L, buffer.position());
+    assertEquals(1, unsigned.getInt(0));
+    assertEquals(127, unsigned.getInt(1));
+    assertEquals(128, unsigned.getInt(2));
+    assertEquals(255, unsigned.getInt(3));
+
+    unsigned.setInt(4L, 200);
+    assertEquals((byte) 200, buffer.getByte(5L));
+    assertEquals(200, unsigned.getInt(4L));
+    unsigned.setInt(5L, 0x107);
+    assertEquals(7, buffer.getByte(6L));
+
+    int[] values = new int[6];
+    unsigned.get(values, 1, 5);
+    assertArrayEquals(new int[] { 0, 1, 127, 128, 255, 200 }, values);
+    assertEquals(5L, unsigned.position());
+
+    unsigned.put(new int[] { 250, 251 });
+    assertEquals((byte) 250, buffer.getByte(6L));
+    assertEquals((byte) 251, buffer.getByte(7L));
+    assertEquals(1 + 127 + 128 + 255 + 200 + 250 + 251, unsigned.rewind().intStream().sum());
+    try {
+      unsigned.position(7L).put(new int[3]);
+      fail();
+    } catch (BufferOverflowException e) {
+      // as expected
+    }
+  }
+
+  @Test
+  public void bulkTransfersOnViews() {
+    ByteDataBuffer buffer = allocate(20L);
+    ByteDataBuffer view = new ByteDataBufferView(buffer, 5L, 10L);
+    byte[] values = new byte[]{(byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5, (byte) 6};
+
+    view.put(values, 0, 5);
+    assertEquals(5L, view.position());
+    assertEquals(0L, buffer.position());
+    assertEquals((byte) 1, buffer.getByte(5L));
+    assertEquals((byte) 5, buffer.getByte(9L));
+    assertEquals((byte) 0, buffer.getByte(10L));
+    try {
+      view.rewind().put(values);
+      fail();
+    } catch (BufferOverflowException e) {
+      // as expected
+    }
+    byte[] read = new byte[3];
+    view.position(2L).get(read);
+    assertEquals(5L, view.position());
+    assertEquals((byte) 3, read[0]);
+    assertEquals((byte) 5, read[2]);
+    try {
+      view.rewind().get(new byte[6]);
+      fail();
+    } catch (BufferUnderflowException e) {
+      // as expected
+    }
+    assertEquals(0L, view.position());
+  }
+
+  @Test
+  public void fillUnboxedValues() {
+    ByteDataBuffer buffer = allocate(40L);
+    buffer.fill((byte) 0x5A);
+    assertEquals((byte) 0x5A, buffer.getByte(0L));
+    assertEquals((byte) 0x5A, buffer.getByte(39L));
+
+    for (long from = 0; from < 9L; ++from) {
+      buffer.fill((byte) 0).fill(from, 31L - from, (byte) 0x3C);
+      if (from > 0) {
+        assertEquals((byte) 0, buffer.getByte(from - 1));
+      }
+      for (long i = from; i < 31L - from; ++i) {
+        assertEquals((byte) 0x3C, buffer.getByte(i));
+      }
+      assertEquals((byte) 0, buffer.getByte(31L - from));
+    }
+  }
+
+  @Test
+  public void streamPrimitiveValues() {
+    ByteDataBuffer buffer = allocate(10L);
+    for (long i = 0; i < 10L; ++i) {
+      buffer.put(i, valueOf(i));
+    }
+    buffer.position(2L);
+    buffer.limit(8L);
+
+    assertEquals(6L, buffer.intStream().count());
+    assertEquals(27, buffer.intStream().sum());
+    assertEquals(27, buffer.intStream().parallel().sum());
+    assertEquals(27, buffer.slice().intStream().parallel().sum());
+  }
+
+  @Test
+  public void writeAndReadWithChannels() throws IOException {
+    ByteDataBuffer buffer = allocate(10L);
+    for (long i = 0; i < 10L; ++i) {
+      buffer.setByte(i, (byte) (0x70 + i));
+    }
+    for (ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      assertEquals(8L, buffer.position(2L).writeTo(Channels.newChannel(out), order));
+      assertEquals(10L, buffer.position());
+      ByteBuffer bytes = ByteBuffer.wrap(out.toByteArray()).order(order);
+      assertEquals(8 * Byte.BYTES, bytes.capacity());
+      assertEquals((byte) 0x72, bytes.get(0));
+      assertEquals((byte) 0x79, bytes.get(7));
+
+      ByteDataBuffer copy = allocate(10L);
+      ReadableByteChannel in = Channels.newChannel(new ByteArrayInputStream(out.toByteArray()));
+      assertEquals(8L, copy.position(1L).readFrom(in, order));
+      assertEquals(9L, copy.position());
+      assertEquals(0, copy.getByte(0));
+      assertEquals((byte) 0x72, copy.getByte(1));
+      assertEquals((byte) 0x79, copy.getByte(8));
+      assertEquals(-1L, copy.readFrom(in, order));
+    }
+  }
+
+  @Test
+  public void gatherAndScatterValues() {
+    ByteDataBuffer buffer = allocate(8L);
+    for (int i = 0; i < 8; ++i) {
+      buffer.setByte(i, (byte) (i * 20));
+    }
+    IntDataBuffer indices = DataBuffers.ofIntegers(4L);
+    indices.put(7).put(1).put(7).put(0).rewind();
+    ByteDataBuffer values = allocate(4L);
+    buffer.gather(indices, values);
+    assertEquals(4L, indices.position());
+    assertEquals((byte) 140, values.getByte(0L));
+    assertEquals(20, values.getByte(1L));
+    assertEquals((byte) 140, values.getByte(2L));
+    assertEquals(0, values.getByte(3L));
+
+    buffer.scatterAdd(indices.rewind().limit(2L), values.rewind());
+    assertEquals(2L, values.position());
+    assertEquals((byte) 280, buffer.getByte(7L));
+    assertEquals(40, buffer.getByte(1L));
+
+    LongDataBuffer longIndices = DataBuffers.ofLongs(2L);
+    longIndices.put(2L).put(8L).rewind();
+    try {
+      buffer.scatter(longIndices, values.rewind());
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    assertEquals(40, buffer.getByte(2L));
+    assertEquals(0L, values.position());
+  }
 }
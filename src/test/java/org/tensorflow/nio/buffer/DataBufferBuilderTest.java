@@ -0,0 +1,109 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+public class DataBufferBuilderTest {
+
+  @Test
+  public void buildFromSingleChunk() {
+    FloatDataBufferBuilder builder = FloatDataBufferBuilder.create(8, AllocationMode.HEAP);
+    builder.append(1.0f).append(2.0f).append(Float.valueOf(3.0f));
+    assertEquals(3, builder.size());
+
+    FloatDataBuffer buffer = builder.build();
+    assertEquals(3, buffer.capacity());
+    assertEquals(0, buffer.position());
+    assertEquals(3, buffer.limit());
+    float[] values = new float[3];
+    buffer.get(values);
+    assertArrayEquals(new float[] { 1.0f, 2.0f, 3.0f }, values, 0.0f);
+  }
+
+  @Test
+  public void buildFromMultipleChunks() {
+    IntDataBufferBuilder builder = IntDataBufferBuilder.create(4, AllocationMode.DIRECT);
+    builder.append(new int[] { 0, 1, 2, 3, 4, 5 });
+    builder.append(DataBuffers.wrap(new int[] { 6, 7, 8 }, true));
+    builder.append(9);
+    assertEquals(10, builder.size());
+
+    IntDataBuffer buffer = builder.build();
+    assertEquals(10, buffer.capacity());
+    for (int i = 0; i < 10; ++i) {
+      assertEquals(i, buffer.getInt(i));
+    }
+    buffer.setInt(9, 90);
+    assertEquals(90, buffer.getInt(9));
+  }
+
+  @Test
+  public void fullChunksAreJoinedAsIs() {
+    LongDataBufferBuilder builder = LongDataBufferBuilder.create(2, AllocationMode.HEAP);
+    builder.append(new long[] { 1L, 2L, 3L, 4L });
+    LongDataBuffer buffer = builder.build();
+    assertEquals(4, buffer.capacity());
+    assertEquals(4L, buffer.getLong(3));
+  }
+
+  @Test
+  public void builderIsResetAfterBuild() {
+    ShortDataBufferBuilder builder = ShortDataBufferBuilder.create();
+    assertEquals(AbstractDataBufferBuilder.DEFAULT_CHUNK_CAPACITY, builder.chunkCapacity());
+    ShortDataBuffer first = builder.append((short) 1).build();
+    assertEquals(0, builder.size());
+    assertEquals(0, builder.build().capacity());
+
+    ShortDataBuffer second = builder.append((short) 2).build();
+    assertEquals(1, first.getShort(0));
+    assertEquals(2, second.getShort(0));
+  }
+
+  @Test
+  public void appendOtherTypes() {
+    ByteDataBuffer bytes = ByteDataBufferBuilder.create(3, AllocationMode.HEAP)
+        .append(new byte[] { 1, 2, 3, 4, 5 }, 1, 3).append((byte) 6).build();
+    assertEquals(4, bytes.capacity());
+    assertEquals(2, bytes.getByte(0));
+    assertEquals(6, bytes.getByte(3));
+
+    DoubleDataBuffer doubles = DoubleDataBufferBuilder.create(1, AllocationMode.HEAP)
+        .append(1.0).append(2.0).build();
+    assertEquals(2.0, doubles.getDouble(1), 0.0);
+  }
+
+  @Test
+  public void invalidArguments() {
+    try {
+      FloatDataBufferBuilder.create(0, AllocationMode.HEAP);
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+    try {
+      FloatDataBufferBuilder.create().append(new float[2], 1, 2);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+  }
+}
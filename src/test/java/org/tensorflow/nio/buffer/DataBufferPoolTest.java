@@ -0,0 +1,232 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+import org.tensorflow.nio.buffer.impl.raw.LongRawDataBuffer;
+import org.tensorflow.nio.nd.FloatNdArray;
+import org.tensorflow.nio.nd.NdArrays;
+import org.tensorflow.nio.nd.Shape;
+
+public class DataBufferPoolTest {
+
+  @Test
+  public void acquireRoundsUpToSizeClass() {
+    DataBufferPool pool = DataBufferPool.create(1 << 20, AllocationMode.HEAP);
+
+    FloatDataBuffer buffer = pool.ofFloats(100);
+    assertEquals(128, buffer.capacity());
+    assertEquals(100, buffer.limit());
+    assertEquals(0, buffer.position());
+
+    assertEquals(64, pool.ofBytes(0).capacity());
+    assertEquals(64, pool.ofBytes(1).capacity());
+    assertEquals(64, pool.ofBytes(64).capacity());
+    assertEquals(128, pool.ofBytes(65).capacity());
+    assertEquals(8, pool.ofDoubles(8).capacity());
+    assertEquals(6, pool.misses());
+  }
+
+  @Test
+  public void releasedBuffersAreRecycled() {
+    DataBufferPool pool = DataBufferPool.create(1 << 20, AllocationMode.HEAP);
+
+    IntDataBuffer buffer = pool.ofIntegers(1000);
+    buffer.put(10, 10);
+    buffer.position(20);
+    pool.release(buffer);
+
+    IntDataBuffer recycled = pool.ofIntegers(600);
+    assertSame(buffer, recycled);
+    assertEquals(0, recycled.position());
+    assertEquals(600, recycled.limit());
+    assertEquals(Integer.valueOf(10), recycled.get(10));
+    assertEquals(1, pool.hits());
+    assertEquals(1, pool.misses());
+
+    assertNotSame(buffer, pool.ofLongs(1000));
+    assertNotSame(buffer, pool.ofIntegers(100));
+    assertEquals(1, pool.hits());
+    assertEquals(3, pool.misses());
+  }
+
+  @Test
+  public void buffersOutsideOfSizeClassesAreNotPooled() {
+    DataBufferPool pool = DataBufferPool.create(1 << 20, AllocationMode.HEAP);
+
+    ShortDataBuffer buffer = DataBuffers.ofShorts(100);
+    pool.release(buffer);
+    assertNotSame(buffer, pool.ofShorts(100));
+    assertEquals(0, pool.hits());
+
+    try {
+      pool.release(DataBuffers.ofBooleans(64));
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+  }
+
+  @Test
+  public void buffersAreSharedAcrossThreads() throws Exception {
+    DataBufferPool pool = DataBufferPool.create(1 << 20, AllocationMode.HEAP);
+
+    LongDataBuffer[] buffers = new LongDataBuffer[DataBufferPool.THREAD_CACHE_SIZE + 1];
+    for (int i = 0; i < buffers.length; ++i) {
+      buffers[i] = pool.ofLongs(16);
+    }
+    for (LongDataBuffer buffer : buffers) {
+      pool.release(buffer);
+    }
+    assertEquals(128 * buffers.length, pool.retainedBytes());
+
+    LongDataBuffer acquired = CompletableFuture.supplyAsync(() -> pool.ofLongs(16)).get();
+    assertSame(buffers[buffers.length - 1], acquired);
+    assertEquals(128 * (buffers.length - 1), pool.retainedBytes());
+    assertEquals(1, pool.hits());
+  }
+
+  @Test
+  public void largestBuffersAreEvictedFirst() {
+    DataBufferPool pool = DataBufferPool.create(1 << 20, AllocationMode.HEAP);
+
+    ByteDataBuffer large = pool.ofBytes(1 << 19);
+    ByteDataBuffer larger = pool.ofBytes(1 << 20);
+    ByteDataBuffer small = pool.ofBytes(1 << 19);
+    pool.release(large);
+    pool.release(small);
+    assertEquals(1 << 20, pool.retainedBytes());
+    pool.release(larger);
+    assertEquals(1 << 20, pool.retainedBytes());
+    assertEquals(1, pool.evictions());
+
+    assertNotSame(larger, pool.ofBytes(1 << 20));
+    assertSame(small, pool.ofBytes(1 << 19));
+    assertSame(large, pool.ofBytes(1 << 19));
+  }
+
+  @Test
+  public void threadCachedBuffersAreRetained() {
+    DataBufferPool pool = DataBufferPool.create(256, AllocationMode.HEAP);
+
+    FloatDataBuffer first = pool.ofFloats(32);
+    FloatDataBuffer second = pool.ofFloats(32);
+    FloatDataBuffer third = pool.ofFloats(32);
+    pool.release(first);
+    pool.release(second);
+    assertEquals(256, pool.retainedBytes());
+    assertEquals(0, pool.evictions());
+    pool.release(third);
+    assertEquals(256, pool.retainedBytes());
+    assertEquals(1, pool.evictions());
+
+    assertSame(second, pool.ofFloats(32));
+    assertSame(first, pool.ofFloats(32));
+    assertEquals(0, pool.retainedBytes());
+  }
+
+  @Test
+  public void evictedBuffersAreReleased() {
+    DataBufferPool pool = DataBufferPool.create(0, AllocationMode.HEAP);
+
+    LongDataBuffer buffer = LongRawDataBuffer.allocate(64);
+    pool.release(buffer);
+    assertEquals(1, pool.evictions());
+    try {
+      buffer.get(0);
+      fail();
+    } catch (IllegalStateException e) {
+      // as expected
+    }
+  }
+
+  @Test
+  public void closingReleasesAllBuffers() throws Exception {
+    DataBufferPool pool = DataBufferPool.create(1 << 20, AllocationMode.HEAP);
+
+    LongDataBuffer cached = LongRawDataBuffer.allocate(64);
+    LongDataBuffer shared = LongRawDataBuffer.allocate(1 << 16);
+    CompletableFuture.runAsync(() -> pool.release(cached)).get();
+    pool.release(shared);
+    assertEquals(512 + (1 << 19), pool.retainedBytes());
+
+    pool.close();
+    assertEquals(0, pool.retainedBytes());
+    assertEquals(0, pool.evictions());
+    for (LongDataBuffer buffer : new LongDataBuffer[] { cached, shared }) {
+      try {
+        buffer.get(0);
+        fail();
+      } catch (IllegalStateException e) {
+        // as expected
+      }
+    }
+
+    LongDataBuffer released = LongRawDataBuffer.allocate(64);
+    pool.release(released);
+    assertEquals(0, pool.retainedBytes());
+    assertNotSame(released, pool.ofLongs(64));
+  }
+
+  @Test
+  public void nothingIsRetainedWithoutCapacity() {
+    DataBufferPool pool = DataBufferPool.create(0, AllocationMode.DIRECT);
+
+    DoubleDataBuffer buffer = pool.ofDoubles(1 << 16);
+    pool.release(buffer);
+    assertEquals(0, pool.retainedBytes());
+    assertEquals(1, pool.evictions());
+    assertNotSame(buffer, pool.ofDoubles(1 << 16));
+  }
+
+  @Test
+  public void arraysFromPool() {
+    DataBufferPool pool = DataBufferPool.create(1 << 20, AllocationMode.HEAP);
+
+    FloatNdArray array = NdArrays.ofFloats(Shape.create(3, 5), pool);
+    array.set(1.0f, 2, 4);
+    assertEquals(Float.valueOf(1.0f), array.get(2, 4));
+    NdArrays.release(array, pool);
+
+    FloatNdArray recycled = NdArrays.ofFloats(Shape.create(5, 3), pool);
+    assertEquals(Float.valueOf(1.0f), recycled.get(4, 2));
+    assertEquals(1, pool.hits());
+  }
+
+  @Test
+  public void invalidArguments() {
+    try {
+      DataBufferPool.create(-1);
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+    try {
+      DataBufferPool.create(0).ofFloats(-1);
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+  }
+}
@@ -23,6 +23,8 @@ import static org.junit.Assert.fail;
 
 import java.nio.BufferOverflowException;
 import java.nio.BufferUnderflowException;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.Test;
 
@@ -199,6 +201,114 @@ abstract public class DataBufferTestBase<T> {
     assertEquals(valueOf(9L), buffer.get(4L));
   }
 
+  @Test
+  public void slicesOfSlices() {
+    DataBuffer<T> buffer = allocate(20L);
+    for (long i = 0; i < 20L; ++i) {
+      buffer.put(i, valueOf(i));
+    }
+    DataBuffer<T> slice = buffer.withPosition(5L).slice().withPosition(4L).slice();
+    assertEquals(11L, slice.capacity());
+    assertEquals(valueOf(9L), slice.get(0L));
+    assertEquals(valueOf(19L), slice.get(10L));
+
+    DataBuffer<T> duplicate = slice.duplicate().position(3L);
+    assertEquals(0L, slice.position());
+    assertEquals(valueOf(12L), duplicate.get());
+    assertEquals(4L, duplicate.position());
+
+    duplicate.limit(6L);
+    assertEquals(11L, slice.limit());
+    assertEquals(2L, duplicate.slice().capacity());
+  }
+
+  @Test
+  public void stridedViews() {
+    DataBuffer<T> buffer = allocate(12L);
+    for (long i = 0; i < 12L; ++i) {
+      buffer.put(i, valueOf(i));
+    }
+    DataBuffer<T> column = buffer.strided(1L, 4L, 3L);
+    assertEquals(3L, column.capacity());
+    assertEquals(3L, column.limit());
+    assertEquals(0L, column.position());
+    assertEquals(valueOf(1L), column.get(0L));
+    assertEquals(valueOf(5L), column.get(1L));
+    assertEquals(valueOf(9L), column.get(2L));
+
+    column.put(1L, valueOf(100L));
+    assertEquals(valueOf(100L), buffer.get(5L));
+    buffer.put(9L, valueOf(101L));
+    assertEquals(valueOf(101L), column.get(2L));
+
+    DataBuffer<T> gathered = allocate(3L);
+    gathered.put(column);
+    assertEquals(valueOf(1L), gathered.get(0L));
+    assertEquals(valueOf(100L), gathered.get(1L));
+    assertEquals(valueOf(101L), gathered.get(2L));
+
+    DataBuffer<T> values = allocate(3L);
+    for (long i = 0; i < 3L; ++i) {
+      values.put(i, valueOf(200L + i));
+    }
+    buffer.strided(3L, 4L, 3L).put(values);
+    assertEquals(valueOf(200L), buffer.get(3L));
+    assertEquals(valueOf(201L), buffer.get(7L));
+    assertEquals(valueOf(202L), buffer.get(11L));
+    assertEquals(valueOf(4L), buffer.get(4L));
+
+    DataBuffer<T> stridedOfStrided = buffer.strided(0L, 2L, 6L).strided(1L, 3L, 2L);
+    assertEquals(2L, stridedOfStrided.capacity());
+    assertEquals(valueOf(2L), stridedOfStrided.get(0L));
+    assertEquals(valueOf(8L), stridedOfStrided.get(1L));
+
+    DataBuffer<T> slice = column.position(1L).slice();
+    assertEquals(2L, slice.capacity());
+    assertEquals(valueOf(100L), slice.get(0L));
+    assertEquals(valueOf(101L), slice.get(1L));
+
+    assertEquals(0L, buffer.strided(12L, 1L, 0L).capacity());
+    try {
+      buffer.strided(1L, 4L, 4L);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    try {
+      buffer.strided(-1L, 4L, 1L);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    try {
+      buffer.strided(0L, 0L, 1L);
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+  }
+
+  @Test
+  public void stridedViewsBeyondLimit() {
+    DataBuffer<T> buffer = allocate(12L);
+    for (long i = 0; i < 12L; ++i) {
+      buffer.put(i, valueOf(i));
+    }
+    buffer.limit(5L);
+    DataBuffer<T> strided = buffer.strided(1L, 3L, 3L);
+    assertEquals(5L, buffer.limit());
+    assertEquals(valueOf(7L), strided.get(2L));
+
+    DataBuffer<T> gathered = allocate(3L);
+    gathered.put(strided);
+    assertEquals(valueOf(1L), gathered.get(0L));
+    assertEquals(valueOf(4L), gathered.get(1L));
+    assertEquals(valueOf(7L), gathered.get(2L));
+
+    strided.rewind().put(gathered.rewind().withPosition(2L));
+    assertEquals(valueOf(7L), buffer.get(1L));
+  }
+
   @Test
   public void writeAndReadFromPosition() {
     DataBuffer<T> buffer = allocate(10L);
@@ -316,4 +426,111 @@ abstract public class DataBufferTestBase<T> {
       // as expected
     }
   }
+
+  @Test
+  public void writeFromSourceBufferSlices() {
+    DataBuffer<T> srcBuffer = allocate(20L);
+    for (long i = 0; i < 20L; ++i) {
+      srcBuffer.put(i, valueOf(i));
+    }
+    DataBuffer<T> buffer = allocate(20L);
+    DataBuffer<T> slice = buffer.withPosition(5L).withLimit(10L).slice();
+    DataBuffer<T> srcSlice = srcBuffer.withPosition(8L).withLimit(11L).slice();
+
+    slice.position(1L).put(srcSlice);
+    assertEquals(4L, slice.position());
+    assertEquals(3L, srcSlice.position());
+    assertEquals(0L, srcBuffer.position());
+    assertEquals(valueOf(8L), buffer.get(6L));
+    assertEquals(valueOf(10L), buffer.get(8L));
+    try {
+      slice.put(srcSlice.rewind());
+      fail();
+    } catch (BufferOverflowException e) {
+      // as expected
+    }
+    buffer.rewind().put(slice.rewind());
+    assertEquals(5L, buffer.position());
+    assertEquals(valueOf(8L), buffer.get(1L));
+    assertEquals(valueOf(10L), buffer.get(3L));
+  }
+
+  @Test
+  public void fillValues() {
+    DataBuffer<T> buffer = allocate(10L).position(2L);
+    buffer.fill(valueOf(7L));
+    assertEquals(2L, buffer.position());
+    assertEquals(valueOf(7L), buffer.get(0L));
+    assertEquals(valueOf(7L), buffer.get(9L));
+
+    buffer.fill(3L, 6L, valueOf(4L));
+    assertEquals(valueOf(7L), buffer.get(2L));
+    assertEquals(valueOf(4L), buffer.get(3L));
+    assertEquals(valueOf(4L), buffer.get(5L));
+    assertEquals(valueOf(7L), buffer.get(6L));
+
+    buffer.limit(8L).fill(valueOf(1L));
+    assertEquals(valueOf(1L), buffer.get(7L));
+    assertEquals(valueOf(7L), buffer.withLimit(10L).get(8L));
+    try {
+      buffer.fill(5L, 9L, valueOf(1L));
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    try {
+      buffer.fill(-1L, 5L, valueOf(1L));
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    try {
+      buffer.fill(5L, 4L, valueOf(1L));
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+  }
+
+  @Test
+  public void fillWithPattern() {
+    DataBuffer<T> pattern = allocate(5L);
+    for (long i = 0; i < 5L; ++i) {
+      pattern.put(i, valueOf(i));
+    }
+    pattern.position(1L).limit(4L);
+    DataBuffer<T> buffer = allocate(20L).limit(17L);
+    buffer.fill(pattern);
+    assertEquals(1L, pattern.position());
+    assertEquals(0L, buffer.position());
+    for (long i = 0; i < 17L; ++i) {
+      assertEquals(valueOf(i % 3 + 1), buffer.get(i));
+    }
+    buffer.limit(2L).fill(pattern);
+    assertEquals(valueOf(1L), buffer.get(0L));
+    assertEquals(valueOf(2L), buffer.get(1L));
+    assertEquals(valueOf(3L), buffer.withLimit(3L).get(2L));
+    try {
+      buffer.fill(pattern.position(4L));
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+  }
+
+  @Test
+  public void streamValues() {
+    DataBuffer<T> buffer = allocate(10L);
+    for (long i = 0; i < 10L; ++i) {
+      buffer.put(i, valueOf(i));
+    }
+    buffer.position(2L);
+    buffer.limit(8L);
+
+    List<T> values = buffer.stream().collect(Collectors.toList());
+    assertEquals(6, values.size());
+    assertEquals(valueOf(2L), values.get(0));
+    assertEquals(valueOf(7L), values.get(5));
+    assertEquals(values, buffer.stream().parallel().collect(Collectors.toList()));
+  }
 }
@@ -0,0 +1,568 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.BufferOverflowException;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.tensorflow.nio.buffer.impl.Alignment;
+import org.tensorflow.nio.buffer.impl.AsyncFileTransfer;
+import org.tensorflow.nio.buffer.impl.ParallelCopyTask;
+import org.tensorflow.nio.buffer.impl.ParallelIndexedTask;
+import org.tensorflow.nio.buffer.impl.large.ByteLargeDataBuffer;
+import org.tensorflow.nio.buffer.impl.large.FloatLargeDataBuffer;
+import org.tensorflow.nio.buffer.impl.large.IntLargeDataBuffer;
+import org.tensorflow.nio.buffer.impl.raw.ByteRawDataBuffer;
+import org.tensorflow.nio.buffer.impl.raw.FloatRawDataBuffer;
+import org.tensorflow.nio.buffer.impl.raw.IntRawDataBuffer;
+import org.tensorflow.nio.buffer.impl.single.ByteJdkDataBuffer;
+import org.tensorflow.nio.buffer.impl.single.FloatJdkDataBuffer;
+import org.tensorflow.nio.buffer.impl.single.HalfJdkDataBuffer;
+import org.tensorflow.nio.buffer.impl.single.IntJdkDataBuffer;
+
+public class DataBuffersTest {
+
+  @Test
+  public void copyInParallel() {
+    long bufferCapacity = ParallelCopyTask.RANGE_ALIGNMENT * 3 + 1;
+    FloatDataBuffer src = FloatLargeDataBuffer.join(FloatJdkDataBuffer.allocate(bufferCapacity),
+        FloatJdkDataBuffer.allocate(bufferCapacity), FloatJdkDataBuffer.allocate(bufferCapacity));
+    for (long i = 0; i < src.capacity(); ++i) {
+      src.setFloat(i, i);
+    }
+    src.position(5L);
+    FloatDataBuffer dst = DataBuffers.ofFloats(src.capacity());
+    dst.position(2L);
+
+    assertEquals(dst, DataBuffers.copy(src, dst, 4));
+    assertEquals(src.limit(), src.position());
+    assertEquals(src.capacity() - 3L, dst.position());
+    assertEquals(0.0f, dst.getFloat(1L), 0.0f);
+    for (long i = 2L; i < dst.position(); ++i) {
+      assertEquals(i + 3L, dst.getFloat(i), 0.0f);
+    }
+    assertEquals(0.0f, dst.getFloat(dst.position()), 0.0f);
+  }
+
+  @Test
+  public void copyInParallelByRanges() {
+    FloatDataBuffer src = DataBuffers.ofFloats(ParallelCopyTask.RANGE_ALIGNMENT * 10);
+    src.fill(1.0f);
+    AtomicInteger putCount = new AtomicInteger();
+    FloatDataBuffer dst = countingPuts(DataBuffers.ofFloats(src.capacity()), putCount);
+    DataBuffers.copy(src, dst, 4);
+    assertEquals(4, putCount.get());
+    assertEquals(src.capacity(), dst.position());
+    assertEquals(-1L, DataBuffers.mismatch(src.rewind(), dst.rewind()));
+
+    long bufferCapacity = ParallelCopyTask.RANGE_ALIGNMENT * 3 + 1;
+    FloatDataBuffer chunkedSrc = FloatLargeDataBuffer.join(
+        FloatJdkDataBuffer.allocate(bufferCapacity), FloatJdkDataBuffer.allocate(bufferCapacity),
+        FloatJdkDataBuffer.allocate(bufferCapacity));
+    chunkedSrc.fill(2.0f);
+    putCount.set(0);
+    DataBuffers.copy(chunkedSrc, countingPuts(DataBuffers.ofFloats(bufferCapacity * 3), putCount),
+        4);
+    assertTrue(putCount.get() <= 6);
+  }
+
+  /**
+   * Returns a buffer delegating to {@code target} that counts how many times values are bulk
+   * copied from another buffer into it or into its duplicates.
+   */
+  private static FloatDataBuffer countingPuts(FloatDataBuffer target, AtomicInteger count) {
+    return (FloatDataBuffer) Proxy.newProxyInstance(FloatDataBuffer.class.getClassLoader(),
+        new Class<?>[] { FloatDataBuffer.class }, (proxy, method, args) -> {
+          if (method.getName().equals("put") && args.length == 1
+              && args[0] instanceof DataBuffer) {
+            count.incrementAndGet();
+          }
+          Object result;
+          try {
+            result = method.invoke(target, args);
+          } catch (InvocationTargetException e) {
+            throw e.getCause();
+          }
+          if (result == target) {
+            return proxy;
+          }
+          if (method.getName().equals("duplicate")) {
+            return countingPuts((FloatDataBuffer) result, count);
+          }
+          return result;
+        });
+  }
+
+  @Test
+  public void copyWithPool() {
+    FloatDataBuffer src = DataBuffers.ofFloats(ParallelCopyTask.RANGE_ALIGNMENT * 5);
+    src.fill(1.0f).limit(src.capacity() - 1L);
+    FloatDataBuffer dst = DataBuffers.ofFloats(src.capacity());
+
+    ForkJoinPool pool = new ForkJoinPool(3);
+    try {
+      DataBuffers.copy(src, dst, pool);
+    } finally {
+      pool.shutdown();
+    }
+    assertEquals(src.limit(), dst.position());
+    assertEquals(src.limit(), dst.rewind().stream().filter(v -> v == 1.0f).count());
+    assertEquals(0.0f, dst.getFloat(src.limit()), 0.0f);
+  }
+
+  @Test
+  public void gatherAndScatterWithPool() {
+    long length = ParallelIndexedTask.MIN_RANGE_SIZE * 4 + 3;
+    FloatDataBuffer src = DataBuffers.ofFloats(length);
+    LongDataBuffer indices = DataBuffers.ofLongs(length);
+    for (long i = 0; i < length; ++i) {
+      src.setFloat(i, i);
+      indices.setLong(i, length - 1 - i);
+    }
+    FloatDataBuffer gathered = DataBuffers.ofFloats(length);
+    FloatDataBuffer scattered = DataBuffers.ofFloats(length);
+
+    ForkJoinPool pool = new ForkJoinPool(3);
+    try {
+      src.gather(indices, gathered, pool);
+      assertEquals(length, indices.position());
+      assertEquals(length, gathered.position());
+      for (long i = 0; i < length; ++i) {
+        assertEquals(length - 1 - i, gathered.getFloat(i), 0.0f);
+      }
+      scattered.scatter(indices.rewind(), gathered.rewind(), pool);
+      assertEquals(length, indices.position());
+      assertEquals(length, gathered.position());
+      for (long i = 0; i < length; ++i) {
+        assertEquals(i, scattered.getFloat(i), 0.0f);
+      }
+
+      indices.setLong(length / 2, length);
+      try {
+        src.gather(indices.rewind(), gathered.rewind(), pool);
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+        // as expected
+      }
+      assertEquals(0L, indices.position());
+      assertEquals(0L, gathered.position());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void compareAcrossImplementations() {
+    FloatDataBuffer view = FloatJdkDataBuffer.allocateDirect(23L).position(3L).slice();
+    FloatDataBuffer[] buffers = {
+        FloatJdkDataBuffer.allocate(20L),
+        FloatJdkDataBuffer.allocateDirect(20L),
+        FloatLargeDataBuffer.join(FloatJdkDataBuffer.allocateDirect(7L),
+            FloatJdkDataBuffer.allocateDirect(7L), FloatJdkDataBuffer.allocateDirect(6L)),
+        view.limit(20L),
+        FloatRawDataBuffer.allocate(20L)
+    };
+    for (FloatDataBuffer buffer : buffers) {
+      for (int i = 0; i < 20; ++i) {
+        buffer.setFloat(i, i * 0.5f);
+      }
+    }
+    for (FloatDataBuffer a : buffers) {
+      for (FloatDataBuffer b : buffers) {
+        assertEquals(-1L, DataBuffers.mismatch(a, b));
+        assertTrue(DataBuffers.equals(a, b));
+        assertEquals(0, DataBuffers.compare(a, b));
+      }
+    }
+    buffers[2].setFloat(13L, 100.0f);
+    for (FloatDataBuffer buffer : buffers) {
+      if (buffer != buffers[2]) {
+        assertEquals(13L, DataBuffers.mismatch(buffer, buffers[2]));
+        assertFalse(DataBuffers.equals(buffers[2], buffer));
+        assertTrue(DataBuffers.compare(buffer, buffers[2]) < 0);
+        assertTrue(DataBuffers.compare(buffers[2], buffer) > 0);
+      }
+    }
+    assertEquals(0L, buffers[0].position());
+    assertEquals(0L, buffers[2].position());
+  }
+
+  @Test
+  public void compareBytesAcrossWords() {
+    ByteDataBuffer a = ByteLargeDataBuffer.join(ByteJdkDataBuffer.allocateDirect(5L),
+        ByteJdkDataBuffer.allocateDirect(5L), ByteJdkDataBuffer.allocateDirect(5L),
+        ByteJdkDataBuffer.allocateDirect(5L), ByteJdkDataBuffer.allocateDirect(3L));
+    ByteDataBuffer b = ByteJdkDataBuffer.allocateDirect(23L);
+    for (int i = 0; i < 23; ++i) {
+      a.setByte(i, (byte) i);
+      b.setByte(i, (byte) i);
+    }
+    assertTrue(DataBuffers.equals(a, b));
+    for (long index : new long[] { 22L, 8L, 0L }) {
+      b.setByte(index, (byte) -1);
+      assertEquals(index, DataBuffers.mismatch(a, b));
+      assertTrue(DataBuffers.compare(a, b) > 0);
+    }
+    a.position(1L);
+    b.position(1L).limit(9L);
+    assertEquals(7L, DataBuffers.mismatch(a, b));
+    b.setByte(8L, (byte) 8);
+    assertEquals(8L, DataBuffers.mismatch(a, b));
+    assertFalse(DataBuffers.equals(a, b));
+    assertTrue(DataBuffers.compare(a, b) > 0);
+    assertTrue(DataBuffers.compare(b, a) < 0);
+
+    assertEquals(-1L, DataBuffers.mismatch(a.withLimit(1L), b.withLimit(1L)));
+    assertEquals(0L, DataBuffers.mismatch(a.withLimit(1L), b));
+  }
+
+  @Test
+  public void compareHeapAndRawMemory() {
+    ByteDataBuffer a = ByteJdkDataBuffer.allocate(29L);
+    ByteDataBuffer b = ByteRawDataBuffer.allocate(31L);
+    for (int i = 0; i < 29; ++i) {
+      a.setByte(i, (byte) i);
+      b.setByte(i + 2, (byte) i);
+    }
+    b.position(2L);
+    assertTrue(DataBuffers.equals(a, b));
+    for (long index : new long[] { 28L, 9L, 0L }) {
+      a.setByte(index, (byte) -1);
+      assertEquals(index, DataBuffers.mismatch(a, b));
+      assertEquals(index, DataBuffers.mismatch(b, a));
+    }
+    a.position(3L);
+    b.position(5L);
+    assertEquals(6L, DataBuffers.mismatch(a, b));
+
+    IntDataBuffer ints = IntJdkDataBuffer.allocate(10L);
+    IntDataBuffer rawInts = IntRawDataBuffer.allocate(10L);
+    ints.setInt(7L, 1);
+    assertEquals(7L, DataBuffers.mismatch(ints, rawInts));
+    rawInts.setInt(7L, 1);
+    assertTrue(DataBuffers.equals(ints, rawInts));
+  }
+
+  @Test
+  public void hashCodeOfEqualBuffers() {
+    FloatDataBuffer a = FloatJdkDataBuffer.allocate(5L);
+    FloatDataBuffer b = FloatRawDataBuffer.allocate(6L);
+    HalfDataBuffer half = HalfJdkDataBuffer.allocateDirect(5L);
+    for (int i = 0; i < 5; ++i) {
+      a.setFloat(i, i * 0.5f);
+      b.setFloat(i + 1, i * 0.5f);
+      half.setFloat(i, i * 0.5f);
+    }
+    a.setFloat(1L, Float.NaN);
+    b.setFloat(2L, Float.intBitsToFloat(0x7fc00001));
+    half.setFloat(1L, Float.NaN);
+    b.position(1L);
+    assertTrue(DataBuffers.equals(a, b));
+    assertEquals(DataBuffers.hashCode(a), DataBuffers.hashCode(b));
+    assertEquals(DataBuffers.hashCode(a), DataBuffers.hashCode(half));
+    assertEquals(1L, b.position());
+
+    b.setFloat(5L, -0.0f);
+    a.setFloat(4L, 0.0f);
+    assertFalse(DataBuffers.equals(a, b));
+    assertNotEquals(DataBuffers.hashCode(a), DataBuffers.hashCode(b));
+  }
+
+  @Test
+  public void compareSpecialValues() {
+    FloatDataBuffer a = FloatJdkDataBuffer.allocateDirect(3L);
+    FloatDataBuffer b = FloatJdkDataBuffer.allocate(3L);
+    a.setFloat(0L, Float.NaN);
+    b.setFloat(0L, Float.NaN);
+    assertEquals(-1L, DataBuffers.mismatch(a, b));
+    assertEquals(-1L, DataBuffers.mismatch(a, a.duplicate()));
+
+    b.setFloat(2L, -0.0f);
+    assertEquals(2L, DataBuffers.mismatch(a, b));
+    assertTrue(DataBuffers.compare(b, a) < 0);
+
+    HalfDataBuffer half = HalfJdkDataBuffer.allocateDirect(3L);
+    half.setFloat(0L, Float.NaN);
+    half.setFloat(1L, 1.5f);
+    a.setFloat(1L, 1.5f);
+    assertTrue(DataBuffers.equals(a, half));
+  }
+
+  @Test
+  public void copyValidatesArguments() {
+    FloatDataBuffer src = DataBuffers.ofFloats(10L);
+    try {
+      DataBuffers.copy(src, DataBuffers.ofFloats(10L), 0);
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+    try {
+      DataBuffers.copy(src, DataBuffers.ofFloats(9L), 2);
+      fail();
+    } catch (BufferOverflowException e) {
+      // as expected
+    }
+    try {
+      DataBuffers.copy(src, src, 2);
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+    assertEquals(0L, src.position());
+  }
+
+  @Test
+  public void writeAndReadChunksWithFileChannel() throws IOException {
+    IntDataBuffer src = IntLargeDataBuffer.join(IntJdkDataBuffer.allocateDirect(3L),
+        IntJdkDataBuffer.allocateDirect(3L), IntJdkDataBuffer.allocateDirect(3L));
+    for (long i = 0; i < src.capacity(); ++i) {
+      src.setInt(i, (int) i + 1);
+    }
+    Path file = Files.createTempFile("data-buffers", ".bin");
+    try {
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+        assertEquals(8L, src.position(1L).writeTo(channel, ByteOrder.nativeOrder()));
+        assertEquals(9L, src.position());
+        assertEquals(2L, src.rewind().limit(2L).writeTo(channel, ByteOrder.BIG_ENDIAN));
+        assertEquals(10L * Integer.BYTES, channel.size());
+      }
+      IntDataBuffer mapped = DataBuffers.mapIntegers(file, MapMode.READ_ONLY, 0L, 8L);
+      for (long i = 0; i < mapped.capacity(); ++i) {
+        assertEquals(i + 2, mapped.getInt(i));
+      }
+
+      IntDataBuffer dst = IntLargeDataBuffer.join(IntJdkDataBuffer.allocateDirect(4L),
+          IntJdkDataBuffer.allocateDirect(4L), IntJdkDataBuffer.allocateDirect(4L));
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+        assertEquals(8L, dst.limit(8L).readFrom(channel, ByteOrder.nativeOrder()));
+        assertEquals(8L, dst.position());
+        assertEquals(2L, dst.limit(12L).readFrom(channel, ByteOrder.BIG_ENDIAN));
+        assertEquals(10L, dst.position());
+        assertEquals(-1L, dst.readFrom(channel, ByteOrder.BIG_ENDIAN));
+      }
+      for (long i = 0; i < 8L; ++i) {
+        assertEquals(i + 2, dst.getInt(i));
+      }
+      assertEquals(1, dst.getInt(8L));
+      assertEquals(2, dst.getInt(9L));
+      assertEquals(0, dst.getInt(10L));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void writeAndReadAsyncWithFileChannel() throws Exception {
+    long chunkCapacity = AsyncFileTransfer.PART_SIZE / Integer.BYTES * 3 / 2;
+    IntDataBuffer src = IntLargeDataBuffer.join(IntJdkDataBuffer.allocateDirect(chunkCapacity),
+        IntJdkDataBuffer.allocateDirect(chunkCapacity),
+        IntJdkDataBuffer.allocateDirect(chunkCapacity));
+    for (long i = 0; i < src.capacity(); ++i) {
+      src.setInt(i, (int) i + 1);
+    }
+    Path file = Files.createTempFile("data-buffers", ".bin");
+    try {
+      try (AsynchronousFileChannel channel =
+          AsynchronousFileChannel.open(file, StandardOpenOption.WRITE)) {
+        assertEquals(src.capacity() - 1,
+            src.position(1L).writeToAsync(channel, 0L, ByteOrder.nativeOrder()).get().longValue());
+        assertEquals(1L, src.position());
+        assertEquals((src.capacity() - 1) * Integer.BYTES, channel.size());
+      }
+      IntDataBuffer dst = IntLargeDataBuffer.join(IntJdkDataBuffer.allocate(chunkCapacity),
+          IntJdkDataBuffer.allocate(chunkCapacity));
+      try (AsynchronousFileChannel channel =
+          AsynchronousFileChannel.open(file, StandardOpenOption.READ)) {
+        assertEquals(dst.capacity() - 2,
+            dst.position(2L).readFromAsync(channel, 4L, ByteOrder.nativeOrder()).get().longValue());
+        assertEquals(2L, dst.position());
+        try {
+          IntJdkDataBuffer.allocate(src.capacity())
+              .readFromAsync(channel, 0L, ByteOrder.nativeOrder()).get();
+          fail();
+        } catch (ExecutionException e) {
+          assertEquals(EOFException.class, e.getCause().getClass());
+        }
+        try {
+          DataBuffers.wrap(new int[2], true).readFromAsync(channel, 0L, ByteOrder.nativeOrder());
+          fail();
+        } catch (ReadOnlyBufferException e) {
+          // as expected
+        }
+      }
+      assertEquals(0, dst.getInt(0L));
+      assertEquals(0, dst.getInt(1L));
+      for (long i = 2; i < dst.capacity(); ++i) {
+        assertEquals(i + 1, dst.getInt(i));
+      }
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void channelTransfersValidateArguments() throws IOException {
+    IntDataBuffer ints = DataBuffers.ofIntegers(2L);
+    try {
+      ints.readFrom(Channels.newChannel(new ByteArrayInputStream(new byte[6])),
+          ByteOrder.BIG_ENDIAN);
+      fail();
+    } catch (EOFException e) {
+      // as expected
+    }
+    try {
+      DataBuffers.wrap(new int[2], true)
+          .readFrom(Channels.newChannel(new ByteArrayInputStream(new byte[8])),
+              ByteOrder.BIG_ENDIAN);
+      fail();
+    } catch (ReadOnlyBufferException e) {
+      // as expected
+    }
+    try {
+      DataBuffers.ofStrings(2L)
+          .writeTo(Channels.newChannel(new ByteArrayOutputStream()), ByteOrder.BIG_ENDIAN);
+      fail();
+    } catch (UnsupportedOperationException e) {
+      // as expected
+    }
+  }
+
+  @Test
+  public void writeAndReadBooleans() throws Exception {
+    BooleanDataBuffer src = DataBuffers.ofBooleans(70L);
+    for (long i = 0; i < src.capacity(); ++i) {
+      src.setBoolean(i, i % 3 == 0);
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    assertEquals(69L, src.position(1L).writeTo(Channels.newChannel(out), ByteOrder.BIG_ENDIAN));
+    assertEquals(70L, src.position());
+    byte[] bytes = out.toByteArray();
+    assertEquals(69, bytes.length);
+    for (int i = 0; i < bytes.length; ++i) {
+      assertEquals((i + 1) % 3 == 0 ? 1 : 0, bytes[i]);
+    }
+
+    bytes[1] = 7;
+    BooleanDataBuffer dst = DataBuffers.ofBooleans(80L);
+    assertEquals(69L, dst.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes)),
+        ByteOrder.LITTLE_ENDIAN));
+    assertEquals(69L, dst.position());
+    assertTrue(dst.getBoolean(1L));
+    assertTrue(dst.getBoolean(2L));
+    assertFalse(dst.getBoolean(3L));
+    assertTrue(DataBuffers.equals(src.position(3L), dst.withPosition(2L).withLimit(69L)));
+
+    Path file = Files.createTempFile("data-buffers", ".bin");
+    try {
+      try (AsynchronousFileChannel channel =
+          AsynchronousFileChannel.open(file, StandardOpenOption.WRITE)) {
+        assertEquals(70L, src.rewind().writeToAsync(channel, 0L, ByteOrder.nativeOrder())
+            .get().longValue());
+        assertEquals(70L, channel.size());
+      }
+      BooleanDataBuffer asyncDst = DataBuffers.ofBooleans(70L);
+      try (AsynchronousFileChannel channel =
+          AsynchronousFileChannel.open(file, StandardOpenOption.READ)) {
+        assertEquals(70L, asyncDst.readFromAsync(channel, 0L, ByteOrder.nativeOrder())
+            .get().longValue());
+      }
+      assertTrue(DataBuffers.equals(src, asyncDst));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void allocateAligned() {
+    assertAligned(DataBuffers.ofBytes(100L, 64), 64);
+    assertAligned(DataBuffers.ofShorts(100L, 128), 128);
+    assertAligned(DataBuffers.ofIntegers(100L, 256), 256);
+    assertAligned(DataBuffers.ofLongs(100L, 4096), 4096);
+    assertAligned(DataBuffers.ofFloats(100L, DataBuffers.defaultAlignment()), 64);
+    assertAligned(DataBuffers.ofDoubles(1L, 1), 1);
+    assertAligned(DataBuffers.ofLongs(100L, AllocationMode.ALIGNED), 64);
+    DataBuffers.defaultAlignment(256);
+    try {
+      assertAligned(DataBuffers.ofShorts(100L, AllocationMode.ALIGNED), 256);
+    } finally {
+      DataBuffers.defaultAlignment(64);
+    }
+    assertAligned(FloatRawDataBuffer.allocate(100L, 1024), 1024);
+    assertAligned(
+        FloatLargeDataBuffer.join(FloatJdkDataBuffer.allocateDirect(10L, 512),
+            FloatJdkDataBuffer.allocateDirect(10L, 512)), 512);
+
+    FloatDataBuffer buffer = DataBuffers.ofFloats(100L, 64);
+    assertEquals(100L, buffer.capacity());
+    buffer.setFloat(99L, 1.0f);
+    assertEquals(1.0f, buffer.getFloat(99L), 0.0f);
+    assertEquals(0L, DataBuffers.alignment(DataBuffers.ofFloats(100L, AllocationMode.HEAP)));
+
+    try {
+      DataBuffers.ofFloats(100L, 48);
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+    try {
+      DataBuffers.defaultAlignment(0);
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+  }
+
+  @Test
+  public void alignedChunksStoreWholeBlocks() {
+    long capacity = Alignment.chunkCapacity(1000L, Float.BYTES, 64);
+    assertEquals(976L, capacity);
+    assertEquals(0L, capacity * Float.BYTES % 64);
+    assertEquals(999L, Alignment.chunkCapacity(1000L, Long.BYTES, 8));
+    assertEquals(1000L, Alignment.chunkCapacity(1000L, Byte.BYTES, 1));
+  }
+
+  private static void assertAligned(DataBuffer<?> buffer, long alignment) {
+    long actual = DataBuffers.alignment(buffer);
+    assertEquals("Buffer aligned on " + actual + " bytes", 0L, actual % alignment);
+    assertTrue(actual >= alignment);
+  }
+}
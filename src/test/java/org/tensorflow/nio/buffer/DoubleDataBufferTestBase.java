@@ -18,10 +18,21 @@ package org.tensorflow.nio.buffer;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.util.Arrays;
 
 import org.junit.Test;
+import org.tensorflow.nio.buffer.impl.view.DoubleDataBufferView;
 
 public abstract class DoubleDataBufferTestBase extends DataBufferTestBase<Double> {
 
@@ -68,4 +79,165 @@ public abstract class DoubleDataBufferTestBase extends DataBufferTestBase<Double
     assertEquals(valueOf(0L), (Double) read[3]);
     assertEquals(4L, buffer.position());
   }
+
+  @Test
+  public void writeAndReadUnboxedWithIndex() {
+    DoubleDataBuffer buffer = allocate(10L);
+
+    buffer.setDouble(5L, valueOf(5L));
+    assertEquals(0L, buffer.position());
+    assertEquals(5.0, buffer.getDouble(5L), 0.0);
+    assertEquals(valueOf(5L), buffer.get(5L));
+
+    DoubleDataBuffer slice = buffer.withPosition(4L).slice();
+    assertEquals(5.0, slice.getDouble(1L), 0.0);
+    slice.setDouble(2L, valueOf(6L));
+    assertEquals(6.0, buffer.getDouble(6L), 0.0);
+    try {
+      buffer.setDouble(10L, valueOf(10L));
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    try {
+      buffer.getDouble(10L);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    try {
+      buffer.setDouble(-1L, valueOf(-1L));
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    try {
+      buffer.getDouble(-1L);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+  }
+
+  @Test
+  public void bulkTransfersOnViews() {
+    DoubleDataBuffer buffer = allocate(20L);
+    DoubleDataBuffer view = new DoubleDataBufferView(buffer, 5L, 10L);
+    double[] values = new double[]{1.0, 2.0, 3.0, 4.0, 5.0, 6.0};
+
+    view.put(values, 0, 5);
+    assertEquals(5L, view.position());
+    assertEquals(0L, buffer.position());
+    assertEquals(1.0, buffer.getDouble(5L), 0.0);
+    assertEquals(5.0, buffer.getDouble(9L), 0.0);
+    assertEquals(0.0, buffer.getDouble(10L), 0.0);
+    try {
+      view.rewind().put(values);
+      fail();
+    } catch (BufferOverflowException e) {
+      // as expected
+    }
+    double[] read = new double[3];
+    view.position(2L).get(read);
+    assertEquals(5L, view.position());
+    assertEquals(3.0, read[0], 0.0);
+    assertEquals(5.0, read[2], 0.0);
+    try {
+      view.rewind().get(new double[6]);
+      fail();
+    } catch (BufferUnderflowException e) {
+      // as expected
+    }
+    assertEquals(0L, view.position());
+  }
+
+  @Test
+  public void fillUnboxedValues() {
+    DoubleDataBuffer buffer = allocate(40L);
+    buffer.fill(1.5);
+    assertEquals(1.5, buffer.getDouble(0L), 0.0);
+    assertEquals(1.5, buffer.getDouble(39L), 0.0);
+
+    for (long from = 0; from < 9L; ++from) {
+      buffer.fill(0.0).fill(from, 31L - from, -0.25);
+      if (from > 0) {
+        assertEquals(0.0, buffer.getDouble(from - 1), 0.0);
+      }
+      for (long i = from; i < 31L - from; ++i) {
+        assertEquals(-0.25, buffer.getDouble(i), 0.0);
+      }
+      assertEquals(0.0, buffer.getDouble(31L - from), 0.0);
+    }
+  }
+
+  @Test
+  public void streamPrimitiveValues() {
+    DoubleDataBuffer buffer = allocate(10L);
+    for (long i = 0; i < 10L; ++i) {
+      buffer.put(i, valueOf(i));
+    }
+    buffer.position(2L);
+    buffer.limit(8L);
+
+    assertEquals(6L, buffer.doubleStream().count());
+    assertEquals(27.0, 0.0, buffer.doubleStream().sum());
+    assertEquals(27.0, 0.0, buffer.doubleStream().parallel().sum());
+    assertEquals(27.0, 0.0, buffer.slice().doubleStream().parallel().sum());
+  }
+
+  @Test
+  public void writeAndReadWithChannels() throws IOException {
+    DoubleDataBuffer buffer = allocate(10L);
+    for (long i = 0; i < 10L; ++i) {
+      buffer.setDouble(i, 1.5 + i);
+    }
+    for (ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      assertEquals(8L, buffer.position(2L).writeTo(Channels.newChannel(out), order));
+      assertEquals(10L, buffer.position());
+      ByteBuffer bytes = ByteBuffer.wrap(out.toByteArray()).order(order);
+      assertEquals(8 * Double.BYTES, bytes.capacity());
+      assertEquals(3.5, bytes.getDouble(0), 0.0);
+      assertEquals(10.5, bytes.getDouble(7 * Double.BYTES), 0.0);
+
+      DoubleDataBuffer copy = allocate(10L);
+      ReadableByteChannel in = Channels.newChannel(new ByteArrayInputStream(out.toByteArray()));
+      assertEquals(8L, copy.position(1L).readFrom(in, order));
+      assertEquals(9L, copy.position());
+      assertEquals(0.0, copy.getDouble(0), 0.0);
+      assertEquals(3.5, copy.getDouble(1), 0.0);
+      assertEquals(10.5, copy.getDouble(8), 0.0);
+      assertEquals(-1L, copy.readFrom(in, order));
+    }
+  }
+
+  @Test
+  public void gatherAndScatterValues() {
+    DoubleDataBuffer buffer = allocate(4L);
+    buffer.setDouble(0L, 0.5).setDouble(1L, -1.5).setDouble(2L, Double.NaN).setDouble(3L, 2.0);
+    IntDataBuffer indices = DataBuffers.ofIntegers(3L);
+    indices.put(2).put(3).put(1).rewind();
+    DoubleDataBuffer values = allocate(3L);
+    buffer.gather(indices, values);
+    assertEquals(Double.NaN, values.getDouble(0L), 0.0);
+    assertEquals(2.0, values.getDouble(1L), 0.0);
+    assertEquals(-1.5, values.getDouble(2L), 0.0);
+
+    LongDataBuffer longIndices = DataBuffers.ofLongs(2L);
+    longIndices.put(0L).put(0L).rewind();
+    buffer.scatterAdd(longIndices, values.rewind().position(1L));
+    assertEquals(3L, values.position());
+    assertEquals(1.0, buffer.getDouble(0L), 0.0);
+
+    indices.rewind().put(3).put(2).rewind().limit(2L);
+    buffer.scatter(indices, values.rewind());
+    assertEquals(Double.NaN, buffer.getDouble(3L), 0.0);
+    assertEquals(2.0, buffer.getDouble(2L), 0.0);
+    try {
+      buffer.scatter(indices.rewind().limit(3L), values.rewind().limit(2L));
+      fail();
+    } catch (BufferUnderflowException e) {
+      // as expected
+    }
+  }
 }
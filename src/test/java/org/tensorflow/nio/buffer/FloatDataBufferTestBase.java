@@ -18,10 +18,21 @@ package org.tensorflow.nio.buffer;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.util.Arrays;
 
 import org.junit.Test;
+import org.tensorflow.nio.buffer.impl.view.FloatDataBufferView;
 
 public abstract class FloatDataBufferTestBase extends DataBufferTestBase<Float> {
 
@@ -68,4 +79,208 @@ public abstract class FloatDataBufferTestBase extends DataBufferTestBase<Float>
     assertEquals(valueOf(0L), (Float) read[3]);
     assertEquals(4L, buffer.position());
   }
+
+  @Test
+  public void writeAndReadUnboxedWithIndex() {
+    FloatDataBuffer buffer = allocate(10L);
+
+    buffer.setFloat(5L, valueOf(5L));
+    assertEquals(0L, buffer.position());
+    assertEquals(5.0f, buffer.getFloat(5L), 0.0f);
+    assertEquals(valueOf(5L), buffer.get(5L));
+
+    FloatDataBuffer slice = buffer.withPosition(4L).slice();
+    assertEquals(5.0f, slice.getFloat(1L), 0.0f);
+    slice.setFloat(2L, valueOf(6L));
+    assertEquals(6.0f, buffer.getFloat(6L), 0.0f);
+    try {
+      buffer.setFloat(10L, valueOf(10L));
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    try {
+      buffer.getFloat(10L);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    try {
+      buffer.setFloat(-1L, valueOf(-1L));
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    try {
+      buffer.getFloat(-1L);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+  }
+
+  @Test
+  public void bulkTransfersOnViews() {
+    FloatDataBuffer buffer = allocate(20L);
+    FloatDataBuffer view = new FloatDataBufferView(buffer, 5L, 10L);
+    float[] values = new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f};
+
+    view.put(values, 0, 5);
+    assertEquals(5L, view.position());
+    assertEquals(0L, buffer.position());
+    assertEquals(1.0f, buffer.getFloat(5L), 0.0f);
+    assertEquals(5.0f, buffer.getFloat(9L), 0.0f);
+    assertEquals(0.0f, buffer.getFloat(10L), 0.0f);
+    try {
+      view.rewind().put(values);
+      fail();
+    } catch (BufferOverflowException e) {
+      // as expected
+    }
+    float[] read = new float[3];
+    view.position(2L).get(read);
+    assertEquals(5L, view.position());
+    assertEquals(3.0f, read[0], 0.0f);
+    assertEquals(5.0f, read[2], 0.0f);
+    try {
+      view.rewind().get(new float[6]);
+      fail();
+    } catch (BufferUnderflowException e) {
+      // as expected
+    }
+    assertEquals(0L, view.position());
+  }
+
+  @Test
+  public void fillUnboxedValues() {
+    FloatDataBuffer buffer = allocate(40L);
+    buffer.fill(1.5f);
+    assertEquals(1.5f, buffer.getFloat(0L), 0.0f);
+    assertEquals(1.5f, buffer.getFloat(39L), 0.0f);
+
+    for (long from = 0; from < 9L; ++from) {
+      buffer.fill(0.0f).fill(from, 31L - from, -0.25f);
+      if (from > 0) {
+        assertEquals(0.0f, buffer.getFloat(from - 1), 0.0f);
+      }
+      for (long i = from; i < 31L - from; ++i) {
+        assertEquals(-0.25f, buffer.getFloat(i), 0.0f);
+      }
+      assertEquals(0.0f, buffer.getFloat(31L - from), 0.0f);
+    }
+  }
+
+  @Test
+  public void streamPrimitiveValues() {
+    FloatDataBuffer buffer = allocate(10L);
+    for (long i = 0; i < 10L; ++i) {
+      buffer.put(i, valueOf(i));
+    }
+    buffer.position(2L);
+    buffer.limit(8L);
+
+    assertEquals(6L, buffer.doubleStream().count());
+    assertEquals(27.0, 0.0, buffer.doubleStream().sum());
+    assertEquals(27.0, 0.0, buffer.doubleStream().parallel().sum());
+    assertEquals(27.0, 0.0, buffer.slice().doubleStream().parallel().sum());
+  }
+
+  @Test
+  public void writeAndReadWithChannels() throws IOException {
+    FloatDataBuffer buffer = allocate(10L);
+    for (long i = 0; i < 10L; ++i) {
+      buffer.setFloat(i, 1.5f + i);
+    }
+    for (ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      assertEquals(8L, buffer.position(2L).writeTo(Channels.newChannel(out), order));
+      assertEquals(10L, buffer.position());
+      ByteBuffer bytes = ByteBuffer.wrap(out.toByteArray()).order(order);
+      assertEquals(8 * Float.BYTES, bytes.capacity());
+      assertEquals(3.5f, bytes.getFloat(0), 0.0f);
+      assertEquals(10.5f, bytes.getFloat(7 * Float.BYTES), 0.0f);
+
+      FloatDataBuffer copy = allocate(10L);
+      ReadableByteChannel in = Channels.newChannel(new ByteArrayInputStream(out.toByteArray()));
+      assertEquals(8L, copy.position(1L).readFrom(in, order));
+      assertEquals(9L, copy.position());
+      assertEquals(0.0f, copy.getFloat(0), 0.0f);
+      assertEquals(3.5f, copy.getFloat(1), 0.0f);
+      assertEquals(10.5f, copy.getFloat(8), 0.0f);
+      assertEquals(-1L, copy.readFrom(in, order));
+    }
+  }
+
+  @Test
+  public void gatherAndScatterStridedValues() {
+    FloatDataBuffer buffer = allocate(12L);
+    for (int i = 0; i < 12; ++i) {
+      buffer.setFloat(i, i);
+    }
+    FloatDataBuffer channel = buffer.strided(2L, 3L, 4L);
+    float[] values = new float[4];
+    channel.get(values);
+    assertArrayEquals(new float[] {2, 5, 8, 11}, values, 0.0f);
+    assertEquals(4L, channel.position());
+
+    channel.rewind().put(new float[] {-1, -2, -3, -4}, 1, 3);
+    assertEquals(-2f, buffer.getFloat(2L), 0.0f);
+    assertEquals(-3f, buffer.getFloat(5L), 0.0f);
+    assertEquals(-4f, buffer.getFloat(8L), 0.0f);
+    assertEquals(11f, buffer.getFloat(11L), 0.0f);
+    assertEquals(3f, buffer.getFloat(3L), 0.0f);
+
+    channel.fill(0L, 4L, 7);
+    assertEquals(7f, buffer.getFloat(11L), 0.0f);
+    assertEquals(4f, buffer.getFloat(4L), 0.0f);
+  }
+
+  @Test
+  public void gatherAndScatterValues() {
+    FloatDataBuffer buffer = allocate(10L);
+    for (int i = 0; i < 10; ++i) {
+      buffer.setFloat(i, i * 10);
+    }
+    FloatDataBuffer values = allocate(4L);
+    LongDataBuffer longIndices = DataBuffers.ofLongs(4L);
+    longIndices.put(3L).put(0L).put(9L).put(3L).rewind();
+    buffer.gather(longIndices, values);
+    assertEquals(4L, longIndices.position());
+    assertEquals(4L, values.position());
+    assertEquals(30.0f, values.getFloat(0L), 0.0f);
+    assertEquals(0.0f, values.getFloat(1L), 0.0f);
+    assertEquals(90.0f, values.getFloat(2L), 0.0f);
+    assertEquals(30.0f, values.getFloat(3L), 0.0f);
+
+    IntDataBuffer intIndices = DataBuffers.ofIntegers(2L);
+    intIndices.put(1).put(5).rewind();
+    buffer.scatter(intIndices, values.rewind());
+    assertEquals(2L, values.position());
+    assertEquals(30.0f, buffer.getFloat(1L), 0.0f);
+    assertEquals(0.0f, buffer.getFloat(5L), 0.0f);
+
+    longIndices.rewind().limit(3L).put(2, 4L);
+    buffer.scatterAdd(longIndices, values.rewind());
+    assertEquals(3L, longIndices.position());
+    assertEquals(60.0f, buffer.getFloat(3L), 0.0f);
+    assertEquals(0.0f, buffer.getFloat(0L), 0.0f);
+    assertEquals(130.0f, buffer.getFloat(4L), 0.0f);
+
+    values.rewind().setFloat(0L, -1.0f);
+    intIndices.rewind().put(1, 10);
+    try {
+      buffer.scatter(intIndices, values);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    assertEquals(30.0f, buffer.getFloat(1L), 0.0f);
+    assertEquals(0L, intIndices.position());
+    try {
+      buffer.gather(longIndices.rewind().limit(4L), allocate(3L));
+      fail();
+    } catch (BufferOverflowException e) {
+      // as expected
+    }
+  }
 }
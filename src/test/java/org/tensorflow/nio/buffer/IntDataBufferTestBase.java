@@ -18,10 +18,21 @@ package org.tensorflow.nio.buffer;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.util.Arrays;
 
 import org.junit.Test;
+import org.tensorflow.nio.buffer.impl.view.IntDataBufferView;
 
 public abstract class IntDataBufferTestBase extends DataBufferTestBase<Integer> {
 
@@ -67,4 +78,182 @@ public abstract class IntDataBufferTestBase extends DataBufferTestBase<Integer>
     assertEquals(valueOf(0L), (Integer) read[3]);
     assertEquals(4L, buffer.position());
   }
+
+  @Test
+  public void writeAndReadUnboxedWithIndex() {
+    IntDataBuffer buffer = allocate(10L);
+
+    buffer.setInt(5L, valueOf(5L));
+    assertEquals(0L, buffer.position());
+    assertEquals(5, buffer.getInt(5L));
+    assertEquals(valueOf(5L), buffer.get(5L));
+
+    IntDataBuffer slice = buffer.withPosition(4L).slice();
+    assertEquals(5, slice.getInt(1L));
+    slice.setInt(2L, valueOf(6L));
+    assertEquals(6, buffer.getInt(6L));
+    try {
+      buffer.setInt(10L, valueOf(10L));
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    try {
+      buffer.getInt(10L);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    try {
+      buffer.setInt(-1L, valueOf(-1L));
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    try {
+      buffer.getInt(-1L);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+  }
+
+  @Test
+  public void bulkTransfersOnViews() {
+    IntDataBuffer buffer = allocate(20L);
+    IntDataBuffer view = new IntDataBufferView(buffer, 5L, 10L);
+    int[] values = new int[]{1, 2, 3, 4, 5, 6};
+
+    view.put(values, 0, 5);
+    assertEquals(5L, view.position());
+    assertEquals(0L, buffer.position());
+    assertEquals(1, buffer.getInt(5L));
+    assertEquals(5, buffer.getInt(9L));
+    assertEquals(0, buffer.getInt(10L));
+    try {
+      view.rewind().put(values);
+      fail();
+    } catch (BufferOverflowException e) {
+      // as expected
+    }
+    int[] read = new int[3];
+    view.position(2L).get(read);
+    assertEquals(5L, view.position());
+    assertEquals(3, read[0]);
+    assertEquals(5, read[2]);
+    try {
+      view.rewind().get(new int[6]);
+      fail();
+    } catch (BufferUnderflowException e) {
+      // as expected
+    }
+    assertEquals(0L, view.position());
+  }
+
+  @Test
+  public void fillUnboxedValues() {
+    IntDataBuffer buffer = allocate(40L);
+    buffer.fill(0x01020304);
+    assertEquals(0x01020304, buffer.getInt(0L));
+    assertEquals(0x01020304, buffer.getInt(39L));
+
+    for (long from = 0; from < 9L; ++from) {
+      buffer.fill(0).fill(from, 31L - from, 0x7F7E7D7C);
+      if (from > 0) {
+        assertEquals(0, buffer.getInt(from - 1));
+      }
+      for (long i = from; i < 31L - from; ++i) {
+        assertEquals(0x7F7E7D7C, buffer.getInt(i));
+      }
+      assertEquals(0, buffer.getInt(31L - from));
+    }
+  }
+
+  @Test
+  public void streamPrimitiveValues() {
+    IntDataBuffer buffer = allocate(10L);
+    for (long i = 0; i < 10L; ++i) {
+      buffer.put(i, valueOf(i));
+    }
+    buffer.position(2L);
+    buffer.limit(8L);
+
+    assertEquals(6L, buffer.intStream().count());
+    assertEquals(27, buffer.intStream().sum());
+    assertEquals(27, buffer.intStream().parallel().sum());
+    assertEquals(27, buffer.slice().intStream().parallel().sum());
+  }
+
+  @Test
+  public void writeAndReadWithChannels() throws IOException {
+    IntDataBuffer buffer = allocate(10L);
+    for (long i = 0; i < 10L; ++i) {
+      buffer.setInt(i, 0x01020300 + (int) i);
+    }
+    for (ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      assertEquals(8L, buffer.position(2L).writeTo(Channels.newChannel(out), order));
+      assertEquals(10L, buffer.position());
+      ByteBuffer bytes = ByteBuffer.wrap(out.toByteArray()).order(order);
+      assertEquals(8 * Integer.BYTES, bytes.capacity());
+      assertEquals(0x01020302, bytes.getInt(0));
+      assertEquals(0x01020309, bytes.getInt(7 * Integer.BYTES));
+
+      IntDataBuffer copy = allocate(10L);
+      ReadableByteChannel in = Channels.newChannel(new ByteArrayInputStream(out.toByteArray()));
+      assertEquals(8L, copy.position(1L).readFrom(in, order));
+      assertEquals(9L, copy.position());
+      assertEquals(0, copy.getInt(0));
+      assertEquals(0x01020302, copy.getInt(1));
+      assertEquals(0x01020309, copy.getInt(8));
+      assertEquals(-1L, copy.readFrom(in, order));
+    }
+  }
+
+  @Test
+  public void gatherAndScatterStridedValues() {
+    IntDataBuffer buffer = allocate(12L);
+    for (int i = 0; i < 12; ++i) {
+      buffer.setInt(i, i);
+    }
+    IntDataBuffer channel = buffer.strided(2L, 3L, 4L);
+    int[] values = new int[4];
+    channel.get(values);
+    assertArrayEquals(new int[] {2, 5, 8, 11}, values);
+    assertEquals(4L, channel.position());
+
+    channel.rewind().put(new int[] {-1, -2, -3, -4}, 1, 3);
+    assertEquals(-2, buffer.getInt(2L));
+    assertEquals(-3, buffer.getInt(5L));
+    assertEquals(-4, buffer.getInt(8L));
+    assertEquals(11, buffer.getInt(11L));
+    assertEquals(3, buffer.getInt(3L));
+
+    channel.fill(0L, 4L, 7);
+    assertEquals(7, buffer.getInt(11L));
+    assertEquals(4, buffer.getInt(4L));
+  }
+
+  @Test
+  public void gatherAndScatterValues() {
+    IntDataBuffer buffer = allocate(6L);
+    for (int i = 0; i < 6; ++i) {
+      buffer.setInt(i, i + 1);
+    }
+    IntDataBuffer indices = DataBuffers.ofIntegers(3L);
+    indices.put(5).put(5).put(0).rewind();
+    IntDataBuffer values = allocate(3L);
+    buffer.gather(indices, values);
+    assertEquals(6, values.getInt(0L));
+    assertEquals(6, values.getInt(1L));
+    assertEquals(1, values.getInt(2L));
+
+    buffer.scatterAdd(indices.rewind(), values.rewind());
+    assertEquals(18, buffer.getInt(5L));
+    assertEquals(2, buffer.getInt(0L));
+
+    buffer.scatter(indices.rewind(), values.rewind());
+    assertEquals(6, buffer.getInt(5L));
+    assertEquals(1, buffer.getInt(0L));
+  }
 }
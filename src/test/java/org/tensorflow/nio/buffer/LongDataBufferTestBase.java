@@ -18,10 +18,21 @@ package org.tensorflow.nio.buffer;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.util.Arrays;
 
 import org.junit.Test;
+import org.tensorflow.nio.buffer.impl.view.LongDataBufferView;
 
 public abstract class LongDataBufferTestBase extends DataBufferTestBase<Long> {
 
@@ -67,4 +78,168 @@ public abstract class LongDataBufferTestBase extends DataBufferTestBase<Long> {
     assertEquals(valueOf(0L), (Long) read[3]);
     assertEquals(4L, buffer.position());
   }
+
+  @Test
+  public void writeAndReadUnboxedWithIndex() {
+    LongDataBuffer buffer = allocate(10L);
+
+    buffer.setLong(5L, valueOf(5L));
+    assertEquals(0L, buffer.position());
+    assertEquals(5L, buffer.getLong(5L));
+    assertEquals(valueOf(5L), buffer.get(5L));
+
+    LongDataBuffer slice = buffer.withPosition(4L).slice();
+    assertEquals(5L, slice.getLong(1L));
+    slice.setLong(2L, valueOf(6L));
+    assertEquals(6L, buffer.getLong(6L));
+    try {
+      buffer.setLong(10L, valueOf(10L));
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    try {
+      buffer.getLong(10L);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    try {
+      buffer.setLong(-1L, valueOf(-1L));
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    try {
+      buffer.getLong(-1L);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+  }
+
+  @Test
+  public void bulkTransfersOnViews() {
+    LongDataBuffer buffer = allocate(20L);
+    LongDataBuffer view = new LongDataBufferView(buffer, 5L, 10L);
+    long[] values = new long[]{1, 2, 3, 4, 5, 6};
+
+    view.put(values, 0, 5);
+    assertEquals(5L, view.position());
+    assertEquals(0L, buffer.position());
+    assertEquals(1, buffer.getLong(5L));
+    assertEquals(5, buffer.getLong(9L));
+    assertEquals(0, buffer.getLong(10L));
+    try {
+      view.rewind().put(values);
+      fail();
+    } catch (BufferOverflowException e) {
+      // as expected
+    }
+    long[] read = new long[3];
+    view.position(2L).get(read);
+    assertEquals(5L, view.position());
+    assertEquals(3, read[0]);
+    assertEquals(5, read[2]);
+    try {
+      view.rewind().get(new long[6]);
+      fail();
+    } catch (BufferUnderflowException e) {
+      // as expected
+    }
+    assertEquals(0L, view.position());
+  }
+
+  @Test
+  public void fillUnboxedValues() {
+    LongDataBuffer buffer = allocate(40L);
+    buffer.fill(0x0102030405060708L);
+    assertEquals(0x0102030405060708L, buffer.getLong(0L));
+    assertEquals(0x0102030405060708L, buffer.getLong(39L));
+
+    for (long from = 0; from < 9L; ++from) {
+      buffer.fill(0L).fill(from, 31L - from, -2L);
+      if (from > 0) {
+        assertEquals(0L, buffer.getLong(from - 1));
+      }
+      for (long i = from; i < 31L - from; ++i) {
+        assertEquals(-2L, buffer.getLong(i));
+      }
+      assertEquals(0L, buffer.getLong(31L - from));
+    }
+  }
+
+  @Test
+  public void streamPrimitiveValues() {
+    LongDataBuffer buffer = allocate(10L);
+    for (long i = 0; i < 10L; ++i) {
+      buffer.put(i, valueOf(i));
+    }
+    buffer.position(2L);
+    buffer.limit(8L);
+
+    assertEquals(6L, buffer.longStream().count());
+    assertEquals(27L, buffer.longStream().sum());
+    assertEquals(27L, buffer.longStream().parallel().sum());
+    assertEquals(27L, buffer.slice().longStream().parallel().sum());
+  }
+
+  @Test
+  public void writeAndReadWithChannels() throws IOException {
+    LongDataBuffer buffer = allocate(10L);
+    for (long i = 0; i < 10L; ++i) {
+      buffer.setLong(i, 0x0102030405060700L + i);
+    }
+    for (ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      assertEquals(8L, buffer.position(2L).writeTo(Channels.newChannel(out), order));
+      assertEquals(10L, buffer.position());
+      ByteBuffer bytes = ByteBuffer.wrap(out.toByteArray()).order(order);
+      assertEquals(8 * Long.BYTES, bytes.capacity());
+      assertEquals(0x0102030405060702L, bytes.getLong(0));
+      assertEquals(0x0102030405060709L, bytes.getLong(7 * Long.BYTES));
+
+      LongDataBuffer copy = allocate(10L);
+      ReadableByteChannel in = Channels.newChannel(new ByteArrayInputStream(out.toByteArray()));
+      assertEquals(8L, copy.position(1L).readFrom(in, order));
+      assertEquals(9L, copy.position());
+      assertEquals(0L, copy.getLong(0));
+      assertEquals(0x0102030405060702L, copy.getLong(1));
+      assertEquals(0x0102030405060709L, copy.getLong(8));
+      assertEquals(-1L, copy.readFrom(in, order));
+    }
+  }
+
+  @Test
+  public void gatherAndScatterValues() {
+    LongDataBuffer buffer = allocate(6L);
+    for (int i = 0; i < 6; ++i) {
+      buffer.setLong(i, 1L << (10 * i));
+    }
+    LongDataBuffer indices = DataBuffers.ofLongs(4L);
+    indices.put(5L).put(3L).put(0L).put(5L).rewind();
+    LongDataBuffer values = allocate(5L);
+    buffer.gather(indices, values.position(1L));
+    assertEquals(5L, values.position());
+    assertEquals(0L, values.getLong(0L));
+    assertEquals(1L << 50, values.getLong(1L));
+    assertEquals(1L << 30, values.getLong(2L));
+    assertEquals(1L, values.getLong(3L));
+
+    buffer.scatterAdd(indices.rewind(), values.rewind().position(1L));
+    assertEquals(3L << 50, buffer.getLong(5L));
+    assertEquals(1L << 31, buffer.getLong(3L));
+    assertEquals(2L, buffer.getLong(0L));
+
+    IntDataBuffer intIndices = DataBuffers.ofIntegers(1L);
+    intIndices.put(-1).rewind();
+    try {
+      buffer.gather(intIndices, values.rewind());
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    assertEquals(0L, values.position());
+    assertEquals(0L, values.getLong(0L));
+  }
 }
@@ -0,0 +1,169 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.nio.BufferUnderflowException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.tensorflow.nio.nd.FloatNdArray;
+import org.tensorflow.nio.nd.NdArrays;
+import org.tensorflow.nio.nd.Shape;
+
+public class RingBufferTest {
+
+  @Test
+  public void putAndDrainAroundTheEnd() {
+    FloatRingBuffer ring = FloatRingBuffer.singleProducer(5, AllocationMode.HEAP);
+    assertEquals(5, ring.capacity());
+    assertEquals(3, ring.put(new float[] { 1.0f, 2.0f, 3.0f }));
+
+    float[] values = new float[2];
+    assertEquals(2, ring.drainTo(values, 0, 2));
+    assertArrayEquals(new float[] { 1.0f, 2.0f }, values, 0.0f);
+
+    assertEquals(4, ring.put(new float[] { 4.0f, 5.0f, 6.0f, 7.0f, 8.0f }));
+    assertEquals(5, ring.size());
+    assertEquals(0, ring.remainingCapacity());
+    assertEquals(0, ring.put(new float[] { 9.0f }));
+
+    FloatDataBuffer dst = DataBuffers.ofFloats(10);
+    assertEquals(5, ring.drainTo(dst));
+    assertEquals(5, dst.position());
+    for (int i = 0; i < 5; ++i) {
+      assertEquals(i + 3.0f, dst.getFloat(i), 0.0f);
+    }
+    assertEquals(0, ring.size());
+    assertEquals(0, ring.drainTo(dst));
+  }
+
+  @Test
+  public void putFromBuffer() {
+    IntRingBuffer ring = IntRingBuffer.singleProducer(4, AllocationMode.DIRECT);
+    ring.put(new int[] { 0, 0, 0 });
+    ring.drainTo(new int[3], 0, 3);
+
+    IntDataBuffer src = DataBuffers.wrap(new int[] { 1, 2, 3, 4, 5 }, true);
+    src.position(1);
+    assertEquals(4, ring.put(src));
+    assertEquals(5, src.position());
+
+    int[] values = new int[4];
+    assertEquals(4, ring.drainTo(values, 0, 4));
+    assertArrayEquals(new int[] { 2, 3, 4, 5 }, values);
+  }
+
+  @Test
+  public void latestValues() {
+    FloatRingBuffer ring = FloatRingBuffer.singleProducer(6, AllocationMode.HEAP);
+    ring.put(new float[] { 1.0f, 2.0f, 3.0f, 4.0f });
+
+    FloatDataBuffer latest = ring.latest(2);
+    assertEquals(2, latest.capacity());
+    assertEquals(3.0f, latest.getFloat(0), 0.0f);
+    latest.setFloat(0, 30.0f);
+    assertEquals(30.0f, ring.latest(2).getFloat(0), 0.0f);
+
+    ring.drainTo(new float[4], 0, 4);
+    ring.put(new float[] { 5.0f, 6.0f, 7.0f, 8.0f });
+    latest = ring.latest(3);
+    assertEquals(6.0f, latest.getFloat(0), 0.0f);
+    assertEquals(7.0f, latest.getFloat(1), 0.0f);
+    assertEquals(8.0f, latest.getFloat(2), 0.0f);
+
+    try {
+      ring.latest(5);
+      fail();
+    } catch (BufferUnderflowException e) {
+      // as expected
+    }
+  }
+
+  @Test
+  public void windowOfLatestRecords() {
+    FloatRingBuffer ring = FloatRingBuffer.singleProducer(8, AllocationMode.HEAP);
+    ring.put(new float[] { 1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f });
+
+    FloatNdArray window = NdArrays.window(ring, 2, Shape.create(2));
+    assertEquals(Shape.create(2, 2), window.shape());
+    assertEquals(Float.valueOf(3.0f), window.get(0, 0));
+    assertEquals(Float.valueOf(6.0f), window.get(1, 1));
+  }
+
+  @Test
+  public void multipleProducers() throws Exception {
+    LongRingBuffer ring = LongRingBuffer.multiProducer(64, AllocationMode.HEAP);
+    int numProducers = 4;
+    int numBatches = 1000;
+    ExecutorService executor = Executors.newFixedThreadPool(numProducers);
+    try {
+      Future<?>[] producers = new Future<?>[numProducers];
+      for (int p = 0; p < numProducers; ++p) {
+        long producer = p;
+        producers[p] = executor.submit(() -> {
+          for (long batch = 0; batch < numBatches; ++batch) {
+            long[] values = { producer, batch, producer + batch };
+            int offset = 0;
+            while (offset < values.length) {
+              offset += ring.put(values, offset, values.length - offset);
+            }
+          }
+        });
+      }
+      long[] values = new long[3 * numProducers * numBatches];
+      int consumed = 0;
+      while (consumed < values.length) {
+        consumed += ring.drainTo(values, consumed, values.length - consumed);
+      }
+      for (Future<?> producer : producers) {
+        producer.get();
+      }
+      long total = 0;
+      for (long value : values) {
+        total += value;
+      }
+      long batchSum = (long) numBatches * (numBatches - 1) / 2;
+      long producerSum = (long) numProducers * (numProducers - 1) / 2;
+      assertEquals(2 * (numProducers * batchSum + numBatches * producerSum), total);
+      assertEquals(0, ring.size());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void invalidArguments() {
+    try {
+      FloatRingBuffer.singleProducer(0);
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+    try {
+      FloatRingBuffer.singleProducer(4).put(new float[2], 1, 2);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+  }
+}
@@ -0,0 +1,278 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.tensorflow.nio.buffer.impl.view.ShortDataBufferView;
+
+public abstract class ShortDataBufferTestBase extends DataBufferTestBase<Short> {
+
+  @Override
+  protected abstract ShortDataBuffer allocate(long capacity);
+
+  @Override
+  protected Short valueOf(Long val) {
+    return val.shortValue();
+  }
+
+  @Test
+  public void writeAndReadFromArray() {
+    ShortDataBuffer buffer = allocate(10L);
+    short[] oneToFive =
+        new short[]{valueOf(1L), valueOf(2L), valueOf(3L), valueOf(4L), valueOf(5L)};
+
+    buffer.put(oneToFive);
+    assertEquals(valueOf(2L), buffer.get(1));
+    assertEquals(5L, buffer.position());
+
+    buffer.put(oneToFive);
+    assertEquals(valueOf(2L), buffer.get(6));
+    assertEquals(10L, buffer.position());
+
+    buffer.rewind();
+    short[] read = new short[5];
+    buffer.get(read);
+    assertArrayEquals(oneToFive, read);
+    assertEquals(5L, buffer.position());
+
+    buffer.rewind();
+    buffer.put(oneToFive, 2, 2);
+    assertEquals(valueOf(3L), buffer.get(0));
+    assertEquals(valueOf(4L), buffer.get(1));
+    assertEquals(valueOf(3L), buffer.get(2));
+    assertEquals(2L, buffer.position());
+
+    Arrays.fill(read, valueOf(0L));
+    buffer.get(read, 1, 2);
+    assertEquals(valueOf(0L), (Short) read[0]);
+    assertEquals(valueOf(3L), (Short) read[1]);
+    assertEquals(valueOf(4L), (Short) read[2]);
+    assertEquals(valueOf(0L), (Short) read[3]);
+    assertEquals(4L, buffer.position());
+  }
+
+  @Test
+  public void writeAndReadUnboxedWithIndex() {
+    ShortDataBuffer buffer = allocate(10L);
+
+    buffer.setShort(5L, valueOf(5L));
+    assertEquals(0L, buffer.position());
+    assertEquals(5, buffer.getShort(5L));
+    assertEquals(valueOf(5L), buffer.get(5L));
+
+    ShortDataBuffer slice = buffer.withPosition(4L).slice();
+    assertEquals(5, slice.getShort(1L));
+    slice.setShort(2L, valueOf(6L));
+    assertEquals(6, buffer.getShort(6L));
+    try {
+      buffer.setShort(10L, valueOf(10L));
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    try {
+      buffer.getShort(10L);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    try {
+      buffer.setShort(-1L, valueOf(-1L));
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+    try {
+      buffer.getShort(-1L);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // as expected
+    }
+  }
+
+  @Test
+  public void readAndWriteAsUnsigned() {
+    ShortDataBuffer buffer = allocate(10L);
+    buffer.put(new short[] { 0, 1, 0x7FFF, (short) 0x8000, (short) 0xFFFF, 0, 0, 0, 0, 0 });
+    buffer.position(1L);
+
+    IntDataBuffer unsigned = buffer.asUnsigned();
+    assertEquals(9L, unsigned.capacity());
+    assertEquals(0L, unsigned.position());
+    assertEquals(1L, buffer.position());
+    assertEquals(1, unsigned.getInt(0));
+    assertEquals(32767, unsigned.getInt(1));
+    assertEquals(32768, unsigned.getInt(2));
+    assertEquals(65535, unsigned.getInt(3));
+
+    unsigned.setInt(4L, 50000);
+    assertEquals((short) 50000, buffer.getShort(5L));
+    assertEquals(50000, unsigned.getInt(4L));
+    unsigned.setInt(5L, 0x10007);
+    assertEquals(7, buffer.getShort(6L));
+
+    int[] values = new int[6];
+    unsigned.get(values, 1, 5);
+    assertArrayEquals(new int[] { 0, 1, 32767, 32768, 65535, 50000 }, values);
+    assertEquals(5L, unsigned.position());
+
+    unsigned.put(new int[] { 60000, 60001 });
+    assertEquals((short) 60000, buffer.getShort(6L));
+    assertEquals((short) 60001, buffer.getShort(7L));
+    assertEquals(1 + 32767 + 32768 + 65535 + 50000 + 60000 + 60001,
+        unsigned.rewind().intStream().sum());
+    try {
+      unsigned.position(7L).put(new int[3]);
+      fail();
+    } catch (BufferOverflowException e) {
+      // as expected
+    }
+  }
+
+  @Test
+  public void bulkTransfersOnViews() {
+    ShortDataBuffer buffer = allocate(20L);
+    ShortDataBuffer view = new ShortDataBufferView(buffer, 5L, 10L);
+    short[] values = new short[]{1, 2, 3, 4, 5, 6};
+
+    view.put(values, 0, 5);
+    assertEquals(5L, view.position());
+    assertEquals(0L, buffer.position());
+    assertEquals(1, buffer.getShort(5L));
+    assertEquals(5, buffer.getShort(9L));
+    assertEquals(0, buffer.getShort(10L));
+    try {
+      view.rewind().put(values);
+      fail();
+    } catch (BufferOverflowException e) {
+      // as expected
+    }
+    short[] read = new short[3];
+    view.position(2L).get(read);
+    assertEquals(5L, view.position());
+    assertEquals(3, read[0]);
+    assertEquals(5, read[2]);
+    try {
+      view.rewind().get(new short[6]);
+      fail();
+    } catch (BufferUnderflowException e) {
+      // as expected
+    }
+    assertEquals(0L, view.position());
+  }
+
+  @Test
+  public void fillUnboxedValues() {
+    ShortDataBuffer buffer = allocate(40L);
+    buffer.fill((short) 0x0102);
+    assertEquals(0x0102, buffer.getShort(0L));
+    assertEquals(0x0102, buffer.getShort(39L));
+
+    for (long from = 0; from < 9L; ++from) {
+      buffer.fill((short) 0).fill(from, 31L - from, (short) 0x7F7E);
+      if (from > 0) {
+        assertEquals(0, buffer.getShort(from - 1));
+      }
+      for (long i = from; i < 31L - from; ++i) {
+        assertEquals(0x7F7E, buffer.getShort(i));
+      }
+      assertEquals(0, buffer.getShort(31L - from));
+    }
+  }
+
+  @Test
+  public void streamPrimitiveValues() {
+    ShortDataBuffer buffer = allocate(10L);
+    for (long i = 0; i < 10L; ++i) {
+      buffer.put(i, valueOf(i));
+    }
+    buffer.position(2L);
+    buffer.limit(8L);
+
+    assertEquals(6L, buffer.intStream().count());
+    assertEquals(27, buffer.intStream().sum());
+    assertEquals(27, buffer.intStream().parallel().sum());
+    assertEquals(27, buffer.slice().intStream().parallel().sum());
+  }
+
+  @Test
+  public void writeAndReadWithChannels() throws IOException {
+    ShortDataBuffer buffer = allocate(10L);
+    for (long i = 0; i < 10L; ++i) {
+      buffer.setShort(i, (short) (0x0100 + i));
+    }
+    for (ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      assertEquals(8L, buffer.position(2L).writeTo(Channels.newChannel(out), order));
+      assertEquals(10L, buffer.position());
+      ByteBuffer bytes = ByteBuffer.wrap(out.toByteArray()).order(order);
+      assertEquals(8 * Short.BYTES, bytes.capacity());
+      assertEquals((short) 0x0102, bytes.getShort(0));
+      assertEquals((short) 0x0109, bytes.getShort(7 * Short.BYTES));
+
+      ShortDataBuffer copy = allocate(10L);
+      ReadableByteChannel in = Channels.newChannel(new ByteArrayInputStream(out.toByteArray()));
+      assertEquals(8L, copy.position(1L).readFrom(in, order));
+      assertEquals(9L, copy.position());
+      assertEquals(0, copy.getShort(0));
+      assertEquals((short) 0x0102, copy.getShort(1));
+      assertEquals((short) 0x0109, copy.getShort(8));
+      assertEquals(-1L, copy.readFrom(in, order));
+    }
+  }
+
+  @Test
+  public void gatherAndScatterValues() {
+    ShortDataBuffer buffer = allocate(5L);
+    for (int i = 0; i < 5; ++i) {
+      buffer.setShort(i, (short) (1000 * i));
+    }
+    LongDataBuffer indices = DataBuffers.ofLongs(3L);
+    indices.put(4L).put(2L).put(4L).rewind();
+    ShortDataBuffer values = allocate(3L);
+    buffer.gather(indices, values);
+    assertEquals(4000, values.getShort(0L));
+    assertEquals(2000, values.getShort(1L));
+    assertEquals(4000, values.getShort(2L));
+
+    IntDataBuffer intIndices = DataBuffers.ofIntegers(3L);
+    intIndices.put(0).put(1).put(0).rewind();
+    buffer.scatter(intIndices, values.rewind());
+    assertEquals(3L, intIndices.position());
+    assertEquals(4000, buffer.getShort(0L));
+    assertEquals(2000, buffer.getShort(1L));
+
+    buffer.scatterAdd(indices.rewind(), values.rewind());
+    assertEquals((short) 12000, buffer.getShort(4L));
+    assertEquals(4000, buffer.getShort(2L));
+  }
+}
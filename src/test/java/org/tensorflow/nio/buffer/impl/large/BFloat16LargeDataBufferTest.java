@@ -0,0 +1,33 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.large;
+
+import org.tensorflow.nio.buffer.BFloat16DataBuffer;
+import org.tensorflow.nio.buffer.BFloat16DataBufferTestBase;
+
+public class BFloat16LargeDataBufferTest extends BFloat16DataBufferTestBase {
+
+  @Override
+  protected long maxCapacity() {
+    return BFloat16LargeDataBuffer.MAX_CAPACITY;
+  }
+
+  @Override
+  protected BFloat16DataBuffer allocate(long capacity) {
+    return BFloat16LargeDataBuffer.allocate(capacity);
+  }
+}
@@ -16,8 +16,17 @@
  */
 package org.tensorflow.nio.buffer.impl.large;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteOrder;
+
+import org.junit.Test;
 import org.tensorflow.nio.buffer.ByteDataBuffer;
 import org.tensorflow.nio.buffer.ByteDataBufferTestBase;
+import org.tensorflow.nio.buffer.IntDataBuffer;
+import org.tensorflow.nio.buffer.ShortDataBuffer;
+import org.tensorflow.nio.buffer.impl.single.ByteJdkDataBuffer;
 
 public class ByteLargeDataBufferTest extends ByteDataBufferTestBase {
 
@@ -30,4 +39,52 @@ public class ByteLargeDataBufferTest extends ByteDataBufferTestBase {
   protected ByteDataBuffer allocate(long capacity) {
     return ByteLargeDataBuffer.allocate(capacity);
   }
+
+  @Test
+  public void reinterpretAlignedBuffers() {
+    ByteDataBuffer buffer = ByteLargeDataBuffer.join(ByteJdkDataBuffer.allocate(8),
+        ByteJdkDataBuffer.allocate(8), ByteJdkDataBuffer.allocate(4));
+    IntDataBuffer ints = buffer.asInts(ByteOrder.BIG_ENDIAN);
+    assertTrue(ints instanceof IntLargeDataBuffer);
+    assertEquals(5L, ints.capacity());
+
+    ints.setInt(1L, 0x01020304);
+    ints.setInt(4L, 0x05060708);
+    assertEquals(0x04, buffer.getByte(7L));
+    assertEquals(0x08, buffer.getByte(19L));
+  }
+
+  @Test
+  public void reinterpretUnalignedBuffers() {
+    ByteDataBuffer buffer = ByteLargeDataBuffer.join(ByteJdkDataBuffer.allocate(6),
+        ByteJdkDataBuffer.allocate(6), ByteJdkDataBuffer.allocate(4));
+    IntDataBuffer ints = buffer.asInts(ByteOrder.LITTLE_ENDIAN);
+    assertEquals(4L, ints.capacity());
+
+    ints.setInt(1L, 0x01020304);
+    assertEquals(0x04, buffer.getByte(4L));
+    assertEquals(0x03, buffer.getByte(5L));
+    assertEquals(0x02, buffer.getByte(6L));
+    assertEquals(0x01, buffer.getByte(7L));
+    assertEquals(0x01020304, ints.getInt(1L));
+
+    ShortDataBuffer shorts = buffer.asShorts(ByteOrder.LITTLE_ENDIAN);
+    assertTrue(shorts instanceof ShortLargeDataBuffer);
+    assertEquals(8L, shorts.capacity());
+    assertEquals(0x0102, shorts.getShort(3L));
+  }
+
+  @Test
+  public void fillBuffersInParallel() {
+    long bufferCapacity = AbstractLargeDataBuffer.PARALLEL_FILL_THRESHOLD / 2 + 1;
+    ByteDataBuffer buffer = ByteLargeDataBuffer.join(ByteJdkDataBuffer.allocate(bufferCapacity),
+        ByteJdkDataBuffer.allocate(bufferCapacity), ByteJdkDataBuffer.allocate(bufferCapacity));
+    buffer.fill(1L, buffer.limit() - 1L, (byte) 7);
+    assertEquals(0, buffer.getByte(0L));
+    assertEquals(7, buffer.getByte(1L));
+    assertEquals(7, buffer.getByte(bufferCapacity));
+    assertEquals(7, buffer.getByte(buffer.limit() - 2L));
+    assertEquals(0, buffer.getByte(buffer.limit() - 1L));
+    assertEquals(buffer.limit() - 2L, buffer.intStream().filter(b -> b == 7).count());
+  }
 }
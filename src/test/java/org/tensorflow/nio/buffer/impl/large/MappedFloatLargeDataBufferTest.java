@@ -0,0 +1,59 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.large;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+
+import org.tensorflow.nio.buffer.FloatDataBuffer;
+import org.tensorflow.nio.buffer.FloatDataBufferTestBase;
+import org.tensorflow.nio.buffer.impl.single.FloatJdkDataBuffer;
+
+public class MappedFloatLargeDataBufferTest extends FloatDataBufferTestBase {
+
+  private static final long BUFFER_MAX_CAPACITY = 4L;
+
+  @Override
+  protected long maxCapacity() {
+    return BUFFER_MAX_CAPACITY * 50; // pick any value here
+  }
+
+  @Override
+  protected FloatDataBuffer allocate(long capacity) {
+    if (capacity > maxCapacity()) {
+      throw new IllegalArgumentException(); // makes the base test succeed, since we are tricking the real max capacity here
+    }
+    try {
+      File file = File.createTempFile("mapped", ".bin");
+      file.deleteOnExit();
+      try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ,
+          StandardOpenOption.WRITE)) {
+        FloatDataBuffer[] buffers = FloatLargeDataBuffer
+            .mapBuffers(FloatDataBuffer.class, capacity, BUFFER_MAX_CAPACITY,
+                (offset, length) -> FloatJdkDataBuffer
+                    .map(channel, MapMode.READ_WRITE, offset * Float.BYTES, length));
+        return FloatLargeDataBuffer.join(buffers);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -16,6 +16,9 @@
  */
 package org.tensorflow.nio.buffer.impl.large;
 
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
 import org.tensorflow.nio.buffer.ByteDataBuffer;
 import org.tensorflow.nio.buffer.ByteDataBufferTestBase;
 import org.tensorflow.nio.buffer.impl.single.ByteJdkDataBuffer;
@@ -39,4 +42,24 @@ public class OddCapacityJoinedLargeDataBufferTest extends ByteDataBufferTestBase
             ByteJdkDataBuffer::allocate);
     return ByteLargeDataBuffer.join(buffers);
   }
+
+  @Test
+  public void cursorsDoNotAffectSubBuffers() {
+    ByteDataBuffer[] buffers = ByteLargeDataBuffer
+        .allocateBuffers(ByteDataBuffer.class, 10L, BUFFER_MAX_CAPACITY,
+            ByteJdkDataBuffer::allocate);
+    ByteDataBuffer buffer = ByteLargeDataBuffer.join(buffers);
+    buffer.position(7L).limit(8L);
+    buffer.slice().put((byte) 1);
+    buffer.duplicate().rewind().put((byte) 2);
+
+    for (ByteDataBuffer b : buffers) {
+      assertEquals(0L, b.position());
+      assertEquals(b.capacity(), b.limit());
+    }
+    assertEquals(7L, buffer.position());
+    assertEquals(8L, buffer.limit());
+    assertEquals(2, buffers[0].getByte(0L));
+    assertEquals(1, buffers[2].getByte(1L));
+  }
 }
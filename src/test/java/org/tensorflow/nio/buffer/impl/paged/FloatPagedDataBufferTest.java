@@ -0,0 +1,57 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.paged;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Before;
+import org.tensorflow.nio.buffer.FloatDataBuffer;
+import org.tensorflow.nio.buffer.FloatDataBufferTestBase;
+
+public class FloatPagedDataBufferTest extends FloatDataBufferTestBase {
+
+  @Before
+  public void openCache() throws IOException {
+    file = Files.createTempFile("paged", ".bin");
+    cache = PageCache.open(file, 64, 256L);
+  }
+
+  @After
+  public void closeCache() throws IOException {
+    cache.close();
+    Files.delete(file);
+  }
+
+  @Override
+  protected long maxCapacity() {
+    return FloatPagedDataBuffer.MAX_CAPACITY;
+  }
+
+  @Override
+  protected FloatDataBuffer allocate(long capacity) {
+    FloatDataBuffer buffer = FloatPagedDataBuffer.map(cache, nextPosition, capacity);
+    nextPosition += capacity * Float.BYTES;
+    return buffer;
+  }
+
+  private Path file;
+  private PageCache cache;
+  private long nextPosition = 0L;
+}
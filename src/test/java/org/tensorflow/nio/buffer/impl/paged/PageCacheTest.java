@@ -0,0 +1,116 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.paged;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Test;
+import org.tensorflow.nio.buffer.DataBuffers;
+import org.tensorflow.nio.buffer.IntDataBuffer;
+import org.tensorflow.nio.nd.IntNdArray;
+import org.tensorflow.nio.nd.NdArrays;
+import org.tensorflow.nio.nd.Shape;
+
+public class PageCacheTest {
+
+  @Test
+  public void evictLeastRecentlyUsedPages() throws IOException {
+    Path file = Files.createTempFile("paged", ".bin");
+    try {
+      try (PageCache cache = PageCache.open(file, 16, 32L)) {
+        IntDataBuffer buffer = IntPagedDataBuffer.map(cache, 0L, 16L);
+        buffer.setInt(0L, 1);
+        buffer.setInt(1L, 2);
+        buffer.setInt(4L, 3);
+        assertEquals(1L, cache.hits());
+        assertEquals(2L, cache.misses());
+        assertEquals(0L, cache.evictions());
+        assertEquals(32L, cache.residentBytes());
+
+        buffer.setInt(8L, 4);
+        assertEquals(3L, cache.misses());
+        assertEquals(1L, cache.evictions());
+        assertEquals(32L, cache.residentBytes());
+        assertEquals(16L, Files.size(file));
+
+        assertEquals(1, buffer.getInt(0L));
+        assertEquals(2, buffer.getInt(1L));
+        assertEquals(2L, cache.hits());
+        assertEquals(4L, cache.misses());
+        assertEquals(2L, cache.evictions());
+      }
+      assertEquals(64L, Files.size(file));
+      IntDataBuffer mapped = DataBuffers.mapIntegers(file, MapMode.READ_ONLY, 0L, 16L);
+      assertEquals(1, mapped.getInt(0L));
+      assertEquals(2, mapped.getInt(1L));
+      assertEquals(0, mapped.getInt(2L));
+      assertEquals(3, mapped.getInt(4L));
+      assertEquals(4, mapped.getInt(8L));
+      assertEquals(0, mapped.getInt(15L));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void copyBetweenBuffersSharingPages() throws IOException {
+    Path file = Files.createTempFile("paged", ".bin");
+    try (PageCache cache = PageCache.open(file, 16, 16L)) {
+      IntDataBuffer src = IntPagedDataBuffer.map(cache, 0L, 8L);
+      src.put(new int[]{1, 2, 3, 4, 5, 6, 7, 8});
+      IntDataBuffer dst = IntPagedDataBuffer.map(cache, 40L, 8L);
+      dst.put(src.rewind());
+      assertEquals(8L, src.position());
+      assertEquals(8L, dst.position());
+
+      IntNdArray matrix = NdArrays.wrap(dst, Shape.create(2, 4));
+      assertEquals(Integer.valueOf(1), matrix.get(0, 0));
+      assertEquals(Integer.valueOf(5), matrix.get(1, 0));
+      assertEquals(Integer.valueOf(8), matrix.get(1, 3));
+      assertEquals(16L, cache.residentBytes());
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void validateArguments() throws IOException {
+    Path file = Files.createTempFile("paged", ".bin");
+    try (PageCache cache = PageCache.open(file, 16, 16L)) {
+      try {
+        IntPagedDataBuffer.map(cache, 2L, 8L);
+        fail();
+      } catch (IllegalArgumentException e) {
+        // as expected
+      }
+      try {
+        PageCache.open(file, 12, 16L);
+        fail();
+      } catch (IllegalArgumentException e) {
+        // as expected
+      }
+    } finally {
+      Files.delete(file);
+    }
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.raw;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+import org.tensorflow.nio.buffer.DataBuffers;
+import org.tensorflow.nio.buffer.IntDataBuffer;
+import org.tensorflow.nio.buffer.IntDataBufferTestBase;
+
+public class IntRawDataBufferTest extends IntDataBufferTestBase {
+
+  @Override
+  protected long maxCapacity() {
+    return IntRawDataBuffer.MAX_CAPACITY;
+  }
+
+  @Override
+  protected IntDataBuffer allocate(long capacity) {
+    return IntRawDataBuffer.allocate(capacity);
+  }
+
+  @Test
+  public void closeReleasesMemory() {
+    IntRawDataBuffer buffer = (IntRawDataBuffer) allocate(10L);
+    buffer.setInt(5L, 42);
+    IntDataBuffer slice = buffer.withPosition(5L).slice();
+    IntDataBuffer duplicate = slice.duplicate();
+
+    DataBuffers.release(buffer);
+    DataBuffers.release(buffer);
+    assertEquals(42, slice.getInt(0L));
+    assertEquals(42, duplicate.getInt(0L));
+    try {
+      buffer.getInt(5L);
+      fail();
+    } catch (IllegalStateException e) {
+      // as expected
+    }
+
+    DataBuffers.release(slice);
+    assertEquals(42, duplicate.getInt(0L));
+    try {
+      slice.getInt(0L);
+      fail();
+    } catch (IllegalStateException e) {
+      // as expected
+    }
+    try {
+      slice.duplicate();
+      fail();
+    } catch (IllegalStateException e) {
+      // as expected
+    }
+    DataBuffers.release(duplicate);
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.single;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+
+import org.tensorflow.nio.buffer.FloatDataBuffer;
+import org.tensorflow.nio.buffer.FloatDataBufferTestBase;
+
+public class MappedFloatJdkDataBufferTest extends FloatDataBufferTestBase {
+
+  @Override
+  protected long maxCapacity() {
+    return FloatJdkDataBuffer.MAX_DIRECT_CAPACITY;
+  }
+
+  @Override
+  protected FloatDataBuffer allocate(long capacity) {
+    try {
+      File file = File.createTempFile("mapped", ".bin");
+      file.deleteOnExit();
+      try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ,
+          StandardOpenOption.WRITE)) {
+        return FloatJdkDataBuffer.map(channel, MapMode.READ_WRITE, 0, capacity);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
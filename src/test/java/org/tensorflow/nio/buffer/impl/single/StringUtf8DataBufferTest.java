@@ -0,0 +1,200 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.buffer.impl.single;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+import org.tensorflow.nio.buffer.ByteDataBuffer;
+import org.tensorflow.nio.buffer.DataBufferTestBase;
+import org.tensorflow.nio.buffer.DataBuffers;
+import org.tensorflow.nio.buffer.StringDataBuffer;
+
+public class StringUtf8DataBufferTest extends DataBufferTestBase<String> {
+
+  @Override
+  protected long maxCapacity() {
+    return StringUtf8DataBuffer.MAX_CAPACITY;
+  }
+
+  @Override
+  protected StringDataBuffer allocate(long capacity) {
+    return StringUtf8DataBuffer.allocate(capacity);
+  }
+
+  @Override
+  protected String valueOf(Long val) {
+    return val.toString();
+  }
+
+  @Test
+  public void writeAndReadFromArray() {
+    StringDataBuffer buffer = allocate(10L);
+    String[] values = new String[] { "a", "", "ñandú", "日本語", "😀" };
+
+    buffer.put(values).position(2);
+    assertEquals("", buffer.get(1));
+    assertEquals("日本語", buffer.get(3));
+    assertEquals(4L, buffer.getBytes(4).capacity());
+
+    String[] read = new String[5];
+    buffer.rewind().get(read);
+    assertArrayEquals(values, read);
+    assertEquals(5L, buffer.position());
+
+    buffer.put(values, 2, 3);
+    assertEquals("ñandú", buffer.get(5));
+    assertEquals("😀", buffer.get(7));
+    assertEquals("", buffer.get(8));
+  }
+
+  @Test
+  public void writeAndReadBytes() {
+    StringDataBuffer buffer = allocate(5L);
+    buffer.put(1, "été");
+
+    ByteDataBuffer bytes = buffer.getBytes(1);
+    byte[] encoded = "été".getBytes(StandardCharsets.UTF_8);
+    assertEquals(encoded.length, bytes.capacity());
+    for (int i = 0; i < encoded.length; ++i) {
+      assertEquals(encoded[i], bytes.getByte(i));
+    }
+    assertEquals(0L, buffer.getBytes(0).capacity());
+
+    buffer.setBytes(3, bytes);
+    assertEquals("été", buffer.get(3));
+    buffer.setBytes(4, DataBuffers.wrap("abc".getBytes(StandardCharsets.UTF_8), true).position(1));
+    assertEquals("bc", buffer.get(4));
+  }
+
+  @Test
+  public void growStorage() {
+    StringDataBuffer buffer = allocate(1000L);
+    for (long i = 0; i < buffer.capacity(); ++i) {
+      buffer.put(i, "value" + i);
+    }
+    for (long i = 0; i < buffer.capacity(); ++i) {
+      assertEquals("value" + i, buffer.get(i));
+    }
+    buffer.put(10, "a much longer value than before");
+    assertEquals("a much longer value than before", buffer.get(10));
+    assertEquals("value11", buffer.get(11));
+  }
+
+  @Test
+  public void fillSharesBytes() {
+    StringDataBuffer buffer = allocate(1000L);
+    buffer.fill("repeated");
+    assertEquals("repeated", buffer.get(0));
+    assertEquals("repeated", buffer.get(999));
+    assertEquals("repeated".length(), ((StringUtf8DataBuffer) buffer).byteSize());
+
+    buffer.put(500, "other");
+    assertEquals("other", buffer.get(500));
+    assertEquals("repeated", buffer.get(499));
+    assertEquals("repeated", buffer.get(501));
+  }
+
+  @Test
+  public void copyBetweenStringBuffers() {
+    StringDataBuffer src = allocate(10L);
+    src.put(new String[] { "zero", "one", "two", "three" }).rewind();
+    StringDataBuffer dst = allocate(10L);
+
+    dst.position(2).put(src.withLimit(4).slice());
+    assertEquals(6L, dst.position());
+    assertEquals("zero", dst.get(2));
+    assertEquals("three", dst.get(5));
+
+    StringDataBuffer view = dst.withPosition(4).slice();
+    assertTrue(view.getBytes(1).capacity() == 5L);
+    String[] read = new String[3];
+    view.get(read);
+    assertArrayEquals(new String[] { "two", "three", "" }, read);
+  }
+
+  @Test
+  public void bytesAreReadOnlySnapshots() {
+    StringDataBuffer buffer = allocate(10L);
+    buffer.fill("shared");
+
+    ByteDataBuffer bytes = buffer.getBytes(0);
+    assertTrue(bytes.isReadOnly());
+    try {
+      bytes.setByte(0, (byte) 'X');
+      fail();
+    } catch (ReadOnlyBufferException e) {
+      // as expected
+    }
+    assertEquals("shared", buffer.get(1));
+
+    buffer.put(0, "a value long enough to grow the storage of this buffer");
+    assertEquals((byte) 's', bytes.getByte(0));
+    assertEquals((byte) 'd', bytes.getByte(5));
+  }
+
+  @Test
+  public void compactOverwrittenValues() {
+    StringDataBuffer buffer = allocate(1000L);
+    for (int i = 0; i < 100_000; ++i) {
+      buffer.put(i % 1000, "value" + i);
+    }
+    long liveSize = 0;
+    for (int i = 99_000; i < 100_000; ++i) {
+      assertEquals("value" + i, buffer.get(i % 1000));
+      liveSize += ("value" + i).length();
+    }
+    assertTrue(((StringUtf8DataBuffer) buffer).byteSize() <= 3 * liveSize);
+
+    buffer.fill("repeated");
+    for (int i = 0; i < 10_000; ++i) {
+      buffer.put(500, "other" + i);
+    }
+    assertEquals("repeated", buffer.get(0));
+    assertEquals("other9999", buffer.get(500));
+    assertEquals("repeated", buffer.get(999));
+    assertTrue(((StringUtf8DataBuffer) buffer).byteSize() <= 64);
+  }
+
+  @Test
+  public void writeAndReadNulls() {
+    StringDataBuffer buffer = allocate(5L);
+    buffer.put(new String[] { "a", null, "c" });
+    assertEquals("a", buffer.get(0));
+    assertNull(buffer.get(1));
+    assertNull(buffer.getBytes(1));
+    assertEquals("c", buffer.get(2));
+
+    buffer.put(3, null).fill(4, 5, null);
+    assertNull(buffer.get(3));
+    assertNull(buffer.get(4));
+
+    StringDataBuffer copy = allocate(5L);
+    copy.put(buffer.rewind());
+    assertNull(copy.get(1));
+    assertEquals("c", copy.get(2));
+    copy.setBytes(2, null);
+    assertNull(copy.get(2));
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.nd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+public abstract class BooleanNdArrayTestBase extends NdArrayTestBase<Boolean> {
+
+  @Override
+  protected abstract BooleanNdArray allocate(Shape shape);
+
+  @Override
+  protected Boolean valueOf(Long val) {
+    return val % 2 == 1;
+  }
+
+  @Test
+  public void writeAndReadWithPrimitiveArrays() {
+    boolean[] values = new boolean[16];
+    for (int i = 0; i < values.length; ++i) {
+      values[i] = i % 3 == 0;
+    }
+
+    BooleanNdArray matrix = allocate(Shape.create(3, 4));
+    matrix.write(values);
+    assertEquals(true, matrix.get(0, 0));
+    assertEquals(true, matrix.get(0, 3));
+    assertEquals(false, matrix.get(1, 0));
+    assertEquals(false, matrix.get(2, 3));
+
+    matrix.write(values, 4);
+    assertEquals(false, matrix.get(0, 0));
+    assertEquals(false, matrix.get(0, 3));
+    assertEquals(false, matrix.get(1, 0));
+    assertEquals(true, matrix.get(2, 3));
+
+    matrix.set(true, 1, 0);
+    matrix.read(values, 2);
+    assertEquals(false, values[2]);
+    assertEquals(false, values[5]);
+    assertEquals(true, values[6]);
+    assertEquals(true, values[13]);
+    assertEquals(true, values[15]);
+
+    matrix.read(values);
+    assertEquals(false, values[0]);
+    assertEquals(false, values[3]);
+    assertEquals(true, values[4]);
+    assertEquals(true, values[11]);
+    assertEquals(true, values[13]);
+    assertEquals(true, values[15]);
+
+    try {
+      matrix.write(new boolean[4]);
+      fail();
+    } catch (BufferUnderflowException e) {
+      // as expected
+    }
+    try {
+      matrix.write(values, values.length);
+      fail();
+    } catch (BufferUnderflowException e) {
+      // as expected
+    }
+    try {
+      matrix.write(values, -1);
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+    try {
+      matrix.write(values, values.length + 1);
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+    try {
+      matrix.read(new boolean[4]);
+      fail();
+    } catch (BufferOverflowException e) {
+      // as expected
+    }
+    try {
+      matrix.read(values, values.length);
+      fail();
+    } catch (BufferOverflowException e) {
+      // as expected
+    }
+    try {
+      matrix.read(values, -1);
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+    try {
+      matrix.read(values, values.length + 1);
+      fail();
+    } catch (IllegalArgumentException e) {
+      // as expected
+    }
+  }
+
+  @Test
+  public void storeAndLoadAsync() throws Exception {
+    BooleanNdArray matrix = allocate(Shape.create(3, 4));
+    for (long i = 0; i < 3; ++i) {
+      for (long j = 0; j < 4; ++j) {
+        matrix.set((i + j) % 3 == 0, i, j);
+      }
+    }
+    Path file = Files.createTempFile("ndarray", ".bin");
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      assertSame(matrix, matrix.storeAsync(file, executor).get());
+      assertEquals(12L, Files.size(file));
+
+      NdArray<Boolean> loaded =
+          NdArrays.loadAsync(file, Shape.create(3, 4), Boolean.class, executor).get();
+      assertEquals(true, loaded.get(0, 0));
+      assertEquals(false, loaded.get(1, 0));
+      assertEquals(true, loaded.get(1, 2));
+      assertEquals(true, loaded.get(2, 1));
+
+      try {
+        NdArrays.loadAsync(file, Shape.create(3, 4), String.class, executor);
+        fail();
+      } catch (IllegalArgumentException e) {
+        // as expected
+      }
+    } finally {
+      executor.shutdown();
+      Files.delete(file);
+    }
+  }
+}
@@ -17,10 +17,18 @@
 package org.tensorflow.nio.nd;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
+import static org.tensorflow.nio.StaticApi.*;
 
+import java.io.EOFException;
 import java.nio.BufferOverflowException;
 import java.nio.BufferUnderflowException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.Test;
 
@@ -117,4 +125,51 @@ public abstract class FloatNdArrayTestBase extends NdArrayTestBase<Float> {
       // as expected
     }
   }
+
+  @Test
+  public void storeAndLoadAsync() throws Exception {
+    FloatNdArray matrix = allocate(Shape.create(3, 4));
+    for (long i = 0; i < 3; ++i) {
+      for (long j = 0; j < 4; ++j) {
+        matrix.set(i * 4 + j + 0.5f, i, j);
+      }
+    }
+    Path file = Files.createTempFile("ndarray", ".bin");
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      assertSame(matrix, matrix.storeAsync(file, executor).get());
+      assertEquals(12L * Float.BYTES, Files.size(file));
+
+      NdArray<Float> loaded =
+          NdArrays.loadAsync(file, Shape.create(3, 4), Float.class, executor).get();
+      assertEquals(Float.valueOf(0.5f), loaded.get(0, 0));
+      assertEquals(Float.valueOf(6.5f), loaded.get(1, 2));
+      assertEquals(Float.valueOf(11.5f), loaded.get(2, 3));
+
+      FloatNdArray column = allocate(Shape.create(3, 2));
+      NdArrays.loadAsync(file, column.slice(all(), odd()), executor).get();
+      assertEquals(Float.valueOf(0.0f), column.get(0, 0));
+      assertEquals(Float.valueOf(0.5f), column.get(0, 1));
+      assertEquals(Float.valueOf(1.5f), column.get(1, 1));
+      assertEquals(Float.valueOf(2.5f), column.get(2, 1));
+
+      matrix.slice(all(), odd()).storeAsync(file, executor).get();
+      assertEquals(6L * Float.BYTES, Files.size(file));
+      FloatNdArray vector = NdArrays.loadAsync(file, allocate(Shape.create(6)), executor).get();
+      assertEquals(Float.valueOf(1.5f), vector.get(0));
+      assertEquals(Float.valueOf(3.5f), vector.get(1));
+      assertEquals(Float.valueOf(5.5f), vector.get(2));
+      assertEquals(Float.valueOf(11.5f), vector.get(5));
+
+      try {
+        NdArrays.loadAsync(file, allocate(Shape.create(7)), executor).get();
+        fail();
+      } catch (ExecutionException e) {
+        assertEquals(EOFException.class, e.getCause().getClass());
+      }
+    } finally {
+      executor.shutdown();
+      Files.delete(file);
+    }
+  }
 }
@@ -246,6 +246,39 @@ public abstract class NdArrayTestBase<T> {
     assertEquals(valueOf(14L), buffer.get(14));
   }
 
+  @Test
+  public void writeAndReadSegmentedSlicesWithBuffers() {
+    NdArray<T> matrix = allocate(shape(3, 5));
+    for (long i = 0; i < 3; ++i) {
+      for (long j = 0; j < 5; ++j) {
+        matrix.set(valueOf(i * 5 + j), i, j);
+      }
+    }
+    DataBuffer<T> buffer = allocateBuffer(9L);
+    matrix.slice(all(), even()).read(buffer);
+    assertEquals(valueOf(0L), buffer.get(0));
+    assertEquals(valueOf(2L), buffer.get(1));
+    assertEquals(valueOf(4L), buffer.get(2));
+    assertEquals(valueOf(5L), buffer.get(3));
+    assertEquals(valueOf(14L), buffer.get(8));
+
+    matrix.slice(at(0), flip()).read(buffer.rewind().limit(5L));
+    assertEquals(valueOf(4L), buffer.get(0));
+    assertEquals(valueOf(0L), buffer.get(4));
+
+    buffer.limit(9L);
+    for (long i = 0; i < 9L; ++i) {
+      buffer.put(i, valueOf(100L + i));
+    }
+    matrix.slice(all(), odd()).write(buffer.rewind().limit(6L));
+    assertEquals(valueOf(0L), matrix.get(0, 0));
+    assertEquals(valueOf(100L), matrix.get(0, 1));
+    assertEquals(valueOf(101L), matrix.get(0, 3));
+    assertEquals(valueOf(102L), matrix.get(1, 1));
+    assertEquals(valueOf(105L), matrix.get(2, 3));
+    assertEquals(valueOf(14L), matrix.get(2, 4));
+  }
+
   @Test
   public void ndArrayCopies() {
     NdArray<T> matrixA = allocate(shape(3, 5));
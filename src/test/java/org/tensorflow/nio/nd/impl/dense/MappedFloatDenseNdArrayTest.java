@@ -0,0 +1,68 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.nio.nd.impl.dense;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel.MapMode;
+
+import org.junit.Test;
+import org.tensorflow.nio.buffer.DataBuffer;
+import org.tensorflow.nio.buffer.DataBuffers;
+import org.tensorflow.nio.nd.FloatNdArray;
+import org.tensorflow.nio.nd.FloatNdArrayTestBase;
+import org.tensorflow.nio.nd.NdArrays;
+import org.tensorflow.nio.nd.Shape;
+
+public class MappedFloatDenseNdArrayTest extends FloatNdArrayTestBase {
+
+  @Test
+  public void valuesArePersistedInFile() throws IOException {
+    File file = createTempFile();
+    FloatNdArray matrix = NdArrays.mapFloats(file.toPath(), MapMode.READ_WRITE, Shape.create(3, 4));
+    matrix.set(10.0f, 1, 2);
+    matrix.set(20.0f, 2, 3);
+
+    FloatNdArray copy = NdArrays.mapFloats(file.toPath(), MapMode.READ_ONLY, Shape.create(3, 4));
+    assertEquals(10.0f, copy.get(1, 2), 0.0f);
+    assertEquals(20.0f, copy.get(2, 3), 0.0f);
+    assertEquals(3 * 4 * Float.BYTES, file.length());
+  }
+
+  @Override
+  protected FloatNdArray allocate(Shape shape) {
+    try {
+      return NdArrays.mapFloats(createTempFile().toPath(), MapMode.READ_WRITE, shape);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  protected DataBuffer<Float> allocateBuffer(long capacity) {
+    return DataBuffers.ofFloats(capacity);
+  }
+
+  private static File createTempFile() throws IOException {
+    File file = File.createTempFile("mapped", ".bin");
+    file.deleteOnExit();
+    return file;
+  }
+}